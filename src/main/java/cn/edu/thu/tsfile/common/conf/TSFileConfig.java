@@ -40,6 +40,58 @@ public class TSFileConfig {
      * 8*1024
      */
     public int pageSize = 1024 * 1024;
+    /**
+     * whether to flush sealed row groups in a background thread, so that writing is not blocked by
+     * I/O. default value is false
+     */
+    public boolean asyncFlush = false;
+    /**
+     * in async flush mode, the max number of sealed row groups which are waiting for or in flushing.
+     * Writing is blocked if it's reached. default value is 1
+     */
+    public int maxFlushingRowGroupNum = 1;
+    /**
+     * whether to seal the last pages of all series in parallel when flushing a row group. The
+     * output file is the same as sealing serially. default value is false
+     */
+    public boolean parallelSealPage = false;
+    /**
+     * thread number for sealing pages in parallel, 0 means using the common fork-join pool.
+     * default value is 0
+     */
+    public int sealPageThreadNum = 0;
+    /**
+     * buffer size of {@code FileChannelOutputStream}, it's rounded up to a multiple of 4096.
+     * default value is 1024*1024
+     */
+    public int writeBufferSize = 1024 * 1024;
+    /**
+     * force policy of {@code FileChannelOutputStream}, one of NONE, ON_CLOSE and ON_FLUSH.
+     * default value is NONE
+     */
+    public String forcePolicy = "NONE";
+    /**
+     * the number of points a point may arrive later than in a series. Points of a series are
+     * staged, sorted and deduplicated before encoding so that pages stay in time order. A point
+     * arriving later than it is rejected by {@code WriteProcessException}. 0 means points are
+     * written in order and nothing is staged. default value is 0
+     */
+    public int outOfOrderWindow = 0;
+    /**
+     * capacity of record queue of each partition in {@code PartitionedTsFileWriter}. default
+     * value is 1024
+     */
+    public int partitionQueueSize = 1024;
+    /**
+     * a partition of {@code PartitionedTsFileWriter} rolls to a new file when its file reaches
+     * this size in byte. 0 means never. default value is 0
+     */
+    public long partitionRollSize = 0;
+    /**
+     * a partition of {@code PartitionedTsFileWriter} rolls to a new file when its file has been
+     * written for this time in millisecond. 0 means never. default value is 0
+     */
+    public long partitionRollInterval = 0;
     /**
      * compress type, default value is UNCOMPRESSED
      */
@@ -65,6 +117,16 @@ public class TSFileConfig {
      * the default value series value is RLE
      */
     public String defaultSeriesEncoder = "RLE";
+    /**
+     * number of points sampled at the start of each row group to choose the encoding of a series
+     * in AUTO encoding, default value is 1024
+     */
+    public int autoEncodingSampleSize = 1024;
+    /**
+     * max byte size of the dictionary of a series chunk in PLAIN_DICTIONARY encoding. Values are
+     * encoded in PLAIN in the rest of the chunk once it's exceeded. default value is 64*1024
+     */
+    public int maxDictionarySize = 64 * 1024;
     /**
      * the default width of RLE encoding is 8
      */
@@ -67,8 +67,20 @@ public class TSFileDescriptor {
 		    
 		    conf.rowGroupSize = Integer.parseInt(properties.getProperty("rowGroupSize", conf.rowGroupSize+""));
 		    conf.pageSize = Integer.parseInt(properties.getProperty("pageSize",conf.pageSize+""));
+		    conf.asyncFlush = Boolean.parseBoolean(properties.getProperty("asyncFlush", conf.asyncFlush+""));
+		    conf.maxFlushingRowGroupNum = Integer.parseInt(properties.getProperty("maxFlushingRowGroupNum", conf.maxFlushingRowGroupNum+""));
+		    conf.parallelSealPage = Boolean.parseBoolean(properties.getProperty("parallelSealPage", conf.parallelSealPage+""));
+		    conf.sealPageThreadNum = Integer.parseInt(properties.getProperty("sealPageThreadNum", conf.sealPageThreadNum+""));
+		    conf.writeBufferSize = Integer.parseInt(properties.getProperty("writeBufferSize", conf.writeBufferSize+""));
+		    conf.forcePolicy = properties.getProperty("forcePolicy", conf.forcePolicy);
+		    conf.outOfOrderWindow = Integer.parseInt(properties.getProperty("outOfOrderWindow", conf.outOfOrderWindow+""));
+		    conf.partitionQueueSize = Integer.parseInt(properties.getProperty("partitionQueueSize", conf.partitionQueueSize+""));
+		    conf.partitionRollSize = Long.parseLong(properties.getProperty("partitionRollSize", conf.partitionRollSize+""));
+		    conf.partitionRollInterval = Long.parseLong(properties.getProperty("partitionRollInterval", conf.partitionRollInterval+""));
 		    conf.timeSeriesEncoder = properties.getProperty("timeSeriesEncoder", conf.timeSeriesEncoder);
 		    conf.defaultSeriesEncoder = properties.getProperty("defaultSeriesEncoder", conf.defaultSeriesEncoder);
+		    conf.autoEncodingSampleSize = Integer.parseInt(properties.getProperty("autoEncodingSampleSize", conf.autoEncodingSampleSize+""));
+		    conf.maxDictionarySize = Integer.parseInt(properties.getProperty("maxDictionarySize", conf.maxDictionarySize+""));
 		    conf.compressName = properties.getProperty("compressName", conf.compressName);
 		    conf.defaultRleBitWidth = Integer.parseInt(properties.getProperty("defaultRleBitWidth", conf.defaultRleBitWidth+""));
 		    conf.defaultEndian = properties.getProperty("defaultEndian", conf.defaultEndian);
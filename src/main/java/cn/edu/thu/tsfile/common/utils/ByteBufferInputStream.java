@@ -0,0 +1,104 @@
+package cn.edu.thu.tsfile.common.utils;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * ByteBufferInputStream reads bytes from a {@code ByteBuffer}, which may be a heap buffer or a
+ * direct buffer mapped from a file. Unlike {@code ByteArrayInputStream}, a part of the stream can
+ * be cut out by {@code slice(int)} without copying, and readers aware of this class can read
+ * values from {@code getBuffer()} directly instead of copying bytes into an array first.<br>
+ * The byte order of the buffer is not defined, a reader reading multi-byte values from the
+ * buffer sets the order it needs at first.
+ *
+ * @author kangrong
+ *
+ */
+public class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+    private int mark;
+
+    /**
+     * @param buffer - bytes between position and limit of the buffer are read. The buffer itself
+     *        is not modified
+     */
+    public ByteBufferInputStream(ByteBuffer buffer) {
+        this.buffer = buffer.slice();
+        this.mark = 0;
+    }
+
+    public ByteBufferInputStream(byte[] buf) {
+        this(ByteBuffer.wrap(buf));
+    }
+
+    /**
+     * return the buffer of this stream, whose position is the next byte to read. A reader may
+     * advance the position of the buffer to skip bytes it has read.
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * cut out the next {@code length} bytes as a new stream sharing content with this stream, and
+     * skip them in this stream.
+     *
+     * @param length - number of bytes in the new stream
+     * @return - a stream of the next length bytes
+     */
+    public ByteBufferInputStream slice(int length) {
+        if (length > buffer.remaining()) {
+            throw new IndexOutOfBoundsException(
+                    String.format("slice %d bytes, but %d bytes are left", length, buffer.remaining()));
+        }
+        ByteBuffer sliced = buffer.duplicate();
+        sliced.limit(sliced.position() + length);
+        buffer.position(buffer.position() + length);
+        return new ByteBufferInputStream(sliced);
+    }
+
+    @Override
+    public int read() {
+        if (!buffer.hasRemaining())
+            return -1;
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0)
+            return 0;
+        if (!buffer.hasRemaining())
+            return -1;
+        len = Math.min(len, buffer.remaining());
+        buffer.get(b, off, len);
+        return len;
+    }
+
+    @Override
+    public long skip(long n) {
+        int size = (int) Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + size);
+        return size;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        mark = buffer.position();
+    }
+
+    @Override
+    public synchronized void reset() {
+        buffer.position(mark);
+    }
+}
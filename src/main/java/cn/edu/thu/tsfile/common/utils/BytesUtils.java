@@ -3,6 +3,8 @@ package cn.edu.thu.tsfile.common.utils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -747,6 +749,9 @@ public class BytesUtils {
 	 * @throws IOException
 	 */
 	public static double readDouble(InputStream in) throws IOException {
+		ByteBuffer buffer = getBigEndianBuffer(in, 8);
+		if (buffer != null)
+			return buffer.getDouble();
 		byte[] b = safeReadInputStreamToBytes(8, in);
 		return BytesUtils.bytesToDouble(b);
 	}
@@ -759,6 +764,9 @@ public class BytesUtils {
 	 * @throws IOException
 	 */
 	public static float readFloat(InputStream in) throws IOException {
+		ByteBuffer buffer = getBigEndianBuffer(in, 4);
+		if (buffer != null)
+			return buffer.getFloat();
 		byte[] b = safeReadInputStreamToBytes(4, in);
 		return BytesUtils.bytesToFloat(b);
 	}
@@ -783,6 +791,9 @@ public class BytesUtils {
 	 * @throws IOException
 	 */
 	public static int readInt(InputStream in) throws IOException {
+		ByteBuffer buffer = getBigEndianBuffer(in, 4);
+		if (buffer != null)
+			return buffer.getInt();
 		byte[] b = safeReadInputStreamToBytes(4, in);
 		return BytesUtils.bytesToInt(b);
 	}
@@ -795,10 +806,31 @@ public class BytesUtils {
 	 * @throws IOException
 	 */
 	public static long readLong(InputStream in) throws IOException {
+		ByteBuffer buffer = getBigEndianBuffer(in, 8);
+		if (buffer != null)
+			return buffer.getLong();
 		byte[] b = safeReadInputStreamToBytes(8, in);
 		return BytesUtils.bytesToLong(b);
 	}
 
+	/**
+	 * return the buffer of given InputStream in big endian, if it's a
+	 * {@code ByteBufferInputStream} and has at least count bytes left, so
+	 * that a value is read from the buffer without copying.
+	 * 
+	 * @param in
+	 * @param count
+	 * @return buffer or null
+	 */
+	private static ByteBuffer getBigEndianBuffer(InputStream in, int count) {
+		if (!(in instanceof ByteBufferInputStream))
+			return null;
+		ByteBuffer buffer = ((ByteBufferInputStream) in).getBuffer();
+		if (buffer.remaining() < count)
+			return null;
+		return buffer.order(ByteOrder.BIG_ENDIAN);
+	}
+
 	/**
 	 * read bytes specified length from InputStream safely.
 	 * 
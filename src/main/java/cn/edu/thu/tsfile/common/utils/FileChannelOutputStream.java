@@ -0,0 +1,221 @@
+package cn.edu.thu.tsfile.common.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+
+/**
+ * FileChannelOutputStream implements the tsfile file writer interface on a {@code FileChannel}.<br>
+ * Compared with {@linkplain RandomAccessOutputStream RandomAccessOutputStream}, it keeps the
+ * current position in memory instead of asking the file system, and collects small writes in a
+ * direct buffer which is flushed at offsets aligned to the buffer size. A list of byte arrays, e.g.
+ * page slabs of a chunk, can be written by one gathering write.<br>
+ * Whether and when data is forced to the storage device is decided by {@linkplain ForcePolicy
+ * ForcePolicy}.<br>
+ * An existing file is truncated when opened, unless it's opened for appending, e.g. to recover a
+ * TsFile, in which case writing starts at the end of file.
+ *
+ * @author kangrong
+ *
+ */
+public class FileChannelOutputStream extends OutputStream implements TSRandomAccessFileWriter {
+    private static final int ALIGNMENT = 4096;
+
+    /**
+     * policy of forcing written data to the storage device
+     */
+    public enum ForcePolicy {
+        /**
+         * never force, leave it to the operating system
+         */
+        NONE,
+        /**
+         * force once when closing
+         */
+        ON_CLOSE,
+        /**
+         * force every time {@code flush()} is called and when closing
+         */
+        ON_FLUSH
+    }
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final ForcePolicy forcePolicy;
+    /**
+     * position of the channel, i.e. the position of the first byte in buffer
+     */
+    private long channelPos;
+
+    public FileChannelOutputStream(File file) throws IOException {
+        this(file, false);
+    }
+
+    /**
+     * @param file - file to write
+     * @param append - whether to keep the content of file and write from its end, otherwise the
+     *        file is truncated
+     */
+    public FileChannelOutputStream(File file, boolean append) throws IOException {
+        this(file, TSFileDescriptor.getInstance().getConfig(), append);
+    }
+
+    private FileChannelOutputStream(File file, TSFileConfig conf, boolean append)
+            throws IOException {
+        this(file, conf.writeBufferSize, ForcePolicy.valueOf(conf.forcePolicy), append);
+    }
+
+    public FileChannelOutputStream(File file, int bufferSize, ForcePolicy forcePolicy)
+            throws IOException {
+        this(file, bufferSize, forcePolicy, false);
+    }
+
+    /**
+     * @param file - file to write
+     * @param bufferSize - size of write buffer, it's rounded up to a multiple of 4096
+     * @param forcePolicy - policy of forcing data to the storage device
+     * @param append - whether to keep the content of file and write from its end, otherwise the
+     *        file is truncated
+     */
+    public FileChannelOutputStream(File file, int bufferSize, ForcePolicy forcePolicy,
+            boolean append) throws IOException {
+        if (append)
+            this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+        else
+            this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        int capacity = Math.max((bufferSize + ALIGNMENT - 1) / ALIGNMENT, 1) * ALIGNMENT;
+        this.buffer = ByteBuffer.allocateDirect(capacity);
+        this.forcePolicy = forcePolicy;
+        this.channelPos = channel.size();
+        channel.position(channelPos);
+        resetBuffer();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (!buffer.hasRemaining())
+            flushBuffer();
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte b[]) throws IOException {
+        write(b, 0, b.length);
+    }
+
+    @Override
+    public void write(byte b[], int off, int len) throws IOException {
+        if (len >= buffer.capacity()) {
+            // too large to be buffered, write it directly
+            flushBuffer();
+            writeFully(ByteBuffer.wrap(b, off, len));
+            resetBuffer();
+            return;
+        }
+        while (len > 0) {
+            if (!buffer.hasRemaining())
+                flushBuffer();
+            int n = Math.min(len, buffer.remaining());
+            buffer.put(b, off, n);
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * write all remaining bytes of given buffers. If they don't fit in the write buffer, they are
+     * written together with the buffered bytes by one gathering write.
+     *
+     * @param srcs - buffers to write
+     * @throws IOException
+     */
+    public void write(ByteBuffer[] srcs) throws IOException {
+        long total = 0;
+        for (ByteBuffer src : srcs)
+            total += src.remaining();
+        if (total <= buffer.remaining()) {
+            for (ByteBuffer src : srcs)
+                buffer.put(src);
+            return;
+        }
+        ByteBuffer[] all = new ByteBuffer[srcs.length + 1];
+        buffer.flip();
+        all[0] = buffer;
+        System.arraycopy(srcs, 0, all, 1, srcs.length);
+        long expected = total + buffer.remaining();
+        long written = 0;
+        while (written < expected)
+            written += channel.write(all);
+        channelPos += written;
+        resetBuffer();
+    }
+
+    @Override
+    public long getPos() throws IOException {
+        return channelPos + buffer.position();
+    }
+
+    @Override
+    public void seek(long offset) throws IOException {
+        flushBuffer();
+        channel.position(offset);
+        channelPos = offset;
+        resetBuffer();
+    }
+
+    /**
+     * write buffered bytes to the channel, and force them to the storage device if policy is
+     * {@code ON_FLUSH}
+     */
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        if (forcePolicy == ForcePolicy.ON_FLUSH)
+            channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+            if (forcePolicy != ForcePolicy.NONE)
+                channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return this;
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        resetBuffer();
+    }
+
+    private void writeFully(ByteBuffer src) throws IOException {
+        while (src.hasRemaining())
+            channelPos += channel.write(src);
+    }
+
+    /**
+     * clear the buffer and limit it to the next aligned offset, so that a full buffer is always
+     * flushed at an aligned position of file.
+     */
+    private void resetBuffer() {
+        buffer.clear();
+        buffer.limit(buffer.capacity() - (int) (channelPos % buffer.capacity()));
+    }
+}
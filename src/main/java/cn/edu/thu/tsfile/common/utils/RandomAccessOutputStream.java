@@ -41,8 +41,12 @@ public class RandomAccessOutputStream extends OutputStream implements TSRandomAc
         out.write(b, off, len);
     }
 
+    /**
+     * return the file pointer rather than file length, since the pointer may be moved beyond
+     * the end of file by {@code seek}.
+     */
     public long getPos() throws IOException {
-        return out.length();
+        return out.getFilePointer();
     }
     
     public void seek(long offset) throws IOException {
@@ -47,6 +47,39 @@ public class ReadWriteStreamUtils {
 		return max;
 	}
 
+	/**
+	 * check the first size numbers in a int array and find max bit width
+	 * 
+	 * @param values
+	 *            - input array
+	 * @param size
+	 *            - number of values to check
+	 * @return max bit width
+	 */
+	public static int getIntMaxBitWidth(int[] values, int size) {
+		// the widest value decides the position of highest one bit in bitwise or of all values
+		int or = 0;
+		for (int i = 0; i < size; i++)
+			or |= values[i];
+		return Math.max(1, 32 - Integer.numberOfLeadingZeros(or));
+	}
+
+	/**
+	 * check the first size numbers in a long array and find max bit width
+	 * 
+	 * @param values
+	 *            - input array
+	 * @param size
+	 *            - number of values to check
+	 * @return max bit width
+	 */
+	public static int getLongMaxBitWidth(long[] values, int size) {
+		long or = 0;
+		for (int i = 0; i < size; i++)
+			or |= values[i];
+		return Math.max(1, 64 - Long.numberOfLeadingZeros(or));
+	}
+
 	public static byte[] getUnsignedVarInt(int value) {
 		int preValue = value;
 		int length = 0;
@@ -109,6 +142,72 @@ public class ReadWriteStreamUtils {
 		out.write(value & 0x7F);
 	}
 
+	/**
+	 * write a long value to stream using unsigned var int format, see
+	 * {@link #writeUnsignedVarInt(int, OutputStream)}
+	 *
+	 * @param value
+	 *            - value to write into stream
+	 * @param out
+	 * @throws IOException
+	 */
+	public static void writeUnsignedVarLong(long value, OutputStream out) throws IOException {
+		while ((value & 0xFFFFFFFFFFFFFF80L) != 0L) {
+			out.write((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	/**
+	 * read an unsigned var long in stream, see {@link #readUnsignedVarInt(InputStream)}
+	 *
+	 * @param in
+	 *            - stream to read an unsigned var long
+	 * @return long value
+	 * @throws IOException
+	 */
+	public static long readUnsignedVarLong(InputStream in) throws IOException {
+		long value = 0;
+		int i = 0;
+		int b;
+		while (((b = in.read()) & 0x80) != 0) {
+			if (b < 0) {
+				throw new IOException("unexpected end of stream when reading var long");
+			}
+			value |= (long) (b & 0x7F) << i;
+			i += 7;
+		}
+		return value | ((long) b << i);
+	}
+
+	/**
+	 * return the number of bytes of a long value in unsigned var int format
+	 */
+	public static int getUnsignedVarLongSize(long value) {
+		int size = 1;
+		while ((value & 0xFFFFFFFFFFFFFF80L) != 0L) {
+			size++;
+			value >>>= 7;
+		}
+		return size;
+	}
+
+	/**
+	 * map a signed long to an unsigned one by zigzag, so that values of small magnitude take few
+	 * bytes in var int format whatever their signs are, i.e. 0, -1, 1, -2 are mapped to 0, 1, 2, 3
+	 */
+	public static long zigzagEncode(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	/**
+	 * reverse of {@link #zigzagEncode(long)}
+	 */
+	public static long zigzagDecode(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
 	/**
 	 * @Description write int value using special bit to output stream
 	 * @param value
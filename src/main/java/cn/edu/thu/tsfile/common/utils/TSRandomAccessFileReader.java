@@ -1,6 +1,7 @@
 package cn.edu.thu.tsfile.common.utils;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * Interface for file read.
@@ -18,6 +19,32 @@ public interface TSRandomAccessFileReader {
     public long length() throws IOException;
 
     public int readInt() throws IOException;
+
+    /**
+     * read bytes of given range into a buffer. By default the bytes are copied into a heap
+     * buffer, a reader of local file may map the range instead to avoid the copy.
+     *
+     * @param position - start offset in file
+     * @param length - number of bytes to read
+     * @return - a buffer whose position is 0 and limit is length
+     * @throws IOException
+     */
+    public default ByteBuffer readBuffer(long position, int length) throws IOException {
+        byte[] buf = new byte[length];
+        seek(position);
+        int readSize = 0;
+        while (readSize < length) {
+            int size = read(buf, readSize, length - readSize);
+            if (size < 0) {
+                break;
+            }
+            readSize += size;
+        }
+        if (readSize != length) {
+            throw new IOException("Expect byte size : " + length + ". Read size : " + readSize);
+        }
+        return ByteBuffer.wrap(buf);
+    }
     
     public void close() throws IOException;
 }
@@ -2,9 +2,12 @@ package cn.edu.thu.tsfile.common.utils.bytesinput;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
+import cn.edu.thu.tsfile.common.utils.FileChannelOutputStream;
+
 /**
  * ListBytesInput is designed for saving byte array temporarily to avoid unnecessary byte array copy
  * in {@code OutputStream Writing}
@@ -77,13 +80,34 @@ public class ListBytesInput extends BytesInput {
         }
     }
 
+    /**
+     * if {@code out} is a {@linkplain FileChannelOutputStream FileChannelOutputStream}, all slabs
+     * are written by one gathering write.
+     */
     @Override
     public void writeAllTo(OutputStream out) throws IOException {
+        if (out instanceof FileChannelOutputStream) {
+            ((FileChannelOutputStream) out).write(toByteBuffers());
+            return;
+        }
         for (int i = 0; i < slabs.size(); i++) {
             out.write(slabs.get(i), 0, slabSizeList.get(i));
         }
     }
 
+    /**
+     * wrap all slabs into ByteBuffers without copying.
+     * 
+     * @return - one ByteBuffer for each slab
+     */
+    public ByteBuffer[] toByteBuffers() {
+        ByteBuffer[] buffers = new ByteBuffer[slabs.size()];
+        for (int i = 0; i < slabs.size(); i++) {
+            buffers[i] = ByteBuffer.wrap(slabs.get(i), 0, slabSizeList.get(i));
+        }
+        return buffers;
+    }
+
     @Override
     public int size() {
         return size;
@@ -20,6 +20,9 @@ package cn.edu.thu.tsfile.encoding.bitPacking;
  *    +-----+  +-----+  +---------+  +-----+  +-----+  +---------+  +-----+  +-----+
  *       5        4          7          3        0          1          3        2
  * 
+ * Packing 8 values and unpacking 32 values are done by methods unrolled for each bit-width
+ * in {@link UnrolledIntPacker}.
+ * 
  */
 public class IntPacker {
 
@@ -44,48 +47,20 @@ public class IntPacker {
      * @param buf - encoded bytes, buf size must be equal to ({@link IntPacker#NUM_OF_INTS} * {@link IntPacker#width} / 8)
      */
     public void pack8Values(int[] values, int offset, byte[] buf) {
+        pack8Values(values, offset, buf, 0);
+    }
 
-        int bufIdx = 0;
-        int valueIdx = offset;
-        //remaining bits for the current unfinished Integer
-        int leftBit = 0; 
-
-        while (valueIdx < NUM_OF_INTS + offset) {
-        		// buffer is used for saving 32 bits as a part of result
-            int buffer = 0;
-            // remaining size of bits in the 'buffer'
-            int leftSize = 32;
-
-            // encode the left bits of current Integer to 'buffer'
-            if (leftBit > 0) {
-            		buffer |= (values[valueIdx] << (32 - leftBit));
-            		leftSize -= leftBit;
-                valueIdx++;
-            }
-            
-            while (leftSize >= width && valueIdx < NUM_OF_INTS + offset) {
-            		//encode one Integer to the 'buffer'
-            		buffer |= (values[valueIdx] << (leftSize - width));
-            		leftSize -= width;
-                valueIdx++;
-            }
-            // If the remaining space of the buffer can not save the bits for one Integer,
-            if (leftSize > 0 && valueIdx < NUM_OF_INTS + offset) {
-            		// put the first 'leftSize' bits of the Integer into remaining space of the buffer 
-            		buffer |= (values[valueIdx] >>> (width - leftSize));
-                leftBit = width - leftSize;
-                leftSize = 0;
-            }
-
-            // put the buffer into the final result
-            for (int j = 0; j < 4; j++) {
-                buf[bufIdx] = (byte) ((buffer >>> ((3 - j) * 8)) & 0xFF);
-                bufIdx++;
-                if (bufIdx >= width) {
-                    return;
-                }
-            }
-        }
+    /**
+     * Encode 8 Integers to bytes starting from 'bufOffset' of 'buf', so that groups can be packed
+     * one after another into a reused array.
+     *
+     * @param values - array where '8 Integers' are in
+     * @param offset - the offset of first Integer to be encoded
+     * @param buf - encoded bytes, at least {@link IntPacker#width} bytes from 'bufOffset'
+     * @param bufOffset - the offset of first encoded byte in buf
+     */
+    public void pack8Values(int[] values, int offset, byte[] buf, int bufOffset) {
+        UnrolledIntPacker.pack8Values(width, values, offset, buf, bufOffset);
     }
 
 
@@ -96,14 +71,26 @@ public class IntPacker {
      * @param values - decoded result , the length of 'values' should be @{link IntPacker#NUM_OF_INTS}
      */
     public void unpack8Values(byte[] buf, int offset, int[] values) {
+        unpack8Values(buf, offset, values, 0);
+    }
+
+    /**
+     * decode 8 Integers from byte array to 'values' starting from 'valuesOffset'.
+     * @param buf - array where bytes are in.
+     * @param offset - offset of first byte to be decoded in buf
+     * @param values - decoded result, at least {@link IntPacker#NUM_OF_INTS} from 'valuesOffset'
+     * @param valuesOffset - offset of first decoded Integer in values
+     */
+    public void unpack8Values(byte[] buf, int offset, int[] values, int valuesOffset) {
     	
         int byteIdx = offset;
         long buffer = 0;
         //total bits which have read from 'buf' to 'buffer'. i.e., number of avalible bits to be decoded.
         int totalBits = 0;
-        int valueIdx = 0;
+        int valueIdx = valuesOffset;
+        int valueEnd = valuesOffset + NUM_OF_INTS;
 
-        while (valueIdx < NUM_OF_INTS) {
+        while (valueIdx < valueEnd) {
         	//If current avalible bits are not enough to decode one Integer, then add next byte from buf to 'buffer'
         	//until totalBits >= width
             while (totalBits < width) {
@@ -114,7 +101,7 @@ public class IntPacker {
             
             //If current avalible bits are enough to decode one Integer, then decode one Integer one by one
             //until left bits in 'buffer' is not enough to decode one Integer.
-            while (totalBits >= width && valueIdx < 8) {
+            while (totalBits >= width && valueIdx < valueEnd) {
                 values[valueIdx] = (int) (buffer >>> (totalBits - width));
                 valueIdx++;
                 totalBits -= width;
@@ -134,13 +121,18 @@ public class IntPacker {
     public void unpackAllValues(byte[] buf, int offset, int length, int[] values) {
         int idx = 0;
         int k = 0;
-        while (idx < length) {
-            int[] tv = new int[8];
-            //decode 8 values one time, current result will be saved in the array named 'tv'
-            unpack8Values(buf, idx, tv);
-            for (int i = 0; i < 8; i++) {
-                values[k + i] = tv[i];
+        //decode 32 values in 4 * width bytes one time, with the method unrolled for the width
+        int blockSize = 4 * width;
+        if (blockSize > 0) {
+            while (idx + blockSize <= length) {
+                UnrolledIntPacker.unpack32Values(width, buf, offset + idx, values, k);
+                idx += blockSize;
+                k += 32;
             }
+        }
+        while (idx < length) {
+            //decode 8 values one time, current result will be saved in 'values' directly
+            unpack8Values(buf, offset + idx, values, k);
             idx += width;
             k += 8;
         }
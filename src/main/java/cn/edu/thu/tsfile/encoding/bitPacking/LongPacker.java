@@ -19,6 +19,9 @@ package cn.edu.thu.tsfile.encoding.bitPacking;
  *    +-----+  +-----+  +---------+  +-----+  +-----+  +---------+  +-----+  +-----+
  *       5        4          7          3        0          1          3        2
  * 
+ * Packing 8 values and unpacking 32 values are done by methods unrolled for each bit-width
+ * in {@link UnrolledLongPacker}.
+ * 
  * @author Zhang Jinrui
  */
 public class LongPacker{
@@ -44,48 +47,20 @@ public class LongPacker{
      * @param buf - encoded bytes, buf size must be equal to ({@link LongPacker#NUM_OF_LONGS}} * {@link IntPacker#width} / 8)
      */
 	public void pack8Values(long[] values, int offset, byte[] buf) {
-		
-		int bufIdx = 0;
-		int valueIdx = offset;
-		//remaining bits for the current unfinished Integer
-		int leftBit = 0;
-
-		while (valueIdx < NUM_OF_LONGS + offset) {
-			// buffer is used for saving 64 bits as a part of result
-			long buffer = 0;
-			//remaining size of bits in the 'buffer'
-			int leftSize = 64;
-
-			// encode the left bits of current Long to 'buffer'
-			if (leftBit > 0) {
-				buffer |= (values[valueIdx] << (64 - leftBit));
-				leftSize -= leftBit;
-				valueIdx++;
-			}
-
-			while (leftSize >= width && valueIdx < NUM_OF_LONGS + offset) {
-				//encode one Long to the 'buffer'
-				buffer |= (values[valueIdx] << (leftSize - width));
-				leftSize -= width;
-				valueIdx++;
-			}
-			// If the remaining space of the buffer can not save the bits for one Long
-			if (leftSize > 0 && valueIdx < NUM_OF_LONGS + offset) {
-				// put the first 'leftSize' bits of the Long into remaining space of the buffer
-				buffer |= (values[valueIdx] >>> (width - leftSize));
-				leftBit = width - leftSize;
-				leftSize = 0;
-			}
+		pack8Values(values, offset, buf, 0);
+	}
 
-			// put the buffer into the final result
-			for (int j = 0; j < 8; j++) {
-				buf[bufIdx] = (byte) ((buffer >>> ((8 - j - 1) * 8)) & 0xFF);
-				bufIdx++;
-				if (bufIdx >= width * 8 / 8) {
-					return;
-				}
-			}
-		}
+	/**
+	 * Encode 8 Longs to bytes starting from 'bufOffset' of 'buf', so that groups can be packed
+	 * one after another into a reused array.
+	 *
+	 * @param values - array where '8 Longs' are in
+	 * @param offset - the offset of first Long to be encoded
+	 * @param buf - encoded bytes, at least {@link LongPacker#width} bytes from 'bufOffset'
+	 * @param bufOffset - the offset of first encoded byte in buf
+	 */
+	public void pack8Values(long[] values, int offset, byte[] buf, int bufOffset) {
+		UnrolledLongPacker.pack8Values(width, values, offset, buf, bufOffset);
 	}
 
 	/**
@@ -96,15 +71,27 @@ public class LongPacker{
      * @param values - decoded result , the size of values should be 8
      */
 	public void unpack8Values(byte[] buf, int offset, long[] values) {
+		unpack8Values(buf, offset, values, 0);
+	}
+
+	/**
+	 * decode 8 values from byte array to 'values' starting from 'valuesOffset'.
+	 * @param buf - array where bytes are in.
+	 * @param offset - offset of first byte to be decoded in buf
+	 * @param values - decoded result, at least 8 from 'valuesOffset'
+	 * @param valuesOffset - offset of first decoded value in values
+	 */
+	public void unpack8Values(byte[] buf, int offset, long[] values, int valuesOffset) {
 		int byteIdx = offset;
-		int valueIdx = 0;
+		int valueIdx = valuesOffset;
+		int valueEnd = valuesOffset + NUM_OF_LONGS;
 		//left bit(s) available for current byte in 'buf'
 		int leftBits = 8;  
 		//bits that has been read for current long value which is to be decoded
 		int totalBits = 0; 
 		
 		//decode long value one by one
-		while (valueIdx < 8) {
+		while (valueIdx < valueEnd) {
 			//set all the 64 bits in current value to '0'
 			values[valueIdx] = 0;
 			//read until 'totalBits' is equal to width
@@ -148,13 +135,18 @@ public class LongPacker{
 	public void unpackAllValues(byte[] buf, int offset, int length, long[] values) {
 		int idx = 0;
 		int k = 0;
-		while (idx < length) {
-			long[] tv = new long[8];
-			//decode 8 values one time, current result will be saved in the array named 'tv'
-			unpack8Values(buf, idx, tv);
-			for (int i = 0; i < 8; i++) {
-				values[k + i] = tv[i];
+		//decode 32 values in 4 * width bytes one time, with the method unrolled for the width
+		int blockSize = 4 * width;
+		if (blockSize > 0) {
+			while (idx + blockSize <= length) {
+				UnrolledLongPacker.unpack32Values(width, buf, offset + idx, values, k);
+				idx += blockSize;
+				k += 32;
 			}
+		}
+		while (idx < length) {
+			//decode 8 values one time, current result will be saved in 'values' directly
+			unpack8Values(buf, offset + idx, values, k);
 			idx += width;
 			k += 8;
 		}
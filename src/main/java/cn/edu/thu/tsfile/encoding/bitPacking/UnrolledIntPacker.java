@@ -0,0 +1,2760 @@
+package cn.edu.thu.tsfile.encoding.bitPacking;
+
+/**
+ * Packs and unpacks int values in the same layout as {@link IntPacker}, with a method
+ * unrolled for each bit-width, which is chosen by a switch on the width.
+ * <p>
+ * This file is generated by {@code PackerGenerator} in test, don't edit it by hand.
+ *
+ * @author kangrong
+ */
+final class UnrolledIntPacker {
+
+    private UnrolledIntPacker() {
+    }
+
+    /**
+     * pack 8 values into width bytes of buf starting from bufOffset
+     */
+    static void pack8Values(int width, int[] values, int offset, byte[] buf, int bufOffset) {
+        switch (width) {
+            case 0:
+                return;
+            case 1:
+                pack8Values1(values, offset, buf, bufOffset);
+                return;
+            case 2:
+                pack8Values2(values, offset, buf, bufOffset);
+                return;
+            case 3:
+                pack8Values3(values, offset, buf, bufOffset);
+                return;
+            case 4:
+                pack8Values4(values, offset, buf, bufOffset);
+                return;
+            case 5:
+                pack8Values5(values, offset, buf, bufOffset);
+                return;
+            case 6:
+                pack8Values6(values, offset, buf, bufOffset);
+                return;
+            case 7:
+                pack8Values7(values, offset, buf, bufOffset);
+                return;
+            case 8:
+                pack8Values8(values, offset, buf, bufOffset);
+                return;
+            case 9:
+                pack8Values9(values, offset, buf, bufOffset);
+                return;
+            case 10:
+                pack8Values10(values, offset, buf, bufOffset);
+                return;
+            case 11:
+                pack8Values11(values, offset, buf, bufOffset);
+                return;
+            case 12:
+                pack8Values12(values, offset, buf, bufOffset);
+                return;
+            case 13:
+                pack8Values13(values, offset, buf, bufOffset);
+                return;
+            case 14:
+                pack8Values14(values, offset, buf, bufOffset);
+                return;
+            case 15:
+                pack8Values15(values, offset, buf, bufOffset);
+                return;
+            case 16:
+                pack8Values16(values, offset, buf, bufOffset);
+                return;
+            case 17:
+                pack8Values17(values, offset, buf, bufOffset);
+                return;
+            case 18:
+                pack8Values18(values, offset, buf, bufOffset);
+                return;
+            case 19:
+                pack8Values19(values, offset, buf, bufOffset);
+                return;
+            case 20:
+                pack8Values20(values, offset, buf, bufOffset);
+                return;
+            case 21:
+                pack8Values21(values, offset, buf, bufOffset);
+                return;
+            case 22:
+                pack8Values22(values, offset, buf, bufOffset);
+                return;
+            case 23:
+                pack8Values23(values, offset, buf, bufOffset);
+                return;
+            case 24:
+                pack8Values24(values, offset, buf, bufOffset);
+                return;
+            case 25:
+                pack8Values25(values, offset, buf, bufOffset);
+                return;
+            case 26:
+                pack8Values26(values, offset, buf, bufOffset);
+                return;
+            case 27:
+                pack8Values27(values, offset, buf, bufOffset);
+                return;
+            case 28:
+                pack8Values28(values, offset, buf, bufOffset);
+                return;
+            case 29:
+                pack8Values29(values, offset, buf, bufOffset);
+                return;
+            case 30:
+                pack8Values30(values, offset, buf, bufOffset);
+                return;
+            case 31:
+                pack8Values31(values, offset, buf, bufOffset);
+                return;
+            case 32:
+                pack8Values32(values, offset, buf, bufOffset);
+                return;
+            default:
+                throw new IllegalArgumentException("bit-width " + width + " is not supported");
+        }
+    }
+
+    /**
+     * unpack 32 values from 4 * width bytes of buf starting from offset
+     */
+    static void unpack32Values(int width, byte[] buf, int offset, int[] values, int valuesOffset) {
+        switch (width) {
+            case 0:
+                java.util.Arrays.fill(values, valuesOffset, valuesOffset + 32, 0);
+                return;
+            case 1:
+                unpack32Values1(buf, offset, values, valuesOffset);
+                return;
+            case 2:
+                unpack32Values2(buf, offset, values, valuesOffset);
+                return;
+            case 3:
+                unpack32Values3(buf, offset, values, valuesOffset);
+                return;
+            case 4:
+                unpack32Values4(buf, offset, values, valuesOffset);
+                return;
+            case 5:
+                unpack32Values5(buf, offset, values, valuesOffset);
+                return;
+            case 6:
+                unpack32Values6(buf, offset, values, valuesOffset);
+                return;
+            case 7:
+                unpack32Values7(buf, offset, values, valuesOffset);
+                return;
+            case 8:
+                unpack32Values8(buf, offset, values, valuesOffset);
+                return;
+            case 9:
+                unpack32Values9(buf, offset, values, valuesOffset);
+                return;
+            case 10:
+                unpack32Values10(buf, offset, values, valuesOffset);
+                return;
+            case 11:
+                unpack32Values11(buf, offset, values, valuesOffset);
+                return;
+            case 12:
+                unpack32Values12(buf, offset, values, valuesOffset);
+                return;
+            case 13:
+                unpack32Values13(buf, offset, values, valuesOffset);
+                return;
+            case 14:
+                unpack32Values14(buf, offset, values, valuesOffset);
+                return;
+            case 15:
+                unpack32Values15(buf, offset, values, valuesOffset);
+                return;
+            case 16:
+                unpack32Values16(buf, offset, values, valuesOffset);
+                return;
+            case 17:
+                unpack32Values17(buf, offset, values, valuesOffset);
+                return;
+            case 18:
+                unpack32Values18(buf, offset, values, valuesOffset);
+                return;
+            case 19:
+                unpack32Values19(buf, offset, values, valuesOffset);
+                return;
+            case 20:
+                unpack32Values20(buf, offset, values, valuesOffset);
+                return;
+            case 21:
+                unpack32Values21(buf, offset, values, valuesOffset);
+                return;
+            case 22:
+                unpack32Values22(buf, offset, values, valuesOffset);
+                return;
+            case 23:
+                unpack32Values23(buf, offset, values, valuesOffset);
+                return;
+            case 24:
+                unpack32Values24(buf, offset, values, valuesOffset);
+                return;
+            case 25:
+                unpack32Values25(buf, offset, values, valuesOffset);
+                return;
+            case 26:
+                unpack32Values26(buf, offset, values, valuesOffset);
+                return;
+            case 27:
+                unpack32Values27(buf, offset, values, valuesOffset);
+                return;
+            case 28:
+                unpack32Values28(buf, offset, values, valuesOffset);
+                return;
+            case 29:
+                unpack32Values29(buf, offset, values, valuesOffset);
+                return;
+            case 30:
+                unpack32Values30(buf, offset, values, valuesOffset);
+                return;
+            case 31:
+                unpack32Values31(buf, offset, values, valuesOffset);
+                return;
+            case 32:
+                unpack32Values32(buf, offset, values, valuesOffset);
+                return;
+            default:
+                throw new IllegalArgumentException("bit-width " + width + " is not supported");
+        }
+    }
+
+    private static void pack8Values1(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x1;
+        int v1 = values[offset + 1] & 0x1;
+        int v2 = values[offset + 2] & 0x1;
+        int v3 = values[offset + 3] & 0x1;
+        int v4 = values[offset + 4] & 0x1;
+        int v5 = values[offset + 5] & 0x1;
+        int v6 = values[offset + 6] & 0x1;
+        int v7 = values[offset + 7] & 0x1;
+        buf[bufOffset] = (byte) ((v0 << 7) | (v1 << 6) | (v2 << 5) | (v3 << 4) | (v4 << 3) | (v5 << 2) | (v6 << 1) | (v7));
+    }
+
+    private static void pack8Values2(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x3;
+        int v1 = values[offset + 1] & 0x3;
+        int v2 = values[offset + 2] & 0x3;
+        int v3 = values[offset + 3] & 0x3;
+        int v4 = values[offset + 4] & 0x3;
+        int v5 = values[offset + 5] & 0x3;
+        int v6 = values[offset + 6] & 0x3;
+        int v7 = values[offset + 7] & 0x3;
+        buf[bufOffset] = (byte) ((v0 << 6) | (v1 << 4) | (v2 << 2) | (v3));
+        buf[bufOffset + 1] = (byte) ((v4 << 6) | (v5 << 4) | (v6 << 2) | (v7));
+    }
+
+    private static void pack8Values3(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x7;
+        int v1 = values[offset + 1] & 0x7;
+        int v2 = values[offset + 2] & 0x7;
+        int v3 = values[offset + 3] & 0x7;
+        int v4 = values[offset + 4] & 0x7;
+        int v5 = values[offset + 5] & 0x7;
+        int v6 = values[offset + 6] & 0x7;
+        int v7 = values[offset + 7] & 0x7;
+        buf[bufOffset] = (byte) ((v0 << 5) | (v1 << 2) | (v2 >>> 1));
+        buf[bufOffset + 1] = (byte) ((v2 << 7) | (v3 << 4) | (v4 << 1) | (v5 >>> 2));
+        buf[bufOffset + 2] = (byte) ((v5 << 6) | (v6 << 3) | (v7));
+    }
+
+    private static void pack8Values4(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0xF;
+        int v1 = values[offset + 1] & 0xF;
+        int v2 = values[offset + 2] & 0xF;
+        int v3 = values[offset + 3] & 0xF;
+        int v4 = values[offset + 4] & 0xF;
+        int v5 = values[offset + 5] & 0xF;
+        int v6 = values[offset + 6] & 0xF;
+        int v7 = values[offset + 7] & 0xF;
+        buf[bufOffset] = (byte) ((v0 << 4) | (v1));
+        buf[bufOffset + 1] = (byte) ((v2 << 4) | (v3));
+        buf[bufOffset + 2] = (byte) ((v4 << 4) | (v5));
+        buf[bufOffset + 3] = (byte) ((v6 << 4) | (v7));
+    }
+
+    private static void pack8Values5(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x1F;
+        int v1 = values[offset + 1] & 0x1F;
+        int v2 = values[offset + 2] & 0x1F;
+        int v3 = values[offset + 3] & 0x1F;
+        int v4 = values[offset + 4] & 0x1F;
+        int v5 = values[offset + 5] & 0x1F;
+        int v6 = values[offset + 6] & 0x1F;
+        int v7 = values[offset + 7] & 0x1F;
+        buf[bufOffset] = (byte) ((v0 << 3) | (v1 >>> 2));
+        buf[bufOffset + 1] = (byte) ((v1 << 6) | (v2 << 1) | (v3 >>> 4));
+        buf[bufOffset + 2] = (byte) ((v3 << 4) | (v4 >>> 1));
+        buf[bufOffset + 3] = (byte) ((v4 << 7) | (v5 << 2) | (v6 >>> 3));
+        buf[bufOffset + 4] = (byte) ((v6 << 5) | (v7));
+    }
+
+    private static void pack8Values6(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x3F;
+        int v1 = values[offset + 1] & 0x3F;
+        int v2 = values[offset + 2] & 0x3F;
+        int v3 = values[offset + 3] & 0x3F;
+        int v4 = values[offset + 4] & 0x3F;
+        int v5 = values[offset + 5] & 0x3F;
+        int v6 = values[offset + 6] & 0x3F;
+        int v7 = values[offset + 7] & 0x3F;
+        buf[bufOffset] = (byte) ((v0 << 2) | (v1 >>> 4));
+        buf[bufOffset + 1] = (byte) ((v1 << 4) | (v2 >>> 2));
+        buf[bufOffset + 2] = (byte) ((v2 << 6) | (v3));
+        buf[bufOffset + 3] = (byte) ((v4 << 2) | (v5 >>> 4));
+        buf[bufOffset + 4] = (byte) ((v5 << 4) | (v6 >>> 2));
+        buf[bufOffset + 5] = (byte) ((v6 << 6) | (v7));
+    }
+
+    private static void pack8Values7(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x7F;
+        int v1 = values[offset + 1] & 0x7F;
+        int v2 = values[offset + 2] & 0x7F;
+        int v3 = values[offset + 3] & 0x7F;
+        int v4 = values[offset + 4] & 0x7F;
+        int v5 = values[offset + 5] & 0x7F;
+        int v6 = values[offset + 6] & 0x7F;
+        int v7 = values[offset + 7] & 0x7F;
+        buf[bufOffset] = (byte) ((v0 << 1) | (v1 >>> 6));
+        buf[bufOffset + 1] = (byte) ((v1 << 2) | (v2 >>> 5));
+        buf[bufOffset + 2] = (byte) ((v2 << 3) | (v3 >>> 4));
+        buf[bufOffset + 3] = (byte) ((v3 << 4) | (v4 >>> 3));
+        buf[bufOffset + 4] = (byte) ((v4 << 5) | (v5 >>> 2));
+        buf[bufOffset + 5] = (byte) ((v5 << 6) | (v6 >>> 1));
+        buf[bufOffset + 6] = (byte) ((v6 << 7) | (v7));
+    }
+
+    private static void pack8Values8(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0xFF;
+        int v1 = values[offset + 1] & 0xFF;
+        int v2 = values[offset + 2] & 0xFF;
+        int v3 = values[offset + 3] & 0xFF;
+        int v4 = values[offset + 4] & 0xFF;
+        int v5 = values[offset + 5] & 0xFF;
+        int v6 = values[offset + 6] & 0xFF;
+        int v7 = values[offset + 7] & 0xFF;
+        buf[bufOffset] = (byte) (v0);
+        buf[bufOffset + 1] = (byte) (v1);
+        buf[bufOffset + 2] = (byte) (v2);
+        buf[bufOffset + 3] = (byte) (v3);
+        buf[bufOffset + 4] = (byte) (v4);
+        buf[bufOffset + 5] = (byte) (v5);
+        buf[bufOffset + 6] = (byte) (v6);
+        buf[bufOffset + 7] = (byte) (v7);
+    }
+
+    private static void pack8Values9(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x1FF;
+        int v1 = values[offset + 1] & 0x1FF;
+        int v2 = values[offset + 2] & 0x1FF;
+        int v3 = values[offset + 3] & 0x1FF;
+        int v4 = values[offset + 4] & 0x1FF;
+        int v5 = values[offset + 5] & 0x1FF;
+        int v6 = values[offset + 6] & 0x1FF;
+        int v7 = values[offset + 7] & 0x1FF;
+        buf[bufOffset] = (byte) (v0 >>> 1);
+        buf[bufOffset + 1] = (byte) ((v0 << 7) | (v1 >>> 2));
+        buf[bufOffset + 2] = (byte) ((v1 << 6) | (v2 >>> 3));
+        buf[bufOffset + 3] = (byte) ((v2 << 5) | (v3 >>> 4));
+        buf[bufOffset + 4] = (byte) ((v3 << 4) | (v4 >>> 5));
+        buf[bufOffset + 5] = (byte) ((v4 << 3) | (v5 >>> 6));
+        buf[bufOffset + 6] = (byte) ((v5 << 2) | (v6 >>> 7));
+        buf[bufOffset + 7] = (byte) ((v6 << 1) | (v7 >>> 8));
+        buf[bufOffset + 8] = (byte) (v7);
+    }
+
+    private static void pack8Values10(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x3FF;
+        int v1 = values[offset + 1] & 0x3FF;
+        int v2 = values[offset + 2] & 0x3FF;
+        int v3 = values[offset + 3] & 0x3FF;
+        int v4 = values[offset + 4] & 0x3FF;
+        int v5 = values[offset + 5] & 0x3FF;
+        int v6 = values[offset + 6] & 0x3FF;
+        int v7 = values[offset + 7] & 0x3FF;
+        buf[bufOffset] = (byte) (v0 >>> 2);
+        buf[bufOffset + 1] = (byte) ((v0 << 6) | (v1 >>> 4));
+        buf[bufOffset + 2] = (byte) ((v1 << 4) | (v2 >>> 6));
+        buf[bufOffset + 3] = (byte) ((v2 << 2) | (v3 >>> 8));
+        buf[bufOffset + 4] = (byte) (v3);
+        buf[bufOffset + 5] = (byte) (v4 >>> 2);
+        buf[bufOffset + 6] = (byte) ((v4 << 6) | (v5 >>> 4));
+        buf[bufOffset + 7] = (byte) ((v5 << 4) | (v6 >>> 6));
+        buf[bufOffset + 8] = (byte) ((v6 << 2) | (v7 >>> 8));
+        buf[bufOffset + 9] = (byte) (v7);
+    }
+
+    private static void pack8Values11(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x7FF;
+        int v1 = values[offset + 1] & 0x7FF;
+        int v2 = values[offset + 2] & 0x7FF;
+        int v3 = values[offset + 3] & 0x7FF;
+        int v4 = values[offset + 4] & 0x7FF;
+        int v5 = values[offset + 5] & 0x7FF;
+        int v6 = values[offset + 6] & 0x7FF;
+        int v7 = values[offset + 7] & 0x7FF;
+        buf[bufOffset] = (byte) (v0 >>> 3);
+        buf[bufOffset + 1] = (byte) ((v0 << 5) | (v1 >>> 6));
+        buf[bufOffset + 2] = (byte) ((v1 << 2) | (v2 >>> 9));
+        buf[bufOffset + 3] = (byte) (v2 >>> 1);
+        buf[bufOffset + 4] = (byte) ((v2 << 7) | (v3 >>> 4));
+        buf[bufOffset + 5] = (byte) ((v3 << 4) | (v4 >>> 7));
+        buf[bufOffset + 6] = (byte) ((v4 << 1) | (v5 >>> 10));
+        buf[bufOffset + 7] = (byte) (v5 >>> 2);
+        buf[bufOffset + 8] = (byte) ((v5 << 6) | (v6 >>> 5));
+        buf[bufOffset + 9] = (byte) ((v6 << 3) | (v7 >>> 8));
+        buf[bufOffset + 10] = (byte) (v7);
+    }
+
+    private static void pack8Values12(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0xFFF;
+        int v1 = values[offset + 1] & 0xFFF;
+        int v2 = values[offset + 2] & 0xFFF;
+        int v3 = values[offset + 3] & 0xFFF;
+        int v4 = values[offset + 4] & 0xFFF;
+        int v5 = values[offset + 5] & 0xFFF;
+        int v6 = values[offset + 6] & 0xFFF;
+        int v7 = values[offset + 7] & 0xFFF;
+        buf[bufOffset] = (byte) (v0 >>> 4);
+        buf[bufOffset + 1] = (byte) ((v0 << 4) | (v1 >>> 8));
+        buf[bufOffset + 2] = (byte) (v1);
+        buf[bufOffset + 3] = (byte) (v2 >>> 4);
+        buf[bufOffset + 4] = (byte) ((v2 << 4) | (v3 >>> 8));
+        buf[bufOffset + 5] = (byte) (v3);
+        buf[bufOffset + 6] = (byte) (v4 >>> 4);
+        buf[bufOffset + 7] = (byte) ((v4 << 4) | (v5 >>> 8));
+        buf[bufOffset + 8] = (byte) (v5);
+        buf[bufOffset + 9] = (byte) (v6 >>> 4);
+        buf[bufOffset + 10] = (byte) ((v6 << 4) | (v7 >>> 8));
+        buf[bufOffset + 11] = (byte) (v7);
+    }
+
+    private static void pack8Values13(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x1FFF;
+        int v1 = values[offset + 1] & 0x1FFF;
+        int v2 = values[offset + 2] & 0x1FFF;
+        int v3 = values[offset + 3] & 0x1FFF;
+        int v4 = values[offset + 4] & 0x1FFF;
+        int v5 = values[offset + 5] & 0x1FFF;
+        int v6 = values[offset + 6] & 0x1FFF;
+        int v7 = values[offset + 7] & 0x1FFF;
+        buf[bufOffset] = (byte) (v0 >>> 5);
+        buf[bufOffset + 1] = (byte) ((v0 << 3) | (v1 >>> 10));
+        buf[bufOffset + 2] = (byte) (v1 >>> 2);
+        buf[bufOffset + 3] = (byte) ((v1 << 6) | (v2 >>> 7));
+        buf[bufOffset + 4] = (byte) ((v2 << 1) | (v3 >>> 12));
+        buf[bufOffset + 5] = (byte) (v3 >>> 4);
+        buf[bufOffset + 6] = (byte) ((v3 << 4) | (v4 >>> 9));
+        buf[bufOffset + 7] = (byte) (v4 >>> 1);
+        buf[bufOffset + 8] = (byte) ((v4 << 7) | (v5 >>> 6));
+        buf[bufOffset + 9] = (byte) ((v5 << 2) | (v6 >>> 11));
+        buf[bufOffset + 10] = (byte) (v6 >>> 3);
+        buf[bufOffset + 11] = (byte) ((v6 << 5) | (v7 >>> 8));
+        buf[bufOffset + 12] = (byte) (v7);
+    }
+
+    private static void pack8Values14(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x3FFF;
+        int v1 = values[offset + 1] & 0x3FFF;
+        int v2 = values[offset + 2] & 0x3FFF;
+        int v3 = values[offset + 3] & 0x3FFF;
+        int v4 = values[offset + 4] & 0x3FFF;
+        int v5 = values[offset + 5] & 0x3FFF;
+        int v6 = values[offset + 6] & 0x3FFF;
+        int v7 = values[offset + 7] & 0x3FFF;
+        buf[bufOffset] = (byte) (v0 >>> 6);
+        buf[bufOffset + 1] = (byte) ((v0 << 2) | (v1 >>> 12));
+        buf[bufOffset + 2] = (byte) (v1 >>> 4);
+        buf[bufOffset + 3] = (byte) ((v1 << 4) | (v2 >>> 10));
+        buf[bufOffset + 4] = (byte) (v2 >>> 2);
+        buf[bufOffset + 5] = (byte) ((v2 << 6) | (v3 >>> 8));
+        buf[bufOffset + 6] = (byte) (v3);
+        buf[bufOffset + 7] = (byte) (v4 >>> 6);
+        buf[bufOffset + 8] = (byte) ((v4 << 2) | (v5 >>> 12));
+        buf[bufOffset + 9] = (byte) (v5 >>> 4);
+        buf[bufOffset + 10] = (byte) ((v5 << 4) | (v6 >>> 10));
+        buf[bufOffset + 11] = (byte) (v6 >>> 2);
+        buf[bufOffset + 12] = (byte) ((v6 << 6) | (v7 >>> 8));
+        buf[bufOffset + 13] = (byte) (v7);
+    }
+
+    private static void pack8Values15(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x7FFF;
+        int v1 = values[offset + 1] & 0x7FFF;
+        int v2 = values[offset + 2] & 0x7FFF;
+        int v3 = values[offset + 3] & 0x7FFF;
+        int v4 = values[offset + 4] & 0x7FFF;
+        int v5 = values[offset + 5] & 0x7FFF;
+        int v6 = values[offset + 6] & 0x7FFF;
+        int v7 = values[offset + 7] & 0x7FFF;
+        buf[bufOffset] = (byte) (v0 >>> 7);
+        buf[bufOffset + 1] = (byte) ((v0 << 1) | (v1 >>> 14));
+        buf[bufOffset + 2] = (byte) (v1 >>> 6);
+        buf[bufOffset + 3] = (byte) ((v1 << 2) | (v2 >>> 13));
+        buf[bufOffset + 4] = (byte) (v2 >>> 5);
+        buf[bufOffset + 5] = (byte) ((v2 << 3) | (v3 >>> 12));
+        buf[bufOffset + 6] = (byte) (v3 >>> 4);
+        buf[bufOffset + 7] = (byte) ((v3 << 4) | (v4 >>> 11));
+        buf[bufOffset + 8] = (byte) (v4 >>> 3);
+        buf[bufOffset + 9] = (byte) ((v4 << 5) | (v5 >>> 10));
+        buf[bufOffset + 10] = (byte) (v5 >>> 2);
+        buf[bufOffset + 11] = (byte) ((v5 << 6) | (v6 >>> 9));
+        buf[bufOffset + 12] = (byte) (v6 >>> 1);
+        buf[bufOffset + 13] = (byte) ((v6 << 7) | (v7 >>> 8));
+        buf[bufOffset + 14] = (byte) (v7);
+    }
+
+    private static void pack8Values16(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0xFFFF;
+        int v1 = values[offset + 1] & 0xFFFF;
+        int v2 = values[offset + 2] & 0xFFFF;
+        int v3 = values[offset + 3] & 0xFFFF;
+        int v4 = values[offset + 4] & 0xFFFF;
+        int v5 = values[offset + 5] & 0xFFFF;
+        int v6 = values[offset + 6] & 0xFFFF;
+        int v7 = values[offset + 7] & 0xFFFF;
+        buf[bufOffset] = (byte) (v0 >>> 8);
+        buf[bufOffset + 1] = (byte) (v0);
+        buf[bufOffset + 2] = (byte) (v1 >>> 8);
+        buf[bufOffset + 3] = (byte) (v1);
+        buf[bufOffset + 4] = (byte) (v2 >>> 8);
+        buf[bufOffset + 5] = (byte) (v2);
+        buf[bufOffset + 6] = (byte) (v3 >>> 8);
+        buf[bufOffset + 7] = (byte) (v3);
+        buf[bufOffset + 8] = (byte) (v4 >>> 8);
+        buf[bufOffset + 9] = (byte) (v4);
+        buf[bufOffset + 10] = (byte) (v5 >>> 8);
+        buf[bufOffset + 11] = (byte) (v5);
+        buf[bufOffset + 12] = (byte) (v6 >>> 8);
+        buf[bufOffset + 13] = (byte) (v6);
+        buf[bufOffset + 14] = (byte) (v7 >>> 8);
+        buf[bufOffset + 15] = (byte) (v7);
+    }
+
+    private static void pack8Values17(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x1FFFF;
+        int v1 = values[offset + 1] & 0x1FFFF;
+        int v2 = values[offset + 2] & 0x1FFFF;
+        int v3 = values[offset + 3] & 0x1FFFF;
+        int v4 = values[offset + 4] & 0x1FFFF;
+        int v5 = values[offset + 5] & 0x1FFFF;
+        int v6 = values[offset + 6] & 0x1FFFF;
+        int v7 = values[offset + 7] & 0x1FFFF;
+        buf[bufOffset] = (byte) (v0 >>> 9);
+        buf[bufOffset + 1] = (byte) (v0 >>> 1);
+        buf[bufOffset + 2] = (byte) ((v0 << 7) | (v1 >>> 10));
+        buf[bufOffset + 3] = (byte) (v1 >>> 2);
+        buf[bufOffset + 4] = (byte) ((v1 << 6) | (v2 >>> 11));
+        buf[bufOffset + 5] = (byte) (v2 >>> 3);
+        buf[bufOffset + 6] = (byte) ((v2 << 5) | (v3 >>> 12));
+        buf[bufOffset + 7] = (byte) (v3 >>> 4);
+        buf[bufOffset + 8] = (byte) ((v3 << 4) | (v4 >>> 13));
+        buf[bufOffset + 9] = (byte) (v4 >>> 5);
+        buf[bufOffset + 10] = (byte) ((v4 << 3) | (v5 >>> 14));
+        buf[bufOffset + 11] = (byte) (v5 >>> 6);
+        buf[bufOffset + 12] = (byte) ((v5 << 2) | (v6 >>> 15));
+        buf[bufOffset + 13] = (byte) (v6 >>> 7);
+        buf[bufOffset + 14] = (byte) ((v6 << 1) | (v7 >>> 16));
+        buf[bufOffset + 15] = (byte) (v7 >>> 8);
+        buf[bufOffset + 16] = (byte) (v7);
+    }
+
+    private static void pack8Values18(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x3FFFF;
+        int v1 = values[offset + 1] & 0x3FFFF;
+        int v2 = values[offset + 2] & 0x3FFFF;
+        int v3 = values[offset + 3] & 0x3FFFF;
+        int v4 = values[offset + 4] & 0x3FFFF;
+        int v5 = values[offset + 5] & 0x3FFFF;
+        int v6 = values[offset + 6] & 0x3FFFF;
+        int v7 = values[offset + 7] & 0x3FFFF;
+        buf[bufOffset] = (byte) (v0 >>> 10);
+        buf[bufOffset + 1] = (byte) (v0 >>> 2);
+        buf[bufOffset + 2] = (byte) ((v0 << 6) | (v1 >>> 12));
+        buf[bufOffset + 3] = (byte) (v1 >>> 4);
+        buf[bufOffset + 4] = (byte) ((v1 << 4) | (v2 >>> 14));
+        buf[bufOffset + 5] = (byte) (v2 >>> 6);
+        buf[bufOffset + 6] = (byte) ((v2 << 2) | (v3 >>> 16));
+        buf[bufOffset + 7] = (byte) (v3 >>> 8);
+        buf[bufOffset + 8] = (byte) (v3);
+        buf[bufOffset + 9] = (byte) (v4 >>> 10);
+        buf[bufOffset + 10] = (byte) (v4 >>> 2);
+        buf[bufOffset + 11] = (byte) ((v4 << 6) | (v5 >>> 12));
+        buf[bufOffset + 12] = (byte) (v5 >>> 4);
+        buf[bufOffset + 13] = (byte) ((v5 << 4) | (v6 >>> 14));
+        buf[bufOffset + 14] = (byte) (v6 >>> 6);
+        buf[bufOffset + 15] = (byte) ((v6 << 2) | (v7 >>> 16));
+        buf[bufOffset + 16] = (byte) (v7 >>> 8);
+        buf[bufOffset + 17] = (byte) (v7);
+    }
+
+    private static void pack8Values19(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x7FFFF;
+        int v1 = values[offset + 1] & 0x7FFFF;
+        int v2 = values[offset + 2] & 0x7FFFF;
+        int v3 = values[offset + 3] & 0x7FFFF;
+        int v4 = values[offset + 4] & 0x7FFFF;
+        int v5 = values[offset + 5] & 0x7FFFF;
+        int v6 = values[offset + 6] & 0x7FFFF;
+        int v7 = values[offset + 7] & 0x7FFFF;
+        buf[bufOffset] = (byte) (v0 >>> 11);
+        buf[bufOffset + 1] = (byte) (v0 >>> 3);
+        buf[bufOffset + 2] = (byte) ((v0 << 5) | (v1 >>> 14));
+        buf[bufOffset + 3] = (byte) (v1 >>> 6);
+        buf[bufOffset + 4] = (byte) ((v1 << 2) | (v2 >>> 17));
+        buf[bufOffset + 5] = (byte) (v2 >>> 9);
+        buf[bufOffset + 6] = (byte) (v2 >>> 1);
+        buf[bufOffset + 7] = (byte) ((v2 << 7) | (v3 >>> 12));
+        buf[bufOffset + 8] = (byte) (v3 >>> 4);
+        buf[bufOffset + 9] = (byte) ((v3 << 4) | (v4 >>> 15));
+        buf[bufOffset + 10] = (byte) (v4 >>> 7);
+        buf[bufOffset + 11] = (byte) ((v4 << 1) | (v5 >>> 18));
+        buf[bufOffset + 12] = (byte) (v5 >>> 10);
+        buf[bufOffset + 13] = (byte) (v5 >>> 2);
+        buf[bufOffset + 14] = (byte) ((v5 << 6) | (v6 >>> 13));
+        buf[bufOffset + 15] = (byte) (v6 >>> 5);
+        buf[bufOffset + 16] = (byte) ((v6 << 3) | (v7 >>> 16));
+        buf[bufOffset + 17] = (byte) (v7 >>> 8);
+        buf[bufOffset + 18] = (byte) (v7);
+    }
+
+    private static void pack8Values20(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0xFFFFF;
+        int v1 = values[offset + 1] & 0xFFFFF;
+        int v2 = values[offset + 2] & 0xFFFFF;
+        int v3 = values[offset + 3] & 0xFFFFF;
+        int v4 = values[offset + 4] & 0xFFFFF;
+        int v5 = values[offset + 5] & 0xFFFFF;
+        int v6 = values[offset + 6] & 0xFFFFF;
+        int v7 = values[offset + 7] & 0xFFFFF;
+        buf[bufOffset] = (byte) (v0 >>> 12);
+        buf[bufOffset + 1] = (byte) (v0 >>> 4);
+        buf[bufOffset + 2] = (byte) ((v0 << 4) | (v1 >>> 16));
+        buf[bufOffset + 3] = (byte) (v1 >>> 8);
+        buf[bufOffset + 4] = (byte) (v1);
+        buf[bufOffset + 5] = (byte) (v2 >>> 12);
+        buf[bufOffset + 6] = (byte) (v2 >>> 4);
+        buf[bufOffset + 7] = (byte) ((v2 << 4) | (v3 >>> 16));
+        buf[bufOffset + 8] = (byte) (v3 >>> 8);
+        buf[bufOffset + 9] = (byte) (v3);
+        buf[bufOffset + 10] = (byte) (v4 >>> 12);
+        buf[bufOffset + 11] = (byte) (v4 >>> 4);
+        buf[bufOffset + 12] = (byte) ((v4 << 4) | (v5 >>> 16));
+        buf[bufOffset + 13] = (byte) (v5 >>> 8);
+        buf[bufOffset + 14] = (byte) (v5);
+        buf[bufOffset + 15] = (byte) (v6 >>> 12);
+        buf[bufOffset + 16] = (byte) (v6 >>> 4);
+        buf[bufOffset + 17] = (byte) ((v6 << 4) | (v7 >>> 16));
+        buf[bufOffset + 18] = (byte) (v7 >>> 8);
+        buf[bufOffset + 19] = (byte) (v7);
+    }
+
+    private static void pack8Values21(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x1FFFFF;
+        int v1 = values[offset + 1] & 0x1FFFFF;
+        int v2 = values[offset + 2] & 0x1FFFFF;
+        int v3 = values[offset + 3] & 0x1FFFFF;
+        int v4 = values[offset + 4] & 0x1FFFFF;
+        int v5 = values[offset + 5] & 0x1FFFFF;
+        int v6 = values[offset + 6] & 0x1FFFFF;
+        int v7 = values[offset + 7] & 0x1FFFFF;
+        buf[bufOffset] = (byte) (v0 >>> 13);
+        buf[bufOffset + 1] = (byte) (v0 >>> 5);
+        buf[bufOffset + 2] = (byte) ((v0 << 3) | (v1 >>> 18));
+        buf[bufOffset + 3] = (byte) (v1 >>> 10);
+        buf[bufOffset + 4] = (byte) (v1 >>> 2);
+        buf[bufOffset + 5] = (byte) ((v1 << 6) | (v2 >>> 15));
+        buf[bufOffset + 6] = (byte) (v2 >>> 7);
+        buf[bufOffset + 7] = (byte) ((v2 << 1) | (v3 >>> 20));
+        buf[bufOffset + 8] = (byte) (v3 >>> 12);
+        buf[bufOffset + 9] = (byte) (v3 >>> 4);
+        buf[bufOffset + 10] = (byte) ((v3 << 4) | (v4 >>> 17));
+        buf[bufOffset + 11] = (byte) (v4 >>> 9);
+        buf[bufOffset + 12] = (byte) (v4 >>> 1);
+        buf[bufOffset + 13] = (byte) ((v4 << 7) | (v5 >>> 14));
+        buf[bufOffset + 14] = (byte) (v5 >>> 6);
+        buf[bufOffset + 15] = (byte) ((v5 << 2) | (v6 >>> 19));
+        buf[bufOffset + 16] = (byte) (v6 >>> 11);
+        buf[bufOffset + 17] = (byte) (v6 >>> 3);
+        buf[bufOffset + 18] = (byte) ((v6 << 5) | (v7 >>> 16));
+        buf[bufOffset + 19] = (byte) (v7 >>> 8);
+        buf[bufOffset + 20] = (byte) (v7);
+    }
+
+    private static void pack8Values22(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x3FFFFF;
+        int v1 = values[offset + 1] & 0x3FFFFF;
+        int v2 = values[offset + 2] & 0x3FFFFF;
+        int v3 = values[offset + 3] & 0x3FFFFF;
+        int v4 = values[offset + 4] & 0x3FFFFF;
+        int v5 = values[offset + 5] & 0x3FFFFF;
+        int v6 = values[offset + 6] & 0x3FFFFF;
+        int v7 = values[offset + 7] & 0x3FFFFF;
+        buf[bufOffset] = (byte) (v0 >>> 14);
+        buf[bufOffset + 1] = (byte) (v0 >>> 6);
+        buf[bufOffset + 2] = (byte) ((v0 << 2) | (v1 >>> 20));
+        buf[bufOffset + 3] = (byte) (v1 >>> 12);
+        buf[bufOffset + 4] = (byte) (v1 >>> 4);
+        buf[bufOffset + 5] = (byte) ((v1 << 4) | (v2 >>> 18));
+        buf[bufOffset + 6] = (byte) (v2 >>> 10);
+        buf[bufOffset + 7] = (byte) (v2 >>> 2);
+        buf[bufOffset + 8] = (byte) ((v2 << 6) | (v3 >>> 16));
+        buf[bufOffset + 9] = (byte) (v3 >>> 8);
+        buf[bufOffset + 10] = (byte) (v3);
+        buf[bufOffset + 11] = (byte) (v4 >>> 14);
+        buf[bufOffset + 12] = (byte) (v4 >>> 6);
+        buf[bufOffset + 13] = (byte) ((v4 << 2) | (v5 >>> 20));
+        buf[bufOffset + 14] = (byte) (v5 >>> 12);
+        buf[bufOffset + 15] = (byte) (v5 >>> 4);
+        buf[bufOffset + 16] = (byte) ((v5 << 4) | (v6 >>> 18));
+        buf[bufOffset + 17] = (byte) (v6 >>> 10);
+        buf[bufOffset + 18] = (byte) (v6 >>> 2);
+        buf[bufOffset + 19] = (byte) ((v6 << 6) | (v7 >>> 16));
+        buf[bufOffset + 20] = (byte) (v7 >>> 8);
+        buf[bufOffset + 21] = (byte) (v7);
+    }
+
+    private static void pack8Values23(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x7FFFFF;
+        int v1 = values[offset + 1] & 0x7FFFFF;
+        int v2 = values[offset + 2] & 0x7FFFFF;
+        int v3 = values[offset + 3] & 0x7FFFFF;
+        int v4 = values[offset + 4] & 0x7FFFFF;
+        int v5 = values[offset + 5] & 0x7FFFFF;
+        int v6 = values[offset + 6] & 0x7FFFFF;
+        int v7 = values[offset + 7] & 0x7FFFFF;
+        buf[bufOffset] = (byte) (v0 >>> 15);
+        buf[bufOffset + 1] = (byte) (v0 >>> 7);
+        buf[bufOffset + 2] = (byte) ((v0 << 1) | (v1 >>> 22));
+        buf[bufOffset + 3] = (byte) (v1 >>> 14);
+        buf[bufOffset + 4] = (byte) (v1 >>> 6);
+        buf[bufOffset + 5] = (byte) ((v1 << 2) | (v2 >>> 21));
+        buf[bufOffset + 6] = (byte) (v2 >>> 13);
+        buf[bufOffset + 7] = (byte) (v2 >>> 5);
+        buf[bufOffset + 8] = (byte) ((v2 << 3) | (v3 >>> 20));
+        buf[bufOffset + 9] = (byte) (v3 >>> 12);
+        buf[bufOffset + 10] = (byte) (v3 >>> 4);
+        buf[bufOffset + 11] = (byte) ((v3 << 4) | (v4 >>> 19));
+        buf[bufOffset + 12] = (byte) (v4 >>> 11);
+        buf[bufOffset + 13] = (byte) (v4 >>> 3);
+        buf[bufOffset + 14] = (byte) ((v4 << 5) | (v5 >>> 18));
+        buf[bufOffset + 15] = (byte) (v5 >>> 10);
+        buf[bufOffset + 16] = (byte) (v5 >>> 2);
+        buf[bufOffset + 17] = (byte) ((v5 << 6) | (v6 >>> 17));
+        buf[bufOffset + 18] = (byte) (v6 >>> 9);
+        buf[bufOffset + 19] = (byte) (v6 >>> 1);
+        buf[bufOffset + 20] = (byte) ((v6 << 7) | (v7 >>> 16));
+        buf[bufOffset + 21] = (byte) (v7 >>> 8);
+        buf[bufOffset + 22] = (byte) (v7);
+    }
+
+    private static void pack8Values24(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0xFFFFFF;
+        int v1 = values[offset + 1] & 0xFFFFFF;
+        int v2 = values[offset + 2] & 0xFFFFFF;
+        int v3 = values[offset + 3] & 0xFFFFFF;
+        int v4 = values[offset + 4] & 0xFFFFFF;
+        int v5 = values[offset + 5] & 0xFFFFFF;
+        int v6 = values[offset + 6] & 0xFFFFFF;
+        int v7 = values[offset + 7] & 0xFFFFFF;
+        buf[bufOffset] = (byte) (v0 >>> 16);
+        buf[bufOffset + 1] = (byte) (v0 >>> 8);
+        buf[bufOffset + 2] = (byte) (v0);
+        buf[bufOffset + 3] = (byte) (v1 >>> 16);
+        buf[bufOffset + 4] = (byte) (v1 >>> 8);
+        buf[bufOffset + 5] = (byte) (v1);
+        buf[bufOffset + 6] = (byte) (v2 >>> 16);
+        buf[bufOffset + 7] = (byte) (v2 >>> 8);
+        buf[bufOffset + 8] = (byte) (v2);
+        buf[bufOffset + 9] = (byte) (v3 >>> 16);
+        buf[bufOffset + 10] = (byte) (v3 >>> 8);
+        buf[bufOffset + 11] = (byte) (v3);
+        buf[bufOffset + 12] = (byte) (v4 >>> 16);
+        buf[bufOffset + 13] = (byte) (v4 >>> 8);
+        buf[bufOffset + 14] = (byte) (v4);
+        buf[bufOffset + 15] = (byte) (v5 >>> 16);
+        buf[bufOffset + 16] = (byte) (v5 >>> 8);
+        buf[bufOffset + 17] = (byte) (v5);
+        buf[bufOffset + 18] = (byte) (v6 >>> 16);
+        buf[bufOffset + 19] = (byte) (v6 >>> 8);
+        buf[bufOffset + 20] = (byte) (v6);
+        buf[bufOffset + 21] = (byte) (v7 >>> 16);
+        buf[bufOffset + 22] = (byte) (v7 >>> 8);
+        buf[bufOffset + 23] = (byte) (v7);
+    }
+
+    private static void pack8Values25(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x1FFFFFF;
+        int v1 = values[offset + 1] & 0x1FFFFFF;
+        int v2 = values[offset + 2] & 0x1FFFFFF;
+        int v3 = values[offset + 3] & 0x1FFFFFF;
+        int v4 = values[offset + 4] & 0x1FFFFFF;
+        int v5 = values[offset + 5] & 0x1FFFFFF;
+        int v6 = values[offset + 6] & 0x1FFFFFF;
+        int v7 = values[offset + 7] & 0x1FFFFFF;
+        buf[bufOffset] = (byte) (v0 >>> 17);
+        buf[bufOffset + 1] = (byte) (v0 >>> 9);
+        buf[bufOffset + 2] = (byte) (v0 >>> 1);
+        buf[bufOffset + 3] = (byte) ((v0 << 7) | (v1 >>> 18));
+        buf[bufOffset + 4] = (byte) (v1 >>> 10);
+        buf[bufOffset + 5] = (byte) (v1 >>> 2);
+        buf[bufOffset + 6] = (byte) ((v1 << 6) | (v2 >>> 19));
+        buf[bufOffset + 7] = (byte) (v2 >>> 11);
+        buf[bufOffset + 8] = (byte) (v2 >>> 3);
+        buf[bufOffset + 9] = (byte) ((v2 << 5) | (v3 >>> 20));
+        buf[bufOffset + 10] = (byte) (v3 >>> 12);
+        buf[bufOffset + 11] = (byte) (v3 >>> 4);
+        buf[bufOffset + 12] = (byte) ((v3 << 4) | (v4 >>> 21));
+        buf[bufOffset + 13] = (byte) (v4 >>> 13);
+        buf[bufOffset + 14] = (byte) (v4 >>> 5);
+        buf[bufOffset + 15] = (byte) ((v4 << 3) | (v5 >>> 22));
+        buf[bufOffset + 16] = (byte) (v5 >>> 14);
+        buf[bufOffset + 17] = (byte) (v5 >>> 6);
+        buf[bufOffset + 18] = (byte) ((v5 << 2) | (v6 >>> 23));
+        buf[bufOffset + 19] = (byte) (v6 >>> 15);
+        buf[bufOffset + 20] = (byte) (v6 >>> 7);
+        buf[bufOffset + 21] = (byte) ((v6 << 1) | (v7 >>> 24));
+        buf[bufOffset + 22] = (byte) (v7 >>> 16);
+        buf[bufOffset + 23] = (byte) (v7 >>> 8);
+        buf[bufOffset + 24] = (byte) (v7);
+    }
+
+    private static void pack8Values26(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x3FFFFFF;
+        int v1 = values[offset + 1] & 0x3FFFFFF;
+        int v2 = values[offset + 2] & 0x3FFFFFF;
+        int v3 = values[offset + 3] & 0x3FFFFFF;
+        int v4 = values[offset + 4] & 0x3FFFFFF;
+        int v5 = values[offset + 5] & 0x3FFFFFF;
+        int v6 = values[offset + 6] & 0x3FFFFFF;
+        int v7 = values[offset + 7] & 0x3FFFFFF;
+        buf[bufOffset] = (byte) (v0 >>> 18);
+        buf[bufOffset + 1] = (byte) (v0 >>> 10);
+        buf[bufOffset + 2] = (byte) (v0 >>> 2);
+        buf[bufOffset + 3] = (byte) ((v0 << 6) | (v1 >>> 20));
+        buf[bufOffset + 4] = (byte) (v1 >>> 12);
+        buf[bufOffset + 5] = (byte) (v1 >>> 4);
+        buf[bufOffset + 6] = (byte) ((v1 << 4) | (v2 >>> 22));
+        buf[bufOffset + 7] = (byte) (v2 >>> 14);
+        buf[bufOffset + 8] = (byte) (v2 >>> 6);
+        buf[bufOffset + 9] = (byte) ((v2 << 2) | (v3 >>> 24));
+        buf[bufOffset + 10] = (byte) (v3 >>> 16);
+        buf[bufOffset + 11] = (byte) (v3 >>> 8);
+        buf[bufOffset + 12] = (byte) (v3);
+        buf[bufOffset + 13] = (byte) (v4 >>> 18);
+        buf[bufOffset + 14] = (byte) (v4 >>> 10);
+        buf[bufOffset + 15] = (byte) (v4 >>> 2);
+        buf[bufOffset + 16] = (byte) ((v4 << 6) | (v5 >>> 20));
+        buf[bufOffset + 17] = (byte) (v5 >>> 12);
+        buf[bufOffset + 18] = (byte) (v5 >>> 4);
+        buf[bufOffset + 19] = (byte) ((v5 << 4) | (v6 >>> 22));
+        buf[bufOffset + 20] = (byte) (v6 >>> 14);
+        buf[bufOffset + 21] = (byte) (v6 >>> 6);
+        buf[bufOffset + 22] = (byte) ((v6 << 2) | (v7 >>> 24));
+        buf[bufOffset + 23] = (byte) (v7 >>> 16);
+        buf[bufOffset + 24] = (byte) (v7 >>> 8);
+        buf[bufOffset + 25] = (byte) (v7);
+    }
+
+    private static void pack8Values27(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x7FFFFFF;
+        int v1 = values[offset + 1] & 0x7FFFFFF;
+        int v2 = values[offset + 2] & 0x7FFFFFF;
+        int v3 = values[offset + 3] & 0x7FFFFFF;
+        int v4 = values[offset + 4] & 0x7FFFFFF;
+        int v5 = values[offset + 5] & 0x7FFFFFF;
+        int v6 = values[offset + 6] & 0x7FFFFFF;
+        int v7 = values[offset + 7] & 0x7FFFFFF;
+        buf[bufOffset] = (byte) (v0 >>> 19);
+        buf[bufOffset + 1] = (byte) (v0 >>> 11);
+        buf[bufOffset + 2] = (byte) (v0 >>> 3);
+        buf[bufOffset + 3] = (byte) ((v0 << 5) | (v1 >>> 22));
+        buf[bufOffset + 4] = (byte) (v1 >>> 14);
+        buf[bufOffset + 5] = (byte) (v1 >>> 6);
+        buf[bufOffset + 6] = (byte) ((v1 << 2) | (v2 >>> 25));
+        buf[bufOffset + 7] = (byte) (v2 >>> 17);
+        buf[bufOffset + 8] = (byte) (v2 >>> 9);
+        buf[bufOffset + 9] = (byte) (v2 >>> 1);
+        buf[bufOffset + 10] = (byte) ((v2 << 7) | (v3 >>> 20));
+        buf[bufOffset + 11] = (byte) (v3 >>> 12);
+        buf[bufOffset + 12] = (byte) (v3 >>> 4);
+        buf[bufOffset + 13] = (byte) ((v3 << 4) | (v4 >>> 23));
+        buf[bufOffset + 14] = (byte) (v4 >>> 15);
+        buf[bufOffset + 15] = (byte) (v4 >>> 7);
+        buf[bufOffset + 16] = (byte) ((v4 << 1) | (v5 >>> 26));
+        buf[bufOffset + 17] = (byte) (v5 >>> 18);
+        buf[bufOffset + 18] = (byte) (v5 >>> 10);
+        buf[bufOffset + 19] = (byte) (v5 >>> 2);
+        buf[bufOffset + 20] = (byte) ((v5 << 6) | (v6 >>> 21));
+        buf[bufOffset + 21] = (byte) (v6 >>> 13);
+        buf[bufOffset + 22] = (byte) (v6 >>> 5);
+        buf[bufOffset + 23] = (byte) ((v6 << 3) | (v7 >>> 24));
+        buf[bufOffset + 24] = (byte) (v7 >>> 16);
+        buf[bufOffset + 25] = (byte) (v7 >>> 8);
+        buf[bufOffset + 26] = (byte) (v7);
+    }
+
+    private static void pack8Values28(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0xFFFFFFF;
+        int v1 = values[offset + 1] & 0xFFFFFFF;
+        int v2 = values[offset + 2] & 0xFFFFFFF;
+        int v3 = values[offset + 3] & 0xFFFFFFF;
+        int v4 = values[offset + 4] & 0xFFFFFFF;
+        int v5 = values[offset + 5] & 0xFFFFFFF;
+        int v6 = values[offset + 6] & 0xFFFFFFF;
+        int v7 = values[offset + 7] & 0xFFFFFFF;
+        buf[bufOffset] = (byte) (v0 >>> 20);
+        buf[bufOffset + 1] = (byte) (v0 >>> 12);
+        buf[bufOffset + 2] = (byte) (v0 >>> 4);
+        buf[bufOffset + 3] = (byte) ((v0 << 4) | (v1 >>> 24));
+        buf[bufOffset + 4] = (byte) (v1 >>> 16);
+        buf[bufOffset + 5] = (byte) (v1 >>> 8);
+        buf[bufOffset + 6] = (byte) (v1);
+        buf[bufOffset + 7] = (byte) (v2 >>> 20);
+        buf[bufOffset + 8] = (byte) (v2 >>> 12);
+        buf[bufOffset + 9] = (byte) (v2 >>> 4);
+        buf[bufOffset + 10] = (byte) ((v2 << 4) | (v3 >>> 24));
+        buf[bufOffset + 11] = (byte) (v3 >>> 16);
+        buf[bufOffset + 12] = (byte) (v3 >>> 8);
+        buf[bufOffset + 13] = (byte) (v3);
+        buf[bufOffset + 14] = (byte) (v4 >>> 20);
+        buf[bufOffset + 15] = (byte) (v4 >>> 12);
+        buf[bufOffset + 16] = (byte) (v4 >>> 4);
+        buf[bufOffset + 17] = (byte) ((v4 << 4) | (v5 >>> 24));
+        buf[bufOffset + 18] = (byte) (v5 >>> 16);
+        buf[bufOffset + 19] = (byte) (v5 >>> 8);
+        buf[bufOffset + 20] = (byte) (v5);
+        buf[bufOffset + 21] = (byte) (v6 >>> 20);
+        buf[bufOffset + 22] = (byte) (v6 >>> 12);
+        buf[bufOffset + 23] = (byte) (v6 >>> 4);
+        buf[bufOffset + 24] = (byte) ((v6 << 4) | (v7 >>> 24));
+        buf[bufOffset + 25] = (byte) (v7 >>> 16);
+        buf[bufOffset + 26] = (byte) (v7 >>> 8);
+        buf[bufOffset + 27] = (byte) (v7);
+    }
+
+    private static void pack8Values29(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x1FFFFFFF;
+        int v1 = values[offset + 1] & 0x1FFFFFFF;
+        int v2 = values[offset + 2] & 0x1FFFFFFF;
+        int v3 = values[offset + 3] & 0x1FFFFFFF;
+        int v4 = values[offset + 4] & 0x1FFFFFFF;
+        int v5 = values[offset + 5] & 0x1FFFFFFF;
+        int v6 = values[offset + 6] & 0x1FFFFFFF;
+        int v7 = values[offset + 7] & 0x1FFFFFFF;
+        buf[bufOffset] = (byte) (v0 >>> 21);
+        buf[bufOffset + 1] = (byte) (v0 >>> 13);
+        buf[bufOffset + 2] = (byte) (v0 >>> 5);
+        buf[bufOffset + 3] = (byte) ((v0 << 3) | (v1 >>> 26));
+        buf[bufOffset + 4] = (byte) (v1 >>> 18);
+        buf[bufOffset + 5] = (byte) (v1 >>> 10);
+        buf[bufOffset + 6] = (byte) (v1 >>> 2);
+        buf[bufOffset + 7] = (byte) ((v1 << 6) | (v2 >>> 23));
+        buf[bufOffset + 8] = (byte) (v2 >>> 15);
+        buf[bufOffset + 9] = (byte) (v2 >>> 7);
+        buf[bufOffset + 10] = (byte) ((v2 << 1) | (v3 >>> 28));
+        buf[bufOffset + 11] = (byte) (v3 >>> 20);
+        buf[bufOffset + 12] = (byte) (v3 >>> 12);
+        buf[bufOffset + 13] = (byte) (v3 >>> 4);
+        buf[bufOffset + 14] = (byte) ((v3 << 4) | (v4 >>> 25));
+        buf[bufOffset + 15] = (byte) (v4 >>> 17);
+        buf[bufOffset + 16] = (byte) (v4 >>> 9);
+        buf[bufOffset + 17] = (byte) (v4 >>> 1);
+        buf[bufOffset + 18] = (byte) ((v4 << 7) | (v5 >>> 22));
+        buf[bufOffset + 19] = (byte) (v5 >>> 14);
+        buf[bufOffset + 20] = (byte) (v5 >>> 6);
+        buf[bufOffset + 21] = (byte) ((v5 << 2) | (v6 >>> 27));
+        buf[bufOffset + 22] = (byte) (v6 >>> 19);
+        buf[bufOffset + 23] = (byte) (v6 >>> 11);
+        buf[bufOffset + 24] = (byte) (v6 >>> 3);
+        buf[bufOffset + 25] = (byte) ((v6 << 5) | (v7 >>> 24));
+        buf[bufOffset + 26] = (byte) (v7 >>> 16);
+        buf[bufOffset + 27] = (byte) (v7 >>> 8);
+        buf[bufOffset + 28] = (byte) (v7);
+    }
+
+    private static void pack8Values30(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x3FFFFFFF;
+        int v1 = values[offset + 1] & 0x3FFFFFFF;
+        int v2 = values[offset + 2] & 0x3FFFFFFF;
+        int v3 = values[offset + 3] & 0x3FFFFFFF;
+        int v4 = values[offset + 4] & 0x3FFFFFFF;
+        int v5 = values[offset + 5] & 0x3FFFFFFF;
+        int v6 = values[offset + 6] & 0x3FFFFFFF;
+        int v7 = values[offset + 7] & 0x3FFFFFFF;
+        buf[bufOffset] = (byte) (v0 >>> 22);
+        buf[bufOffset + 1] = (byte) (v0 >>> 14);
+        buf[bufOffset + 2] = (byte) (v0 >>> 6);
+        buf[bufOffset + 3] = (byte) ((v0 << 2) | (v1 >>> 28));
+        buf[bufOffset + 4] = (byte) (v1 >>> 20);
+        buf[bufOffset + 5] = (byte) (v1 >>> 12);
+        buf[bufOffset + 6] = (byte) (v1 >>> 4);
+        buf[bufOffset + 7] = (byte) ((v1 << 4) | (v2 >>> 26));
+        buf[bufOffset + 8] = (byte) (v2 >>> 18);
+        buf[bufOffset + 9] = (byte) (v2 >>> 10);
+        buf[bufOffset + 10] = (byte) (v2 >>> 2);
+        buf[bufOffset + 11] = (byte) ((v2 << 6) | (v3 >>> 24));
+        buf[bufOffset + 12] = (byte) (v3 >>> 16);
+        buf[bufOffset + 13] = (byte) (v3 >>> 8);
+        buf[bufOffset + 14] = (byte) (v3);
+        buf[bufOffset + 15] = (byte) (v4 >>> 22);
+        buf[bufOffset + 16] = (byte) (v4 >>> 14);
+        buf[bufOffset + 17] = (byte) (v4 >>> 6);
+        buf[bufOffset + 18] = (byte) ((v4 << 2) | (v5 >>> 28));
+        buf[bufOffset + 19] = (byte) (v5 >>> 20);
+        buf[bufOffset + 20] = (byte) (v5 >>> 12);
+        buf[bufOffset + 21] = (byte) (v5 >>> 4);
+        buf[bufOffset + 22] = (byte) ((v5 << 4) | (v6 >>> 26));
+        buf[bufOffset + 23] = (byte) (v6 >>> 18);
+        buf[bufOffset + 24] = (byte) (v6 >>> 10);
+        buf[bufOffset + 25] = (byte) (v6 >>> 2);
+        buf[bufOffset + 26] = (byte) ((v6 << 6) | (v7 >>> 24));
+        buf[bufOffset + 27] = (byte) (v7 >>> 16);
+        buf[bufOffset + 28] = (byte) (v7 >>> 8);
+        buf[bufOffset + 29] = (byte) (v7);
+    }
+
+    private static void pack8Values31(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset] & 0x7FFFFFFF;
+        int v1 = values[offset + 1] & 0x7FFFFFFF;
+        int v2 = values[offset + 2] & 0x7FFFFFFF;
+        int v3 = values[offset + 3] & 0x7FFFFFFF;
+        int v4 = values[offset + 4] & 0x7FFFFFFF;
+        int v5 = values[offset + 5] & 0x7FFFFFFF;
+        int v6 = values[offset + 6] & 0x7FFFFFFF;
+        int v7 = values[offset + 7] & 0x7FFFFFFF;
+        buf[bufOffset] = (byte) (v0 >>> 23);
+        buf[bufOffset + 1] = (byte) (v0 >>> 15);
+        buf[bufOffset + 2] = (byte) (v0 >>> 7);
+        buf[bufOffset + 3] = (byte) ((v0 << 1) | (v1 >>> 30));
+        buf[bufOffset + 4] = (byte) (v1 >>> 22);
+        buf[bufOffset + 5] = (byte) (v1 >>> 14);
+        buf[bufOffset + 6] = (byte) (v1 >>> 6);
+        buf[bufOffset + 7] = (byte) ((v1 << 2) | (v2 >>> 29));
+        buf[bufOffset + 8] = (byte) (v2 >>> 21);
+        buf[bufOffset + 9] = (byte) (v2 >>> 13);
+        buf[bufOffset + 10] = (byte) (v2 >>> 5);
+        buf[bufOffset + 11] = (byte) ((v2 << 3) | (v3 >>> 28));
+        buf[bufOffset + 12] = (byte) (v3 >>> 20);
+        buf[bufOffset + 13] = (byte) (v3 >>> 12);
+        buf[bufOffset + 14] = (byte) (v3 >>> 4);
+        buf[bufOffset + 15] = (byte) ((v3 << 4) | (v4 >>> 27));
+        buf[bufOffset + 16] = (byte) (v4 >>> 19);
+        buf[bufOffset + 17] = (byte) (v4 >>> 11);
+        buf[bufOffset + 18] = (byte) (v4 >>> 3);
+        buf[bufOffset + 19] = (byte) ((v4 << 5) | (v5 >>> 26));
+        buf[bufOffset + 20] = (byte) (v5 >>> 18);
+        buf[bufOffset + 21] = (byte) (v5 >>> 10);
+        buf[bufOffset + 22] = (byte) (v5 >>> 2);
+        buf[bufOffset + 23] = (byte) ((v5 << 6) | (v6 >>> 25));
+        buf[bufOffset + 24] = (byte) (v6 >>> 17);
+        buf[bufOffset + 25] = (byte) (v6 >>> 9);
+        buf[bufOffset + 26] = (byte) (v6 >>> 1);
+        buf[bufOffset + 27] = (byte) ((v6 << 7) | (v7 >>> 24));
+        buf[bufOffset + 28] = (byte) (v7 >>> 16);
+        buf[bufOffset + 29] = (byte) (v7 >>> 8);
+        buf[bufOffset + 30] = (byte) (v7);
+    }
+
+    private static void pack8Values32(int[] values, int offset, byte[] buf, int bufOffset) {
+        int v0 = values[offset];
+        int v1 = values[offset + 1];
+        int v2 = values[offset + 2];
+        int v3 = values[offset + 3];
+        int v4 = values[offset + 4];
+        int v5 = values[offset + 5];
+        int v6 = values[offset + 6];
+        int v7 = values[offset + 7];
+        buf[bufOffset] = (byte) (v0 >>> 24);
+        buf[bufOffset + 1] = (byte) (v0 >>> 16);
+        buf[bufOffset + 2] = (byte) (v0 >>> 8);
+        buf[bufOffset + 3] = (byte) (v0);
+        buf[bufOffset + 4] = (byte) (v1 >>> 24);
+        buf[bufOffset + 5] = (byte) (v1 >>> 16);
+        buf[bufOffset + 6] = (byte) (v1 >>> 8);
+        buf[bufOffset + 7] = (byte) (v1);
+        buf[bufOffset + 8] = (byte) (v2 >>> 24);
+        buf[bufOffset + 9] = (byte) (v2 >>> 16);
+        buf[bufOffset + 10] = (byte) (v2 >>> 8);
+        buf[bufOffset + 11] = (byte) (v2);
+        buf[bufOffset + 12] = (byte) (v3 >>> 24);
+        buf[bufOffset + 13] = (byte) (v3 >>> 16);
+        buf[bufOffset + 14] = (byte) (v3 >>> 8);
+        buf[bufOffset + 15] = (byte) (v3);
+        buf[bufOffset + 16] = (byte) (v4 >>> 24);
+        buf[bufOffset + 17] = (byte) (v4 >>> 16);
+        buf[bufOffset + 18] = (byte) (v4 >>> 8);
+        buf[bufOffset + 19] = (byte) (v4);
+        buf[bufOffset + 20] = (byte) (v5 >>> 24);
+        buf[bufOffset + 21] = (byte) (v5 >>> 16);
+        buf[bufOffset + 22] = (byte) (v5 >>> 8);
+        buf[bufOffset + 23] = (byte) (v5);
+        buf[bufOffset + 24] = (byte) (v6 >>> 24);
+        buf[bufOffset + 25] = (byte) (v6 >>> 16);
+        buf[bufOffset + 26] = (byte) (v6 >>> 8);
+        buf[bufOffset + 27] = (byte) (v6);
+        buf[bufOffset + 28] = (byte) (v7 >>> 24);
+        buf[bufOffset + 29] = (byte) (v7 >>> 16);
+        buf[bufOffset + 30] = (byte) (v7 >>> 8);
+        buf[bufOffset + 31] = (byte) (v7);
+    }
+
+    private static void unpack32Values1(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        values[valuesOffset] = w0 >>> 31;
+        values[valuesOffset + 1] = (w0 >>> 30) & 0x1;
+        values[valuesOffset + 2] = (w0 >>> 29) & 0x1;
+        values[valuesOffset + 3] = (w0 >>> 28) & 0x1;
+        values[valuesOffset + 4] = (w0 >>> 27) & 0x1;
+        values[valuesOffset + 5] = (w0 >>> 26) & 0x1;
+        values[valuesOffset + 6] = (w0 >>> 25) & 0x1;
+        values[valuesOffset + 7] = (w0 >>> 24) & 0x1;
+        values[valuesOffset + 8] = (w0 >>> 23) & 0x1;
+        values[valuesOffset + 9] = (w0 >>> 22) & 0x1;
+        values[valuesOffset + 10] = (w0 >>> 21) & 0x1;
+        values[valuesOffset + 11] = (w0 >>> 20) & 0x1;
+        values[valuesOffset + 12] = (w0 >>> 19) & 0x1;
+        values[valuesOffset + 13] = (w0 >>> 18) & 0x1;
+        values[valuesOffset + 14] = (w0 >>> 17) & 0x1;
+        values[valuesOffset + 15] = (w0 >>> 16) & 0x1;
+        values[valuesOffset + 16] = (w0 >>> 15) & 0x1;
+        values[valuesOffset + 17] = (w0 >>> 14) & 0x1;
+        values[valuesOffset + 18] = (w0 >>> 13) & 0x1;
+        values[valuesOffset + 19] = (w0 >>> 12) & 0x1;
+        values[valuesOffset + 20] = (w0 >>> 11) & 0x1;
+        values[valuesOffset + 21] = (w0 >>> 10) & 0x1;
+        values[valuesOffset + 22] = (w0 >>> 9) & 0x1;
+        values[valuesOffset + 23] = (w0 >>> 8) & 0x1;
+        values[valuesOffset + 24] = (w0 >>> 7) & 0x1;
+        values[valuesOffset + 25] = (w0 >>> 6) & 0x1;
+        values[valuesOffset + 26] = (w0 >>> 5) & 0x1;
+        values[valuesOffset + 27] = (w0 >>> 4) & 0x1;
+        values[valuesOffset + 28] = (w0 >>> 3) & 0x1;
+        values[valuesOffset + 29] = (w0 >>> 2) & 0x1;
+        values[valuesOffset + 30] = (w0 >>> 1) & 0x1;
+        values[valuesOffset + 31] = (w0) & 0x1;
+    }
+
+    private static void unpack32Values2(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        values[valuesOffset] = w0 >>> 30;
+        values[valuesOffset + 1] = (w0 >>> 28) & 0x3;
+        values[valuesOffset + 2] = (w0 >>> 26) & 0x3;
+        values[valuesOffset + 3] = (w0 >>> 24) & 0x3;
+        values[valuesOffset + 4] = (w0 >>> 22) & 0x3;
+        values[valuesOffset + 5] = (w0 >>> 20) & 0x3;
+        values[valuesOffset + 6] = (w0 >>> 18) & 0x3;
+        values[valuesOffset + 7] = (w0 >>> 16) & 0x3;
+        values[valuesOffset + 8] = (w0 >>> 14) & 0x3;
+        values[valuesOffset + 9] = (w0 >>> 12) & 0x3;
+        values[valuesOffset + 10] = (w0 >>> 10) & 0x3;
+        values[valuesOffset + 11] = (w0 >>> 8) & 0x3;
+        values[valuesOffset + 12] = (w0 >>> 6) & 0x3;
+        values[valuesOffset + 13] = (w0 >>> 4) & 0x3;
+        values[valuesOffset + 14] = (w0 >>> 2) & 0x3;
+        values[valuesOffset + 15] = (w0) & 0x3;
+        values[valuesOffset + 16] = w1 >>> 30;
+        values[valuesOffset + 17] = (w1 >>> 28) & 0x3;
+        values[valuesOffset + 18] = (w1 >>> 26) & 0x3;
+        values[valuesOffset + 19] = (w1 >>> 24) & 0x3;
+        values[valuesOffset + 20] = (w1 >>> 22) & 0x3;
+        values[valuesOffset + 21] = (w1 >>> 20) & 0x3;
+        values[valuesOffset + 22] = (w1 >>> 18) & 0x3;
+        values[valuesOffset + 23] = (w1 >>> 16) & 0x3;
+        values[valuesOffset + 24] = (w1 >>> 14) & 0x3;
+        values[valuesOffset + 25] = (w1 >>> 12) & 0x3;
+        values[valuesOffset + 26] = (w1 >>> 10) & 0x3;
+        values[valuesOffset + 27] = (w1 >>> 8) & 0x3;
+        values[valuesOffset + 28] = (w1 >>> 6) & 0x3;
+        values[valuesOffset + 29] = (w1 >>> 4) & 0x3;
+        values[valuesOffset + 30] = (w1 >>> 2) & 0x3;
+        values[valuesOffset + 31] = (w1) & 0x3;
+    }
+
+    private static void unpack32Values3(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        values[valuesOffset] = w0 >>> 29;
+        values[valuesOffset + 1] = (w0 >>> 26) & 0x7;
+        values[valuesOffset + 2] = (w0 >>> 23) & 0x7;
+        values[valuesOffset + 3] = (w0 >>> 20) & 0x7;
+        values[valuesOffset + 4] = (w0 >>> 17) & 0x7;
+        values[valuesOffset + 5] = (w0 >>> 14) & 0x7;
+        values[valuesOffset + 6] = (w0 >>> 11) & 0x7;
+        values[valuesOffset + 7] = (w0 >>> 8) & 0x7;
+        values[valuesOffset + 8] = (w0 >>> 5) & 0x7;
+        values[valuesOffset + 9] = (w0 >>> 2) & 0x7;
+        values[valuesOffset + 10] = ((w0 << 1) | (w1 >>> 31)) & 0x7;
+        values[valuesOffset + 11] = (w1 >>> 28) & 0x7;
+        values[valuesOffset + 12] = (w1 >>> 25) & 0x7;
+        values[valuesOffset + 13] = (w1 >>> 22) & 0x7;
+        values[valuesOffset + 14] = (w1 >>> 19) & 0x7;
+        values[valuesOffset + 15] = (w1 >>> 16) & 0x7;
+        values[valuesOffset + 16] = (w1 >>> 13) & 0x7;
+        values[valuesOffset + 17] = (w1 >>> 10) & 0x7;
+        values[valuesOffset + 18] = (w1 >>> 7) & 0x7;
+        values[valuesOffset + 19] = (w1 >>> 4) & 0x7;
+        values[valuesOffset + 20] = (w1 >>> 1) & 0x7;
+        values[valuesOffset + 21] = ((w1 << 2) | (w2 >>> 30)) & 0x7;
+        values[valuesOffset + 22] = (w2 >>> 27) & 0x7;
+        values[valuesOffset + 23] = (w2 >>> 24) & 0x7;
+        values[valuesOffset + 24] = (w2 >>> 21) & 0x7;
+        values[valuesOffset + 25] = (w2 >>> 18) & 0x7;
+        values[valuesOffset + 26] = (w2 >>> 15) & 0x7;
+        values[valuesOffset + 27] = (w2 >>> 12) & 0x7;
+        values[valuesOffset + 28] = (w2 >>> 9) & 0x7;
+        values[valuesOffset + 29] = (w2 >>> 6) & 0x7;
+        values[valuesOffset + 30] = (w2 >>> 3) & 0x7;
+        values[valuesOffset + 31] = (w2) & 0x7;
+    }
+
+    private static void unpack32Values4(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        values[valuesOffset] = w0 >>> 28;
+        values[valuesOffset + 1] = (w0 >>> 24) & 0xF;
+        values[valuesOffset + 2] = (w0 >>> 20) & 0xF;
+        values[valuesOffset + 3] = (w0 >>> 16) & 0xF;
+        values[valuesOffset + 4] = (w0 >>> 12) & 0xF;
+        values[valuesOffset + 5] = (w0 >>> 8) & 0xF;
+        values[valuesOffset + 6] = (w0 >>> 4) & 0xF;
+        values[valuesOffset + 7] = (w0) & 0xF;
+        values[valuesOffset + 8] = w1 >>> 28;
+        values[valuesOffset + 9] = (w1 >>> 24) & 0xF;
+        values[valuesOffset + 10] = (w1 >>> 20) & 0xF;
+        values[valuesOffset + 11] = (w1 >>> 16) & 0xF;
+        values[valuesOffset + 12] = (w1 >>> 12) & 0xF;
+        values[valuesOffset + 13] = (w1 >>> 8) & 0xF;
+        values[valuesOffset + 14] = (w1 >>> 4) & 0xF;
+        values[valuesOffset + 15] = (w1) & 0xF;
+        values[valuesOffset + 16] = w2 >>> 28;
+        values[valuesOffset + 17] = (w2 >>> 24) & 0xF;
+        values[valuesOffset + 18] = (w2 >>> 20) & 0xF;
+        values[valuesOffset + 19] = (w2 >>> 16) & 0xF;
+        values[valuesOffset + 20] = (w2 >>> 12) & 0xF;
+        values[valuesOffset + 21] = (w2 >>> 8) & 0xF;
+        values[valuesOffset + 22] = (w2 >>> 4) & 0xF;
+        values[valuesOffset + 23] = (w2) & 0xF;
+        values[valuesOffset + 24] = w3 >>> 28;
+        values[valuesOffset + 25] = (w3 >>> 24) & 0xF;
+        values[valuesOffset + 26] = (w3 >>> 20) & 0xF;
+        values[valuesOffset + 27] = (w3 >>> 16) & 0xF;
+        values[valuesOffset + 28] = (w3 >>> 12) & 0xF;
+        values[valuesOffset + 29] = (w3 >>> 8) & 0xF;
+        values[valuesOffset + 30] = (w3 >>> 4) & 0xF;
+        values[valuesOffset + 31] = (w3) & 0xF;
+    }
+
+    private static void unpack32Values5(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        values[valuesOffset] = w0 >>> 27;
+        values[valuesOffset + 1] = (w0 >>> 22) & 0x1F;
+        values[valuesOffset + 2] = (w0 >>> 17) & 0x1F;
+        values[valuesOffset + 3] = (w0 >>> 12) & 0x1F;
+        values[valuesOffset + 4] = (w0 >>> 7) & 0x1F;
+        values[valuesOffset + 5] = (w0 >>> 2) & 0x1F;
+        values[valuesOffset + 6] = ((w0 << 3) | (w1 >>> 29)) & 0x1F;
+        values[valuesOffset + 7] = (w1 >>> 24) & 0x1F;
+        values[valuesOffset + 8] = (w1 >>> 19) & 0x1F;
+        values[valuesOffset + 9] = (w1 >>> 14) & 0x1F;
+        values[valuesOffset + 10] = (w1 >>> 9) & 0x1F;
+        values[valuesOffset + 11] = (w1 >>> 4) & 0x1F;
+        values[valuesOffset + 12] = ((w1 << 1) | (w2 >>> 31)) & 0x1F;
+        values[valuesOffset + 13] = (w2 >>> 26) & 0x1F;
+        values[valuesOffset + 14] = (w2 >>> 21) & 0x1F;
+        values[valuesOffset + 15] = (w2 >>> 16) & 0x1F;
+        values[valuesOffset + 16] = (w2 >>> 11) & 0x1F;
+        values[valuesOffset + 17] = (w2 >>> 6) & 0x1F;
+        values[valuesOffset + 18] = (w2 >>> 1) & 0x1F;
+        values[valuesOffset + 19] = ((w2 << 4) | (w3 >>> 28)) & 0x1F;
+        values[valuesOffset + 20] = (w3 >>> 23) & 0x1F;
+        values[valuesOffset + 21] = (w3 >>> 18) & 0x1F;
+        values[valuesOffset + 22] = (w3 >>> 13) & 0x1F;
+        values[valuesOffset + 23] = (w3 >>> 8) & 0x1F;
+        values[valuesOffset + 24] = (w3 >>> 3) & 0x1F;
+        values[valuesOffset + 25] = ((w3 << 2) | (w4 >>> 30)) & 0x1F;
+        values[valuesOffset + 26] = (w4 >>> 25) & 0x1F;
+        values[valuesOffset + 27] = (w4 >>> 20) & 0x1F;
+        values[valuesOffset + 28] = (w4 >>> 15) & 0x1F;
+        values[valuesOffset + 29] = (w4 >>> 10) & 0x1F;
+        values[valuesOffset + 30] = (w4 >>> 5) & 0x1F;
+        values[valuesOffset + 31] = (w4) & 0x1F;
+    }
+
+    private static void unpack32Values6(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        values[valuesOffset] = w0 >>> 26;
+        values[valuesOffset + 1] = (w0 >>> 20) & 0x3F;
+        values[valuesOffset + 2] = (w0 >>> 14) & 0x3F;
+        values[valuesOffset + 3] = (w0 >>> 8) & 0x3F;
+        values[valuesOffset + 4] = (w0 >>> 2) & 0x3F;
+        values[valuesOffset + 5] = ((w0 << 4) | (w1 >>> 28)) & 0x3F;
+        values[valuesOffset + 6] = (w1 >>> 22) & 0x3F;
+        values[valuesOffset + 7] = (w1 >>> 16) & 0x3F;
+        values[valuesOffset + 8] = (w1 >>> 10) & 0x3F;
+        values[valuesOffset + 9] = (w1 >>> 4) & 0x3F;
+        values[valuesOffset + 10] = ((w1 << 2) | (w2 >>> 30)) & 0x3F;
+        values[valuesOffset + 11] = (w2 >>> 24) & 0x3F;
+        values[valuesOffset + 12] = (w2 >>> 18) & 0x3F;
+        values[valuesOffset + 13] = (w2 >>> 12) & 0x3F;
+        values[valuesOffset + 14] = (w2 >>> 6) & 0x3F;
+        values[valuesOffset + 15] = (w2) & 0x3F;
+        values[valuesOffset + 16] = w3 >>> 26;
+        values[valuesOffset + 17] = (w3 >>> 20) & 0x3F;
+        values[valuesOffset + 18] = (w3 >>> 14) & 0x3F;
+        values[valuesOffset + 19] = (w3 >>> 8) & 0x3F;
+        values[valuesOffset + 20] = (w3 >>> 2) & 0x3F;
+        values[valuesOffset + 21] = ((w3 << 4) | (w4 >>> 28)) & 0x3F;
+        values[valuesOffset + 22] = (w4 >>> 22) & 0x3F;
+        values[valuesOffset + 23] = (w4 >>> 16) & 0x3F;
+        values[valuesOffset + 24] = (w4 >>> 10) & 0x3F;
+        values[valuesOffset + 25] = (w4 >>> 4) & 0x3F;
+        values[valuesOffset + 26] = ((w4 << 2) | (w5 >>> 30)) & 0x3F;
+        values[valuesOffset + 27] = (w5 >>> 24) & 0x3F;
+        values[valuesOffset + 28] = (w5 >>> 18) & 0x3F;
+        values[valuesOffset + 29] = (w5 >>> 12) & 0x3F;
+        values[valuesOffset + 30] = (w5 >>> 6) & 0x3F;
+        values[valuesOffset + 31] = (w5) & 0x3F;
+    }
+
+    private static void unpack32Values7(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        values[valuesOffset] = w0 >>> 25;
+        values[valuesOffset + 1] = (w0 >>> 18) & 0x7F;
+        values[valuesOffset + 2] = (w0 >>> 11) & 0x7F;
+        values[valuesOffset + 3] = (w0 >>> 4) & 0x7F;
+        values[valuesOffset + 4] = ((w0 << 3) | (w1 >>> 29)) & 0x7F;
+        values[valuesOffset + 5] = (w1 >>> 22) & 0x7F;
+        values[valuesOffset + 6] = (w1 >>> 15) & 0x7F;
+        values[valuesOffset + 7] = (w1 >>> 8) & 0x7F;
+        values[valuesOffset + 8] = (w1 >>> 1) & 0x7F;
+        values[valuesOffset + 9] = ((w1 << 6) | (w2 >>> 26)) & 0x7F;
+        values[valuesOffset + 10] = (w2 >>> 19) & 0x7F;
+        values[valuesOffset + 11] = (w2 >>> 12) & 0x7F;
+        values[valuesOffset + 12] = (w2 >>> 5) & 0x7F;
+        values[valuesOffset + 13] = ((w2 << 2) | (w3 >>> 30)) & 0x7F;
+        values[valuesOffset + 14] = (w3 >>> 23) & 0x7F;
+        values[valuesOffset + 15] = (w3 >>> 16) & 0x7F;
+        values[valuesOffset + 16] = (w3 >>> 9) & 0x7F;
+        values[valuesOffset + 17] = (w3 >>> 2) & 0x7F;
+        values[valuesOffset + 18] = ((w3 << 5) | (w4 >>> 27)) & 0x7F;
+        values[valuesOffset + 19] = (w4 >>> 20) & 0x7F;
+        values[valuesOffset + 20] = (w4 >>> 13) & 0x7F;
+        values[valuesOffset + 21] = (w4 >>> 6) & 0x7F;
+        values[valuesOffset + 22] = ((w4 << 1) | (w5 >>> 31)) & 0x7F;
+        values[valuesOffset + 23] = (w5 >>> 24) & 0x7F;
+        values[valuesOffset + 24] = (w5 >>> 17) & 0x7F;
+        values[valuesOffset + 25] = (w5 >>> 10) & 0x7F;
+        values[valuesOffset + 26] = (w5 >>> 3) & 0x7F;
+        values[valuesOffset + 27] = ((w5 << 4) | (w6 >>> 28)) & 0x7F;
+        values[valuesOffset + 28] = (w6 >>> 21) & 0x7F;
+        values[valuesOffset + 29] = (w6 >>> 14) & 0x7F;
+        values[valuesOffset + 30] = (w6 >>> 7) & 0x7F;
+        values[valuesOffset + 31] = (w6) & 0x7F;
+    }
+
+    private static void unpack32Values8(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        values[valuesOffset] = w0 >>> 24;
+        values[valuesOffset + 1] = (w0 >>> 16) & 0xFF;
+        values[valuesOffset + 2] = (w0 >>> 8) & 0xFF;
+        values[valuesOffset + 3] = (w0) & 0xFF;
+        values[valuesOffset + 4] = w1 >>> 24;
+        values[valuesOffset + 5] = (w1 >>> 16) & 0xFF;
+        values[valuesOffset + 6] = (w1 >>> 8) & 0xFF;
+        values[valuesOffset + 7] = (w1) & 0xFF;
+        values[valuesOffset + 8] = w2 >>> 24;
+        values[valuesOffset + 9] = (w2 >>> 16) & 0xFF;
+        values[valuesOffset + 10] = (w2 >>> 8) & 0xFF;
+        values[valuesOffset + 11] = (w2) & 0xFF;
+        values[valuesOffset + 12] = w3 >>> 24;
+        values[valuesOffset + 13] = (w3 >>> 16) & 0xFF;
+        values[valuesOffset + 14] = (w3 >>> 8) & 0xFF;
+        values[valuesOffset + 15] = (w3) & 0xFF;
+        values[valuesOffset + 16] = w4 >>> 24;
+        values[valuesOffset + 17] = (w4 >>> 16) & 0xFF;
+        values[valuesOffset + 18] = (w4 >>> 8) & 0xFF;
+        values[valuesOffset + 19] = (w4) & 0xFF;
+        values[valuesOffset + 20] = w5 >>> 24;
+        values[valuesOffset + 21] = (w5 >>> 16) & 0xFF;
+        values[valuesOffset + 22] = (w5 >>> 8) & 0xFF;
+        values[valuesOffset + 23] = (w5) & 0xFF;
+        values[valuesOffset + 24] = w6 >>> 24;
+        values[valuesOffset + 25] = (w6 >>> 16) & 0xFF;
+        values[valuesOffset + 26] = (w6 >>> 8) & 0xFF;
+        values[valuesOffset + 27] = (w6) & 0xFF;
+        values[valuesOffset + 28] = w7 >>> 24;
+        values[valuesOffset + 29] = (w7 >>> 16) & 0xFF;
+        values[valuesOffset + 30] = (w7 >>> 8) & 0xFF;
+        values[valuesOffset + 31] = (w7) & 0xFF;
+    }
+
+    private static void unpack32Values9(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        values[valuesOffset] = w0 >>> 23;
+        values[valuesOffset + 1] = (w0 >>> 14) & 0x1FF;
+        values[valuesOffset + 2] = (w0 >>> 5) & 0x1FF;
+        values[valuesOffset + 3] = ((w0 << 4) | (w1 >>> 28)) & 0x1FF;
+        values[valuesOffset + 4] = (w1 >>> 19) & 0x1FF;
+        values[valuesOffset + 5] = (w1 >>> 10) & 0x1FF;
+        values[valuesOffset + 6] = (w1 >>> 1) & 0x1FF;
+        values[valuesOffset + 7] = ((w1 << 8) | (w2 >>> 24)) & 0x1FF;
+        values[valuesOffset + 8] = (w2 >>> 15) & 0x1FF;
+        values[valuesOffset + 9] = (w2 >>> 6) & 0x1FF;
+        values[valuesOffset + 10] = ((w2 << 3) | (w3 >>> 29)) & 0x1FF;
+        values[valuesOffset + 11] = (w3 >>> 20) & 0x1FF;
+        values[valuesOffset + 12] = (w3 >>> 11) & 0x1FF;
+        values[valuesOffset + 13] = (w3 >>> 2) & 0x1FF;
+        values[valuesOffset + 14] = ((w3 << 7) | (w4 >>> 25)) & 0x1FF;
+        values[valuesOffset + 15] = (w4 >>> 16) & 0x1FF;
+        values[valuesOffset + 16] = (w4 >>> 7) & 0x1FF;
+        values[valuesOffset + 17] = ((w4 << 2) | (w5 >>> 30)) & 0x1FF;
+        values[valuesOffset + 18] = (w5 >>> 21) & 0x1FF;
+        values[valuesOffset + 19] = (w5 >>> 12) & 0x1FF;
+        values[valuesOffset + 20] = (w5 >>> 3) & 0x1FF;
+        values[valuesOffset + 21] = ((w5 << 6) | (w6 >>> 26)) & 0x1FF;
+        values[valuesOffset + 22] = (w6 >>> 17) & 0x1FF;
+        values[valuesOffset + 23] = (w6 >>> 8) & 0x1FF;
+        values[valuesOffset + 24] = ((w6 << 1) | (w7 >>> 31)) & 0x1FF;
+        values[valuesOffset + 25] = (w7 >>> 22) & 0x1FF;
+        values[valuesOffset + 26] = (w7 >>> 13) & 0x1FF;
+        values[valuesOffset + 27] = (w7 >>> 4) & 0x1FF;
+        values[valuesOffset + 28] = ((w7 << 5) | (w8 >>> 27)) & 0x1FF;
+        values[valuesOffset + 29] = (w8 >>> 18) & 0x1FF;
+        values[valuesOffset + 30] = (w8 >>> 9) & 0x1FF;
+        values[valuesOffset + 31] = (w8) & 0x1FF;
+    }
+
+    private static void unpack32Values10(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        values[valuesOffset] = w0 >>> 22;
+        values[valuesOffset + 1] = (w0 >>> 12) & 0x3FF;
+        values[valuesOffset + 2] = (w0 >>> 2) & 0x3FF;
+        values[valuesOffset + 3] = ((w0 << 8) | (w1 >>> 24)) & 0x3FF;
+        values[valuesOffset + 4] = (w1 >>> 14) & 0x3FF;
+        values[valuesOffset + 5] = (w1 >>> 4) & 0x3FF;
+        values[valuesOffset + 6] = ((w1 << 6) | (w2 >>> 26)) & 0x3FF;
+        values[valuesOffset + 7] = (w2 >>> 16) & 0x3FF;
+        values[valuesOffset + 8] = (w2 >>> 6) & 0x3FF;
+        values[valuesOffset + 9] = ((w2 << 4) | (w3 >>> 28)) & 0x3FF;
+        values[valuesOffset + 10] = (w3 >>> 18) & 0x3FF;
+        values[valuesOffset + 11] = (w3 >>> 8) & 0x3FF;
+        values[valuesOffset + 12] = ((w3 << 2) | (w4 >>> 30)) & 0x3FF;
+        values[valuesOffset + 13] = (w4 >>> 20) & 0x3FF;
+        values[valuesOffset + 14] = (w4 >>> 10) & 0x3FF;
+        values[valuesOffset + 15] = (w4) & 0x3FF;
+        values[valuesOffset + 16] = w5 >>> 22;
+        values[valuesOffset + 17] = (w5 >>> 12) & 0x3FF;
+        values[valuesOffset + 18] = (w5 >>> 2) & 0x3FF;
+        values[valuesOffset + 19] = ((w5 << 8) | (w6 >>> 24)) & 0x3FF;
+        values[valuesOffset + 20] = (w6 >>> 14) & 0x3FF;
+        values[valuesOffset + 21] = (w6 >>> 4) & 0x3FF;
+        values[valuesOffset + 22] = ((w6 << 6) | (w7 >>> 26)) & 0x3FF;
+        values[valuesOffset + 23] = (w7 >>> 16) & 0x3FF;
+        values[valuesOffset + 24] = (w7 >>> 6) & 0x3FF;
+        values[valuesOffset + 25] = ((w7 << 4) | (w8 >>> 28)) & 0x3FF;
+        values[valuesOffset + 26] = (w8 >>> 18) & 0x3FF;
+        values[valuesOffset + 27] = (w8 >>> 8) & 0x3FF;
+        values[valuesOffset + 28] = ((w8 << 2) | (w9 >>> 30)) & 0x3FF;
+        values[valuesOffset + 29] = (w9 >>> 20) & 0x3FF;
+        values[valuesOffset + 30] = (w9 >>> 10) & 0x3FF;
+        values[valuesOffset + 31] = (w9) & 0x3FF;
+    }
+
+    private static void unpack32Values11(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        values[valuesOffset] = w0 >>> 21;
+        values[valuesOffset + 1] = (w0 >>> 10) & 0x7FF;
+        values[valuesOffset + 2] = ((w0 << 1) | (w1 >>> 31)) & 0x7FF;
+        values[valuesOffset + 3] = (w1 >>> 20) & 0x7FF;
+        values[valuesOffset + 4] = (w1 >>> 9) & 0x7FF;
+        values[valuesOffset + 5] = ((w1 << 2) | (w2 >>> 30)) & 0x7FF;
+        values[valuesOffset + 6] = (w2 >>> 19) & 0x7FF;
+        values[valuesOffset + 7] = (w2 >>> 8) & 0x7FF;
+        values[valuesOffset + 8] = ((w2 << 3) | (w3 >>> 29)) & 0x7FF;
+        values[valuesOffset + 9] = (w3 >>> 18) & 0x7FF;
+        values[valuesOffset + 10] = (w3 >>> 7) & 0x7FF;
+        values[valuesOffset + 11] = ((w3 << 4) | (w4 >>> 28)) & 0x7FF;
+        values[valuesOffset + 12] = (w4 >>> 17) & 0x7FF;
+        values[valuesOffset + 13] = (w4 >>> 6) & 0x7FF;
+        values[valuesOffset + 14] = ((w4 << 5) | (w5 >>> 27)) & 0x7FF;
+        values[valuesOffset + 15] = (w5 >>> 16) & 0x7FF;
+        values[valuesOffset + 16] = (w5 >>> 5) & 0x7FF;
+        values[valuesOffset + 17] = ((w5 << 6) | (w6 >>> 26)) & 0x7FF;
+        values[valuesOffset + 18] = (w6 >>> 15) & 0x7FF;
+        values[valuesOffset + 19] = (w6 >>> 4) & 0x7FF;
+        values[valuesOffset + 20] = ((w6 << 7) | (w7 >>> 25)) & 0x7FF;
+        values[valuesOffset + 21] = (w7 >>> 14) & 0x7FF;
+        values[valuesOffset + 22] = (w7 >>> 3) & 0x7FF;
+        values[valuesOffset + 23] = ((w7 << 8) | (w8 >>> 24)) & 0x7FF;
+        values[valuesOffset + 24] = (w8 >>> 13) & 0x7FF;
+        values[valuesOffset + 25] = (w8 >>> 2) & 0x7FF;
+        values[valuesOffset + 26] = ((w8 << 9) | (w9 >>> 23)) & 0x7FF;
+        values[valuesOffset + 27] = (w9 >>> 12) & 0x7FF;
+        values[valuesOffset + 28] = (w9 >>> 1) & 0x7FF;
+        values[valuesOffset + 29] = ((w9 << 10) | (w10 >>> 22)) & 0x7FF;
+        values[valuesOffset + 30] = (w10 >>> 11) & 0x7FF;
+        values[valuesOffset + 31] = (w10) & 0x7FF;
+    }
+
+    private static void unpack32Values12(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        values[valuesOffset] = w0 >>> 20;
+        values[valuesOffset + 1] = (w0 >>> 8) & 0xFFF;
+        values[valuesOffset + 2] = ((w0 << 4) | (w1 >>> 28)) & 0xFFF;
+        values[valuesOffset + 3] = (w1 >>> 16) & 0xFFF;
+        values[valuesOffset + 4] = (w1 >>> 4) & 0xFFF;
+        values[valuesOffset + 5] = ((w1 << 8) | (w2 >>> 24)) & 0xFFF;
+        values[valuesOffset + 6] = (w2 >>> 12) & 0xFFF;
+        values[valuesOffset + 7] = (w2) & 0xFFF;
+        values[valuesOffset + 8] = w3 >>> 20;
+        values[valuesOffset + 9] = (w3 >>> 8) & 0xFFF;
+        values[valuesOffset + 10] = ((w3 << 4) | (w4 >>> 28)) & 0xFFF;
+        values[valuesOffset + 11] = (w4 >>> 16) & 0xFFF;
+        values[valuesOffset + 12] = (w4 >>> 4) & 0xFFF;
+        values[valuesOffset + 13] = ((w4 << 8) | (w5 >>> 24)) & 0xFFF;
+        values[valuesOffset + 14] = (w5 >>> 12) & 0xFFF;
+        values[valuesOffset + 15] = (w5) & 0xFFF;
+        values[valuesOffset + 16] = w6 >>> 20;
+        values[valuesOffset + 17] = (w6 >>> 8) & 0xFFF;
+        values[valuesOffset + 18] = ((w6 << 4) | (w7 >>> 28)) & 0xFFF;
+        values[valuesOffset + 19] = (w7 >>> 16) & 0xFFF;
+        values[valuesOffset + 20] = (w7 >>> 4) & 0xFFF;
+        values[valuesOffset + 21] = ((w7 << 8) | (w8 >>> 24)) & 0xFFF;
+        values[valuesOffset + 22] = (w8 >>> 12) & 0xFFF;
+        values[valuesOffset + 23] = (w8) & 0xFFF;
+        values[valuesOffset + 24] = w9 >>> 20;
+        values[valuesOffset + 25] = (w9 >>> 8) & 0xFFF;
+        values[valuesOffset + 26] = ((w9 << 4) | (w10 >>> 28)) & 0xFFF;
+        values[valuesOffset + 27] = (w10 >>> 16) & 0xFFF;
+        values[valuesOffset + 28] = (w10 >>> 4) & 0xFFF;
+        values[valuesOffset + 29] = ((w10 << 8) | (w11 >>> 24)) & 0xFFF;
+        values[valuesOffset + 30] = (w11 >>> 12) & 0xFFF;
+        values[valuesOffset + 31] = (w11) & 0xFFF;
+    }
+
+    private static void unpack32Values13(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        values[valuesOffset] = w0 >>> 19;
+        values[valuesOffset + 1] = (w0 >>> 6) & 0x1FFF;
+        values[valuesOffset + 2] = ((w0 << 7) | (w1 >>> 25)) & 0x1FFF;
+        values[valuesOffset + 3] = (w1 >>> 12) & 0x1FFF;
+        values[valuesOffset + 4] = ((w1 << 1) | (w2 >>> 31)) & 0x1FFF;
+        values[valuesOffset + 5] = (w2 >>> 18) & 0x1FFF;
+        values[valuesOffset + 6] = (w2 >>> 5) & 0x1FFF;
+        values[valuesOffset + 7] = ((w2 << 8) | (w3 >>> 24)) & 0x1FFF;
+        values[valuesOffset + 8] = (w3 >>> 11) & 0x1FFF;
+        values[valuesOffset + 9] = ((w3 << 2) | (w4 >>> 30)) & 0x1FFF;
+        values[valuesOffset + 10] = (w4 >>> 17) & 0x1FFF;
+        values[valuesOffset + 11] = (w4 >>> 4) & 0x1FFF;
+        values[valuesOffset + 12] = ((w4 << 9) | (w5 >>> 23)) & 0x1FFF;
+        values[valuesOffset + 13] = (w5 >>> 10) & 0x1FFF;
+        values[valuesOffset + 14] = ((w5 << 3) | (w6 >>> 29)) & 0x1FFF;
+        values[valuesOffset + 15] = (w6 >>> 16) & 0x1FFF;
+        values[valuesOffset + 16] = (w6 >>> 3) & 0x1FFF;
+        values[valuesOffset + 17] = ((w6 << 10) | (w7 >>> 22)) & 0x1FFF;
+        values[valuesOffset + 18] = (w7 >>> 9) & 0x1FFF;
+        values[valuesOffset + 19] = ((w7 << 4) | (w8 >>> 28)) & 0x1FFF;
+        values[valuesOffset + 20] = (w8 >>> 15) & 0x1FFF;
+        values[valuesOffset + 21] = (w8 >>> 2) & 0x1FFF;
+        values[valuesOffset + 22] = ((w8 << 11) | (w9 >>> 21)) & 0x1FFF;
+        values[valuesOffset + 23] = (w9 >>> 8) & 0x1FFF;
+        values[valuesOffset + 24] = ((w9 << 5) | (w10 >>> 27)) & 0x1FFF;
+        values[valuesOffset + 25] = (w10 >>> 14) & 0x1FFF;
+        values[valuesOffset + 26] = (w10 >>> 1) & 0x1FFF;
+        values[valuesOffset + 27] = ((w10 << 12) | (w11 >>> 20)) & 0x1FFF;
+        values[valuesOffset + 28] = (w11 >>> 7) & 0x1FFF;
+        values[valuesOffset + 29] = ((w11 << 6) | (w12 >>> 26)) & 0x1FFF;
+        values[valuesOffset + 30] = (w12 >>> 13) & 0x1FFF;
+        values[valuesOffset + 31] = (w12) & 0x1FFF;
+    }
+
+    private static void unpack32Values14(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        values[valuesOffset] = w0 >>> 18;
+        values[valuesOffset + 1] = (w0 >>> 4) & 0x3FFF;
+        values[valuesOffset + 2] = ((w0 << 10) | (w1 >>> 22)) & 0x3FFF;
+        values[valuesOffset + 3] = (w1 >>> 8) & 0x3FFF;
+        values[valuesOffset + 4] = ((w1 << 6) | (w2 >>> 26)) & 0x3FFF;
+        values[valuesOffset + 5] = (w2 >>> 12) & 0x3FFF;
+        values[valuesOffset + 6] = ((w2 << 2) | (w3 >>> 30)) & 0x3FFF;
+        values[valuesOffset + 7] = (w3 >>> 16) & 0x3FFF;
+        values[valuesOffset + 8] = (w3 >>> 2) & 0x3FFF;
+        values[valuesOffset + 9] = ((w3 << 12) | (w4 >>> 20)) & 0x3FFF;
+        values[valuesOffset + 10] = (w4 >>> 6) & 0x3FFF;
+        values[valuesOffset + 11] = ((w4 << 8) | (w5 >>> 24)) & 0x3FFF;
+        values[valuesOffset + 12] = (w5 >>> 10) & 0x3FFF;
+        values[valuesOffset + 13] = ((w5 << 4) | (w6 >>> 28)) & 0x3FFF;
+        values[valuesOffset + 14] = (w6 >>> 14) & 0x3FFF;
+        values[valuesOffset + 15] = (w6) & 0x3FFF;
+        values[valuesOffset + 16] = w7 >>> 18;
+        values[valuesOffset + 17] = (w7 >>> 4) & 0x3FFF;
+        values[valuesOffset + 18] = ((w7 << 10) | (w8 >>> 22)) & 0x3FFF;
+        values[valuesOffset + 19] = (w8 >>> 8) & 0x3FFF;
+        values[valuesOffset + 20] = ((w8 << 6) | (w9 >>> 26)) & 0x3FFF;
+        values[valuesOffset + 21] = (w9 >>> 12) & 0x3FFF;
+        values[valuesOffset + 22] = ((w9 << 2) | (w10 >>> 30)) & 0x3FFF;
+        values[valuesOffset + 23] = (w10 >>> 16) & 0x3FFF;
+        values[valuesOffset + 24] = (w10 >>> 2) & 0x3FFF;
+        values[valuesOffset + 25] = ((w10 << 12) | (w11 >>> 20)) & 0x3FFF;
+        values[valuesOffset + 26] = (w11 >>> 6) & 0x3FFF;
+        values[valuesOffset + 27] = ((w11 << 8) | (w12 >>> 24)) & 0x3FFF;
+        values[valuesOffset + 28] = (w12 >>> 10) & 0x3FFF;
+        values[valuesOffset + 29] = ((w12 << 4) | (w13 >>> 28)) & 0x3FFF;
+        values[valuesOffset + 30] = (w13 >>> 14) & 0x3FFF;
+        values[valuesOffset + 31] = (w13) & 0x3FFF;
+    }
+
+    private static void unpack32Values15(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        values[valuesOffset] = w0 >>> 17;
+        values[valuesOffset + 1] = (w0 >>> 2) & 0x7FFF;
+        values[valuesOffset + 2] = ((w0 << 13) | (w1 >>> 19)) & 0x7FFF;
+        values[valuesOffset + 3] = (w1 >>> 4) & 0x7FFF;
+        values[valuesOffset + 4] = ((w1 << 11) | (w2 >>> 21)) & 0x7FFF;
+        values[valuesOffset + 5] = (w2 >>> 6) & 0x7FFF;
+        values[valuesOffset + 6] = ((w2 << 9) | (w3 >>> 23)) & 0x7FFF;
+        values[valuesOffset + 7] = (w3 >>> 8) & 0x7FFF;
+        values[valuesOffset + 8] = ((w3 << 7) | (w4 >>> 25)) & 0x7FFF;
+        values[valuesOffset + 9] = (w4 >>> 10) & 0x7FFF;
+        values[valuesOffset + 10] = ((w4 << 5) | (w5 >>> 27)) & 0x7FFF;
+        values[valuesOffset + 11] = (w5 >>> 12) & 0x7FFF;
+        values[valuesOffset + 12] = ((w5 << 3) | (w6 >>> 29)) & 0x7FFF;
+        values[valuesOffset + 13] = (w6 >>> 14) & 0x7FFF;
+        values[valuesOffset + 14] = ((w6 << 1) | (w7 >>> 31)) & 0x7FFF;
+        values[valuesOffset + 15] = (w7 >>> 16) & 0x7FFF;
+        values[valuesOffset + 16] = (w7 >>> 1) & 0x7FFF;
+        values[valuesOffset + 17] = ((w7 << 14) | (w8 >>> 18)) & 0x7FFF;
+        values[valuesOffset + 18] = (w8 >>> 3) & 0x7FFF;
+        values[valuesOffset + 19] = ((w8 << 12) | (w9 >>> 20)) & 0x7FFF;
+        values[valuesOffset + 20] = (w9 >>> 5) & 0x7FFF;
+        values[valuesOffset + 21] = ((w9 << 10) | (w10 >>> 22)) & 0x7FFF;
+        values[valuesOffset + 22] = (w10 >>> 7) & 0x7FFF;
+        values[valuesOffset + 23] = ((w10 << 8) | (w11 >>> 24)) & 0x7FFF;
+        values[valuesOffset + 24] = (w11 >>> 9) & 0x7FFF;
+        values[valuesOffset + 25] = ((w11 << 6) | (w12 >>> 26)) & 0x7FFF;
+        values[valuesOffset + 26] = (w12 >>> 11) & 0x7FFF;
+        values[valuesOffset + 27] = ((w12 << 4) | (w13 >>> 28)) & 0x7FFF;
+        values[valuesOffset + 28] = (w13 >>> 13) & 0x7FFF;
+        values[valuesOffset + 29] = ((w13 << 2) | (w14 >>> 30)) & 0x7FFF;
+        values[valuesOffset + 30] = (w14 >>> 15) & 0x7FFF;
+        values[valuesOffset + 31] = (w14) & 0x7FFF;
+    }
+
+    private static void unpack32Values16(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        int w15 = (buf[offset + 60] & 0xFF) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        values[valuesOffset] = w0 >>> 16;
+        values[valuesOffset + 1] = (w0) & 0xFFFF;
+        values[valuesOffset + 2] = w1 >>> 16;
+        values[valuesOffset + 3] = (w1) & 0xFFFF;
+        values[valuesOffset + 4] = w2 >>> 16;
+        values[valuesOffset + 5] = (w2) & 0xFFFF;
+        values[valuesOffset + 6] = w3 >>> 16;
+        values[valuesOffset + 7] = (w3) & 0xFFFF;
+        values[valuesOffset + 8] = w4 >>> 16;
+        values[valuesOffset + 9] = (w4) & 0xFFFF;
+        values[valuesOffset + 10] = w5 >>> 16;
+        values[valuesOffset + 11] = (w5) & 0xFFFF;
+        values[valuesOffset + 12] = w6 >>> 16;
+        values[valuesOffset + 13] = (w6) & 0xFFFF;
+        values[valuesOffset + 14] = w7 >>> 16;
+        values[valuesOffset + 15] = (w7) & 0xFFFF;
+        values[valuesOffset + 16] = w8 >>> 16;
+        values[valuesOffset + 17] = (w8) & 0xFFFF;
+        values[valuesOffset + 18] = w9 >>> 16;
+        values[valuesOffset + 19] = (w9) & 0xFFFF;
+        values[valuesOffset + 20] = w10 >>> 16;
+        values[valuesOffset + 21] = (w10) & 0xFFFF;
+        values[valuesOffset + 22] = w11 >>> 16;
+        values[valuesOffset + 23] = (w11) & 0xFFFF;
+        values[valuesOffset + 24] = w12 >>> 16;
+        values[valuesOffset + 25] = (w12) & 0xFFFF;
+        values[valuesOffset + 26] = w13 >>> 16;
+        values[valuesOffset + 27] = (w13) & 0xFFFF;
+        values[valuesOffset + 28] = w14 >>> 16;
+        values[valuesOffset + 29] = (w14) & 0xFFFF;
+        values[valuesOffset + 30] = w15 >>> 16;
+        values[valuesOffset + 31] = (w15) & 0xFFFF;
+    }
+
+    private static void unpack32Values17(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        int w15 = (buf[offset + 60] & 0xFF) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        int w16 = (buf[offset + 64] & 0xFF) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        values[valuesOffset] = w0 >>> 15;
+        values[valuesOffset + 1] = ((w0 << 2) | (w1 >>> 30)) & 0x1FFFF;
+        values[valuesOffset + 2] = (w1 >>> 13) & 0x1FFFF;
+        values[valuesOffset + 3] = ((w1 << 4) | (w2 >>> 28)) & 0x1FFFF;
+        values[valuesOffset + 4] = (w2 >>> 11) & 0x1FFFF;
+        values[valuesOffset + 5] = ((w2 << 6) | (w3 >>> 26)) & 0x1FFFF;
+        values[valuesOffset + 6] = (w3 >>> 9) & 0x1FFFF;
+        values[valuesOffset + 7] = ((w3 << 8) | (w4 >>> 24)) & 0x1FFFF;
+        values[valuesOffset + 8] = (w4 >>> 7) & 0x1FFFF;
+        values[valuesOffset + 9] = ((w4 << 10) | (w5 >>> 22)) & 0x1FFFF;
+        values[valuesOffset + 10] = (w5 >>> 5) & 0x1FFFF;
+        values[valuesOffset + 11] = ((w5 << 12) | (w6 >>> 20)) & 0x1FFFF;
+        values[valuesOffset + 12] = (w6 >>> 3) & 0x1FFFF;
+        values[valuesOffset + 13] = ((w6 << 14) | (w7 >>> 18)) & 0x1FFFF;
+        values[valuesOffset + 14] = (w7 >>> 1) & 0x1FFFF;
+        values[valuesOffset + 15] = ((w7 << 16) | (w8 >>> 16)) & 0x1FFFF;
+        values[valuesOffset + 16] = ((w8 << 1) | (w9 >>> 31)) & 0x1FFFF;
+        values[valuesOffset + 17] = (w9 >>> 14) & 0x1FFFF;
+        values[valuesOffset + 18] = ((w9 << 3) | (w10 >>> 29)) & 0x1FFFF;
+        values[valuesOffset + 19] = (w10 >>> 12) & 0x1FFFF;
+        values[valuesOffset + 20] = ((w10 << 5) | (w11 >>> 27)) & 0x1FFFF;
+        values[valuesOffset + 21] = (w11 >>> 10) & 0x1FFFF;
+        values[valuesOffset + 22] = ((w11 << 7) | (w12 >>> 25)) & 0x1FFFF;
+        values[valuesOffset + 23] = (w12 >>> 8) & 0x1FFFF;
+        values[valuesOffset + 24] = ((w12 << 9) | (w13 >>> 23)) & 0x1FFFF;
+        values[valuesOffset + 25] = (w13 >>> 6) & 0x1FFFF;
+        values[valuesOffset + 26] = ((w13 << 11) | (w14 >>> 21)) & 0x1FFFF;
+        values[valuesOffset + 27] = (w14 >>> 4) & 0x1FFFF;
+        values[valuesOffset + 28] = ((w14 << 13) | (w15 >>> 19)) & 0x1FFFF;
+        values[valuesOffset + 29] = (w15 >>> 2) & 0x1FFFF;
+        values[valuesOffset + 30] = ((w15 << 15) | (w16 >>> 17)) & 0x1FFFF;
+        values[valuesOffset + 31] = (w16) & 0x1FFFF;
+    }
+
+    private static void unpack32Values18(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        int w15 = (buf[offset + 60] & 0xFF) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        int w16 = (buf[offset + 64] & 0xFF) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        int w17 = (buf[offset + 68] & 0xFF) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        values[valuesOffset] = w0 >>> 14;
+        values[valuesOffset + 1] = ((w0 << 4) | (w1 >>> 28)) & 0x3FFFF;
+        values[valuesOffset + 2] = (w1 >>> 10) & 0x3FFFF;
+        values[valuesOffset + 3] = ((w1 << 8) | (w2 >>> 24)) & 0x3FFFF;
+        values[valuesOffset + 4] = (w2 >>> 6) & 0x3FFFF;
+        values[valuesOffset + 5] = ((w2 << 12) | (w3 >>> 20)) & 0x3FFFF;
+        values[valuesOffset + 6] = (w3 >>> 2) & 0x3FFFF;
+        values[valuesOffset + 7] = ((w3 << 16) | (w4 >>> 16)) & 0x3FFFF;
+        values[valuesOffset + 8] = ((w4 << 2) | (w5 >>> 30)) & 0x3FFFF;
+        values[valuesOffset + 9] = (w5 >>> 12) & 0x3FFFF;
+        values[valuesOffset + 10] = ((w5 << 6) | (w6 >>> 26)) & 0x3FFFF;
+        values[valuesOffset + 11] = (w6 >>> 8) & 0x3FFFF;
+        values[valuesOffset + 12] = ((w6 << 10) | (w7 >>> 22)) & 0x3FFFF;
+        values[valuesOffset + 13] = (w7 >>> 4) & 0x3FFFF;
+        values[valuesOffset + 14] = ((w7 << 14) | (w8 >>> 18)) & 0x3FFFF;
+        values[valuesOffset + 15] = (w8) & 0x3FFFF;
+        values[valuesOffset + 16] = w9 >>> 14;
+        values[valuesOffset + 17] = ((w9 << 4) | (w10 >>> 28)) & 0x3FFFF;
+        values[valuesOffset + 18] = (w10 >>> 10) & 0x3FFFF;
+        values[valuesOffset + 19] = ((w10 << 8) | (w11 >>> 24)) & 0x3FFFF;
+        values[valuesOffset + 20] = (w11 >>> 6) & 0x3FFFF;
+        values[valuesOffset + 21] = ((w11 << 12) | (w12 >>> 20)) & 0x3FFFF;
+        values[valuesOffset + 22] = (w12 >>> 2) & 0x3FFFF;
+        values[valuesOffset + 23] = ((w12 << 16) | (w13 >>> 16)) & 0x3FFFF;
+        values[valuesOffset + 24] = ((w13 << 2) | (w14 >>> 30)) & 0x3FFFF;
+        values[valuesOffset + 25] = (w14 >>> 12) & 0x3FFFF;
+        values[valuesOffset + 26] = ((w14 << 6) | (w15 >>> 26)) & 0x3FFFF;
+        values[valuesOffset + 27] = (w15 >>> 8) & 0x3FFFF;
+        values[valuesOffset + 28] = ((w15 << 10) | (w16 >>> 22)) & 0x3FFFF;
+        values[valuesOffset + 29] = (w16 >>> 4) & 0x3FFFF;
+        values[valuesOffset + 30] = ((w16 << 14) | (w17 >>> 18)) & 0x3FFFF;
+        values[valuesOffset + 31] = (w17) & 0x3FFFF;
+    }
+
+    private static void unpack32Values19(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        int w15 = (buf[offset + 60] & 0xFF) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        int w16 = (buf[offset + 64] & 0xFF) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        int w17 = (buf[offset + 68] & 0xFF) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        int w18 = (buf[offset + 72] & 0xFF) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        values[valuesOffset] = w0 >>> 13;
+        values[valuesOffset + 1] = ((w0 << 6) | (w1 >>> 26)) & 0x7FFFF;
+        values[valuesOffset + 2] = (w1 >>> 7) & 0x7FFFF;
+        values[valuesOffset + 3] = ((w1 << 12) | (w2 >>> 20)) & 0x7FFFF;
+        values[valuesOffset + 4] = (w2 >>> 1) & 0x7FFFF;
+        values[valuesOffset + 5] = ((w2 << 18) | (w3 >>> 14)) & 0x7FFFF;
+        values[valuesOffset + 6] = ((w3 << 5) | (w4 >>> 27)) & 0x7FFFF;
+        values[valuesOffset + 7] = (w4 >>> 8) & 0x7FFFF;
+        values[valuesOffset + 8] = ((w4 << 11) | (w5 >>> 21)) & 0x7FFFF;
+        values[valuesOffset + 9] = (w5 >>> 2) & 0x7FFFF;
+        values[valuesOffset + 10] = ((w5 << 17) | (w6 >>> 15)) & 0x7FFFF;
+        values[valuesOffset + 11] = ((w6 << 4) | (w7 >>> 28)) & 0x7FFFF;
+        values[valuesOffset + 12] = (w7 >>> 9) & 0x7FFFF;
+        values[valuesOffset + 13] = ((w7 << 10) | (w8 >>> 22)) & 0x7FFFF;
+        values[valuesOffset + 14] = (w8 >>> 3) & 0x7FFFF;
+        values[valuesOffset + 15] = ((w8 << 16) | (w9 >>> 16)) & 0x7FFFF;
+        values[valuesOffset + 16] = ((w9 << 3) | (w10 >>> 29)) & 0x7FFFF;
+        values[valuesOffset + 17] = (w10 >>> 10) & 0x7FFFF;
+        values[valuesOffset + 18] = ((w10 << 9) | (w11 >>> 23)) & 0x7FFFF;
+        values[valuesOffset + 19] = (w11 >>> 4) & 0x7FFFF;
+        values[valuesOffset + 20] = ((w11 << 15) | (w12 >>> 17)) & 0x7FFFF;
+        values[valuesOffset + 21] = ((w12 << 2) | (w13 >>> 30)) & 0x7FFFF;
+        values[valuesOffset + 22] = (w13 >>> 11) & 0x7FFFF;
+        values[valuesOffset + 23] = ((w13 << 8) | (w14 >>> 24)) & 0x7FFFF;
+        values[valuesOffset + 24] = (w14 >>> 5) & 0x7FFFF;
+        values[valuesOffset + 25] = ((w14 << 14) | (w15 >>> 18)) & 0x7FFFF;
+        values[valuesOffset + 26] = ((w15 << 1) | (w16 >>> 31)) & 0x7FFFF;
+        values[valuesOffset + 27] = (w16 >>> 12) & 0x7FFFF;
+        values[valuesOffset + 28] = ((w16 << 7) | (w17 >>> 25)) & 0x7FFFF;
+        values[valuesOffset + 29] = (w17 >>> 6) & 0x7FFFF;
+        values[valuesOffset + 30] = ((w17 << 13) | (w18 >>> 19)) & 0x7FFFF;
+        values[valuesOffset + 31] = (w18) & 0x7FFFF;
+    }
+
+    private static void unpack32Values20(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        int w15 = (buf[offset + 60] & 0xFF) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        int w16 = (buf[offset + 64] & 0xFF) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        int w17 = (buf[offset + 68] & 0xFF) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        int w18 = (buf[offset + 72] & 0xFF) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        int w19 = (buf[offset + 76] & 0xFF) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        values[valuesOffset] = w0 >>> 12;
+        values[valuesOffset + 1] = ((w0 << 8) | (w1 >>> 24)) & 0xFFFFF;
+        values[valuesOffset + 2] = (w1 >>> 4) & 0xFFFFF;
+        values[valuesOffset + 3] = ((w1 << 16) | (w2 >>> 16)) & 0xFFFFF;
+        values[valuesOffset + 4] = ((w2 << 4) | (w3 >>> 28)) & 0xFFFFF;
+        values[valuesOffset + 5] = (w3 >>> 8) & 0xFFFFF;
+        values[valuesOffset + 6] = ((w3 << 12) | (w4 >>> 20)) & 0xFFFFF;
+        values[valuesOffset + 7] = (w4) & 0xFFFFF;
+        values[valuesOffset + 8] = w5 >>> 12;
+        values[valuesOffset + 9] = ((w5 << 8) | (w6 >>> 24)) & 0xFFFFF;
+        values[valuesOffset + 10] = (w6 >>> 4) & 0xFFFFF;
+        values[valuesOffset + 11] = ((w6 << 16) | (w7 >>> 16)) & 0xFFFFF;
+        values[valuesOffset + 12] = ((w7 << 4) | (w8 >>> 28)) & 0xFFFFF;
+        values[valuesOffset + 13] = (w8 >>> 8) & 0xFFFFF;
+        values[valuesOffset + 14] = ((w8 << 12) | (w9 >>> 20)) & 0xFFFFF;
+        values[valuesOffset + 15] = (w9) & 0xFFFFF;
+        values[valuesOffset + 16] = w10 >>> 12;
+        values[valuesOffset + 17] = ((w10 << 8) | (w11 >>> 24)) & 0xFFFFF;
+        values[valuesOffset + 18] = (w11 >>> 4) & 0xFFFFF;
+        values[valuesOffset + 19] = ((w11 << 16) | (w12 >>> 16)) & 0xFFFFF;
+        values[valuesOffset + 20] = ((w12 << 4) | (w13 >>> 28)) & 0xFFFFF;
+        values[valuesOffset + 21] = (w13 >>> 8) & 0xFFFFF;
+        values[valuesOffset + 22] = ((w13 << 12) | (w14 >>> 20)) & 0xFFFFF;
+        values[valuesOffset + 23] = (w14) & 0xFFFFF;
+        values[valuesOffset + 24] = w15 >>> 12;
+        values[valuesOffset + 25] = ((w15 << 8) | (w16 >>> 24)) & 0xFFFFF;
+        values[valuesOffset + 26] = (w16 >>> 4) & 0xFFFFF;
+        values[valuesOffset + 27] = ((w16 << 16) | (w17 >>> 16)) & 0xFFFFF;
+        values[valuesOffset + 28] = ((w17 << 4) | (w18 >>> 28)) & 0xFFFFF;
+        values[valuesOffset + 29] = (w18 >>> 8) & 0xFFFFF;
+        values[valuesOffset + 30] = ((w18 << 12) | (w19 >>> 20)) & 0xFFFFF;
+        values[valuesOffset + 31] = (w19) & 0xFFFFF;
+    }
+
+    private static void unpack32Values21(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        int w15 = (buf[offset + 60] & 0xFF) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        int w16 = (buf[offset + 64] & 0xFF) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        int w17 = (buf[offset + 68] & 0xFF) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        int w18 = (buf[offset + 72] & 0xFF) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        int w19 = (buf[offset + 76] & 0xFF) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        int w20 = (buf[offset + 80] & 0xFF) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        values[valuesOffset] = w0 >>> 11;
+        values[valuesOffset + 1] = ((w0 << 10) | (w1 >>> 22)) & 0x1FFFFF;
+        values[valuesOffset + 2] = (w1 >>> 1) & 0x1FFFFF;
+        values[valuesOffset + 3] = ((w1 << 20) | (w2 >>> 12)) & 0x1FFFFF;
+        values[valuesOffset + 4] = ((w2 << 9) | (w3 >>> 23)) & 0x1FFFFF;
+        values[valuesOffset + 5] = (w3 >>> 2) & 0x1FFFFF;
+        values[valuesOffset + 6] = ((w3 << 19) | (w4 >>> 13)) & 0x1FFFFF;
+        values[valuesOffset + 7] = ((w4 << 8) | (w5 >>> 24)) & 0x1FFFFF;
+        values[valuesOffset + 8] = (w5 >>> 3) & 0x1FFFFF;
+        values[valuesOffset + 9] = ((w5 << 18) | (w6 >>> 14)) & 0x1FFFFF;
+        values[valuesOffset + 10] = ((w6 << 7) | (w7 >>> 25)) & 0x1FFFFF;
+        values[valuesOffset + 11] = (w7 >>> 4) & 0x1FFFFF;
+        values[valuesOffset + 12] = ((w7 << 17) | (w8 >>> 15)) & 0x1FFFFF;
+        values[valuesOffset + 13] = ((w8 << 6) | (w9 >>> 26)) & 0x1FFFFF;
+        values[valuesOffset + 14] = (w9 >>> 5) & 0x1FFFFF;
+        values[valuesOffset + 15] = ((w9 << 16) | (w10 >>> 16)) & 0x1FFFFF;
+        values[valuesOffset + 16] = ((w10 << 5) | (w11 >>> 27)) & 0x1FFFFF;
+        values[valuesOffset + 17] = (w11 >>> 6) & 0x1FFFFF;
+        values[valuesOffset + 18] = ((w11 << 15) | (w12 >>> 17)) & 0x1FFFFF;
+        values[valuesOffset + 19] = ((w12 << 4) | (w13 >>> 28)) & 0x1FFFFF;
+        values[valuesOffset + 20] = (w13 >>> 7) & 0x1FFFFF;
+        values[valuesOffset + 21] = ((w13 << 14) | (w14 >>> 18)) & 0x1FFFFF;
+        values[valuesOffset + 22] = ((w14 << 3) | (w15 >>> 29)) & 0x1FFFFF;
+        values[valuesOffset + 23] = (w15 >>> 8) & 0x1FFFFF;
+        values[valuesOffset + 24] = ((w15 << 13) | (w16 >>> 19)) & 0x1FFFFF;
+        values[valuesOffset + 25] = ((w16 << 2) | (w17 >>> 30)) & 0x1FFFFF;
+        values[valuesOffset + 26] = (w17 >>> 9) & 0x1FFFFF;
+        values[valuesOffset + 27] = ((w17 << 12) | (w18 >>> 20)) & 0x1FFFFF;
+        values[valuesOffset + 28] = ((w18 << 1) | (w19 >>> 31)) & 0x1FFFFF;
+        values[valuesOffset + 29] = (w19 >>> 10) & 0x1FFFFF;
+        values[valuesOffset + 30] = ((w19 << 11) | (w20 >>> 21)) & 0x1FFFFF;
+        values[valuesOffset + 31] = (w20) & 0x1FFFFF;
+    }
+
+    private static void unpack32Values22(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        int w15 = (buf[offset + 60] & 0xFF) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        int w16 = (buf[offset + 64] & 0xFF) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        int w17 = (buf[offset + 68] & 0xFF) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        int w18 = (buf[offset + 72] & 0xFF) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        int w19 = (buf[offset + 76] & 0xFF) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        int w20 = (buf[offset + 80] & 0xFF) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        int w21 = (buf[offset + 84] & 0xFF) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        values[valuesOffset] = w0 >>> 10;
+        values[valuesOffset + 1] = ((w0 << 12) | (w1 >>> 20)) & 0x3FFFFF;
+        values[valuesOffset + 2] = ((w1 << 2) | (w2 >>> 30)) & 0x3FFFFF;
+        values[valuesOffset + 3] = (w2 >>> 8) & 0x3FFFFF;
+        values[valuesOffset + 4] = ((w2 << 14) | (w3 >>> 18)) & 0x3FFFFF;
+        values[valuesOffset + 5] = ((w3 << 4) | (w4 >>> 28)) & 0x3FFFFF;
+        values[valuesOffset + 6] = (w4 >>> 6) & 0x3FFFFF;
+        values[valuesOffset + 7] = ((w4 << 16) | (w5 >>> 16)) & 0x3FFFFF;
+        values[valuesOffset + 8] = ((w5 << 6) | (w6 >>> 26)) & 0x3FFFFF;
+        values[valuesOffset + 9] = (w6 >>> 4) & 0x3FFFFF;
+        values[valuesOffset + 10] = ((w6 << 18) | (w7 >>> 14)) & 0x3FFFFF;
+        values[valuesOffset + 11] = ((w7 << 8) | (w8 >>> 24)) & 0x3FFFFF;
+        values[valuesOffset + 12] = (w8 >>> 2) & 0x3FFFFF;
+        values[valuesOffset + 13] = ((w8 << 20) | (w9 >>> 12)) & 0x3FFFFF;
+        values[valuesOffset + 14] = ((w9 << 10) | (w10 >>> 22)) & 0x3FFFFF;
+        values[valuesOffset + 15] = (w10) & 0x3FFFFF;
+        values[valuesOffset + 16] = w11 >>> 10;
+        values[valuesOffset + 17] = ((w11 << 12) | (w12 >>> 20)) & 0x3FFFFF;
+        values[valuesOffset + 18] = ((w12 << 2) | (w13 >>> 30)) & 0x3FFFFF;
+        values[valuesOffset + 19] = (w13 >>> 8) & 0x3FFFFF;
+        values[valuesOffset + 20] = ((w13 << 14) | (w14 >>> 18)) & 0x3FFFFF;
+        values[valuesOffset + 21] = ((w14 << 4) | (w15 >>> 28)) & 0x3FFFFF;
+        values[valuesOffset + 22] = (w15 >>> 6) & 0x3FFFFF;
+        values[valuesOffset + 23] = ((w15 << 16) | (w16 >>> 16)) & 0x3FFFFF;
+        values[valuesOffset + 24] = ((w16 << 6) | (w17 >>> 26)) & 0x3FFFFF;
+        values[valuesOffset + 25] = (w17 >>> 4) & 0x3FFFFF;
+        values[valuesOffset + 26] = ((w17 << 18) | (w18 >>> 14)) & 0x3FFFFF;
+        values[valuesOffset + 27] = ((w18 << 8) | (w19 >>> 24)) & 0x3FFFFF;
+        values[valuesOffset + 28] = (w19 >>> 2) & 0x3FFFFF;
+        values[valuesOffset + 29] = ((w19 << 20) | (w20 >>> 12)) & 0x3FFFFF;
+        values[valuesOffset + 30] = ((w20 << 10) | (w21 >>> 22)) & 0x3FFFFF;
+        values[valuesOffset + 31] = (w21) & 0x3FFFFF;
+    }
+
+    private static void unpack32Values23(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        int w15 = (buf[offset + 60] & 0xFF) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        int w16 = (buf[offset + 64] & 0xFF) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        int w17 = (buf[offset + 68] & 0xFF) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        int w18 = (buf[offset + 72] & 0xFF) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        int w19 = (buf[offset + 76] & 0xFF) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        int w20 = (buf[offset + 80] & 0xFF) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        int w21 = (buf[offset + 84] & 0xFF) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        int w22 = (buf[offset + 88] & 0xFF) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        values[valuesOffset] = w0 >>> 9;
+        values[valuesOffset + 1] = ((w0 << 14) | (w1 >>> 18)) & 0x7FFFFF;
+        values[valuesOffset + 2] = ((w1 << 5) | (w2 >>> 27)) & 0x7FFFFF;
+        values[valuesOffset + 3] = (w2 >>> 4) & 0x7FFFFF;
+        values[valuesOffset + 4] = ((w2 << 19) | (w3 >>> 13)) & 0x7FFFFF;
+        values[valuesOffset + 5] = ((w3 << 10) | (w4 >>> 22)) & 0x7FFFFF;
+        values[valuesOffset + 6] = ((w4 << 1) | (w5 >>> 31)) & 0x7FFFFF;
+        values[valuesOffset + 7] = (w5 >>> 8) & 0x7FFFFF;
+        values[valuesOffset + 8] = ((w5 << 15) | (w6 >>> 17)) & 0x7FFFFF;
+        values[valuesOffset + 9] = ((w6 << 6) | (w7 >>> 26)) & 0x7FFFFF;
+        values[valuesOffset + 10] = (w7 >>> 3) & 0x7FFFFF;
+        values[valuesOffset + 11] = ((w7 << 20) | (w8 >>> 12)) & 0x7FFFFF;
+        values[valuesOffset + 12] = ((w8 << 11) | (w9 >>> 21)) & 0x7FFFFF;
+        values[valuesOffset + 13] = ((w9 << 2) | (w10 >>> 30)) & 0x7FFFFF;
+        values[valuesOffset + 14] = (w10 >>> 7) & 0x7FFFFF;
+        values[valuesOffset + 15] = ((w10 << 16) | (w11 >>> 16)) & 0x7FFFFF;
+        values[valuesOffset + 16] = ((w11 << 7) | (w12 >>> 25)) & 0x7FFFFF;
+        values[valuesOffset + 17] = (w12 >>> 2) & 0x7FFFFF;
+        values[valuesOffset + 18] = ((w12 << 21) | (w13 >>> 11)) & 0x7FFFFF;
+        values[valuesOffset + 19] = ((w13 << 12) | (w14 >>> 20)) & 0x7FFFFF;
+        values[valuesOffset + 20] = ((w14 << 3) | (w15 >>> 29)) & 0x7FFFFF;
+        values[valuesOffset + 21] = (w15 >>> 6) & 0x7FFFFF;
+        values[valuesOffset + 22] = ((w15 << 17) | (w16 >>> 15)) & 0x7FFFFF;
+        values[valuesOffset + 23] = ((w16 << 8) | (w17 >>> 24)) & 0x7FFFFF;
+        values[valuesOffset + 24] = (w17 >>> 1) & 0x7FFFFF;
+        values[valuesOffset + 25] = ((w17 << 22) | (w18 >>> 10)) & 0x7FFFFF;
+        values[valuesOffset + 26] = ((w18 << 13) | (w19 >>> 19)) & 0x7FFFFF;
+        values[valuesOffset + 27] = ((w19 << 4) | (w20 >>> 28)) & 0x7FFFFF;
+        values[valuesOffset + 28] = (w20 >>> 5) & 0x7FFFFF;
+        values[valuesOffset + 29] = ((w20 << 18) | (w21 >>> 14)) & 0x7FFFFF;
+        values[valuesOffset + 30] = ((w21 << 9) | (w22 >>> 23)) & 0x7FFFFF;
+        values[valuesOffset + 31] = (w22) & 0x7FFFFF;
+    }
+
+    private static void unpack32Values24(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        int w15 = (buf[offset + 60] & 0xFF) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        int w16 = (buf[offset + 64] & 0xFF) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        int w17 = (buf[offset + 68] & 0xFF) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        int w18 = (buf[offset + 72] & 0xFF) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        int w19 = (buf[offset + 76] & 0xFF) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        int w20 = (buf[offset + 80] & 0xFF) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        int w21 = (buf[offset + 84] & 0xFF) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        int w22 = (buf[offset + 88] & 0xFF) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        int w23 = (buf[offset + 92] & 0xFF) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        values[valuesOffset] = w0 >>> 8;
+        values[valuesOffset + 1] = ((w0 << 16) | (w1 >>> 16)) & 0xFFFFFF;
+        values[valuesOffset + 2] = ((w1 << 8) | (w2 >>> 24)) & 0xFFFFFF;
+        values[valuesOffset + 3] = (w2) & 0xFFFFFF;
+        values[valuesOffset + 4] = w3 >>> 8;
+        values[valuesOffset + 5] = ((w3 << 16) | (w4 >>> 16)) & 0xFFFFFF;
+        values[valuesOffset + 6] = ((w4 << 8) | (w5 >>> 24)) & 0xFFFFFF;
+        values[valuesOffset + 7] = (w5) & 0xFFFFFF;
+        values[valuesOffset + 8] = w6 >>> 8;
+        values[valuesOffset + 9] = ((w6 << 16) | (w7 >>> 16)) & 0xFFFFFF;
+        values[valuesOffset + 10] = ((w7 << 8) | (w8 >>> 24)) & 0xFFFFFF;
+        values[valuesOffset + 11] = (w8) & 0xFFFFFF;
+        values[valuesOffset + 12] = w9 >>> 8;
+        values[valuesOffset + 13] = ((w9 << 16) | (w10 >>> 16)) & 0xFFFFFF;
+        values[valuesOffset + 14] = ((w10 << 8) | (w11 >>> 24)) & 0xFFFFFF;
+        values[valuesOffset + 15] = (w11) & 0xFFFFFF;
+        values[valuesOffset + 16] = w12 >>> 8;
+        values[valuesOffset + 17] = ((w12 << 16) | (w13 >>> 16)) & 0xFFFFFF;
+        values[valuesOffset + 18] = ((w13 << 8) | (w14 >>> 24)) & 0xFFFFFF;
+        values[valuesOffset + 19] = (w14) & 0xFFFFFF;
+        values[valuesOffset + 20] = w15 >>> 8;
+        values[valuesOffset + 21] = ((w15 << 16) | (w16 >>> 16)) & 0xFFFFFF;
+        values[valuesOffset + 22] = ((w16 << 8) | (w17 >>> 24)) & 0xFFFFFF;
+        values[valuesOffset + 23] = (w17) & 0xFFFFFF;
+        values[valuesOffset + 24] = w18 >>> 8;
+        values[valuesOffset + 25] = ((w18 << 16) | (w19 >>> 16)) & 0xFFFFFF;
+        values[valuesOffset + 26] = ((w19 << 8) | (w20 >>> 24)) & 0xFFFFFF;
+        values[valuesOffset + 27] = (w20) & 0xFFFFFF;
+        values[valuesOffset + 28] = w21 >>> 8;
+        values[valuesOffset + 29] = ((w21 << 16) | (w22 >>> 16)) & 0xFFFFFF;
+        values[valuesOffset + 30] = ((w22 << 8) | (w23 >>> 24)) & 0xFFFFFF;
+        values[valuesOffset + 31] = (w23) & 0xFFFFFF;
+    }
+
+    private static void unpack32Values25(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        int w15 = (buf[offset + 60] & 0xFF) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        int w16 = (buf[offset + 64] & 0xFF) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        int w17 = (buf[offset + 68] & 0xFF) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        int w18 = (buf[offset + 72] & 0xFF) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        int w19 = (buf[offset + 76] & 0xFF) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        int w20 = (buf[offset + 80] & 0xFF) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        int w21 = (buf[offset + 84] & 0xFF) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        int w22 = (buf[offset + 88] & 0xFF) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        int w23 = (buf[offset + 92] & 0xFF) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        int w24 = (buf[offset + 96] & 0xFF) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        values[valuesOffset] = w0 >>> 7;
+        values[valuesOffset + 1] = ((w0 << 18) | (w1 >>> 14)) & 0x1FFFFFF;
+        values[valuesOffset + 2] = ((w1 << 11) | (w2 >>> 21)) & 0x1FFFFFF;
+        values[valuesOffset + 3] = ((w2 << 4) | (w3 >>> 28)) & 0x1FFFFFF;
+        values[valuesOffset + 4] = (w3 >>> 3) & 0x1FFFFFF;
+        values[valuesOffset + 5] = ((w3 << 22) | (w4 >>> 10)) & 0x1FFFFFF;
+        values[valuesOffset + 6] = ((w4 << 15) | (w5 >>> 17)) & 0x1FFFFFF;
+        values[valuesOffset + 7] = ((w5 << 8) | (w6 >>> 24)) & 0x1FFFFFF;
+        values[valuesOffset + 8] = ((w6 << 1) | (w7 >>> 31)) & 0x1FFFFFF;
+        values[valuesOffset + 9] = (w7 >>> 6) & 0x1FFFFFF;
+        values[valuesOffset + 10] = ((w7 << 19) | (w8 >>> 13)) & 0x1FFFFFF;
+        values[valuesOffset + 11] = ((w8 << 12) | (w9 >>> 20)) & 0x1FFFFFF;
+        values[valuesOffset + 12] = ((w9 << 5) | (w10 >>> 27)) & 0x1FFFFFF;
+        values[valuesOffset + 13] = (w10 >>> 2) & 0x1FFFFFF;
+        values[valuesOffset + 14] = ((w10 << 23) | (w11 >>> 9)) & 0x1FFFFFF;
+        values[valuesOffset + 15] = ((w11 << 16) | (w12 >>> 16)) & 0x1FFFFFF;
+        values[valuesOffset + 16] = ((w12 << 9) | (w13 >>> 23)) & 0x1FFFFFF;
+        values[valuesOffset + 17] = ((w13 << 2) | (w14 >>> 30)) & 0x1FFFFFF;
+        values[valuesOffset + 18] = (w14 >>> 5) & 0x1FFFFFF;
+        values[valuesOffset + 19] = ((w14 << 20) | (w15 >>> 12)) & 0x1FFFFFF;
+        values[valuesOffset + 20] = ((w15 << 13) | (w16 >>> 19)) & 0x1FFFFFF;
+        values[valuesOffset + 21] = ((w16 << 6) | (w17 >>> 26)) & 0x1FFFFFF;
+        values[valuesOffset + 22] = (w17 >>> 1) & 0x1FFFFFF;
+        values[valuesOffset + 23] = ((w17 << 24) | (w18 >>> 8)) & 0x1FFFFFF;
+        values[valuesOffset + 24] = ((w18 << 17) | (w19 >>> 15)) & 0x1FFFFFF;
+        values[valuesOffset + 25] = ((w19 << 10) | (w20 >>> 22)) & 0x1FFFFFF;
+        values[valuesOffset + 26] = ((w20 << 3) | (w21 >>> 29)) & 0x1FFFFFF;
+        values[valuesOffset + 27] = (w21 >>> 4) & 0x1FFFFFF;
+        values[valuesOffset + 28] = ((w21 << 21) | (w22 >>> 11)) & 0x1FFFFFF;
+        values[valuesOffset + 29] = ((w22 << 14) | (w23 >>> 18)) & 0x1FFFFFF;
+        values[valuesOffset + 30] = ((w23 << 7) | (w24 >>> 25)) & 0x1FFFFFF;
+        values[valuesOffset + 31] = (w24) & 0x1FFFFFF;
+    }
+
+    private static void unpack32Values26(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        int w15 = (buf[offset + 60] & 0xFF) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        int w16 = (buf[offset + 64] & 0xFF) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        int w17 = (buf[offset + 68] & 0xFF) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        int w18 = (buf[offset + 72] & 0xFF) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        int w19 = (buf[offset + 76] & 0xFF) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        int w20 = (buf[offset + 80] & 0xFF) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        int w21 = (buf[offset + 84] & 0xFF) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        int w22 = (buf[offset + 88] & 0xFF) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        int w23 = (buf[offset + 92] & 0xFF) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        int w24 = (buf[offset + 96] & 0xFF) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        int w25 = (buf[offset + 100] & 0xFF) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        values[valuesOffset] = w0 >>> 6;
+        values[valuesOffset + 1] = ((w0 << 20) | (w1 >>> 12)) & 0x3FFFFFF;
+        values[valuesOffset + 2] = ((w1 << 14) | (w2 >>> 18)) & 0x3FFFFFF;
+        values[valuesOffset + 3] = ((w2 << 8) | (w3 >>> 24)) & 0x3FFFFFF;
+        values[valuesOffset + 4] = ((w3 << 2) | (w4 >>> 30)) & 0x3FFFFFF;
+        values[valuesOffset + 5] = (w4 >>> 4) & 0x3FFFFFF;
+        values[valuesOffset + 6] = ((w4 << 22) | (w5 >>> 10)) & 0x3FFFFFF;
+        values[valuesOffset + 7] = ((w5 << 16) | (w6 >>> 16)) & 0x3FFFFFF;
+        values[valuesOffset + 8] = ((w6 << 10) | (w7 >>> 22)) & 0x3FFFFFF;
+        values[valuesOffset + 9] = ((w7 << 4) | (w8 >>> 28)) & 0x3FFFFFF;
+        values[valuesOffset + 10] = (w8 >>> 2) & 0x3FFFFFF;
+        values[valuesOffset + 11] = ((w8 << 24) | (w9 >>> 8)) & 0x3FFFFFF;
+        values[valuesOffset + 12] = ((w9 << 18) | (w10 >>> 14)) & 0x3FFFFFF;
+        values[valuesOffset + 13] = ((w10 << 12) | (w11 >>> 20)) & 0x3FFFFFF;
+        values[valuesOffset + 14] = ((w11 << 6) | (w12 >>> 26)) & 0x3FFFFFF;
+        values[valuesOffset + 15] = (w12) & 0x3FFFFFF;
+        values[valuesOffset + 16] = w13 >>> 6;
+        values[valuesOffset + 17] = ((w13 << 20) | (w14 >>> 12)) & 0x3FFFFFF;
+        values[valuesOffset + 18] = ((w14 << 14) | (w15 >>> 18)) & 0x3FFFFFF;
+        values[valuesOffset + 19] = ((w15 << 8) | (w16 >>> 24)) & 0x3FFFFFF;
+        values[valuesOffset + 20] = ((w16 << 2) | (w17 >>> 30)) & 0x3FFFFFF;
+        values[valuesOffset + 21] = (w17 >>> 4) & 0x3FFFFFF;
+        values[valuesOffset + 22] = ((w17 << 22) | (w18 >>> 10)) & 0x3FFFFFF;
+        values[valuesOffset + 23] = ((w18 << 16) | (w19 >>> 16)) & 0x3FFFFFF;
+        values[valuesOffset + 24] = ((w19 << 10) | (w20 >>> 22)) & 0x3FFFFFF;
+        values[valuesOffset + 25] = ((w20 << 4) | (w21 >>> 28)) & 0x3FFFFFF;
+        values[valuesOffset + 26] = (w21 >>> 2) & 0x3FFFFFF;
+        values[valuesOffset + 27] = ((w21 << 24) | (w22 >>> 8)) & 0x3FFFFFF;
+        values[valuesOffset + 28] = ((w22 << 18) | (w23 >>> 14)) & 0x3FFFFFF;
+        values[valuesOffset + 29] = ((w23 << 12) | (w24 >>> 20)) & 0x3FFFFFF;
+        values[valuesOffset + 30] = ((w24 << 6) | (w25 >>> 26)) & 0x3FFFFFF;
+        values[valuesOffset + 31] = (w25) & 0x3FFFFFF;
+    }
+
+    private static void unpack32Values27(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        int w15 = (buf[offset + 60] & 0xFF) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        int w16 = (buf[offset + 64] & 0xFF) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        int w17 = (buf[offset + 68] & 0xFF) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        int w18 = (buf[offset + 72] & 0xFF) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        int w19 = (buf[offset + 76] & 0xFF) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        int w20 = (buf[offset + 80] & 0xFF) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        int w21 = (buf[offset + 84] & 0xFF) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        int w22 = (buf[offset + 88] & 0xFF) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        int w23 = (buf[offset + 92] & 0xFF) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        int w24 = (buf[offset + 96] & 0xFF) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        int w25 = (buf[offset + 100] & 0xFF) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        int w26 = (buf[offset + 104] & 0xFF) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        values[valuesOffset] = w0 >>> 5;
+        values[valuesOffset + 1] = ((w0 << 22) | (w1 >>> 10)) & 0x7FFFFFF;
+        values[valuesOffset + 2] = ((w1 << 17) | (w2 >>> 15)) & 0x7FFFFFF;
+        values[valuesOffset + 3] = ((w2 << 12) | (w3 >>> 20)) & 0x7FFFFFF;
+        values[valuesOffset + 4] = ((w3 << 7) | (w4 >>> 25)) & 0x7FFFFFF;
+        values[valuesOffset + 5] = ((w4 << 2) | (w5 >>> 30)) & 0x7FFFFFF;
+        values[valuesOffset + 6] = (w5 >>> 3) & 0x7FFFFFF;
+        values[valuesOffset + 7] = ((w5 << 24) | (w6 >>> 8)) & 0x7FFFFFF;
+        values[valuesOffset + 8] = ((w6 << 19) | (w7 >>> 13)) & 0x7FFFFFF;
+        values[valuesOffset + 9] = ((w7 << 14) | (w8 >>> 18)) & 0x7FFFFFF;
+        values[valuesOffset + 10] = ((w8 << 9) | (w9 >>> 23)) & 0x7FFFFFF;
+        values[valuesOffset + 11] = ((w9 << 4) | (w10 >>> 28)) & 0x7FFFFFF;
+        values[valuesOffset + 12] = (w10 >>> 1) & 0x7FFFFFF;
+        values[valuesOffset + 13] = ((w10 << 26) | (w11 >>> 6)) & 0x7FFFFFF;
+        values[valuesOffset + 14] = ((w11 << 21) | (w12 >>> 11)) & 0x7FFFFFF;
+        values[valuesOffset + 15] = ((w12 << 16) | (w13 >>> 16)) & 0x7FFFFFF;
+        values[valuesOffset + 16] = ((w13 << 11) | (w14 >>> 21)) & 0x7FFFFFF;
+        values[valuesOffset + 17] = ((w14 << 6) | (w15 >>> 26)) & 0x7FFFFFF;
+        values[valuesOffset + 18] = ((w15 << 1) | (w16 >>> 31)) & 0x7FFFFFF;
+        values[valuesOffset + 19] = (w16 >>> 4) & 0x7FFFFFF;
+        values[valuesOffset + 20] = ((w16 << 23) | (w17 >>> 9)) & 0x7FFFFFF;
+        values[valuesOffset + 21] = ((w17 << 18) | (w18 >>> 14)) & 0x7FFFFFF;
+        values[valuesOffset + 22] = ((w18 << 13) | (w19 >>> 19)) & 0x7FFFFFF;
+        values[valuesOffset + 23] = ((w19 << 8) | (w20 >>> 24)) & 0x7FFFFFF;
+        values[valuesOffset + 24] = ((w20 << 3) | (w21 >>> 29)) & 0x7FFFFFF;
+        values[valuesOffset + 25] = (w21 >>> 2) & 0x7FFFFFF;
+        values[valuesOffset + 26] = ((w21 << 25) | (w22 >>> 7)) & 0x7FFFFFF;
+        values[valuesOffset + 27] = ((w22 << 20) | (w23 >>> 12)) & 0x7FFFFFF;
+        values[valuesOffset + 28] = ((w23 << 15) | (w24 >>> 17)) & 0x7FFFFFF;
+        values[valuesOffset + 29] = ((w24 << 10) | (w25 >>> 22)) & 0x7FFFFFF;
+        values[valuesOffset + 30] = ((w25 << 5) | (w26 >>> 27)) & 0x7FFFFFF;
+        values[valuesOffset + 31] = (w26) & 0x7FFFFFF;
+    }
+
+    private static void unpack32Values28(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        int w15 = (buf[offset + 60] & 0xFF) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        int w16 = (buf[offset + 64] & 0xFF) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        int w17 = (buf[offset + 68] & 0xFF) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        int w18 = (buf[offset + 72] & 0xFF) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        int w19 = (buf[offset + 76] & 0xFF) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        int w20 = (buf[offset + 80] & 0xFF) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        int w21 = (buf[offset + 84] & 0xFF) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        int w22 = (buf[offset + 88] & 0xFF) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        int w23 = (buf[offset + 92] & 0xFF) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        int w24 = (buf[offset + 96] & 0xFF) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        int w25 = (buf[offset + 100] & 0xFF) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        int w26 = (buf[offset + 104] & 0xFF) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        int w27 = (buf[offset + 108] & 0xFF) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        values[valuesOffset] = w0 >>> 4;
+        values[valuesOffset + 1] = ((w0 << 24) | (w1 >>> 8)) & 0xFFFFFFF;
+        values[valuesOffset + 2] = ((w1 << 20) | (w2 >>> 12)) & 0xFFFFFFF;
+        values[valuesOffset + 3] = ((w2 << 16) | (w3 >>> 16)) & 0xFFFFFFF;
+        values[valuesOffset + 4] = ((w3 << 12) | (w4 >>> 20)) & 0xFFFFFFF;
+        values[valuesOffset + 5] = ((w4 << 8) | (w5 >>> 24)) & 0xFFFFFFF;
+        values[valuesOffset + 6] = ((w5 << 4) | (w6 >>> 28)) & 0xFFFFFFF;
+        values[valuesOffset + 7] = (w6) & 0xFFFFFFF;
+        values[valuesOffset + 8] = w7 >>> 4;
+        values[valuesOffset + 9] = ((w7 << 24) | (w8 >>> 8)) & 0xFFFFFFF;
+        values[valuesOffset + 10] = ((w8 << 20) | (w9 >>> 12)) & 0xFFFFFFF;
+        values[valuesOffset + 11] = ((w9 << 16) | (w10 >>> 16)) & 0xFFFFFFF;
+        values[valuesOffset + 12] = ((w10 << 12) | (w11 >>> 20)) & 0xFFFFFFF;
+        values[valuesOffset + 13] = ((w11 << 8) | (w12 >>> 24)) & 0xFFFFFFF;
+        values[valuesOffset + 14] = ((w12 << 4) | (w13 >>> 28)) & 0xFFFFFFF;
+        values[valuesOffset + 15] = (w13) & 0xFFFFFFF;
+        values[valuesOffset + 16] = w14 >>> 4;
+        values[valuesOffset + 17] = ((w14 << 24) | (w15 >>> 8)) & 0xFFFFFFF;
+        values[valuesOffset + 18] = ((w15 << 20) | (w16 >>> 12)) & 0xFFFFFFF;
+        values[valuesOffset + 19] = ((w16 << 16) | (w17 >>> 16)) & 0xFFFFFFF;
+        values[valuesOffset + 20] = ((w17 << 12) | (w18 >>> 20)) & 0xFFFFFFF;
+        values[valuesOffset + 21] = ((w18 << 8) | (w19 >>> 24)) & 0xFFFFFFF;
+        values[valuesOffset + 22] = ((w19 << 4) | (w20 >>> 28)) & 0xFFFFFFF;
+        values[valuesOffset + 23] = (w20) & 0xFFFFFFF;
+        values[valuesOffset + 24] = w21 >>> 4;
+        values[valuesOffset + 25] = ((w21 << 24) | (w22 >>> 8)) & 0xFFFFFFF;
+        values[valuesOffset + 26] = ((w22 << 20) | (w23 >>> 12)) & 0xFFFFFFF;
+        values[valuesOffset + 27] = ((w23 << 16) | (w24 >>> 16)) & 0xFFFFFFF;
+        values[valuesOffset + 28] = ((w24 << 12) | (w25 >>> 20)) & 0xFFFFFFF;
+        values[valuesOffset + 29] = ((w25 << 8) | (w26 >>> 24)) & 0xFFFFFFF;
+        values[valuesOffset + 30] = ((w26 << 4) | (w27 >>> 28)) & 0xFFFFFFF;
+        values[valuesOffset + 31] = (w27) & 0xFFFFFFF;
+    }
+
+    private static void unpack32Values29(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        int w15 = (buf[offset + 60] & 0xFF) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        int w16 = (buf[offset + 64] & 0xFF) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        int w17 = (buf[offset + 68] & 0xFF) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        int w18 = (buf[offset + 72] & 0xFF) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        int w19 = (buf[offset + 76] & 0xFF) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        int w20 = (buf[offset + 80] & 0xFF) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        int w21 = (buf[offset + 84] & 0xFF) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        int w22 = (buf[offset + 88] & 0xFF) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        int w23 = (buf[offset + 92] & 0xFF) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        int w24 = (buf[offset + 96] & 0xFF) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        int w25 = (buf[offset + 100] & 0xFF) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        int w26 = (buf[offset + 104] & 0xFF) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        int w27 = (buf[offset + 108] & 0xFF) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        int w28 = (buf[offset + 112] & 0xFF) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        values[valuesOffset] = w0 >>> 3;
+        values[valuesOffset + 1] = ((w0 << 26) | (w1 >>> 6)) & 0x1FFFFFFF;
+        values[valuesOffset + 2] = ((w1 << 23) | (w2 >>> 9)) & 0x1FFFFFFF;
+        values[valuesOffset + 3] = ((w2 << 20) | (w3 >>> 12)) & 0x1FFFFFFF;
+        values[valuesOffset + 4] = ((w3 << 17) | (w4 >>> 15)) & 0x1FFFFFFF;
+        values[valuesOffset + 5] = ((w4 << 14) | (w5 >>> 18)) & 0x1FFFFFFF;
+        values[valuesOffset + 6] = ((w5 << 11) | (w6 >>> 21)) & 0x1FFFFFFF;
+        values[valuesOffset + 7] = ((w6 << 8) | (w7 >>> 24)) & 0x1FFFFFFF;
+        values[valuesOffset + 8] = ((w7 << 5) | (w8 >>> 27)) & 0x1FFFFFFF;
+        values[valuesOffset + 9] = ((w8 << 2) | (w9 >>> 30)) & 0x1FFFFFFF;
+        values[valuesOffset + 10] = (w9 >>> 1) & 0x1FFFFFFF;
+        values[valuesOffset + 11] = ((w9 << 28) | (w10 >>> 4)) & 0x1FFFFFFF;
+        values[valuesOffset + 12] = ((w10 << 25) | (w11 >>> 7)) & 0x1FFFFFFF;
+        values[valuesOffset + 13] = ((w11 << 22) | (w12 >>> 10)) & 0x1FFFFFFF;
+        values[valuesOffset + 14] = ((w12 << 19) | (w13 >>> 13)) & 0x1FFFFFFF;
+        values[valuesOffset + 15] = ((w13 << 16) | (w14 >>> 16)) & 0x1FFFFFFF;
+        values[valuesOffset + 16] = ((w14 << 13) | (w15 >>> 19)) & 0x1FFFFFFF;
+        values[valuesOffset + 17] = ((w15 << 10) | (w16 >>> 22)) & 0x1FFFFFFF;
+        values[valuesOffset + 18] = ((w16 << 7) | (w17 >>> 25)) & 0x1FFFFFFF;
+        values[valuesOffset + 19] = ((w17 << 4) | (w18 >>> 28)) & 0x1FFFFFFF;
+        values[valuesOffset + 20] = ((w18 << 1) | (w19 >>> 31)) & 0x1FFFFFFF;
+        values[valuesOffset + 21] = (w19 >>> 2) & 0x1FFFFFFF;
+        values[valuesOffset + 22] = ((w19 << 27) | (w20 >>> 5)) & 0x1FFFFFFF;
+        values[valuesOffset + 23] = ((w20 << 24) | (w21 >>> 8)) & 0x1FFFFFFF;
+        values[valuesOffset + 24] = ((w21 << 21) | (w22 >>> 11)) & 0x1FFFFFFF;
+        values[valuesOffset + 25] = ((w22 << 18) | (w23 >>> 14)) & 0x1FFFFFFF;
+        values[valuesOffset + 26] = ((w23 << 15) | (w24 >>> 17)) & 0x1FFFFFFF;
+        values[valuesOffset + 27] = ((w24 << 12) | (w25 >>> 20)) & 0x1FFFFFFF;
+        values[valuesOffset + 28] = ((w25 << 9) | (w26 >>> 23)) & 0x1FFFFFFF;
+        values[valuesOffset + 29] = ((w26 << 6) | (w27 >>> 26)) & 0x1FFFFFFF;
+        values[valuesOffset + 30] = ((w27 << 3) | (w28 >>> 29)) & 0x1FFFFFFF;
+        values[valuesOffset + 31] = (w28) & 0x1FFFFFFF;
+    }
+
+    private static void unpack32Values30(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        int w15 = (buf[offset + 60] & 0xFF) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        int w16 = (buf[offset + 64] & 0xFF) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        int w17 = (buf[offset + 68] & 0xFF) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        int w18 = (buf[offset + 72] & 0xFF) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        int w19 = (buf[offset + 76] & 0xFF) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        int w20 = (buf[offset + 80] & 0xFF) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        int w21 = (buf[offset + 84] & 0xFF) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        int w22 = (buf[offset + 88] & 0xFF) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        int w23 = (buf[offset + 92] & 0xFF) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        int w24 = (buf[offset + 96] & 0xFF) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        int w25 = (buf[offset + 100] & 0xFF) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        int w26 = (buf[offset + 104] & 0xFF) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        int w27 = (buf[offset + 108] & 0xFF) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        int w28 = (buf[offset + 112] & 0xFF) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        int w29 = (buf[offset + 116] & 0xFF) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        values[valuesOffset] = w0 >>> 2;
+        values[valuesOffset + 1] = ((w0 << 28) | (w1 >>> 4)) & 0x3FFFFFFF;
+        values[valuesOffset + 2] = ((w1 << 26) | (w2 >>> 6)) & 0x3FFFFFFF;
+        values[valuesOffset + 3] = ((w2 << 24) | (w3 >>> 8)) & 0x3FFFFFFF;
+        values[valuesOffset + 4] = ((w3 << 22) | (w4 >>> 10)) & 0x3FFFFFFF;
+        values[valuesOffset + 5] = ((w4 << 20) | (w5 >>> 12)) & 0x3FFFFFFF;
+        values[valuesOffset + 6] = ((w5 << 18) | (w6 >>> 14)) & 0x3FFFFFFF;
+        values[valuesOffset + 7] = ((w6 << 16) | (w7 >>> 16)) & 0x3FFFFFFF;
+        values[valuesOffset + 8] = ((w7 << 14) | (w8 >>> 18)) & 0x3FFFFFFF;
+        values[valuesOffset + 9] = ((w8 << 12) | (w9 >>> 20)) & 0x3FFFFFFF;
+        values[valuesOffset + 10] = ((w9 << 10) | (w10 >>> 22)) & 0x3FFFFFFF;
+        values[valuesOffset + 11] = ((w10 << 8) | (w11 >>> 24)) & 0x3FFFFFFF;
+        values[valuesOffset + 12] = ((w11 << 6) | (w12 >>> 26)) & 0x3FFFFFFF;
+        values[valuesOffset + 13] = ((w12 << 4) | (w13 >>> 28)) & 0x3FFFFFFF;
+        values[valuesOffset + 14] = ((w13 << 2) | (w14 >>> 30)) & 0x3FFFFFFF;
+        values[valuesOffset + 15] = (w14) & 0x3FFFFFFF;
+        values[valuesOffset + 16] = w15 >>> 2;
+        values[valuesOffset + 17] = ((w15 << 28) | (w16 >>> 4)) & 0x3FFFFFFF;
+        values[valuesOffset + 18] = ((w16 << 26) | (w17 >>> 6)) & 0x3FFFFFFF;
+        values[valuesOffset + 19] = ((w17 << 24) | (w18 >>> 8)) & 0x3FFFFFFF;
+        values[valuesOffset + 20] = ((w18 << 22) | (w19 >>> 10)) & 0x3FFFFFFF;
+        values[valuesOffset + 21] = ((w19 << 20) | (w20 >>> 12)) & 0x3FFFFFFF;
+        values[valuesOffset + 22] = ((w20 << 18) | (w21 >>> 14)) & 0x3FFFFFFF;
+        values[valuesOffset + 23] = ((w21 << 16) | (w22 >>> 16)) & 0x3FFFFFFF;
+        values[valuesOffset + 24] = ((w22 << 14) | (w23 >>> 18)) & 0x3FFFFFFF;
+        values[valuesOffset + 25] = ((w23 << 12) | (w24 >>> 20)) & 0x3FFFFFFF;
+        values[valuesOffset + 26] = ((w24 << 10) | (w25 >>> 22)) & 0x3FFFFFFF;
+        values[valuesOffset + 27] = ((w25 << 8) | (w26 >>> 24)) & 0x3FFFFFFF;
+        values[valuesOffset + 28] = ((w26 << 6) | (w27 >>> 26)) & 0x3FFFFFFF;
+        values[valuesOffset + 29] = ((w27 << 4) | (w28 >>> 28)) & 0x3FFFFFFF;
+        values[valuesOffset + 30] = ((w28 << 2) | (w29 >>> 30)) & 0x3FFFFFFF;
+        values[valuesOffset + 31] = (w29) & 0x3FFFFFFF;
+    }
+
+    private static void unpack32Values31(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        int w15 = (buf[offset + 60] & 0xFF) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        int w16 = (buf[offset + 64] & 0xFF) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        int w17 = (buf[offset + 68] & 0xFF) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        int w18 = (buf[offset + 72] & 0xFF) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        int w19 = (buf[offset + 76] & 0xFF) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        int w20 = (buf[offset + 80] & 0xFF) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        int w21 = (buf[offset + 84] & 0xFF) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        int w22 = (buf[offset + 88] & 0xFF) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        int w23 = (buf[offset + 92] & 0xFF) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        int w24 = (buf[offset + 96] & 0xFF) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        int w25 = (buf[offset + 100] & 0xFF) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        int w26 = (buf[offset + 104] & 0xFF) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        int w27 = (buf[offset + 108] & 0xFF) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        int w28 = (buf[offset + 112] & 0xFF) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        int w29 = (buf[offset + 116] & 0xFF) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        int w30 = (buf[offset + 120] & 0xFF) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        values[valuesOffset] = w0 >>> 1;
+        values[valuesOffset + 1] = ((w0 << 30) | (w1 >>> 2)) & 0x7FFFFFFF;
+        values[valuesOffset + 2] = ((w1 << 29) | (w2 >>> 3)) & 0x7FFFFFFF;
+        values[valuesOffset + 3] = ((w2 << 28) | (w3 >>> 4)) & 0x7FFFFFFF;
+        values[valuesOffset + 4] = ((w3 << 27) | (w4 >>> 5)) & 0x7FFFFFFF;
+        values[valuesOffset + 5] = ((w4 << 26) | (w5 >>> 6)) & 0x7FFFFFFF;
+        values[valuesOffset + 6] = ((w5 << 25) | (w6 >>> 7)) & 0x7FFFFFFF;
+        values[valuesOffset + 7] = ((w6 << 24) | (w7 >>> 8)) & 0x7FFFFFFF;
+        values[valuesOffset + 8] = ((w7 << 23) | (w8 >>> 9)) & 0x7FFFFFFF;
+        values[valuesOffset + 9] = ((w8 << 22) | (w9 >>> 10)) & 0x7FFFFFFF;
+        values[valuesOffset + 10] = ((w9 << 21) | (w10 >>> 11)) & 0x7FFFFFFF;
+        values[valuesOffset + 11] = ((w10 << 20) | (w11 >>> 12)) & 0x7FFFFFFF;
+        values[valuesOffset + 12] = ((w11 << 19) | (w12 >>> 13)) & 0x7FFFFFFF;
+        values[valuesOffset + 13] = ((w12 << 18) | (w13 >>> 14)) & 0x7FFFFFFF;
+        values[valuesOffset + 14] = ((w13 << 17) | (w14 >>> 15)) & 0x7FFFFFFF;
+        values[valuesOffset + 15] = ((w14 << 16) | (w15 >>> 16)) & 0x7FFFFFFF;
+        values[valuesOffset + 16] = ((w15 << 15) | (w16 >>> 17)) & 0x7FFFFFFF;
+        values[valuesOffset + 17] = ((w16 << 14) | (w17 >>> 18)) & 0x7FFFFFFF;
+        values[valuesOffset + 18] = ((w17 << 13) | (w18 >>> 19)) & 0x7FFFFFFF;
+        values[valuesOffset + 19] = ((w18 << 12) | (w19 >>> 20)) & 0x7FFFFFFF;
+        values[valuesOffset + 20] = ((w19 << 11) | (w20 >>> 21)) & 0x7FFFFFFF;
+        values[valuesOffset + 21] = ((w20 << 10) | (w21 >>> 22)) & 0x7FFFFFFF;
+        values[valuesOffset + 22] = ((w21 << 9) | (w22 >>> 23)) & 0x7FFFFFFF;
+        values[valuesOffset + 23] = ((w22 << 8) | (w23 >>> 24)) & 0x7FFFFFFF;
+        values[valuesOffset + 24] = ((w23 << 7) | (w24 >>> 25)) & 0x7FFFFFFF;
+        values[valuesOffset + 25] = ((w24 << 6) | (w25 >>> 26)) & 0x7FFFFFFF;
+        values[valuesOffset + 26] = ((w25 << 5) | (w26 >>> 27)) & 0x7FFFFFFF;
+        values[valuesOffset + 27] = ((w26 << 4) | (w27 >>> 28)) & 0x7FFFFFFF;
+        values[valuesOffset + 28] = ((w27 << 3) | (w28 >>> 29)) & 0x7FFFFFFF;
+        values[valuesOffset + 29] = ((w28 << 2) | (w29 >>> 30)) & 0x7FFFFFFF;
+        values[valuesOffset + 30] = ((w29 << 1) | (w30 >>> 31)) & 0x7FFFFFFF;
+        values[valuesOffset + 31] = (w30) & 0x7FFFFFFF;
+    }
+
+    private static void unpack32Values32(byte[] buf, int offset, int[] values, int valuesOffset) {
+        int w0 = (buf[offset] & 0xFF) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        int w1 = (buf[offset + 4] & 0xFF) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        int w2 = (buf[offset + 8] & 0xFF) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        int w3 = (buf[offset + 12] & 0xFF) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        int w4 = (buf[offset + 16] & 0xFF) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        int w5 = (buf[offset + 20] & 0xFF) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        int w6 = (buf[offset + 24] & 0xFF) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        int w7 = (buf[offset + 28] & 0xFF) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        int w8 = (buf[offset + 32] & 0xFF) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        int w9 = (buf[offset + 36] & 0xFF) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        int w10 = (buf[offset + 40] & 0xFF) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        int w11 = (buf[offset + 44] & 0xFF) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        int w12 = (buf[offset + 48] & 0xFF) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        int w13 = (buf[offset + 52] & 0xFF) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        int w14 = (buf[offset + 56] & 0xFF) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        int w15 = (buf[offset + 60] & 0xFF) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        int w16 = (buf[offset + 64] & 0xFF) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        int w17 = (buf[offset + 68] & 0xFF) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        int w18 = (buf[offset + 72] & 0xFF) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        int w19 = (buf[offset + 76] & 0xFF) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        int w20 = (buf[offset + 80] & 0xFF) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        int w21 = (buf[offset + 84] & 0xFF) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        int w22 = (buf[offset + 88] & 0xFF) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        int w23 = (buf[offset + 92] & 0xFF) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        int w24 = (buf[offset + 96] & 0xFF) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        int w25 = (buf[offset + 100] & 0xFF) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        int w26 = (buf[offset + 104] & 0xFF) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        int w27 = (buf[offset + 108] & 0xFF) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        int w28 = (buf[offset + 112] & 0xFF) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        int w29 = (buf[offset + 116] & 0xFF) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        int w30 = (buf[offset + 120] & 0xFF) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        int w31 = (buf[offset + 124] & 0xFF) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        values[valuesOffset] = w0;
+        values[valuesOffset + 1] = w1;
+        values[valuesOffset + 2] = w2;
+        values[valuesOffset + 3] = w3;
+        values[valuesOffset + 4] = w4;
+        values[valuesOffset + 5] = w5;
+        values[valuesOffset + 6] = w6;
+        values[valuesOffset + 7] = w7;
+        values[valuesOffset + 8] = w8;
+        values[valuesOffset + 9] = w9;
+        values[valuesOffset + 10] = w10;
+        values[valuesOffset + 11] = w11;
+        values[valuesOffset + 12] = w12;
+        values[valuesOffset + 13] = w13;
+        values[valuesOffset + 14] = w14;
+        values[valuesOffset + 15] = w15;
+        values[valuesOffset + 16] = w16;
+        values[valuesOffset + 17] = w17;
+        values[valuesOffset + 18] = w18;
+        values[valuesOffset + 19] = w19;
+        values[valuesOffset + 20] = w20;
+        values[valuesOffset + 21] = w21;
+        values[valuesOffset + 22] = w22;
+        values[valuesOffset + 23] = w23;
+        values[valuesOffset + 24] = w24;
+        values[valuesOffset + 25] = w25;
+        values[valuesOffset + 26] = w26;
+        values[valuesOffset + 27] = w27;
+        values[valuesOffset + 28] = w28;
+        values[valuesOffset + 29] = w29;
+        values[valuesOffset + 30] = w30;
+        values[valuesOffset + 31] = w31;
+    }
+}
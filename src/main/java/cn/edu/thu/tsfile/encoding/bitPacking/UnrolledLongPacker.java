@@ -0,0 +1,7528 @@
+package cn.edu.thu.tsfile.encoding.bitPacking;
+
+/**
+ * Packs and unpacks long values in the same layout as {@link LongPacker}, with a method
+ * unrolled for each bit-width, which is chosen by a switch on the width.
+ * <p>
+ * This file is generated by {@code PackerGenerator} in test, don't edit it by hand.
+ *
+ * @author kangrong
+ */
+final class UnrolledLongPacker {
+
+    private UnrolledLongPacker() {
+    }
+
+    /**
+     * pack 8 values into width bytes of buf starting from bufOffset
+     */
+    static void pack8Values(int width, long[] values, int offset, byte[] buf, int bufOffset) {
+        switch (width) {
+            case 0:
+                return;
+            case 1:
+                pack8Values1(values, offset, buf, bufOffset);
+                return;
+            case 2:
+                pack8Values2(values, offset, buf, bufOffset);
+                return;
+            case 3:
+                pack8Values3(values, offset, buf, bufOffset);
+                return;
+            case 4:
+                pack8Values4(values, offset, buf, bufOffset);
+                return;
+            case 5:
+                pack8Values5(values, offset, buf, bufOffset);
+                return;
+            case 6:
+                pack8Values6(values, offset, buf, bufOffset);
+                return;
+            case 7:
+                pack8Values7(values, offset, buf, bufOffset);
+                return;
+            case 8:
+                pack8Values8(values, offset, buf, bufOffset);
+                return;
+            case 9:
+                pack8Values9(values, offset, buf, bufOffset);
+                return;
+            case 10:
+                pack8Values10(values, offset, buf, bufOffset);
+                return;
+            case 11:
+                pack8Values11(values, offset, buf, bufOffset);
+                return;
+            case 12:
+                pack8Values12(values, offset, buf, bufOffset);
+                return;
+            case 13:
+                pack8Values13(values, offset, buf, bufOffset);
+                return;
+            case 14:
+                pack8Values14(values, offset, buf, bufOffset);
+                return;
+            case 15:
+                pack8Values15(values, offset, buf, bufOffset);
+                return;
+            case 16:
+                pack8Values16(values, offset, buf, bufOffset);
+                return;
+            case 17:
+                pack8Values17(values, offset, buf, bufOffset);
+                return;
+            case 18:
+                pack8Values18(values, offset, buf, bufOffset);
+                return;
+            case 19:
+                pack8Values19(values, offset, buf, bufOffset);
+                return;
+            case 20:
+                pack8Values20(values, offset, buf, bufOffset);
+                return;
+            case 21:
+                pack8Values21(values, offset, buf, bufOffset);
+                return;
+            case 22:
+                pack8Values22(values, offset, buf, bufOffset);
+                return;
+            case 23:
+                pack8Values23(values, offset, buf, bufOffset);
+                return;
+            case 24:
+                pack8Values24(values, offset, buf, bufOffset);
+                return;
+            case 25:
+                pack8Values25(values, offset, buf, bufOffset);
+                return;
+            case 26:
+                pack8Values26(values, offset, buf, bufOffset);
+                return;
+            case 27:
+                pack8Values27(values, offset, buf, bufOffset);
+                return;
+            case 28:
+                pack8Values28(values, offset, buf, bufOffset);
+                return;
+            case 29:
+                pack8Values29(values, offset, buf, bufOffset);
+                return;
+            case 30:
+                pack8Values30(values, offset, buf, bufOffset);
+                return;
+            case 31:
+                pack8Values31(values, offset, buf, bufOffset);
+                return;
+            case 32:
+                pack8Values32(values, offset, buf, bufOffset);
+                return;
+            case 33:
+                pack8Values33(values, offset, buf, bufOffset);
+                return;
+            case 34:
+                pack8Values34(values, offset, buf, bufOffset);
+                return;
+            case 35:
+                pack8Values35(values, offset, buf, bufOffset);
+                return;
+            case 36:
+                pack8Values36(values, offset, buf, bufOffset);
+                return;
+            case 37:
+                pack8Values37(values, offset, buf, bufOffset);
+                return;
+            case 38:
+                pack8Values38(values, offset, buf, bufOffset);
+                return;
+            case 39:
+                pack8Values39(values, offset, buf, bufOffset);
+                return;
+            case 40:
+                pack8Values40(values, offset, buf, bufOffset);
+                return;
+            case 41:
+                pack8Values41(values, offset, buf, bufOffset);
+                return;
+            case 42:
+                pack8Values42(values, offset, buf, bufOffset);
+                return;
+            case 43:
+                pack8Values43(values, offset, buf, bufOffset);
+                return;
+            case 44:
+                pack8Values44(values, offset, buf, bufOffset);
+                return;
+            case 45:
+                pack8Values45(values, offset, buf, bufOffset);
+                return;
+            case 46:
+                pack8Values46(values, offset, buf, bufOffset);
+                return;
+            case 47:
+                pack8Values47(values, offset, buf, bufOffset);
+                return;
+            case 48:
+                pack8Values48(values, offset, buf, bufOffset);
+                return;
+            case 49:
+                pack8Values49(values, offset, buf, bufOffset);
+                return;
+            case 50:
+                pack8Values50(values, offset, buf, bufOffset);
+                return;
+            case 51:
+                pack8Values51(values, offset, buf, bufOffset);
+                return;
+            case 52:
+                pack8Values52(values, offset, buf, bufOffset);
+                return;
+            case 53:
+                pack8Values53(values, offset, buf, bufOffset);
+                return;
+            case 54:
+                pack8Values54(values, offset, buf, bufOffset);
+                return;
+            case 55:
+                pack8Values55(values, offset, buf, bufOffset);
+                return;
+            case 56:
+                pack8Values56(values, offset, buf, bufOffset);
+                return;
+            case 57:
+                pack8Values57(values, offset, buf, bufOffset);
+                return;
+            case 58:
+                pack8Values58(values, offset, buf, bufOffset);
+                return;
+            case 59:
+                pack8Values59(values, offset, buf, bufOffset);
+                return;
+            case 60:
+                pack8Values60(values, offset, buf, bufOffset);
+                return;
+            case 61:
+                pack8Values61(values, offset, buf, bufOffset);
+                return;
+            case 62:
+                pack8Values62(values, offset, buf, bufOffset);
+                return;
+            case 63:
+                pack8Values63(values, offset, buf, bufOffset);
+                return;
+            case 64:
+                pack8Values64(values, offset, buf, bufOffset);
+                return;
+            default:
+                throw new IllegalArgumentException("bit-width " + width + " is not supported");
+        }
+    }
+
+    /**
+     * unpack 32 values from 4 * width bytes of buf starting from offset
+     */
+    static void unpack32Values(int width, byte[] buf, int offset, long[] values, int valuesOffset) {
+        switch (width) {
+            case 0:
+                java.util.Arrays.fill(values, valuesOffset, valuesOffset + 32, 0);
+                return;
+            case 1:
+                unpack32Values1(buf, offset, values, valuesOffset);
+                return;
+            case 2:
+                unpack32Values2(buf, offset, values, valuesOffset);
+                return;
+            case 3:
+                unpack32Values3(buf, offset, values, valuesOffset);
+                return;
+            case 4:
+                unpack32Values4(buf, offset, values, valuesOffset);
+                return;
+            case 5:
+                unpack32Values5(buf, offset, values, valuesOffset);
+                return;
+            case 6:
+                unpack32Values6(buf, offset, values, valuesOffset);
+                return;
+            case 7:
+                unpack32Values7(buf, offset, values, valuesOffset);
+                return;
+            case 8:
+                unpack32Values8(buf, offset, values, valuesOffset);
+                return;
+            case 9:
+                unpack32Values9(buf, offset, values, valuesOffset);
+                return;
+            case 10:
+                unpack32Values10(buf, offset, values, valuesOffset);
+                return;
+            case 11:
+                unpack32Values11(buf, offset, values, valuesOffset);
+                return;
+            case 12:
+                unpack32Values12(buf, offset, values, valuesOffset);
+                return;
+            case 13:
+                unpack32Values13(buf, offset, values, valuesOffset);
+                return;
+            case 14:
+                unpack32Values14(buf, offset, values, valuesOffset);
+                return;
+            case 15:
+                unpack32Values15(buf, offset, values, valuesOffset);
+                return;
+            case 16:
+                unpack32Values16(buf, offset, values, valuesOffset);
+                return;
+            case 17:
+                unpack32Values17(buf, offset, values, valuesOffset);
+                return;
+            case 18:
+                unpack32Values18(buf, offset, values, valuesOffset);
+                return;
+            case 19:
+                unpack32Values19(buf, offset, values, valuesOffset);
+                return;
+            case 20:
+                unpack32Values20(buf, offset, values, valuesOffset);
+                return;
+            case 21:
+                unpack32Values21(buf, offset, values, valuesOffset);
+                return;
+            case 22:
+                unpack32Values22(buf, offset, values, valuesOffset);
+                return;
+            case 23:
+                unpack32Values23(buf, offset, values, valuesOffset);
+                return;
+            case 24:
+                unpack32Values24(buf, offset, values, valuesOffset);
+                return;
+            case 25:
+                unpack32Values25(buf, offset, values, valuesOffset);
+                return;
+            case 26:
+                unpack32Values26(buf, offset, values, valuesOffset);
+                return;
+            case 27:
+                unpack32Values27(buf, offset, values, valuesOffset);
+                return;
+            case 28:
+                unpack32Values28(buf, offset, values, valuesOffset);
+                return;
+            case 29:
+                unpack32Values29(buf, offset, values, valuesOffset);
+                return;
+            case 30:
+                unpack32Values30(buf, offset, values, valuesOffset);
+                return;
+            case 31:
+                unpack32Values31(buf, offset, values, valuesOffset);
+                return;
+            case 32:
+                unpack32Values32(buf, offset, values, valuesOffset);
+                return;
+            case 33:
+                unpack32Values33(buf, offset, values, valuesOffset);
+                return;
+            case 34:
+                unpack32Values34(buf, offset, values, valuesOffset);
+                return;
+            case 35:
+                unpack32Values35(buf, offset, values, valuesOffset);
+                return;
+            case 36:
+                unpack32Values36(buf, offset, values, valuesOffset);
+                return;
+            case 37:
+                unpack32Values37(buf, offset, values, valuesOffset);
+                return;
+            case 38:
+                unpack32Values38(buf, offset, values, valuesOffset);
+                return;
+            case 39:
+                unpack32Values39(buf, offset, values, valuesOffset);
+                return;
+            case 40:
+                unpack32Values40(buf, offset, values, valuesOffset);
+                return;
+            case 41:
+                unpack32Values41(buf, offset, values, valuesOffset);
+                return;
+            case 42:
+                unpack32Values42(buf, offset, values, valuesOffset);
+                return;
+            case 43:
+                unpack32Values43(buf, offset, values, valuesOffset);
+                return;
+            case 44:
+                unpack32Values44(buf, offset, values, valuesOffset);
+                return;
+            case 45:
+                unpack32Values45(buf, offset, values, valuesOffset);
+                return;
+            case 46:
+                unpack32Values46(buf, offset, values, valuesOffset);
+                return;
+            case 47:
+                unpack32Values47(buf, offset, values, valuesOffset);
+                return;
+            case 48:
+                unpack32Values48(buf, offset, values, valuesOffset);
+                return;
+            case 49:
+                unpack32Values49(buf, offset, values, valuesOffset);
+                return;
+            case 50:
+                unpack32Values50(buf, offset, values, valuesOffset);
+                return;
+            case 51:
+                unpack32Values51(buf, offset, values, valuesOffset);
+                return;
+            case 52:
+                unpack32Values52(buf, offset, values, valuesOffset);
+                return;
+            case 53:
+                unpack32Values53(buf, offset, values, valuesOffset);
+                return;
+            case 54:
+                unpack32Values54(buf, offset, values, valuesOffset);
+                return;
+            case 55:
+                unpack32Values55(buf, offset, values, valuesOffset);
+                return;
+            case 56:
+                unpack32Values56(buf, offset, values, valuesOffset);
+                return;
+            case 57:
+                unpack32Values57(buf, offset, values, valuesOffset);
+                return;
+            case 58:
+                unpack32Values58(buf, offset, values, valuesOffset);
+                return;
+            case 59:
+                unpack32Values59(buf, offset, values, valuesOffset);
+                return;
+            case 60:
+                unpack32Values60(buf, offset, values, valuesOffset);
+                return;
+            case 61:
+                unpack32Values61(buf, offset, values, valuesOffset);
+                return;
+            case 62:
+                unpack32Values62(buf, offset, values, valuesOffset);
+                return;
+            case 63:
+                unpack32Values63(buf, offset, values, valuesOffset);
+                return;
+            case 64:
+                unpack32Values64(buf, offset, values, valuesOffset);
+                return;
+            default:
+                throw new IllegalArgumentException("bit-width " + width + " is not supported");
+        }
+    }
+
+    private static void pack8Values1(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x1L;
+        long v1 = values[offset + 1] & 0x1L;
+        long v2 = values[offset + 2] & 0x1L;
+        long v3 = values[offset + 3] & 0x1L;
+        long v4 = values[offset + 4] & 0x1L;
+        long v5 = values[offset + 5] & 0x1L;
+        long v6 = values[offset + 6] & 0x1L;
+        long v7 = values[offset + 7] & 0x1L;
+        buf[bufOffset] = (byte) ((v0 << 7) | (v1 << 6) | (v2 << 5) | (v3 << 4) | (v4 << 3) | (v5 << 2) | (v6 << 1) | (v7));
+    }
+
+    private static void pack8Values2(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x3L;
+        long v1 = values[offset + 1] & 0x3L;
+        long v2 = values[offset + 2] & 0x3L;
+        long v3 = values[offset + 3] & 0x3L;
+        long v4 = values[offset + 4] & 0x3L;
+        long v5 = values[offset + 5] & 0x3L;
+        long v6 = values[offset + 6] & 0x3L;
+        long v7 = values[offset + 7] & 0x3L;
+        buf[bufOffset] = (byte) ((v0 << 6) | (v1 << 4) | (v2 << 2) | (v3));
+        buf[bufOffset + 1] = (byte) ((v4 << 6) | (v5 << 4) | (v6 << 2) | (v7));
+    }
+
+    private static void pack8Values3(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x7L;
+        long v1 = values[offset + 1] & 0x7L;
+        long v2 = values[offset + 2] & 0x7L;
+        long v3 = values[offset + 3] & 0x7L;
+        long v4 = values[offset + 4] & 0x7L;
+        long v5 = values[offset + 5] & 0x7L;
+        long v6 = values[offset + 6] & 0x7L;
+        long v7 = values[offset + 7] & 0x7L;
+        buf[bufOffset] = (byte) ((v0 << 5) | (v1 << 2) | (v2 >>> 1));
+        buf[bufOffset + 1] = (byte) ((v2 << 7) | (v3 << 4) | (v4 << 1) | (v5 >>> 2));
+        buf[bufOffset + 2] = (byte) ((v5 << 6) | (v6 << 3) | (v7));
+    }
+
+    private static void pack8Values4(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0xFL;
+        long v1 = values[offset + 1] & 0xFL;
+        long v2 = values[offset + 2] & 0xFL;
+        long v3 = values[offset + 3] & 0xFL;
+        long v4 = values[offset + 4] & 0xFL;
+        long v5 = values[offset + 5] & 0xFL;
+        long v6 = values[offset + 6] & 0xFL;
+        long v7 = values[offset + 7] & 0xFL;
+        buf[bufOffset] = (byte) ((v0 << 4) | (v1));
+        buf[bufOffset + 1] = (byte) ((v2 << 4) | (v3));
+        buf[bufOffset + 2] = (byte) ((v4 << 4) | (v5));
+        buf[bufOffset + 3] = (byte) ((v6 << 4) | (v7));
+    }
+
+    private static void pack8Values5(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x1FL;
+        long v1 = values[offset + 1] & 0x1FL;
+        long v2 = values[offset + 2] & 0x1FL;
+        long v3 = values[offset + 3] & 0x1FL;
+        long v4 = values[offset + 4] & 0x1FL;
+        long v5 = values[offset + 5] & 0x1FL;
+        long v6 = values[offset + 6] & 0x1FL;
+        long v7 = values[offset + 7] & 0x1FL;
+        buf[bufOffset] = (byte) ((v0 << 3) | (v1 >>> 2));
+        buf[bufOffset + 1] = (byte) ((v1 << 6) | (v2 << 1) | (v3 >>> 4));
+        buf[bufOffset + 2] = (byte) ((v3 << 4) | (v4 >>> 1));
+        buf[bufOffset + 3] = (byte) ((v4 << 7) | (v5 << 2) | (v6 >>> 3));
+        buf[bufOffset + 4] = (byte) ((v6 << 5) | (v7));
+    }
+
+    private static void pack8Values6(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x3FL;
+        long v1 = values[offset + 1] & 0x3FL;
+        long v2 = values[offset + 2] & 0x3FL;
+        long v3 = values[offset + 3] & 0x3FL;
+        long v4 = values[offset + 4] & 0x3FL;
+        long v5 = values[offset + 5] & 0x3FL;
+        long v6 = values[offset + 6] & 0x3FL;
+        long v7 = values[offset + 7] & 0x3FL;
+        buf[bufOffset] = (byte) ((v0 << 2) | (v1 >>> 4));
+        buf[bufOffset + 1] = (byte) ((v1 << 4) | (v2 >>> 2));
+        buf[bufOffset + 2] = (byte) ((v2 << 6) | (v3));
+        buf[bufOffset + 3] = (byte) ((v4 << 2) | (v5 >>> 4));
+        buf[bufOffset + 4] = (byte) ((v5 << 4) | (v6 >>> 2));
+        buf[bufOffset + 5] = (byte) ((v6 << 6) | (v7));
+    }
+
+    private static void pack8Values7(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x7FL;
+        long v1 = values[offset + 1] & 0x7FL;
+        long v2 = values[offset + 2] & 0x7FL;
+        long v3 = values[offset + 3] & 0x7FL;
+        long v4 = values[offset + 4] & 0x7FL;
+        long v5 = values[offset + 5] & 0x7FL;
+        long v6 = values[offset + 6] & 0x7FL;
+        long v7 = values[offset + 7] & 0x7FL;
+        buf[bufOffset] = (byte) ((v0 << 1) | (v1 >>> 6));
+        buf[bufOffset + 1] = (byte) ((v1 << 2) | (v2 >>> 5));
+        buf[bufOffset + 2] = (byte) ((v2 << 3) | (v3 >>> 4));
+        buf[bufOffset + 3] = (byte) ((v3 << 4) | (v4 >>> 3));
+        buf[bufOffset + 4] = (byte) ((v4 << 5) | (v5 >>> 2));
+        buf[bufOffset + 5] = (byte) ((v5 << 6) | (v6 >>> 1));
+        buf[bufOffset + 6] = (byte) ((v6 << 7) | (v7));
+    }
+
+    private static void pack8Values8(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0xFFL;
+        long v1 = values[offset + 1] & 0xFFL;
+        long v2 = values[offset + 2] & 0xFFL;
+        long v3 = values[offset + 3] & 0xFFL;
+        long v4 = values[offset + 4] & 0xFFL;
+        long v5 = values[offset + 5] & 0xFFL;
+        long v6 = values[offset + 6] & 0xFFL;
+        long v7 = values[offset + 7] & 0xFFL;
+        buf[bufOffset] = (byte) (v0);
+        buf[bufOffset + 1] = (byte) (v1);
+        buf[bufOffset + 2] = (byte) (v2);
+        buf[bufOffset + 3] = (byte) (v3);
+        buf[bufOffset + 4] = (byte) (v4);
+        buf[bufOffset + 5] = (byte) (v5);
+        buf[bufOffset + 6] = (byte) (v6);
+        buf[bufOffset + 7] = (byte) (v7);
+    }
+
+    private static void pack8Values9(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x1FFL;
+        long v1 = values[offset + 1] & 0x1FFL;
+        long v2 = values[offset + 2] & 0x1FFL;
+        long v3 = values[offset + 3] & 0x1FFL;
+        long v4 = values[offset + 4] & 0x1FFL;
+        long v5 = values[offset + 5] & 0x1FFL;
+        long v6 = values[offset + 6] & 0x1FFL;
+        long v7 = values[offset + 7] & 0x1FFL;
+        buf[bufOffset] = (byte) (v0 >>> 1);
+        buf[bufOffset + 1] = (byte) ((v0 << 7) | (v1 >>> 2));
+        buf[bufOffset + 2] = (byte) ((v1 << 6) | (v2 >>> 3));
+        buf[bufOffset + 3] = (byte) ((v2 << 5) | (v3 >>> 4));
+        buf[bufOffset + 4] = (byte) ((v3 << 4) | (v4 >>> 5));
+        buf[bufOffset + 5] = (byte) ((v4 << 3) | (v5 >>> 6));
+        buf[bufOffset + 6] = (byte) ((v5 << 2) | (v6 >>> 7));
+        buf[bufOffset + 7] = (byte) ((v6 << 1) | (v7 >>> 8));
+        buf[bufOffset + 8] = (byte) (v7);
+    }
+
+    private static void pack8Values10(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x3FFL;
+        long v1 = values[offset + 1] & 0x3FFL;
+        long v2 = values[offset + 2] & 0x3FFL;
+        long v3 = values[offset + 3] & 0x3FFL;
+        long v4 = values[offset + 4] & 0x3FFL;
+        long v5 = values[offset + 5] & 0x3FFL;
+        long v6 = values[offset + 6] & 0x3FFL;
+        long v7 = values[offset + 7] & 0x3FFL;
+        buf[bufOffset] = (byte) (v0 >>> 2);
+        buf[bufOffset + 1] = (byte) ((v0 << 6) | (v1 >>> 4));
+        buf[bufOffset + 2] = (byte) ((v1 << 4) | (v2 >>> 6));
+        buf[bufOffset + 3] = (byte) ((v2 << 2) | (v3 >>> 8));
+        buf[bufOffset + 4] = (byte) (v3);
+        buf[bufOffset + 5] = (byte) (v4 >>> 2);
+        buf[bufOffset + 6] = (byte) ((v4 << 6) | (v5 >>> 4));
+        buf[bufOffset + 7] = (byte) ((v5 << 4) | (v6 >>> 6));
+        buf[bufOffset + 8] = (byte) ((v6 << 2) | (v7 >>> 8));
+        buf[bufOffset + 9] = (byte) (v7);
+    }
+
+    private static void pack8Values11(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x7FFL;
+        long v1 = values[offset + 1] & 0x7FFL;
+        long v2 = values[offset + 2] & 0x7FFL;
+        long v3 = values[offset + 3] & 0x7FFL;
+        long v4 = values[offset + 4] & 0x7FFL;
+        long v5 = values[offset + 5] & 0x7FFL;
+        long v6 = values[offset + 6] & 0x7FFL;
+        long v7 = values[offset + 7] & 0x7FFL;
+        buf[bufOffset] = (byte) (v0 >>> 3);
+        buf[bufOffset + 1] = (byte) ((v0 << 5) | (v1 >>> 6));
+        buf[bufOffset + 2] = (byte) ((v1 << 2) | (v2 >>> 9));
+        buf[bufOffset + 3] = (byte) (v2 >>> 1);
+        buf[bufOffset + 4] = (byte) ((v2 << 7) | (v3 >>> 4));
+        buf[bufOffset + 5] = (byte) ((v3 << 4) | (v4 >>> 7));
+        buf[bufOffset + 6] = (byte) ((v4 << 1) | (v5 >>> 10));
+        buf[bufOffset + 7] = (byte) (v5 >>> 2);
+        buf[bufOffset + 8] = (byte) ((v5 << 6) | (v6 >>> 5));
+        buf[bufOffset + 9] = (byte) ((v6 << 3) | (v7 >>> 8));
+        buf[bufOffset + 10] = (byte) (v7);
+    }
+
+    private static void pack8Values12(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0xFFFL;
+        long v1 = values[offset + 1] & 0xFFFL;
+        long v2 = values[offset + 2] & 0xFFFL;
+        long v3 = values[offset + 3] & 0xFFFL;
+        long v4 = values[offset + 4] & 0xFFFL;
+        long v5 = values[offset + 5] & 0xFFFL;
+        long v6 = values[offset + 6] & 0xFFFL;
+        long v7 = values[offset + 7] & 0xFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 4);
+        buf[bufOffset + 1] = (byte) ((v0 << 4) | (v1 >>> 8));
+        buf[bufOffset + 2] = (byte) (v1);
+        buf[bufOffset + 3] = (byte) (v2 >>> 4);
+        buf[bufOffset + 4] = (byte) ((v2 << 4) | (v3 >>> 8));
+        buf[bufOffset + 5] = (byte) (v3);
+        buf[bufOffset + 6] = (byte) (v4 >>> 4);
+        buf[bufOffset + 7] = (byte) ((v4 << 4) | (v5 >>> 8));
+        buf[bufOffset + 8] = (byte) (v5);
+        buf[bufOffset + 9] = (byte) (v6 >>> 4);
+        buf[bufOffset + 10] = (byte) ((v6 << 4) | (v7 >>> 8));
+        buf[bufOffset + 11] = (byte) (v7);
+    }
+
+    private static void pack8Values13(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x1FFFL;
+        long v1 = values[offset + 1] & 0x1FFFL;
+        long v2 = values[offset + 2] & 0x1FFFL;
+        long v3 = values[offset + 3] & 0x1FFFL;
+        long v4 = values[offset + 4] & 0x1FFFL;
+        long v5 = values[offset + 5] & 0x1FFFL;
+        long v6 = values[offset + 6] & 0x1FFFL;
+        long v7 = values[offset + 7] & 0x1FFFL;
+        buf[bufOffset] = (byte) (v0 >>> 5);
+        buf[bufOffset + 1] = (byte) ((v0 << 3) | (v1 >>> 10));
+        buf[bufOffset + 2] = (byte) (v1 >>> 2);
+        buf[bufOffset + 3] = (byte) ((v1 << 6) | (v2 >>> 7));
+        buf[bufOffset + 4] = (byte) ((v2 << 1) | (v3 >>> 12));
+        buf[bufOffset + 5] = (byte) (v3 >>> 4);
+        buf[bufOffset + 6] = (byte) ((v3 << 4) | (v4 >>> 9));
+        buf[bufOffset + 7] = (byte) (v4 >>> 1);
+        buf[bufOffset + 8] = (byte) ((v4 << 7) | (v5 >>> 6));
+        buf[bufOffset + 9] = (byte) ((v5 << 2) | (v6 >>> 11));
+        buf[bufOffset + 10] = (byte) (v6 >>> 3);
+        buf[bufOffset + 11] = (byte) ((v6 << 5) | (v7 >>> 8));
+        buf[bufOffset + 12] = (byte) (v7);
+    }
+
+    private static void pack8Values14(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x3FFFL;
+        long v1 = values[offset + 1] & 0x3FFFL;
+        long v2 = values[offset + 2] & 0x3FFFL;
+        long v3 = values[offset + 3] & 0x3FFFL;
+        long v4 = values[offset + 4] & 0x3FFFL;
+        long v5 = values[offset + 5] & 0x3FFFL;
+        long v6 = values[offset + 6] & 0x3FFFL;
+        long v7 = values[offset + 7] & 0x3FFFL;
+        buf[bufOffset] = (byte) (v0 >>> 6);
+        buf[bufOffset + 1] = (byte) ((v0 << 2) | (v1 >>> 12));
+        buf[bufOffset + 2] = (byte) (v1 >>> 4);
+        buf[bufOffset + 3] = (byte) ((v1 << 4) | (v2 >>> 10));
+        buf[bufOffset + 4] = (byte) (v2 >>> 2);
+        buf[bufOffset + 5] = (byte) ((v2 << 6) | (v3 >>> 8));
+        buf[bufOffset + 6] = (byte) (v3);
+        buf[bufOffset + 7] = (byte) (v4 >>> 6);
+        buf[bufOffset + 8] = (byte) ((v4 << 2) | (v5 >>> 12));
+        buf[bufOffset + 9] = (byte) (v5 >>> 4);
+        buf[bufOffset + 10] = (byte) ((v5 << 4) | (v6 >>> 10));
+        buf[bufOffset + 11] = (byte) (v6 >>> 2);
+        buf[bufOffset + 12] = (byte) ((v6 << 6) | (v7 >>> 8));
+        buf[bufOffset + 13] = (byte) (v7);
+    }
+
+    private static void pack8Values15(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x7FFFL;
+        long v1 = values[offset + 1] & 0x7FFFL;
+        long v2 = values[offset + 2] & 0x7FFFL;
+        long v3 = values[offset + 3] & 0x7FFFL;
+        long v4 = values[offset + 4] & 0x7FFFL;
+        long v5 = values[offset + 5] & 0x7FFFL;
+        long v6 = values[offset + 6] & 0x7FFFL;
+        long v7 = values[offset + 7] & 0x7FFFL;
+        buf[bufOffset] = (byte) (v0 >>> 7);
+        buf[bufOffset + 1] = (byte) ((v0 << 1) | (v1 >>> 14));
+        buf[bufOffset + 2] = (byte) (v1 >>> 6);
+        buf[bufOffset + 3] = (byte) ((v1 << 2) | (v2 >>> 13));
+        buf[bufOffset + 4] = (byte) (v2 >>> 5);
+        buf[bufOffset + 5] = (byte) ((v2 << 3) | (v3 >>> 12));
+        buf[bufOffset + 6] = (byte) (v3 >>> 4);
+        buf[bufOffset + 7] = (byte) ((v3 << 4) | (v4 >>> 11));
+        buf[bufOffset + 8] = (byte) (v4 >>> 3);
+        buf[bufOffset + 9] = (byte) ((v4 << 5) | (v5 >>> 10));
+        buf[bufOffset + 10] = (byte) (v5 >>> 2);
+        buf[bufOffset + 11] = (byte) ((v5 << 6) | (v6 >>> 9));
+        buf[bufOffset + 12] = (byte) (v6 >>> 1);
+        buf[bufOffset + 13] = (byte) ((v6 << 7) | (v7 >>> 8));
+        buf[bufOffset + 14] = (byte) (v7);
+    }
+
+    private static void pack8Values16(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0xFFFFL;
+        long v1 = values[offset + 1] & 0xFFFFL;
+        long v2 = values[offset + 2] & 0xFFFFL;
+        long v3 = values[offset + 3] & 0xFFFFL;
+        long v4 = values[offset + 4] & 0xFFFFL;
+        long v5 = values[offset + 5] & 0xFFFFL;
+        long v6 = values[offset + 6] & 0xFFFFL;
+        long v7 = values[offset + 7] & 0xFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 8);
+        buf[bufOffset + 1] = (byte) (v0);
+        buf[bufOffset + 2] = (byte) (v1 >>> 8);
+        buf[bufOffset + 3] = (byte) (v1);
+        buf[bufOffset + 4] = (byte) (v2 >>> 8);
+        buf[bufOffset + 5] = (byte) (v2);
+        buf[bufOffset + 6] = (byte) (v3 >>> 8);
+        buf[bufOffset + 7] = (byte) (v3);
+        buf[bufOffset + 8] = (byte) (v4 >>> 8);
+        buf[bufOffset + 9] = (byte) (v4);
+        buf[bufOffset + 10] = (byte) (v5 >>> 8);
+        buf[bufOffset + 11] = (byte) (v5);
+        buf[bufOffset + 12] = (byte) (v6 >>> 8);
+        buf[bufOffset + 13] = (byte) (v6);
+        buf[bufOffset + 14] = (byte) (v7 >>> 8);
+        buf[bufOffset + 15] = (byte) (v7);
+    }
+
+    private static void pack8Values17(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x1FFFFL;
+        long v1 = values[offset + 1] & 0x1FFFFL;
+        long v2 = values[offset + 2] & 0x1FFFFL;
+        long v3 = values[offset + 3] & 0x1FFFFL;
+        long v4 = values[offset + 4] & 0x1FFFFL;
+        long v5 = values[offset + 5] & 0x1FFFFL;
+        long v6 = values[offset + 6] & 0x1FFFFL;
+        long v7 = values[offset + 7] & 0x1FFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 9);
+        buf[bufOffset + 1] = (byte) (v0 >>> 1);
+        buf[bufOffset + 2] = (byte) ((v0 << 7) | (v1 >>> 10));
+        buf[bufOffset + 3] = (byte) (v1 >>> 2);
+        buf[bufOffset + 4] = (byte) ((v1 << 6) | (v2 >>> 11));
+        buf[bufOffset + 5] = (byte) (v2 >>> 3);
+        buf[bufOffset + 6] = (byte) ((v2 << 5) | (v3 >>> 12));
+        buf[bufOffset + 7] = (byte) (v3 >>> 4);
+        buf[bufOffset + 8] = (byte) ((v3 << 4) | (v4 >>> 13));
+        buf[bufOffset + 9] = (byte) (v4 >>> 5);
+        buf[bufOffset + 10] = (byte) ((v4 << 3) | (v5 >>> 14));
+        buf[bufOffset + 11] = (byte) (v5 >>> 6);
+        buf[bufOffset + 12] = (byte) ((v5 << 2) | (v6 >>> 15));
+        buf[bufOffset + 13] = (byte) (v6 >>> 7);
+        buf[bufOffset + 14] = (byte) ((v6 << 1) | (v7 >>> 16));
+        buf[bufOffset + 15] = (byte) (v7 >>> 8);
+        buf[bufOffset + 16] = (byte) (v7);
+    }
+
+    private static void pack8Values18(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x3FFFFL;
+        long v1 = values[offset + 1] & 0x3FFFFL;
+        long v2 = values[offset + 2] & 0x3FFFFL;
+        long v3 = values[offset + 3] & 0x3FFFFL;
+        long v4 = values[offset + 4] & 0x3FFFFL;
+        long v5 = values[offset + 5] & 0x3FFFFL;
+        long v6 = values[offset + 6] & 0x3FFFFL;
+        long v7 = values[offset + 7] & 0x3FFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 10);
+        buf[bufOffset + 1] = (byte) (v0 >>> 2);
+        buf[bufOffset + 2] = (byte) ((v0 << 6) | (v1 >>> 12));
+        buf[bufOffset + 3] = (byte) (v1 >>> 4);
+        buf[bufOffset + 4] = (byte) ((v1 << 4) | (v2 >>> 14));
+        buf[bufOffset + 5] = (byte) (v2 >>> 6);
+        buf[bufOffset + 6] = (byte) ((v2 << 2) | (v3 >>> 16));
+        buf[bufOffset + 7] = (byte) (v3 >>> 8);
+        buf[bufOffset + 8] = (byte) (v3);
+        buf[bufOffset + 9] = (byte) (v4 >>> 10);
+        buf[bufOffset + 10] = (byte) (v4 >>> 2);
+        buf[bufOffset + 11] = (byte) ((v4 << 6) | (v5 >>> 12));
+        buf[bufOffset + 12] = (byte) (v5 >>> 4);
+        buf[bufOffset + 13] = (byte) ((v5 << 4) | (v6 >>> 14));
+        buf[bufOffset + 14] = (byte) (v6 >>> 6);
+        buf[bufOffset + 15] = (byte) ((v6 << 2) | (v7 >>> 16));
+        buf[bufOffset + 16] = (byte) (v7 >>> 8);
+        buf[bufOffset + 17] = (byte) (v7);
+    }
+
+    private static void pack8Values19(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x7FFFFL;
+        long v1 = values[offset + 1] & 0x7FFFFL;
+        long v2 = values[offset + 2] & 0x7FFFFL;
+        long v3 = values[offset + 3] & 0x7FFFFL;
+        long v4 = values[offset + 4] & 0x7FFFFL;
+        long v5 = values[offset + 5] & 0x7FFFFL;
+        long v6 = values[offset + 6] & 0x7FFFFL;
+        long v7 = values[offset + 7] & 0x7FFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 11);
+        buf[bufOffset + 1] = (byte) (v0 >>> 3);
+        buf[bufOffset + 2] = (byte) ((v0 << 5) | (v1 >>> 14));
+        buf[bufOffset + 3] = (byte) (v1 >>> 6);
+        buf[bufOffset + 4] = (byte) ((v1 << 2) | (v2 >>> 17));
+        buf[bufOffset + 5] = (byte) (v2 >>> 9);
+        buf[bufOffset + 6] = (byte) (v2 >>> 1);
+        buf[bufOffset + 7] = (byte) ((v2 << 7) | (v3 >>> 12));
+        buf[bufOffset + 8] = (byte) (v3 >>> 4);
+        buf[bufOffset + 9] = (byte) ((v3 << 4) | (v4 >>> 15));
+        buf[bufOffset + 10] = (byte) (v4 >>> 7);
+        buf[bufOffset + 11] = (byte) ((v4 << 1) | (v5 >>> 18));
+        buf[bufOffset + 12] = (byte) (v5 >>> 10);
+        buf[bufOffset + 13] = (byte) (v5 >>> 2);
+        buf[bufOffset + 14] = (byte) ((v5 << 6) | (v6 >>> 13));
+        buf[bufOffset + 15] = (byte) (v6 >>> 5);
+        buf[bufOffset + 16] = (byte) ((v6 << 3) | (v7 >>> 16));
+        buf[bufOffset + 17] = (byte) (v7 >>> 8);
+        buf[bufOffset + 18] = (byte) (v7);
+    }
+
+    private static void pack8Values20(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0xFFFFFL;
+        long v1 = values[offset + 1] & 0xFFFFFL;
+        long v2 = values[offset + 2] & 0xFFFFFL;
+        long v3 = values[offset + 3] & 0xFFFFFL;
+        long v4 = values[offset + 4] & 0xFFFFFL;
+        long v5 = values[offset + 5] & 0xFFFFFL;
+        long v6 = values[offset + 6] & 0xFFFFFL;
+        long v7 = values[offset + 7] & 0xFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 12);
+        buf[bufOffset + 1] = (byte) (v0 >>> 4);
+        buf[bufOffset + 2] = (byte) ((v0 << 4) | (v1 >>> 16));
+        buf[bufOffset + 3] = (byte) (v1 >>> 8);
+        buf[bufOffset + 4] = (byte) (v1);
+        buf[bufOffset + 5] = (byte) (v2 >>> 12);
+        buf[bufOffset + 6] = (byte) (v2 >>> 4);
+        buf[bufOffset + 7] = (byte) ((v2 << 4) | (v3 >>> 16));
+        buf[bufOffset + 8] = (byte) (v3 >>> 8);
+        buf[bufOffset + 9] = (byte) (v3);
+        buf[bufOffset + 10] = (byte) (v4 >>> 12);
+        buf[bufOffset + 11] = (byte) (v4 >>> 4);
+        buf[bufOffset + 12] = (byte) ((v4 << 4) | (v5 >>> 16));
+        buf[bufOffset + 13] = (byte) (v5 >>> 8);
+        buf[bufOffset + 14] = (byte) (v5);
+        buf[bufOffset + 15] = (byte) (v6 >>> 12);
+        buf[bufOffset + 16] = (byte) (v6 >>> 4);
+        buf[bufOffset + 17] = (byte) ((v6 << 4) | (v7 >>> 16));
+        buf[bufOffset + 18] = (byte) (v7 >>> 8);
+        buf[bufOffset + 19] = (byte) (v7);
+    }
+
+    private static void pack8Values21(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x1FFFFFL;
+        long v1 = values[offset + 1] & 0x1FFFFFL;
+        long v2 = values[offset + 2] & 0x1FFFFFL;
+        long v3 = values[offset + 3] & 0x1FFFFFL;
+        long v4 = values[offset + 4] & 0x1FFFFFL;
+        long v5 = values[offset + 5] & 0x1FFFFFL;
+        long v6 = values[offset + 6] & 0x1FFFFFL;
+        long v7 = values[offset + 7] & 0x1FFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 13);
+        buf[bufOffset + 1] = (byte) (v0 >>> 5);
+        buf[bufOffset + 2] = (byte) ((v0 << 3) | (v1 >>> 18));
+        buf[bufOffset + 3] = (byte) (v1 >>> 10);
+        buf[bufOffset + 4] = (byte) (v1 >>> 2);
+        buf[bufOffset + 5] = (byte) ((v1 << 6) | (v2 >>> 15));
+        buf[bufOffset + 6] = (byte) (v2 >>> 7);
+        buf[bufOffset + 7] = (byte) ((v2 << 1) | (v3 >>> 20));
+        buf[bufOffset + 8] = (byte) (v3 >>> 12);
+        buf[bufOffset + 9] = (byte) (v3 >>> 4);
+        buf[bufOffset + 10] = (byte) ((v3 << 4) | (v4 >>> 17));
+        buf[bufOffset + 11] = (byte) (v4 >>> 9);
+        buf[bufOffset + 12] = (byte) (v4 >>> 1);
+        buf[bufOffset + 13] = (byte) ((v4 << 7) | (v5 >>> 14));
+        buf[bufOffset + 14] = (byte) (v5 >>> 6);
+        buf[bufOffset + 15] = (byte) ((v5 << 2) | (v6 >>> 19));
+        buf[bufOffset + 16] = (byte) (v6 >>> 11);
+        buf[bufOffset + 17] = (byte) (v6 >>> 3);
+        buf[bufOffset + 18] = (byte) ((v6 << 5) | (v7 >>> 16));
+        buf[bufOffset + 19] = (byte) (v7 >>> 8);
+        buf[bufOffset + 20] = (byte) (v7);
+    }
+
+    private static void pack8Values22(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x3FFFFFL;
+        long v1 = values[offset + 1] & 0x3FFFFFL;
+        long v2 = values[offset + 2] & 0x3FFFFFL;
+        long v3 = values[offset + 3] & 0x3FFFFFL;
+        long v4 = values[offset + 4] & 0x3FFFFFL;
+        long v5 = values[offset + 5] & 0x3FFFFFL;
+        long v6 = values[offset + 6] & 0x3FFFFFL;
+        long v7 = values[offset + 7] & 0x3FFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 14);
+        buf[bufOffset + 1] = (byte) (v0 >>> 6);
+        buf[bufOffset + 2] = (byte) ((v0 << 2) | (v1 >>> 20));
+        buf[bufOffset + 3] = (byte) (v1 >>> 12);
+        buf[bufOffset + 4] = (byte) (v1 >>> 4);
+        buf[bufOffset + 5] = (byte) ((v1 << 4) | (v2 >>> 18));
+        buf[bufOffset + 6] = (byte) (v2 >>> 10);
+        buf[bufOffset + 7] = (byte) (v2 >>> 2);
+        buf[bufOffset + 8] = (byte) ((v2 << 6) | (v3 >>> 16));
+        buf[bufOffset + 9] = (byte) (v3 >>> 8);
+        buf[bufOffset + 10] = (byte) (v3);
+        buf[bufOffset + 11] = (byte) (v4 >>> 14);
+        buf[bufOffset + 12] = (byte) (v4 >>> 6);
+        buf[bufOffset + 13] = (byte) ((v4 << 2) | (v5 >>> 20));
+        buf[bufOffset + 14] = (byte) (v5 >>> 12);
+        buf[bufOffset + 15] = (byte) (v5 >>> 4);
+        buf[bufOffset + 16] = (byte) ((v5 << 4) | (v6 >>> 18));
+        buf[bufOffset + 17] = (byte) (v6 >>> 10);
+        buf[bufOffset + 18] = (byte) (v6 >>> 2);
+        buf[bufOffset + 19] = (byte) ((v6 << 6) | (v7 >>> 16));
+        buf[bufOffset + 20] = (byte) (v7 >>> 8);
+        buf[bufOffset + 21] = (byte) (v7);
+    }
+
+    private static void pack8Values23(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x7FFFFFL;
+        long v1 = values[offset + 1] & 0x7FFFFFL;
+        long v2 = values[offset + 2] & 0x7FFFFFL;
+        long v3 = values[offset + 3] & 0x7FFFFFL;
+        long v4 = values[offset + 4] & 0x7FFFFFL;
+        long v5 = values[offset + 5] & 0x7FFFFFL;
+        long v6 = values[offset + 6] & 0x7FFFFFL;
+        long v7 = values[offset + 7] & 0x7FFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 15);
+        buf[bufOffset + 1] = (byte) (v0 >>> 7);
+        buf[bufOffset + 2] = (byte) ((v0 << 1) | (v1 >>> 22));
+        buf[bufOffset + 3] = (byte) (v1 >>> 14);
+        buf[bufOffset + 4] = (byte) (v1 >>> 6);
+        buf[bufOffset + 5] = (byte) ((v1 << 2) | (v2 >>> 21));
+        buf[bufOffset + 6] = (byte) (v2 >>> 13);
+        buf[bufOffset + 7] = (byte) (v2 >>> 5);
+        buf[bufOffset + 8] = (byte) ((v2 << 3) | (v3 >>> 20));
+        buf[bufOffset + 9] = (byte) (v3 >>> 12);
+        buf[bufOffset + 10] = (byte) (v3 >>> 4);
+        buf[bufOffset + 11] = (byte) ((v3 << 4) | (v4 >>> 19));
+        buf[bufOffset + 12] = (byte) (v4 >>> 11);
+        buf[bufOffset + 13] = (byte) (v4 >>> 3);
+        buf[bufOffset + 14] = (byte) ((v4 << 5) | (v5 >>> 18));
+        buf[bufOffset + 15] = (byte) (v5 >>> 10);
+        buf[bufOffset + 16] = (byte) (v5 >>> 2);
+        buf[bufOffset + 17] = (byte) ((v5 << 6) | (v6 >>> 17));
+        buf[bufOffset + 18] = (byte) (v6 >>> 9);
+        buf[bufOffset + 19] = (byte) (v6 >>> 1);
+        buf[bufOffset + 20] = (byte) ((v6 << 7) | (v7 >>> 16));
+        buf[bufOffset + 21] = (byte) (v7 >>> 8);
+        buf[bufOffset + 22] = (byte) (v7);
+    }
+
+    private static void pack8Values24(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0xFFFFFFL;
+        long v1 = values[offset + 1] & 0xFFFFFFL;
+        long v2 = values[offset + 2] & 0xFFFFFFL;
+        long v3 = values[offset + 3] & 0xFFFFFFL;
+        long v4 = values[offset + 4] & 0xFFFFFFL;
+        long v5 = values[offset + 5] & 0xFFFFFFL;
+        long v6 = values[offset + 6] & 0xFFFFFFL;
+        long v7 = values[offset + 7] & 0xFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 16);
+        buf[bufOffset + 1] = (byte) (v0 >>> 8);
+        buf[bufOffset + 2] = (byte) (v0);
+        buf[bufOffset + 3] = (byte) (v1 >>> 16);
+        buf[bufOffset + 4] = (byte) (v1 >>> 8);
+        buf[bufOffset + 5] = (byte) (v1);
+        buf[bufOffset + 6] = (byte) (v2 >>> 16);
+        buf[bufOffset + 7] = (byte) (v2 >>> 8);
+        buf[bufOffset + 8] = (byte) (v2);
+        buf[bufOffset + 9] = (byte) (v3 >>> 16);
+        buf[bufOffset + 10] = (byte) (v3 >>> 8);
+        buf[bufOffset + 11] = (byte) (v3);
+        buf[bufOffset + 12] = (byte) (v4 >>> 16);
+        buf[bufOffset + 13] = (byte) (v4 >>> 8);
+        buf[bufOffset + 14] = (byte) (v4);
+        buf[bufOffset + 15] = (byte) (v5 >>> 16);
+        buf[bufOffset + 16] = (byte) (v5 >>> 8);
+        buf[bufOffset + 17] = (byte) (v5);
+        buf[bufOffset + 18] = (byte) (v6 >>> 16);
+        buf[bufOffset + 19] = (byte) (v6 >>> 8);
+        buf[bufOffset + 20] = (byte) (v6);
+        buf[bufOffset + 21] = (byte) (v7 >>> 16);
+        buf[bufOffset + 22] = (byte) (v7 >>> 8);
+        buf[bufOffset + 23] = (byte) (v7);
+    }
+
+    private static void pack8Values25(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x1FFFFFFL;
+        long v1 = values[offset + 1] & 0x1FFFFFFL;
+        long v2 = values[offset + 2] & 0x1FFFFFFL;
+        long v3 = values[offset + 3] & 0x1FFFFFFL;
+        long v4 = values[offset + 4] & 0x1FFFFFFL;
+        long v5 = values[offset + 5] & 0x1FFFFFFL;
+        long v6 = values[offset + 6] & 0x1FFFFFFL;
+        long v7 = values[offset + 7] & 0x1FFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 17);
+        buf[bufOffset + 1] = (byte) (v0 >>> 9);
+        buf[bufOffset + 2] = (byte) (v0 >>> 1);
+        buf[bufOffset + 3] = (byte) ((v0 << 7) | (v1 >>> 18));
+        buf[bufOffset + 4] = (byte) (v1 >>> 10);
+        buf[bufOffset + 5] = (byte) (v1 >>> 2);
+        buf[bufOffset + 6] = (byte) ((v1 << 6) | (v2 >>> 19));
+        buf[bufOffset + 7] = (byte) (v2 >>> 11);
+        buf[bufOffset + 8] = (byte) (v2 >>> 3);
+        buf[bufOffset + 9] = (byte) ((v2 << 5) | (v3 >>> 20));
+        buf[bufOffset + 10] = (byte) (v3 >>> 12);
+        buf[bufOffset + 11] = (byte) (v3 >>> 4);
+        buf[bufOffset + 12] = (byte) ((v3 << 4) | (v4 >>> 21));
+        buf[bufOffset + 13] = (byte) (v4 >>> 13);
+        buf[bufOffset + 14] = (byte) (v4 >>> 5);
+        buf[bufOffset + 15] = (byte) ((v4 << 3) | (v5 >>> 22));
+        buf[bufOffset + 16] = (byte) (v5 >>> 14);
+        buf[bufOffset + 17] = (byte) (v5 >>> 6);
+        buf[bufOffset + 18] = (byte) ((v5 << 2) | (v6 >>> 23));
+        buf[bufOffset + 19] = (byte) (v6 >>> 15);
+        buf[bufOffset + 20] = (byte) (v6 >>> 7);
+        buf[bufOffset + 21] = (byte) ((v6 << 1) | (v7 >>> 24));
+        buf[bufOffset + 22] = (byte) (v7 >>> 16);
+        buf[bufOffset + 23] = (byte) (v7 >>> 8);
+        buf[bufOffset + 24] = (byte) (v7);
+    }
+
+    private static void pack8Values26(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x3FFFFFFL;
+        long v1 = values[offset + 1] & 0x3FFFFFFL;
+        long v2 = values[offset + 2] & 0x3FFFFFFL;
+        long v3 = values[offset + 3] & 0x3FFFFFFL;
+        long v4 = values[offset + 4] & 0x3FFFFFFL;
+        long v5 = values[offset + 5] & 0x3FFFFFFL;
+        long v6 = values[offset + 6] & 0x3FFFFFFL;
+        long v7 = values[offset + 7] & 0x3FFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 18);
+        buf[bufOffset + 1] = (byte) (v0 >>> 10);
+        buf[bufOffset + 2] = (byte) (v0 >>> 2);
+        buf[bufOffset + 3] = (byte) ((v0 << 6) | (v1 >>> 20));
+        buf[bufOffset + 4] = (byte) (v1 >>> 12);
+        buf[bufOffset + 5] = (byte) (v1 >>> 4);
+        buf[bufOffset + 6] = (byte) ((v1 << 4) | (v2 >>> 22));
+        buf[bufOffset + 7] = (byte) (v2 >>> 14);
+        buf[bufOffset + 8] = (byte) (v2 >>> 6);
+        buf[bufOffset + 9] = (byte) ((v2 << 2) | (v3 >>> 24));
+        buf[bufOffset + 10] = (byte) (v3 >>> 16);
+        buf[bufOffset + 11] = (byte) (v3 >>> 8);
+        buf[bufOffset + 12] = (byte) (v3);
+        buf[bufOffset + 13] = (byte) (v4 >>> 18);
+        buf[bufOffset + 14] = (byte) (v4 >>> 10);
+        buf[bufOffset + 15] = (byte) (v4 >>> 2);
+        buf[bufOffset + 16] = (byte) ((v4 << 6) | (v5 >>> 20));
+        buf[bufOffset + 17] = (byte) (v5 >>> 12);
+        buf[bufOffset + 18] = (byte) (v5 >>> 4);
+        buf[bufOffset + 19] = (byte) ((v5 << 4) | (v6 >>> 22));
+        buf[bufOffset + 20] = (byte) (v6 >>> 14);
+        buf[bufOffset + 21] = (byte) (v6 >>> 6);
+        buf[bufOffset + 22] = (byte) ((v6 << 2) | (v7 >>> 24));
+        buf[bufOffset + 23] = (byte) (v7 >>> 16);
+        buf[bufOffset + 24] = (byte) (v7 >>> 8);
+        buf[bufOffset + 25] = (byte) (v7);
+    }
+
+    private static void pack8Values27(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x7FFFFFFL;
+        long v1 = values[offset + 1] & 0x7FFFFFFL;
+        long v2 = values[offset + 2] & 0x7FFFFFFL;
+        long v3 = values[offset + 3] & 0x7FFFFFFL;
+        long v4 = values[offset + 4] & 0x7FFFFFFL;
+        long v5 = values[offset + 5] & 0x7FFFFFFL;
+        long v6 = values[offset + 6] & 0x7FFFFFFL;
+        long v7 = values[offset + 7] & 0x7FFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 19);
+        buf[bufOffset + 1] = (byte) (v0 >>> 11);
+        buf[bufOffset + 2] = (byte) (v0 >>> 3);
+        buf[bufOffset + 3] = (byte) ((v0 << 5) | (v1 >>> 22));
+        buf[bufOffset + 4] = (byte) (v1 >>> 14);
+        buf[bufOffset + 5] = (byte) (v1 >>> 6);
+        buf[bufOffset + 6] = (byte) ((v1 << 2) | (v2 >>> 25));
+        buf[bufOffset + 7] = (byte) (v2 >>> 17);
+        buf[bufOffset + 8] = (byte) (v2 >>> 9);
+        buf[bufOffset + 9] = (byte) (v2 >>> 1);
+        buf[bufOffset + 10] = (byte) ((v2 << 7) | (v3 >>> 20));
+        buf[bufOffset + 11] = (byte) (v3 >>> 12);
+        buf[bufOffset + 12] = (byte) (v3 >>> 4);
+        buf[bufOffset + 13] = (byte) ((v3 << 4) | (v4 >>> 23));
+        buf[bufOffset + 14] = (byte) (v4 >>> 15);
+        buf[bufOffset + 15] = (byte) (v4 >>> 7);
+        buf[bufOffset + 16] = (byte) ((v4 << 1) | (v5 >>> 26));
+        buf[bufOffset + 17] = (byte) (v5 >>> 18);
+        buf[bufOffset + 18] = (byte) (v5 >>> 10);
+        buf[bufOffset + 19] = (byte) (v5 >>> 2);
+        buf[bufOffset + 20] = (byte) ((v5 << 6) | (v6 >>> 21));
+        buf[bufOffset + 21] = (byte) (v6 >>> 13);
+        buf[bufOffset + 22] = (byte) (v6 >>> 5);
+        buf[bufOffset + 23] = (byte) ((v6 << 3) | (v7 >>> 24));
+        buf[bufOffset + 24] = (byte) (v7 >>> 16);
+        buf[bufOffset + 25] = (byte) (v7 >>> 8);
+        buf[bufOffset + 26] = (byte) (v7);
+    }
+
+    private static void pack8Values28(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0xFFFFFFFL;
+        long v1 = values[offset + 1] & 0xFFFFFFFL;
+        long v2 = values[offset + 2] & 0xFFFFFFFL;
+        long v3 = values[offset + 3] & 0xFFFFFFFL;
+        long v4 = values[offset + 4] & 0xFFFFFFFL;
+        long v5 = values[offset + 5] & 0xFFFFFFFL;
+        long v6 = values[offset + 6] & 0xFFFFFFFL;
+        long v7 = values[offset + 7] & 0xFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 20);
+        buf[bufOffset + 1] = (byte) (v0 >>> 12);
+        buf[bufOffset + 2] = (byte) (v0 >>> 4);
+        buf[bufOffset + 3] = (byte) ((v0 << 4) | (v1 >>> 24));
+        buf[bufOffset + 4] = (byte) (v1 >>> 16);
+        buf[bufOffset + 5] = (byte) (v1 >>> 8);
+        buf[bufOffset + 6] = (byte) (v1);
+        buf[bufOffset + 7] = (byte) (v2 >>> 20);
+        buf[bufOffset + 8] = (byte) (v2 >>> 12);
+        buf[bufOffset + 9] = (byte) (v2 >>> 4);
+        buf[bufOffset + 10] = (byte) ((v2 << 4) | (v3 >>> 24));
+        buf[bufOffset + 11] = (byte) (v3 >>> 16);
+        buf[bufOffset + 12] = (byte) (v3 >>> 8);
+        buf[bufOffset + 13] = (byte) (v3);
+        buf[bufOffset + 14] = (byte) (v4 >>> 20);
+        buf[bufOffset + 15] = (byte) (v4 >>> 12);
+        buf[bufOffset + 16] = (byte) (v4 >>> 4);
+        buf[bufOffset + 17] = (byte) ((v4 << 4) | (v5 >>> 24));
+        buf[bufOffset + 18] = (byte) (v5 >>> 16);
+        buf[bufOffset + 19] = (byte) (v5 >>> 8);
+        buf[bufOffset + 20] = (byte) (v5);
+        buf[bufOffset + 21] = (byte) (v6 >>> 20);
+        buf[bufOffset + 22] = (byte) (v6 >>> 12);
+        buf[bufOffset + 23] = (byte) (v6 >>> 4);
+        buf[bufOffset + 24] = (byte) ((v6 << 4) | (v7 >>> 24));
+        buf[bufOffset + 25] = (byte) (v7 >>> 16);
+        buf[bufOffset + 26] = (byte) (v7 >>> 8);
+        buf[bufOffset + 27] = (byte) (v7);
+    }
+
+    private static void pack8Values29(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x1FFFFFFFL;
+        long v1 = values[offset + 1] & 0x1FFFFFFFL;
+        long v2 = values[offset + 2] & 0x1FFFFFFFL;
+        long v3 = values[offset + 3] & 0x1FFFFFFFL;
+        long v4 = values[offset + 4] & 0x1FFFFFFFL;
+        long v5 = values[offset + 5] & 0x1FFFFFFFL;
+        long v6 = values[offset + 6] & 0x1FFFFFFFL;
+        long v7 = values[offset + 7] & 0x1FFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 21);
+        buf[bufOffset + 1] = (byte) (v0 >>> 13);
+        buf[bufOffset + 2] = (byte) (v0 >>> 5);
+        buf[bufOffset + 3] = (byte) ((v0 << 3) | (v1 >>> 26));
+        buf[bufOffset + 4] = (byte) (v1 >>> 18);
+        buf[bufOffset + 5] = (byte) (v1 >>> 10);
+        buf[bufOffset + 6] = (byte) (v1 >>> 2);
+        buf[bufOffset + 7] = (byte) ((v1 << 6) | (v2 >>> 23));
+        buf[bufOffset + 8] = (byte) (v2 >>> 15);
+        buf[bufOffset + 9] = (byte) (v2 >>> 7);
+        buf[bufOffset + 10] = (byte) ((v2 << 1) | (v3 >>> 28));
+        buf[bufOffset + 11] = (byte) (v3 >>> 20);
+        buf[bufOffset + 12] = (byte) (v3 >>> 12);
+        buf[bufOffset + 13] = (byte) (v3 >>> 4);
+        buf[bufOffset + 14] = (byte) ((v3 << 4) | (v4 >>> 25));
+        buf[bufOffset + 15] = (byte) (v4 >>> 17);
+        buf[bufOffset + 16] = (byte) (v4 >>> 9);
+        buf[bufOffset + 17] = (byte) (v4 >>> 1);
+        buf[bufOffset + 18] = (byte) ((v4 << 7) | (v5 >>> 22));
+        buf[bufOffset + 19] = (byte) (v5 >>> 14);
+        buf[bufOffset + 20] = (byte) (v5 >>> 6);
+        buf[bufOffset + 21] = (byte) ((v5 << 2) | (v6 >>> 27));
+        buf[bufOffset + 22] = (byte) (v6 >>> 19);
+        buf[bufOffset + 23] = (byte) (v6 >>> 11);
+        buf[bufOffset + 24] = (byte) (v6 >>> 3);
+        buf[bufOffset + 25] = (byte) ((v6 << 5) | (v7 >>> 24));
+        buf[bufOffset + 26] = (byte) (v7 >>> 16);
+        buf[bufOffset + 27] = (byte) (v7 >>> 8);
+        buf[bufOffset + 28] = (byte) (v7);
+    }
+
+    private static void pack8Values30(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x3FFFFFFFL;
+        long v1 = values[offset + 1] & 0x3FFFFFFFL;
+        long v2 = values[offset + 2] & 0x3FFFFFFFL;
+        long v3 = values[offset + 3] & 0x3FFFFFFFL;
+        long v4 = values[offset + 4] & 0x3FFFFFFFL;
+        long v5 = values[offset + 5] & 0x3FFFFFFFL;
+        long v6 = values[offset + 6] & 0x3FFFFFFFL;
+        long v7 = values[offset + 7] & 0x3FFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 22);
+        buf[bufOffset + 1] = (byte) (v0 >>> 14);
+        buf[bufOffset + 2] = (byte) (v0 >>> 6);
+        buf[bufOffset + 3] = (byte) ((v0 << 2) | (v1 >>> 28));
+        buf[bufOffset + 4] = (byte) (v1 >>> 20);
+        buf[bufOffset + 5] = (byte) (v1 >>> 12);
+        buf[bufOffset + 6] = (byte) (v1 >>> 4);
+        buf[bufOffset + 7] = (byte) ((v1 << 4) | (v2 >>> 26));
+        buf[bufOffset + 8] = (byte) (v2 >>> 18);
+        buf[bufOffset + 9] = (byte) (v2 >>> 10);
+        buf[bufOffset + 10] = (byte) (v2 >>> 2);
+        buf[bufOffset + 11] = (byte) ((v2 << 6) | (v3 >>> 24));
+        buf[bufOffset + 12] = (byte) (v3 >>> 16);
+        buf[bufOffset + 13] = (byte) (v3 >>> 8);
+        buf[bufOffset + 14] = (byte) (v3);
+        buf[bufOffset + 15] = (byte) (v4 >>> 22);
+        buf[bufOffset + 16] = (byte) (v4 >>> 14);
+        buf[bufOffset + 17] = (byte) (v4 >>> 6);
+        buf[bufOffset + 18] = (byte) ((v4 << 2) | (v5 >>> 28));
+        buf[bufOffset + 19] = (byte) (v5 >>> 20);
+        buf[bufOffset + 20] = (byte) (v5 >>> 12);
+        buf[bufOffset + 21] = (byte) (v5 >>> 4);
+        buf[bufOffset + 22] = (byte) ((v5 << 4) | (v6 >>> 26));
+        buf[bufOffset + 23] = (byte) (v6 >>> 18);
+        buf[bufOffset + 24] = (byte) (v6 >>> 10);
+        buf[bufOffset + 25] = (byte) (v6 >>> 2);
+        buf[bufOffset + 26] = (byte) ((v6 << 6) | (v7 >>> 24));
+        buf[bufOffset + 27] = (byte) (v7 >>> 16);
+        buf[bufOffset + 28] = (byte) (v7 >>> 8);
+        buf[bufOffset + 29] = (byte) (v7);
+    }
+
+    private static void pack8Values31(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x7FFFFFFFL;
+        long v1 = values[offset + 1] & 0x7FFFFFFFL;
+        long v2 = values[offset + 2] & 0x7FFFFFFFL;
+        long v3 = values[offset + 3] & 0x7FFFFFFFL;
+        long v4 = values[offset + 4] & 0x7FFFFFFFL;
+        long v5 = values[offset + 5] & 0x7FFFFFFFL;
+        long v6 = values[offset + 6] & 0x7FFFFFFFL;
+        long v7 = values[offset + 7] & 0x7FFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 23);
+        buf[bufOffset + 1] = (byte) (v0 >>> 15);
+        buf[bufOffset + 2] = (byte) (v0 >>> 7);
+        buf[bufOffset + 3] = (byte) ((v0 << 1) | (v1 >>> 30));
+        buf[bufOffset + 4] = (byte) (v1 >>> 22);
+        buf[bufOffset + 5] = (byte) (v1 >>> 14);
+        buf[bufOffset + 6] = (byte) (v1 >>> 6);
+        buf[bufOffset + 7] = (byte) ((v1 << 2) | (v2 >>> 29));
+        buf[bufOffset + 8] = (byte) (v2 >>> 21);
+        buf[bufOffset + 9] = (byte) (v2 >>> 13);
+        buf[bufOffset + 10] = (byte) (v2 >>> 5);
+        buf[bufOffset + 11] = (byte) ((v2 << 3) | (v3 >>> 28));
+        buf[bufOffset + 12] = (byte) (v3 >>> 20);
+        buf[bufOffset + 13] = (byte) (v3 >>> 12);
+        buf[bufOffset + 14] = (byte) (v3 >>> 4);
+        buf[bufOffset + 15] = (byte) ((v3 << 4) | (v4 >>> 27));
+        buf[bufOffset + 16] = (byte) (v4 >>> 19);
+        buf[bufOffset + 17] = (byte) (v4 >>> 11);
+        buf[bufOffset + 18] = (byte) (v4 >>> 3);
+        buf[bufOffset + 19] = (byte) ((v4 << 5) | (v5 >>> 26));
+        buf[bufOffset + 20] = (byte) (v5 >>> 18);
+        buf[bufOffset + 21] = (byte) (v5 >>> 10);
+        buf[bufOffset + 22] = (byte) (v5 >>> 2);
+        buf[bufOffset + 23] = (byte) ((v5 << 6) | (v6 >>> 25));
+        buf[bufOffset + 24] = (byte) (v6 >>> 17);
+        buf[bufOffset + 25] = (byte) (v6 >>> 9);
+        buf[bufOffset + 26] = (byte) (v6 >>> 1);
+        buf[bufOffset + 27] = (byte) ((v6 << 7) | (v7 >>> 24));
+        buf[bufOffset + 28] = (byte) (v7 >>> 16);
+        buf[bufOffset + 29] = (byte) (v7 >>> 8);
+        buf[bufOffset + 30] = (byte) (v7);
+    }
+
+    private static void pack8Values32(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0xFFFFFFFFL;
+        long v1 = values[offset + 1] & 0xFFFFFFFFL;
+        long v2 = values[offset + 2] & 0xFFFFFFFFL;
+        long v3 = values[offset + 3] & 0xFFFFFFFFL;
+        long v4 = values[offset + 4] & 0xFFFFFFFFL;
+        long v5 = values[offset + 5] & 0xFFFFFFFFL;
+        long v6 = values[offset + 6] & 0xFFFFFFFFL;
+        long v7 = values[offset + 7] & 0xFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 24);
+        buf[bufOffset + 1] = (byte) (v0 >>> 16);
+        buf[bufOffset + 2] = (byte) (v0 >>> 8);
+        buf[bufOffset + 3] = (byte) (v0);
+        buf[bufOffset + 4] = (byte) (v1 >>> 24);
+        buf[bufOffset + 5] = (byte) (v1 >>> 16);
+        buf[bufOffset + 6] = (byte) (v1 >>> 8);
+        buf[bufOffset + 7] = (byte) (v1);
+        buf[bufOffset + 8] = (byte) (v2 >>> 24);
+        buf[bufOffset + 9] = (byte) (v2 >>> 16);
+        buf[bufOffset + 10] = (byte) (v2 >>> 8);
+        buf[bufOffset + 11] = (byte) (v2);
+        buf[bufOffset + 12] = (byte) (v3 >>> 24);
+        buf[bufOffset + 13] = (byte) (v3 >>> 16);
+        buf[bufOffset + 14] = (byte) (v3 >>> 8);
+        buf[bufOffset + 15] = (byte) (v3);
+        buf[bufOffset + 16] = (byte) (v4 >>> 24);
+        buf[bufOffset + 17] = (byte) (v4 >>> 16);
+        buf[bufOffset + 18] = (byte) (v4 >>> 8);
+        buf[bufOffset + 19] = (byte) (v4);
+        buf[bufOffset + 20] = (byte) (v5 >>> 24);
+        buf[bufOffset + 21] = (byte) (v5 >>> 16);
+        buf[bufOffset + 22] = (byte) (v5 >>> 8);
+        buf[bufOffset + 23] = (byte) (v5);
+        buf[bufOffset + 24] = (byte) (v6 >>> 24);
+        buf[bufOffset + 25] = (byte) (v6 >>> 16);
+        buf[bufOffset + 26] = (byte) (v6 >>> 8);
+        buf[bufOffset + 27] = (byte) (v6);
+        buf[bufOffset + 28] = (byte) (v7 >>> 24);
+        buf[bufOffset + 29] = (byte) (v7 >>> 16);
+        buf[bufOffset + 30] = (byte) (v7 >>> 8);
+        buf[bufOffset + 31] = (byte) (v7);
+    }
+
+    private static void pack8Values33(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x1FFFFFFFFL;
+        long v1 = values[offset + 1] & 0x1FFFFFFFFL;
+        long v2 = values[offset + 2] & 0x1FFFFFFFFL;
+        long v3 = values[offset + 3] & 0x1FFFFFFFFL;
+        long v4 = values[offset + 4] & 0x1FFFFFFFFL;
+        long v5 = values[offset + 5] & 0x1FFFFFFFFL;
+        long v6 = values[offset + 6] & 0x1FFFFFFFFL;
+        long v7 = values[offset + 7] & 0x1FFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 25);
+        buf[bufOffset + 1] = (byte) (v0 >>> 17);
+        buf[bufOffset + 2] = (byte) (v0 >>> 9);
+        buf[bufOffset + 3] = (byte) (v0 >>> 1);
+        buf[bufOffset + 4] = (byte) ((v0 << 7) | (v1 >>> 26));
+        buf[bufOffset + 5] = (byte) (v1 >>> 18);
+        buf[bufOffset + 6] = (byte) (v1 >>> 10);
+        buf[bufOffset + 7] = (byte) (v1 >>> 2);
+        buf[bufOffset + 8] = (byte) ((v1 << 6) | (v2 >>> 27));
+        buf[bufOffset + 9] = (byte) (v2 >>> 19);
+        buf[bufOffset + 10] = (byte) (v2 >>> 11);
+        buf[bufOffset + 11] = (byte) (v2 >>> 3);
+        buf[bufOffset + 12] = (byte) ((v2 << 5) | (v3 >>> 28));
+        buf[bufOffset + 13] = (byte) (v3 >>> 20);
+        buf[bufOffset + 14] = (byte) (v3 >>> 12);
+        buf[bufOffset + 15] = (byte) (v3 >>> 4);
+        buf[bufOffset + 16] = (byte) ((v3 << 4) | (v4 >>> 29));
+        buf[bufOffset + 17] = (byte) (v4 >>> 21);
+        buf[bufOffset + 18] = (byte) (v4 >>> 13);
+        buf[bufOffset + 19] = (byte) (v4 >>> 5);
+        buf[bufOffset + 20] = (byte) ((v4 << 3) | (v5 >>> 30));
+        buf[bufOffset + 21] = (byte) (v5 >>> 22);
+        buf[bufOffset + 22] = (byte) (v5 >>> 14);
+        buf[bufOffset + 23] = (byte) (v5 >>> 6);
+        buf[bufOffset + 24] = (byte) ((v5 << 2) | (v6 >>> 31));
+        buf[bufOffset + 25] = (byte) (v6 >>> 23);
+        buf[bufOffset + 26] = (byte) (v6 >>> 15);
+        buf[bufOffset + 27] = (byte) (v6 >>> 7);
+        buf[bufOffset + 28] = (byte) ((v6 << 1) | (v7 >>> 32));
+        buf[bufOffset + 29] = (byte) (v7 >>> 24);
+        buf[bufOffset + 30] = (byte) (v7 >>> 16);
+        buf[bufOffset + 31] = (byte) (v7 >>> 8);
+        buf[bufOffset + 32] = (byte) (v7);
+    }
+
+    private static void pack8Values34(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x3FFFFFFFFL;
+        long v1 = values[offset + 1] & 0x3FFFFFFFFL;
+        long v2 = values[offset + 2] & 0x3FFFFFFFFL;
+        long v3 = values[offset + 3] & 0x3FFFFFFFFL;
+        long v4 = values[offset + 4] & 0x3FFFFFFFFL;
+        long v5 = values[offset + 5] & 0x3FFFFFFFFL;
+        long v6 = values[offset + 6] & 0x3FFFFFFFFL;
+        long v7 = values[offset + 7] & 0x3FFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 26);
+        buf[bufOffset + 1] = (byte) (v0 >>> 18);
+        buf[bufOffset + 2] = (byte) (v0 >>> 10);
+        buf[bufOffset + 3] = (byte) (v0 >>> 2);
+        buf[bufOffset + 4] = (byte) ((v0 << 6) | (v1 >>> 28));
+        buf[bufOffset + 5] = (byte) (v1 >>> 20);
+        buf[bufOffset + 6] = (byte) (v1 >>> 12);
+        buf[bufOffset + 7] = (byte) (v1 >>> 4);
+        buf[bufOffset + 8] = (byte) ((v1 << 4) | (v2 >>> 30));
+        buf[bufOffset + 9] = (byte) (v2 >>> 22);
+        buf[bufOffset + 10] = (byte) (v2 >>> 14);
+        buf[bufOffset + 11] = (byte) (v2 >>> 6);
+        buf[bufOffset + 12] = (byte) ((v2 << 2) | (v3 >>> 32));
+        buf[bufOffset + 13] = (byte) (v3 >>> 24);
+        buf[bufOffset + 14] = (byte) (v3 >>> 16);
+        buf[bufOffset + 15] = (byte) (v3 >>> 8);
+        buf[bufOffset + 16] = (byte) (v3);
+        buf[bufOffset + 17] = (byte) (v4 >>> 26);
+        buf[bufOffset + 18] = (byte) (v4 >>> 18);
+        buf[bufOffset + 19] = (byte) (v4 >>> 10);
+        buf[bufOffset + 20] = (byte) (v4 >>> 2);
+        buf[bufOffset + 21] = (byte) ((v4 << 6) | (v5 >>> 28));
+        buf[bufOffset + 22] = (byte) (v5 >>> 20);
+        buf[bufOffset + 23] = (byte) (v5 >>> 12);
+        buf[bufOffset + 24] = (byte) (v5 >>> 4);
+        buf[bufOffset + 25] = (byte) ((v5 << 4) | (v6 >>> 30));
+        buf[bufOffset + 26] = (byte) (v6 >>> 22);
+        buf[bufOffset + 27] = (byte) (v6 >>> 14);
+        buf[bufOffset + 28] = (byte) (v6 >>> 6);
+        buf[bufOffset + 29] = (byte) ((v6 << 2) | (v7 >>> 32));
+        buf[bufOffset + 30] = (byte) (v7 >>> 24);
+        buf[bufOffset + 31] = (byte) (v7 >>> 16);
+        buf[bufOffset + 32] = (byte) (v7 >>> 8);
+        buf[bufOffset + 33] = (byte) (v7);
+    }
+
+    private static void pack8Values35(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x7FFFFFFFFL;
+        long v1 = values[offset + 1] & 0x7FFFFFFFFL;
+        long v2 = values[offset + 2] & 0x7FFFFFFFFL;
+        long v3 = values[offset + 3] & 0x7FFFFFFFFL;
+        long v4 = values[offset + 4] & 0x7FFFFFFFFL;
+        long v5 = values[offset + 5] & 0x7FFFFFFFFL;
+        long v6 = values[offset + 6] & 0x7FFFFFFFFL;
+        long v7 = values[offset + 7] & 0x7FFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 27);
+        buf[bufOffset + 1] = (byte) (v0 >>> 19);
+        buf[bufOffset + 2] = (byte) (v0 >>> 11);
+        buf[bufOffset + 3] = (byte) (v0 >>> 3);
+        buf[bufOffset + 4] = (byte) ((v0 << 5) | (v1 >>> 30));
+        buf[bufOffset + 5] = (byte) (v1 >>> 22);
+        buf[bufOffset + 6] = (byte) (v1 >>> 14);
+        buf[bufOffset + 7] = (byte) (v1 >>> 6);
+        buf[bufOffset + 8] = (byte) ((v1 << 2) | (v2 >>> 33));
+        buf[bufOffset + 9] = (byte) (v2 >>> 25);
+        buf[bufOffset + 10] = (byte) (v2 >>> 17);
+        buf[bufOffset + 11] = (byte) (v2 >>> 9);
+        buf[bufOffset + 12] = (byte) (v2 >>> 1);
+        buf[bufOffset + 13] = (byte) ((v2 << 7) | (v3 >>> 28));
+        buf[bufOffset + 14] = (byte) (v3 >>> 20);
+        buf[bufOffset + 15] = (byte) (v3 >>> 12);
+        buf[bufOffset + 16] = (byte) (v3 >>> 4);
+        buf[bufOffset + 17] = (byte) ((v3 << 4) | (v4 >>> 31));
+        buf[bufOffset + 18] = (byte) (v4 >>> 23);
+        buf[bufOffset + 19] = (byte) (v4 >>> 15);
+        buf[bufOffset + 20] = (byte) (v4 >>> 7);
+        buf[bufOffset + 21] = (byte) ((v4 << 1) | (v5 >>> 34));
+        buf[bufOffset + 22] = (byte) (v5 >>> 26);
+        buf[bufOffset + 23] = (byte) (v5 >>> 18);
+        buf[bufOffset + 24] = (byte) (v5 >>> 10);
+        buf[bufOffset + 25] = (byte) (v5 >>> 2);
+        buf[bufOffset + 26] = (byte) ((v5 << 6) | (v6 >>> 29));
+        buf[bufOffset + 27] = (byte) (v6 >>> 21);
+        buf[bufOffset + 28] = (byte) (v6 >>> 13);
+        buf[bufOffset + 29] = (byte) (v6 >>> 5);
+        buf[bufOffset + 30] = (byte) ((v6 << 3) | (v7 >>> 32));
+        buf[bufOffset + 31] = (byte) (v7 >>> 24);
+        buf[bufOffset + 32] = (byte) (v7 >>> 16);
+        buf[bufOffset + 33] = (byte) (v7 >>> 8);
+        buf[bufOffset + 34] = (byte) (v7);
+    }
+
+    private static void pack8Values36(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0xFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0xFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0xFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0xFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0xFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0xFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0xFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0xFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 28);
+        buf[bufOffset + 1] = (byte) (v0 >>> 20);
+        buf[bufOffset + 2] = (byte) (v0 >>> 12);
+        buf[bufOffset + 3] = (byte) (v0 >>> 4);
+        buf[bufOffset + 4] = (byte) ((v0 << 4) | (v1 >>> 32));
+        buf[bufOffset + 5] = (byte) (v1 >>> 24);
+        buf[bufOffset + 6] = (byte) (v1 >>> 16);
+        buf[bufOffset + 7] = (byte) (v1 >>> 8);
+        buf[bufOffset + 8] = (byte) (v1);
+        buf[bufOffset + 9] = (byte) (v2 >>> 28);
+        buf[bufOffset + 10] = (byte) (v2 >>> 20);
+        buf[bufOffset + 11] = (byte) (v2 >>> 12);
+        buf[bufOffset + 12] = (byte) (v2 >>> 4);
+        buf[bufOffset + 13] = (byte) ((v2 << 4) | (v3 >>> 32));
+        buf[bufOffset + 14] = (byte) (v3 >>> 24);
+        buf[bufOffset + 15] = (byte) (v3 >>> 16);
+        buf[bufOffset + 16] = (byte) (v3 >>> 8);
+        buf[bufOffset + 17] = (byte) (v3);
+        buf[bufOffset + 18] = (byte) (v4 >>> 28);
+        buf[bufOffset + 19] = (byte) (v4 >>> 20);
+        buf[bufOffset + 20] = (byte) (v4 >>> 12);
+        buf[bufOffset + 21] = (byte) (v4 >>> 4);
+        buf[bufOffset + 22] = (byte) ((v4 << 4) | (v5 >>> 32));
+        buf[bufOffset + 23] = (byte) (v5 >>> 24);
+        buf[bufOffset + 24] = (byte) (v5 >>> 16);
+        buf[bufOffset + 25] = (byte) (v5 >>> 8);
+        buf[bufOffset + 26] = (byte) (v5);
+        buf[bufOffset + 27] = (byte) (v6 >>> 28);
+        buf[bufOffset + 28] = (byte) (v6 >>> 20);
+        buf[bufOffset + 29] = (byte) (v6 >>> 12);
+        buf[bufOffset + 30] = (byte) (v6 >>> 4);
+        buf[bufOffset + 31] = (byte) ((v6 << 4) | (v7 >>> 32));
+        buf[bufOffset + 32] = (byte) (v7 >>> 24);
+        buf[bufOffset + 33] = (byte) (v7 >>> 16);
+        buf[bufOffset + 34] = (byte) (v7 >>> 8);
+        buf[bufOffset + 35] = (byte) (v7);
+    }
+
+    private static void pack8Values37(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x1FFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x1FFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x1FFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x1FFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x1FFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x1FFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x1FFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x1FFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 29);
+        buf[bufOffset + 1] = (byte) (v0 >>> 21);
+        buf[bufOffset + 2] = (byte) (v0 >>> 13);
+        buf[bufOffset + 3] = (byte) (v0 >>> 5);
+        buf[bufOffset + 4] = (byte) ((v0 << 3) | (v1 >>> 34));
+        buf[bufOffset + 5] = (byte) (v1 >>> 26);
+        buf[bufOffset + 6] = (byte) (v1 >>> 18);
+        buf[bufOffset + 7] = (byte) (v1 >>> 10);
+        buf[bufOffset + 8] = (byte) (v1 >>> 2);
+        buf[bufOffset + 9] = (byte) ((v1 << 6) | (v2 >>> 31));
+        buf[bufOffset + 10] = (byte) (v2 >>> 23);
+        buf[bufOffset + 11] = (byte) (v2 >>> 15);
+        buf[bufOffset + 12] = (byte) (v2 >>> 7);
+        buf[bufOffset + 13] = (byte) ((v2 << 1) | (v3 >>> 36));
+        buf[bufOffset + 14] = (byte) (v3 >>> 28);
+        buf[bufOffset + 15] = (byte) (v3 >>> 20);
+        buf[bufOffset + 16] = (byte) (v3 >>> 12);
+        buf[bufOffset + 17] = (byte) (v3 >>> 4);
+        buf[bufOffset + 18] = (byte) ((v3 << 4) | (v4 >>> 33));
+        buf[bufOffset + 19] = (byte) (v4 >>> 25);
+        buf[bufOffset + 20] = (byte) (v4 >>> 17);
+        buf[bufOffset + 21] = (byte) (v4 >>> 9);
+        buf[bufOffset + 22] = (byte) (v4 >>> 1);
+        buf[bufOffset + 23] = (byte) ((v4 << 7) | (v5 >>> 30));
+        buf[bufOffset + 24] = (byte) (v5 >>> 22);
+        buf[bufOffset + 25] = (byte) (v5 >>> 14);
+        buf[bufOffset + 26] = (byte) (v5 >>> 6);
+        buf[bufOffset + 27] = (byte) ((v5 << 2) | (v6 >>> 35));
+        buf[bufOffset + 28] = (byte) (v6 >>> 27);
+        buf[bufOffset + 29] = (byte) (v6 >>> 19);
+        buf[bufOffset + 30] = (byte) (v6 >>> 11);
+        buf[bufOffset + 31] = (byte) (v6 >>> 3);
+        buf[bufOffset + 32] = (byte) ((v6 << 5) | (v7 >>> 32));
+        buf[bufOffset + 33] = (byte) (v7 >>> 24);
+        buf[bufOffset + 34] = (byte) (v7 >>> 16);
+        buf[bufOffset + 35] = (byte) (v7 >>> 8);
+        buf[bufOffset + 36] = (byte) (v7);
+    }
+
+    private static void pack8Values38(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x3FFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x3FFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x3FFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x3FFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x3FFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x3FFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x3FFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x3FFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 30);
+        buf[bufOffset + 1] = (byte) (v0 >>> 22);
+        buf[bufOffset + 2] = (byte) (v0 >>> 14);
+        buf[bufOffset + 3] = (byte) (v0 >>> 6);
+        buf[bufOffset + 4] = (byte) ((v0 << 2) | (v1 >>> 36));
+        buf[bufOffset + 5] = (byte) (v1 >>> 28);
+        buf[bufOffset + 6] = (byte) (v1 >>> 20);
+        buf[bufOffset + 7] = (byte) (v1 >>> 12);
+        buf[bufOffset + 8] = (byte) (v1 >>> 4);
+        buf[bufOffset + 9] = (byte) ((v1 << 4) | (v2 >>> 34));
+        buf[bufOffset + 10] = (byte) (v2 >>> 26);
+        buf[bufOffset + 11] = (byte) (v2 >>> 18);
+        buf[bufOffset + 12] = (byte) (v2 >>> 10);
+        buf[bufOffset + 13] = (byte) (v2 >>> 2);
+        buf[bufOffset + 14] = (byte) ((v2 << 6) | (v3 >>> 32));
+        buf[bufOffset + 15] = (byte) (v3 >>> 24);
+        buf[bufOffset + 16] = (byte) (v3 >>> 16);
+        buf[bufOffset + 17] = (byte) (v3 >>> 8);
+        buf[bufOffset + 18] = (byte) (v3);
+        buf[bufOffset + 19] = (byte) (v4 >>> 30);
+        buf[bufOffset + 20] = (byte) (v4 >>> 22);
+        buf[bufOffset + 21] = (byte) (v4 >>> 14);
+        buf[bufOffset + 22] = (byte) (v4 >>> 6);
+        buf[bufOffset + 23] = (byte) ((v4 << 2) | (v5 >>> 36));
+        buf[bufOffset + 24] = (byte) (v5 >>> 28);
+        buf[bufOffset + 25] = (byte) (v5 >>> 20);
+        buf[bufOffset + 26] = (byte) (v5 >>> 12);
+        buf[bufOffset + 27] = (byte) (v5 >>> 4);
+        buf[bufOffset + 28] = (byte) ((v5 << 4) | (v6 >>> 34));
+        buf[bufOffset + 29] = (byte) (v6 >>> 26);
+        buf[bufOffset + 30] = (byte) (v6 >>> 18);
+        buf[bufOffset + 31] = (byte) (v6 >>> 10);
+        buf[bufOffset + 32] = (byte) (v6 >>> 2);
+        buf[bufOffset + 33] = (byte) ((v6 << 6) | (v7 >>> 32));
+        buf[bufOffset + 34] = (byte) (v7 >>> 24);
+        buf[bufOffset + 35] = (byte) (v7 >>> 16);
+        buf[bufOffset + 36] = (byte) (v7 >>> 8);
+        buf[bufOffset + 37] = (byte) (v7);
+    }
+
+    private static void pack8Values39(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x7FFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x7FFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x7FFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x7FFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x7FFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x7FFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x7FFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x7FFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 31);
+        buf[bufOffset + 1] = (byte) (v0 >>> 23);
+        buf[bufOffset + 2] = (byte) (v0 >>> 15);
+        buf[bufOffset + 3] = (byte) (v0 >>> 7);
+        buf[bufOffset + 4] = (byte) ((v0 << 1) | (v1 >>> 38));
+        buf[bufOffset + 5] = (byte) (v1 >>> 30);
+        buf[bufOffset + 6] = (byte) (v1 >>> 22);
+        buf[bufOffset + 7] = (byte) (v1 >>> 14);
+        buf[bufOffset + 8] = (byte) (v1 >>> 6);
+        buf[bufOffset + 9] = (byte) ((v1 << 2) | (v2 >>> 37));
+        buf[bufOffset + 10] = (byte) (v2 >>> 29);
+        buf[bufOffset + 11] = (byte) (v2 >>> 21);
+        buf[bufOffset + 12] = (byte) (v2 >>> 13);
+        buf[bufOffset + 13] = (byte) (v2 >>> 5);
+        buf[bufOffset + 14] = (byte) ((v2 << 3) | (v3 >>> 36));
+        buf[bufOffset + 15] = (byte) (v3 >>> 28);
+        buf[bufOffset + 16] = (byte) (v3 >>> 20);
+        buf[bufOffset + 17] = (byte) (v3 >>> 12);
+        buf[bufOffset + 18] = (byte) (v3 >>> 4);
+        buf[bufOffset + 19] = (byte) ((v3 << 4) | (v4 >>> 35));
+        buf[bufOffset + 20] = (byte) (v4 >>> 27);
+        buf[bufOffset + 21] = (byte) (v4 >>> 19);
+        buf[bufOffset + 22] = (byte) (v4 >>> 11);
+        buf[bufOffset + 23] = (byte) (v4 >>> 3);
+        buf[bufOffset + 24] = (byte) ((v4 << 5) | (v5 >>> 34));
+        buf[bufOffset + 25] = (byte) (v5 >>> 26);
+        buf[bufOffset + 26] = (byte) (v5 >>> 18);
+        buf[bufOffset + 27] = (byte) (v5 >>> 10);
+        buf[bufOffset + 28] = (byte) (v5 >>> 2);
+        buf[bufOffset + 29] = (byte) ((v5 << 6) | (v6 >>> 33));
+        buf[bufOffset + 30] = (byte) (v6 >>> 25);
+        buf[bufOffset + 31] = (byte) (v6 >>> 17);
+        buf[bufOffset + 32] = (byte) (v6 >>> 9);
+        buf[bufOffset + 33] = (byte) (v6 >>> 1);
+        buf[bufOffset + 34] = (byte) ((v6 << 7) | (v7 >>> 32));
+        buf[bufOffset + 35] = (byte) (v7 >>> 24);
+        buf[bufOffset + 36] = (byte) (v7 >>> 16);
+        buf[bufOffset + 37] = (byte) (v7 >>> 8);
+        buf[bufOffset + 38] = (byte) (v7);
+    }
+
+    private static void pack8Values40(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0xFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0xFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0xFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0xFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0xFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0xFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0xFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0xFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 32);
+        buf[bufOffset + 1] = (byte) (v0 >>> 24);
+        buf[bufOffset + 2] = (byte) (v0 >>> 16);
+        buf[bufOffset + 3] = (byte) (v0 >>> 8);
+        buf[bufOffset + 4] = (byte) (v0);
+        buf[bufOffset + 5] = (byte) (v1 >>> 32);
+        buf[bufOffset + 6] = (byte) (v1 >>> 24);
+        buf[bufOffset + 7] = (byte) (v1 >>> 16);
+        buf[bufOffset + 8] = (byte) (v1 >>> 8);
+        buf[bufOffset + 9] = (byte) (v1);
+        buf[bufOffset + 10] = (byte) (v2 >>> 32);
+        buf[bufOffset + 11] = (byte) (v2 >>> 24);
+        buf[bufOffset + 12] = (byte) (v2 >>> 16);
+        buf[bufOffset + 13] = (byte) (v2 >>> 8);
+        buf[bufOffset + 14] = (byte) (v2);
+        buf[bufOffset + 15] = (byte) (v3 >>> 32);
+        buf[bufOffset + 16] = (byte) (v3 >>> 24);
+        buf[bufOffset + 17] = (byte) (v3 >>> 16);
+        buf[bufOffset + 18] = (byte) (v3 >>> 8);
+        buf[bufOffset + 19] = (byte) (v3);
+        buf[bufOffset + 20] = (byte) (v4 >>> 32);
+        buf[bufOffset + 21] = (byte) (v4 >>> 24);
+        buf[bufOffset + 22] = (byte) (v4 >>> 16);
+        buf[bufOffset + 23] = (byte) (v4 >>> 8);
+        buf[bufOffset + 24] = (byte) (v4);
+        buf[bufOffset + 25] = (byte) (v5 >>> 32);
+        buf[bufOffset + 26] = (byte) (v5 >>> 24);
+        buf[bufOffset + 27] = (byte) (v5 >>> 16);
+        buf[bufOffset + 28] = (byte) (v5 >>> 8);
+        buf[bufOffset + 29] = (byte) (v5);
+        buf[bufOffset + 30] = (byte) (v6 >>> 32);
+        buf[bufOffset + 31] = (byte) (v6 >>> 24);
+        buf[bufOffset + 32] = (byte) (v6 >>> 16);
+        buf[bufOffset + 33] = (byte) (v6 >>> 8);
+        buf[bufOffset + 34] = (byte) (v6);
+        buf[bufOffset + 35] = (byte) (v7 >>> 32);
+        buf[bufOffset + 36] = (byte) (v7 >>> 24);
+        buf[bufOffset + 37] = (byte) (v7 >>> 16);
+        buf[bufOffset + 38] = (byte) (v7 >>> 8);
+        buf[bufOffset + 39] = (byte) (v7);
+    }
+
+    private static void pack8Values41(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x1FFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x1FFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x1FFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x1FFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x1FFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x1FFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x1FFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x1FFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 33);
+        buf[bufOffset + 1] = (byte) (v0 >>> 25);
+        buf[bufOffset + 2] = (byte) (v0 >>> 17);
+        buf[bufOffset + 3] = (byte) (v0 >>> 9);
+        buf[bufOffset + 4] = (byte) (v0 >>> 1);
+        buf[bufOffset + 5] = (byte) ((v0 << 7) | (v1 >>> 34));
+        buf[bufOffset + 6] = (byte) (v1 >>> 26);
+        buf[bufOffset + 7] = (byte) (v1 >>> 18);
+        buf[bufOffset + 8] = (byte) (v1 >>> 10);
+        buf[bufOffset + 9] = (byte) (v1 >>> 2);
+        buf[bufOffset + 10] = (byte) ((v1 << 6) | (v2 >>> 35));
+        buf[bufOffset + 11] = (byte) (v2 >>> 27);
+        buf[bufOffset + 12] = (byte) (v2 >>> 19);
+        buf[bufOffset + 13] = (byte) (v2 >>> 11);
+        buf[bufOffset + 14] = (byte) (v2 >>> 3);
+        buf[bufOffset + 15] = (byte) ((v2 << 5) | (v3 >>> 36));
+        buf[bufOffset + 16] = (byte) (v3 >>> 28);
+        buf[bufOffset + 17] = (byte) (v3 >>> 20);
+        buf[bufOffset + 18] = (byte) (v3 >>> 12);
+        buf[bufOffset + 19] = (byte) (v3 >>> 4);
+        buf[bufOffset + 20] = (byte) ((v3 << 4) | (v4 >>> 37));
+        buf[bufOffset + 21] = (byte) (v4 >>> 29);
+        buf[bufOffset + 22] = (byte) (v4 >>> 21);
+        buf[bufOffset + 23] = (byte) (v4 >>> 13);
+        buf[bufOffset + 24] = (byte) (v4 >>> 5);
+        buf[bufOffset + 25] = (byte) ((v4 << 3) | (v5 >>> 38));
+        buf[bufOffset + 26] = (byte) (v5 >>> 30);
+        buf[bufOffset + 27] = (byte) (v5 >>> 22);
+        buf[bufOffset + 28] = (byte) (v5 >>> 14);
+        buf[bufOffset + 29] = (byte) (v5 >>> 6);
+        buf[bufOffset + 30] = (byte) ((v5 << 2) | (v6 >>> 39));
+        buf[bufOffset + 31] = (byte) (v6 >>> 31);
+        buf[bufOffset + 32] = (byte) (v6 >>> 23);
+        buf[bufOffset + 33] = (byte) (v6 >>> 15);
+        buf[bufOffset + 34] = (byte) (v6 >>> 7);
+        buf[bufOffset + 35] = (byte) ((v6 << 1) | (v7 >>> 40));
+        buf[bufOffset + 36] = (byte) (v7 >>> 32);
+        buf[bufOffset + 37] = (byte) (v7 >>> 24);
+        buf[bufOffset + 38] = (byte) (v7 >>> 16);
+        buf[bufOffset + 39] = (byte) (v7 >>> 8);
+        buf[bufOffset + 40] = (byte) (v7);
+    }
+
+    private static void pack8Values42(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x3FFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x3FFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x3FFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x3FFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x3FFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x3FFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x3FFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x3FFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 34);
+        buf[bufOffset + 1] = (byte) (v0 >>> 26);
+        buf[bufOffset + 2] = (byte) (v0 >>> 18);
+        buf[bufOffset + 3] = (byte) (v0 >>> 10);
+        buf[bufOffset + 4] = (byte) (v0 >>> 2);
+        buf[bufOffset + 5] = (byte) ((v0 << 6) | (v1 >>> 36));
+        buf[bufOffset + 6] = (byte) (v1 >>> 28);
+        buf[bufOffset + 7] = (byte) (v1 >>> 20);
+        buf[bufOffset + 8] = (byte) (v1 >>> 12);
+        buf[bufOffset + 9] = (byte) (v1 >>> 4);
+        buf[bufOffset + 10] = (byte) ((v1 << 4) | (v2 >>> 38));
+        buf[bufOffset + 11] = (byte) (v2 >>> 30);
+        buf[bufOffset + 12] = (byte) (v2 >>> 22);
+        buf[bufOffset + 13] = (byte) (v2 >>> 14);
+        buf[bufOffset + 14] = (byte) (v2 >>> 6);
+        buf[bufOffset + 15] = (byte) ((v2 << 2) | (v3 >>> 40));
+        buf[bufOffset + 16] = (byte) (v3 >>> 32);
+        buf[bufOffset + 17] = (byte) (v3 >>> 24);
+        buf[bufOffset + 18] = (byte) (v3 >>> 16);
+        buf[bufOffset + 19] = (byte) (v3 >>> 8);
+        buf[bufOffset + 20] = (byte) (v3);
+        buf[bufOffset + 21] = (byte) (v4 >>> 34);
+        buf[bufOffset + 22] = (byte) (v4 >>> 26);
+        buf[bufOffset + 23] = (byte) (v4 >>> 18);
+        buf[bufOffset + 24] = (byte) (v4 >>> 10);
+        buf[bufOffset + 25] = (byte) (v4 >>> 2);
+        buf[bufOffset + 26] = (byte) ((v4 << 6) | (v5 >>> 36));
+        buf[bufOffset + 27] = (byte) (v5 >>> 28);
+        buf[bufOffset + 28] = (byte) (v5 >>> 20);
+        buf[bufOffset + 29] = (byte) (v5 >>> 12);
+        buf[bufOffset + 30] = (byte) (v5 >>> 4);
+        buf[bufOffset + 31] = (byte) ((v5 << 4) | (v6 >>> 38));
+        buf[bufOffset + 32] = (byte) (v6 >>> 30);
+        buf[bufOffset + 33] = (byte) (v6 >>> 22);
+        buf[bufOffset + 34] = (byte) (v6 >>> 14);
+        buf[bufOffset + 35] = (byte) (v6 >>> 6);
+        buf[bufOffset + 36] = (byte) ((v6 << 2) | (v7 >>> 40));
+        buf[bufOffset + 37] = (byte) (v7 >>> 32);
+        buf[bufOffset + 38] = (byte) (v7 >>> 24);
+        buf[bufOffset + 39] = (byte) (v7 >>> 16);
+        buf[bufOffset + 40] = (byte) (v7 >>> 8);
+        buf[bufOffset + 41] = (byte) (v7);
+    }
+
+    private static void pack8Values43(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x7FFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x7FFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x7FFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x7FFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x7FFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x7FFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x7FFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x7FFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 35);
+        buf[bufOffset + 1] = (byte) (v0 >>> 27);
+        buf[bufOffset + 2] = (byte) (v0 >>> 19);
+        buf[bufOffset + 3] = (byte) (v0 >>> 11);
+        buf[bufOffset + 4] = (byte) (v0 >>> 3);
+        buf[bufOffset + 5] = (byte) ((v0 << 5) | (v1 >>> 38));
+        buf[bufOffset + 6] = (byte) (v1 >>> 30);
+        buf[bufOffset + 7] = (byte) (v1 >>> 22);
+        buf[bufOffset + 8] = (byte) (v1 >>> 14);
+        buf[bufOffset + 9] = (byte) (v1 >>> 6);
+        buf[bufOffset + 10] = (byte) ((v1 << 2) | (v2 >>> 41));
+        buf[bufOffset + 11] = (byte) (v2 >>> 33);
+        buf[bufOffset + 12] = (byte) (v2 >>> 25);
+        buf[bufOffset + 13] = (byte) (v2 >>> 17);
+        buf[bufOffset + 14] = (byte) (v2 >>> 9);
+        buf[bufOffset + 15] = (byte) (v2 >>> 1);
+        buf[bufOffset + 16] = (byte) ((v2 << 7) | (v3 >>> 36));
+        buf[bufOffset + 17] = (byte) (v3 >>> 28);
+        buf[bufOffset + 18] = (byte) (v3 >>> 20);
+        buf[bufOffset + 19] = (byte) (v3 >>> 12);
+        buf[bufOffset + 20] = (byte) (v3 >>> 4);
+        buf[bufOffset + 21] = (byte) ((v3 << 4) | (v4 >>> 39));
+        buf[bufOffset + 22] = (byte) (v4 >>> 31);
+        buf[bufOffset + 23] = (byte) (v4 >>> 23);
+        buf[bufOffset + 24] = (byte) (v4 >>> 15);
+        buf[bufOffset + 25] = (byte) (v4 >>> 7);
+        buf[bufOffset + 26] = (byte) ((v4 << 1) | (v5 >>> 42));
+        buf[bufOffset + 27] = (byte) (v5 >>> 34);
+        buf[bufOffset + 28] = (byte) (v5 >>> 26);
+        buf[bufOffset + 29] = (byte) (v5 >>> 18);
+        buf[bufOffset + 30] = (byte) (v5 >>> 10);
+        buf[bufOffset + 31] = (byte) (v5 >>> 2);
+        buf[bufOffset + 32] = (byte) ((v5 << 6) | (v6 >>> 37));
+        buf[bufOffset + 33] = (byte) (v6 >>> 29);
+        buf[bufOffset + 34] = (byte) (v6 >>> 21);
+        buf[bufOffset + 35] = (byte) (v6 >>> 13);
+        buf[bufOffset + 36] = (byte) (v6 >>> 5);
+        buf[bufOffset + 37] = (byte) ((v6 << 3) | (v7 >>> 40));
+        buf[bufOffset + 38] = (byte) (v7 >>> 32);
+        buf[bufOffset + 39] = (byte) (v7 >>> 24);
+        buf[bufOffset + 40] = (byte) (v7 >>> 16);
+        buf[bufOffset + 41] = (byte) (v7 >>> 8);
+        buf[bufOffset + 42] = (byte) (v7);
+    }
+
+    private static void pack8Values44(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0xFFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0xFFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0xFFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0xFFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0xFFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0xFFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0xFFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0xFFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 36);
+        buf[bufOffset + 1] = (byte) (v0 >>> 28);
+        buf[bufOffset + 2] = (byte) (v0 >>> 20);
+        buf[bufOffset + 3] = (byte) (v0 >>> 12);
+        buf[bufOffset + 4] = (byte) (v0 >>> 4);
+        buf[bufOffset + 5] = (byte) ((v0 << 4) | (v1 >>> 40));
+        buf[bufOffset + 6] = (byte) (v1 >>> 32);
+        buf[bufOffset + 7] = (byte) (v1 >>> 24);
+        buf[bufOffset + 8] = (byte) (v1 >>> 16);
+        buf[bufOffset + 9] = (byte) (v1 >>> 8);
+        buf[bufOffset + 10] = (byte) (v1);
+        buf[bufOffset + 11] = (byte) (v2 >>> 36);
+        buf[bufOffset + 12] = (byte) (v2 >>> 28);
+        buf[bufOffset + 13] = (byte) (v2 >>> 20);
+        buf[bufOffset + 14] = (byte) (v2 >>> 12);
+        buf[bufOffset + 15] = (byte) (v2 >>> 4);
+        buf[bufOffset + 16] = (byte) ((v2 << 4) | (v3 >>> 40));
+        buf[bufOffset + 17] = (byte) (v3 >>> 32);
+        buf[bufOffset + 18] = (byte) (v3 >>> 24);
+        buf[bufOffset + 19] = (byte) (v3 >>> 16);
+        buf[bufOffset + 20] = (byte) (v3 >>> 8);
+        buf[bufOffset + 21] = (byte) (v3);
+        buf[bufOffset + 22] = (byte) (v4 >>> 36);
+        buf[bufOffset + 23] = (byte) (v4 >>> 28);
+        buf[bufOffset + 24] = (byte) (v4 >>> 20);
+        buf[bufOffset + 25] = (byte) (v4 >>> 12);
+        buf[bufOffset + 26] = (byte) (v4 >>> 4);
+        buf[bufOffset + 27] = (byte) ((v4 << 4) | (v5 >>> 40));
+        buf[bufOffset + 28] = (byte) (v5 >>> 32);
+        buf[bufOffset + 29] = (byte) (v5 >>> 24);
+        buf[bufOffset + 30] = (byte) (v5 >>> 16);
+        buf[bufOffset + 31] = (byte) (v5 >>> 8);
+        buf[bufOffset + 32] = (byte) (v5);
+        buf[bufOffset + 33] = (byte) (v6 >>> 36);
+        buf[bufOffset + 34] = (byte) (v6 >>> 28);
+        buf[bufOffset + 35] = (byte) (v6 >>> 20);
+        buf[bufOffset + 36] = (byte) (v6 >>> 12);
+        buf[bufOffset + 37] = (byte) (v6 >>> 4);
+        buf[bufOffset + 38] = (byte) ((v6 << 4) | (v7 >>> 40));
+        buf[bufOffset + 39] = (byte) (v7 >>> 32);
+        buf[bufOffset + 40] = (byte) (v7 >>> 24);
+        buf[bufOffset + 41] = (byte) (v7 >>> 16);
+        buf[bufOffset + 42] = (byte) (v7 >>> 8);
+        buf[bufOffset + 43] = (byte) (v7);
+    }
+
+    private static void pack8Values45(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x1FFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x1FFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x1FFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x1FFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x1FFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x1FFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x1FFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x1FFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 37);
+        buf[bufOffset + 1] = (byte) (v0 >>> 29);
+        buf[bufOffset + 2] = (byte) (v0 >>> 21);
+        buf[bufOffset + 3] = (byte) (v0 >>> 13);
+        buf[bufOffset + 4] = (byte) (v0 >>> 5);
+        buf[bufOffset + 5] = (byte) ((v0 << 3) | (v1 >>> 42));
+        buf[bufOffset + 6] = (byte) (v1 >>> 34);
+        buf[bufOffset + 7] = (byte) (v1 >>> 26);
+        buf[bufOffset + 8] = (byte) (v1 >>> 18);
+        buf[bufOffset + 9] = (byte) (v1 >>> 10);
+        buf[bufOffset + 10] = (byte) (v1 >>> 2);
+        buf[bufOffset + 11] = (byte) ((v1 << 6) | (v2 >>> 39));
+        buf[bufOffset + 12] = (byte) (v2 >>> 31);
+        buf[bufOffset + 13] = (byte) (v2 >>> 23);
+        buf[bufOffset + 14] = (byte) (v2 >>> 15);
+        buf[bufOffset + 15] = (byte) (v2 >>> 7);
+        buf[bufOffset + 16] = (byte) ((v2 << 1) | (v3 >>> 44));
+        buf[bufOffset + 17] = (byte) (v3 >>> 36);
+        buf[bufOffset + 18] = (byte) (v3 >>> 28);
+        buf[bufOffset + 19] = (byte) (v3 >>> 20);
+        buf[bufOffset + 20] = (byte) (v3 >>> 12);
+        buf[bufOffset + 21] = (byte) (v3 >>> 4);
+        buf[bufOffset + 22] = (byte) ((v3 << 4) | (v4 >>> 41));
+        buf[bufOffset + 23] = (byte) (v4 >>> 33);
+        buf[bufOffset + 24] = (byte) (v4 >>> 25);
+        buf[bufOffset + 25] = (byte) (v4 >>> 17);
+        buf[bufOffset + 26] = (byte) (v4 >>> 9);
+        buf[bufOffset + 27] = (byte) (v4 >>> 1);
+        buf[bufOffset + 28] = (byte) ((v4 << 7) | (v5 >>> 38));
+        buf[bufOffset + 29] = (byte) (v5 >>> 30);
+        buf[bufOffset + 30] = (byte) (v5 >>> 22);
+        buf[bufOffset + 31] = (byte) (v5 >>> 14);
+        buf[bufOffset + 32] = (byte) (v5 >>> 6);
+        buf[bufOffset + 33] = (byte) ((v5 << 2) | (v6 >>> 43));
+        buf[bufOffset + 34] = (byte) (v6 >>> 35);
+        buf[bufOffset + 35] = (byte) (v6 >>> 27);
+        buf[bufOffset + 36] = (byte) (v6 >>> 19);
+        buf[bufOffset + 37] = (byte) (v6 >>> 11);
+        buf[bufOffset + 38] = (byte) (v6 >>> 3);
+        buf[bufOffset + 39] = (byte) ((v6 << 5) | (v7 >>> 40));
+        buf[bufOffset + 40] = (byte) (v7 >>> 32);
+        buf[bufOffset + 41] = (byte) (v7 >>> 24);
+        buf[bufOffset + 42] = (byte) (v7 >>> 16);
+        buf[bufOffset + 43] = (byte) (v7 >>> 8);
+        buf[bufOffset + 44] = (byte) (v7);
+    }
+
+    private static void pack8Values46(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x3FFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x3FFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x3FFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x3FFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x3FFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x3FFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x3FFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x3FFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 38);
+        buf[bufOffset + 1] = (byte) (v0 >>> 30);
+        buf[bufOffset + 2] = (byte) (v0 >>> 22);
+        buf[bufOffset + 3] = (byte) (v0 >>> 14);
+        buf[bufOffset + 4] = (byte) (v0 >>> 6);
+        buf[bufOffset + 5] = (byte) ((v0 << 2) | (v1 >>> 44));
+        buf[bufOffset + 6] = (byte) (v1 >>> 36);
+        buf[bufOffset + 7] = (byte) (v1 >>> 28);
+        buf[bufOffset + 8] = (byte) (v1 >>> 20);
+        buf[bufOffset + 9] = (byte) (v1 >>> 12);
+        buf[bufOffset + 10] = (byte) (v1 >>> 4);
+        buf[bufOffset + 11] = (byte) ((v1 << 4) | (v2 >>> 42));
+        buf[bufOffset + 12] = (byte) (v2 >>> 34);
+        buf[bufOffset + 13] = (byte) (v2 >>> 26);
+        buf[bufOffset + 14] = (byte) (v2 >>> 18);
+        buf[bufOffset + 15] = (byte) (v2 >>> 10);
+        buf[bufOffset + 16] = (byte) (v2 >>> 2);
+        buf[bufOffset + 17] = (byte) ((v2 << 6) | (v3 >>> 40));
+        buf[bufOffset + 18] = (byte) (v3 >>> 32);
+        buf[bufOffset + 19] = (byte) (v3 >>> 24);
+        buf[bufOffset + 20] = (byte) (v3 >>> 16);
+        buf[bufOffset + 21] = (byte) (v3 >>> 8);
+        buf[bufOffset + 22] = (byte) (v3);
+        buf[bufOffset + 23] = (byte) (v4 >>> 38);
+        buf[bufOffset + 24] = (byte) (v4 >>> 30);
+        buf[bufOffset + 25] = (byte) (v4 >>> 22);
+        buf[bufOffset + 26] = (byte) (v4 >>> 14);
+        buf[bufOffset + 27] = (byte) (v4 >>> 6);
+        buf[bufOffset + 28] = (byte) ((v4 << 2) | (v5 >>> 44));
+        buf[bufOffset + 29] = (byte) (v5 >>> 36);
+        buf[bufOffset + 30] = (byte) (v5 >>> 28);
+        buf[bufOffset + 31] = (byte) (v5 >>> 20);
+        buf[bufOffset + 32] = (byte) (v5 >>> 12);
+        buf[bufOffset + 33] = (byte) (v5 >>> 4);
+        buf[bufOffset + 34] = (byte) ((v5 << 4) | (v6 >>> 42));
+        buf[bufOffset + 35] = (byte) (v6 >>> 34);
+        buf[bufOffset + 36] = (byte) (v6 >>> 26);
+        buf[bufOffset + 37] = (byte) (v6 >>> 18);
+        buf[bufOffset + 38] = (byte) (v6 >>> 10);
+        buf[bufOffset + 39] = (byte) (v6 >>> 2);
+        buf[bufOffset + 40] = (byte) ((v6 << 6) | (v7 >>> 40));
+        buf[bufOffset + 41] = (byte) (v7 >>> 32);
+        buf[bufOffset + 42] = (byte) (v7 >>> 24);
+        buf[bufOffset + 43] = (byte) (v7 >>> 16);
+        buf[bufOffset + 44] = (byte) (v7 >>> 8);
+        buf[bufOffset + 45] = (byte) (v7);
+    }
+
+    private static void pack8Values47(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x7FFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x7FFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x7FFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x7FFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x7FFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x7FFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x7FFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x7FFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 39);
+        buf[bufOffset + 1] = (byte) (v0 >>> 31);
+        buf[bufOffset + 2] = (byte) (v0 >>> 23);
+        buf[bufOffset + 3] = (byte) (v0 >>> 15);
+        buf[bufOffset + 4] = (byte) (v0 >>> 7);
+        buf[bufOffset + 5] = (byte) ((v0 << 1) | (v1 >>> 46));
+        buf[bufOffset + 6] = (byte) (v1 >>> 38);
+        buf[bufOffset + 7] = (byte) (v1 >>> 30);
+        buf[bufOffset + 8] = (byte) (v1 >>> 22);
+        buf[bufOffset + 9] = (byte) (v1 >>> 14);
+        buf[bufOffset + 10] = (byte) (v1 >>> 6);
+        buf[bufOffset + 11] = (byte) ((v1 << 2) | (v2 >>> 45));
+        buf[bufOffset + 12] = (byte) (v2 >>> 37);
+        buf[bufOffset + 13] = (byte) (v2 >>> 29);
+        buf[bufOffset + 14] = (byte) (v2 >>> 21);
+        buf[bufOffset + 15] = (byte) (v2 >>> 13);
+        buf[bufOffset + 16] = (byte) (v2 >>> 5);
+        buf[bufOffset + 17] = (byte) ((v2 << 3) | (v3 >>> 44));
+        buf[bufOffset + 18] = (byte) (v3 >>> 36);
+        buf[bufOffset + 19] = (byte) (v3 >>> 28);
+        buf[bufOffset + 20] = (byte) (v3 >>> 20);
+        buf[bufOffset + 21] = (byte) (v3 >>> 12);
+        buf[bufOffset + 22] = (byte) (v3 >>> 4);
+        buf[bufOffset + 23] = (byte) ((v3 << 4) | (v4 >>> 43));
+        buf[bufOffset + 24] = (byte) (v4 >>> 35);
+        buf[bufOffset + 25] = (byte) (v4 >>> 27);
+        buf[bufOffset + 26] = (byte) (v4 >>> 19);
+        buf[bufOffset + 27] = (byte) (v4 >>> 11);
+        buf[bufOffset + 28] = (byte) (v4 >>> 3);
+        buf[bufOffset + 29] = (byte) ((v4 << 5) | (v5 >>> 42));
+        buf[bufOffset + 30] = (byte) (v5 >>> 34);
+        buf[bufOffset + 31] = (byte) (v5 >>> 26);
+        buf[bufOffset + 32] = (byte) (v5 >>> 18);
+        buf[bufOffset + 33] = (byte) (v5 >>> 10);
+        buf[bufOffset + 34] = (byte) (v5 >>> 2);
+        buf[bufOffset + 35] = (byte) ((v5 << 6) | (v6 >>> 41));
+        buf[bufOffset + 36] = (byte) (v6 >>> 33);
+        buf[bufOffset + 37] = (byte) (v6 >>> 25);
+        buf[bufOffset + 38] = (byte) (v6 >>> 17);
+        buf[bufOffset + 39] = (byte) (v6 >>> 9);
+        buf[bufOffset + 40] = (byte) (v6 >>> 1);
+        buf[bufOffset + 41] = (byte) ((v6 << 7) | (v7 >>> 40));
+        buf[bufOffset + 42] = (byte) (v7 >>> 32);
+        buf[bufOffset + 43] = (byte) (v7 >>> 24);
+        buf[bufOffset + 44] = (byte) (v7 >>> 16);
+        buf[bufOffset + 45] = (byte) (v7 >>> 8);
+        buf[bufOffset + 46] = (byte) (v7);
+    }
+
+    private static void pack8Values48(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0xFFFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0xFFFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0xFFFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0xFFFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0xFFFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0xFFFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0xFFFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0xFFFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 40);
+        buf[bufOffset + 1] = (byte) (v0 >>> 32);
+        buf[bufOffset + 2] = (byte) (v0 >>> 24);
+        buf[bufOffset + 3] = (byte) (v0 >>> 16);
+        buf[bufOffset + 4] = (byte) (v0 >>> 8);
+        buf[bufOffset + 5] = (byte) (v0);
+        buf[bufOffset + 6] = (byte) (v1 >>> 40);
+        buf[bufOffset + 7] = (byte) (v1 >>> 32);
+        buf[bufOffset + 8] = (byte) (v1 >>> 24);
+        buf[bufOffset + 9] = (byte) (v1 >>> 16);
+        buf[bufOffset + 10] = (byte) (v1 >>> 8);
+        buf[bufOffset + 11] = (byte) (v1);
+        buf[bufOffset + 12] = (byte) (v2 >>> 40);
+        buf[bufOffset + 13] = (byte) (v2 >>> 32);
+        buf[bufOffset + 14] = (byte) (v2 >>> 24);
+        buf[bufOffset + 15] = (byte) (v2 >>> 16);
+        buf[bufOffset + 16] = (byte) (v2 >>> 8);
+        buf[bufOffset + 17] = (byte) (v2);
+        buf[bufOffset + 18] = (byte) (v3 >>> 40);
+        buf[bufOffset + 19] = (byte) (v3 >>> 32);
+        buf[bufOffset + 20] = (byte) (v3 >>> 24);
+        buf[bufOffset + 21] = (byte) (v3 >>> 16);
+        buf[bufOffset + 22] = (byte) (v3 >>> 8);
+        buf[bufOffset + 23] = (byte) (v3);
+        buf[bufOffset + 24] = (byte) (v4 >>> 40);
+        buf[bufOffset + 25] = (byte) (v4 >>> 32);
+        buf[bufOffset + 26] = (byte) (v4 >>> 24);
+        buf[bufOffset + 27] = (byte) (v4 >>> 16);
+        buf[bufOffset + 28] = (byte) (v4 >>> 8);
+        buf[bufOffset + 29] = (byte) (v4);
+        buf[bufOffset + 30] = (byte) (v5 >>> 40);
+        buf[bufOffset + 31] = (byte) (v5 >>> 32);
+        buf[bufOffset + 32] = (byte) (v5 >>> 24);
+        buf[bufOffset + 33] = (byte) (v5 >>> 16);
+        buf[bufOffset + 34] = (byte) (v5 >>> 8);
+        buf[bufOffset + 35] = (byte) (v5);
+        buf[bufOffset + 36] = (byte) (v6 >>> 40);
+        buf[bufOffset + 37] = (byte) (v6 >>> 32);
+        buf[bufOffset + 38] = (byte) (v6 >>> 24);
+        buf[bufOffset + 39] = (byte) (v6 >>> 16);
+        buf[bufOffset + 40] = (byte) (v6 >>> 8);
+        buf[bufOffset + 41] = (byte) (v6);
+        buf[bufOffset + 42] = (byte) (v7 >>> 40);
+        buf[bufOffset + 43] = (byte) (v7 >>> 32);
+        buf[bufOffset + 44] = (byte) (v7 >>> 24);
+        buf[bufOffset + 45] = (byte) (v7 >>> 16);
+        buf[bufOffset + 46] = (byte) (v7 >>> 8);
+        buf[bufOffset + 47] = (byte) (v7);
+    }
+
+    private static void pack8Values49(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x1FFFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x1FFFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x1FFFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x1FFFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x1FFFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x1FFFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x1FFFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x1FFFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 41);
+        buf[bufOffset + 1] = (byte) (v0 >>> 33);
+        buf[bufOffset + 2] = (byte) (v0 >>> 25);
+        buf[bufOffset + 3] = (byte) (v0 >>> 17);
+        buf[bufOffset + 4] = (byte) (v0 >>> 9);
+        buf[bufOffset + 5] = (byte) (v0 >>> 1);
+        buf[bufOffset + 6] = (byte) ((v0 << 7) | (v1 >>> 42));
+        buf[bufOffset + 7] = (byte) (v1 >>> 34);
+        buf[bufOffset + 8] = (byte) (v1 >>> 26);
+        buf[bufOffset + 9] = (byte) (v1 >>> 18);
+        buf[bufOffset + 10] = (byte) (v1 >>> 10);
+        buf[bufOffset + 11] = (byte) (v1 >>> 2);
+        buf[bufOffset + 12] = (byte) ((v1 << 6) | (v2 >>> 43));
+        buf[bufOffset + 13] = (byte) (v2 >>> 35);
+        buf[bufOffset + 14] = (byte) (v2 >>> 27);
+        buf[bufOffset + 15] = (byte) (v2 >>> 19);
+        buf[bufOffset + 16] = (byte) (v2 >>> 11);
+        buf[bufOffset + 17] = (byte) (v2 >>> 3);
+        buf[bufOffset + 18] = (byte) ((v2 << 5) | (v3 >>> 44));
+        buf[bufOffset + 19] = (byte) (v3 >>> 36);
+        buf[bufOffset + 20] = (byte) (v3 >>> 28);
+        buf[bufOffset + 21] = (byte) (v3 >>> 20);
+        buf[bufOffset + 22] = (byte) (v3 >>> 12);
+        buf[bufOffset + 23] = (byte) (v3 >>> 4);
+        buf[bufOffset + 24] = (byte) ((v3 << 4) | (v4 >>> 45));
+        buf[bufOffset + 25] = (byte) (v4 >>> 37);
+        buf[bufOffset + 26] = (byte) (v4 >>> 29);
+        buf[bufOffset + 27] = (byte) (v4 >>> 21);
+        buf[bufOffset + 28] = (byte) (v4 >>> 13);
+        buf[bufOffset + 29] = (byte) (v4 >>> 5);
+        buf[bufOffset + 30] = (byte) ((v4 << 3) | (v5 >>> 46));
+        buf[bufOffset + 31] = (byte) (v5 >>> 38);
+        buf[bufOffset + 32] = (byte) (v5 >>> 30);
+        buf[bufOffset + 33] = (byte) (v5 >>> 22);
+        buf[bufOffset + 34] = (byte) (v5 >>> 14);
+        buf[bufOffset + 35] = (byte) (v5 >>> 6);
+        buf[bufOffset + 36] = (byte) ((v5 << 2) | (v6 >>> 47));
+        buf[bufOffset + 37] = (byte) (v6 >>> 39);
+        buf[bufOffset + 38] = (byte) (v6 >>> 31);
+        buf[bufOffset + 39] = (byte) (v6 >>> 23);
+        buf[bufOffset + 40] = (byte) (v6 >>> 15);
+        buf[bufOffset + 41] = (byte) (v6 >>> 7);
+        buf[bufOffset + 42] = (byte) ((v6 << 1) | (v7 >>> 48));
+        buf[bufOffset + 43] = (byte) (v7 >>> 40);
+        buf[bufOffset + 44] = (byte) (v7 >>> 32);
+        buf[bufOffset + 45] = (byte) (v7 >>> 24);
+        buf[bufOffset + 46] = (byte) (v7 >>> 16);
+        buf[bufOffset + 47] = (byte) (v7 >>> 8);
+        buf[bufOffset + 48] = (byte) (v7);
+    }
+
+    private static void pack8Values50(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x3FFFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x3FFFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x3FFFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x3FFFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x3FFFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x3FFFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x3FFFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x3FFFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 42);
+        buf[bufOffset + 1] = (byte) (v0 >>> 34);
+        buf[bufOffset + 2] = (byte) (v0 >>> 26);
+        buf[bufOffset + 3] = (byte) (v0 >>> 18);
+        buf[bufOffset + 4] = (byte) (v0 >>> 10);
+        buf[bufOffset + 5] = (byte) (v0 >>> 2);
+        buf[bufOffset + 6] = (byte) ((v0 << 6) | (v1 >>> 44));
+        buf[bufOffset + 7] = (byte) (v1 >>> 36);
+        buf[bufOffset + 8] = (byte) (v1 >>> 28);
+        buf[bufOffset + 9] = (byte) (v1 >>> 20);
+        buf[bufOffset + 10] = (byte) (v1 >>> 12);
+        buf[bufOffset + 11] = (byte) (v1 >>> 4);
+        buf[bufOffset + 12] = (byte) ((v1 << 4) | (v2 >>> 46));
+        buf[bufOffset + 13] = (byte) (v2 >>> 38);
+        buf[bufOffset + 14] = (byte) (v2 >>> 30);
+        buf[bufOffset + 15] = (byte) (v2 >>> 22);
+        buf[bufOffset + 16] = (byte) (v2 >>> 14);
+        buf[bufOffset + 17] = (byte) (v2 >>> 6);
+        buf[bufOffset + 18] = (byte) ((v2 << 2) | (v3 >>> 48));
+        buf[bufOffset + 19] = (byte) (v3 >>> 40);
+        buf[bufOffset + 20] = (byte) (v3 >>> 32);
+        buf[bufOffset + 21] = (byte) (v3 >>> 24);
+        buf[bufOffset + 22] = (byte) (v3 >>> 16);
+        buf[bufOffset + 23] = (byte) (v3 >>> 8);
+        buf[bufOffset + 24] = (byte) (v3);
+        buf[bufOffset + 25] = (byte) (v4 >>> 42);
+        buf[bufOffset + 26] = (byte) (v4 >>> 34);
+        buf[bufOffset + 27] = (byte) (v4 >>> 26);
+        buf[bufOffset + 28] = (byte) (v4 >>> 18);
+        buf[bufOffset + 29] = (byte) (v4 >>> 10);
+        buf[bufOffset + 30] = (byte) (v4 >>> 2);
+        buf[bufOffset + 31] = (byte) ((v4 << 6) | (v5 >>> 44));
+        buf[bufOffset + 32] = (byte) (v5 >>> 36);
+        buf[bufOffset + 33] = (byte) (v5 >>> 28);
+        buf[bufOffset + 34] = (byte) (v5 >>> 20);
+        buf[bufOffset + 35] = (byte) (v5 >>> 12);
+        buf[bufOffset + 36] = (byte) (v5 >>> 4);
+        buf[bufOffset + 37] = (byte) ((v5 << 4) | (v6 >>> 46));
+        buf[bufOffset + 38] = (byte) (v6 >>> 38);
+        buf[bufOffset + 39] = (byte) (v6 >>> 30);
+        buf[bufOffset + 40] = (byte) (v6 >>> 22);
+        buf[bufOffset + 41] = (byte) (v6 >>> 14);
+        buf[bufOffset + 42] = (byte) (v6 >>> 6);
+        buf[bufOffset + 43] = (byte) ((v6 << 2) | (v7 >>> 48));
+        buf[bufOffset + 44] = (byte) (v7 >>> 40);
+        buf[bufOffset + 45] = (byte) (v7 >>> 32);
+        buf[bufOffset + 46] = (byte) (v7 >>> 24);
+        buf[bufOffset + 47] = (byte) (v7 >>> 16);
+        buf[bufOffset + 48] = (byte) (v7 >>> 8);
+        buf[bufOffset + 49] = (byte) (v7);
+    }
+
+    private static void pack8Values51(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x7FFFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x7FFFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x7FFFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x7FFFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x7FFFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x7FFFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x7FFFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x7FFFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 43);
+        buf[bufOffset + 1] = (byte) (v0 >>> 35);
+        buf[bufOffset + 2] = (byte) (v0 >>> 27);
+        buf[bufOffset + 3] = (byte) (v0 >>> 19);
+        buf[bufOffset + 4] = (byte) (v0 >>> 11);
+        buf[bufOffset + 5] = (byte) (v0 >>> 3);
+        buf[bufOffset + 6] = (byte) ((v0 << 5) | (v1 >>> 46));
+        buf[bufOffset + 7] = (byte) (v1 >>> 38);
+        buf[bufOffset + 8] = (byte) (v1 >>> 30);
+        buf[bufOffset + 9] = (byte) (v1 >>> 22);
+        buf[bufOffset + 10] = (byte) (v1 >>> 14);
+        buf[bufOffset + 11] = (byte) (v1 >>> 6);
+        buf[bufOffset + 12] = (byte) ((v1 << 2) | (v2 >>> 49));
+        buf[bufOffset + 13] = (byte) (v2 >>> 41);
+        buf[bufOffset + 14] = (byte) (v2 >>> 33);
+        buf[bufOffset + 15] = (byte) (v2 >>> 25);
+        buf[bufOffset + 16] = (byte) (v2 >>> 17);
+        buf[bufOffset + 17] = (byte) (v2 >>> 9);
+        buf[bufOffset + 18] = (byte) (v2 >>> 1);
+        buf[bufOffset + 19] = (byte) ((v2 << 7) | (v3 >>> 44));
+        buf[bufOffset + 20] = (byte) (v3 >>> 36);
+        buf[bufOffset + 21] = (byte) (v3 >>> 28);
+        buf[bufOffset + 22] = (byte) (v3 >>> 20);
+        buf[bufOffset + 23] = (byte) (v3 >>> 12);
+        buf[bufOffset + 24] = (byte) (v3 >>> 4);
+        buf[bufOffset + 25] = (byte) ((v3 << 4) | (v4 >>> 47));
+        buf[bufOffset + 26] = (byte) (v4 >>> 39);
+        buf[bufOffset + 27] = (byte) (v4 >>> 31);
+        buf[bufOffset + 28] = (byte) (v4 >>> 23);
+        buf[bufOffset + 29] = (byte) (v4 >>> 15);
+        buf[bufOffset + 30] = (byte) (v4 >>> 7);
+        buf[bufOffset + 31] = (byte) ((v4 << 1) | (v5 >>> 50));
+        buf[bufOffset + 32] = (byte) (v5 >>> 42);
+        buf[bufOffset + 33] = (byte) (v5 >>> 34);
+        buf[bufOffset + 34] = (byte) (v5 >>> 26);
+        buf[bufOffset + 35] = (byte) (v5 >>> 18);
+        buf[bufOffset + 36] = (byte) (v5 >>> 10);
+        buf[bufOffset + 37] = (byte) (v5 >>> 2);
+        buf[bufOffset + 38] = (byte) ((v5 << 6) | (v6 >>> 45));
+        buf[bufOffset + 39] = (byte) (v6 >>> 37);
+        buf[bufOffset + 40] = (byte) (v6 >>> 29);
+        buf[bufOffset + 41] = (byte) (v6 >>> 21);
+        buf[bufOffset + 42] = (byte) (v6 >>> 13);
+        buf[bufOffset + 43] = (byte) (v6 >>> 5);
+        buf[bufOffset + 44] = (byte) ((v6 << 3) | (v7 >>> 48));
+        buf[bufOffset + 45] = (byte) (v7 >>> 40);
+        buf[bufOffset + 46] = (byte) (v7 >>> 32);
+        buf[bufOffset + 47] = (byte) (v7 >>> 24);
+        buf[bufOffset + 48] = (byte) (v7 >>> 16);
+        buf[bufOffset + 49] = (byte) (v7 >>> 8);
+        buf[bufOffset + 50] = (byte) (v7);
+    }
+
+    private static void pack8Values52(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0xFFFFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0xFFFFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0xFFFFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0xFFFFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0xFFFFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0xFFFFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0xFFFFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0xFFFFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 44);
+        buf[bufOffset + 1] = (byte) (v0 >>> 36);
+        buf[bufOffset + 2] = (byte) (v0 >>> 28);
+        buf[bufOffset + 3] = (byte) (v0 >>> 20);
+        buf[bufOffset + 4] = (byte) (v0 >>> 12);
+        buf[bufOffset + 5] = (byte) (v0 >>> 4);
+        buf[bufOffset + 6] = (byte) ((v0 << 4) | (v1 >>> 48));
+        buf[bufOffset + 7] = (byte) (v1 >>> 40);
+        buf[bufOffset + 8] = (byte) (v1 >>> 32);
+        buf[bufOffset + 9] = (byte) (v1 >>> 24);
+        buf[bufOffset + 10] = (byte) (v1 >>> 16);
+        buf[bufOffset + 11] = (byte) (v1 >>> 8);
+        buf[bufOffset + 12] = (byte) (v1);
+        buf[bufOffset + 13] = (byte) (v2 >>> 44);
+        buf[bufOffset + 14] = (byte) (v2 >>> 36);
+        buf[bufOffset + 15] = (byte) (v2 >>> 28);
+        buf[bufOffset + 16] = (byte) (v2 >>> 20);
+        buf[bufOffset + 17] = (byte) (v2 >>> 12);
+        buf[bufOffset + 18] = (byte) (v2 >>> 4);
+        buf[bufOffset + 19] = (byte) ((v2 << 4) | (v3 >>> 48));
+        buf[bufOffset + 20] = (byte) (v3 >>> 40);
+        buf[bufOffset + 21] = (byte) (v3 >>> 32);
+        buf[bufOffset + 22] = (byte) (v3 >>> 24);
+        buf[bufOffset + 23] = (byte) (v3 >>> 16);
+        buf[bufOffset + 24] = (byte) (v3 >>> 8);
+        buf[bufOffset + 25] = (byte) (v3);
+        buf[bufOffset + 26] = (byte) (v4 >>> 44);
+        buf[bufOffset + 27] = (byte) (v4 >>> 36);
+        buf[bufOffset + 28] = (byte) (v4 >>> 28);
+        buf[bufOffset + 29] = (byte) (v4 >>> 20);
+        buf[bufOffset + 30] = (byte) (v4 >>> 12);
+        buf[bufOffset + 31] = (byte) (v4 >>> 4);
+        buf[bufOffset + 32] = (byte) ((v4 << 4) | (v5 >>> 48));
+        buf[bufOffset + 33] = (byte) (v5 >>> 40);
+        buf[bufOffset + 34] = (byte) (v5 >>> 32);
+        buf[bufOffset + 35] = (byte) (v5 >>> 24);
+        buf[bufOffset + 36] = (byte) (v5 >>> 16);
+        buf[bufOffset + 37] = (byte) (v5 >>> 8);
+        buf[bufOffset + 38] = (byte) (v5);
+        buf[bufOffset + 39] = (byte) (v6 >>> 44);
+        buf[bufOffset + 40] = (byte) (v6 >>> 36);
+        buf[bufOffset + 41] = (byte) (v6 >>> 28);
+        buf[bufOffset + 42] = (byte) (v6 >>> 20);
+        buf[bufOffset + 43] = (byte) (v6 >>> 12);
+        buf[bufOffset + 44] = (byte) (v6 >>> 4);
+        buf[bufOffset + 45] = (byte) ((v6 << 4) | (v7 >>> 48));
+        buf[bufOffset + 46] = (byte) (v7 >>> 40);
+        buf[bufOffset + 47] = (byte) (v7 >>> 32);
+        buf[bufOffset + 48] = (byte) (v7 >>> 24);
+        buf[bufOffset + 49] = (byte) (v7 >>> 16);
+        buf[bufOffset + 50] = (byte) (v7 >>> 8);
+        buf[bufOffset + 51] = (byte) (v7);
+    }
+
+    private static void pack8Values53(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x1FFFFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x1FFFFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x1FFFFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x1FFFFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x1FFFFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x1FFFFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x1FFFFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x1FFFFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 45);
+        buf[bufOffset + 1] = (byte) (v0 >>> 37);
+        buf[bufOffset + 2] = (byte) (v0 >>> 29);
+        buf[bufOffset + 3] = (byte) (v0 >>> 21);
+        buf[bufOffset + 4] = (byte) (v0 >>> 13);
+        buf[bufOffset + 5] = (byte) (v0 >>> 5);
+        buf[bufOffset + 6] = (byte) ((v0 << 3) | (v1 >>> 50));
+        buf[bufOffset + 7] = (byte) (v1 >>> 42);
+        buf[bufOffset + 8] = (byte) (v1 >>> 34);
+        buf[bufOffset + 9] = (byte) (v1 >>> 26);
+        buf[bufOffset + 10] = (byte) (v1 >>> 18);
+        buf[bufOffset + 11] = (byte) (v1 >>> 10);
+        buf[bufOffset + 12] = (byte) (v1 >>> 2);
+        buf[bufOffset + 13] = (byte) ((v1 << 6) | (v2 >>> 47));
+        buf[bufOffset + 14] = (byte) (v2 >>> 39);
+        buf[bufOffset + 15] = (byte) (v2 >>> 31);
+        buf[bufOffset + 16] = (byte) (v2 >>> 23);
+        buf[bufOffset + 17] = (byte) (v2 >>> 15);
+        buf[bufOffset + 18] = (byte) (v2 >>> 7);
+        buf[bufOffset + 19] = (byte) ((v2 << 1) | (v3 >>> 52));
+        buf[bufOffset + 20] = (byte) (v3 >>> 44);
+        buf[bufOffset + 21] = (byte) (v3 >>> 36);
+        buf[bufOffset + 22] = (byte) (v3 >>> 28);
+        buf[bufOffset + 23] = (byte) (v3 >>> 20);
+        buf[bufOffset + 24] = (byte) (v3 >>> 12);
+        buf[bufOffset + 25] = (byte) (v3 >>> 4);
+        buf[bufOffset + 26] = (byte) ((v3 << 4) | (v4 >>> 49));
+        buf[bufOffset + 27] = (byte) (v4 >>> 41);
+        buf[bufOffset + 28] = (byte) (v4 >>> 33);
+        buf[bufOffset + 29] = (byte) (v4 >>> 25);
+        buf[bufOffset + 30] = (byte) (v4 >>> 17);
+        buf[bufOffset + 31] = (byte) (v4 >>> 9);
+        buf[bufOffset + 32] = (byte) (v4 >>> 1);
+        buf[bufOffset + 33] = (byte) ((v4 << 7) | (v5 >>> 46));
+        buf[bufOffset + 34] = (byte) (v5 >>> 38);
+        buf[bufOffset + 35] = (byte) (v5 >>> 30);
+        buf[bufOffset + 36] = (byte) (v5 >>> 22);
+        buf[bufOffset + 37] = (byte) (v5 >>> 14);
+        buf[bufOffset + 38] = (byte) (v5 >>> 6);
+        buf[bufOffset + 39] = (byte) ((v5 << 2) | (v6 >>> 51));
+        buf[bufOffset + 40] = (byte) (v6 >>> 43);
+        buf[bufOffset + 41] = (byte) (v6 >>> 35);
+        buf[bufOffset + 42] = (byte) (v6 >>> 27);
+        buf[bufOffset + 43] = (byte) (v6 >>> 19);
+        buf[bufOffset + 44] = (byte) (v6 >>> 11);
+        buf[bufOffset + 45] = (byte) (v6 >>> 3);
+        buf[bufOffset + 46] = (byte) ((v6 << 5) | (v7 >>> 48));
+        buf[bufOffset + 47] = (byte) (v7 >>> 40);
+        buf[bufOffset + 48] = (byte) (v7 >>> 32);
+        buf[bufOffset + 49] = (byte) (v7 >>> 24);
+        buf[bufOffset + 50] = (byte) (v7 >>> 16);
+        buf[bufOffset + 51] = (byte) (v7 >>> 8);
+        buf[bufOffset + 52] = (byte) (v7);
+    }
+
+    private static void pack8Values54(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x3FFFFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x3FFFFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x3FFFFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x3FFFFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x3FFFFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x3FFFFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x3FFFFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x3FFFFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 46);
+        buf[bufOffset + 1] = (byte) (v0 >>> 38);
+        buf[bufOffset + 2] = (byte) (v0 >>> 30);
+        buf[bufOffset + 3] = (byte) (v0 >>> 22);
+        buf[bufOffset + 4] = (byte) (v0 >>> 14);
+        buf[bufOffset + 5] = (byte) (v0 >>> 6);
+        buf[bufOffset + 6] = (byte) ((v0 << 2) | (v1 >>> 52));
+        buf[bufOffset + 7] = (byte) (v1 >>> 44);
+        buf[bufOffset + 8] = (byte) (v1 >>> 36);
+        buf[bufOffset + 9] = (byte) (v1 >>> 28);
+        buf[bufOffset + 10] = (byte) (v1 >>> 20);
+        buf[bufOffset + 11] = (byte) (v1 >>> 12);
+        buf[bufOffset + 12] = (byte) (v1 >>> 4);
+        buf[bufOffset + 13] = (byte) ((v1 << 4) | (v2 >>> 50));
+        buf[bufOffset + 14] = (byte) (v2 >>> 42);
+        buf[bufOffset + 15] = (byte) (v2 >>> 34);
+        buf[bufOffset + 16] = (byte) (v2 >>> 26);
+        buf[bufOffset + 17] = (byte) (v2 >>> 18);
+        buf[bufOffset + 18] = (byte) (v2 >>> 10);
+        buf[bufOffset + 19] = (byte) (v2 >>> 2);
+        buf[bufOffset + 20] = (byte) ((v2 << 6) | (v3 >>> 48));
+        buf[bufOffset + 21] = (byte) (v3 >>> 40);
+        buf[bufOffset + 22] = (byte) (v3 >>> 32);
+        buf[bufOffset + 23] = (byte) (v3 >>> 24);
+        buf[bufOffset + 24] = (byte) (v3 >>> 16);
+        buf[bufOffset + 25] = (byte) (v3 >>> 8);
+        buf[bufOffset + 26] = (byte) (v3);
+        buf[bufOffset + 27] = (byte) (v4 >>> 46);
+        buf[bufOffset + 28] = (byte) (v4 >>> 38);
+        buf[bufOffset + 29] = (byte) (v4 >>> 30);
+        buf[bufOffset + 30] = (byte) (v4 >>> 22);
+        buf[bufOffset + 31] = (byte) (v4 >>> 14);
+        buf[bufOffset + 32] = (byte) (v4 >>> 6);
+        buf[bufOffset + 33] = (byte) ((v4 << 2) | (v5 >>> 52));
+        buf[bufOffset + 34] = (byte) (v5 >>> 44);
+        buf[bufOffset + 35] = (byte) (v5 >>> 36);
+        buf[bufOffset + 36] = (byte) (v5 >>> 28);
+        buf[bufOffset + 37] = (byte) (v5 >>> 20);
+        buf[bufOffset + 38] = (byte) (v5 >>> 12);
+        buf[bufOffset + 39] = (byte) (v5 >>> 4);
+        buf[bufOffset + 40] = (byte) ((v5 << 4) | (v6 >>> 50));
+        buf[bufOffset + 41] = (byte) (v6 >>> 42);
+        buf[bufOffset + 42] = (byte) (v6 >>> 34);
+        buf[bufOffset + 43] = (byte) (v6 >>> 26);
+        buf[bufOffset + 44] = (byte) (v6 >>> 18);
+        buf[bufOffset + 45] = (byte) (v6 >>> 10);
+        buf[bufOffset + 46] = (byte) (v6 >>> 2);
+        buf[bufOffset + 47] = (byte) ((v6 << 6) | (v7 >>> 48));
+        buf[bufOffset + 48] = (byte) (v7 >>> 40);
+        buf[bufOffset + 49] = (byte) (v7 >>> 32);
+        buf[bufOffset + 50] = (byte) (v7 >>> 24);
+        buf[bufOffset + 51] = (byte) (v7 >>> 16);
+        buf[bufOffset + 52] = (byte) (v7 >>> 8);
+        buf[bufOffset + 53] = (byte) (v7);
+    }
+
+    private static void pack8Values55(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x7FFFFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x7FFFFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x7FFFFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x7FFFFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x7FFFFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x7FFFFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x7FFFFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x7FFFFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 47);
+        buf[bufOffset + 1] = (byte) (v0 >>> 39);
+        buf[bufOffset + 2] = (byte) (v0 >>> 31);
+        buf[bufOffset + 3] = (byte) (v0 >>> 23);
+        buf[bufOffset + 4] = (byte) (v0 >>> 15);
+        buf[bufOffset + 5] = (byte) (v0 >>> 7);
+        buf[bufOffset + 6] = (byte) ((v0 << 1) | (v1 >>> 54));
+        buf[bufOffset + 7] = (byte) (v1 >>> 46);
+        buf[bufOffset + 8] = (byte) (v1 >>> 38);
+        buf[bufOffset + 9] = (byte) (v1 >>> 30);
+        buf[bufOffset + 10] = (byte) (v1 >>> 22);
+        buf[bufOffset + 11] = (byte) (v1 >>> 14);
+        buf[bufOffset + 12] = (byte) (v1 >>> 6);
+        buf[bufOffset + 13] = (byte) ((v1 << 2) | (v2 >>> 53));
+        buf[bufOffset + 14] = (byte) (v2 >>> 45);
+        buf[bufOffset + 15] = (byte) (v2 >>> 37);
+        buf[bufOffset + 16] = (byte) (v2 >>> 29);
+        buf[bufOffset + 17] = (byte) (v2 >>> 21);
+        buf[bufOffset + 18] = (byte) (v2 >>> 13);
+        buf[bufOffset + 19] = (byte) (v2 >>> 5);
+        buf[bufOffset + 20] = (byte) ((v2 << 3) | (v3 >>> 52));
+        buf[bufOffset + 21] = (byte) (v3 >>> 44);
+        buf[bufOffset + 22] = (byte) (v3 >>> 36);
+        buf[bufOffset + 23] = (byte) (v3 >>> 28);
+        buf[bufOffset + 24] = (byte) (v3 >>> 20);
+        buf[bufOffset + 25] = (byte) (v3 >>> 12);
+        buf[bufOffset + 26] = (byte) (v3 >>> 4);
+        buf[bufOffset + 27] = (byte) ((v3 << 4) | (v4 >>> 51));
+        buf[bufOffset + 28] = (byte) (v4 >>> 43);
+        buf[bufOffset + 29] = (byte) (v4 >>> 35);
+        buf[bufOffset + 30] = (byte) (v4 >>> 27);
+        buf[bufOffset + 31] = (byte) (v4 >>> 19);
+        buf[bufOffset + 32] = (byte) (v4 >>> 11);
+        buf[bufOffset + 33] = (byte) (v4 >>> 3);
+        buf[bufOffset + 34] = (byte) ((v4 << 5) | (v5 >>> 50));
+        buf[bufOffset + 35] = (byte) (v5 >>> 42);
+        buf[bufOffset + 36] = (byte) (v5 >>> 34);
+        buf[bufOffset + 37] = (byte) (v5 >>> 26);
+        buf[bufOffset + 38] = (byte) (v5 >>> 18);
+        buf[bufOffset + 39] = (byte) (v5 >>> 10);
+        buf[bufOffset + 40] = (byte) (v5 >>> 2);
+        buf[bufOffset + 41] = (byte) ((v5 << 6) | (v6 >>> 49));
+        buf[bufOffset + 42] = (byte) (v6 >>> 41);
+        buf[bufOffset + 43] = (byte) (v6 >>> 33);
+        buf[bufOffset + 44] = (byte) (v6 >>> 25);
+        buf[bufOffset + 45] = (byte) (v6 >>> 17);
+        buf[bufOffset + 46] = (byte) (v6 >>> 9);
+        buf[bufOffset + 47] = (byte) (v6 >>> 1);
+        buf[bufOffset + 48] = (byte) ((v6 << 7) | (v7 >>> 48));
+        buf[bufOffset + 49] = (byte) (v7 >>> 40);
+        buf[bufOffset + 50] = (byte) (v7 >>> 32);
+        buf[bufOffset + 51] = (byte) (v7 >>> 24);
+        buf[bufOffset + 52] = (byte) (v7 >>> 16);
+        buf[bufOffset + 53] = (byte) (v7 >>> 8);
+        buf[bufOffset + 54] = (byte) (v7);
+    }
+
+    private static void pack8Values56(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0xFFFFFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0xFFFFFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0xFFFFFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0xFFFFFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0xFFFFFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0xFFFFFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0xFFFFFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0xFFFFFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 48);
+        buf[bufOffset + 1] = (byte) (v0 >>> 40);
+        buf[bufOffset + 2] = (byte) (v0 >>> 32);
+        buf[bufOffset + 3] = (byte) (v0 >>> 24);
+        buf[bufOffset + 4] = (byte) (v0 >>> 16);
+        buf[bufOffset + 5] = (byte) (v0 >>> 8);
+        buf[bufOffset + 6] = (byte) (v0);
+        buf[bufOffset + 7] = (byte) (v1 >>> 48);
+        buf[bufOffset + 8] = (byte) (v1 >>> 40);
+        buf[bufOffset + 9] = (byte) (v1 >>> 32);
+        buf[bufOffset + 10] = (byte) (v1 >>> 24);
+        buf[bufOffset + 11] = (byte) (v1 >>> 16);
+        buf[bufOffset + 12] = (byte) (v1 >>> 8);
+        buf[bufOffset + 13] = (byte) (v1);
+        buf[bufOffset + 14] = (byte) (v2 >>> 48);
+        buf[bufOffset + 15] = (byte) (v2 >>> 40);
+        buf[bufOffset + 16] = (byte) (v2 >>> 32);
+        buf[bufOffset + 17] = (byte) (v2 >>> 24);
+        buf[bufOffset + 18] = (byte) (v2 >>> 16);
+        buf[bufOffset + 19] = (byte) (v2 >>> 8);
+        buf[bufOffset + 20] = (byte) (v2);
+        buf[bufOffset + 21] = (byte) (v3 >>> 48);
+        buf[bufOffset + 22] = (byte) (v3 >>> 40);
+        buf[bufOffset + 23] = (byte) (v3 >>> 32);
+        buf[bufOffset + 24] = (byte) (v3 >>> 24);
+        buf[bufOffset + 25] = (byte) (v3 >>> 16);
+        buf[bufOffset + 26] = (byte) (v3 >>> 8);
+        buf[bufOffset + 27] = (byte) (v3);
+        buf[bufOffset + 28] = (byte) (v4 >>> 48);
+        buf[bufOffset + 29] = (byte) (v4 >>> 40);
+        buf[bufOffset + 30] = (byte) (v4 >>> 32);
+        buf[bufOffset + 31] = (byte) (v4 >>> 24);
+        buf[bufOffset + 32] = (byte) (v4 >>> 16);
+        buf[bufOffset + 33] = (byte) (v4 >>> 8);
+        buf[bufOffset + 34] = (byte) (v4);
+        buf[bufOffset + 35] = (byte) (v5 >>> 48);
+        buf[bufOffset + 36] = (byte) (v5 >>> 40);
+        buf[bufOffset + 37] = (byte) (v5 >>> 32);
+        buf[bufOffset + 38] = (byte) (v5 >>> 24);
+        buf[bufOffset + 39] = (byte) (v5 >>> 16);
+        buf[bufOffset + 40] = (byte) (v5 >>> 8);
+        buf[bufOffset + 41] = (byte) (v5);
+        buf[bufOffset + 42] = (byte) (v6 >>> 48);
+        buf[bufOffset + 43] = (byte) (v6 >>> 40);
+        buf[bufOffset + 44] = (byte) (v6 >>> 32);
+        buf[bufOffset + 45] = (byte) (v6 >>> 24);
+        buf[bufOffset + 46] = (byte) (v6 >>> 16);
+        buf[bufOffset + 47] = (byte) (v6 >>> 8);
+        buf[bufOffset + 48] = (byte) (v6);
+        buf[bufOffset + 49] = (byte) (v7 >>> 48);
+        buf[bufOffset + 50] = (byte) (v7 >>> 40);
+        buf[bufOffset + 51] = (byte) (v7 >>> 32);
+        buf[bufOffset + 52] = (byte) (v7 >>> 24);
+        buf[bufOffset + 53] = (byte) (v7 >>> 16);
+        buf[bufOffset + 54] = (byte) (v7 >>> 8);
+        buf[bufOffset + 55] = (byte) (v7);
+    }
+
+    private static void pack8Values57(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x1FFFFFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x1FFFFFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x1FFFFFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x1FFFFFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x1FFFFFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x1FFFFFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x1FFFFFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x1FFFFFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 49);
+        buf[bufOffset + 1] = (byte) (v0 >>> 41);
+        buf[bufOffset + 2] = (byte) (v0 >>> 33);
+        buf[bufOffset + 3] = (byte) (v0 >>> 25);
+        buf[bufOffset + 4] = (byte) (v0 >>> 17);
+        buf[bufOffset + 5] = (byte) (v0 >>> 9);
+        buf[bufOffset + 6] = (byte) (v0 >>> 1);
+        buf[bufOffset + 7] = (byte) ((v0 << 7) | (v1 >>> 50));
+        buf[bufOffset + 8] = (byte) (v1 >>> 42);
+        buf[bufOffset + 9] = (byte) (v1 >>> 34);
+        buf[bufOffset + 10] = (byte) (v1 >>> 26);
+        buf[bufOffset + 11] = (byte) (v1 >>> 18);
+        buf[bufOffset + 12] = (byte) (v1 >>> 10);
+        buf[bufOffset + 13] = (byte) (v1 >>> 2);
+        buf[bufOffset + 14] = (byte) ((v1 << 6) | (v2 >>> 51));
+        buf[bufOffset + 15] = (byte) (v2 >>> 43);
+        buf[bufOffset + 16] = (byte) (v2 >>> 35);
+        buf[bufOffset + 17] = (byte) (v2 >>> 27);
+        buf[bufOffset + 18] = (byte) (v2 >>> 19);
+        buf[bufOffset + 19] = (byte) (v2 >>> 11);
+        buf[bufOffset + 20] = (byte) (v2 >>> 3);
+        buf[bufOffset + 21] = (byte) ((v2 << 5) | (v3 >>> 52));
+        buf[bufOffset + 22] = (byte) (v3 >>> 44);
+        buf[bufOffset + 23] = (byte) (v3 >>> 36);
+        buf[bufOffset + 24] = (byte) (v3 >>> 28);
+        buf[bufOffset + 25] = (byte) (v3 >>> 20);
+        buf[bufOffset + 26] = (byte) (v3 >>> 12);
+        buf[bufOffset + 27] = (byte) (v3 >>> 4);
+        buf[bufOffset + 28] = (byte) ((v3 << 4) | (v4 >>> 53));
+        buf[bufOffset + 29] = (byte) (v4 >>> 45);
+        buf[bufOffset + 30] = (byte) (v4 >>> 37);
+        buf[bufOffset + 31] = (byte) (v4 >>> 29);
+        buf[bufOffset + 32] = (byte) (v4 >>> 21);
+        buf[bufOffset + 33] = (byte) (v4 >>> 13);
+        buf[bufOffset + 34] = (byte) (v4 >>> 5);
+        buf[bufOffset + 35] = (byte) ((v4 << 3) | (v5 >>> 54));
+        buf[bufOffset + 36] = (byte) (v5 >>> 46);
+        buf[bufOffset + 37] = (byte) (v5 >>> 38);
+        buf[bufOffset + 38] = (byte) (v5 >>> 30);
+        buf[bufOffset + 39] = (byte) (v5 >>> 22);
+        buf[bufOffset + 40] = (byte) (v5 >>> 14);
+        buf[bufOffset + 41] = (byte) (v5 >>> 6);
+        buf[bufOffset + 42] = (byte) ((v5 << 2) | (v6 >>> 55));
+        buf[bufOffset + 43] = (byte) (v6 >>> 47);
+        buf[bufOffset + 44] = (byte) (v6 >>> 39);
+        buf[bufOffset + 45] = (byte) (v6 >>> 31);
+        buf[bufOffset + 46] = (byte) (v6 >>> 23);
+        buf[bufOffset + 47] = (byte) (v6 >>> 15);
+        buf[bufOffset + 48] = (byte) (v6 >>> 7);
+        buf[bufOffset + 49] = (byte) ((v6 << 1) | (v7 >>> 56));
+        buf[bufOffset + 50] = (byte) (v7 >>> 48);
+        buf[bufOffset + 51] = (byte) (v7 >>> 40);
+        buf[bufOffset + 52] = (byte) (v7 >>> 32);
+        buf[bufOffset + 53] = (byte) (v7 >>> 24);
+        buf[bufOffset + 54] = (byte) (v7 >>> 16);
+        buf[bufOffset + 55] = (byte) (v7 >>> 8);
+        buf[bufOffset + 56] = (byte) (v7);
+    }
+
+    private static void pack8Values58(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x3FFFFFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x3FFFFFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x3FFFFFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x3FFFFFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x3FFFFFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x3FFFFFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x3FFFFFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x3FFFFFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 50);
+        buf[bufOffset + 1] = (byte) (v0 >>> 42);
+        buf[bufOffset + 2] = (byte) (v0 >>> 34);
+        buf[bufOffset + 3] = (byte) (v0 >>> 26);
+        buf[bufOffset + 4] = (byte) (v0 >>> 18);
+        buf[bufOffset + 5] = (byte) (v0 >>> 10);
+        buf[bufOffset + 6] = (byte) (v0 >>> 2);
+        buf[bufOffset + 7] = (byte) ((v0 << 6) | (v1 >>> 52));
+        buf[bufOffset + 8] = (byte) (v1 >>> 44);
+        buf[bufOffset + 9] = (byte) (v1 >>> 36);
+        buf[bufOffset + 10] = (byte) (v1 >>> 28);
+        buf[bufOffset + 11] = (byte) (v1 >>> 20);
+        buf[bufOffset + 12] = (byte) (v1 >>> 12);
+        buf[bufOffset + 13] = (byte) (v1 >>> 4);
+        buf[bufOffset + 14] = (byte) ((v1 << 4) | (v2 >>> 54));
+        buf[bufOffset + 15] = (byte) (v2 >>> 46);
+        buf[bufOffset + 16] = (byte) (v2 >>> 38);
+        buf[bufOffset + 17] = (byte) (v2 >>> 30);
+        buf[bufOffset + 18] = (byte) (v2 >>> 22);
+        buf[bufOffset + 19] = (byte) (v2 >>> 14);
+        buf[bufOffset + 20] = (byte) (v2 >>> 6);
+        buf[bufOffset + 21] = (byte) ((v2 << 2) | (v3 >>> 56));
+        buf[bufOffset + 22] = (byte) (v3 >>> 48);
+        buf[bufOffset + 23] = (byte) (v3 >>> 40);
+        buf[bufOffset + 24] = (byte) (v3 >>> 32);
+        buf[bufOffset + 25] = (byte) (v3 >>> 24);
+        buf[bufOffset + 26] = (byte) (v3 >>> 16);
+        buf[bufOffset + 27] = (byte) (v3 >>> 8);
+        buf[bufOffset + 28] = (byte) (v3);
+        buf[bufOffset + 29] = (byte) (v4 >>> 50);
+        buf[bufOffset + 30] = (byte) (v4 >>> 42);
+        buf[bufOffset + 31] = (byte) (v4 >>> 34);
+        buf[bufOffset + 32] = (byte) (v4 >>> 26);
+        buf[bufOffset + 33] = (byte) (v4 >>> 18);
+        buf[bufOffset + 34] = (byte) (v4 >>> 10);
+        buf[bufOffset + 35] = (byte) (v4 >>> 2);
+        buf[bufOffset + 36] = (byte) ((v4 << 6) | (v5 >>> 52));
+        buf[bufOffset + 37] = (byte) (v5 >>> 44);
+        buf[bufOffset + 38] = (byte) (v5 >>> 36);
+        buf[bufOffset + 39] = (byte) (v5 >>> 28);
+        buf[bufOffset + 40] = (byte) (v5 >>> 20);
+        buf[bufOffset + 41] = (byte) (v5 >>> 12);
+        buf[bufOffset + 42] = (byte) (v5 >>> 4);
+        buf[bufOffset + 43] = (byte) ((v5 << 4) | (v6 >>> 54));
+        buf[bufOffset + 44] = (byte) (v6 >>> 46);
+        buf[bufOffset + 45] = (byte) (v6 >>> 38);
+        buf[bufOffset + 46] = (byte) (v6 >>> 30);
+        buf[bufOffset + 47] = (byte) (v6 >>> 22);
+        buf[bufOffset + 48] = (byte) (v6 >>> 14);
+        buf[bufOffset + 49] = (byte) (v6 >>> 6);
+        buf[bufOffset + 50] = (byte) ((v6 << 2) | (v7 >>> 56));
+        buf[bufOffset + 51] = (byte) (v7 >>> 48);
+        buf[bufOffset + 52] = (byte) (v7 >>> 40);
+        buf[bufOffset + 53] = (byte) (v7 >>> 32);
+        buf[bufOffset + 54] = (byte) (v7 >>> 24);
+        buf[bufOffset + 55] = (byte) (v7 >>> 16);
+        buf[bufOffset + 56] = (byte) (v7 >>> 8);
+        buf[bufOffset + 57] = (byte) (v7);
+    }
+
+    private static void pack8Values59(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x7FFFFFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x7FFFFFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x7FFFFFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x7FFFFFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x7FFFFFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x7FFFFFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x7FFFFFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x7FFFFFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 51);
+        buf[bufOffset + 1] = (byte) (v0 >>> 43);
+        buf[bufOffset + 2] = (byte) (v0 >>> 35);
+        buf[bufOffset + 3] = (byte) (v0 >>> 27);
+        buf[bufOffset + 4] = (byte) (v0 >>> 19);
+        buf[bufOffset + 5] = (byte) (v0 >>> 11);
+        buf[bufOffset + 6] = (byte) (v0 >>> 3);
+        buf[bufOffset + 7] = (byte) ((v0 << 5) | (v1 >>> 54));
+        buf[bufOffset + 8] = (byte) (v1 >>> 46);
+        buf[bufOffset + 9] = (byte) (v1 >>> 38);
+        buf[bufOffset + 10] = (byte) (v1 >>> 30);
+        buf[bufOffset + 11] = (byte) (v1 >>> 22);
+        buf[bufOffset + 12] = (byte) (v1 >>> 14);
+        buf[bufOffset + 13] = (byte) (v1 >>> 6);
+        buf[bufOffset + 14] = (byte) ((v1 << 2) | (v2 >>> 57));
+        buf[bufOffset + 15] = (byte) (v2 >>> 49);
+        buf[bufOffset + 16] = (byte) (v2 >>> 41);
+        buf[bufOffset + 17] = (byte) (v2 >>> 33);
+        buf[bufOffset + 18] = (byte) (v2 >>> 25);
+        buf[bufOffset + 19] = (byte) (v2 >>> 17);
+        buf[bufOffset + 20] = (byte) (v2 >>> 9);
+        buf[bufOffset + 21] = (byte) (v2 >>> 1);
+        buf[bufOffset + 22] = (byte) ((v2 << 7) | (v3 >>> 52));
+        buf[bufOffset + 23] = (byte) (v3 >>> 44);
+        buf[bufOffset + 24] = (byte) (v3 >>> 36);
+        buf[bufOffset + 25] = (byte) (v3 >>> 28);
+        buf[bufOffset + 26] = (byte) (v3 >>> 20);
+        buf[bufOffset + 27] = (byte) (v3 >>> 12);
+        buf[bufOffset + 28] = (byte) (v3 >>> 4);
+        buf[bufOffset + 29] = (byte) ((v3 << 4) | (v4 >>> 55));
+        buf[bufOffset + 30] = (byte) (v4 >>> 47);
+        buf[bufOffset + 31] = (byte) (v4 >>> 39);
+        buf[bufOffset + 32] = (byte) (v4 >>> 31);
+        buf[bufOffset + 33] = (byte) (v4 >>> 23);
+        buf[bufOffset + 34] = (byte) (v4 >>> 15);
+        buf[bufOffset + 35] = (byte) (v4 >>> 7);
+        buf[bufOffset + 36] = (byte) ((v4 << 1) | (v5 >>> 58));
+        buf[bufOffset + 37] = (byte) (v5 >>> 50);
+        buf[bufOffset + 38] = (byte) (v5 >>> 42);
+        buf[bufOffset + 39] = (byte) (v5 >>> 34);
+        buf[bufOffset + 40] = (byte) (v5 >>> 26);
+        buf[bufOffset + 41] = (byte) (v5 >>> 18);
+        buf[bufOffset + 42] = (byte) (v5 >>> 10);
+        buf[bufOffset + 43] = (byte) (v5 >>> 2);
+        buf[bufOffset + 44] = (byte) ((v5 << 6) | (v6 >>> 53));
+        buf[bufOffset + 45] = (byte) (v6 >>> 45);
+        buf[bufOffset + 46] = (byte) (v6 >>> 37);
+        buf[bufOffset + 47] = (byte) (v6 >>> 29);
+        buf[bufOffset + 48] = (byte) (v6 >>> 21);
+        buf[bufOffset + 49] = (byte) (v6 >>> 13);
+        buf[bufOffset + 50] = (byte) (v6 >>> 5);
+        buf[bufOffset + 51] = (byte) ((v6 << 3) | (v7 >>> 56));
+        buf[bufOffset + 52] = (byte) (v7 >>> 48);
+        buf[bufOffset + 53] = (byte) (v7 >>> 40);
+        buf[bufOffset + 54] = (byte) (v7 >>> 32);
+        buf[bufOffset + 55] = (byte) (v7 >>> 24);
+        buf[bufOffset + 56] = (byte) (v7 >>> 16);
+        buf[bufOffset + 57] = (byte) (v7 >>> 8);
+        buf[bufOffset + 58] = (byte) (v7);
+    }
+
+    private static void pack8Values60(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0xFFFFFFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0xFFFFFFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0xFFFFFFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0xFFFFFFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0xFFFFFFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0xFFFFFFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0xFFFFFFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0xFFFFFFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 52);
+        buf[bufOffset + 1] = (byte) (v0 >>> 44);
+        buf[bufOffset + 2] = (byte) (v0 >>> 36);
+        buf[bufOffset + 3] = (byte) (v0 >>> 28);
+        buf[bufOffset + 4] = (byte) (v0 >>> 20);
+        buf[bufOffset + 5] = (byte) (v0 >>> 12);
+        buf[bufOffset + 6] = (byte) (v0 >>> 4);
+        buf[bufOffset + 7] = (byte) ((v0 << 4) | (v1 >>> 56));
+        buf[bufOffset + 8] = (byte) (v1 >>> 48);
+        buf[bufOffset + 9] = (byte) (v1 >>> 40);
+        buf[bufOffset + 10] = (byte) (v1 >>> 32);
+        buf[bufOffset + 11] = (byte) (v1 >>> 24);
+        buf[bufOffset + 12] = (byte) (v1 >>> 16);
+        buf[bufOffset + 13] = (byte) (v1 >>> 8);
+        buf[bufOffset + 14] = (byte) (v1);
+        buf[bufOffset + 15] = (byte) (v2 >>> 52);
+        buf[bufOffset + 16] = (byte) (v2 >>> 44);
+        buf[bufOffset + 17] = (byte) (v2 >>> 36);
+        buf[bufOffset + 18] = (byte) (v2 >>> 28);
+        buf[bufOffset + 19] = (byte) (v2 >>> 20);
+        buf[bufOffset + 20] = (byte) (v2 >>> 12);
+        buf[bufOffset + 21] = (byte) (v2 >>> 4);
+        buf[bufOffset + 22] = (byte) ((v2 << 4) | (v3 >>> 56));
+        buf[bufOffset + 23] = (byte) (v3 >>> 48);
+        buf[bufOffset + 24] = (byte) (v3 >>> 40);
+        buf[bufOffset + 25] = (byte) (v3 >>> 32);
+        buf[bufOffset + 26] = (byte) (v3 >>> 24);
+        buf[bufOffset + 27] = (byte) (v3 >>> 16);
+        buf[bufOffset + 28] = (byte) (v3 >>> 8);
+        buf[bufOffset + 29] = (byte) (v3);
+        buf[bufOffset + 30] = (byte) (v4 >>> 52);
+        buf[bufOffset + 31] = (byte) (v4 >>> 44);
+        buf[bufOffset + 32] = (byte) (v4 >>> 36);
+        buf[bufOffset + 33] = (byte) (v4 >>> 28);
+        buf[bufOffset + 34] = (byte) (v4 >>> 20);
+        buf[bufOffset + 35] = (byte) (v4 >>> 12);
+        buf[bufOffset + 36] = (byte) (v4 >>> 4);
+        buf[bufOffset + 37] = (byte) ((v4 << 4) | (v5 >>> 56));
+        buf[bufOffset + 38] = (byte) (v5 >>> 48);
+        buf[bufOffset + 39] = (byte) (v5 >>> 40);
+        buf[bufOffset + 40] = (byte) (v5 >>> 32);
+        buf[bufOffset + 41] = (byte) (v5 >>> 24);
+        buf[bufOffset + 42] = (byte) (v5 >>> 16);
+        buf[bufOffset + 43] = (byte) (v5 >>> 8);
+        buf[bufOffset + 44] = (byte) (v5);
+        buf[bufOffset + 45] = (byte) (v6 >>> 52);
+        buf[bufOffset + 46] = (byte) (v6 >>> 44);
+        buf[bufOffset + 47] = (byte) (v6 >>> 36);
+        buf[bufOffset + 48] = (byte) (v6 >>> 28);
+        buf[bufOffset + 49] = (byte) (v6 >>> 20);
+        buf[bufOffset + 50] = (byte) (v6 >>> 12);
+        buf[bufOffset + 51] = (byte) (v6 >>> 4);
+        buf[bufOffset + 52] = (byte) ((v6 << 4) | (v7 >>> 56));
+        buf[bufOffset + 53] = (byte) (v7 >>> 48);
+        buf[bufOffset + 54] = (byte) (v7 >>> 40);
+        buf[bufOffset + 55] = (byte) (v7 >>> 32);
+        buf[bufOffset + 56] = (byte) (v7 >>> 24);
+        buf[bufOffset + 57] = (byte) (v7 >>> 16);
+        buf[bufOffset + 58] = (byte) (v7 >>> 8);
+        buf[bufOffset + 59] = (byte) (v7);
+    }
+
+    private static void pack8Values61(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x1FFFFFFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x1FFFFFFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x1FFFFFFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x1FFFFFFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x1FFFFFFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x1FFFFFFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x1FFFFFFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x1FFFFFFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 53);
+        buf[bufOffset + 1] = (byte) (v0 >>> 45);
+        buf[bufOffset + 2] = (byte) (v0 >>> 37);
+        buf[bufOffset + 3] = (byte) (v0 >>> 29);
+        buf[bufOffset + 4] = (byte) (v0 >>> 21);
+        buf[bufOffset + 5] = (byte) (v0 >>> 13);
+        buf[bufOffset + 6] = (byte) (v0 >>> 5);
+        buf[bufOffset + 7] = (byte) ((v0 << 3) | (v1 >>> 58));
+        buf[bufOffset + 8] = (byte) (v1 >>> 50);
+        buf[bufOffset + 9] = (byte) (v1 >>> 42);
+        buf[bufOffset + 10] = (byte) (v1 >>> 34);
+        buf[bufOffset + 11] = (byte) (v1 >>> 26);
+        buf[bufOffset + 12] = (byte) (v1 >>> 18);
+        buf[bufOffset + 13] = (byte) (v1 >>> 10);
+        buf[bufOffset + 14] = (byte) (v1 >>> 2);
+        buf[bufOffset + 15] = (byte) ((v1 << 6) | (v2 >>> 55));
+        buf[bufOffset + 16] = (byte) (v2 >>> 47);
+        buf[bufOffset + 17] = (byte) (v2 >>> 39);
+        buf[bufOffset + 18] = (byte) (v2 >>> 31);
+        buf[bufOffset + 19] = (byte) (v2 >>> 23);
+        buf[bufOffset + 20] = (byte) (v2 >>> 15);
+        buf[bufOffset + 21] = (byte) (v2 >>> 7);
+        buf[bufOffset + 22] = (byte) ((v2 << 1) | (v3 >>> 60));
+        buf[bufOffset + 23] = (byte) (v3 >>> 52);
+        buf[bufOffset + 24] = (byte) (v3 >>> 44);
+        buf[bufOffset + 25] = (byte) (v3 >>> 36);
+        buf[bufOffset + 26] = (byte) (v3 >>> 28);
+        buf[bufOffset + 27] = (byte) (v3 >>> 20);
+        buf[bufOffset + 28] = (byte) (v3 >>> 12);
+        buf[bufOffset + 29] = (byte) (v3 >>> 4);
+        buf[bufOffset + 30] = (byte) ((v3 << 4) | (v4 >>> 57));
+        buf[bufOffset + 31] = (byte) (v4 >>> 49);
+        buf[bufOffset + 32] = (byte) (v4 >>> 41);
+        buf[bufOffset + 33] = (byte) (v4 >>> 33);
+        buf[bufOffset + 34] = (byte) (v4 >>> 25);
+        buf[bufOffset + 35] = (byte) (v4 >>> 17);
+        buf[bufOffset + 36] = (byte) (v4 >>> 9);
+        buf[bufOffset + 37] = (byte) (v4 >>> 1);
+        buf[bufOffset + 38] = (byte) ((v4 << 7) | (v5 >>> 54));
+        buf[bufOffset + 39] = (byte) (v5 >>> 46);
+        buf[bufOffset + 40] = (byte) (v5 >>> 38);
+        buf[bufOffset + 41] = (byte) (v5 >>> 30);
+        buf[bufOffset + 42] = (byte) (v5 >>> 22);
+        buf[bufOffset + 43] = (byte) (v5 >>> 14);
+        buf[bufOffset + 44] = (byte) (v5 >>> 6);
+        buf[bufOffset + 45] = (byte) ((v5 << 2) | (v6 >>> 59));
+        buf[bufOffset + 46] = (byte) (v6 >>> 51);
+        buf[bufOffset + 47] = (byte) (v6 >>> 43);
+        buf[bufOffset + 48] = (byte) (v6 >>> 35);
+        buf[bufOffset + 49] = (byte) (v6 >>> 27);
+        buf[bufOffset + 50] = (byte) (v6 >>> 19);
+        buf[bufOffset + 51] = (byte) (v6 >>> 11);
+        buf[bufOffset + 52] = (byte) (v6 >>> 3);
+        buf[bufOffset + 53] = (byte) ((v6 << 5) | (v7 >>> 56));
+        buf[bufOffset + 54] = (byte) (v7 >>> 48);
+        buf[bufOffset + 55] = (byte) (v7 >>> 40);
+        buf[bufOffset + 56] = (byte) (v7 >>> 32);
+        buf[bufOffset + 57] = (byte) (v7 >>> 24);
+        buf[bufOffset + 58] = (byte) (v7 >>> 16);
+        buf[bufOffset + 59] = (byte) (v7 >>> 8);
+        buf[bufOffset + 60] = (byte) (v7);
+    }
+
+    private static void pack8Values62(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x3FFFFFFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x3FFFFFFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x3FFFFFFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x3FFFFFFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x3FFFFFFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x3FFFFFFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x3FFFFFFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x3FFFFFFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 54);
+        buf[bufOffset + 1] = (byte) (v0 >>> 46);
+        buf[bufOffset + 2] = (byte) (v0 >>> 38);
+        buf[bufOffset + 3] = (byte) (v0 >>> 30);
+        buf[bufOffset + 4] = (byte) (v0 >>> 22);
+        buf[bufOffset + 5] = (byte) (v0 >>> 14);
+        buf[bufOffset + 6] = (byte) (v0 >>> 6);
+        buf[bufOffset + 7] = (byte) ((v0 << 2) | (v1 >>> 60));
+        buf[bufOffset + 8] = (byte) (v1 >>> 52);
+        buf[bufOffset + 9] = (byte) (v1 >>> 44);
+        buf[bufOffset + 10] = (byte) (v1 >>> 36);
+        buf[bufOffset + 11] = (byte) (v1 >>> 28);
+        buf[bufOffset + 12] = (byte) (v1 >>> 20);
+        buf[bufOffset + 13] = (byte) (v1 >>> 12);
+        buf[bufOffset + 14] = (byte) (v1 >>> 4);
+        buf[bufOffset + 15] = (byte) ((v1 << 4) | (v2 >>> 58));
+        buf[bufOffset + 16] = (byte) (v2 >>> 50);
+        buf[bufOffset + 17] = (byte) (v2 >>> 42);
+        buf[bufOffset + 18] = (byte) (v2 >>> 34);
+        buf[bufOffset + 19] = (byte) (v2 >>> 26);
+        buf[bufOffset + 20] = (byte) (v2 >>> 18);
+        buf[bufOffset + 21] = (byte) (v2 >>> 10);
+        buf[bufOffset + 22] = (byte) (v2 >>> 2);
+        buf[bufOffset + 23] = (byte) ((v2 << 6) | (v3 >>> 56));
+        buf[bufOffset + 24] = (byte) (v3 >>> 48);
+        buf[bufOffset + 25] = (byte) (v3 >>> 40);
+        buf[bufOffset + 26] = (byte) (v3 >>> 32);
+        buf[bufOffset + 27] = (byte) (v3 >>> 24);
+        buf[bufOffset + 28] = (byte) (v3 >>> 16);
+        buf[bufOffset + 29] = (byte) (v3 >>> 8);
+        buf[bufOffset + 30] = (byte) (v3);
+        buf[bufOffset + 31] = (byte) (v4 >>> 54);
+        buf[bufOffset + 32] = (byte) (v4 >>> 46);
+        buf[bufOffset + 33] = (byte) (v4 >>> 38);
+        buf[bufOffset + 34] = (byte) (v4 >>> 30);
+        buf[bufOffset + 35] = (byte) (v4 >>> 22);
+        buf[bufOffset + 36] = (byte) (v4 >>> 14);
+        buf[bufOffset + 37] = (byte) (v4 >>> 6);
+        buf[bufOffset + 38] = (byte) ((v4 << 2) | (v5 >>> 60));
+        buf[bufOffset + 39] = (byte) (v5 >>> 52);
+        buf[bufOffset + 40] = (byte) (v5 >>> 44);
+        buf[bufOffset + 41] = (byte) (v5 >>> 36);
+        buf[bufOffset + 42] = (byte) (v5 >>> 28);
+        buf[bufOffset + 43] = (byte) (v5 >>> 20);
+        buf[bufOffset + 44] = (byte) (v5 >>> 12);
+        buf[bufOffset + 45] = (byte) (v5 >>> 4);
+        buf[bufOffset + 46] = (byte) ((v5 << 4) | (v6 >>> 58));
+        buf[bufOffset + 47] = (byte) (v6 >>> 50);
+        buf[bufOffset + 48] = (byte) (v6 >>> 42);
+        buf[bufOffset + 49] = (byte) (v6 >>> 34);
+        buf[bufOffset + 50] = (byte) (v6 >>> 26);
+        buf[bufOffset + 51] = (byte) (v6 >>> 18);
+        buf[bufOffset + 52] = (byte) (v6 >>> 10);
+        buf[bufOffset + 53] = (byte) (v6 >>> 2);
+        buf[bufOffset + 54] = (byte) ((v6 << 6) | (v7 >>> 56));
+        buf[bufOffset + 55] = (byte) (v7 >>> 48);
+        buf[bufOffset + 56] = (byte) (v7 >>> 40);
+        buf[bufOffset + 57] = (byte) (v7 >>> 32);
+        buf[bufOffset + 58] = (byte) (v7 >>> 24);
+        buf[bufOffset + 59] = (byte) (v7 >>> 16);
+        buf[bufOffset + 60] = (byte) (v7 >>> 8);
+        buf[bufOffset + 61] = (byte) (v7);
+    }
+
+    private static void pack8Values63(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset] & 0x7FFFFFFFFFFFFFFFL;
+        long v1 = values[offset + 1] & 0x7FFFFFFFFFFFFFFFL;
+        long v2 = values[offset + 2] & 0x7FFFFFFFFFFFFFFFL;
+        long v3 = values[offset + 3] & 0x7FFFFFFFFFFFFFFFL;
+        long v4 = values[offset + 4] & 0x7FFFFFFFFFFFFFFFL;
+        long v5 = values[offset + 5] & 0x7FFFFFFFFFFFFFFFL;
+        long v6 = values[offset + 6] & 0x7FFFFFFFFFFFFFFFL;
+        long v7 = values[offset + 7] & 0x7FFFFFFFFFFFFFFFL;
+        buf[bufOffset] = (byte) (v0 >>> 55);
+        buf[bufOffset + 1] = (byte) (v0 >>> 47);
+        buf[bufOffset + 2] = (byte) (v0 >>> 39);
+        buf[bufOffset + 3] = (byte) (v0 >>> 31);
+        buf[bufOffset + 4] = (byte) (v0 >>> 23);
+        buf[bufOffset + 5] = (byte) (v0 >>> 15);
+        buf[bufOffset + 6] = (byte) (v0 >>> 7);
+        buf[bufOffset + 7] = (byte) ((v0 << 1) | (v1 >>> 62));
+        buf[bufOffset + 8] = (byte) (v1 >>> 54);
+        buf[bufOffset + 9] = (byte) (v1 >>> 46);
+        buf[bufOffset + 10] = (byte) (v1 >>> 38);
+        buf[bufOffset + 11] = (byte) (v1 >>> 30);
+        buf[bufOffset + 12] = (byte) (v1 >>> 22);
+        buf[bufOffset + 13] = (byte) (v1 >>> 14);
+        buf[bufOffset + 14] = (byte) (v1 >>> 6);
+        buf[bufOffset + 15] = (byte) ((v1 << 2) | (v2 >>> 61));
+        buf[bufOffset + 16] = (byte) (v2 >>> 53);
+        buf[bufOffset + 17] = (byte) (v2 >>> 45);
+        buf[bufOffset + 18] = (byte) (v2 >>> 37);
+        buf[bufOffset + 19] = (byte) (v2 >>> 29);
+        buf[bufOffset + 20] = (byte) (v2 >>> 21);
+        buf[bufOffset + 21] = (byte) (v2 >>> 13);
+        buf[bufOffset + 22] = (byte) (v2 >>> 5);
+        buf[bufOffset + 23] = (byte) ((v2 << 3) | (v3 >>> 60));
+        buf[bufOffset + 24] = (byte) (v3 >>> 52);
+        buf[bufOffset + 25] = (byte) (v3 >>> 44);
+        buf[bufOffset + 26] = (byte) (v3 >>> 36);
+        buf[bufOffset + 27] = (byte) (v3 >>> 28);
+        buf[bufOffset + 28] = (byte) (v3 >>> 20);
+        buf[bufOffset + 29] = (byte) (v3 >>> 12);
+        buf[bufOffset + 30] = (byte) (v3 >>> 4);
+        buf[bufOffset + 31] = (byte) ((v3 << 4) | (v4 >>> 59));
+        buf[bufOffset + 32] = (byte) (v4 >>> 51);
+        buf[bufOffset + 33] = (byte) (v4 >>> 43);
+        buf[bufOffset + 34] = (byte) (v4 >>> 35);
+        buf[bufOffset + 35] = (byte) (v4 >>> 27);
+        buf[bufOffset + 36] = (byte) (v4 >>> 19);
+        buf[bufOffset + 37] = (byte) (v4 >>> 11);
+        buf[bufOffset + 38] = (byte) (v4 >>> 3);
+        buf[bufOffset + 39] = (byte) ((v4 << 5) | (v5 >>> 58));
+        buf[bufOffset + 40] = (byte) (v5 >>> 50);
+        buf[bufOffset + 41] = (byte) (v5 >>> 42);
+        buf[bufOffset + 42] = (byte) (v5 >>> 34);
+        buf[bufOffset + 43] = (byte) (v5 >>> 26);
+        buf[bufOffset + 44] = (byte) (v5 >>> 18);
+        buf[bufOffset + 45] = (byte) (v5 >>> 10);
+        buf[bufOffset + 46] = (byte) (v5 >>> 2);
+        buf[bufOffset + 47] = (byte) ((v5 << 6) | (v6 >>> 57));
+        buf[bufOffset + 48] = (byte) (v6 >>> 49);
+        buf[bufOffset + 49] = (byte) (v6 >>> 41);
+        buf[bufOffset + 50] = (byte) (v6 >>> 33);
+        buf[bufOffset + 51] = (byte) (v6 >>> 25);
+        buf[bufOffset + 52] = (byte) (v6 >>> 17);
+        buf[bufOffset + 53] = (byte) (v6 >>> 9);
+        buf[bufOffset + 54] = (byte) (v6 >>> 1);
+        buf[bufOffset + 55] = (byte) ((v6 << 7) | (v7 >>> 56));
+        buf[bufOffset + 56] = (byte) (v7 >>> 48);
+        buf[bufOffset + 57] = (byte) (v7 >>> 40);
+        buf[bufOffset + 58] = (byte) (v7 >>> 32);
+        buf[bufOffset + 59] = (byte) (v7 >>> 24);
+        buf[bufOffset + 60] = (byte) (v7 >>> 16);
+        buf[bufOffset + 61] = (byte) (v7 >>> 8);
+        buf[bufOffset + 62] = (byte) (v7);
+    }
+
+    private static void pack8Values64(long[] values, int offset, byte[] buf, int bufOffset) {
+        long v0 = values[offset];
+        long v1 = values[offset + 1];
+        long v2 = values[offset + 2];
+        long v3 = values[offset + 3];
+        long v4 = values[offset + 4];
+        long v5 = values[offset + 5];
+        long v6 = values[offset + 6];
+        long v7 = values[offset + 7];
+        buf[bufOffset] = (byte) (v0 >>> 56);
+        buf[bufOffset + 1] = (byte) (v0 >>> 48);
+        buf[bufOffset + 2] = (byte) (v0 >>> 40);
+        buf[bufOffset + 3] = (byte) (v0 >>> 32);
+        buf[bufOffset + 4] = (byte) (v0 >>> 24);
+        buf[bufOffset + 5] = (byte) (v0 >>> 16);
+        buf[bufOffset + 6] = (byte) (v0 >>> 8);
+        buf[bufOffset + 7] = (byte) (v0);
+        buf[bufOffset + 8] = (byte) (v1 >>> 56);
+        buf[bufOffset + 9] = (byte) (v1 >>> 48);
+        buf[bufOffset + 10] = (byte) (v1 >>> 40);
+        buf[bufOffset + 11] = (byte) (v1 >>> 32);
+        buf[bufOffset + 12] = (byte) (v1 >>> 24);
+        buf[bufOffset + 13] = (byte) (v1 >>> 16);
+        buf[bufOffset + 14] = (byte) (v1 >>> 8);
+        buf[bufOffset + 15] = (byte) (v1);
+        buf[bufOffset + 16] = (byte) (v2 >>> 56);
+        buf[bufOffset + 17] = (byte) (v2 >>> 48);
+        buf[bufOffset + 18] = (byte) (v2 >>> 40);
+        buf[bufOffset + 19] = (byte) (v2 >>> 32);
+        buf[bufOffset + 20] = (byte) (v2 >>> 24);
+        buf[bufOffset + 21] = (byte) (v2 >>> 16);
+        buf[bufOffset + 22] = (byte) (v2 >>> 8);
+        buf[bufOffset + 23] = (byte) (v2);
+        buf[bufOffset + 24] = (byte) (v3 >>> 56);
+        buf[bufOffset + 25] = (byte) (v3 >>> 48);
+        buf[bufOffset + 26] = (byte) (v3 >>> 40);
+        buf[bufOffset + 27] = (byte) (v3 >>> 32);
+        buf[bufOffset + 28] = (byte) (v3 >>> 24);
+        buf[bufOffset + 29] = (byte) (v3 >>> 16);
+        buf[bufOffset + 30] = (byte) (v3 >>> 8);
+        buf[bufOffset + 31] = (byte) (v3);
+        buf[bufOffset + 32] = (byte) (v4 >>> 56);
+        buf[bufOffset + 33] = (byte) (v4 >>> 48);
+        buf[bufOffset + 34] = (byte) (v4 >>> 40);
+        buf[bufOffset + 35] = (byte) (v4 >>> 32);
+        buf[bufOffset + 36] = (byte) (v4 >>> 24);
+        buf[bufOffset + 37] = (byte) (v4 >>> 16);
+        buf[bufOffset + 38] = (byte) (v4 >>> 8);
+        buf[bufOffset + 39] = (byte) (v4);
+        buf[bufOffset + 40] = (byte) (v5 >>> 56);
+        buf[bufOffset + 41] = (byte) (v5 >>> 48);
+        buf[bufOffset + 42] = (byte) (v5 >>> 40);
+        buf[bufOffset + 43] = (byte) (v5 >>> 32);
+        buf[bufOffset + 44] = (byte) (v5 >>> 24);
+        buf[bufOffset + 45] = (byte) (v5 >>> 16);
+        buf[bufOffset + 46] = (byte) (v5 >>> 8);
+        buf[bufOffset + 47] = (byte) (v5);
+        buf[bufOffset + 48] = (byte) (v6 >>> 56);
+        buf[bufOffset + 49] = (byte) (v6 >>> 48);
+        buf[bufOffset + 50] = (byte) (v6 >>> 40);
+        buf[bufOffset + 51] = (byte) (v6 >>> 32);
+        buf[bufOffset + 52] = (byte) (v6 >>> 24);
+        buf[bufOffset + 53] = (byte) (v6 >>> 16);
+        buf[bufOffset + 54] = (byte) (v6 >>> 8);
+        buf[bufOffset + 55] = (byte) (v6);
+        buf[bufOffset + 56] = (byte) (v7 >>> 56);
+        buf[bufOffset + 57] = (byte) (v7 >>> 48);
+        buf[bufOffset + 58] = (byte) (v7 >>> 40);
+        buf[bufOffset + 59] = (byte) (v7 >>> 32);
+        buf[bufOffset + 60] = (byte) (v7 >>> 24);
+        buf[bufOffset + 61] = (byte) (v7 >>> 16);
+        buf[bufOffset + 62] = (byte) (v7 >>> 8);
+        buf[bufOffset + 63] = (byte) (v7);
+    }
+
+    private static void unpack32Values1(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        values[valuesOffset] = w0 >>> 31;
+        values[valuesOffset + 1] = (w0 >>> 30) & 0x1L;
+        values[valuesOffset + 2] = (w0 >>> 29) & 0x1L;
+        values[valuesOffset + 3] = (w0 >>> 28) & 0x1L;
+        values[valuesOffset + 4] = (w0 >>> 27) & 0x1L;
+        values[valuesOffset + 5] = (w0 >>> 26) & 0x1L;
+        values[valuesOffset + 6] = (w0 >>> 25) & 0x1L;
+        values[valuesOffset + 7] = (w0 >>> 24) & 0x1L;
+        values[valuesOffset + 8] = (w0 >>> 23) & 0x1L;
+        values[valuesOffset + 9] = (w0 >>> 22) & 0x1L;
+        values[valuesOffset + 10] = (w0 >>> 21) & 0x1L;
+        values[valuesOffset + 11] = (w0 >>> 20) & 0x1L;
+        values[valuesOffset + 12] = (w0 >>> 19) & 0x1L;
+        values[valuesOffset + 13] = (w0 >>> 18) & 0x1L;
+        values[valuesOffset + 14] = (w0 >>> 17) & 0x1L;
+        values[valuesOffset + 15] = (w0 >>> 16) & 0x1L;
+        values[valuesOffset + 16] = (w0 >>> 15) & 0x1L;
+        values[valuesOffset + 17] = (w0 >>> 14) & 0x1L;
+        values[valuesOffset + 18] = (w0 >>> 13) & 0x1L;
+        values[valuesOffset + 19] = (w0 >>> 12) & 0x1L;
+        values[valuesOffset + 20] = (w0 >>> 11) & 0x1L;
+        values[valuesOffset + 21] = (w0 >>> 10) & 0x1L;
+        values[valuesOffset + 22] = (w0 >>> 9) & 0x1L;
+        values[valuesOffset + 23] = (w0 >>> 8) & 0x1L;
+        values[valuesOffset + 24] = (w0 >>> 7) & 0x1L;
+        values[valuesOffset + 25] = (w0 >>> 6) & 0x1L;
+        values[valuesOffset + 26] = (w0 >>> 5) & 0x1L;
+        values[valuesOffset + 27] = (w0 >>> 4) & 0x1L;
+        values[valuesOffset + 28] = (w0 >>> 3) & 0x1L;
+        values[valuesOffset + 29] = (w0 >>> 2) & 0x1L;
+        values[valuesOffset + 30] = (w0 >>> 1) & 0x1L;
+        values[valuesOffset + 31] = (w0) & 0x1L;
+    }
+
+    private static void unpack32Values2(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        values[valuesOffset] = w0 >>> 30;
+        values[valuesOffset + 1] = (w0 >>> 28) & 0x3L;
+        values[valuesOffset + 2] = (w0 >>> 26) & 0x3L;
+        values[valuesOffset + 3] = (w0 >>> 24) & 0x3L;
+        values[valuesOffset + 4] = (w0 >>> 22) & 0x3L;
+        values[valuesOffset + 5] = (w0 >>> 20) & 0x3L;
+        values[valuesOffset + 6] = (w0 >>> 18) & 0x3L;
+        values[valuesOffset + 7] = (w0 >>> 16) & 0x3L;
+        values[valuesOffset + 8] = (w0 >>> 14) & 0x3L;
+        values[valuesOffset + 9] = (w0 >>> 12) & 0x3L;
+        values[valuesOffset + 10] = (w0 >>> 10) & 0x3L;
+        values[valuesOffset + 11] = (w0 >>> 8) & 0x3L;
+        values[valuesOffset + 12] = (w0 >>> 6) & 0x3L;
+        values[valuesOffset + 13] = (w0 >>> 4) & 0x3L;
+        values[valuesOffset + 14] = (w0 >>> 2) & 0x3L;
+        values[valuesOffset + 15] = (w0) & 0x3L;
+        values[valuesOffset + 16] = w1 >>> 30;
+        values[valuesOffset + 17] = (w1 >>> 28) & 0x3L;
+        values[valuesOffset + 18] = (w1 >>> 26) & 0x3L;
+        values[valuesOffset + 19] = (w1 >>> 24) & 0x3L;
+        values[valuesOffset + 20] = (w1 >>> 22) & 0x3L;
+        values[valuesOffset + 21] = (w1 >>> 20) & 0x3L;
+        values[valuesOffset + 22] = (w1 >>> 18) & 0x3L;
+        values[valuesOffset + 23] = (w1 >>> 16) & 0x3L;
+        values[valuesOffset + 24] = (w1 >>> 14) & 0x3L;
+        values[valuesOffset + 25] = (w1 >>> 12) & 0x3L;
+        values[valuesOffset + 26] = (w1 >>> 10) & 0x3L;
+        values[valuesOffset + 27] = (w1 >>> 8) & 0x3L;
+        values[valuesOffset + 28] = (w1 >>> 6) & 0x3L;
+        values[valuesOffset + 29] = (w1 >>> 4) & 0x3L;
+        values[valuesOffset + 30] = (w1 >>> 2) & 0x3L;
+        values[valuesOffset + 31] = (w1) & 0x3L;
+    }
+
+    private static void unpack32Values3(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        values[valuesOffset] = w0 >>> 29;
+        values[valuesOffset + 1] = (w0 >>> 26) & 0x7L;
+        values[valuesOffset + 2] = (w0 >>> 23) & 0x7L;
+        values[valuesOffset + 3] = (w0 >>> 20) & 0x7L;
+        values[valuesOffset + 4] = (w0 >>> 17) & 0x7L;
+        values[valuesOffset + 5] = (w0 >>> 14) & 0x7L;
+        values[valuesOffset + 6] = (w0 >>> 11) & 0x7L;
+        values[valuesOffset + 7] = (w0 >>> 8) & 0x7L;
+        values[valuesOffset + 8] = (w0 >>> 5) & 0x7L;
+        values[valuesOffset + 9] = (w0 >>> 2) & 0x7L;
+        values[valuesOffset + 10] = ((w0 << 1) | (w1 >>> 31)) & 0x7L;
+        values[valuesOffset + 11] = (w1 >>> 28) & 0x7L;
+        values[valuesOffset + 12] = (w1 >>> 25) & 0x7L;
+        values[valuesOffset + 13] = (w1 >>> 22) & 0x7L;
+        values[valuesOffset + 14] = (w1 >>> 19) & 0x7L;
+        values[valuesOffset + 15] = (w1 >>> 16) & 0x7L;
+        values[valuesOffset + 16] = (w1 >>> 13) & 0x7L;
+        values[valuesOffset + 17] = (w1 >>> 10) & 0x7L;
+        values[valuesOffset + 18] = (w1 >>> 7) & 0x7L;
+        values[valuesOffset + 19] = (w1 >>> 4) & 0x7L;
+        values[valuesOffset + 20] = (w1 >>> 1) & 0x7L;
+        values[valuesOffset + 21] = ((w1 << 2) | (w2 >>> 30)) & 0x7L;
+        values[valuesOffset + 22] = (w2 >>> 27) & 0x7L;
+        values[valuesOffset + 23] = (w2 >>> 24) & 0x7L;
+        values[valuesOffset + 24] = (w2 >>> 21) & 0x7L;
+        values[valuesOffset + 25] = (w2 >>> 18) & 0x7L;
+        values[valuesOffset + 26] = (w2 >>> 15) & 0x7L;
+        values[valuesOffset + 27] = (w2 >>> 12) & 0x7L;
+        values[valuesOffset + 28] = (w2 >>> 9) & 0x7L;
+        values[valuesOffset + 29] = (w2 >>> 6) & 0x7L;
+        values[valuesOffset + 30] = (w2 >>> 3) & 0x7L;
+        values[valuesOffset + 31] = (w2) & 0x7L;
+    }
+
+    private static void unpack32Values4(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        values[valuesOffset] = w0 >>> 28;
+        values[valuesOffset + 1] = (w0 >>> 24) & 0xFL;
+        values[valuesOffset + 2] = (w0 >>> 20) & 0xFL;
+        values[valuesOffset + 3] = (w0 >>> 16) & 0xFL;
+        values[valuesOffset + 4] = (w0 >>> 12) & 0xFL;
+        values[valuesOffset + 5] = (w0 >>> 8) & 0xFL;
+        values[valuesOffset + 6] = (w0 >>> 4) & 0xFL;
+        values[valuesOffset + 7] = (w0) & 0xFL;
+        values[valuesOffset + 8] = w1 >>> 28;
+        values[valuesOffset + 9] = (w1 >>> 24) & 0xFL;
+        values[valuesOffset + 10] = (w1 >>> 20) & 0xFL;
+        values[valuesOffset + 11] = (w1 >>> 16) & 0xFL;
+        values[valuesOffset + 12] = (w1 >>> 12) & 0xFL;
+        values[valuesOffset + 13] = (w1 >>> 8) & 0xFL;
+        values[valuesOffset + 14] = (w1 >>> 4) & 0xFL;
+        values[valuesOffset + 15] = (w1) & 0xFL;
+        values[valuesOffset + 16] = w2 >>> 28;
+        values[valuesOffset + 17] = (w2 >>> 24) & 0xFL;
+        values[valuesOffset + 18] = (w2 >>> 20) & 0xFL;
+        values[valuesOffset + 19] = (w2 >>> 16) & 0xFL;
+        values[valuesOffset + 20] = (w2 >>> 12) & 0xFL;
+        values[valuesOffset + 21] = (w2 >>> 8) & 0xFL;
+        values[valuesOffset + 22] = (w2 >>> 4) & 0xFL;
+        values[valuesOffset + 23] = (w2) & 0xFL;
+        values[valuesOffset + 24] = w3 >>> 28;
+        values[valuesOffset + 25] = (w3 >>> 24) & 0xFL;
+        values[valuesOffset + 26] = (w3 >>> 20) & 0xFL;
+        values[valuesOffset + 27] = (w3 >>> 16) & 0xFL;
+        values[valuesOffset + 28] = (w3 >>> 12) & 0xFL;
+        values[valuesOffset + 29] = (w3 >>> 8) & 0xFL;
+        values[valuesOffset + 30] = (w3 >>> 4) & 0xFL;
+        values[valuesOffset + 31] = (w3) & 0xFL;
+    }
+
+    private static void unpack32Values5(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        values[valuesOffset] = w0 >>> 27;
+        values[valuesOffset + 1] = (w0 >>> 22) & 0x1FL;
+        values[valuesOffset + 2] = (w0 >>> 17) & 0x1FL;
+        values[valuesOffset + 3] = (w0 >>> 12) & 0x1FL;
+        values[valuesOffset + 4] = (w0 >>> 7) & 0x1FL;
+        values[valuesOffset + 5] = (w0 >>> 2) & 0x1FL;
+        values[valuesOffset + 6] = ((w0 << 3) | (w1 >>> 29)) & 0x1FL;
+        values[valuesOffset + 7] = (w1 >>> 24) & 0x1FL;
+        values[valuesOffset + 8] = (w1 >>> 19) & 0x1FL;
+        values[valuesOffset + 9] = (w1 >>> 14) & 0x1FL;
+        values[valuesOffset + 10] = (w1 >>> 9) & 0x1FL;
+        values[valuesOffset + 11] = (w1 >>> 4) & 0x1FL;
+        values[valuesOffset + 12] = ((w1 << 1) | (w2 >>> 31)) & 0x1FL;
+        values[valuesOffset + 13] = (w2 >>> 26) & 0x1FL;
+        values[valuesOffset + 14] = (w2 >>> 21) & 0x1FL;
+        values[valuesOffset + 15] = (w2 >>> 16) & 0x1FL;
+        values[valuesOffset + 16] = (w2 >>> 11) & 0x1FL;
+        values[valuesOffset + 17] = (w2 >>> 6) & 0x1FL;
+        values[valuesOffset + 18] = (w2 >>> 1) & 0x1FL;
+        values[valuesOffset + 19] = ((w2 << 4) | (w3 >>> 28)) & 0x1FL;
+        values[valuesOffset + 20] = (w3 >>> 23) & 0x1FL;
+        values[valuesOffset + 21] = (w3 >>> 18) & 0x1FL;
+        values[valuesOffset + 22] = (w3 >>> 13) & 0x1FL;
+        values[valuesOffset + 23] = (w3 >>> 8) & 0x1FL;
+        values[valuesOffset + 24] = (w3 >>> 3) & 0x1FL;
+        values[valuesOffset + 25] = ((w3 << 2) | (w4 >>> 30)) & 0x1FL;
+        values[valuesOffset + 26] = (w4 >>> 25) & 0x1FL;
+        values[valuesOffset + 27] = (w4 >>> 20) & 0x1FL;
+        values[valuesOffset + 28] = (w4 >>> 15) & 0x1FL;
+        values[valuesOffset + 29] = (w4 >>> 10) & 0x1FL;
+        values[valuesOffset + 30] = (w4 >>> 5) & 0x1FL;
+        values[valuesOffset + 31] = (w4) & 0x1FL;
+    }
+
+    private static void unpack32Values6(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        values[valuesOffset] = w0 >>> 26;
+        values[valuesOffset + 1] = (w0 >>> 20) & 0x3FL;
+        values[valuesOffset + 2] = (w0 >>> 14) & 0x3FL;
+        values[valuesOffset + 3] = (w0 >>> 8) & 0x3FL;
+        values[valuesOffset + 4] = (w0 >>> 2) & 0x3FL;
+        values[valuesOffset + 5] = ((w0 << 4) | (w1 >>> 28)) & 0x3FL;
+        values[valuesOffset + 6] = (w1 >>> 22) & 0x3FL;
+        values[valuesOffset + 7] = (w1 >>> 16) & 0x3FL;
+        values[valuesOffset + 8] = (w1 >>> 10) & 0x3FL;
+        values[valuesOffset + 9] = (w1 >>> 4) & 0x3FL;
+        values[valuesOffset + 10] = ((w1 << 2) | (w2 >>> 30)) & 0x3FL;
+        values[valuesOffset + 11] = (w2 >>> 24) & 0x3FL;
+        values[valuesOffset + 12] = (w2 >>> 18) & 0x3FL;
+        values[valuesOffset + 13] = (w2 >>> 12) & 0x3FL;
+        values[valuesOffset + 14] = (w2 >>> 6) & 0x3FL;
+        values[valuesOffset + 15] = (w2) & 0x3FL;
+        values[valuesOffset + 16] = w3 >>> 26;
+        values[valuesOffset + 17] = (w3 >>> 20) & 0x3FL;
+        values[valuesOffset + 18] = (w3 >>> 14) & 0x3FL;
+        values[valuesOffset + 19] = (w3 >>> 8) & 0x3FL;
+        values[valuesOffset + 20] = (w3 >>> 2) & 0x3FL;
+        values[valuesOffset + 21] = ((w3 << 4) | (w4 >>> 28)) & 0x3FL;
+        values[valuesOffset + 22] = (w4 >>> 22) & 0x3FL;
+        values[valuesOffset + 23] = (w4 >>> 16) & 0x3FL;
+        values[valuesOffset + 24] = (w4 >>> 10) & 0x3FL;
+        values[valuesOffset + 25] = (w4 >>> 4) & 0x3FL;
+        values[valuesOffset + 26] = ((w4 << 2) | (w5 >>> 30)) & 0x3FL;
+        values[valuesOffset + 27] = (w5 >>> 24) & 0x3FL;
+        values[valuesOffset + 28] = (w5 >>> 18) & 0x3FL;
+        values[valuesOffset + 29] = (w5 >>> 12) & 0x3FL;
+        values[valuesOffset + 30] = (w5 >>> 6) & 0x3FL;
+        values[valuesOffset + 31] = (w5) & 0x3FL;
+    }
+
+    private static void unpack32Values7(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        values[valuesOffset] = w0 >>> 25;
+        values[valuesOffset + 1] = (w0 >>> 18) & 0x7FL;
+        values[valuesOffset + 2] = (w0 >>> 11) & 0x7FL;
+        values[valuesOffset + 3] = (w0 >>> 4) & 0x7FL;
+        values[valuesOffset + 4] = ((w0 << 3) | (w1 >>> 29)) & 0x7FL;
+        values[valuesOffset + 5] = (w1 >>> 22) & 0x7FL;
+        values[valuesOffset + 6] = (w1 >>> 15) & 0x7FL;
+        values[valuesOffset + 7] = (w1 >>> 8) & 0x7FL;
+        values[valuesOffset + 8] = (w1 >>> 1) & 0x7FL;
+        values[valuesOffset + 9] = ((w1 << 6) | (w2 >>> 26)) & 0x7FL;
+        values[valuesOffset + 10] = (w2 >>> 19) & 0x7FL;
+        values[valuesOffset + 11] = (w2 >>> 12) & 0x7FL;
+        values[valuesOffset + 12] = (w2 >>> 5) & 0x7FL;
+        values[valuesOffset + 13] = ((w2 << 2) | (w3 >>> 30)) & 0x7FL;
+        values[valuesOffset + 14] = (w3 >>> 23) & 0x7FL;
+        values[valuesOffset + 15] = (w3 >>> 16) & 0x7FL;
+        values[valuesOffset + 16] = (w3 >>> 9) & 0x7FL;
+        values[valuesOffset + 17] = (w3 >>> 2) & 0x7FL;
+        values[valuesOffset + 18] = ((w3 << 5) | (w4 >>> 27)) & 0x7FL;
+        values[valuesOffset + 19] = (w4 >>> 20) & 0x7FL;
+        values[valuesOffset + 20] = (w4 >>> 13) & 0x7FL;
+        values[valuesOffset + 21] = (w4 >>> 6) & 0x7FL;
+        values[valuesOffset + 22] = ((w4 << 1) | (w5 >>> 31)) & 0x7FL;
+        values[valuesOffset + 23] = (w5 >>> 24) & 0x7FL;
+        values[valuesOffset + 24] = (w5 >>> 17) & 0x7FL;
+        values[valuesOffset + 25] = (w5 >>> 10) & 0x7FL;
+        values[valuesOffset + 26] = (w5 >>> 3) & 0x7FL;
+        values[valuesOffset + 27] = ((w5 << 4) | (w6 >>> 28)) & 0x7FL;
+        values[valuesOffset + 28] = (w6 >>> 21) & 0x7FL;
+        values[valuesOffset + 29] = (w6 >>> 14) & 0x7FL;
+        values[valuesOffset + 30] = (w6 >>> 7) & 0x7FL;
+        values[valuesOffset + 31] = (w6) & 0x7FL;
+    }
+
+    private static void unpack32Values8(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        values[valuesOffset] = w0 >>> 24;
+        values[valuesOffset + 1] = (w0 >>> 16) & 0xFFL;
+        values[valuesOffset + 2] = (w0 >>> 8) & 0xFFL;
+        values[valuesOffset + 3] = (w0) & 0xFFL;
+        values[valuesOffset + 4] = w1 >>> 24;
+        values[valuesOffset + 5] = (w1 >>> 16) & 0xFFL;
+        values[valuesOffset + 6] = (w1 >>> 8) & 0xFFL;
+        values[valuesOffset + 7] = (w1) & 0xFFL;
+        values[valuesOffset + 8] = w2 >>> 24;
+        values[valuesOffset + 9] = (w2 >>> 16) & 0xFFL;
+        values[valuesOffset + 10] = (w2 >>> 8) & 0xFFL;
+        values[valuesOffset + 11] = (w2) & 0xFFL;
+        values[valuesOffset + 12] = w3 >>> 24;
+        values[valuesOffset + 13] = (w3 >>> 16) & 0xFFL;
+        values[valuesOffset + 14] = (w3 >>> 8) & 0xFFL;
+        values[valuesOffset + 15] = (w3) & 0xFFL;
+        values[valuesOffset + 16] = w4 >>> 24;
+        values[valuesOffset + 17] = (w4 >>> 16) & 0xFFL;
+        values[valuesOffset + 18] = (w4 >>> 8) & 0xFFL;
+        values[valuesOffset + 19] = (w4) & 0xFFL;
+        values[valuesOffset + 20] = w5 >>> 24;
+        values[valuesOffset + 21] = (w5 >>> 16) & 0xFFL;
+        values[valuesOffset + 22] = (w5 >>> 8) & 0xFFL;
+        values[valuesOffset + 23] = (w5) & 0xFFL;
+        values[valuesOffset + 24] = w6 >>> 24;
+        values[valuesOffset + 25] = (w6 >>> 16) & 0xFFL;
+        values[valuesOffset + 26] = (w6 >>> 8) & 0xFFL;
+        values[valuesOffset + 27] = (w6) & 0xFFL;
+        values[valuesOffset + 28] = w7 >>> 24;
+        values[valuesOffset + 29] = (w7 >>> 16) & 0xFFL;
+        values[valuesOffset + 30] = (w7 >>> 8) & 0xFFL;
+        values[valuesOffset + 31] = (w7) & 0xFFL;
+    }
+
+    private static void unpack32Values9(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        values[valuesOffset] = w0 >>> 23;
+        values[valuesOffset + 1] = (w0 >>> 14) & 0x1FFL;
+        values[valuesOffset + 2] = (w0 >>> 5) & 0x1FFL;
+        values[valuesOffset + 3] = ((w0 << 4) | (w1 >>> 28)) & 0x1FFL;
+        values[valuesOffset + 4] = (w1 >>> 19) & 0x1FFL;
+        values[valuesOffset + 5] = (w1 >>> 10) & 0x1FFL;
+        values[valuesOffset + 6] = (w1 >>> 1) & 0x1FFL;
+        values[valuesOffset + 7] = ((w1 << 8) | (w2 >>> 24)) & 0x1FFL;
+        values[valuesOffset + 8] = (w2 >>> 15) & 0x1FFL;
+        values[valuesOffset + 9] = (w2 >>> 6) & 0x1FFL;
+        values[valuesOffset + 10] = ((w2 << 3) | (w3 >>> 29)) & 0x1FFL;
+        values[valuesOffset + 11] = (w3 >>> 20) & 0x1FFL;
+        values[valuesOffset + 12] = (w3 >>> 11) & 0x1FFL;
+        values[valuesOffset + 13] = (w3 >>> 2) & 0x1FFL;
+        values[valuesOffset + 14] = ((w3 << 7) | (w4 >>> 25)) & 0x1FFL;
+        values[valuesOffset + 15] = (w4 >>> 16) & 0x1FFL;
+        values[valuesOffset + 16] = (w4 >>> 7) & 0x1FFL;
+        values[valuesOffset + 17] = ((w4 << 2) | (w5 >>> 30)) & 0x1FFL;
+        values[valuesOffset + 18] = (w5 >>> 21) & 0x1FFL;
+        values[valuesOffset + 19] = (w5 >>> 12) & 0x1FFL;
+        values[valuesOffset + 20] = (w5 >>> 3) & 0x1FFL;
+        values[valuesOffset + 21] = ((w5 << 6) | (w6 >>> 26)) & 0x1FFL;
+        values[valuesOffset + 22] = (w6 >>> 17) & 0x1FFL;
+        values[valuesOffset + 23] = (w6 >>> 8) & 0x1FFL;
+        values[valuesOffset + 24] = ((w6 << 1) | (w7 >>> 31)) & 0x1FFL;
+        values[valuesOffset + 25] = (w7 >>> 22) & 0x1FFL;
+        values[valuesOffset + 26] = (w7 >>> 13) & 0x1FFL;
+        values[valuesOffset + 27] = (w7 >>> 4) & 0x1FFL;
+        values[valuesOffset + 28] = ((w7 << 5) | (w8 >>> 27)) & 0x1FFL;
+        values[valuesOffset + 29] = (w8 >>> 18) & 0x1FFL;
+        values[valuesOffset + 30] = (w8 >>> 9) & 0x1FFL;
+        values[valuesOffset + 31] = (w8) & 0x1FFL;
+    }
+
+    private static void unpack32Values10(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        values[valuesOffset] = w0 >>> 22;
+        values[valuesOffset + 1] = (w0 >>> 12) & 0x3FFL;
+        values[valuesOffset + 2] = (w0 >>> 2) & 0x3FFL;
+        values[valuesOffset + 3] = ((w0 << 8) | (w1 >>> 24)) & 0x3FFL;
+        values[valuesOffset + 4] = (w1 >>> 14) & 0x3FFL;
+        values[valuesOffset + 5] = (w1 >>> 4) & 0x3FFL;
+        values[valuesOffset + 6] = ((w1 << 6) | (w2 >>> 26)) & 0x3FFL;
+        values[valuesOffset + 7] = (w2 >>> 16) & 0x3FFL;
+        values[valuesOffset + 8] = (w2 >>> 6) & 0x3FFL;
+        values[valuesOffset + 9] = ((w2 << 4) | (w3 >>> 28)) & 0x3FFL;
+        values[valuesOffset + 10] = (w3 >>> 18) & 0x3FFL;
+        values[valuesOffset + 11] = (w3 >>> 8) & 0x3FFL;
+        values[valuesOffset + 12] = ((w3 << 2) | (w4 >>> 30)) & 0x3FFL;
+        values[valuesOffset + 13] = (w4 >>> 20) & 0x3FFL;
+        values[valuesOffset + 14] = (w4 >>> 10) & 0x3FFL;
+        values[valuesOffset + 15] = (w4) & 0x3FFL;
+        values[valuesOffset + 16] = w5 >>> 22;
+        values[valuesOffset + 17] = (w5 >>> 12) & 0x3FFL;
+        values[valuesOffset + 18] = (w5 >>> 2) & 0x3FFL;
+        values[valuesOffset + 19] = ((w5 << 8) | (w6 >>> 24)) & 0x3FFL;
+        values[valuesOffset + 20] = (w6 >>> 14) & 0x3FFL;
+        values[valuesOffset + 21] = (w6 >>> 4) & 0x3FFL;
+        values[valuesOffset + 22] = ((w6 << 6) | (w7 >>> 26)) & 0x3FFL;
+        values[valuesOffset + 23] = (w7 >>> 16) & 0x3FFL;
+        values[valuesOffset + 24] = (w7 >>> 6) & 0x3FFL;
+        values[valuesOffset + 25] = ((w7 << 4) | (w8 >>> 28)) & 0x3FFL;
+        values[valuesOffset + 26] = (w8 >>> 18) & 0x3FFL;
+        values[valuesOffset + 27] = (w8 >>> 8) & 0x3FFL;
+        values[valuesOffset + 28] = ((w8 << 2) | (w9 >>> 30)) & 0x3FFL;
+        values[valuesOffset + 29] = (w9 >>> 20) & 0x3FFL;
+        values[valuesOffset + 30] = (w9 >>> 10) & 0x3FFL;
+        values[valuesOffset + 31] = (w9) & 0x3FFL;
+    }
+
+    private static void unpack32Values11(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        values[valuesOffset] = w0 >>> 21;
+        values[valuesOffset + 1] = (w0 >>> 10) & 0x7FFL;
+        values[valuesOffset + 2] = ((w0 << 1) | (w1 >>> 31)) & 0x7FFL;
+        values[valuesOffset + 3] = (w1 >>> 20) & 0x7FFL;
+        values[valuesOffset + 4] = (w1 >>> 9) & 0x7FFL;
+        values[valuesOffset + 5] = ((w1 << 2) | (w2 >>> 30)) & 0x7FFL;
+        values[valuesOffset + 6] = (w2 >>> 19) & 0x7FFL;
+        values[valuesOffset + 7] = (w2 >>> 8) & 0x7FFL;
+        values[valuesOffset + 8] = ((w2 << 3) | (w3 >>> 29)) & 0x7FFL;
+        values[valuesOffset + 9] = (w3 >>> 18) & 0x7FFL;
+        values[valuesOffset + 10] = (w3 >>> 7) & 0x7FFL;
+        values[valuesOffset + 11] = ((w3 << 4) | (w4 >>> 28)) & 0x7FFL;
+        values[valuesOffset + 12] = (w4 >>> 17) & 0x7FFL;
+        values[valuesOffset + 13] = (w4 >>> 6) & 0x7FFL;
+        values[valuesOffset + 14] = ((w4 << 5) | (w5 >>> 27)) & 0x7FFL;
+        values[valuesOffset + 15] = (w5 >>> 16) & 0x7FFL;
+        values[valuesOffset + 16] = (w5 >>> 5) & 0x7FFL;
+        values[valuesOffset + 17] = ((w5 << 6) | (w6 >>> 26)) & 0x7FFL;
+        values[valuesOffset + 18] = (w6 >>> 15) & 0x7FFL;
+        values[valuesOffset + 19] = (w6 >>> 4) & 0x7FFL;
+        values[valuesOffset + 20] = ((w6 << 7) | (w7 >>> 25)) & 0x7FFL;
+        values[valuesOffset + 21] = (w7 >>> 14) & 0x7FFL;
+        values[valuesOffset + 22] = (w7 >>> 3) & 0x7FFL;
+        values[valuesOffset + 23] = ((w7 << 8) | (w8 >>> 24)) & 0x7FFL;
+        values[valuesOffset + 24] = (w8 >>> 13) & 0x7FFL;
+        values[valuesOffset + 25] = (w8 >>> 2) & 0x7FFL;
+        values[valuesOffset + 26] = ((w8 << 9) | (w9 >>> 23)) & 0x7FFL;
+        values[valuesOffset + 27] = (w9 >>> 12) & 0x7FFL;
+        values[valuesOffset + 28] = (w9 >>> 1) & 0x7FFL;
+        values[valuesOffset + 29] = ((w9 << 10) | (w10 >>> 22)) & 0x7FFL;
+        values[valuesOffset + 30] = (w10 >>> 11) & 0x7FFL;
+        values[valuesOffset + 31] = (w10) & 0x7FFL;
+    }
+
+    private static void unpack32Values12(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        values[valuesOffset] = w0 >>> 20;
+        values[valuesOffset + 1] = (w0 >>> 8) & 0xFFFL;
+        values[valuesOffset + 2] = ((w0 << 4) | (w1 >>> 28)) & 0xFFFL;
+        values[valuesOffset + 3] = (w1 >>> 16) & 0xFFFL;
+        values[valuesOffset + 4] = (w1 >>> 4) & 0xFFFL;
+        values[valuesOffset + 5] = ((w1 << 8) | (w2 >>> 24)) & 0xFFFL;
+        values[valuesOffset + 6] = (w2 >>> 12) & 0xFFFL;
+        values[valuesOffset + 7] = (w2) & 0xFFFL;
+        values[valuesOffset + 8] = w3 >>> 20;
+        values[valuesOffset + 9] = (w3 >>> 8) & 0xFFFL;
+        values[valuesOffset + 10] = ((w3 << 4) | (w4 >>> 28)) & 0xFFFL;
+        values[valuesOffset + 11] = (w4 >>> 16) & 0xFFFL;
+        values[valuesOffset + 12] = (w4 >>> 4) & 0xFFFL;
+        values[valuesOffset + 13] = ((w4 << 8) | (w5 >>> 24)) & 0xFFFL;
+        values[valuesOffset + 14] = (w5 >>> 12) & 0xFFFL;
+        values[valuesOffset + 15] = (w5) & 0xFFFL;
+        values[valuesOffset + 16] = w6 >>> 20;
+        values[valuesOffset + 17] = (w6 >>> 8) & 0xFFFL;
+        values[valuesOffset + 18] = ((w6 << 4) | (w7 >>> 28)) & 0xFFFL;
+        values[valuesOffset + 19] = (w7 >>> 16) & 0xFFFL;
+        values[valuesOffset + 20] = (w7 >>> 4) & 0xFFFL;
+        values[valuesOffset + 21] = ((w7 << 8) | (w8 >>> 24)) & 0xFFFL;
+        values[valuesOffset + 22] = (w8 >>> 12) & 0xFFFL;
+        values[valuesOffset + 23] = (w8) & 0xFFFL;
+        values[valuesOffset + 24] = w9 >>> 20;
+        values[valuesOffset + 25] = (w9 >>> 8) & 0xFFFL;
+        values[valuesOffset + 26] = ((w9 << 4) | (w10 >>> 28)) & 0xFFFL;
+        values[valuesOffset + 27] = (w10 >>> 16) & 0xFFFL;
+        values[valuesOffset + 28] = (w10 >>> 4) & 0xFFFL;
+        values[valuesOffset + 29] = ((w10 << 8) | (w11 >>> 24)) & 0xFFFL;
+        values[valuesOffset + 30] = (w11 >>> 12) & 0xFFFL;
+        values[valuesOffset + 31] = (w11) & 0xFFFL;
+    }
+
+    private static void unpack32Values13(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        values[valuesOffset] = w0 >>> 19;
+        values[valuesOffset + 1] = (w0 >>> 6) & 0x1FFFL;
+        values[valuesOffset + 2] = ((w0 << 7) | (w1 >>> 25)) & 0x1FFFL;
+        values[valuesOffset + 3] = (w1 >>> 12) & 0x1FFFL;
+        values[valuesOffset + 4] = ((w1 << 1) | (w2 >>> 31)) & 0x1FFFL;
+        values[valuesOffset + 5] = (w2 >>> 18) & 0x1FFFL;
+        values[valuesOffset + 6] = (w2 >>> 5) & 0x1FFFL;
+        values[valuesOffset + 7] = ((w2 << 8) | (w3 >>> 24)) & 0x1FFFL;
+        values[valuesOffset + 8] = (w3 >>> 11) & 0x1FFFL;
+        values[valuesOffset + 9] = ((w3 << 2) | (w4 >>> 30)) & 0x1FFFL;
+        values[valuesOffset + 10] = (w4 >>> 17) & 0x1FFFL;
+        values[valuesOffset + 11] = (w4 >>> 4) & 0x1FFFL;
+        values[valuesOffset + 12] = ((w4 << 9) | (w5 >>> 23)) & 0x1FFFL;
+        values[valuesOffset + 13] = (w5 >>> 10) & 0x1FFFL;
+        values[valuesOffset + 14] = ((w5 << 3) | (w6 >>> 29)) & 0x1FFFL;
+        values[valuesOffset + 15] = (w6 >>> 16) & 0x1FFFL;
+        values[valuesOffset + 16] = (w6 >>> 3) & 0x1FFFL;
+        values[valuesOffset + 17] = ((w6 << 10) | (w7 >>> 22)) & 0x1FFFL;
+        values[valuesOffset + 18] = (w7 >>> 9) & 0x1FFFL;
+        values[valuesOffset + 19] = ((w7 << 4) | (w8 >>> 28)) & 0x1FFFL;
+        values[valuesOffset + 20] = (w8 >>> 15) & 0x1FFFL;
+        values[valuesOffset + 21] = (w8 >>> 2) & 0x1FFFL;
+        values[valuesOffset + 22] = ((w8 << 11) | (w9 >>> 21)) & 0x1FFFL;
+        values[valuesOffset + 23] = (w9 >>> 8) & 0x1FFFL;
+        values[valuesOffset + 24] = ((w9 << 5) | (w10 >>> 27)) & 0x1FFFL;
+        values[valuesOffset + 25] = (w10 >>> 14) & 0x1FFFL;
+        values[valuesOffset + 26] = (w10 >>> 1) & 0x1FFFL;
+        values[valuesOffset + 27] = ((w10 << 12) | (w11 >>> 20)) & 0x1FFFL;
+        values[valuesOffset + 28] = (w11 >>> 7) & 0x1FFFL;
+        values[valuesOffset + 29] = ((w11 << 6) | (w12 >>> 26)) & 0x1FFFL;
+        values[valuesOffset + 30] = (w12 >>> 13) & 0x1FFFL;
+        values[valuesOffset + 31] = (w12) & 0x1FFFL;
+    }
+
+    private static void unpack32Values14(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        values[valuesOffset] = w0 >>> 18;
+        values[valuesOffset + 1] = (w0 >>> 4) & 0x3FFFL;
+        values[valuesOffset + 2] = ((w0 << 10) | (w1 >>> 22)) & 0x3FFFL;
+        values[valuesOffset + 3] = (w1 >>> 8) & 0x3FFFL;
+        values[valuesOffset + 4] = ((w1 << 6) | (w2 >>> 26)) & 0x3FFFL;
+        values[valuesOffset + 5] = (w2 >>> 12) & 0x3FFFL;
+        values[valuesOffset + 6] = ((w2 << 2) | (w3 >>> 30)) & 0x3FFFL;
+        values[valuesOffset + 7] = (w3 >>> 16) & 0x3FFFL;
+        values[valuesOffset + 8] = (w3 >>> 2) & 0x3FFFL;
+        values[valuesOffset + 9] = ((w3 << 12) | (w4 >>> 20)) & 0x3FFFL;
+        values[valuesOffset + 10] = (w4 >>> 6) & 0x3FFFL;
+        values[valuesOffset + 11] = ((w4 << 8) | (w5 >>> 24)) & 0x3FFFL;
+        values[valuesOffset + 12] = (w5 >>> 10) & 0x3FFFL;
+        values[valuesOffset + 13] = ((w5 << 4) | (w6 >>> 28)) & 0x3FFFL;
+        values[valuesOffset + 14] = (w6 >>> 14) & 0x3FFFL;
+        values[valuesOffset + 15] = (w6) & 0x3FFFL;
+        values[valuesOffset + 16] = w7 >>> 18;
+        values[valuesOffset + 17] = (w7 >>> 4) & 0x3FFFL;
+        values[valuesOffset + 18] = ((w7 << 10) | (w8 >>> 22)) & 0x3FFFL;
+        values[valuesOffset + 19] = (w8 >>> 8) & 0x3FFFL;
+        values[valuesOffset + 20] = ((w8 << 6) | (w9 >>> 26)) & 0x3FFFL;
+        values[valuesOffset + 21] = (w9 >>> 12) & 0x3FFFL;
+        values[valuesOffset + 22] = ((w9 << 2) | (w10 >>> 30)) & 0x3FFFL;
+        values[valuesOffset + 23] = (w10 >>> 16) & 0x3FFFL;
+        values[valuesOffset + 24] = (w10 >>> 2) & 0x3FFFL;
+        values[valuesOffset + 25] = ((w10 << 12) | (w11 >>> 20)) & 0x3FFFL;
+        values[valuesOffset + 26] = (w11 >>> 6) & 0x3FFFL;
+        values[valuesOffset + 27] = ((w11 << 8) | (w12 >>> 24)) & 0x3FFFL;
+        values[valuesOffset + 28] = (w12 >>> 10) & 0x3FFFL;
+        values[valuesOffset + 29] = ((w12 << 4) | (w13 >>> 28)) & 0x3FFFL;
+        values[valuesOffset + 30] = (w13 >>> 14) & 0x3FFFL;
+        values[valuesOffset + 31] = (w13) & 0x3FFFL;
+    }
+
+    private static void unpack32Values15(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        values[valuesOffset] = w0 >>> 17;
+        values[valuesOffset + 1] = (w0 >>> 2) & 0x7FFFL;
+        values[valuesOffset + 2] = ((w0 << 13) | (w1 >>> 19)) & 0x7FFFL;
+        values[valuesOffset + 3] = (w1 >>> 4) & 0x7FFFL;
+        values[valuesOffset + 4] = ((w1 << 11) | (w2 >>> 21)) & 0x7FFFL;
+        values[valuesOffset + 5] = (w2 >>> 6) & 0x7FFFL;
+        values[valuesOffset + 6] = ((w2 << 9) | (w3 >>> 23)) & 0x7FFFL;
+        values[valuesOffset + 7] = (w3 >>> 8) & 0x7FFFL;
+        values[valuesOffset + 8] = ((w3 << 7) | (w4 >>> 25)) & 0x7FFFL;
+        values[valuesOffset + 9] = (w4 >>> 10) & 0x7FFFL;
+        values[valuesOffset + 10] = ((w4 << 5) | (w5 >>> 27)) & 0x7FFFL;
+        values[valuesOffset + 11] = (w5 >>> 12) & 0x7FFFL;
+        values[valuesOffset + 12] = ((w5 << 3) | (w6 >>> 29)) & 0x7FFFL;
+        values[valuesOffset + 13] = (w6 >>> 14) & 0x7FFFL;
+        values[valuesOffset + 14] = ((w6 << 1) | (w7 >>> 31)) & 0x7FFFL;
+        values[valuesOffset + 15] = (w7 >>> 16) & 0x7FFFL;
+        values[valuesOffset + 16] = (w7 >>> 1) & 0x7FFFL;
+        values[valuesOffset + 17] = ((w7 << 14) | (w8 >>> 18)) & 0x7FFFL;
+        values[valuesOffset + 18] = (w8 >>> 3) & 0x7FFFL;
+        values[valuesOffset + 19] = ((w8 << 12) | (w9 >>> 20)) & 0x7FFFL;
+        values[valuesOffset + 20] = (w9 >>> 5) & 0x7FFFL;
+        values[valuesOffset + 21] = ((w9 << 10) | (w10 >>> 22)) & 0x7FFFL;
+        values[valuesOffset + 22] = (w10 >>> 7) & 0x7FFFL;
+        values[valuesOffset + 23] = ((w10 << 8) | (w11 >>> 24)) & 0x7FFFL;
+        values[valuesOffset + 24] = (w11 >>> 9) & 0x7FFFL;
+        values[valuesOffset + 25] = ((w11 << 6) | (w12 >>> 26)) & 0x7FFFL;
+        values[valuesOffset + 26] = (w12 >>> 11) & 0x7FFFL;
+        values[valuesOffset + 27] = ((w12 << 4) | (w13 >>> 28)) & 0x7FFFL;
+        values[valuesOffset + 28] = (w13 >>> 13) & 0x7FFFL;
+        values[valuesOffset + 29] = ((w13 << 2) | (w14 >>> 30)) & 0x7FFFL;
+        values[valuesOffset + 30] = (w14 >>> 15) & 0x7FFFL;
+        values[valuesOffset + 31] = (w14) & 0x7FFFL;
+    }
+
+    private static void unpack32Values16(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        values[valuesOffset] = w0 >>> 16;
+        values[valuesOffset + 1] = (w0) & 0xFFFFL;
+        values[valuesOffset + 2] = w1 >>> 16;
+        values[valuesOffset + 3] = (w1) & 0xFFFFL;
+        values[valuesOffset + 4] = w2 >>> 16;
+        values[valuesOffset + 5] = (w2) & 0xFFFFL;
+        values[valuesOffset + 6] = w3 >>> 16;
+        values[valuesOffset + 7] = (w3) & 0xFFFFL;
+        values[valuesOffset + 8] = w4 >>> 16;
+        values[valuesOffset + 9] = (w4) & 0xFFFFL;
+        values[valuesOffset + 10] = w5 >>> 16;
+        values[valuesOffset + 11] = (w5) & 0xFFFFL;
+        values[valuesOffset + 12] = w6 >>> 16;
+        values[valuesOffset + 13] = (w6) & 0xFFFFL;
+        values[valuesOffset + 14] = w7 >>> 16;
+        values[valuesOffset + 15] = (w7) & 0xFFFFL;
+        values[valuesOffset + 16] = w8 >>> 16;
+        values[valuesOffset + 17] = (w8) & 0xFFFFL;
+        values[valuesOffset + 18] = w9 >>> 16;
+        values[valuesOffset + 19] = (w9) & 0xFFFFL;
+        values[valuesOffset + 20] = w10 >>> 16;
+        values[valuesOffset + 21] = (w10) & 0xFFFFL;
+        values[valuesOffset + 22] = w11 >>> 16;
+        values[valuesOffset + 23] = (w11) & 0xFFFFL;
+        values[valuesOffset + 24] = w12 >>> 16;
+        values[valuesOffset + 25] = (w12) & 0xFFFFL;
+        values[valuesOffset + 26] = w13 >>> 16;
+        values[valuesOffset + 27] = (w13) & 0xFFFFL;
+        values[valuesOffset + 28] = w14 >>> 16;
+        values[valuesOffset + 29] = (w14) & 0xFFFFL;
+        values[valuesOffset + 30] = w15 >>> 16;
+        values[valuesOffset + 31] = (w15) & 0xFFFFL;
+    }
+
+    private static void unpack32Values17(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        values[valuesOffset] = w0 >>> 15;
+        values[valuesOffset + 1] = ((w0 << 2) | (w1 >>> 30)) & 0x1FFFFL;
+        values[valuesOffset + 2] = (w1 >>> 13) & 0x1FFFFL;
+        values[valuesOffset + 3] = ((w1 << 4) | (w2 >>> 28)) & 0x1FFFFL;
+        values[valuesOffset + 4] = (w2 >>> 11) & 0x1FFFFL;
+        values[valuesOffset + 5] = ((w2 << 6) | (w3 >>> 26)) & 0x1FFFFL;
+        values[valuesOffset + 6] = (w3 >>> 9) & 0x1FFFFL;
+        values[valuesOffset + 7] = ((w3 << 8) | (w4 >>> 24)) & 0x1FFFFL;
+        values[valuesOffset + 8] = (w4 >>> 7) & 0x1FFFFL;
+        values[valuesOffset + 9] = ((w4 << 10) | (w5 >>> 22)) & 0x1FFFFL;
+        values[valuesOffset + 10] = (w5 >>> 5) & 0x1FFFFL;
+        values[valuesOffset + 11] = ((w5 << 12) | (w6 >>> 20)) & 0x1FFFFL;
+        values[valuesOffset + 12] = (w6 >>> 3) & 0x1FFFFL;
+        values[valuesOffset + 13] = ((w6 << 14) | (w7 >>> 18)) & 0x1FFFFL;
+        values[valuesOffset + 14] = (w7 >>> 1) & 0x1FFFFL;
+        values[valuesOffset + 15] = ((w7 << 16) | (w8 >>> 16)) & 0x1FFFFL;
+        values[valuesOffset + 16] = ((w8 << 1) | (w9 >>> 31)) & 0x1FFFFL;
+        values[valuesOffset + 17] = (w9 >>> 14) & 0x1FFFFL;
+        values[valuesOffset + 18] = ((w9 << 3) | (w10 >>> 29)) & 0x1FFFFL;
+        values[valuesOffset + 19] = (w10 >>> 12) & 0x1FFFFL;
+        values[valuesOffset + 20] = ((w10 << 5) | (w11 >>> 27)) & 0x1FFFFL;
+        values[valuesOffset + 21] = (w11 >>> 10) & 0x1FFFFL;
+        values[valuesOffset + 22] = ((w11 << 7) | (w12 >>> 25)) & 0x1FFFFL;
+        values[valuesOffset + 23] = (w12 >>> 8) & 0x1FFFFL;
+        values[valuesOffset + 24] = ((w12 << 9) | (w13 >>> 23)) & 0x1FFFFL;
+        values[valuesOffset + 25] = (w13 >>> 6) & 0x1FFFFL;
+        values[valuesOffset + 26] = ((w13 << 11) | (w14 >>> 21)) & 0x1FFFFL;
+        values[valuesOffset + 27] = (w14 >>> 4) & 0x1FFFFL;
+        values[valuesOffset + 28] = ((w14 << 13) | (w15 >>> 19)) & 0x1FFFFL;
+        values[valuesOffset + 29] = (w15 >>> 2) & 0x1FFFFL;
+        values[valuesOffset + 30] = ((w15 << 15) | (w16 >>> 17)) & 0x1FFFFL;
+        values[valuesOffset + 31] = (w16) & 0x1FFFFL;
+    }
+
+    private static void unpack32Values18(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        values[valuesOffset] = w0 >>> 14;
+        values[valuesOffset + 1] = ((w0 << 4) | (w1 >>> 28)) & 0x3FFFFL;
+        values[valuesOffset + 2] = (w1 >>> 10) & 0x3FFFFL;
+        values[valuesOffset + 3] = ((w1 << 8) | (w2 >>> 24)) & 0x3FFFFL;
+        values[valuesOffset + 4] = (w2 >>> 6) & 0x3FFFFL;
+        values[valuesOffset + 5] = ((w2 << 12) | (w3 >>> 20)) & 0x3FFFFL;
+        values[valuesOffset + 6] = (w3 >>> 2) & 0x3FFFFL;
+        values[valuesOffset + 7] = ((w3 << 16) | (w4 >>> 16)) & 0x3FFFFL;
+        values[valuesOffset + 8] = ((w4 << 2) | (w5 >>> 30)) & 0x3FFFFL;
+        values[valuesOffset + 9] = (w5 >>> 12) & 0x3FFFFL;
+        values[valuesOffset + 10] = ((w5 << 6) | (w6 >>> 26)) & 0x3FFFFL;
+        values[valuesOffset + 11] = (w6 >>> 8) & 0x3FFFFL;
+        values[valuesOffset + 12] = ((w6 << 10) | (w7 >>> 22)) & 0x3FFFFL;
+        values[valuesOffset + 13] = (w7 >>> 4) & 0x3FFFFL;
+        values[valuesOffset + 14] = ((w7 << 14) | (w8 >>> 18)) & 0x3FFFFL;
+        values[valuesOffset + 15] = (w8) & 0x3FFFFL;
+        values[valuesOffset + 16] = w9 >>> 14;
+        values[valuesOffset + 17] = ((w9 << 4) | (w10 >>> 28)) & 0x3FFFFL;
+        values[valuesOffset + 18] = (w10 >>> 10) & 0x3FFFFL;
+        values[valuesOffset + 19] = ((w10 << 8) | (w11 >>> 24)) & 0x3FFFFL;
+        values[valuesOffset + 20] = (w11 >>> 6) & 0x3FFFFL;
+        values[valuesOffset + 21] = ((w11 << 12) | (w12 >>> 20)) & 0x3FFFFL;
+        values[valuesOffset + 22] = (w12 >>> 2) & 0x3FFFFL;
+        values[valuesOffset + 23] = ((w12 << 16) | (w13 >>> 16)) & 0x3FFFFL;
+        values[valuesOffset + 24] = ((w13 << 2) | (w14 >>> 30)) & 0x3FFFFL;
+        values[valuesOffset + 25] = (w14 >>> 12) & 0x3FFFFL;
+        values[valuesOffset + 26] = ((w14 << 6) | (w15 >>> 26)) & 0x3FFFFL;
+        values[valuesOffset + 27] = (w15 >>> 8) & 0x3FFFFL;
+        values[valuesOffset + 28] = ((w15 << 10) | (w16 >>> 22)) & 0x3FFFFL;
+        values[valuesOffset + 29] = (w16 >>> 4) & 0x3FFFFL;
+        values[valuesOffset + 30] = ((w16 << 14) | (w17 >>> 18)) & 0x3FFFFL;
+        values[valuesOffset + 31] = (w17) & 0x3FFFFL;
+    }
+
+    private static void unpack32Values19(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        values[valuesOffset] = w0 >>> 13;
+        values[valuesOffset + 1] = ((w0 << 6) | (w1 >>> 26)) & 0x7FFFFL;
+        values[valuesOffset + 2] = (w1 >>> 7) & 0x7FFFFL;
+        values[valuesOffset + 3] = ((w1 << 12) | (w2 >>> 20)) & 0x7FFFFL;
+        values[valuesOffset + 4] = (w2 >>> 1) & 0x7FFFFL;
+        values[valuesOffset + 5] = ((w2 << 18) | (w3 >>> 14)) & 0x7FFFFL;
+        values[valuesOffset + 6] = ((w3 << 5) | (w4 >>> 27)) & 0x7FFFFL;
+        values[valuesOffset + 7] = (w4 >>> 8) & 0x7FFFFL;
+        values[valuesOffset + 8] = ((w4 << 11) | (w5 >>> 21)) & 0x7FFFFL;
+        values[valuesOffset + 9] = (w5 >>> 2) & 0x7FFFFL;
+        values[valuesOffset + 10] = ((w5 << 17) | (w6 >>> 15)) & 0x7FFFFL;
+        values[valuesOffset + 11] = ((w6 << 4) | (w7 >>> 28)) & 0x7FFFFL;
+        values[valuesOffset + 12] = (w7 >>> 9) & 0x7FFFFL;
+        values[valuesOffset + 13] = ((w7 << 10) | (w8 >>> 22)) & 0x7FFFFL;
+        values[valuesOffset + 14] = (w8 >>> 3) & 0x7FFFFL;
+        values[valuesOffset + 15] = ((w8 << 16) | (w9 >>> 16)) & 0x7FFFFL;
+        values[valuesOffset + 16] = ((w9 << 3) | (w10 >>> 29)) & 0x7FFFFL;
+        values[valuesOffset + 17] = (w10 >>> 10) & 0x7FFFFL;
+        values[valuesOffset + 18] = ((w10 << 9) | (w11 >>> 23)) & 0x7FFFFL;
+        values[valuesOffset + 19] = (w11 >>> 4) & 0x7FFFFL;
+        values[valuesOffset + 20] = ((w11 << 15) | (w12 >>> 17)) & 0x7FFFFL;
+        values[valuesOffset + 21] = ((w12 << 2) | (w13 >>> 30)) & 0x7FFFFL;
+        values[valuesOffset + 22] = (w13 >>> 11) & 0x7FFFFL;
+        values[valuesOffset + 23] = ((w13 << 8) | (w14 >>> 24)) & 0x7FFFFL;
+        values[valuesOffset + 24] = (w14 >>> 5) & 0x7FFFFL;
+        values[valuesOffset + 25] = ((w14 << 14) | (w15 >>> 18)) & 0x7FFFFL;
+        values[valuesOffset + 26] = ((w15 << 1) | (w16 >>> 31)) & 0x7FFFFL;
+        values[valuesOffset + 27] = (w16 >>> 12) & 0x7FFFFL;
+        values[valuesOffset + 28] = ((w16 << 7) | (w17 >>> 25)) & 0x7FFFFL;
+        values[valuesOffset + 29] = (w17 >>> 6) & 0x7FFFFL;
+        values[valuesOffset + 30] = ((w17 << 13) | (w18 >>> 19)) & 0x7FFFFL;
+        values[valuesOffset + 31] = (w18) & 0x7FFFFL;
+    }
+
+    private static void unpack32Values20(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        values[valuesOffset] = w0 >>> 12;
+        values[valuesOffset + 1] = ((w0 << 8) | (w1 >>> 24)) & 0xFFFFFL;
+        values[valuesOffset + 2] = (w1 >>> 4) & 0xFFFFFL;
+        values[valuesOffset + 3] = ((w1 << 16) | (w2 >>> 16)) & 0xFFFFFL;
+        values[valuesOffset + 4] = ((w2 << 4) | (w3 >>> 28)) & 0xFFFFFL;
+        values[valuesOffset + 5] = (w3 >>> 8) & 0xFFFFFL;
+        values[valuesOffset + 6] = ((w3 << 12) | (w4 >>> 20)) & 0xFFFFFL;
+        values[valuesOffset + 7] = (w4) & 0xFFFFFL;
+        values[valuesOffset + 8] = w5 >>> 12;
+        values[valuesOffset + 9] = ((w5 << 8) | (w6 >>> 24)) & 0xFFFFFL;
+        values[valuesOffset + 10] = (w6 >>> 4) & 0xFFFFFL;
+        values[valuesOffset + 11] = ((w6 << 16) | (w7 >>> 16)) & 0xFFFFFL;
+        values[valuesOffset + 12] = ((w7 << 4) | (w8 >>> 28)) & 0xFFFFFL;
+        values[valuesOffset + 13] = (w8 >>> 8) & 0xFFFFFL;
+        values[valuesOffset + 14] = ((w8 << 12) | (w9 >>> 20)) & 0xFFFFFL;
+        values[valuesOffset + 15] = (w9) & 0xFFFFFL;
+        values[valuesOffset + 16] = w10 >>> 12;
+        values[valuesOffset + 17] = ((w10 << 8) | (w11 >>> 24)) & 0xFFFFFL;
+        values[valuesOffset + 18] = (w11 >>> 4) & 0xFFFFFL;
+        values[valuesOffset + 19] = ((w11 << 16) | (w12 >>> 16)) & 0xFFFFFL;
+        values[valuesOffset + 20] = ((w12 << 4) | (w13 >>> 28)) & 0xFFFFFL;
+        values[valuesOffset + 21] = (w13 >>> 8) & 0xFFFFFL;
+        values[valuesOffset + 22] = ((w13 << 12) | (w14 >>> 20)) & 0xFFFFFL;
+        values[valuesOffset + 23] = (w14) & 0xFFFFFL;
+        values[valuesOffset + 24] = w15 >>> 12;
+        values[valuesOffset + 25] = ((w15 << 8) | (w16 >>> 24)) & 0xFFFFFL;
+        values[valuesOffset + 26] = (w16 >>> 4) & 0xFFFFFL;
+        values[valuesOffset + 27] = ((w16 << 16) | (w17 >>> 16)) & 0xFFFFFL;
+        values[valuesOffset + 28] = ((w17 << 4) | (w18 >>> 28)) & 0xFFFFFL;
+        values[valuesOffset + 29] = (w18 >>> 8) & 0xFFFFFL;
+        values[valuesOffset + 30] = ((w18 << 12) | (w19 >>> 20)) & 0xFFFFFL;
+        values[valuesOffset + 31] = (w19) & 0xFFFFFL;
+    }
+
+    private static void unpack32Values21(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        values[valuesOffset] = w0 >>> 11;
+        values[valuesOffset + 1] = ((w0 << 10) | (w1 >>> 22)) & 0x1FFFFFL;
+        values[valuesOffset + 2] = (w1 >>> 1) & 0x1FFFFFL;
+        values[valuesOffset + 3] = ((w1 << 20) | (w2 >>> 12)) & 0x1FFFFFL;
+        values[valuesOffset + 4] = ((w2 << 9) | (w3 >>> 23)) & 0x1FFFFFL;
+        values[valuesOffset + 5] = (w3 >>> 2) & 0x1FFFFFL;
+        values[valuesOffset + 6] = ((w3 << 19) | (w4 >>> 13)) & 0x1FFFFFL;
+        values[valuesOffset + 7] = ((w4 << 8) | (w5 >>> 24)) & 0x1FFFFFL;
+        values[valuesOffset + 8] = (w5 >>> 3) & 0x1FFFFFL;
+        values[valuesOffset + 9] = ((w5 << 18) | (w6 >>> 14)) & 0x1FFFFFL;
+        values[valuesOffset + 10] = ((w6 << 7) | (w7 >>> 25)) & 0x1FFFFFL;
+        values[valuesOffset + 11] = (w7 >>> 4) & 0x1FFFFFL;
+        values[valuesOffset + 12] = ((w7 << 17) | (w8 >>> 15)) & 0x1FFFFFL;
+        values[valuesOffset + 13] = ((w8 << 6) | (w9 >>> 26)) & 0x1FFFFFL;
+        values[valuesOffset + 14] = (w9 >>> 5) & 0x1FFFFFL;
+        values[valuesOffset + 15] = ((w9 << 16) | (w10 >>> 16)) & 0x1FFFFFL;
+        values[valuesOffset + 16] = ((w10 << 5) | (w11 >>> 27)) & 0x1FFFFFL;
+        values[valuesOffset + 17] = (w11 >>> 6) & 0x1FFFFFL;
+        values[valuesOffset + 18] = ((w11 << 15) | (w12 >>> 17)) & 0x1FFFFFL;
+        values[valuesOffset + 19] = ((w12 << 4) | (w13 >>> 28)) & 0x1FFFFFL;
+        values[valuesOffset + 20] = (w13 >>> 7) & 0x1FFFFFL;
+        values[valuesOffset + 21] = ((w13 << 14) | (w14 >>> 18)) & 0x1FFFFFL;
+        values[valuesOffset + 22] = ((w14 << 3) | (w15 >>> 29)) & 0x1FFFFFL;
+        values[valuesOffset + 23] = (w15 >>> 8) & 0x1FFFFFL;
+        values[valuesOffset + 24] = ((w15 << 13) | (w16 >>> 19)) & 0x1FFFFFL;
+        values[valuesOffset + 25] = ((w16 << 2) | (w17 >>> 30)) & 0x1FFFFFL;
+        values[valuesOffset + 26] = (w17 >>> 9) & 0x1FFFFFL;
+        values[valuesOffset + 27] = ((w17 << 12) | (w18 >>> 20)) & 0x1FFFFFL;
+        values[valuesOffset + 28] = ((w18 << 1) | (w19 >>> 31)) & 0x1FFFFFL;
+        values[valuesOffset + 29] = (w19 >>> 10) & 0x1FFFFFL;
+        values[valuesOffset + 30] = ((w19 << 11) | (w20 >>> 21)) & 0x1FFFFFL;
+        values[valuesOffset + 31] = (w20) & 0x1FFFFFL;
+    }
+
+    private static void unpack32Values22(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        values[valuesOffset] = w0 >>> 10;
+        values[valuesOffset + 1] = ((w0 << 12) | (w1 >>> 20)) & 0x3FFFFFL;
+        values[valuesOffset + 2] = ((w1 << 2) | (w2 >>> 30)) & 0x3FFFFFL;
+        values[valuesOffset + 3] = (w2 >>> 8) & 0x3FFFFFL;
+        values[valuesOffset + 4] = ((w2 << 14) | (w3 >>> 18)) & 0x3FFFFFL;
+        values[valuesOffset + 5] = ((w3 << 4) | (w4 >>> 28)) & 0x3FFFFFL;
+        values[valuesOffset + 6] = (w4 >>> 6) & 0x3FFFFFL;
+        values[valuesOffset + 7] = ((w4 << 16) | (w5 >>> 16)) & 0x3FFFFFL;
+        values[valuesOffset + 8] = ((w5 << 6) | (w6 >>> 26)) & 0x3FFFFFL;
+        values[valuesOffset + 9] = (w6 >>> 4) & 0x3FFFFFL;
+        values[valuesOffset + 10] = ((w6 << 18) | (w7 >>> 14)) & 0x3FFFFFL;
+        values[valuesOffset + 11] = ((w7 << 8) | (w8 >>> 24)) & 0x3FFFFFL;
+        values[valuesOffset + 12] = (w8 >>> 2) & 0x3FFFFFL;
+        values[valuesOffset + 13] = ((w8 << 20) | (w9 >>> 12)) & 0x3FFFFFL;
+        values[valuesOffset + 14] = ((w9 << 10) | (w10 >>> 22)) & 0x3FFFFFL;
+        values[valuesOffset + 15] = (w10) & 0x3FFFFFL;
+        values[valuesOffset + 16] = w11 >>> 10;
+        values[valuesOffset + 17] = ((w11 << 12) | (w12 >>> 20)) & 0x3FFFFFL;
+        values[valuesOffset + 18] = ((w12 << 2) | (w13 >>> 30)) & 0x3FFFFFL;
+        values[valuesOffset + 19] = (w13 >>> 8) & 0x3FFFFFL;
+        values[valuesOffset + 20] = ((w13 << 14) | (w14 >>> 18)) & 0x3FFFFFL;
+        values[valuesOffset + 21] = ((w14 << 4) | (w15 >>> 28)) & 0x3FFFFFL;
+        values[valuesOffset + 22] = (w15 >>> 6) & 0x3FFFFFL;
+        values[valuesOffset + 23] = ((w15 << 16) | (w16 >>> 16)) & 0x3FFFFFL;
+        values[valuesOffset + 24] = ((w16 << 6) | (w17 >>> 26)) & 0x3FFFFFL;
+        values[valuesOffset + 25] = (w17 >>> 4) & 0x3FFFFFL;
+        values[valuesOffset + 26] = ((w17 << 18) | (w18 >>> 14)) & 0x3FFFFFL;
+        values[valuesOffset + 27] = ((w18 << 8) | (w19 >>> 24)) & 0x3FFFFFL;
+        values[valuesOffset + 28] = (w19 >>> 2) & 0x3FFFFFL;
+        values[valuesOffset + 29] = ((w19 << 20) | (w20 >>> 12)) & 0x3FFFFFL;
+        values[valuesOffset + 30] = ((w20 << 10) | (w21 >>> 22)) & 0x3FFFFFL;
+        values[valuesOffset + 31] = (w21) & 0x3FFFFFL;
+    }
+
+    private static void unpack32Values23(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        values[valuesOffset] = w0 >>> 9;
+        values[valuesOffset + 1] = ((w0 << 14) | (w1 >>> 18)) & 0x7FFFFFL;
+        values[valuesOffset + 2] = ((w1 << 5) | (w2 >>> 27)) & 0x7FFFFFL;
+        values[valuesOffset + 3] = (w2 >>> 4) & 0x7FFFFFL;
+        values[valuesOffset + 4] = ((w2 << 19) | (w3 >>> 13)) & 0x7FFFFFL;
+        values[valuesOffset + 5] = ((w3 << 10) | (w4 >>> 22)) & 0x7FFFFFL;
+        values[valuesOffset + 6] = ((w4 << 1) | (w5 >>> 31)) & 0x7FFFFFL;
+        values[valuesOffset + 7] = (w5 >>> 8) & 0x7FFFFFL;
+        values[valuesOffset + 8] = ((w5 << 15) | (w6 >>> 17)) & 0x7FFFFFL;
+        values[valuesOffset + 9] = ((w6 << 6) | (w7 >>> 26)) & 0x7FFFFFL;
+        values[valuesOffset + 10] = (w7 >>> 3) & 0x7FFFFFL;
+        values[valuesOffset + 11] = ((w7 << 20) | (w8 >>> 12)) & 0x7FFFFFL;
+        values[valuesOffset + 12] = ((w8 << 11) | (w9 >>> 21)) & 0x7FFFFFL;
+        values[valuesOffset + 13] = ((w9 << 2) | (w10 >>> 30)) & 0x7FFFFFL;
+        values[valuesOffset + 14] = (w10 >>> 7) & 0x7FFFFFL;
+        values[valuesOffset + 15] = ((w10 << 16) | (w11 >>> 16)) & 0x7FFFFFL;
+        values[valuesOffset + 16] = ((w11 << 7) | (w12 >>> 25)) & 0x7FFFFFL;
+        values[valuesOffset + 17] = (w12 >>> 2) & 0x7FFFFFL;
+        values[valuesOffset + 18] = ((w12 << 21) | (w13 >>> 11)) & 0x7FFFFFL;
+        values[valuesOffset + 19] = ((w13 << 12) | (w14 >>> 20)) & 0x7FFFFFL;
+        values[valuesOffset + 20] = ((w14 << 3) | (w15 >>> 29)) & 0x7FFFFFL;
+        values[valuesOffset + 21] = (w15 >>> 6) & 0x7FFFFFL;
+        values[valuesOffset + 22] = ((w15 << 17) | (w16 >>> 15)) & 0x7FFFFFL;
+        values[valuesOffset + 23] = ((w16 << 8) | (w17 >>> 24)) & 0x7FFFFFL;
+        values[valuesOffset + 24] = (w17 >>> 1) & 0x7FFFFFL;
+        values[valuesOffset + 25] = ((w17 << 22) | (w18 >>> 10)) & 0x7FFFFFL;
+        values[valuesOffset + 26] = ((w18 << 13) | (w19 >>> 19)) & 0x7FFFFFL;
+        values[valuesOffset + 27] = ((w19 << 4) | (w20 >>> 28)) & 0x7FFFFFL;
+        values[valuesOffset + 28] = (w20 >>> 5) & 0x7FFFFFL;
+        values[valuesOffset + 29] = ((w20 << 18) | (w21 >>> 14)) & 0x7FFFFFL;
+        values[valuesOffset + 30] = ((w21 << 9) | (w22 >>> 23)) & 0x7FFFFFL;
+        values[valuesOffset + 31] = (w22) & 0x7FFFFFL;
+    }
+
+    private static void unpack32Values24(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        values[valuesOffset] = w0 >>> 8;
+        values[valuesOffset + 1] = ((w0 << 16) | (w1 >>> 16)) & 0xFFFFFFL;
+        values[valuesOffset + 2] = ((w1 << 8) | (w2 >>> 24)) & 0xFFFFFFL;
+        values[valuesOffset + 3] = (w2) & 0xFFFFFFL;
+        values[valuesOffset + 4] = w3 >>> 8;
+        values[valuesOffset + 5] = ((w3 << 16) | (w4 >>> 16)) & 0xFFFFFFL;
+        values[valuesOffset + 6] = ((w4 << 8) | (w5 >>> 24)) & 0xFFFFFFL;
+        values[valuesOffset + 7] = (w5) & 0xFFFFFFL;
+        values[valuesOffset + 8] = w6 >>> 8;
+        values[valuesOffset + 9] = ((w6 << 16) | (w7 >>> 16)) & 0xFFFFFFL;
+        values[valuesOffset + 10] = ((w7 << 8) | (w8 >>> 24)) & 0xFFFFFFL;
+        values[valuesOffset + 11] = (w8) & 0xFFFFFFL;
+        values[valuesOffset + 12] = w9 >>> 8;
+        values[valuesOffset + 13] = ((w9 << 16) | (w10 >>> 16)) & 0xFFFFFFL;
+        values[valuesOffset + 14] = ((w10 << 8) | (w11 >>> 24)) & 0xFFFFFFL;
+        values[valuesOffset + 15] = (w11) & 0xFFFFFFL;
+        values[valuesOffset + 16] = w12 >>> 8;
+        values[valuesOffset + 17] = ((w12 << 16) | (w13 >>> 16)) & 0xFFFFFFL;
+        values[valuesOffset + 18] = ((w13 << 8) | (w14 >>> 24)) & 0xFFFFFFL;
+        values[valuesOffset + 19] = (w14) & 0xFFFFFFL;
+        values[valuesOffset + 20] = w15 >>> 8;
+        values[valuesOffset + 21] = ((w15 << 16) | (w16 >>> 16)) & 0xFFFFFFL;
+        values[valuesOffset + 22] = ((w16 << 8) | (w17 >>> 24)) & 0xFFFFFFL;
+        values[valuesOffset + 23] = (w17) & 0xFFFFFFL;
+        values[valuesOffset + 24] = w18 >>> 8;
+        values[valuesOffset + 25] = ((w18 << 16) | (w19 >>> 16)) & 0xFFFFFFL;
+        values[valuesOffset + 26] = ((w19 << 8) | (w20 >>> 24)) & 0xFFFFFFL;
+        values[valuesOffset + 27] = (w20) & 0xFFFFFFL;
+        values[valuesOffset + 28] = w21 >>> 8;
+        values[valuesOffset + 29] = ((w21 << 16) | (w22 >>> 16)) & 0xFFFFFFL;
+        values[valuesOffset + 30] = ((w22 << 8) | (w23 >>> 24)) & 0xFFFFFFL;
+        values[valuesOffset + 31] = (w23) & 0xFFFFFFL;
+    }
+
+    private static void unpack32Values25(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        values[valuesOffset] = w0 >>> 7;
+        values[valuesOffset + 1] = ((w0 << 18) | (w1 >>> 14)) & 0x1FFFFFFL;
+        values[valuesOffset + 2] = ((w1 << 11) | (w2 >>> 21)) & 0x1FFFFFFL;
+        values[valuesOffset + 3] = ((w2 << 4) | (w3 >>> 28)) & 0x1FFFFFFL;
+        values[valuesOffset + 4] = (w3 >>> 3) & 0x1FFFFFFL;
+        values[valuesOffset + 5] = ((w3 << 22) | (w4 >>> 10)) & 0x1FFFFFFL;
+        values[valuesOffset + 6] = ((w4 << 15) | (w5 >>> 17)) & 0x1FFFFFFL;
+        values[valuesOffset + 7] = ((w5 << 8) | (w6 >>> 24)) & 0x1FFFFFFL;
+        values[valuesOffset + 8] = ((w6 << 1) | (w7 >>> 31)) & 0x1FFFFFFL;
+        values[valuesOffset + 9] = (w7 >>> 6) & 0x1FFFFFFL;
+        values[valuesOffset + 10] = ((w7 << 19) | (w8 >>> 13)) & 0x1FFFFFFL;
+        values[valuesOffset + 11] = ((w8 << 12) | (w9 >>> 20)) & 0x1FFFFFFL;
+        values[valuesOffset + 12] = ((w9 << 5) | (w10 >>> 27)) & 0x1FFFFFFL;
+        values[valuesOffset + 13] = (w10 >>> 2) & 0x1FFFFFFL;
+        values[valuesOffset + 14] = ((w10 << 23) | (w11 >>> 9)) & 0x1FFFFFFL;
+        values[valuesOffset + 15] = ((w11 << 16) | (w12 >>> 16)) & 0x1FFFFFFL;
+        values[valuesOffset + 16] = ((w12 << 9) | (w13 >>> 23)) & 0x1FFFFFFL;
+        values[valuesOffset + 17] = ((w13 << 2) | (w14 >>> 30)) & 0x1FFFFFFL;
+        values[valuesOffset + 18] = (w14 >>> 5) & 0x1FFFFFFL;
+        values[valuesOffset + 19] = ((w14 << 20) | (w15 >>> 12)) & 0x1FFFFFFL;
+        values[valuesOffset + 20] = ((w15 << 13) | (w16 >>> 19)) & 0x1FFFFFFL;
+        values[valuesOffset + 21] = ((w16 << 6) | (w17 >>> 26)) & 0x1FFFFFFL;
+        values[valuesOffset + 22] = (w17 >>> 1) & 0x1FFFFFFL;
+        values[valuesOffset + 23] = ((w17 << 24) | (w18 >>> 8)) & 0x1FFFFFFL;
+        values[valuesOffset + 24] = ((w18 << 17) | (w19 >>> 15)) & 0x1FFFFFFL;
+        values[valuesOffset + 25] = ((w19 << 10) | (w20 >>> 22)) & 0x1FFFFFFL;
+        values[valuesOffset + 26] = ((w20 << 3) | (w21 >>> 29)) & 0x1FFFFFFL;
+        values[valuesOffset + 27] = (w21 >>> 4) & 0x1FFFFFFL;
+        values[valuesOffset + 28] = ((w21 << 21) | (w22 >>> 11)) & 0x1FFFFFFL;
+        values[valuesOffset + 29] = ((w22 << 14) | (w23 >>> 18)) & 0x1FFFFFFL;
+        values[valuesOffset + 30] = ((w23 << 7) | (w24 >>> 25)) & 0x1FFFFFFL;
+        values[valuesOffset + 31] = (w24) & 0x1FFFFFFL;
+    }
+
+    private static void unpack32Values26(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        values[valuesOffset] = w0 >>> 6;
+        values[valuesOffset + 1] = ((w0 << 20) | (w1 >>> 12)) & 0x3FFFFFFL;
+        values[valuesOffset + 2] = ((w1 << 14) | (w2 >>> 18)) & 0x3FFFFFFL;
+        values[valuesOffset + 3] = ((w2 << 8) | (w3 >>> 24)) & 0x3FFFFFFL;
+        values[valuesOffset + 4] = ((w3 << 2) | (w4 >>> 30)) & 0x3FFFFFFL;
+        values[valuesOffset + 5] = (w4 >>> 4) & 0x3FFFFFFL;
+        values[valuesOffset + 6] = ((w4 << 22) | (w5 >>> 10)) & 0x3FFFFFFL;
+        values[valuesOffset + 7] = ((w5 << 16) | (w6 >>> 16)) & 0x3FFFFFFL;
+        values[valuesOffset + 8] = ((w6 << 10) | (w7 >>> 22)) & 0x3FFFFFFL;
+        values[valuesOffset + 9] = ((w7 << 4) | (w8 >>> 28)) & 0x3FFFFFFL;
+        values[valuesOffset + 10] = (w8 >>> 2) & 0x3FFFFFFL;
+        values[valuesOffset + 11] = ((w8 << 24) | (w9 >>> 8)) & 0x3FFFFFFL;
+        values[valuesOffset + 12] = ((w9 << 18) | (w10 >>> 14)) & 0x3FFFFFFL;
+        values[valuesOffset + 13] = ((w10 << 12) | (w11 >>> 20)) & 0x3FFFFFFL;
+        values[valuesOffset + 14] = ((w11 << 6) | (w12 >>> 26)) & 0x3FFFFFFL;
+        values[valuesOffset + 15] = (w12) & 0x3FFFFFFL;
+        values[valuesOffset + 16] = w13 >>> 6;
+        values[valuesOffset + 17] = ((w13 << 20) | (w14 >>> 12)) & 0x3FFFFFFL;
+        values[valuesOffset + 18] = ((w14 << 14) | (w15 >>> 18)) & 0x3FFFFFFL;
+        values[valuesOffset + 19] = ((w15 << 8) | (w16 >>> 24)) & 0x3FFFFFFL;
+        values[valuesOffset + 20] = ((w16 << 2) | (w17 >>> 30)) & 0x3FFFFFFL;
+        values[valuesOffset + 21] = (w17 >>> 4) & 0x3FFFFFFL;
+        values[valuesOffset + 22] = ((w17 << 22) | (w18 >>> 10)) & 0x3FFFFFFL;
+        values[valuesOffset + 23] = ((w18 << 16) | (w19 >>> 16)) & 0x3FFFFFFL;
+        values[valuesOffset + 24] = ((w19 << 10) | (w20 >>> 22)) & 0x3FFFFFFL;
+        values[valuesOffset + 25] = ((w20 << 4) | (w21 >>> 28)) & 0x3FFFFFFL;
+        values[valuesOffset + 26] = (w21 >>> 2) & 0x3FFFFFFL;
+        values[valuesOffset + 27] = ((w21 << 24) | (w22 >>> 8)) & 0x3FFFFFFL;
+        values[valuesOffset + 28] = ((w22 << 18) | (w23 >>> 14)) & 0x3FFFFFFL;
+        values[valuesOffset + 29] = ((w23 << 12) | (w24 >>> 20)) & 0x3FFFFFFL;
+        values[valuesOffset + 30] = ((w24 << 6) | (w25 >>> 26)) & 0x3FFFFFFL;
+        values[valuesOffset + 31] = (w25) & 0x3FFFFFFL;
+    }
+
+    private static void unpack32Values27(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        values[valuesOffset] = w0 >>> 5;
+        values[valuesOffset + 1] = ((w0 << 22) | (w1 >>> 10)) & 0x7FFFFFFL;
+        values[valuesOffset + 2] = ((w1 << 17) | (w2 >>> 15)) & 0x7FFFFFFL;
+        values[valuesOffset + 3] = ((w2 << 12) | (w3 >>> 20)) & 0x7FFFFFFL;
+        values[valuesOffset + 4] = ((w3 << 7) | (w4 >>> 25)) & 0x7FFFFFFL;
+        values[valuesOffset + 5] = ((w4 << 2) | (w5 >>> 30)) & 0x7FFFFFFL;
+        values[valuesOffset + 6] = (w5 >>> 3) & 0x7FFFFFFL;
+        values[valuesOffset + 7] = ((w5 << 24) | (w6 >>> 8)) & 0x7FFFFFFL;
+        values[valuesOffset + 8] = ((w6 << 19) | (w7 >>> 13)) & 0x7FFFFFFL;
+        values[valuesOffset + 9] = ((w7 << 14) | (w8 >>> 18)) & 0x7FFFFFFL;
+        values[valuesOffset + 10] = ((w8 << 9) | (w9 >>> 23)) & 0x7FFFFFFL;
+        values[valuesOffset + 11] = ((w9 << 4) | (w10 >>> 28)) & 0x7FFFFFFL;
+        values[valuesOffset + 12] = (w10 >>> 1) & 0x7FFFFFFL;
+        values[valuesOffset + 13] = ((w10 << 26) | (w11 >>> 6)) & 0x7FFFFFFL;
+        values[valuesOffset + 14] = ((w11 << 21) | (w12 >>> 11)) & 0x7FFFFFFL;
+        values[valuesOffset + 15] = ((w12 << 16) | (w13 >>> 16)) & 0x7FFFFFFL;
+        values[valuesOffset + 16] = ((w13 << 11) | (w14 >>> 21)) & 0x7FFFFFFL;
+        values[valuesOffset + 17] = ((w14 << 6) | (w15 >>> 26)) & 0x7FFFFFFL;
+        values[valuesOffset + 18] = ((w15 << 1) | (w16 >>> 31)) & 0x7FFFFFFL;
+        values[valuesOffset + 19] = (w16 >>> 4) & 0x7FFFFFFL;
+        values[valuesOffset + 20] = ((w16 << 23) | (w17 >>> 9)) & 0x7FFFFFFL;
+        values[valuesOffset + 21] = ((w17 << 18) | (w18 >>> 14)) & 0x7FFFFFFL;
+        values[valuesOffset + 22] = ((w18 << 13) | (w19 >>> 19)) & 0x7FFFFFFL;
+        values[valuesOffset + 23] = ((w19 << 8) | (w20 >>> 24)) & 0x7FFFFFFL;
+        values[valuesOffset + 24] = ((w20 << 3) | (w21 >>> 29)) & 0x7FFFFFFL;
+        values[valuesOffset + 25] = (w21 >>> 2) & 0x7FFFFFFL;
+        values[valuesOffset + 26] = ((w21 << 25) | (w22 >>> 7)) & 0x7FFFFFFL;
+        values[valuesOffset + 27] = ((w22 << 20) | (w23 >>> 12)) & 0x7FFFFFFL;
+        values[valuesOffset + 28] = ((w23 << 15) | (w24 >>> 17)) & 0x7FFFFFFL;
+        values[valuesOffset + 29] = ((w24 << 10) | (w25 >>> 22)) & 0x7FFFFFFL;
+        values[valuesOffset + 30] = ((w25 << 5) | (w26 >>> 27)) & 0x7FFFFFFL;
+        values[valuesOffset + 31] = (w26) & 0x7FFFFFFL;
+    }
+
+    private static void unpack32Values28(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        values[valuesOffset] = w0 >>> 4;
+        values[valuesOffset + 1] = ((w0 << 24) | (w1 >>> 8)) & 0xFFFFFFFL;
+        values[valuesOffset + 2] = ((w1 << 20) | (w2 >>> 12)) & 0xFFFFFFFL;
+        values[valuesOffset + 3] = ((w2 << 16) | (w3 >>> 16)) & 0xFFFFFFFL;
+        values[valuesOffset + 4] = ((w3 << 12) | (w4 >>> 20)) & 0xFFFFFFFL;
+        values[valuesOffset + 5] = ((w4 << 8) | (w5 >>> 24)) & 0xFFFFFFFL;
+        values[valuesOffset + 6] = ((w5 << 4) | (w6 >>> 28)) & 0xFFFFFFFL;
+        values[valuesOffset + 7] = (w6) & 0xFFFFFFFL;
+        values[valuesOffset + 8] = w7 >>> 4;
+        values[valuesOffset + 9] = ((w7 << 24) | (w8 >>> 8)) & 0xFFFFFFFL;
+        values[valuesOffset + 10] = ((w8 << 20) | (w9 >>> 12)) & 0xFFFFFFFL;
+        values[valuesOffset + 11] = ((w9 << 16) | (w10 >>> 16)) & 0xFFFFFFFL;
+        values[valuesOffset + 12] = ((w10 << 12) | (w11 >>> 20)) & 0xFFFFFFFL;
+        values[valuesOffset + 13] = ((w11 << 8) | (w12 >>> 24)) & 0xFFFFFFFL;
+        values[valuesOffset + 14] = ((w12 << 4) | (w13 >>> 28)) & 0xFFFFFFFL;
+        values[valuesOffset + 15] = (w13) & 0xFFFFFFFL;
+        values[valuesOffset + 16] = w14 >>> 4;
+        values[valuesOffset + 17] = ((w14 << 24) | (w15 >>> 8)) & 0xFFFFFFFL;
+        values[valuesOffset + 18] = ((w15 << 20) | (w16 >>> 12)) & 0xFFFFFFFL;
+        values[valuesOffset + 19] = ((w16 << 16) | (w17 >>> 16)) & 0xFFFFFFFL;
+        values[valuesOffset + 20] = ((w17 << 12) | (w18 >>> 20)) & 0xFFFFFFFL;
+        values[valuesOffset + 21] = ((w18 << 8) | (w19 >>> 24)) & 0xFFFFFFFL;
+        values[valuesOffset + 22] = ((w19 << 4) | (w20 >>> 28)) & 0xFFFFFFFL;
+        values[valuesOffset + 23] = (w20) & 0xFFFFFFFL;
+        values[valuesOffset + 24] = w21 >>> 4;
+        values[valuesOffset + 25] = ((w21 << 24) | (w22 >>> 8)) & 0xFFFFFFFL;
+        values[valuesOffset + 26] = ((w22 << 20) | (w23 >>> 12)) & 0xFFFFFFFL;
+        values[valuesOffset + 27] = ((w23 << 16) | (w24 >>> 16)) & 0xFFFFFFFL;
+        values[valuesOffset + 28] = ((w24 << 12) | (w25 >>> 20)) & 0xFFFFFFFL;
+        values[valuesOffset + 29] = ((w25 << 8) | (w26 >>> 24)) & 0xFFFFFFFL;
+        values[valuesOffset + 30] = ((w26 << 4) | (w27 >>> 28)) & 0xFFFFFFFL;
+        values[valuesOffset + 31] = (w27) & 0xFFFFFFFL;
+    }
+
+    private static void unpack32Values29(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        values[valuesOffset] = w0 >>> 3;
+        values[valuesOffset + 1] = ((w0 << 26) | (w1 >>> 6)) & 0x1FFFFFFFL;
+        values[valuesOffset + 2] = ((w1 << 23) | (w2 >>> 9)) & 0x1FFFFFFFL;
+        values[valuesOffset + 3] = ((w2 << 20) | (w3 >>> 12)) & 0x1FFFFFFFL;
+        values[valuesOffset + 4] = ((w3 << 17) | (w4 >>> 15)) & 0x1FFFFFFFL;
+        values[valuesOffset + 5] = ((w4 << 14) | (w5 >>> 18)) & 0x1FFFFFFFL;
+        values[valuesOffset + 6] = ((w5 << 11) | (w6 >>> 21)) & 0x1FFFFFFFL;
+        values[valuesOffset + 7] = ((w6 << 8) | (w7 >>> 24)) & 0x1FFFFFFFL;
+        values[valuesOffset + 8] = ((w7 << 5) | (w8 >>> 27)) & 0x1FFFFFFFL;
+        values[valuesOffset + 9] = ((w8 << 2) | (w9 >>> 30)) & 0x1FFFFFFFL;
+        values[valuesOffset + 10] = (w9 >>> 1) & 0x1FFFFFFFL;
+        values[valuesOffset + 11] = ((w9 << 28) | (w10 >>> 4)) & 0x1FFFFFFFL;
+        values[valuesOffset + 12] = ((w10 << 25) | (w11 >>> 7)) & 0x1FFFFFFFL;
+        values[valuesOffset + 13] = ((w11 << 22) | (w12 >>> 10)) & 0x1FFFFFFFL;
+        values[valuesOffset + 14] = ((w12 << 19) | (w13 >>> 13)) & 0x1FFFFFFFL;
+        values[valuesOffset + 15] = ((w13 << 16) | (w14 >>> 16)) & 0x1FFFFFFFL;
+        values[valuesOffset + 16] = ((w14 << 13) | (w15 >>> 19)) & 0x1FFFFFFFL;
+        values[valuesOffset + 17] = ((w15 << 10) | (w16 >>> 22)) & 0x1FFFFFFFL;
+        values[valuesOffset + 18] = ((w16 << 7) | (w17 >>> 25)) & 0x1FFFFFFFL;
+        values[valuesOffset + 19] = ((w17 << 4) | (w18 >>> 28)) & 0x1FFFFFFFL;
+        values[valuesOffset + 20] = ((w18 << 1) | (w19 >>> 31)) & 0x1FFFFFFFL;
+        values[valuesOffset + 21] = (w19 >>> 2) & 0x1FFFFFFFL;
+        values[valuesOffset + 22] = ((w19 << 27) | (w20 >>> 5)) & 0x1FFFFFFFL;
+        values[valuesOffset + 23] = ((w20 << 24) | (w21 >>> 8)) & 0x1FFFFFFFL;
+        values[valuesOffset + 24] = ((w21 << 21) | (w22 >>> 11)) & 0x1FFFFFFFL;
+        values[valuesOffset + 25] = ((w22 << 18) | (w23 >>> 14)) & 0x1FFFFFFFL;
+        values[valuesOffset + 26] = ((w23 << 15) | (w24 >>> 17)) & 0x1FFFFFFFL;
+        values[valuesOffset + 27] = ((w24 << 12) | (w25 >>> 20)) & 0x1FFFFFFFL;
+        values[valuesOffset + 28] = ((w25 << 9) | (w26 >>> 23)) & 0x1FFFFFFFL;
+        values[valuesOffset + 29] = ((w26 << 6) | (w27 >>> 26)) & 0x1FFFFFFFL;
+        values[valuesOffset + 30] = ((w27 << 3) | (w28 >>> 29)) & 0x1FFFFFFFL;
+        values[valuesOffset + 31] = (w28) & 0x1FFFFFFFL;
+    }
+
+    private static void unpack32Values30(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        values[valuesOffset] = w0 >>> 2;
+        values[valuesOffset + 1] = ((w0 << 28) | (w1 >>> 4)) & 0x3FFFFFFFL;
+        values[valuesOffset + 2] = ((w1 << 26) | (w2 >>> 6)) & 0x3FFFFFFFL;
+        values[valuesOffset + 3] = ((w2 << 24) | (w3 >>> 8)) & 0x3FFFFFFFL;
+        values[valuesOffset + 4] = ((w3 << 22) | (w4 >>> 10)) & 0x3FFFFFFFL;
+        values[valuesOffset + 5] = ((w4 << 20) | (w5 >>> 12)) & 0x3FFFFFFFL;
+        values[valuesOffset + 6] = ((w5 << 18) | (w6 >>> 14)) & 0x3FFFFFFFL;
+        values[valuesOffset + 7] = ((w6 << 16) | (w7 >>> 16)) & 0x3FFFFFFFL;
+        values[valuesOffset + 8] = ((w7 << 14) | (w8 >>> 18)) & 0x3FFFFFFFL;
+        values[valuesOffset + 9] = ((w8 << 12) | (w9 >>> 20)) & 0x3FFFFFFFL;
+        values[valuesOffset + 10] = ((w9 << 10) | (w10 >>> 22)) & 0x3FFFFFFFL;
+        values[valuesOffset + 11] = ((w10 << 8) | (w11 >>> 24)) & 0x3FFFFFFFL;
+        values[valuesOffset + 12] = ((w11 << 6) | (w12 >>> 26)) & 0x3FFFFFFFL;
+        values[valuesOffset + 13] = ((w12 << 4) | (w13 >>> 28)) & 0x3FFFFFFFL;
+        values[valuesOffset + 14] = ((w13 << 2) | (w14 >>> 30)) & 0x3FFFFFFFL;
+        values[valuesOffset + 15] = (w14) & 0x3FFFFFFFL;
+        values[valuesOffset + 16] = w15 >>> 2;
+        values[valuesOffset + 17] = ((w15 << 28) | (w16 >>> 4)) & 0x3FFFFFFFL;
+        values[valuesOffset + 18] = ((w16 << 26) | (w17 >>> 6)) & 0x3FFFFFFFL;
+        values[valuesOffset + 19] = ((w17 << 24) | (w18 >>> 8)) & 0x3FFFFFFFL;
+        values[valuesOffset + 20] = ((w18 << 22) | (w19 >>> 10)) & 0x3FFFFFFFL;
+        values[valuesOffset + 21] = ((w19 << 20) | (w20 >>> 12)) & 0x3FFFFFFFL;
+        values[valuesOffset + 22] = ((w20 << 18) | (w21 >>> 14)) & 0x3FFFFFFFL;
+        values[valuesOffset + 23] = ((w21 << 16) | (w22 >>> 16)) & 0x3FFFFFFFL;
+        values[valuesOffset + 24] = ((w22 << 14) | (w23 >>> 18)) & 0x3FFFFFFFL;
+        values[valuesOffset + 25] = ((w23 << 12) | (w24 >>> 20)) & 0x3FFFFFFFL;
+        values[valuesOffset + 26] = ((w24 << 10) | (w25 >>> 22)) & 0x3FFFFFFFL;
+        values[valuesOffset + 27] = ((w25 << 8) | (w26 >>> 24)) & 0x3FFFFFFFL;
+        values[valuesOffset + 28] = ((w26 << 6) | (w27 >>> 26)) & 0x3FFFFFFFL;
+        values[valuesOffset + 29] = ((w27 << 4) | (w28 >>> 28)) & 0x3FFFFFFFL;
+        values[valuesOffset + 30] = ((w28 << 2) | (w29 >>> 30)) & 0x3FFFFFFFL;
+        values[valuesOffset + 31] = (w29) & 0x3FFFFFFFL;
+    }
+
+    private static void unpack32Values31(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        values[valuesOffset] = w0 >>> 1;
+        values[valuesOffset + 1] = ((w0 << 30) | (w1 >>> 2)) & 0x7FFFFFFFL;
+        values[valuesOffset + 2] = ((w1 << 29) | (w2 >>> 3)) & 0x7FFFFFFFL;
+        values[valuesOffset + 3] = ((w2 << 28) | (w3 >>> 4)) & 0x7FFFFFFFL;
+        values[valuesOffset + 4] = ((w3 << 27) | (w4 >>> 5)) & 0x7FFFFFFFL;
+        values[valuesOffset + 5] = ((w4 << 26) | (w5 >>> 6)) & 0x7FFFFFFFL;
+        values[valuesOffset + 6] = ((w5 << 25) | (w6 >>> 7)) & 0x7FFFFFFFL;
+        values[valuesOffset + 7] = ((w6 << 24) | (w7 >>> 8)) & 0x7FFFFFFFL;
+        values[valuesOffset + 8] = ((w7 << 23) | (w8 >>> 9)) & 0x7FFFFFFFL;
+        values[valuesOffset + 9] = ((w8 << 22) | (w9 >>> 10)) & 0x7FFFFFFFL;
+        values[valuesOffset + 10] = ((w9 << 21) | (w10 >>> 11)) & 0x7FFFFFFFL;
+        values[valuesOffset + 11] = ((w10 << 20) | (w11 >>> 12)) & 0x7FFFFFFFL;
+        values[valuesOffset + 12] = ((w11 << 19) | (w12 >>> 13)) & 0x7FFFFFFFL;
+        values[valuesOffset + 13] = ((w12 << 18) | (w13 >>> 14)) & 0x7FFFFFFFL;
+        values[valuesOffset + 14] = ((w13 << 17) | (w14 >>> 15)) & 0x7FFFFFFFL;
+        values[valuesOffset + 15] = ((w14 << 16) | (w15 >>> 16)) & 0x7FFFFFFFL;
+        values[valuesOffset + 16] = ((w15 << 15) | (w16 >>> 17)) & 0x7FFFFFFFL;
+        values[valuesOffset + 17] = ((w16 << 14) | (w17 >>> 18)) & 0x7FFFFFFFL;
+        values[valuesOffset + 18] = ((w17 << 13) | (w18 >>> 19)) & 0x7FFFFFFFL;
+        values[valuesOffset + 19] = ((w18 << 12) | (w19 >>> 20)) & 0x7FFFFFFFL;
+        values[valuesOffset + 20] = ((w19 << 11) | (w20 >>> 21)) & 0x7FFFFFFFL;
+        values[valuesOffset + 21] = ((w20 << 10) | (w21 >>> 22)) & 0x7FFFFFFFL;
+        values[valuesOffset + 22] = ((w21 << 9) | (w22 >>> 23)) & 0x7FFFFFFFL;
+        values[valuesOffset + 23] = ((w22 << 8) | (w23 >>> 24)) & 0x7FFFFFFFL;
+        values[valuesOffset + 24] = ((w23 << 7) | (w24 >>> 25)) & 0x7FFFFFFFL;
+        values[valuesOffset + 25] = ((w24 << 6) | (w25 >>> 26)) & 0x7FFFFFFFL;
+        values[valuesOffset + 26] = ((w25 << 5) | (w26 >>> 27)) & 0x7FFFFFFFL;
+        values[valuesOffset + 27] = ((w26 << 4) | (w27 >>> 28)) & 0x7FFFFFFFL;
+        values[valuesOffset + 28] = ((w27 << 3) | (w28 >>> 29)) & 0x7FFFFFFFL;
+        values[valuesOffset + 29] = ((w28 << 2) | (w29 >>> 30)) & 0x7FFFFFFFL;
+        values[valuesOffset + 30] = ((w29 << 1) | (w30 >>> 31)) & 0x7FFFFFFFL;
+        values[valuesOffset + 31] = (w30) & 0x7FFFFFFFL;
+    }
+
+    private static void unpack32Values32(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        values[valuesOffset] = w0;
+        values[valuesOffset + 1] = w1;
+        values[valuesOffset + 2] = w2;
+        values[valuesOffset + 3] = w3;
+        values[valuesOffset + 4] = w4;
+        values[valuesOffset + 5] = w5;
+        values[valuesOffset + 6] = w6;
+        values[valuesOffset + 7] = w7;
+        values[valuesOffset + 8] = w8;
+        values[valuesOffset + 9] = w9;
+        values[valuesOffset + 10] = w10;
+        values[valuesOffset + 11] = w11;
+        values[valuesOffset + 12] = w12;
+        values[valuesOffset + 13] = w13;
+        values[valuesOffset + 14] = w14;
+        values[valuesOffset + 15] = w15;
+        values[valuesOffset + 16] = w16;
+        values[valuesOffset + 17] = w17;
+        values[valuesOffset + 18] = w18;
+        values[valuesOffset + 19] = w19;
+        values[valuesOffset + 20] = w20;
+        values[valuesOffset + 21] = w21;
+        values[valuesOffset + 22] = w22;
+        values[valuesOffset + 23] = w23;
+        values[valuesOffset + 24] = w24;
+        values[valuesOffset + 25] = w25;
+        values[valuesOffset + 26] = w26;
+        values[valuesOffset + 27] = w27;
+        values[valuesOffset + 28] = w28;
+        values[valuesOffset + 29] = w29;
+        values[valuesOffset + 30] = w30;
+        values[valuesOffset + 31] = w31;
+    }
+
+    private static void unpack32Values33(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        values[valuesOffset] = (w0 << 1) | (w1 >>> 31);
+        values[valuesOffset + 1] = ((w1 << 2) | (w2 >>> 30)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 2] = ((w2 << 3) | (w3 >>> 29)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 3] = ((w3 << 4) | (w4 >>> 28)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 4] = ((w4 << 5) | (w5 >>> 27)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 5] = ((w5 << 6) | (w6 >>> 26)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 6] = ((w6 << 7) | (w7 >>> 25)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 7] = ((w7 << 8) | (w8 >>> 24)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 8] = ((w8 << 9) | (w9 >>> 23)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 9] = ((w9 << 10) | (w10 >>> 22)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 10] = ((w10 << 11) | (w11 >>> 21)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 11] = ((w11 << 12) | (w12 >>> 20)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 12] = ((w12 << 13) | (w13 >>> 19)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 13] = ((w13 << 14) | (w14 >>> 18)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 14] = ((w14 << 15) | (w15 >>> 17)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 15] = ((w15 << 16) | (w16 >>> 16)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 16] = ((w16 << 17) | (w17 >>> 15)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 17] = ((w17 << 18) | (w18 >>> 14)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 18] = ((w18 << 19) | (w19 >>> 13)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 19] = ((w19 << 20) | (w20 >>> 12)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 20] = ((w20 << 21) | (w21 >>> 11)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 21] = ((w21 << 22) | (w22 >>> 10)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 22] = ((w22 << 23) | (w23 >>> 9)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 23] = ((w23 << 24) | (w24 >>> 8)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 24] = ((w24 << 25) | (w25 >>> 7)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 25] = ((w25 << 26) | (w26 >>> 6)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 26] = ((w26 << 27) | (w27 >>> 5)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 27] = ((w27 << 28) | (w28 >>> 4)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 28] = ((w28 << 29) | (w29 >>> 3)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 29] = ((w29 << 30) | (w30 >>> 2)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 30] = ((w30 << 31) | (w31 >>> 1)) & 0x1FFFFFFFFL;
+        values[valuesOffset + 31] = ((w31 << 32) | (w32)) & 0x1FFFFFFFFL;
+    }
+
+    private static void unpack32Values34(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        values[valuesOffset] = (w0 << 2) | (w1 >>> 30);
+        values[valuesOffset + 1] = ((w1 << 4) | (w2 >>> 28)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 2] = ((w2 << 6) | (w3 >>> 26)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 3] = ((w3 << 8) | (w4 >>> 24)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 4] = ((w4 << 10) | (w5 >>> 22)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 5] = ((w5 << 12) | (w6 >>> 20)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 6] = ((w6 << 14) | (w7 >>> 18)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 7] = ((w7 << 16) | (w8 >>> 16)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 8] = ((w8 << 18) | (w9 >>> 14)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 9] = ((w9 << 20) | (w10 >>> 12)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 10] = ((w10 << 22) | (w11 >>> 10)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 11] = ((w11 << 24) | (w12 >>> 8)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 12] = ((w12 << 26) | (w13 >>> 6)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 13] = ((w13 << 28) | (w14 >>> 4)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 14] = ((w14 << 30) | (w15 >>> 2)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 15] = ((w15 << 32) | (w16)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 16] = (w17 << 2) | (w18 >>> 30);
+        values[valuesOffset + 17] = ((w18 << 4) | (w19 >>> 28)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 18] = ((w19 << 6) | (w20 >>> 26)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 19] = ((w20 << 8) | (w21 >>> 24)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 20] = ((w21 << 10) | (w22 >>> 22)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 21] = ((w22 << 12) | (w23 >>> 20)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 22] = ((w23 << 14) | (w24 >>> 18)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 23] = ((w24 << 16) | (w25 >>> 16)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 24] = ((w25 << 18) | (w26 >>> 14)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 25] = ((w26 << 20) | (w27 >>> 12)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 26] = ((w27 << 22) | (w28 >>> 10)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 27] = ((w28 << 24) | (w29 >>> 8)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 28] = ((w29 << 26) | (w30 >>> 6)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 29] = ((w30 << 28) | (w31 >>> 4)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 30] = ((w31 << 30) | (w32 >>> 2)) & 0x3FFFFFFFFL;
+        values[valuesOffset + 31] = ((w32 << 32) | (w33)) & 0x3FFFFFFFFL;
+    }
+
+    private static void unpack32Values35(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        values[valuesOffset] = (w0 << 3) | (w1 >>> 29);
+        values[valuesOffset + 1] = ((w1 << 6) | (w2 >>> 26)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 2] = ((w2 << 9) | (w3 >>> 23)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 3] = ((w3 << 12) | (w4 >>> 20)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 4] = ((w4 << 15) | (w5 >>> 17)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 5] = ((w5 << 18) | (w6 >>> 14)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 6] = ((w6 << 21) | (w7 >>> 11)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 7] = ((w7 << 24) | (w8 >>> 8)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 8] = ((w8 << 27) | (w9 >>> 5)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 9] = ((w9 << 30) | (w10 >>> 2)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 10] = ((w10 << 33) | (w11 << 1) | (w12 >>> 31)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 11] = ((w12 << 4) | (w13 >>> 28)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 12] = ((w13 << 7) | (w14 >>> 25)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 13] = ((w14 << 10) | (w15 >>> 22)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 14] = ((w15 << 13) | (w16 >>> 19)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 15] = ((w16 << 16) | (w17 >>> 16)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 16] = ((w17 << 19) | (w18 >>> 13)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 17] = ((w18 << 22) | (w19 >>> 10)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 18] = ((w19 << 25) | (w20 >>> 7)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 19] = ((w20 << 28) | (w21 >>> 4)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 20] = ((w21 << 31) | (w22 >>> 1)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 21] = ((w22 << 34) | (w23 << 2) | (w24 >>> 30)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 22] = ((w24 << 5) | (w25 >>> 27)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 23] = ((w25 << 8) | (w26 >>> 24)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 24] = ((w26 << 11) | (w27 >>> 21)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 25] = ((w27 << 14) | (w28 >>> 18)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 26] = ((w28 << 17) | (w29 >>> 15)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 27] = ((w29 << 20) | (w30 >>> 12)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 28] = ((w30 << 23) | (w31 >>> 9)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 29] = ((w31 << 26) | (w32 >>> 6)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 30] = ((w32 << 29) | (w33 >>> 3)) & 0x7FFFFFFFFL;
+        values[valuesOffset + 31] = ((w33 << 32) | (w34)) & 0x7FFFFFFFFL;
+    }
+
+    private static void unpack32Values36(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        values[valuesOffset] = (w0 << 4) | (w1 >>> 28);
+        values[valuesOffset + 1] = ((w1 << 8) | (w2 >>> 24)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w2 << 12) | (w3 >>> 20)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w3 << 16) | (w4 >>> 16)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w4 << 20) | (w5 >>> 12)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w5 << 24) | (w6 >>> 8)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w6 << 28) | (w7 >>> 4)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w7 << 32) | (w8)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 8] = (w9 << 4) | (w10 >>> 28);
+        values[valuesOffset + 9] = ((w10 << 8) | (w11 >>> 24)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w11 << 12) | (w12 >>> 20)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w12 << 16) | (w13 >>> 16)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w13 << 20) | (w14 >>> 12)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w14 << 24) | (w15 >>> 8)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w15 << 28) | (w16 >>> 4)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w16 << 32) | (w17)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 16] = (w18 << 4) | (w19 >>> 28);
+        values[valuesOffset + 17] = ((w19 << 8) | (w20 >>> 24)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w20 << 12) | (w21 >>> 20)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w21 << 16) | (w22 >>> 16)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w22 << 20) | (w23 >>> 12)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w23 << 24) | (w24 >>> 8)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w24 << 28) | (w25 >>> 4)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w25 << 32) | (w26)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 24] = (w27 << 4) | (w28 >>> 28);
+        values[valuesOffset + 25] = ((w28 << 8) | (w29 >>> 24)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w29 << 12) | (w30 >>> 20)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w30 << 16) | (w31 >>> 16)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w31 << 20) | (w32 >>> 12)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w32 << 24) | (w33 >>> 8)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w33 << 28) | (w34 >>> 4)) & 0xFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w34 << 32) | (w35)) & 0xFFFFFFFFFL;
+    }
+
+    private static void unpack32Values37(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        values[valuesOffset] = (w0 << 5) | (w1 >>> 27);
+        values[valuesOffset + 1] = ((w1 << 10) | (w2 >>> 22)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 2] = ((w2 << 15) | (w3 >>> 17)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 3] = ((w3 << 20) | (w4 >>> 12)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 4] = ((w4 << 25) | (w5 >>> 7)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 5] = ((w5 << 30) | (w6 >>> 2)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 6] = ((w6 << 35) | (w7 << 3) | (w8 >>> 29)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 7] = ((w8 << 8) | (w9 >>> 24)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 8] = ((w9 << 13) | (w10 >>> 19)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 9] = ((w10 << 18) | (w11 >>> 14)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 10] = ((w11 << 23) | (w12 >>> 9)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 11] = ((w12 << 28) | (w13 >>> 4)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 12] = ((w13 << 33) | (w14 << 1) | (w15 >>> 31)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 13] = ((w15 << 6) | (w16 >>> 26)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 14] = ((w16 << 11) | (w17 >>> 21)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 15] = ((w17 << 16) | (w18 >>> 16)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 16] = ((w18 << 21) | (w19 >>> 11)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 17] = ((w19 << 26) | (w20 >>> 6)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 18] = ((w20 << 31) | (w21 >>> 1)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 19] = ((w21 << 36) | (w22 << 4) | (w23 >>> 28)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 20] = ((w23 << 9) | (w24 >>> 23)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 21] = ((w24 << 14) | (w25 >>> 18)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 22] = ((w25 << 19) | (w26 >>> 13)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 23] = ((w26 << 24) | (w27 >>> 8)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 24] = ((w27 << 29) | (w28 >>> 3)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 25] = ((w28 << 34) | (w29 << 2) | (w30 >>> 30)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 26] = ((w30 << 7) | (w31 >>> 25)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 27] = ((w31 << 12) | (w32 >>> 20)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 28] = ((w32 << 17) | (w33 >>> 15)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 29] = ((w33 << 22) | (w34 >>> 10)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 30] = ((w34 << 27) | (w35 >>> 5)) & 0x1FFFFFFFFFL;
+        values[valuesOffset + 31] = ((w35 << 32) | (w36)) & 0x1FFFFFFFFFL;
+    }
+
+    private static void unpack32Values38(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        values[valuesOffset] = (w0 << 6) | (w1 >>> 26);
+        values[valuesOffset + 1] = ((w1 << 12) | (w2 >>> 20)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 2] = ((w2 << 18) | (w3 >>> 14)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 3] = ((w3 << 24) | (w4 >>> 8)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 4] = ((w4 << 30) | (w5 >>> 2)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 5] = ((w5 << 36) | (w6 << 4) | (w7 >>> 28)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 6] = ((w7 << 10) | (w8 >>> 22)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 7] = ((w8 << 16) | (w9 >>> 16)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 8] = ((w9 << 22) | (w10 >>> 10)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 9] = ((w10 << 28) | (w11 >>> 4)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 10] = ((w11 << 34) | (w12 << 2) | (w13 >>> 30)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 11] = ((w13 << 8) | (w14 >>> 24)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 12] = ((w14 << 14) | (w15 >>> 18)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 13] = ((w15 << 20) | (w16 >>> 12)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 14] = ((w16 << 26) | (w17 >>> 6)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 15] = ((w17 << 32) | (w18)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 16] = (w19 << 6) | (w20 >>> 26);
+        values[valuesOffset + 17] = ((w20 << 12) | (w21 >>> 20)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 18] = ((w21 << 18) | (w22 >>> 14)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 19] = ((w22 << 24) | (w23 >>> 8)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 20] = ((w23 << 30) | (w24 >>> 2)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 21] = ((w24 << 36) | (w25 << 4) | (w26 >>> 28)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 22] = ((w26 << 10) | (w27 >>> 22)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 23] = ((w27 << 16) | (w28 >>> 16)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 24] = ((w28 << 22) | (w29 >>> 10)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 25] = ((w29 << 28) | (w30 >>> 4)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 26] = ((w30 << 34) | (w31 << 2) | (w32 >>> 30)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 27] = ((w32 << 8) | (w33 >>> 24)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 28] = ((w33 << 14) | (w34 >>> 18)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 29] = ((w34 << 20) | (w35 >>> 12)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 30] = ((w35 << 26) | (w36 >>> 6)) & 0x3FFFFFFFFFL;
+        values[valuesOffset + 31] = ((w36 << 32) | (w37)) & 0x3FFFFFFFFFL;
+    }
+
+    private static void unpack32Values39(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        values[valuesOffset] = (w0 << 7) | (w1 >>> 25);
+        values[valuesOffset + 1] = ((w1 << 14) | (w2 >>> 18)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 2] = ((w2 << 21) | (w3 >>> 11)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 3] = ((w3 << 28) | (w4 >>> 4)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 4] = ((w4 << 35) | (w5 << 3) | (w6 >>> 29)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 5] = ((w6 << 10) | (w7 >>> 22)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 6] = ((w7 << 17) | (w8 >>> 15)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 7] = ((w8 << 24) | (w9 >>> 8)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 8] = ((w9 << 31) | (w10 >>> 1)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 9] = ((w10 << 38) | (w11 << 6) | (w12 >>> 26)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 10] = ((w12 << 13) | (w13 >>> 19)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 11] = ((w13 << 20) | (w14 >>> 12)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 12] = ((w14 << 27) | (w15 >>> 5)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 13] = ((w15 << 34) | (w16 << 2) | (w17 >>> 30)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 14] = ((w17 << 9) | (w18 >>> 23)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 15] = ((w18 << 16) | (w19 >>> 16)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 16] = ((w19 << 23) | (w20 >>> 9)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 17] = ((w20 << 30) | (w21 >>> 2)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 18] = ((w21 << 37) | (w22 << 5) | (w23 >>> 27)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 19] = ((w23 << 12) | (w24 >>> 20)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 20] = ((w24 << 19) | (w25 >>> 13)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 21] = ((w25 << 26) | (w26 >>> 6)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 22] = ((w26 << 33) | (w27 << 1) | (w28 >>> 31)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 23] = ((w28 << 8) | (w29 >>> 24)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 24] = ((w29 << 15) | (w30 >>> 17)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 25] = ((w30 << 22) | (w31 >>> 10)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 26] = ((w31 << 29) | (w32 >>> 3)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 27] = ((w32 << 36) | (w33 << 4) | (w34 >>> 28)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 28] = ((w34 << 11) | (w35 >>> 21)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 29] = ((w35 << 18) | (w36 >>> 14)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 30] = ((w36 << 25) | (w37 >>> 7)) & 0x7FFFFFFFFFL;
+        values[valuesOffset + 31] = ((w37 << 32) | (w38)) & 0x7FFFFFFFFFL;
+    }
+
+    private static void unpack32Values40(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        values[valuesOffset] = (w0 << 8) | (w1 >>> 24);
+        values[valuesOffset + 1] = ((w1 << 16) | (w2 >>> 16)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w2 << 24) | (w3 >>> 8)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w3 << 32) | (w4)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 4] = (w5 << 8) | (w6 >>> 24);
+        values[valuesOffset + 5] = ((w6 << 16) | (w7 >>> 16)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w7 << 24) | (w8 >>> 8)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w8 << 32) | (w9)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 8] = (w10 << 8) | (w11 >>> 24);
+        values[valuesOffset + 9] = ((w11 << 16) | (w12 >>> 16)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w12 << 24) | (w13 >>> 8)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w13 << 32) | (w14)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 12] = (w15 << 8) | (w16 >>> 24);
+        values[valuesOffset + 13] = ((w16 << 16) | (w17 >>> 16)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w17 << 24) | (w18 >>> 8)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w18 << 32) | (w19)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 16] = (w20 << 8) | (w21 >>> 24);
+        values[valuesOffset + 17] = ((w21 << 16) | (w22 >>> 16)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w22 << 24) | (w23 >>> 8)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w23 << 32) | (w24)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 20] = (w25 << 8) | (w26 >>> 24);
+        values[valuesOffset + 21] = ((w26 << 16) | (w27 >>> 16)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w27 << 24) | (w28 >>> 8)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w28 << 32) | (w29)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 24] = (w30 << 8) | (w31 >>> 24);
+        values[valuesOffset + 25] = ((w31 << 16) | (w32 >>> 16)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w32 << 24) | (w33 >>> 8)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w33 << 32) | (w34)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 28] = (w35 << 8) | (w36 >>> 24);
+        values[valuesOffset + 29] = ((w36 << 16) | (w37 >>> 16)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w37 << 24) | (w38 >>> 8)) & 0xFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w38 << 32) | (w39)) & 0xFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values41(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        values[valuesOffset] = (w0 << 9) | (w1 >>> 23);
+        values[valuesOffset + 1] = ((w1 << 18) | (w2 >>> 14)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w2 << 27) | (w3 >>> 5)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w3 << 36) | (w4 << 4) | (w5 >>> 28)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w5 << 13) | (w6 >>> 19)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w6 << 22) | (w7 >>> 10)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w7 << 31) | (w8 >>> 1)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w8 << 40) | (w9 << 8) | (w10 >>> 24)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w10 << 17) | (w11 >>> 15)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w11 << 26) | (w12 >>> 6)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w12 << 35) | (w13 << 3) | (w14 >>> 29)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w14 << 12) | (w15 >>> 20)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w15 << 21) | (w16 >>> 11)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w16 << 30) | (w17 >>> 2)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w17 << 39) | (w18 << 7) | (w19 >>> 25)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w19 << 16) | (w20 >>> 16)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 16] = ((w20 << 25) | (w21 >>> 7)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 17] = ((w21 << 34) | (w22 << 2) | (w23 >>> 30)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w23 << 11) | (w24 >>> 21)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w24 << 20) | (w25 >>> 12)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w25 << 29) | (w26 >>> 3)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w26 << 38) | (w27 << 6) | (w28 >>> 26)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w28 << 15) | (w29 >>> 17)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w29 << 24) | (w30 >>> 8)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w30 << 33) | (w31 << 1) | (w32 >>> 31)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w32 << 10) | (w33 >>> 22)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w33 << 19) | (w34 >>> 13)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w34 << 28) | (w35 >>> 4)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w35 << 37) | (w36 << 5) | (w37 >>> 27)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w37 << 14) | (w38 >>> 18)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w38 << 23) | (w39 >>> 9)) & 0x1FFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w39 << 32) | (w40)) & 0x1FFFFFFFFFFL;
+    }
+
+    private static void unpack32Values42(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        values[valuesOffset] = (w0 << 10) | (w1 >>> 22);
+        values[valuesOffset + 1] = ((w1 << 20) | (w2 >>> 12)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w2 << 30) | (w3 >>> 2)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w3 << 40) | (w4 << 8) | (w5 >>> 24)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w5 << 18) | (w6 >>> 14)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w6 << 28) | (w7 >>> 4)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w7 << 38) | (w8 << 6) | (w9 >>> 26)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w9 << 16) | (w10 >>> 16)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w10 << 26) | (w11 >>> 6)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w11 << 36) | (w12 << 4) | (w13 >>> 28)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w13 << 14) | (w14 >>> 18)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w14 << 24) | (w15 >>> 8)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w15 << 34) | (w16 << 2) | (w17 >>> 30)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w17 << 12) | (w18 >>> 20)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w18 << 22) | (w19 >>> 10)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w19 << 32) | (w20)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 16] = (w21 << 10) | (w22 >>> 22);
+        values[valuesOffset + 17] = ((w22 << 20) | (w23 >>> 12)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w23 << 30) | (w24 >>> 2)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w24 << 40) | (w25 << 8) | (w26 >>> 24)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w26 << 18) | (w27 >>> 14)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w27 << 28) | (w28 >>> 4)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w28 << 38) | (w29 << 6) | (w30 >>> 26)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w30 << 16) | (w31 >>> 16)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w31 << 26) | (w32 >>> 6)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w32 << 36) | (w33 << 4) | (w34 >>> 28)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w34 << 14) | (w35 >>> 18)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w35 << 24) | (w36 >>> 8)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w36 << 34) | (w37 << 2) | (w38 >>> 30)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w38 << 12) | (w39 >>> 20)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w39 << 22) | (w40 >>> 10)) & 0x3FFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w40 << 32) | (w41)) & 0x3FFFFFFFFFFL;
+    }
+
+    private static void unpack32Values43(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        values[valuesOffset] = (w0 << 11) | (w1 >>> 21);
+        values[valuesOffset + 1] = ((w1 << 22) | (w2 >>> 10)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w2 << 33) | (w3 << 1) | (w4 >>> 31)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w4 << 12) | (w5 >>> 20)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w5 << 23) | (w6 >>> 9)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w6 << 34) | (w7 << 2) | (w8 >>> 30)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w8 << 13) | (w9 >>> 19)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w9 << 24) | (w10 >>> 8)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w10 << 35) | (w11 << 3) | (w12 >>> 29)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w12 << 14) | (w13 >>> 18)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w13 << 25) | (w14 >>> 7)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w14 << 36) | (w15 << 4) | (w16 >>> 28)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w16 << 15) | (w17 >>> 17)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w17 << 26) | (w18 >>> 6)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w18 << 37) | (w19 << 5) | (w20 >>> 27)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w20 << 16) | (w21 >>> 16)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 16] = ((w21 << 27) | (w22 >>> 5)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 17] = ((w22 << 38) | (w23 << 6) | (w24 >>> 26)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w24 << 17) | (w25 >>> 15)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w25 << 28) | (w26 >>> 4)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w26 << 39) | (w27 << 7) | (w28 >>> 25)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w28 << 18) | (w29 >>> 14)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w29 << 29) | (w30 >>> 3)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w30 << 40) | (w31 << 8) | (w32 >>> 24)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w32 << 19) | (w33 >>> 13)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w33 << 30) | (w34 >>> 2)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w34 << 41) | (w35 << 9) | (w36 >>> 23)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w36 << 20) | (w37 >>> 12)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w37 << 31) | (w38 >>> 1)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w38 << 42) | (w39 << 10) | (w40 >>> 22)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w40 << 21) | (w41 >>> 11)) & 0x7FFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w41 << 32) | (w42)) & 0x7FFFFFFFFFFL;
+    }
+
+    private static void unpack32Values44(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        values[valuesOffset] = (w0 << 12) | (w1 >>> 20);
+        values[valuesOffset + 1] = ((w1 << 24) | (w2 >>> 8)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w2 << 36) | (w3 << 4) | (w4 >>> 28)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w4 << 16) | (w5 >>> 16)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w5 << 28) | (w6 >>> 4)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w6 << 40) | (w7 << 8) | (w8 >>> 24)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w8 << 20) | (w9 >>> 12)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w9 << 32) | (w10)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 8] = (w11 << 12) | (w12 >>> 20);
+        values[valuesOffset + 9] = ((w12 << 24) | (w13 >>> 8)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w13 << 36) | (w14 << 4) | (w15 >>> 28)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w15 << 16) | (w16 >>> 16)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w16 << 28) | (w17 >>> 4)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w17 << 40) | (w18 << 8) | (w19 >>> 24)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w19 << 20) | (w20 >>> 12)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w20 << 32) | (w21)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 16] = (w22 << 12) | (w23 >>> 20);
+        values[valuesOffset + 17] = ((w23 << 24) | (w24 >>> 8)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w24 << 36) | (w25 << 4) | (w26 >>> 28)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w26 << 16) | (w27 >>> 16)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w27 << 28) | (w28 >>> 4)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w28 << 40) | (w29 << 8) | (w30 >>> 24)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w30 << 20) | (w31 >>> 12)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w31 << 32) | (w32)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 24] = (w33 << 12) | (w34 >>> 20);
+        values[valuesOffset + 25] = ((w34 << 24) | (w35 >>> 8)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w35 << 36) | (w36 << 4) | (w37 >>> 28)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w37 << 16) | (w38 >>> 16)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w38 << 28) | (w39 >>> 4)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w39 << 40) | (w40 << 8) | (w41 >>> 24)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w41 << 20) | (w42 >>> 12)) & 0xFFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w42 << 32) | (w43)) & 0xFFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values45(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        values[valuesOffset] = (w0 << 13) | (w1 >>> 19);
+        values[valuesOffset + 1] = ((w1 << 26) | (w2 >>> 6)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w2 << 39) | (w3 << 7) | (w4 >>> 25)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w4 << 20) | (w5 >>> 12)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w5 << 33) | (w6 << 1) | (w7 >>> 31)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w7 << 14) | (w8 >>> 18)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w8 << 27) | (w9 >>> 5)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w9 << 40) | (w10 << 8) | (w11 >>> 24)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w11 << 21) | (w12 >>> 11)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w12 << 34) | (w13 << 2) | (w14 >>> 30)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w14 << 15) | (w15 >>> 17)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w15 << 28) | (w16 >>> 4)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w16 << 41) | (w17 << 9) | (w18 >>> 23)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w18 << 22) | (w19 >>> 10)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w19 << 35) | (w20 << 3) | (w21 >>> 29)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w21 << 16) | (w22 >>> 16)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 16] = ((w22 << 29) | (w23 >>> 3)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 17] = ((w23 << 42) | (w24 << 10) | (w25 >>> 22)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w25 << 23) | (w26 >>> 9)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w26 << 36) | (w27 << 4) | (w28 >>> 28)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w28 << 17) | (w29 >>> 15)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w29 << 30) | (w30 >>> 2)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w30 << 43) | (w31 << 11) | (w32 >>> 21)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w32 << 24) | (w33 >>> 8)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w33 << 37) | (w34 << 5) | (w35 >>> 27)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w35 << 18) | (w36 >>> 14)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w36 << 31) | (w37 >>> 1)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w37 << 44) | (w38 << 12) | (w39 >>> 20)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w39 << 25) | (w40 >>> 7)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w40 << 38) | (w41 << 6) | (w42 >>> 26)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w42 << 19) | (w43 >>> 13)) & 0x1FFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w43 << 32) | (w44)) & 0x1FFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values46(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        values[valuesOffset] = (w0 << 14) | (w1 >>> 18);
+        values[valuesOffset + 1] = ((w1 << 28) | (w2 >>> 4)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w2 << 42) | (w3 << 10) | (w4 >>> 22)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w4 << 24) | (w5 >>> 8)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w5 << 38) | (w6 << 6) | (w7 >>> 26)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w7 << 20) | (w8 >>> 12)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w8 << 34) | (w9 << 2) | (w10 >>> 30)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w10 << 16) | (w11 >>> 16)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w11 << 30) | (w12 >>> 2)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w12 << 44) | (w13 << 12) | (w14 >>> 20)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w14 << 26) | (w15 >>> 6)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w15 << 40) | (w16 << 8) | (w17 >>> 24)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w17 << 22) | (w18 >>> 10)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w18 << 36) | (w19 << 4) | (w20 >>> 28)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w20 << 18) | (w21 >>> 14)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w21 << 32) | (w22)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 16] = (w23 << 14) | (w24 >>> 18);
+        values[valuesOffset + 17] = ((w24 << 28) | (w25 >>> 4)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w25 << 42) | (w26 << 10) | (w27 >>> 22)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w27 << 24) | (w28 >>> 8)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w28 << 38) | (w29 << 6) | (w30 >>> 26)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w30 << 20) | (w31 >>> 12)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w31 << 34) | (w32 << 2) | (w33 >>> 30)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w33 << 16) | (w34 >>> 16)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w34 << 30) | (w35 >>> 2)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w35 << 44) | (w36 << 12) | (w37 >>> 20)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w37 << 26) | (w38 >>> 6)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w38 << 40) | (w39 << 8) | (w40 >>> 24)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w40 << 22) | (w41 >>> 10)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w41 << 36) | (w42 << 4) | (w43 >>> 28)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w43 << 18) | (w44 >>> 14)) & 0x3FFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w44 << 32) | (w45)) & 0x3FFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values47(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        values[valuesOffset] = (w0 << 15) | (w1 >>> 17);
+        values[valuesOffset + 1] = ((w1 << 30) | (w2 >>> 2)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w2 << 45) | (w3 << 13) | (w4 >>> 19)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w4 << 28) | (w5 >>> 4)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w5 << 43) | (w6 << 11) | (w7 >>> 21)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w7 << 26) | (w8 >>> 6)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w8 << 41) | (w9 << 9) | (w10 >>> 23)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w10 << 24) | (w11 >>> 8)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w11 << 39) | (w12 << 7) | (w13 >>> 25)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w13 << 22) | (w14 >>> 10)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w14 << 37) | (w15 << 5) | (w16 >>> 27)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w16 << 20) | (w17 >>> 12)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w17 << 35) | (w18 << 3) | (w19 >>> 29)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w19 << 18) | (w20 >>> 14)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w20 << 33) | (w21 << 1) | (w22 >>> 31)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w22 << 16) | (w23 >>> 16)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 16] = ((w23 << 31) | (w24 >>> 1)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 17] = ((w24 << 46) | (w25 << 14) | (w26 >>> 18)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w26 << 29) | (w27 >>> 3)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w27 << 44) | (w28 << 12) | (w29 >>> 20)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w29 << 27) | (w30 >>> 5)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w30 << 42) | (w31 << 10) | (w32 >>> 22)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w32 << 25) | (w33 >>> 7)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w33 << 40) | (w34 << 8) | (w35 >>> 24)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w35 << 23) | (w36 >>> 9)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w36 << 38) | (w37 << 6) | (w38 >>> 26)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w38 << 21) | (w39 >>> 11)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w39 << 36) | (w40 << 4) | (w41 >>> 28)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w41 << 19) | (w42 >>> 13)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w42 << 34) | (w43 << 2) | (w44 >>> 30)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w44 << 17) | (w45 >>> 15)) & 0x7FFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w45 << 32) | (w46)) & 0x7FFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values48(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        long w47 = (buf[offset + 188] & 0xFFL) << 24 | (buf[offset + 189] & 0xFF) << 16 | (buf[offset + 190] & 0xFF) << 8 | (buf[offset + 191] & 0xFF);
+        values[valuesOffset] = (w0 << 16) | (w1 >>> 16);
+        values[valuesOffset + 1] = ((w1 << 32) | (w2)) & 0xFFFFFFFFFFFFL;
+        values[valuesOffset + 2] = (w3 << 16) | (w4 >>> 16);
+        values[valuesOffset + 3] = ((w4 << 32) | (w5)) & 0xFFFFFFFFFFFFL;
+        values[valuesOffset + 4] = (w6 << 16) | (w7 >>> 16);
+        values[valuesOffset + 5] = ((w7 << 32) | (w8)) & 0xFFFFFFFFFFFFL;
+        values[valuesOffset + 6] = (w9 << 16) | (w10 >>> 16);
+        values[valuesOffset + 7] = ((w10 << 32) | (w11)) & 0xFFFFFFFFFFFFL;
+        values[valuesOffset + 8] = (w12 << 16) | (w13 >>> 16);
+        values[valuesOffset + 9] = ((w13 << 32) | (w14)) & 0xFFFFFFFFFFFFL;
+        values[valuesOffset + 10] = (w15 << 16) | (w16 >>> 16);
+        values[valuesOffset + 11] = ((w16 << 32) | (w17)) & 0xFFFFFFFFFFFFL;
+        values[valuesOffset + 12] = (w18 << 16) | (w19 >>> 16);
+        values[valuesOffset + 13] = ((w19 << 32) | (w20)) & 0xFFFFFFFFFFFFL;
+        values[valuesOffset + 14] = (w21 << 16) | (w22 >>> 16);
+        values[valuesOffset + 15] = ((w22 << 32) | (w23)) & 0xFFFFFFFFFFFFL;
+        values[valuesOffset + 16] = (w24 << 16) | (w25 >>> 16);
+        values[valuesOffset + 17] = ((w25 << 32) | (w26)) & 0xFFFFFFFFFFFFL;
+        values[valuesOffset + 18] = (w27 << 16) | (w28 >>> 16);
+        values[valuesOffset + 19] = ((w28 << 32) | (w29)) & 0xFFFFFFFFFFFFL;
+        values[valuesOffset + 20] = (w30 << 16) | (w31 >>> 16);
+        values[valuesOffset + 21] = ((w31 << 32) | (w32)) & 0xFFFFFFFFFFFFL;
+        values[valuesOffset + 22] = (w33 << 16) | (w34 >>> 16);
+        values[valuesOffset + 23] = ((w34 << 32) | (w35)) & 0xFFFFFFFFFFFFL;
+        values[valuesOffset + 24] = (w36 << 16) | (w37 >>> 16);
+        values[valuesOffset + 25] = ((w37 << 32) | (w38)) & 0xFFFFFFFFFFFFL;
+        values[valuesOffset + 26] = (w39 << 16) | (w40 >>> 16);
+        values[valuesOffset + 27] = ((w40 << 32) | (w41)) & 0xFFFFFFFFFFFFL;
+        values[valuesOffset + 28] = (w42 << 16) | (w43 >>> 16);
+        values[valuesOffset + 29] = ((w43 << 32) | (w44)) & 0xFFFFFFFFFFFFL;
+        values[valuesOffset + 30] = (w45 << 16) | (w46 >>> 16);
+        values[valuesOffset + 31] = ((w46 << 32) | (w47)) & 0xFFFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values49(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        long w47 = (buf[offset + 188] & 0xFFL) << 24 | (buf[offset + 189] & 0xFF) << 16 | (buf[offset + 190] & 0xFF) << 8 | (buf[offset + 191] & 0xFF);
+        long w48 = (buf[offset + 192] & 0xFFL) << 24 | (buf[offset + 193] & 0xFF) << 16 | (buf[offset + 194] & 0xFF) << 8 | (buf[offset + 195] & 0xFF);
+        values[valuesOffset] = (w0 << 17) | (w1 >>> 15);
+        values[valuesOffset + 1] = ((w1 << 34) | (w2 << 2) | (w3 >>> 30)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w3 << 19) | (w4 >>> 13)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w4 << 36) | (w5 << 4) | (w6 >>> 28)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w6 << 21) | (w7 >>> 11)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w7 << 38) | (w8 << 6) | (w9 >>> 26)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w9 << 23) | (w10 >>> 9)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w10 << 40) | (w11 << 8) | (w12 >>> 24)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w12 << 25) | (w13 >>> 7)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w13 << 42) | (w14 << 10) | (w15 >>> 22)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w15 << 27) | (w16 >>> 5)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w16 << 44) | (w17 << 12) | (w18 >>> 20)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w18 << 29) | (w19 >>> 3)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w19 << 46) | (w20 << 14) | (w21 >>> 18)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w21 << 31) | (w22 >>> 1)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w22 << 48) | (w23 << 16) | (w24 >>> 16)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 16] = ((w24 << 33) | (w25 << 1) | (w26 >>> 31)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 17] = ((w26 << 18) | (w27 >>> 14)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w27 << 35) | (w28 << 3) | (w29 >>> 29)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w29 << 20) | (w30 >>> 12)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w30 << 37) | (w31 << 5) | (w32 >>> 27)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w32 << 22) | (w33 >>> 10)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w33 << 39) | (w34 << 7) | (w35 >>> 25)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w35 << 24) | (w36 >>> 8)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w36 << 41) | (w37 << 9) | (w38 >>> 23)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w38 << 26) | (w39 >>> 6)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w39 << 43) | (w40 << 11) | (w41 >>> 21)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w41 << 28) | (w42 >>> 4)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w42 << 45) | (w43 << 13) | (w44 >>> 19)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w44 << 30) | (w45 >>> 2)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w45 << 47) | (w46 << 15) | (w47 >>> 17)) & 0x1FFFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w47 << 32) | (w48)) & 0x1FFFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values50(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        long w47 = (buf[offset + 188] & 0xFFL) << 24 | (buf[offset + 189] & 0xFF) << 16 | (buf[offset + 190] & 0xFF) << 8 | (buf[offset + 191] & 0xFF);
+        long w48 = (buf[offset + 192] & 0xFFL) << 24 | (buf[offset + 193] & 0xFF) << 16 | (buf[offset + 194] & 0xFF) << 8 | (buf[offset + 195] & 0xFF);
+        long w49 = (buf[offset + 196] & 0xFFL) << 24 | (buf[offset + 197] & 0xFF) << 16 | (buf[offset + 198] & 0xFF) << 8 | (buf[offset + 199] & 0xFF);
+        values[valuesOffset] = (w0 << 18) | (w1 >>> 14);
+        values[valuesOffset + 1] = ((w1 << 36) | (w2 << 4) | (w3 >>> 28)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w3 << 22) | (w4 >>> 10)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w4 << 40) | (w5 << 8) | (w6 >>> 24)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w6 << 26) | (w7 >>> 6)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w7 << 44) | (w8 << 12) | (w9 >>> 20)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w9 << 30) | (w10 >>> 2)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w10 << 48) | (w11 << 16) | (w12 >>> 16)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w12 << 34) | (w13 << 2) | (w14 >>> 30)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w14 << 20) | (w15 >>> 12)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w15 << 38) | (w16 << 6) | (w17 >>> 26)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w17 << 24) | (w18 >>> 8)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w18 << 42) | (w19 << 10) | (w20 >>> 22)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w20 << 28) | (w21 >>> 4)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w21 << 46) | (w22 << 14) | (w23 >>> 18)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w23 << 32) | (w24)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 16] = (w25 << 18) | (w26 >>> 14);
+        values[valuesOffset + 17] = ((w26 << 36) | (w27 << 4) | (w28 >>> 28)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w28 << 22) | (w29 >>> 10)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w29 << 40) | (w30 << 8) | (w31 >>> 24)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w31 << 26) | (w32 >>> 6)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w32 << 44) | (w33 << 12) | (w34 >>> 20)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w34 << 30) | (w35 >>> 2)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w35 << 48) | (w36 << 16) | (w37 >>> 16)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w37 << 34) | (w38 << 2) | (w39 >>> 30)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w39 << 20) | (w40 >>> 12)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w40 << 38) | (w41 << 6) | (w42 >>> 26)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w42 << 24) | (w43 >>> 8)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w43 << 42) | (w44 << 10) | (w45 >>> 22)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w45 << 28) | (w46 >>> 4)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w46 << 46) | (w47 << 14) | (w48 >>> 18)) & 0x3FFFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w48 << 32) | (w49)) & 0x3FFFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values51(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        long w47 = (buf[offset + 188] & 0xFFL) << 24 | (buf[offset + 189] & 0xFF) << 16 | (buf[offset + 190] & 0xFF) << 8 | (buf[offset + 191] & 0xFF);
+        long w48 = (buf[offset + 192] & 0xFFL) << 24 | (buf[offset + 193] & 0xFF) << 16 | (buf[offset + 194] & 0xFF) << 8 | (buf[offset + 195] & 0xFF);
+        long w49 = (buf[offset + 196] & 0xFFL) << 24 | (buf[offset + 197] & 0xFF) << 16 | (buf[offset + 198] & 0xFF) << 8 | (buf[offset + 199] & 0xFF);
+        long w50 = (buf[offset + 200] & 0xFFL) << 24 | (buf[offset + 201] & 0xFF) << 16 | (buf[offset + 202] & 0xFF) << 8 | (buf[offset + 203] & 0xFF);
+        values[valuesOffset] = (w0 << 19) | (w1 >>> 13);
+        values[valuesOffset + 1] = ((w1 << 38) | (w2 << 6) | (w3 >>> 26)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w3 << 25) | (w4 >>> 7)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w4 << 44) | (w5 << 12) | (w6 >>> 20)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w6 << 31) | (w7 >>> 1)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w7 << 50) | (w8 << 18) | (w9 >>> 14)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w9 << 37) | (w10 << 5) | (w11 >>> 27)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w11 << 24) | (w12 >>> 8)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w12 << 43) | (w13 << 11) | (w14 >>> 21)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w14 << 30) | (w15 >>> 2)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w15 << 49) | (w16 << 17) | (w17 >>> 15)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w17 << 36) | (w18 << 4) | (w19 >>> 28)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w19 << 23) | (w20 >>> 9)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w20 << 42) | (w21 << 10) | (w22 >>> 22)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w22 << 29) | (w23 >>> 3)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w23 << 48) | (w24 << 16) | (w25 >>> 16)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 16] = ((w25 << 35) | (w26 << 3) | (w27 >>> 29)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 17] = ((w27 << 22) | (w28 >>> 10)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w28 << 41) | (w29 << 9) | (w30 >>> 23)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w30 << 28) | (w31 >>> 4)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w31 << 47) | (w32 << 15) | (w33 >>> 17)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w33 << 34) | (w34 << 2) | (w35 >>> 30)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w35 << 21) | (w36 >>> 11)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w36 << 40) | (w37 << 8) | (w38 >>> 24)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w38 << 27) | (w39 >>> 5)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w39 << 46) | (w40 << 14) | (w41 >>> 18)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w41 << 33) | (w42 << 1) | (w43 >>> 31)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w43 << 20) | (w44 >>> 12)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w44 << 39) | (w45 << 7) | (w46 >>> 25)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w46 << 26) | (w47 >>> 6)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w47 << 45) | (w48 << 13) | (w49 >>> 19)) & 0x7FFFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w49 << 32) | (w50)) & 0x7FFFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values52(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        long w47 = (buf[offset + 188] & 0xFFL) << 24 | (buf[offset + 189] & 0xFF) << 16 | (buf[offset + 190] & 0xFF) << 8 | (buf[offset + 191] & 0xFF);
+        long w48 = (buf[offset + 192] & 0xFFL) << 24 | (buf[offset + 193] & 0xFF) << 16 | (buf[offset + 194] & 0xFF) << 8 | (buf[offset + 195] & 0xFF);
+        long w49 = (buf[offset + 196] & 0xFFL) << 24 | (buf[offset + 197] & 0xFF) << 16 | (buf[offset + 198] & 0xFF) << 8 | (buf[offset + 199] & 0xFF);
+        long w50 = (buf[offset + 200] & 0xFFL) << 24 | (buf[offset + 201] & 0xFF) << 16 | (buf[offset + 202] & 0xFF) << 8 | (buf[offset + 203] & 0xFF);
+        long w51 = (buf[offset + 204] & 0xFFL) << 24 | (buf[offset + 205] & 0xFF) << 16 | (buf[offset + 206] & 0xFF) << 8 | (buf[offset + 207] & 0xFF);
+        values[valuesOffset] = (w0 << 20) | (w1 >>> 12);
+        values[valuesOffset + 1] = ((w1 << 40) | (w2 << 8) | (w3 >>> 24)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w3 << 28) | (w4 >>> 4)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w4 << 48) | (w5 << 16) | (w6 >>> 16)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w6 << 36) | (w7 << 4) | (w8 >>> 28)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w8 << 24) | (w9 >>> 8)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w9 << 44) | (w10 << 12) | (w11 >>> 20)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w11 << 32) | (w12)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 8] = (w13 << 20) | (w14 >>> 12);
+        values[valuesOffset + 9] = ((w14 << 40) | (w15 << 8) | (w16 >>> 24)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w16 << 28) | (w17 >>> 4)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w17 << 48) | (w18 << 16) | (w19 >>> 16)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w19 << 36) | (w20 << 4) | (w21 >>> 28)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w21 << 24) | (w22 >>> 8)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w22 << 44) | (w23 << 12) | (w24 >>> 20)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w24 << 32) | (w25)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 16] = (w26 << 20) | (w27 >>> 12);
+        values[valuesOffset + 17] = ((w27 << 40) | (w28 << 8) | (w29 >>> 24)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w29 << 28) | (w30 >>> 4)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w30 << 48) | (w31 << 16) | (w32 >>> 16)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w32 << 36) | (w33 << 4) | (w34 >>> 28)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w34 << 24) | (w35 >>> 8)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w35 << 44) | (w36 << 12) | (w37 >>> 20)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w37 << 32) | (w38)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 24] = (w39 << 20) | (w40 >>> 12);
+        values[valuesOffset + 25] = ((w40 << 40) | (w41 << 8) | (w42 >>> 24)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w42 << 28) | (w43 >>> 4)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w43 << 48) | (w44 << 16) | (w45 >>> 16)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w45 << 36) | (w46 << 4) | (w47 >>> 28)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w47 << 24) | (w48 >>> 8)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w48 << 44) | (w49 << 12) | (w50 >>> 20)) & 0xFFFFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w50 << 32) | (w51)) & 0xFFFFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values53(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        long w47 = (buf[offset + 188] & 0xFFL) << 24 | (buf[offset + 189] & 0xFF) << 16 | (buf[offset + 190] & 0xFF) << 8 | (buf[offset + 191] & 0xFF);
+        long w48 = (buf[offset + 192] & 0xFFL) << 24 | (buf[offset + 193] & 0xFF) << 16 | (buf[offset + 194] & 0xFF) << 8 | (buf[offset + 195] & 0xFF);
+        long w49 = (buf[offset + 196] & 0xFFL) << 24 | (buf[offset + 197] & 0xFF) << 16 | (buf[offset + 198] & 0xFF) << 8 | (buf[offset + 199] & 0xFF);
+        long w50 = (buf[offset + 200] & 0xFFL) << 24 | (buf[offset + 201] & 0xFF) << 16 | (buf[offset + 202] & 0xFF) << 8 | (buf[offset + 203] & 0xFF);
+        long w51 = (buf[offset + 204] & 0xFFL) << 24 | (buf[offset + 205] & 0xFF) << 16 | (buf[offset + 206] & 0xFF) << 8 | (buf[offset + 207] & 0xFF);
+        long w52 = (buf[offset + 208] & 0xFFL) << 24 | (buf[offset + 209] & 0xFF) << 16 | (buf[offset + 210] & 0xFF) << 8 | (buf[offset + 211] & 0xFF);
+        values[valuesOffset] = (w0 << 21) | (w1 >>> 11);
+        values[valuesOffset + 1] = ((w1 << 42) | (w2 << 10) | (w3 >>> 22)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w3 << 31) | (w4 >>> 1)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w4 << 52) | (w5 << 20) | (w6 >>> 12)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w6 << 41) | (w7 << 9) | (w8 >>> 23)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w8 << 30) | (w9 >>> 2)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w9 << 51) | (w10 << 19) | (w11 >>> 13)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w11 << 40) | (w12 << 8) | (w13 >>> 24)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w13 << 29) | (w14 >>> 3)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w14 << 50) | (w15 << 18) | (w16 >>> 14)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w16 << 39) | (w17 << 7) | (w18 >>> 25)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w18 << 28) | (w19 >>> 4)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w19 << 49) | (w20 << 17) | (w21 >>> 15)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w21 << 38) | (w22 << 6) | (w23 >>> 26)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w23 << 27) | (w24 >>> 5)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w24 << 48) | (w25 << 16) | (w26 >>> 16)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 16] = ((w26 << 37) | (w27 << 5) | (w28 >>> 27)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 17] = ((w28 << 26) | (w29 >>> 6)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w29 << 47) | (w30 << 15) | (w31 >>> 17)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w31 << 36) | (w32 << 4) | (w33 >>> 28)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w33 << 25) | (w34 >>> 7)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w34 << 46) | (w35 << 14) | (w36 >>> 18)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w36 << 35) | (w37 << 3) | (w38 >>> 29)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w38 << 24) | (w39 >>> 8)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w39 << 45) | (w40 << 13) | (w41 >>> 19)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w41 << 34) | (w42 << 2) | (w43 >>> 30)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w43 << 23) | (w44 >>> 9)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w44 << 44) | (w45 << 12) | (w46 >>> 20)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w46 << 33) | (w47 << 1) | (w48 >>> 31)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w48 << 22) | (w49 >>> 10)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w49 << 43) | (w50 << 11) | (w51 >>> 21)) & 0x1FFFFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w51 << 32) | (w52)) & 0x1FFFFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values54(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        long w47 = (buf[offset + 188] & 0xFFL) << 24 | (buf[offset + 189] & 0xFF) << 16 | (buf[offset + 190] & 0xFF) << 8 | (buf[offset + 191] & 0xFF);
+        long w48 = (buf[offset + 192] & 0xFFL) << 24 | (buf[offset + 193] & 0xFF) << 16 | (buf[offset + 194] & 0xFF) << 8 | (buf[offset + 195] & 0xFF);
+        long w49 = (buf[offset + 196] & 0xFFL) << 24 | (buf[offset + 197] & 0xFF) << 16 | (buf[offset + 198] & 0xFF) << 8 | (buf[offset + 199] & 0xFF);
+        long w50 = (buf[offset + 200] & 0xFFL) << 24 | (buf[offset + 201] & 0xFF) << 16 | (buf[offset + 202] & 0xFF) << 8 | (buf[offset + 203] & 0xFF);
+        long w51 = (buf[offset + 204] & 0xFFL) << 24 | (buf[offset + 205] & 0xFF) << 16 | (buf[offset + 206] & 0xFF) << 8 | (buf[offset + 207] & 0xFF);
+        long w52 = (buf[offset + 208] & 0xFFL) << 24 | (buf[offset + 209] & 0xFF) << 16 | (buf[offset + 210] & 0xFF) << 8 | (buf[offset + 211] & 0xFF);
+        long w53 = (buf[offset + 212] & 0xFFL) << 24 | (buf[offset + 213] & 0xFF) << 16 | (buf[offset + 214] & 0xFF) << 8 | (buf[offset + 215] & 0xFF);
+        values[valuesOffset] = (w0 << 22) | (w1 >>> 10);
+        values[valuesOffset + 1] = ((w1 << 44) | (w2 << 12) | (w3 >>> 20)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w3 << 34) | (w4 << 2) | (w5 >>> 30)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w5 << 24) | (w6 >>> 8)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w6 << 46) | (w7 << 14) | (w8 >>> 18)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w8 << 36) | (w9 << 4) | (w10 >>> 28)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w10 << 26) | (w11 >>> 6)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w11 << 48) | (w12 << 16) | (w13 >>> 16)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w13 << 38) | (w14 << 6) | (w15 >>> 26)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w15 << 28) | (w16 >>> 4)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w16 << 50) | (w17 << 18) | (w18 >>> 14)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w18 << 40) | (w19 << 8) | (w20 >>> 24)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w20 << 30) | (w21 >>> 2)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w21 << 52) | (w22 << 20) | (w23 >>> 12)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w23 << 42) | (w24 << 10) | (w25 >>> 22)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w25 << 32) | (w26)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 16] = (w27 << 22) | (w28 >>> 10);
+        values[valuesOffset + 17] = ((w28 << 44) | (w29 << 12) | (w30 >>> 20)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w30 << 34) | (w31 << 2) | (w32 >>> 30)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w32 << 24) | (w33 >>> 8)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w33 << 46) | (w34 << 14) | (w35 >>> 18)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w35 << 36) | (w36 << 4) | (w37 >>> 28)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w37 << 26) | (w38 >>> 6)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w38 << 48) | (w39 << 16) | (w40 >>> 16)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w40 << 38) | (w41 << 6) | (w42 >>> 26)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w42 << 28) | (w43 >>> 4)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w43 << 50) | (w44 << 18) | (w45 >>> 14)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w45 << 40) | (w46 << 8) | (w47 >>> 24)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w47 << 30) | (w48 >>> 2)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w48 << 52) | (w49 << 20) | (w50 >>> 12)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w50 << 42) | (w51 << 10) | (w52 >>> 22)) & 0x3FFFFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w52 << 32) | (w53)) & 0x3FFFFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values55(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        long w47 = (buf[offset + 188] & 0xFFL) << 24 | (buf[offset + 189] & 0xFF) << 16 | (buf[offset + 190] & 0xFF) << 8 | (buf[offset + 191] & 0xFF);
+        long w48 = (buf[offset + 192] & 0xFFL) << 24 | (buf[offset + 193] & 0xFF) << 16 | (buf[offset + 194] & 0xFF) << 8 | (buf[offset + 195] & 0xFF);
+        long w49 = (buf[offset + 196] & 0xFFL) << 24 | (buf[offset + 197] & 0xFF) << 16 | (buf[offset + 198] & 0xFF) << 8 | (buf[offset + 199] & 0xFF);
+        long w50 = (buf[offset + 200] & 0xFFL) << 24 | (buf[offset + 201] & 0xFF) << 16 | (buf[offset + 202] & 0xFF) << 8 | (buf[offset + 203] & 0xFF);
+        long w51 = (buf[offset + 204] & 0xFFL) << 24 | (buf[offset + 205] & 0xFF) << 16 | (buf[offset + 206] & 0xFF) << 8 | (buf[offset + 207] & 0xFF);
+        long w52 = (buf[offset + 208] & 0xFFL) << 24 | (buf[offset + 209] & 0xFF) << 16 | (buf[offset + 210] & 0xFF) << 8 | (buf[offset + 211] & 0xFF);
+        long w53 = (buf[offset + 212] & 0xFFL) << 24 | (buf[offset + 213] & 0xFF) << 16 | (buf[offset + 214] & 0xFF) << 8 | (buf[offset + 215] & 0xFF);
+        long w54 = (buf[offset + 216] & 0xFFL) << 24 | (buf[offset + 217] & 0xFF) << 16 | (buf[offset + 218] & 0xFF) << 8 | (buf[offset + 219] & 0xFF);
+        values[valuesOffset] = (w0 << 23) | (w1 >>> 9);
+        values[valuesOffset + 1] = ((w1 << 46) | (w2 << 14) | (w3 >>> 18)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w3 << 37) | (w4 << 5) | (w5 >>> 27)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w5 << 28) | (w6 >>> 4)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w6 << 51) | (w7 << 19) | (w8 >>> 13)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w8 << 42) | (w9 << 10) | (w10 >>> 22)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w10 << 33) | (w11 << 1) | (w12 >>> 31)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w12 << 24) | (w13 >>> 8)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w13 << 47) | (w14 << 15) | (w15 >>> 17)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w15 << 38) | (w16 << 6) | (w17 >>> 26)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w17 << 29) | (w18 >>> 3)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w18 << 52) | (w19 << 20) | (w20 >>> 12)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w20 << 43) | (w21 << 11) | (w22 >>> 21)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w22 << 34) | (w23 << 2) | (w24 >>> 30)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w24 << 25) | (w25 >>> 7)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w25 << 48) | (w26 << 16) | (w27 >>> 16)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 16] = ((w27 << 39) | (w28 << 7) | (w29 >>> 25)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 17] = ((w29 << 30) | (w30 >>> 2)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w30 << 53) | (w31 << 21) | (w32 >>> 11)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w32 << 44) | (w33 << 12) | (w34 >>> 20)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w34 << 35) | (w35 << 3) | (w36 >>> 29)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w36 << 26) | (w37 >>> 6)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w37 << 49) | (w38 << 17) | (w39 >>> 15)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w39 << 40) | (w40 << 8) | (w41 >>> 24)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w41 << 31) | (w42 >>> 1)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w42 << 54) | (w43 << 22) | (w44 >>> 10)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w44 << 45) | (w45 << 13) | (w46 >>> 19)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w46 << 36) | (w47 << 4) | (w48 >>> 28)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w48 << 27) | (w49 >>> 5)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w49 << 50) | (w50 << 18) | (w51 >>> 14)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w51 << 41) | (w52 << 9) | (w53 >>> 23)) & 0x7FFFFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w53 << 32) | (w54)) & 0x7FFFFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values56(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        long w47 = (buf[offset + 188] & 0xFFL) << 24 | (buf[offset + 189] & 0xFF) << 16 | (buf[offset + 190] & 0xFF) << 8 | (buf[offset + 191] & 0xFF);
+        long w48 = (buf[offset + 192] & 0xFFL) << 24 | (buf[offset + 193] & 0xFF) << 16 | (buf[offset + 194] & 0xFF) << 8 | (buf[offset + 195] & 0xFF);
+        long w49 = (buf[offset + 196] & 0xFFL) << 24 | (buf[offset + 197] & 0xFF) << 16 | (buf[offset + 198] & 0xFF) << 8 | (buf[offset + 199] & 0xFF);
+        long w50 = (buf[offset + 200] & 0xFFL) << 24 | (buf[offset + 201] & 0xFF) << 16 | (buf[offset + 202] & 0xFF) << 8 | (buf[offset + 203] & 0xFF);
+        long w51 = (buf[offset + 204] & 0xFFL) << 24 | (buf[offset + 205] & 0xFF) << 16 | (buf[offset + 206] & 0xFF) << 8 | (buf[offset + 207] & 0xFF);
+        long w52 = (buf[offset + 208] & 0xFFL) << 24 | (buf[offset + 209] & 0xFF) << 16 | (buf[offset + 210] & 0xFF) << 8 | (buf[offset + 211] & 0xFF);
+        long w53 = (buf[offset + 212] & 0xFFL) << 24 | (buf[offset + 213] & 0xFF) << 16 | (buf[offset + 214] & 0xFF) << 8 | (buf[offset + 215] & 0xFF);
+        long w54 = (buf[offset + 216] & 0xFFL) << 24 | (buf[offset + 217] & 0xFF) << 16 | (buf[offset + 218] & 0xFF) << 8 | (buf[offset + 219] & 0xFF);
+        long w55 = (buf[offset + 220] & 0xFFL) << 24 | (buf[offset + 221] & 0xFF) << 16 | (buf[offset + 222] & 0xFF) << 8 | (buf[offset + 223] & 0xFF);
+        values[valuesOffset] = (w0 << 24) | (w1 >>> 8);
+        values[valuesOffset + 1] = ((w1 << 48) | (w2 << 16) | (w3 >>> 16)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w3 << 40) | (w4 << 8) | (w5 >>> 24)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w5 << 32) | (w6)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 4] = (w7 << 24) | (w8 >>> 8);
+        values[valuesOffset + 5] = ((w8 << 48) | (w9 << 16) | (w10 >>> 16)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w10 << 40) | (w11 << 8) | (w12 >>> 24)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w12 << 32) | (w13)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 8] = (w14 << 24) | (w15 >>> 8);
+        values[valuesOffset + 9] = ((w15 << 48) | (w16 << 16) | (w17 >>> 16)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w17 << 40) | (w18 << 8) | (w19 >>> 24)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w19 << 32) | (w20)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 12] = (w21 << 24) | (w22 >>> 8);
+        values[valuesOffset + 13] = ((w22 << 48) | (w23 << 16) | (w24 >>> 16)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w24 << 40) | (w25 << 8) | (w26 >>> 24)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w26 << 32) | (w27)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 16] = (w28 << 24) | (w29 >>> 8);
+        values[valuesOffset + 17] = ((w29 << 48) | (w30 << 16) | (w31 >>> 16)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w31 << 40) | (w32 << 8) | (w33 >>> 24)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w33 << 32) | (w34)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 20] = (w35 << 24) | (w36 >>> 8);
+        values[valuesOffset + 21] = ((w36 << 48) | (w37 << 16) | (w38 >>> 16)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w38 << 40) | (w39 << 8) | (w40 >>> 24)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w40 << 32) | (w41)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 24] = (w42 << 24) | (w43 >>> 8);
+        values[valuesOffset + 25] = ((w43 << 48) | (w44 << 16) | (w45 >>> 16)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w45 << 40) | (w46 << 8) | (w47 >>> 24)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w47 << 32) | (w48)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 28] = (w49 << 24) | (w50 >>> 8);
+        values[valuesOffset + 29] = ((w50 << 48) | (w51 << 16) | (w52 >>> 16)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w52 << 40) | (w53 << 8) | (w54 >>> 24)) & 0xFFFFFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w54 << 32) | (w55)) & 0xFFFFFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values57(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        long w47 = (buf[offset + 188] & 0xFFL) << 24 | (buf[offset + 189] & 0xFF) << 16 | (buf[offset + 190] & 0xFF) << 8 | (buf[offset + 191] & 0xFF);
+        long w48 = (buf[offset + 192] & 0xFFL) << 24 | (buf[offset + 193] & 0xFF) << 16 | (buf[offset + 194] & 0xFF) << 8 | (buf[offset + 195] & 0xFF);
+        long w49 = (buf[offset + 196] & 0xFFL) << 24 | (buf[offset + 197] & 0xFF) << 16 | (buf[offset + 198] & 0xFF) << 8 | (buf[offset + 199] & 0xFF);
+        long w50 = (buf[offset + 200] & 0xFFL) << 24 | (buf[offset + 201] & 0xFF) << 16 | (buf[offset + 202] & 0xFF) << 8 | (buf[offset + 203] & 0xFF);
+        long w51 = (buf[offset + 204] & 0xFFL) << 24 | (buf[offset + 205] & 0xFF) << 16 | (buf[offset + 206] & 0xFF) << 8 | (buf[offset + 207] & 0xFF);
+        long w52 = (buf[offset + 208] & 0xFFL) << 24 | (buf[offset + 209] & 0xFF) << 16 | (buf[offset + 210] & 0xFF) << 8 | (buf[offset + 211] & 0xFF);
+        long w53 = (buf[offset + 212] & 0xFFL) << 24 | (buf[offset + 213] & 0xFF) << 16 | (buf[offset + 214] & 0xFF) << 8 | (buf[offset + 215] & 0xFF);
+        long w54 = (buf[offset + 216] & 0xFFL) << 24 | (buf[offset + 217] & 0xFF) << 16 | (buf[offset + 218] & 0xFF) << 8 | (buf[offset + 219] & 0xFF);
+        long w55 = (buf[offset + 220] & 0xFFL) << 24 | (buf[offset + 221] & 0xFF) << 16 | (buf[offset + 222] & 0xFF) << 8 | (buf[offset + 223] & 0xFF);
+        long w56 = (buf[offset + 224] & 0xFFL) << 24 | (buf[offset + 225] & 0xFF) << 16 | (buf[offset + 226] & 0xFF) << 8 | (buf[offset + 227] & 0xFF);
+        values[valuesOffset] = (w0 << 25) | (w1 >>> 7);
+        values[valuesOffset + 1] = ((w1 << 50) | (w2 << 18) | (w3 >>> 14)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w3 << 43) | (w4 << 11) | (w5 >>> 21)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w5 << 36) | (w6 << 4) | (w7 >>> 28)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w7 << 29) | (w8 >>> 3)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w8 << 54) | (w9 << 22) | (w10 >>> 10)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w10 << 47) | (w11 << 15) | (w12 >>> 17)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w12 << 40) | (w13 << 8) | (w14 >>> 24)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w14 << 33) | (w15 << 1) | (w16 >>> 31)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w16 << 26) | (w17 >>> 6)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w17 << 51) | (w18 << 19) | (w19 >>> 13)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w19 << 44) | (w20 << 12) | (w21 >>> 20)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w21 << 37) | (w22 << 5) | (w23 >>> 27)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w23 << 30) | (w24 >>> 2)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w24 << 55) | (w25 << 23) | (w26 >>> 9)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w26 << 48) | (w27 << 16) | (w28 >>> 16)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 16] = ((w28 << 41) | (w29 << 9) | (w30 >>> 23)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 17] = ((w30 << 34) | (w31 << 2) | (w32 >>> 30)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w32 << 27) | (w33 >>> 5)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w33 << 52) | (w34 << 20) | (w35 >>> 12)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w35 << 45) | (w36 << 13) | (w37 >>> 19)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w37 << 38) | (w38 << 6) | (w39 >>> 26)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w39 << 31) | (w40 >>> 1)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w40 << 56) | (w41 << 24) | (w42 >>> 8)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w42 << 49) | (w43 << 17) | (w44 >>> 15)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w44 << 42) | (w45 << 10) | (w46 >>> 22)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w46 << 35) | (w47 << 3) | (w48 >>> 29)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w48 << 28) | (w49 >>> 4)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w49 << 53) | (w50 << 21) | (w51 >>> 11)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w51 << 46) | (w52 << 14) | (w53 >>> 18)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w53 << 39) | (w54 << 7) | (w55 >>> 25)) & 0x1FFFFFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w55 << 32) | (w56)) & 0x1FFFFFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values58(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        long w47 = (buf[offset + 188] & 0xFFL) << 24 | (buf[offset + 189] & 0xFF) << 16 | (buf[offset + 190] & 0xFF) << 8 | (buf[offset + 191] & 0xFF);
+        long w48 = (buf[offset + 192] & 0xFFL) << 24 | (buf[offset + 193] & 0xFF) << 16 | (buf[offset + 194] & 0xFF) << 8 | (buf[offset + 195] & 0xFF);
+        long w49 = (buf[offset + 196] & 0xFFL) << 24 | (buf[offset + 197] & 0xFF) << 16 | (buf[offset + 198] & 0xFF) << 8 | (buf[offset + 199] & 0xFF);
+        long w50 = (buf[offset + 200] & 0xFFL) << 24 | (buf[offset + 201] & 0xFF) << 16 | (buf[offset + 202] & 0xFF) << 8 | (buf[offset + 203] & 0xFF);
+        long w51 = (buf[offset + 204] & 0xFFL) << 24 | (buf[offset + 205] & 0xFF) << 16 | (buf[offset + 206] & 0xFF) << 8 | (buf[offset + 207] & 0xFF);
+        long w52 = (buf[offset + 208] & 0xFFL) << 24 | (buf[offset + 209] & 0xFF) << 16 | (buf[offset + 210] & 0xFF) << 8 | (buf[offset + 211] & 0xFF);
+        long w53 = (buf[offset + 212] & 0xFFL) << 24 | (buf[offset + 213] & 0xFF) << 16 | (buf[offset + 214] & 0xFF) << 8 | (buf[offset + 215] & 0xFF);
+        long w54 = (buf[offset + 216] & 0xFFL) << 24 | (buf[offset + 217] & 0xFF) << 16 | (buf[offset + 218] & 0xFF) << 8 | (buf[offset + 219] & 0xFF);
+        long w55 = (buf[offset + 220] & 0xFFL) << 24 | (buf[offset + 221] & 0xFF) << 16 | (buf[offset + 222] & 0xFF) << 8 | (buf[offset + 223] & 0xFF);
+        long w56 = (buf[offset + 224] & 0xFFL) << 24 | (buf[offset + 225] & 0xFF) << 16 | (buf[offset + 226] & 0xFF) << 8 | (buf[offset + 227] & 0xFF);
+        long w57 = (buf[offset + 228] & 0xFFL) << 24 | (buf[offset + 229] & 0xFF) << 16 | (buf[offset + 230] & 0xFF) << 8 | (buf[offset + 231] & 0xFF);
+        values[valuesOffset] = (w0 << 26) | (w1 >>> 6);
+        values[valuesOffset + 1] = ((w1 << 52) | (w2 << 20) | (w3 >>> 12)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w3 << 46) | (w4 << 14) | (w5 >>> 18)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w5 << 40) | (w6 << 8) | (w7 >>> 24)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w7 << 34) | (w8 << 2) | (w9 >>> 30)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w9 << 28) | (w10 >>> 4)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w10 << 54) | (w11 << 22) | (w12 >>> 10)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w12 << 48) | (w13 << 16) | (w14 >>> 16)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w14 << 42) | (w15 << 10) | (w16 >>> 22)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w16 << 36) | (w17 << 4) | (w18 >>> 28)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w18 << 30) | (w19 >>> 2)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w19 << 56) | (w20 << 24) | (w21 >>> 8)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w21 << 50) | (w22 << 18) | (w23 >>> 14)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w23 << 44) | (w24 << 12) | (w25 >>> 20)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w25 << 38) | (w26 << 6) | (w27 >>> 26)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w27 << 32) | (w28)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 16] = (w29 << 26) | (w30 >>> 6);
+        values[valuesOffset + 17] = ((w30 << 52) | (w31 << 20) | (w32 >>> 12)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w32 << 46) | (w33 << 14) | (w34 >>> 18)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w34 << 40) | (w35 << 8) | (w36 >>> 24)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w36 << 34) | (w37 << 2) | (w38 >>> 30)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w38 << 28) | (w39 >>> 4)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w39 << 54) | (w40 << 22) | (w41 >>> 10)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w41 << 48) | (w42 << 16) | (w43 >>> 16)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w43 << 42) | (w44 << 10) | (w45 >>> 22)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w45 << 36) | (w46 << 4) | (w47 >>> 28)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w47 << 30) | (w48 >>> 2)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w48 << 56) | (w49 << 24) | (w50 >>> 8)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w50 << 50) | (w51 << 18) | (w52 >>> 14)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w52 << 44) | (w53 << 12) | (w54 >>> 20)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w54 << 38) | (w55 << 6) | (w56 >>> 26)) & 0x3FFFFFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w56 << 32) | (w57)) & 0x3FFFFFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values59(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        long w47 = (buf[offset + 188] & 0xFFL) << 24 | (buf[offset + 189] & 0xFF) << 16 | (buf[offset + 190] & 0xFF) << 8 | (buf[offset + 191] & 0xFF);
+        long w48 = (buf[offset + 192] & 0xFFL) << 24 | (buf[offset + 193] & 0xFF) << 16 | (buf[offset + 194] & 0xFF) << 8 | (buf[offset + 195] & 0xFF);
+        long w49 = (buf[offset + 196] & 0xFFL) << 24 | (buf[offset + 197] & 0xFF) << 16 | (buf[offset + 198] & 0xFF) << 8 | (buf[offset + 199] & 0xFF);
+        long w50 = (buf[offset + 200] & 0xFFL) << 24 | (buf[offset + 201] & 0xFF) << 16 | (buf[offset + 202] & 0xFF) << 8 | (buf[offset + 203] & 0xFF);
+        long w51 = (buf[offset + 204] & 0xFFL) << 24 | (buf[offset + 205] & 0xFF) << 16 | (buf[offset + 206] & 0xFF) << 8 | (buf[offset + 207] & 0xFF);
+        long w52 = (buf[offset + 208] & 0xFFL) << 24 | (buf[offset + 209] & 0xFF) << 16 | (buf[offset + 210] & 0xFF) << 8 | (buf[offset + 211] & 0xFF);
+        long w53 = (buf[offset + 212] & 0xFFL) << 24 | (buf[offset + 213] & 0xFF) << 16 | (buf[offset + 214] & 0xFF) << 8 | (buf[offset + 215] & 0xFF);
+        long w54 = (buf[offset + 216] & 0xFFL) << 24 | (buf[offset + 217] & 0xFF) << 16 | (buf[offset + 218] & 0xFF) << 8 | (buf[offset + 219] & 0xFF);
+        long w55 = (buf[offset + 220] & 0xFFL) << 24 | (buf[offset + 221] & 0xFF) << 16 | (buf[offset + 222] & 0xFF) << 8 | (buf[offset + 223] & 0xFF);
+        long w56 = (buf[offset + 224] & 0xFFL) << 24 | (buf[offset + 225] & 0xFF) << 16 | (buf[offset + 226] & 0xFF) << 8 | (buf[offset + 227] & 0xFF);
+        long w57 = (buf[offset + 228] & 0xFFL) << 24 | (buf[offset + 229] & 0xFF) << 16 | (buf[offset + 230] & 0xFF) << 8 | (buf[offset + 231] & 0xFF);
+        long w58 = (buf[offset + 232] & 0xFFL) << 24 | (buf[offset + 233] & 0xFF) << 16 | (buf[offset + 234] & 0xFF) << 8 | (buf[offset + 235] & 0xFF);
+        values[valuesOffset] = (w0 << 27) | (w1 >>> 5);
+        values[valuesOffset + 1] = ((w1 << 54) | (w2 << 22) | (w3 >>> 10)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w3 << 49) | (w4 << 17) | (w5 >>> 15)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w5 << 44) | (w6 << 12) | (w7 >>> 20)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w7 << 39) | (w8 << 7) | (w9 >>> 25)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w9 << 34) | (w10 << 2) | (w11 >>> 30)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w11 << 29) | (w12 >>> 3)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w12 << 56) | (w13 << 24) | (w14 >>> 8)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w14 << 51) | (w15 << 19) | (w16 >>> 13)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w16 << 46) | (w17 << 14) | (w18 >>> 18)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w18 << 41) | (w19 << 9) | (w20 >>> 23)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w20 << 36) | (w21 << 4) | (w22 >>> 28)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w22 << 31) | (w23 >>> 1)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w23 << 58) | (w24 << 26) | (w25 >>> 6)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w25 << 53) | (w26 << 21) | (w27 >>> 11)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w27 << 48) | (w28 << 16) | (w29 >>> 16)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 16] = ((w29 << 43) | (w30 << 11) | (w31 >>> 21)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 17] = ((w31 << 38) | (w32 << 6) | (w33 >>> 26)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w33 << 33) | (w34 << 1) | (w35 >>> 31)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w35 << 28) | (w36 >>> 4)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w36 << 55) | (w37 << 23) | (w38 >>> 9)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w38 << 50) | (w39 << 18) | (w40 >>> 14)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w40 << 45) | (w41 << 13) | (w42 >>> 19)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w42 << 40) | (w43 << 8) | (w44 >>> 24)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w44 << 35) | (w45 << 3) | (w46 >>> 29)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w46 << 30) | (w47 >>> 2)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w47 << 57) | (w48 << 25) | (w49 >>> 7)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w49 << 52) | (w50 << 20) | (w51 >>> 12)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w51 << 47) | (w52 << 15) | (w53 >>> 17)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w53 << 42) | (w54 << 10) | (w55 >>> 22)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w55 << 37) | (w56 << 5) | (w57 >>> 27)) & 0x7FFFFFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w57 << 32) | (w58)) & 0x7FFFFFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values60(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        long w47 = (buf[offset + 188] & 0xFFL) << 24 | (buf[offset + 189] & 0xFF) << 16 | (buf[offset + 190] & 0xFF) << 8 | (buf[offset + 191] & 0xFF);
+        long w48 = (buf[offset + 192] & 0xFFL) << 24 | (buf[offset + 193] & 0xFF) << 16 | (buf[offset + 194] & 0xFF) << 8 | (buf[offset + 195] & 0xFF);
+        long w49 = (buf[offset + 196] & 0xFFL) << 24 | (buf[offset + 197] & 0xFF) << 16 | (buf[offset + 198] & 0xFF) << 8 | (buf[offset + 199] & 0xFF);
+        long w50 = (buf[offset + 200] & 0xFFL) << 24 | (buf[offset + 201] & 0xFF) << 16 | (buf[offset + 202] & 0xFF) << 8 | (buf[offset + 203] & 0xFF);
+        long w51 = (buf[offset + 204] & 0xFFL) << 24 | (buf[offset + 205] & 0xFF) << 16 | (buf[offset + 206] & 0xFF) << 8 | (buf[offset + 207] & 0xFF);
+        long w52 = (buf[offset + 208] & 0xFFL) << 24 | (buf[offset + 209] & 0xFF) << 16 | (buf[offset + 210] & 0xFF) << 8 | (buf[offset + 211] & 0xFF);
+        long w53 = (buf[offset + 212] & 0xFFL) << 24 | (buf[offset + 213] & 0xFF) << 16 | (buf[offset + 214] & 0xFF) << 8 | (buf[offset + 215] & 0xFF);
+        long w54 = (buf[offset + 216] & 0xFFL) << 24 | (buf[offset + 217] & 0xFF) << 16 | (buf[offset + 218] & 0xFF) << 8 | (buf[offset + 219] & 0xFF);
+        long w55 = (buf[offset + 220] & 0xFFL) << 24 | (buf[offset + 221] & 0xFF) << 16 | (buf[offset + 222] & 0xFF) << 8 | (buf[offset + 223] & 0xFF);
+        long w56 = (buf[offset + 224] & 0xFFL) << 24 | (buf[offset + 225] & 0xFF) << 16 | (buf[offset + 226] & 0xFF) << 8 | (buf[offset + 227] & 0xFF);
+        long w57 = (buf[offset + 228] & 0xFFL) << 24 | (buf[offset + 229] & 0xFF) << 16 | (buf[offset + 230] & 0xFF) << 8 | (buf[offset + 231] & 0xFF);
+        long w58 = (buf[offset + 232] & 0xFFL) << 24 | (buf[offset + 233] & 0xFF) << 16 | (buf[offset + 234] & 0xFF) << 8 | (buf[offset + 235] & 0xFF);
+        long w59 = (buf[offset + 236] & 0xFFL) << 24 | (buf[offset + 237] & 0xFF) << 16 | (buf[offset + 238] & 0xFF) << 8 | (buf[offset + 239] & 0xFF);
+        values[valuesOffset] = (w0 << 28) | (w1 >>> 4);
+        values[valuesOffset + 1] = ((w1 << 56) | (w2 << 24) | (w3 >>> 8)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w3 << 52) | (w4 << 20) | (w5 >>> 12)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w5 << 48) | (w6 << 16) | (w7 >>> 16)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w7 << 44) | (w8 << 12) | (w9 >>> 20)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w9 << 40) | (w10 << 8) | (w11 >>> 24)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w11 << 36) | (w12 << 4) | (w13 >>> 28)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w13 << 32) | (w14)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 8] = (w15 << 28) | (w16 >>> 4);
+        values[valuesOffset + 9] = ((w16 << 56) | (w17 << 24) | (w18 >>> 8)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w18 << 52) | (w19 << 20) | (w20 >>> 12)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w20 << 48) | (w21 << 16) | (w22 >>> 16)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w22 << 44) | (w23 << 12) | (w24 >>> 20)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w24 << 40) | (w25 << 8) | (w26 >>> 24)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w26 << 36) | (w27 << 4) | (w28 >>> 28)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w28 << 32) | (w29)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 16] = (w30 << 28) | (w31 >>> 4);
+        values[valuesOffset + 17] = ((w31 << 56) | (w32 << 24) | (w33 >>> 8)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w33 << 52) | (w34 << 20) | (w35 >>> 12)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w35 << 48) | (w36 << 16) | (w37 >>> 16)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w37 << 44) | (w38 << 12) | (w39 >>> 20)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w39 << 40) | (w40 << 8) | (w41 >>> 24)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w41 << 36) | (w42 << 4) | (w43 >>> 28)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w43 << 32) | (w44)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 24] = (w45 << 28) | (w46 >>> 4);
+        values[valuesOffset + 25] = ((w46 << 56) | (w47 << 24) | (w48 >>> 8)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w48 << 52) | (w49 << 20) | (w50 >>> 12)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w50 << 48) | (w51 << 16) | (w52 >>> 16)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w52 << 44) | (w53 << 12) | (w54 >>> 20)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w54 << 40) | (w55 << 8) | (w56 >>> 24)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w56 << 36) | (w57 << 4) | (w58 >>> 28)) & 0xFFFFFFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w58 << 32) | (w59)) & 0xFFFFFFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values61(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        long w47 = (buf[offset + 188] & 0xFFL) << 24 | (buf[offset + 189] & 0xFF) << 16 | (buf[offset + 190] & 0xFF) << 8 | (buf[offset + 191] & 0xFF);
+        long w48 = (buf[offset + 192] & 0xFFL) << 24 | (buf[offset + 193] & 0xFF) << 16 | (buf[offset + 194] & 0xFF) << 8 | (buf[offset + 195] & 0xFF);
+        long w49 = (buf[offset + 196] & 0xFFL) << 24 | (buf[offset + 197] & 0xFF) << 16 | (buf[offset + 198] & 0xFF) << 8 | (buf[offset + 199] & 0xFF);
+        long w50 = (buf[offset + 200] & 0xFFL) << 24 | (buf[offset + 201] & 0xFF) << 16 | (buf[offset + 202] & 0xFF) << 8 | (buf[offset + 203] & 0xFF);
+        long w51 = (buf[offset + 204] & 0xFFL) << 24 | (buf[offset + 205] & 0xFF) << 16 | (buf[offset + 206] & 0xFF) << 8 | (buf[offset + 207] & 0xFF);
+        long w52 = (buf[offset + 208] & 0xFFL) << 24 | (buf[offset + 209] & 0xFF) << 16 | (buf[offset + 210] & 0xFF) << 8 | (buf[offset + 211] & 0xFF);
+        long w53 = (buf[offset + 212] & 0xFFL) << 24 | (buf[offset + 213] & 0xFF) << 16 | (buf[offset + 214] & 0xFF) << 8 | (buf[offset + 215] & 0xFF);
+        long w54 = (buf[offset + 216] & 0xFFL) << 24 | (buf[offset + 217] & 0xFF) << 16 | (buf[offset + 218] & 0xFF) << 8 | (buf[offset + 219] & 0xFF);
+        long w55 = (buf[offset + 220] & 0xFFL) << 24 | (buf[offset + 221] & 0xFF) << 16 | (buf[offset + 222] & 0xFF) << 8 | (buf[offset + 223] & 0xFF);
+        long w56 = (buf[offset + 224] & 0xFFL) << 24 | (buf[offset + 225] & 0xFF) << 16 | (buf[offset + 226] & 0xFF) << 8 | (buf[offset + 227] & 0xFF);
+        long w57 = (buf[offset + 228] & 0xFFL) << 24 | (buf[offset + 229] & 0xFF) << 16 | (buf[offset + 230] & 0xFF) << 8 | (buf[offset + 231] & 0xFF);
+        long w58 = (buf[offset + 232] & 0xFFL) << 24 | (buf[offset + 233] & 0xFF) << 16 | (buf[offset + 234] & 0xFF) << 8 | (buf[offset + 235] & 0xFF);
+        long w59 = (buf[offset + 236] & 0xFFL) << 24 | (buf[offset + 237] & 0xFF) << 16 | (buf[offset + 238] & 0xFF) << 8 | (buf[offset + 239] & 0xFF);
+        long w60 = (buf[offset + 240] & 0xFFL) << 24 | (buf[offset + 241] & 0xFF) << 16 | (buf[offset + 242] & 0xFF) << 8 | (buf[offset + 243] & 0xFF);
+        values[valuesOffset] = (w0 << 29) | (w1 >>> 3);
+        values[valuesOffset + 1] = ((w1 << 58) | (w2 << 26) | (w3 >>> 6)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w3 << 55) | (w4 << 23) | (w5 >>> 9)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w5 << 52) | (w6 << 20) | (w7 >>> 12)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w7 << 49) | (w8 << 17) | (w9 >>> 15)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w9 << 46) | (w10 << 14) | (w11 >>> 18)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w11 << 43) | (w12 << 11) | (w13 >>> 21)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w13 << 40) | (w14 << 8) | (w15 >>> 24)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w15 << 37) | (w16 << 5) | (w17 >>> 27)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w17 << 34) | (w18 << 2) | (w19 >>> 30)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w19 << 31) | (w20 >>> 1)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w20 << 60) | (w21 << 28) | (w22 >>> 4)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w22 << 57) | (w23 << 25) | (w24 >>> 7)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w24 << 54) | (w25 << 22) | (w26 >>> 10)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w26 << 51) | (w27 << 19) | (w28 >>> 13)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w28 << 48) | (w29 << 16) | (w30 >>> 16)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 16] = ((w30 << 45) | (w31 << 13) | (w32 >>> 19)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 17] = ((w32 << 42) | (w33 << 10) | (w34 >>> 22)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w34 << 39) | (w35 << 7) | (w36 >>> 25)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w36 << 36) | (w37 << 4) | (w38 >>> 28)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w38 << 33) | (w39 << 1) | (w40 >>> 31)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w40 << 30) | (w41 >>> 2)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w41 << 59) | (w42 << 27) | (w43 >>> 5)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w43 << 56) | (w44 << 24) | (w45 >>> 8)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w45 << 53) | (w46 << 21) | (w47 >>> 11)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w47 << 50) | (w48 << 18) | (w49 >>> 14)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w49 << 47) | (w50 << 15) | (w51 >>> 17)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w51 << 44) | (w52 << 12) | (w53 >>> 20)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w53 << 41) | (w54 << 9) | (w55 >>> 23)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w55 << 38) | (w56 << 6) | (w57 >>> 26)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w57 << 35) | (w58 << 3) | (w59 >>> 29)) & 0x1FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w59 << 32) | (w60)) & 0x1FFFFFFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values62(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        long w47 = (buf[offset + 188] & 0xFFL) << 24 | (buf[offset + 189] & 0xFF) << 16 | (buf[offset + 190] & 0xFF) << 8 | (buf[offset + 191] & 0xFF);
+        long w48 = (buf[offset + 192] & 0xFFL) << 24 | (buf[offset + 193] & 0xFF) << 16 | (buf[offset + 194] & 0xFF) << 8 | (buf[offset + 195] & 0xFF);
+        long w49 = (buf[offset + 196] & 0xFFL) << 24 | (buf[offset + 197] & 0xFF) << 16 | (buf[offset + 198] & 0xFF) << 8 | (buf[offset + 199] & 0xFF);
+        long w50 = (buf[offset + 200] & 0xFFL) << 24 | (buf[offset + 201] & 0xFF) << 16 | (buf[offset + 202] & 0xFF) << 8 | (buf[offset + 203] & 0xFF);
+        long w51 = (buf[offset + 204] & 0xFFL) << 24 | (buf[offset + 205] & 0xFF) << 16 | (buf[offset + 206] & 0xFF) << 8 | (buf[offset + 207] & 0xFF);
+        long w52 = (buf[offset + 208] & 0xFFL) << 24 | (buf[offset + 209] & 0xFF) << 16 | (buf[offset + 210] & 0xFF) << 8 | (buf[offset + 211] & 0xFF);
+        long w53 = (buf[offset + 212] & 0xFFL) << 24 | (buf[offset + 213] & 0xFF) << 16 | (buf[offset + 214] & 0xFF) << 8 | (buf[offset + 215] & 0xFF);
+        long w54 = (buf[offset + 216] & 0xFFL) << 24 | (buf[offset + 217] & 0xFF) << 16 | (buf[offset + 218] & 0xFF) << 8 | (buf[offset + 219] & 0xFF);
+        long w55 = (buf[offset + 220] & 0xFFL) << 24 | (buf[offset + 221] & 0xFF) << 16 | (buf[offset + 222] & 0xFF) << 8 | (buf[offset + 223] & 0xFF);
+        long w56 = (buf[offset + 224] & 0xFFL) << 24 | (buf[offset + 225] & 0xFF) << 16 | (buf[offset + 226] & 0xFF) << 8 | (buf[offset + 227] & 0xFF);
+        long w57 = (buf[offset + 228] & 0xFFL) << 24 | (buf[offset + 229] & 0xFF) << 16 | (buf[offset + 230] & 0xFF) << 8 | (buf[offset + 231] & 0xFF);
+        long w58 = (buf[offset + 232] & 0xFFL) << 24 | (buf[offset + 233] & 0xFF) << 16 | (buf[offset + 234] & 0xFF) << 8 | (buf[offset + 235] & 0xFF);
+        long w59 = (buf[offset + 236] & 0xFFL) << 24 | (buf[offset + 237] & 0xFF) << 16 | (buf[offset + 238] & 0xFF) << 8 | (buf[offset + 239] & 0xFF);
+        long w60 = (buf[offset + 240] & 0xFFL) << 24 | (buf[offset + 241] & 0xFF) << 16 | (buf[offset + 242] & 0xFF) << 8 | (buf[offset + 243] & 0xFF);
+        long w61 = (buf[offset + 244] & 0xFFL) << 24 | (buf[offset + 245] & 0xFF) << 16 | (buf[offset + 246] & 0xFF) << 8 | (buf[offset + 247] & 0xFF);
+        values[valuesOffset] = (w0 << 30) | (w1 >>> 2);
+        values[valuesOffset + 1] = ((w1 << 60) | (w2 << 28) | (w3 >>> 4)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w3 << 58) | (w4 << 26) | (w5 >>> 6)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w5 << 56) | (w6 << 24) | (w7 >>> 8)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w7 << 54) | (w8 << 22) | (w9 >>> 10)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w9 << 52) | (w10 << 20) | (w11 >>> 12)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w11 << 50) | (w12 << 18) | (w13 >>> 14)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w13 << 48) | (w14 << 16) | (w15 >>> 16)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w15 << 46) | (w16 << 14) | (w17 >>> 18)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w17 << 44) | (w18 << 12) | (w19 >>> 20)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w19 << 42) | (w20 << 10) | (w21 >>> 22)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w21 << 40) | (w22 << 8) | (w23 >>> 24)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w23 << 38) | (w24 << 6) | (w25 >>> 26)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w25 << 36) | (w26 << 4) | (w27 >>> 28)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w27 << 34) | (w28 << 2) | (w29 >>> 30)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w29 << 32) | (w30)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 16] = (w31 << 30) | (w32 >>> 2);
+        values[valuesOffset + 17] = ((w32 << 60) | (w33 << 28) | (w34 >>> 4)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w34 << 58) | (w35 << 26) | (w36 >>> 6)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w36 << 56) | (w37 << 24) | (w38 >>> 8)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w38 << 54) | (w39 << 22) | (w40 >>> 10)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w40 << 52) | (w41 << 20) | (w42 >>> 12)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w42 << 50) | (w43 << 18) | (w44 >>> 14)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w44 << 48) | (w45 << 16) | (w46 >>> 16)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w46 << 46) | (w47 << 14) | (w48 >>> 18)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w48 << 44) | (w49 << 12) | (w50 >>> 20)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w50 << 42) | (w51 << 10) | (w52 >>> 22)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w52 << 40) | (w53 << 8) | (w54 >>> 24)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w54 << 38) | (w55 << 6) | (w56 >>> 26)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w56 << 36) | (w57 << 4) | (w58 >>> 28)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w58 << 34) | (w59 << 2) | (w60 >>> 30)) & 0x3FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w60 << 32) | (w61)) & 0x3FFFFFFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values63(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        long w47 = (buf[offset + 188] & 0xFFL) << 24 | (buf[offset + 189] & 0xFF) << 16 | (buf[offset + 190] & 0xFF) << 8 | (buf[offset + 191] & 0xFF);
+        long w48 = (buf[offset + 192] & 0xFFL) << 24 | (buf[offset + 193] & 0xFF) << 16 | (buf[offset + 194] & 0xFF) << 8 | (buf[offset + 195] & 0xFF);
+        long w49 = (buf[offset + 196] & 0xFFL) << 24 | (buf[offset + 197] & 0xFF) << 16 | (buf[offset + 198] & 0xFF) << 8 | (buf[offset + 199] & 0xFF);
+        long w50 = (buf[offset + 200] & 0xFFL) << 24 | (buf[offset + 201] & 0xFF) << 16 | (buf[offset + 202] & 0xFF) << 8 | (buf[offset + 203] & 0xFF);
+        long w51 = (buf[offset + 204] & 0xFFL) << 24 | (buf[offset + 205] & 0xFF) << 16 | (buf[offset + 206] & 0xFF) << 8 | (buf[offset + 207] & 0xFF);
+        long w52 = (buf[offset + 208] & 0xFFL) << 24 | (buf[offset + 209] & 0xFF) << 16 | (buf[offset + 210] & 0xFF) << 8 | (buf[offset + 211] & 0xFF);
+        long w53 = (buf[offset + 212] & 0xFFL) << 24 | (buf[offset + 213] & 0xFF) << 16 | (buf[offset + 214] & 0xFF) << 8 | (buf[offset + 215] & 0xFF);
+        long w54 = (buf[offset + 216] & 0xFFL) << 24 | (buf[offset + 217] & 0xFF) << 16 | (buf[offset + 218] & 0xFF) << 8 | (buf[offset + 219] & 0xFF);
+        long w55 = (buf[offset + 220] & 0xFFL) << 24 | (buf[offset + 221] & 0xFF) << 16 | (buf[offset + 222] & 0xFF) << 8 | (buf[offset + 223] & 0xFF);
+        long w56 = (buf[offset + 224] & 0xFFL) << 24 | (buf[offset + 225] & 0xFF) << 16 | (buf[offset + 226] & 0xFF) << 8 | (buf[offset + 227] & 0xFF);
+        long w57 = (buf[offset + 228] & 0xFFL) << 24 | (buf[offset + 229] & 0xFF) << 16 | (buf[offset + 230] & 0xFF) << 8 | (buf[offset + 231] & 0xFF);
+        long w58 = (buf[offset + 232] & 0xFFL) << 24 | (buf[offset + 233] & 0xFF) << 16 | (buf[offset + 234] & 0xFF) << 8 | (buf[offset + 235] & 0xFF);
+        long w59 = (buf[offset + 236] & 0xFFL) << 24 | (buf[offset + 237] & 0xFF) << 16 | (buf[offset + 238] & 0xFF) << 8 | (buf[offset + 239] & 0xFF);
+        long w60 = (buf[offset + 240] & 0xFFL) << 24 | (buf[offset + 241] & 0xFF) << 16 | (buf[offset + 242] & 0xFF) << 8 | (buf[offset + 243] & 0xFF);
+        long w61 = (buf[offset + 244] & 0xFFL) << 24 | (buf[offset + 245] & 0xFF) << 16 | (buf[offset + 246] & 0xFF) << 8 | (buf[offset + 247] & 0xFF);
+        long w62 = (buf[offset + 248] & 0xFFL) << 24 | (buf[offset + 249] & 0xFF) << 16 | (buf[offset + 250] & 0xFF) << 8 | (buf[offset + 251] & 0xFF);
+        values[valuesOffset] = (w0 << 31) | (w1 >>> 1);
+        values[valuesOffset + 1] = ((w1 << 62) | (w2 << 30) | (w3 >>> 2)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 2] = ((w3 << 61) | (w4 << 29) | (w5 >>> 3)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 3] = ((w5 << 60) | (w6 << 28) | (w7 >>> 4)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 4] = ((w7 << 59) | (w8 << 27) | (w9 >>> 5)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 5] = ((w9 << 58) | (w10 << 26) | (w11 >>> 6)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 6] = ((w11 << 57) | (w12 << 25) | (w13 >>> 7)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 7] = ((w13 << 56) | (w14 << 24) | (w15 >>> 8)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 8] = ((w15 << 55) | (w16 << 23) | (w17 >>> 9)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 9] = ((w17 << 54) | (w18 << 22) | (w19 >>> 10)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 10] = ((w19 << 53) | (w20 << 21) | (w21 >>> 11)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 11] = ((w21 << 52) | (w22 << 20) | (w23 >>> 12)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 12] = ((w23 << 51) | (w24 << 19) | (w25 >>> 13)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 13] = ((w25 << 50) | (w26 << 18) | (w27 >>> 14)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 14] = ((w27 << 49) | (w28 << 17) | (w29 >>> 15)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 15] = ((w29 << 48) | (w30 << 16) | (w31 >>> 16)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 16] = ((w31 << 47) | (w32 << 15) | (w33 >>> 17)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 17] = ((w33 << 46) | (w34 << 14) | (w35 >>> 18)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 18] = ((w35 << 45) | (w36 << 13) | (w37 >>> 19)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 19] = ((w37 << 44) | (w38 << 12) | (w39 >>> 20)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 20] = ((w39 << 43) | (w40 << 11) | (w41 >>> 21)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 21] = ((w41 << 42) | (w42 << 10) | (w43 >>> 22)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 22] = ((w43 << 41) | (w44 << 9) | (w45 >>> 23)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 23] = ((w45 << 40) | (w46 << 8) | (w47 >>> 24)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 24] = ((w47 << 39) | (w48 << 7) | (w49 >>> 25)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 25] = ((w49 << 38) | (w50 << 6) | (w51 >>> 26)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 26] = ((w51 << 37) | (w52 << 5) | (w53 >>> 27)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 27] = ((w53 << 36) | (w54 << 4) | (w55 >>> 28)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 28] = ((w55 << 35) | (w56 << 3) | (w57 >>> 29)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 29] = ((w57 << 34) | (w58 << 2) | (w59 >>> 30)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 30] = ((w59 << 33) | (w60 << 1) | (w61 >>> 31)) & 0x7FFFFFFFFFFFFFFFL;
+        values[valuesOffset + 31] = ((w61 << 32) | (w62)) & 0x7FFFFFFFFFFFFFFFL;
+    }
+
+    private static void unpack32Values64(byte[] buf, int offset, long[] values, int valuesOffset) {
+        long w0 = (buf[offset] & 0xFFL) << 24 | (buf[offset + 1] & 0xFF) << 16 | (buf[offset + 2] & 0xFF) << 8 | (buf[offset + 3] & 0xFF);
+        long w1 = (buf[offset + 4] & 0xFFL) << 24 | (buf[offset + 5] & 0xFF) << 16 | (buf[offset + 6] & 0xFF) << 8 | (buf[offset + 7] & 0xFF);
+        long w2 = (buf[offset + 8] & 0xFFL) << 24 | (buf[offset + 9] & 0xFF) << 16 | (buf[offset + 10] & 0xFF) << 8 | (buf[offset + 11] & 0xFF);
+        long w3 = (buf[offset + 12] & 0xFFL) << 24 | (buf[offset + 13] & 0xFF) << 16 | (buf[offset + 14] & 0xFF) << 8 | (buf[offset + 15] & 0xFF);
+        long w4 = (buf[offset + 16] & 0xFFL) << 24 | (buf[offset + 17] & 0xFF) << 16 | (buf[offset + 18] & 0xFF) << 8 | (buf[offset + 19] & 0xFF);
+        long w5 = (buf[offset + 20] & 0xFFL) << 24 | (buf[offset + 21] & 0xFF) << 16 | (buf[offset + 22] & 0xFF) << 8 | (buf[offset + 23] & 0xFF);
+        long w6 = (buf[offset + 24] & 0xFFL) << 24 | (buf[offset + 25] & 0xFF) << 16 | (buf[offset + 26] & 0xFF) << 8 | (buf[offset + 27] & 0xFF);
+        long w7 = (buf[offset + 28] & 0xFFL) << 24 | (buf[offset + 29] & 0xFF) << 16 | (buf[offset + 30] & 0xFF) << 8 | (buf[offset + 31] & 0xFF);
+        long w8 = (buf[offset + 32] & 0xFFL) << 24 | (buf[offset + 33] & 0xFF) << 16 | (buf[offset + 34] & 0xFF) << 8 | (buf[offset + 35] & 0xFF);
+        long w9 = (buf[offset + 36] & 0xFFL) << 24 | (buf[offset + 37] & 0xFF) << 16 | (buf[offset + 38] & 0xFF) << 8 | (buf[offset + 39] & 0xFF);
+        long w10 = (buf[offset + 40] & 0xFFL) << 24 | (buf[offset + 41] & 0xFF) << 16 | (buf[offset + 42] & 0xFF) << 8 | (buf[offset + 43] & 0xFF);
+        long w11 = (buf[offset + 44] & 0xFFL) << 24 | (buf[offset + 45] & 0xFF) << 16 | (buf[offset + 46] & 0xFF) << 8 | (buf[offset + 47] & 0xFF);
+        long w12 = (buf[offset + 48] & 0xFFL) << 24 | (buf[offset + 49] & 0xFF) << 16 | (buf[offset + 50] & 0xFF) << 8 | (buf[offset + 51] & 0xFF);
+        long w13 = (buf[offset + 52] & 0xFFL) << 24 | (buf[offset + 53] & 0xFF) << 16 | (buf[offset + 54] & 0xFF) << 8 | (buf[offset + 55] & 0xFF);
+        long w14 = (buf[offset + 56] & 0xFFL) << 24 | (buf[offset + 57] & 0xFF) << 16 | (buf[offset + 58] & 0xFF) << 8 | (buf[offset + 59] & 0xFF);
+        long w15 = (buf[offset + 60] & 0xFFL) << 24 | (buf[offset + 61] & 0xFF) << 16 | (buf[offset + 62] & 0xFF) << 8 | (buf[offset + 63] & 0xFF);
+        long w16 = (buf[offset + 64] & 0xFFL) << 24 | (buf[offset + 65] & 0xFF) << 16 | (buf[offset + 66] & 0xFF) << 8 | (buf[offset + 67] & 0xFF);
+        long w17 = (buf[offset + 68] & 0xFFL) << 24 | (buf[offset + 69] & 0xFF) << 16 | (buf[offset + 70] & 0xFF) << 8 | (buf[offset + 71] & 0xFF);
+        long w18 = (buf[offset + 72] & 0xFFL) << 24 | (buf[offset + 73] & 0xFF) << 16 | (buf[offset + 74] & 0xFF) << 8 | (buf[offset + 75] & 0xFF);
+        long w19 = (buf[offset + 76] & 0xFFL) << 24 | (buf[offset + 77] & 0xFF) << 16 | (buf[offset + 78] & 0xFF) << 8 | (buf[offset + 79] & 0xFF);
+        long w20 = (buf[offset + 80] & 0xFFL) << 24 | (buf[offset + 81] & 0xFF) << 16 | (buf[offset + 82] & 0xFF) << 8 | (buf[offset + 83] & 0xFF);
+        long w21 = (buf[offset + 84] & 0xFFL) << 24 | (buf[offset + 85] & 0xFF) << 16 | (buf[offset + 86] & 0xFF) << 8 | (buf[offset + 87] & 0xFF);
+        long w22 = (buf[offset + 88] & 0xFFL) << 24 | (buf[offset + 89] & 0xFF) << 16 | (buf[offset + 90] & 0xFF) << 8 | (buf[offset + 91] & 0xFF);
+        long w23 = (buf[offset + 92] & 0xFFL) << 24 | (buf[offset + 93] & 0xFF) << 16 | (buf[offset + 94] & 0xFF) << 8 | (buf[offset + 95] & 0xFF);
+        long w24 = (buf[offset + 96] & 0xFFL) << 24 | (buf[offset + 97] & 0xFF) << 16 | (buf[offset + 98] & 0xFF) << 8 | (buf[offset + 99] & 0xFF);
+        long w25 = (buf[offset + 100] & 0xFFL) << 24 | (buf[offset + 101] & 0xFF) << 16 | (buf[offset + 102] & 0xFF) << 8 | (buf[offset + 103] & 0xFF);
+        long w26 = (buf[offset + 104] & 0xFFL) << 24 | (buf[offset + 105] & 0xFF) << 16 | (buf[offset + 106] & 0xFF) << 8 | (buf[offset + 107] & 0xFF);
+        long w27 = (buf[offset + 108] & 0xFFL) << 24 | (buf[offset + 109] & 0xFF) << 16 | (buf[offset + 110] & 0xFF) << 8 | (buf[offset + 111] & 0xFF);
+        long w28 = (buf[offset + 112] & 0xFFL) << 24 | (buf[offset + 113] & 0xFF) << 16 | (buf[offset + 114] & 0xFF) << 8 | (buf[offset + 115] & 0xFF);
+        long w29 = (buf[offset + 116] & 0xFFL) << 24 | (buf[offset + 117] & 0xFF) << 16 | (buf[offset + 118] & 0xFF) << 8 | (buf[offset + 119] & 0xFF);
+        long w30 = (buf[offset + 120] & 0xFFL) << 24 | (buf[offset + 121] & 0xFF) << 16 | (buf[offset + 122] & 0xFF) << 8 | (buf[offset + 123] & 0xFF);
+        long w31 = (buf[offset + 124] & 0xFFL) << 24 | (buf[offset + 125] & 0xFF) << 16 | (buf[offset + 126] & 0xFF) << 8 | (buf[offset + 127] & 0xFF);
+        long w32 = (buf[offset + 128] & 0xFFL) << 24 | (buf[offset + 129] & 0xFF) << 16 | (buf[offset + 130] & 0xFF) << 8 | (buf[offset + 131] & 0xFF);
+        long w33 = (buf[offset + 132] & 0xFFL) << 24 | (buf[offset + 133] & 0xFF) << 16 | (buf[offset + 134] & 0xFF) << 8 | (buf[offset + 135] & 0xFF);
+        long w34 = (buf[offset + 136] & 0xFFL) << 24 | (buf[offset + 137] & 0xFF) << 16 | (buf[offset + 138] & 0xFF) << 8 | (buf[offset + 139] & 0xFF);
+        long w35 = (buf[offset + 140] & 0xFFL) << 24 | (buf[offset + 141] & 0xFF) << 16 | (buf[offset + 142] & 0xFF) << 8 | (buf[offset + 143] & 0xFF);
+        long w36 = (buf[offset + 144] & 0xFFL) << 24 | (buf[offset + 145] & 0xFF) << 16 | (buf[offset + 146] & 0xFF) << 8 | (buf[offset + 147] & 0xFF);
+        long w37 = (buf[offset + 148] & 0xFFL) << 24 | (buf[offset + 149] & 0xFF) << 16 | (buf[offset + 150] & 0xFF) << 8 | (buf[offset + 151] & 0xFF);
+        long w38 = (buf[offset + 152] & 0xFFL) << 24 | (buf[offset + 153] & 0xFF) << 16 | (buf[offset + 154] & 0xFF) << 8 | (buf[offset + 155] & 0xFF);
+        long w39 = (buf[offset + 156] & 0xFFL) << 24 | (buf[offset + 157] & 0xFF) << 16 | (buf[offset + 158] & 0xFF) << 8 | (buf[offset + 159] & 0xFF);
+        long w40 = (buf[offset + 160] & 0xFFL) << 24 | (buf[offset + 161] & 0xFF) << 16 | (buf[offset + 162] & 0xFF) << 8 | (buf[offset + 163] & 0xFF);
+        long w41 = (buf[offset + 164] & 0xFFL) << 24 | (buf[offset + 165] & 0xFF) << 16 | (buf[offset + 166] & 0xFF) << 8 | (buf[offset + 167] & 0xFF);
+        long w42 = (buf[offset + 168] & 0xFFL) << 24 | (buf[offset + 169] & 0xFF) << 16 | (buf[offset + 170] & 0xFF) << 8 | (buf[offset + 171] & 0xFF);
+        long w43 = (buf[offset + 172] & 0xFFL) << 24 | (buf[offset + 173] & 0xFF) << 16 | (buf[offset + 174] & 0xFF) << 8 | (buf[offset + 175] & 0xFF);
+        long w44 = (buf[offset + 176] & 0xFFL) << 24 | (buf[offset + 177] & 0xFF) << 16 | (buf[offset + 178] & 0xFF) << 8 | (buf[offset + 179] & 0xFF);
+        long w45 = (buf[offset + 180] & 0xFFL) << 24 | (buf[offset + 181] & 0xFF) << 16 | (buf[offset + 182] & 0xFF) << 8 | (buf[offset + 183] & 0xFF);
+        long w46 = (buf[offset + 184] & 0xFFL) << 24 | (buf[offset + 185] & 0xFF) << 16 | (buf[offset + 186] & 0xFF) << 8 | (buf[offset + 187] & 0xFF);
+        long w47 = (buf[offset + 188] & 0xFFL) << 24 | (buf[offset + 189] & 0xFF) << 16 | (buf[offset + 190] & 0xFF) << 8 | (buf[offset + 191] & 0xFF);
+        long w48 = (buf[offset + 192] & 0xFFL) << 24 | (buf[offset + 193] & 0xFF) << 16 | (buf[offset + 194] & 0xFF) << 8 | (buf[offset + 195] & 0xFF);
+        long w49 = (buf[offset + 196] & 0xFFL) << 24 | (buf[offset + 197] & 0xFF) << 16 | (buf[offset + 198] & 0xFF) << 8 | (buf[offset + 199] & 0xFF);
+        long w50 = (buf[offset + 200] & 0xFFL) << 24 | (buf[offset + 201] & 0xFF) << 16 | (buf[offset + 202] & 0xFF) << 8 | (buf[offset + 203] & 0xFF);
+        long w51 = (buf[offset + 204] & 0xFFL) << 24 | (buf[offset + 205] & 0xFF) << 16 | (buf[offset + 206] & 0xFF) << 8 | (buf[offset + 207] & 0xFF);
+        long w52 = (buf[offset + 208] & 0xFFL) << 24 | (buf[offset + 209] & 0xFF) << 16 | (buf[offset + 210] & 0xFF) << 8 | (buf[offset + 211] & 0xFF);
+        long w53 = (buf[offset + 212] & 0xFFL) << 24 | (buf[offset + 213] & 0xFF) << 16 | (buf[offset + 214] & 0xFF) << 8 | (buf[offset + 215] & 0xFF);
+        long w54 = (buf[offset + 216] & 0xFFL) << 24 | (buf[offset + 217] & 0xFF) << 16 | (buf[offset + 218] & 0xFF) << 8 | (buf[offset + 219] & 0xFF);
+        long w55 = (buf[offset + 220] & 0xFFL) << 24 | (buf[offset + 221] & 0xFF) << 16 | (buf[offset + 222] & 0xFF) << 8 | (buf[offset + 223] & 0xFF);
+        long w56 = (buf[offset + 224] & 0xFFL) << 24 | (buf[offset + 225] & 0xFF) << 16 | (buf[offset + 226] & 0xFF) << 8 | (buf[offset + 227] & 0xFF);
+        long w57 = (buf[offset + 228] & 0xFFL) << 24 | (buf[offset + 229] & 0xFF) << 16 | (buf[offset + 230] & 0xFF) << 8 | (buf[offset + 231] & 0xFF);
+        long w58 = (buf[offset + 232] & 0xFFL) << 24 | (buf[offset + 233] & 0xFF) << 16 | (buf[offset + 234] & 0xFF) << 8 | (buf[offset + 235] & 0xFF);
+        long w59 = (buf[offset + 236] & 0xFFL) << 24 | (buf[offset + 237] & 0xFF) << 16 | (buf[offset + 238] & 0xFF) << 8 | (buf[offset + 239] & 0xFF);
+        long w60 = (buf[offset + 240] & 0xFFL) << 24 | (buf[offset + 241] & 0xFF) << 16 | (buf[offset + 242] & 0xFF) << 8 | (buf[offset + 243] & 0xFF);
+        long w61 = (buf[offset + 244] & 0xFFL) << 24 | (buf[offset + 245] & 0xFF) << 16 | (buf[offset + 246] & 0xFF) << 8 | (buf[offset + 247] & 0xFF);
+        long w62 = (buf[offset + 248] & 0xFFL) << 24 | (buf[offset + 249] & 0xFF) << 16 | (buf[offset + 250] & 0xFF) << 8 | (buf[offset + 251] & 0xFF);
+        long w63 = (buf[offset + 252] & 0xFFL) << 24 | (buf[offset + 253] & 0xFF) << 16 | (buf[offset + 254] & 0xFF) << 8 | (buf[offset + 255] & 0xFF);
+        values[valuesOffset] = (w0 << 32) | (w1);
+        values[valuesOffset + 1] = (w2 << 32) | (w3);
+        values[valuesOffset + 2] = (w4 << 32) | (w5);
+        values[valuesOffset + 3] = (w6 << 32) | (w7);
+        values[valuesOffset + 4] = (w8 << 32) | (w9);
+        values[valuesOffset + 5] = (w10 << 32) | (w11);
+        values[valuesOffset + 6] = (w12 << 32) | (w13);
+        values[valuesOffset + 7] = (w14 << 32) | (w15);
+        values[valuesOffset + 8] = (w16 << 32) | (w17);
+        values[valuesOffset + 9] = (w18 << 32) | (w19);
+        values[valuesOffset + 10] = (w20 << 32) | (w21);
+        values[valuesOffset + 11] = (w22 << 32) | (w23);
+        values[valuesOffset + 12] = (w24 << 32) | (w25);
+        values[valuesOffset + 13] = (w26 << 32) | (w27);
+        values[valuesOffset + 14] = (w28 << 32) | (w29);
+        values[valuesOffset + 15] = (w30 << 32) | (w31);
+        values[valuesOffset + 16] = (w32 << 32) | (w33);
+        values[valuesOffset + 17] = (w34 << 32) | (w35);
+        values[valuesOffset + 18] = (w36 << 32) | (w37);
+        values[valuesOffset + 19] = (w38 << 32) | (w39);
+        values[valuesOffset + 20] = (w40 << 32) | (w41);
+        values[valuesOffset + 21] = (w42 << 32) | (w43);
+        values[valuesOffset + 22] = (w44 << 32) | (w45);
+        values[valuesOffset + 23] = (w46 << 32) | (w47);
+        values[valuesOffset + 24] = (w48 << 32) | (w49);
+        values[valuesOffset + 25] = (w50 << 32) | (w51);
+        values[valuesOffset + 26] = (w52 << 32) | (w53);
+        values[valuesOffset + 27] = (w54 << 32) | (w55);
+        values[valuesOffset + 28] = (w56 << 32) | (w57);
+        values[valuesOffset + 29] = (w58 << 32) | (w59);
+        values[valuesOffset + 30] = (w60 << 32) | (w61);
+        values[valuesOffset + 31] = (w62 << 32) | (w63);
+    }
+}
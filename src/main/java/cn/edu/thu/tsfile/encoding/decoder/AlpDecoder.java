@@ -0,0 +1,170 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cn.edu.thu.tsfile.common.exception.TSFileDecodingException;
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.encoding.encoder.AlpEncoder;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * This class is a decoder for decoding the byte array that encoded by {@code AlpEncoder}. It
+ * supports float and double values. Scaled values of a block are read in batch by TS_2DIFF
+ * decoder, divided by 10^exponent of the block, and replaced by exceptions.
+ *
+ * @see AlpEncoder
+ * @author kangrong
+ */
+public class AlpDecoder extends Decoder {
+  private static final Logger LOG = LoggerFactory.getLogger(AlpDecoder.class);
+  // same as AlpEncoder, so that values are decoded exactly as checked in encoding
+  private static final double[] POW10 = new double[19];
+
+  static {
+    POW10[0] = 1;
+    for (int i = 1; i < POW10.length; i++) {
+      POW10[i] = POW10[i - 1] * 10;
+    }
+  }
+
+  private final TSDataType dataType;
+  private final DeltaBinaryDecoder.LongDeltaDecoder scaledDecoder;
+  private long[] scaledValues;
+  private int[] exceptionIndexes;
+  private long[] exceptionBits;
+  private float[] floatValues;
+  private double[] doubleValues;
+  // number of values in current block and the index of the next value to read
+  private int size;
+  private int nextIndex;
+
+  public AlpDecoder(TSDataType dataType) {
+    super(TSEncoding.ALP);
+    if (dataType != TSDataType.FLOAT && dataType != TSDataType.DOUBLE) {
+      throw new TSFileDecodingException(
+          String.format("data type %s is not supported by AlpDecoder", dataType));
+    }
+    this.dataType = dataType;
+    scaledDecoder = new DeltaBinaryDecoder.LongDeltaDecoder();
+    scaledValues = new long[0];
+    exceptionIndexes = new int[0];
+    exceptionBits = new long[0];
+    floatValues = new float[0];
+    doubleValues = new double[0];
+  }
+
+  @Override
+  public float readFloat(InputStream in) {
+    try {
+      if (nextIndex == size)
+        loadBlock(in);
+      return floatValues[nextIndex++];
+    } catch (IOException e) {
+      LOG.error("tsfile-encoding AlpDecoder: error occurs when reading value", e);
+      throw new TSFileDecodingException("meet IOException when reading alp encoded value");
+    }
+  }
+
+  @Override
+  public double readDouble(InputStream in) {
+    try {
+      if (nextIndex == size)
+        loadBlock(in);
+      return doubleValues[nextIndex++];
+    } catch (IOException e) {
+      LOG.error("tsfile-encoding AlpDecoder: error occurs when reading value", e);
+      throw new TSFileDecodingException("meet IOException when reading alp encoded value");
+    }
+  }
+
+  @Override
+  public int readFloats(InputStream in, float[] dst, int off, int len) throws IOException {
+    int count = 0;
+    while (count < len) {
+      if (nextIndex == size) {
+        if (in.available() <= 0)
+          break;
+        loadBlock(in);
+      }
+      int num = Math.min(len - count, size - nextIndex);
+      System.arraycopy(floatValues, nextIndex, dst, off + count, num);
+      nextIndex += num;
+      count += num;
+    }
+    return count;
+  }
+
+  @Override
+  public int readDoubles(InputStream in, double[] dst, int off, int len) throws IOException {
+    int count = 0;
+    while (count < len) {
+      if (nextIndex == size) {
+        if (in.available() <= 0)
+          break;
+        loadBlock(in);
+      }
+      int num = Math.min(len - count, size - nextIndex);
+      System.arraycopy(doubleValues, nextIndex, dst, off + count, num);
+      nextIndex += num;
+      count += num;
+    }
+    return count;
+  }
+
+  @Override
+  public boolean hasNext(InputStream in) throws IOException {
+    return nextIndex < size || in.available() > 0;
+  }
+
+  private void loadBlock(InputStream in) throws IOException {
+    int num = ReadWriteStreamUtils.readUnsignedVarInt(in);
+    int exponent = in.read();
+    if (exponent < 0 || exponent >= POW10.length)
+      throw new IOException("invalid exponent of alp block: " + exponent);
+    int exceptionCount = ReadWriteStreamUtils.readUnsignedVarInt(in);
+    if (scaledValues.length < num) {
+      scaledValues = new long[num];
+      exceptionIndexes = new int[num];
+      exceptionBits = new long[num];
+      if (dataType == TSDataType.FLOAT)
+        floatValues = new float[num];
+      else
+        doubleValues = new double[num];
+    }
+    int valueBytes = dataType == TSDataType.FLOAT ? 4 : 8;
+    int index = 0;
+    for (int i = 0; i < exceptionCount; i++) {
+      index += ReadWriteStreamUtils.readUnsignedVarInt(in);
+      exceptionIndexes[i] = index;
+      long bits = 0;
+      for (int j = 0; j < valueBytes; j++) {
+        int b = in.read();
+        if (b < 0)
+          throw new IOException("unexpected end of alp encoded data");
+        bits = (bits << 8) | b;
+      }
+      exceptionBits[i] = bits;
+    }
+    if (scaledDecoder.readLongs(in, scaledValues, 0, num) != num)
+      throw new IOException("unexpected end of alp encoded data");
+    double divisor = POW10[exponent];
+    if (dataType == TSDataType.FLOAT) {
+      for (int i = 0; i < num; i++)
+        floatValues[i] = (float) (scaledValues[i] / divisor);
+      for (int i = 0; i < exceptionCount; i++)
+        floatValues[exceptionIndexes[i]] = Float.intBitsToFloat((int) exceptionBits[i]);
+    } else {
+      for (int i = 0; i < num; i++)
+        doubleValues[i] = scaledValues[i] / divisor;
+      for (int i = 0; i < exceptionCount; i++)
+        doubleValues[exceptionIndexes[i]] = Double.longBitsToDouble(exceptionBits[i]);
+    }
+    size = num;
+    nextIndex = 0;
+  }
+}
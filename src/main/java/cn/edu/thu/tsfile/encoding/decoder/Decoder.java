@@ -56,6 +56,86 @@ public abstract class Decoder {
 
 	public abstract boolean hasNext(InputStream in) throws IOException;
 
+	/**
+	 * read int values in batch. It reads values one by one by default, decoders override it to
+	 * decode a block of values in a tight loop.
+	 *
+	 * @param in - InputStream
+	 * @param dst - array to save values
+	 * @param off - offset of first value in dst
+	 * @param len - max number of values to read
+	 * @return number of values read, which is less than len only if no value is left
+	 * @throws IOException
+	 */
+	public int readInts(InputStream in, int[] dst, int off, int len) throws IOException {
+		int count = 0;
+		while (count < len && hasNext(in)) {
+			dst[off + count] = readInt(in);
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * read long values in batch, see {@link #readInts(InputStream, int[], int, int)}
+	 */
+	public int readLongs(InputStream in, long[] dst, int off, int len) throws IOException {
+		int count = 0;
+		while (count < len && hasNext(in)) {
+			dst[off + count] = readLong(in);
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * read float values in batch, see {@link #readInts(InputStream, int[], int, int)}
+	 */
+	public int readFloats(InputStream in, float[] dst, int off, int len) throws IOException {
+		int count = 0;
+		while (count < len && hasNext(in)) {
+			dst[off + count] = readFloat(in);
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * read double values in batch, see {@link #readInts(InputStream, int[], int, int)}
+	 */
+	public int readDoubles(InputStream in, double[] dst, int off, int len) throws IOException {
+		int count = 0;
+		while (count < len && hasNext(in)) {
+			dst[off + count] = readDouble(in);
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * read boolean values in batch, see {@link #readInts(InputStream, int[], int, int)}
+	 */
+	public int readBooleans(InputStream in, boolean[] dst, int off, int len) throws IOException {
+		int count = 0;
+		while (count < len && hasNext(in)) {
+			dst[off + count] = readBoolean(in);
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * read Binary values in batch, see {@link #readInts(InputStream, int[], int, int)}
+	 */
+	public int readBinaries(InputStream in, Binary[] dst, int off, int len) throws IOException {
+		int count = 0;
+		while (count < len && hasNext(in)) {
+			dst[off + count] = readBinary(in);
+			count++;
+		}
+		return count;
+	}
+
 	public static Decoder getDecoderByType(Encoding type, TSDataType dataType) {
 		if (type == Encoding.PLAIN) {
 			return new PlainDecoder(EndianType.LITTLE_ENDIAN);
@@ -63,22 +143,33 @@ public abstract class Decoder {
 			return new DeltaBinaryDecoder.IntDeltaDecoder();
 		} else if (type == Encoding.TS_2DIFF && dataType == TSDataType.INT64) {
 			return new DeltaBinaryDecoder.LongDeltaDecoder();
-		} else if (type == Encoding.RLE && dataType == TSDataType.INT32) {
+		} else if (type == Encoding.RLE && (dataType == TSDataType.INT32 || dataType == TSDataType.BOOLEAN)) {
 			return new IntRleDecoder(EndianType.LITTLE_ENDIAN);
 		} else if (type == Encoding.RLE && dataType == TSDataType.INT64) {
 			return new LongRleDecoder(EndianType.LITTLE_ENDIAN);
 		} else if (type == Encoding.BITMAP && dataType == TSDataType.ENUMS) {
 			return new BitmapDecoder(EndianType.LITTLE_ENDIAN);
+		} else if (type == Encoding.GORILLA && (dataType == TSDataType.FLOAT || dataType == TSDataType.DOUBLE)) {
+			return new GorillaDecoder(dataType);
+		} else if (type == Encoding.REGULAR && dataType == TSDataType.INT64) {
+			return new RegularTimeDecoder();
+		} else if (type == Encoding.ROARING_BITMAP && dataType == TSDataType.ENUMS) {
+			return new RoaringBitmapDecoder();
+		} else if (type == Encoding.PFOR && dataType == TSDataType.INT32) {
+			return new PforDecoder.IntPforDecoder();
+		} else if (type == Encoding.PFOR && dataType == TSDataType.INT64) {
+			return new PforDecoder.LongPforDecoder();
+		} else if (type == Encoding.ALP && (dataType == TSDataType.FLOAT || dataType == TSDataType.DOUBLE)) {
+			return new AlpDecoder(dataType);
+		} else if (type == Encoding.PLA && (dataType == TSDataType.FLOAT || dataType == TSDataType.DOUBLE)) {
+			return new LinearFitDecoder(TSEncoding.PLA);
+		} else if (type == Encoding.SDT && (dataType == TSDataType.FLOAT || dataType == TSDataType.DOUBLE)) {
+			return new LinearFitDecoder(TSEncoding.SDT);
 		} else if (dataType == TSDataType.FLOAT || dataType == TSDataType.DOUBLE || dataType == TSDataType.BIGDECIMAL) {
 			return new FloatDecoder(TSEncoding.valueOf(type.toString()), dataType);
 		}
 
-		// PLA and DFT encoding are not supported in current version
-		// } else if (type == Encoding.PLA) {
-		// return new LinearFitDecoder(TSEncoding.PLA);
-		// } else if (type == Encoding.SDT) {
-		// return new LinearFitDecoder(TSEncoding.SDT);
-
+		// DFT encoding is not supported in current version
 		else {
 			throw new TSFileDecodingException("Decoder not found:" + type + " , DataType is :" + dataType);
 		}
@@ -107,6 +107,27 @@ public abstract class DeltaBinaryDecoder extends Decoder {
       }
     }
 
+    /**
+     * copy decoded data of current pack in batch, and load next pack if it runs out
+     */
+    @Override
+    public int readInts(InputStream in, int[] dst, int off, int len) throws IOException {
+      int count = 0;
+      while (count < len) {
+        if (nextReadIndex == readIntTotalCount) {
+          if (in.available() <= 0)
+            break;
+          dst[off + count++] = loadIntBatch(in);
+        } else {
+          int num = Math.min(len - count, readIntTotalCount - nextReadIndex);
+          System.arraycopy(data, nextReadIndex, dst, off + count, num);
+          nextReadIndex += num;
+          count += num;
+        }
+      }
+      return count;
+    }
+
     /**
      * if remaining data has been run out, load next pack from InputStream
      * 
@@ -145,7 +166,9 @@ public abstract class DeltaBinaryDecoder extends Decoder {
 
     @Override
     protected void allocateDataArray() {
-      data = new int[packNum];
+      // the array is reused by following packs
+      if (data == null || data.length < packNum)
+        data = new int[packNum];
     }
 
     @Override
@@ -220,6 +243,27 @@ public abstract class DeltaBinaryDecoder extends Decoder {
       }
     }
 
+    /**
+     * copy decoded data of current pack in batch, and load next pack if it runs out
+     */
+    @Override
+    public int readLongs(InputStream in, long[] dst, int off, int len) throws IOException {
+      int count = 0;
+      while (count < len) {
+        if (nextReadIndex == readIntTotalCount) {
+          if (in.available() <= 0)
+            break;
+          dst[off + count++] = loadIntBatch(in);
+        } else {
+          int num = Math.min(len - count, readIntTotalCount - nextReadIndex);
+          System.arraycopy(data, nextReadIndex, dst, off + count, num);
+          nextReadIndex += num;
+          count += num;
+        }
+      }
+      return count;
+    }
+
     @Override
     protected void readHeader(InputStream in) throws IOException {
       minDeltaBase = BytesUtils.readLong(in);
@@ -228,7 +272,9 @@ public abstract class DeltaBinaryDecoder extends Decoder {
 
     @Override
     protected void allocateDataArray() {
-      data = new long[packNum];
+      // the array is reused by following packs
+      if (data == null || data.length < packNum)
+        data = new long[packNum];
     }
 
     @Override
@@ -0,0 +1,87 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.encoding.common.EndianType;
+import cn.edu.thu.tsfile.encoding.encoder.DictionaryEncoder;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * This class is a decoder for decoding the data pages encoded by {@code DictionaryEncoder}. The
+ * dictionary is read from the dictionary page of the chunk by {@code readDictionary(InputStream,
+ * int)}. Besides {@code readBinary(InputStream)}, {@code readIndex(InputStream)} and {@code
+ * readIndexes(InputStream, int[], int, int)} decode the indexes only, so that readers can evaluate
+ * filters once for each entry and share the entry instances.
+ *
+ * @see DictionaryEncoder
+ * @author kangrong
+ */
+public class DictionaryDecoder extends Decoder {
+  private final Binary[] dictionary;
+  private final IntRleDecoder indexDecoder;
+  /**
+   * buffer to decode indexes in batch, reused across batches
+   */
+  private int[] indexBuffer;
+
+  public DictionaryDecoder(Binary[] dictionary) {
+    super(TSEncoding.PLAIN_DICTIONARY);
+    this.dictionary = dictionary;
+    this.indexDecoder = new IntRleDecoder(EndianType.LITTLE_ENDIAN);
+  }
+
+  /**
+   * read entries of a dictionary page
+   *
+   * @param in - content of dictionary page
+   * @param entryCount - number of entries in dictionary page
+   * @return - entries in order of index
+   */
+  public static Binary[] readDictionary(InputStream in, int entryCount) {
+    PlainDecoder plainDecoder = new PlainDecoder(EndianType.LITTLE_ENDIAN);
+    Binary[] dictionary = new Binary[entryCount];
+    for (int i = 0; i < entryCount; i++)
+      dictionary[i] = plainDecoder.readBinary(in);
+    return dictionary;
+  }
+
+  public Binary[] getDictionary() {
+    return dictionary;
+  }
+
+  /**
+   * @return - index in dictionary of next value
+   */
+  public int readIndex(InputStream in) {
+    return indexDecoder.readInt(in);
+  }
+
+  /**
+   * read indexes in batch, see {@code readInts(InputStream, int[], int, int)}
+   */
+  public int readIndexes(InputStream in, int[] dst, int off, int len) throws IOException {
+    return indexDecoder.readInts(in, dst, off, len);
+  }
+
+  @Override
+  public Binary readBinary(InputStream in) {
+    return dictionary[indexDecoder.readInt(in)];
+  }
+
+  @Override
+  public int readBinaries(InputStream in, Binary[] dst, int off, int len) throws IOException {
+    if (indexBuffer == null || indexBuffer.length < len)
+      indexBuffer = new int[len];
+    int count = indexDecoder.readInts(in, indexBuffer, 0, len);
+    for (int i = 0; i < count; i++)
+      dst[off + i] = dictionary[indexBuffer[i]];
+    return count;
+  }
+
+  @Override
+  public boolean hasNext(InputStream in) throws IOException {
+    return indexDecoder.hasNext(in);
+  }
+}
@@ -36,6 +36,12 @@ public class FloatDecoder extends Decoder {
 	 */
 	private boolean isMaxPointNumberRead;
 
+	/**
+	 * buffers to decode values in batch before they are scaled, reused across batches
+	 */
+	private int[] intBuffer;
+	private long[] longBuffer;
+
 	public FloatDecoder(TSEncoding encodingType, TSDataType dataType) {
 		super(encodingType);
 		if (encodingType == TSEncoding.RLE) {
@@ -83,6 +89,38 @@ public class FloatDecoder extends Decoder {
 		return result;
 	}
 
+	@Override
+	public int readFloats(InputStream in, float[] dst, int off, int len) throws IOException {
+		if (!hasNext(in)) {
+			return 0;
+		}
+		readMaxPointValue(in);
+		if (intBuffer == null || intBuffer.length < len) {
+			intBuffer = new int[len];
+		}
+		int count = decoder.readInts(in, intBuffer, 0, len);
+		for (int i = 0; i < count; i++) {
+			dst[off + i] = (float) (intBuffer[i] / maxPointValue);
+		}
+		return count;
+	}
+
+	@Override
+	public int readDoubles(InputStream in, double[] dst, int off, int len) throws IOException {
+		if (!hasNext(in)) {
+			return 0;
+		}
+		readMaxPointValue(in);
+		if (longBuffer == null || longBuffer.length < len) {
+			longBuffer = new long[len];
+		}
+		int count = decoder.readLongs(in, longBuffer, 0, len);
+		for (int i = 0; i < count; i++) {
+			dst[off + i] = longBuffer[i] / maxPointValue;
+		}
+		return count;
+	}
+
 	private void readMaxPointValue(InputStream in) {
 		try {
 			if (!isMaxPointNumberRead) {
@@ -0,0 +1,119 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cn.edu.thu.tsfile.common.exception.TSFileDecodingException;
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.encoding.encoder.GorillaEncoder;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * This class is a decoder for decoding the byte array that encoded by {@code GorillaEncoder}. It
+ * supports float and double values.
+ * 
+ * @see GorillaEncoder
+ * @author kangrong
+ */
+public class GorillaDecoder extends Decoder {
+  private static final Logger LOG = LoggerFactory.getLogger(GorillaDecoder.class);
+  private static final int LEADING_ZERO_BITS = 5;
+
+  private final int width;
+  private final int lengthBits;
+  /**
+   * number of values left in current block
+   */
+  private int remaining;
+  private boolean isFirst;
+  private int currentByte;
+  private int bitsLeftInByte;
+  private long previous;
+  private int previousLeading;
+  private int previousTrailing;
+
+  public GorillaDecoder(TSDataType dataType) {
+    super(TSEncoding.GORILLA);
+    if (dataType == TSDataType.FLOAT) {
+      width = 32;
+      lengthBits = 5;
+    } else if (dataType == TSDataType.DOUBLE) {
+      width = 64;
+      lengthBits = 6;
+    } else {
+      throw new TSFileDecodingException(
+          String.format("data type %s is not supported by GorillaDecoder", dataType));
+    }
+  }
+
+  @Override
+  public float readFloat(InputStream in) {
+    return Float.intBitsToFloat((int) readNext(in));
+  }
+
+  @Override
+  public double readDouble(InputStream in) {
+    return Double.longBitsToDouble(readNext(in));
+  }
+
+  @Override
+  public boolean hasNext(InputStream in) throws IOException {
+    return remaining > 0 || in.available() > 0;
+  }
+
+  private long readNext(InputStream in) {
+    try {
+      if (remaining == 0)
+        loadBlock(in);
+      remaining--;
+      if (isFirst) {
+        isFirst = false;
+        previous = readBits(in, width);
+        return previous;
+      }
+      if (readBits(in, 1) == 0)
+        return previous;
+      if (readBits(in, 1) == 1) {
+        previousLeading = (int) readBits(in, LEADING_ZERO_BITS);
+        int length = (int) readBits(in, lengthBits) + 1;
+        previousTrailing = width - previousLeading - length;
+      }
+      long xor = readBits(in, width - previousLeading - previousTrailing) << previousTrailing;
+      previous ^= xor;
+      return previous;
+    } catch (IOException e) {
+      LOG.error("tsfile-encoding GorillaDecoder: error occurs when reading value", e);
+      throw new TSFileDecodingException("meet IOException when reading gorilla encoded value");
+    }
+  }
+
+  private void loadBlock(InputStream in) throws IOException {
+    remaining = ReadWriteStreamUtils.readUnsignedVarInt(in);
+    isFirst = true;
+    bitsLeftInByte = 0;
+  }
+
+  /**
+   * read {@code bits} bits as the lowest bits of a long, from high to low
+   */
+  private long readBits(InputStream in, int bits) throws IOException {
+    long value = 0;
+    while (bits > 0) {
+      if (bitsLeftInByte == 0) {
+        currentByte = in.read();
+        if (currentByte < 0)
+          throw new IOException("unexpected end of gorilla encoded data");
+        bitsLeftInByte = 8;
+      }
+      int n = Math.min(bits, bitsLeftInByte);
+      bitsLeftInByte -= n;
+      value = (value << n) | ((currentByte >>> bitsLeftInByte) & ((1 << n) - 1));
+      bits -= n;
+    }
+    return value;
+  }
+}
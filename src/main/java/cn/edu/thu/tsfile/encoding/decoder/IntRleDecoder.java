@@ -2,6 +2,7 @@ package cn.edu.thu.tsfile.encoding.decoder;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 import cn.edu.thu.tsfile.encoding.bitPacking.IntPacker;
 import org.slf4j.Logger;
@@ -14,7 +15,8 @@ import cn.edu.thu.tsfile.encoding.common.EndianType;
 
 
 /**
- * @Description Decoder for int value using rle or bit-packing
+ * @Description Decoder for int value using rle or bit-packing, and boolean value encoded as 1 and
+ *              0 by {@code IntRleEncoder}
  * @author XuYi xuyi556677@163.com
  * @date Mar 25, 2016
  */
@@ -31,6 +33,11 @@ public class IntRleDecoder extends RleDecoder {
 	 */
 	private int[] currentBuffer;
 
+	/**
+	 * buffer to save bytes of bit-packed groups, reused across groups
+	 */
+	private byte[] bytes;
+
 	/**
 	 * packer for unpacking int value
 	 */
@@ -84,9 +91,88 @@ public class IntRleDecoder extends RleDecoder {
 		return result;
 	}
 
+	@Override
+	public boolean readBoolean(InputStream in) {
+		return readInt(in) != 0;
+	}
+
+	/**
+	 * decode values of current rle run or bit-packing run in batch
+	 */
+	@Override
+	public int readInts(InputStream in, int[] dst, int off, int len) throws IOException {
+		int count = 0;
+		while (count < len && hasNext(in)) {
+			if (!isLengthAndBitWidthReaded) {
+				readLengthAndBitWidth(in);
+			}
+			if (currentCount == 0) {
+				readNext();
+			}
+			int num = Math.min(len - count, currentCount);
+			switch (mode) {
+			case RLE:
+				Arrays.fill(dst, off + count, off + count + num, currentValue);
+				break;
+			case BIT_PACKED:
+				System.arraycopy(currentBuffer, bitPackingNum - currentCount, dst, off + count, num);
+				break;
+			default:
+				throw new TSFileDecodingException(String.format("tsfile-encoding IntRleDecoder: not a valid mode %s", mode));
+			}
+			currentCount -= num;
+			count += num;
+			if (!hasNextPackage()) {
+				isLengthAndBitWidthReaded = false;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * decode boolean values of current rle run or bit-packing run in batch, a rle run is filled
+	 * at once
+	 */
+	@Override
+	public int readBooleans(InputStream in, boolean[] dst, int off, int len) throws IOException {
+		int count = 0;
+		while (count < len && hasNext(in)) {
+			if (!isLengthAndBitWidthReaded) {
+				readLengthAndBitWidth(in);
+			}
+			if (currentCount == 0) {
+				readNext();
+			}
+			int num = Math.min(len - count, currentCount);
+			switch (mode) {
+			case RLE:
+				Arrays.fill(dst, off + count, off + count + num, currentValue != 0);
+				break;
+			case BIT_PACKED:
+				int start = bitPackingNum - currentCount;
+				for (int i = 0; i < num; i++) {
+					dst[off + count + i] = currentBuffer[start + i] != 0;
+				}
+				break;
+			default:
+				throw new TSFileDecodingException(String.format("tsfile-encoding IntRleDecoder: not a valid mode %s", mode));
+			}
+			currentCount -= num;
+			count += num;
+			if (!hasNextPackage()) {
+				isLengthAndBitWidthReaded = false;
+			}
+		}
+		return count;
+	}
+
 	@Override
 	protected void initPacker() {
-		packer = new IntPacker(bitWidth);
+		if (packer == null) {
+			packer = new IntPacker(bitWidth);
+		} else {
+			packer.setWidth(bitWidth);
+		}
 	}
 
 	@Override
@@ -96,11 +182,15 @@ public class IntRleDecoder extends RleDecoder {
 
 	@Override
 	protected void readBitPackingBuffer(int bitPackedGroupCount,int lastBitPackedNum) throws IOException {
-		currentBuffer = new int[bitPackedGroupCount * config.RLE_MIN_REPEATED_NUM];
-		byte[] bytes = new byte[bitPackedGroupCount * bitWidth];
+		int valueCount = bitPackedGroupCount * config.RLE_MIN_REPEATED_NUM;
+		if (currentBuffer == null || currentBuffer.length < valueCount) {
+			currentBuffer = new int[valueCount];
+		}
 		int bytesToRead = bitPackedGroupCount * bitWidth;
+		if (bytes == null || bytes.length < bytesToRead) {
+			bytes = new byte[bytesToRead];
+		}
 		bytesToRead = Math.min(bytesToRead, byteCache.available());
-//		new DataInputStream(byteCache).readFully(bytes, 0, bytesToRead);
 		byteCache.read(bytes, 0, bytesToRead);
 
 		// save all int values in currentBuffer
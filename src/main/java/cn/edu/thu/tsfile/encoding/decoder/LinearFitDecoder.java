@@ -0,0 +1,122 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cn.edu.thu.tsfile.common.exception.TSFileDecodingException;
+import cn.edu.thu.tsfile.common.utils.BytesUtils;
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.encoding.encoder.LinearFitEncoder;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * This class is a decoder for decoding the byte array that encoded by {@code LinearFitEncoder},
+ * i.e. SDT and PLA. Knots of a block are loaded at once, and values are interpolated between
+ * the two knots around their positions, which differ from the original values by no more than
+ * the max error of the encoder.
+ *
+ * @see LinearFitEncoder
+ * @author kangrong
+ */
+public class LinearFitDecoder extends Decoder {
+  private static final Logger LOG = LoggerFactory.getLogger(LinearFitDecoder.class);
+
+  private int[] knotPositions;
+  private double[] knotValues;
+  private int number;
+  // the segment and position of the next value to read
+  private int currentKnot;
+  private int currentIndex;
+
+  public LinearFitDecoder(TSEncoding type) {
+    super(type);
+    knotPositions = new int[0];
+    knotValues = new double[0];
+  }
+
+  @Override
+  public float readFloat(InputStream in) {
+    return (float) readDouble(in);
+  }
+
+  @Override
+  public double readDouble(InputStream in) {
+    try {
+      if (currentIndex == number) {
+        readBlock(in);
+      }
+      return next();
+    } catch (IOException e) {
+      LOG.error("tsfile-encoding LinearFitDecoder: error occurs when reading value", e);
+      throw new TSFileDecodingException("meet IOException when reading linear fit encoded value");
+    }
+  }
+
+  @Override
+  public int readFloats(InputStream in, float[] dst, int off, int len) throws IOException {
+    int count = 0;
+    while (count < len) {
+      if (currentIndex == number) {
+        if (in.available() <= 0)
+          break;
+        readBlock(in);
+      }
+      dst[off + count++] = (float) next();
+    }
+    return count;
+  }
+
+  @Override
+  public int readDoubles(InputStream in, double[] dst, int off, int len) throws IOException {
+    int count = 0;
+    while (count < len) {
+      if (currentIndex == number) {
+        if (in.available() <= 0)
+          break;
+        readBlock(in);
+      }
+      dst[off + count++] = next();
+    }
+    return count;
+  }
+
+  @Override
+  public boolean hasNext(InputStream in) throws IOException {
+    return currentIndex < number || in.available() > 0;
+  }
+
+  private double next() {
+    int position = currentIndex++;
+    if (position == knotPositions[currentKnot]) {
+      double value = knotValues[currentKnot];
+      if (currentIndex < number)
+        currentKnot++;
+      return value;
+    }
+    // the position is between the previous knot and the current one
+    int start = knotPositions[currentKnot - 1];
+    double startValue = knotValues[currentKnot - 1];
+    return startValue + (knotValues[currentKnot] - startValue) * (position - start)
+        / (knotPositions[currentKnot] - start);
+  }
+
+  private void readBlock(InputStream in) throws IOException {
+    number = ReadWriteStreamUtils.readUnsignedVarInt(in);
+    int knotCount = ReadWriteStreamUtils.readUnsignedVarInt(in);
+    if (knotPositions.length < knotCount) {
+      knotPositions = new int[knotCount];
+      knotValues = new double[knotCount];
+    }
+    int position = 0;
+    for (int i = 0; i < knotCount; i++) {
+      position += ReadWriteStreamUtils.readUnsignedVarInt(in);
+      knotPositions[i] = position;
+      knotValues[i] = BytesUtils.readDouble(in);
+    }
+    currentKnot = 0;
+    currentIndex = 0;
+  }
+}
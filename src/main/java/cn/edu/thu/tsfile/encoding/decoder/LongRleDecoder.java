@@ -2,6 +2,7 @@ package cn.edu.thu.tsfile.encoding.decoder;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,6 +31,11 @@ public class LongRleDecoder extends RleDecoder{
 	 */
 	private long[] currentBuffer;
 
+	/**
+	 * buffer to save bytes of bit-packed groups, reused across groups
+	 */
+	private byte[] bytes;
+
 	/**
 	 * packer for unpacking long value
 	 */
@@ -83,9 +89,46 @@ public class LongRleDecoder extends RleDecoder{
 		return result;
 	}
 
+	/**
+	 * decode values of current rle run or bit-packing run in batch
+	 */
+	@Override
+	public int readLongs(InputStream in, long[] dst, int off, int len) throws IOException {
+		int count = 0;
+		while (count < len && hasNext(in)) {
+			if (!isLengthAndBitWidthReaded) {
+				readLengthAndBitWidth(in);
+			}
+			if (currentCount == 0) {
+				readNext();
+			}
+			int num = Math.min(len - count, currentCount);
+			switch (mode) {
+			case RLE:
+				Arrays.fill(dst, off + count, off + count + num, currentValue);
+				break;
+			case BIT_PACKED:
+				System.arraycopy(currentBuffer, bitPackingNum - currentCount, dst, off + count, num);
+				break;
+			default:
+				throw new TSFileDecodingException(String.format("tsfile-encoding LongRleDecoder: not a valid mode %s", mode));
+			}
+			currentCount -= num;
+			count += num;
+			if (!hasNextPackage()) {
+				isLengthAndBitWidthReaded = false;
+			}
+		}
+		return count;
+	}
+
 	@Override
 	protected void initPacker() {
-		packer = new LongPacker(bitWidth);
+		if (packer == null) {
+			packer = new LongPacker(bitWidth);
+		} else {
+			packer.setWidth(bitWidth);
+		}
 	}
 
 	@Override
@@ -95,11 +138,15 @@ public class LongRleDecoder extends RleDecoder{
 
 	@Override
 	protected void readBitPackingBuffer(int bitPackedGroupCount,int lastBitPackedNum) throws IOException {
-		currentBuffer = new long[bitPackedGroupCount * config.RLE_MIN_REPEATED_NUM];
-		byte[] bytes = new byte[bitPackedGroupCount * bitWidth];
+		int valueCount = bitPackedGroupCount * config.RLE_MIN_REPEATED_NUM;
+		if (currentBuffer == null || currentBuffer.length < valueCount) {
+			currentBuffer = new long[valueCount];
+		}
 		int bytesToRead = bitPackedGroupCount * bitWidth;
+		if (bytes == null || bytes.length < bytesToRead) {
+			bytes = new byte[bytesToRead];
+		}
 		bytesToRead = Math.min(bytesToRead, byteCache.available());
-//		new DataInputStream(byteCache).readFully(bytes, 0, bytesToRead);
 		byteCache.read(bytes, 0, bytesToRead);
 		
 		// save all long values in currentBuffer
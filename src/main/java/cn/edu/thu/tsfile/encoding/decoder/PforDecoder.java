@@ -0,0 +1,213 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cn.edu.thu.tsfile.common.exception.TSFileDecodingException;
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.encoding.bitPacking.IntPacker;
+import cn.edu.thu.tsfile.encoding.bitPacking.LongPacker;
+import cn.edu.thu.tsfile.encoding.encoder.PforEncoder;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * This class is a decoder for decoding the byte array that encoded by {@code PforEncoder}. It
+ * supports int and long values. A whole block is decoded at once: packed deltas are unpacked
+ * by the unrolled bit packers, exceptions are patched, and values are restored by adding the
+ * reference and prefix sum.
+ * Reading in batch copies values of decoded blocks.
+ *
+ * @see PforEncoder
+ * @author kangrong
+ */
+public abstract class PforDecoder extends Decoder {
+  private static final Logger LOG = LoggerFactory.getLogger(PforDecoder.class);
+  private static final int BLOCK_SIZE = 128;
+
+  // min of zigzag deltas in current block
+  protected long reference;
+  protected int width;
+  protected int exceptionCount;
+  // number of values in current block and the index of the next value to read
+  protected int size;
+  protected int nextIndex;
+  protected byte[] packBuffer;
+
+  public PforDecoder() {
+    super(TSEncoding.PFOR);
+    packBuffer = new byte[0];
+  }
+
+  @Override
+  public boolean hasNext(InputStream in) throws IOException {
+    return nextIndex < size || in.available() > 0;
+  }
+
+  /**
+   * read the header of next block, and its packed deltas into {@code packBuffer}
+   *
+   * @return zigzag of the first value
+   */
+  protected long readBlockHeader(InputStream in) throws IOException {
+    size = ReadWriteStreamUtils.readUnsignedVarInt(in);
+    if (size <= 0 || size > BLOCK_SIZE)
+      throw new IOException("invalid number of values in pfor block: " + size);
+    long firstValue = ReadWriteStreamUtils.readUnsignedVarLong(in);
+    reference = ReadWriteStreamUtils.readUnsignedVarLong(in);
+    width = in.read();
+    exceptionCount = in.read();
+    int length = (size + 6) / 8 * width;
+    if (packBuffer.length < length)
+      packBuffer = new byte[length];
+    int read = 0;
+    while (read < length) {
+      int n = in.read(packBuffer, read, length - read);
+      if (n < 0)
+        throw new IOException("unexpected end of pfor encoded data");
+      read += n;
+    }
+    nextIndex = 0;
+    return firstValue;
+  }
+
+  protected void logError(IOException e) {
+    LOG.error("tsfile-encoding PforDecoder: error occurs when reading value", e);
+  }
+
+  public static class IntPforDecoder extends PforDecoder {
+    private final int[] deltas;
+    private final int[] data;
+    private final IntPacker packer;
+
+    public IntPforDecoder() {
+      super();
+      deltas = new int[BLOCK_SIZE];
+      data = new int[BLOCK_SIZE];
+      packer = new IntPacker(0);
+    }
+
+    @Override
+    public int readInt(InputStream in) {
+      try {
+        if (nextIndex == size)
+          loadBlock(in);
+        return data[nextIndex++];
+      } catch (IOException e) {
+        logError(e);
+        throw new TSFileDecodingException("meet IOException when reading pfor encoded value");
+      }
+    }
+
+    /**
+     * copy decoded values of current block in batch, and load next block if it runs out
+     */
+    @Override
+    public int readInts(InputStream in, int[] dst, int off, int len) throws IOException {
+      int count = 0;
+      while (count < len) {
+        if (nextIndex == size) {
+          if (in.available() <= 0)
+            break;
+          loadBlock(in);
+        }
+        int num = Math.min(len - count, size - nextIndex);
+        System.arraycopy(data, nextIndex, dst, off + count, num);
+        nextIndex += num;
+        count += num;
+      }
+      return count;
+    }
+
+    private void loadBlock(InputStream in) throws IOException {
+      data[0] = (int) ReadWriteStreamUtils.zigzagDecode(readBlockHeader(in));
+      int deltaCount = size - 1;
+      if (width == 0) {
+        Arrays.fill(deltas, 0, deltaCount, 0);
+      } else {
+        packer.setWidth(width);
+        packer.unpackAllValues(packBuffer, 0, (deltaCount + 7) / 8 * width, deltas);
+      }
+      for (int i = 0; i < exceptionCount; i++) {
+        int index = in.read();
+        deltas[index] |= (int) ReadWriteStreamUtils.readUnsignedVarLong(in) << width;
+      }
+      int previous = data[0];
+      int intReference = (int) reference;
+      for (int i = 0; i < deltaCount; i++) {
+        int zigzag = deltas[i] + intReference;
+        previous += (zigzag >>> 1) ^ -(zigzag & 1);
+        data[i + 1] = previous;
+      }
+    }
+  }
+
+  public static class LongPforDecoder extends PforDecoder {
+    private final long[] deltas;
+    private final long[] data;
+    private final LongPacker packer;
+
+    public LongPforDecoder() {
+      super();
+      deltas = new long[BLOCK_SIZE];
+      data = new long[BLOCK_SIZE];
+      packer = new LongPacker(0);
+    }
+
+    @Override
+    public long readLong(InputStream in) {
+      try {
+        if (nextIndex == size)
+          loadBlock(in);
+        return data[nextIndex++];
+      } catch (IOException e) {
+        logError(e);
+        throw new TSFileDecodingException("meet IOException when reading pfor encoded value");
+      }
+    }
+
+    /**
+     * copy decoded values of current block in batch, and load next block if it runs out
+     */
+    @Override
+    public int readLongs(InputStream in, long[] dst, int off, int len) throws IOException {
+      int count = 0;
+      while (count < len) {
+        if (nextIndex == size) {
+          if (in.available() <= 0)
+            break;
+          loadBlock(in);
+        }
+        int num = Math.min(len - count, size - nextIndex);
+        System.arraycopy(data, nextIndex, dst, off + count, num);
+        nextIndex += num;
+        count += num;
+      }
+      return count;
+    }
+
+    private void loadBlock(InputStream in) throws IOException {
+      data[0] = ReadWriteStreamUtils.zigzagDecode(readBlockHeader(in));
+      int deltaCount = size - 1;
+      if (width == 0) {
+        Arrays.fill(deltas, 0, deltaCount, 0);
+      } else {
+        packer.setWidth(width);
+        packer.unpackAllValues(packBuffer, 0, (deltaCount + 7) / 8 * width, deltas);
+      }
+      for (int i = 0; i < exceptionCount; i++) {
+        int index = in.read();
+        deltas[index] |= ReadWriteStreamUtils.readUnsignedVarLong(in) << width;
+      }
+      long previous = data[0];
+      for (int i = 0; i < deltaCount; i++) {
+        long zigzag = deltas[i] + reference;
+        previous += (zigzag >>> 1) ^ -(zigzag & 1);
+        data[i + 1] = previous;
+      }
+    }
+  }
+}
@@ -3,12 +3,15 @@ package cn.edu.thu.tsfile.encoding.decoder;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import cn.edu.thu.tsfile.common.exception.TSFileDecodingException;
 import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.common.utils.ByteBufferInputStream;
 import cn.edu.thu.tsfile.encoding.common.EndianType;
 import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
 
@@ -20,6 +23,10 @@ public class PlainDecoder extends Decoder {
 
   public EndianType endianType;
   private static final Logger LOGGER = LoggerFactory.getLogger(PlainDecoder.class);
+  /**
+   * buffer to read bytes of values in batch, reused across batches
+   */
+  private byte[] batchBuffer = new byte[0];
 
   public PlainDecoder(EndianType endianType) {
     super(TSEncoding.PLAIN);
@@ -120,6 +127,126 @@ public class PlainDecoder extends Decoder {
     return binary;
   }
 
+  @Override
+  public int readBooleans(InputStream in, boolean[] dst, int off, int len) throws IOException {
+    ByteBuffer buffer = getLittleEndianBuffer(in);
+    if (buffer != null) {
+      int count = Math.min(len, buffer.remaining());
+      for (int i = 0; i < count; i++)
+        dst[off + i] = buffer.get() != 0;
+      return count;
+    }
+    int count = Math.min(len, in.available());
+    byte[] buf = readBatch(in, count);
+    for (int i = 0; i < count; i++)
+      dst[off + i] = buf[i] != 0;
+    return count;
+  }
+
+  @Override
+  public int readInts(InputStream in, int[] dst, int off, int len) throws IOException {
+    if (this.endianType != EndianType.LITTLE_ENDIAN)
+      return super.readInts(in, dst, off, len);
+    ByteBuffer buffer = getLittleEndianBuffer(in);
+    if (buffer != null) {
+      int count = Math.min(len, buffer.remaining() / 4);
+      buffer.asIntBuffer().get(dst, off, count);
+      buffer.position(buffer.position() + count * 4);
+      return count;
+    }
+    int count = Math.min(len, in.available() / 4);
+    byte[] buf = readBatch(in, count * 4);
+    for (int i = 0; i < count; i++)
+      dst[off + i] = getInt(buf, i * 4);
+    return count;
+  }
+
+  @Override
+  public int readLongs(InputStream in, long[] dst, int off, int len) throws IOException {
+    ByteBuffer buffer = getLittleEndianBuffer(in);
+    if (buffer != null) {
+      int count = Math.min(len, buffer.remaining() / 8);
+      buffer.asLongBuffer().get(dst, off, count);
+      buffer.position(buffer.position() + count * 8);
+      return count;
+    }
+    int count = Math.min(len, in.available() / 8);
+    byte[] buf = readBatch(in, count * 8);
+    for (int i = 0; i < count; i++)
+      dst[off + i] = getLong(buf, i * 8);
+    return count;
+  }
+
+  @Override
+  public int readFloats(InputStream in, float[] dst, int off, int len) throws IOException {
+    if (this.endianType != EndianType.LITTLE_ENDIAN)
+      return super.readFloats(in, dst, off, len);
+    ByteBuffer buffer = getLittleEndianBuffer(in);
+    if (buffer != null) {
+      int count = Math.min(len, buffer.remaining() / 4);
+      buffer.asFloatBuffer().get(dst, off, count);
+      buffer.position(buffer.position() + count * 4);
+      return count;
+    }
+    int count = Math.min(len, in.available() / 4);
+    byte[] buf = readBatch(in, count * 4);
+    for (int i = 0; i < count; i++)
+      dst[off + i] = Float.intBitsToFloat(getInt(buf, i * 4));
+    return count;
+  }
+
+  @Override
+  public int readDoubles(InputStream in, double[] dst, int off, int len) throws IOException {
+    ByteBuffer buffer = getLittleEndianBuffer(in);
+    if (buffer != null) {
+      int count = Math.min(len, buffer.remaining() / 8);
+      buffer.asDoubleBuffer().get(dst, off, count);
+      buffer.position(buffer.position() + count * 8);
+      return count;
+    }
+    int count = Math.min(len, in.available() / 8);
+    byte[] buf = readBatch(in, count * 8);
+    for (int i = 0; i < count; i++)
+      dst[off + i] = Double.longBitsToDouble(getLong(buf, i * 8));
+    return count;
+  }
+
+  /**
+   * return the buffer of given stream in little endian if values can be read from it directly,
+   * otherwise null
+   */
+  private static ByteBuffer getLittleEndianBuffer(InputStream in) {
+    if (!(in instanceof ByteBufferInputStream))
+      return null;
+    return ((ByteBufferInputStream) in).getBuffer().order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * read given number of bytes into {@code batchBuffer}
+   */
+  private byte[] readBatch(InputStream in, int length) throws IOException {
+    if (batchBuffer.length < length)
+      batchBuffer = new byte[length];
+    int readSize = 0;
+    while (readSize < length) {
+      int size = in.read(batchBuffer, readSize, length - readSize);
+      if (size < 0)
+        throw new IOException(
+            String.format("tsfile-encoding PlainDecoder: expect %d bytes, read %d", length, readSize));
+      readSize += size;
+    }
+    return batchBuffer;
+  }
+
+  private static int getInt(byte[] buf, int pos) {
+    return (buf[pos] & 0xFF) | ((buf[pos + 1] & 0xFF) << 8) | ((buf[pos + 2] & 0xFF) << 16)
+        | ((buf[pos + 3] & 0xFF) << 24);
+  }
+
+  private static long getLong(byte[] buf, int pos) {
+    return (getInt(buf, pos) & 0xFFFFFFFFL) | ((long) getInt(buf, pos + 4) << 32);
+  }
+
   @Override
   public boolean hasNext(InputStream in) throws IOException {
     return in.available() > 0;
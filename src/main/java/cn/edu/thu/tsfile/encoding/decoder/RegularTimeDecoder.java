@@ -0,0 +1,250 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cn.edu.thu.tsfile.common.exception.TSFileDecodingException;
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.encoding.encoder.RegularTimeEncoder;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * This class is a decoder for decoding the byte array that encoded by {@code RegularTimeEncoder}.
+ * Values are read from a table of runs, which is loaded block by block when reading values one by
+ * one or in batch. After {@link #readAll(InputStream)}, the table holds all values of the stream,
+ * and the position of a value is located by {@link #lowerBound(long)} and {@link #indexOf(long)}
+ * in time logarithmic to the number of runs, without decoding any value.<br>
+ * Values are expected to be in ascending order for locating.
+ *
+ * @see RegularTimeEncoder
+ * @author kangrong
+ */
+public class RegularTimeDecoder extends Decoder {
+  private static final Logger LOG = LoggerFactory.getLogger(RegularTimeDecoder.class);
+  private static final int INITIAL_RUN_CAPACITY = 16;
+
+  private long[] runStarts;
+  private long[] runIntervals;
+  /**
+   * position of the first value of each run, and the number of values at {@code runCount}
+   */
+  private int[] runOffsets;
+  private int runCount;
+  // run and position of the next value to read
+  private int currentRun;
+  private int currentIndex;
+
+  public RegularTimeDecoder() {
+    super(TSEncoding.REGULAR);
+    runStarts = new long[INITIAL_RUN_CAPACITY];
+    runIntervals = new long[INITIAL_RUN_CAPACITY];
+    runOffsets = new int[INITIAL_RUN_CAPACITY + 1];
+    clear();
+  }
+
+  @Override
+  public long readLong(InputStream in) {
+    try {
+      if (currentIndex == size()) {
+        clear();
+        readBlock(in);
+      }
+      long value = runStarts[currentRun]
+          + (currentIndex - runOffsets[currentRun]) * runIntervals[currentRun];
+      currentIndex++;
+      if (currentIndex == runOffsets[currentRun + 1])
+        currentRun++;
+      return value;
+    } catch (IOException e) {
+      LOG.error("tsfile-encoding RegularTimeDecoder: error occurs when reading value", e);
+      throw new TSFileDecodingException("meet IOException when reading regular encoded value");
+    }
+  }
+
+  @Override
+  public int readLongs(InputStream in, long[] dst, int off, int len) throws IOException {
+    int count = 0;
+    while (count < len) {
+      if (currentIndex == size()) {
+        if (in.available() <= 0)
+          break;
+        clear();
+        readBlock(in);
+        continue;
+      }
+      long start = runStarts[currentRun];
+      long interval = runIntervals[currentRun];
+      int offset = runOffsets[currentRun];
+      int end = Math.min(runOffsets[currentRun + 1], currentIndex + len - count);
+      for (int i = currentIndex; i < end; i++) {
+        dst[off + count++] = start + (i - offset) * interval;
+      }
+      currentIndex = end;
+      if (currentIndex == runOffsets[currentRun + 1])
+        currentRun++;
+    }
+    return count;
+  }
+
+  @Override
+  public boolean hasNext(InputStream in) throws IOException {
+    return currentIndex < size() || in.available() > 0;
+  }
+
+  /**
+   * read all blocks left in the stream into the table of runs, after which values are located by
+   * position or read from the first one.
+   *
+   * @param in - stream of regular encoded values
+   * @return number of values in the stream
+   * @throws IOException
+   */
+  public int readAll(InputStream in) throws IOException {
+    clear();
+    while (in.available() > 0) {
+      readBlock(in);
+    }
+    return size();
+  }
+
+  /**
+   * @return number of values in the table of runs
+   */
+  public int size() {
+    return runOffsets[runCount];
+  }
+
+  /**
+   * @return the value at given position of the table
+   */
+  public long getValue(int index) {
+    // the last run starting not after the index
+    int low = 0;
+    int high = runCount - 1;
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (runOffsets[mid] <= index)
+        low = mid;
+      else
+        high = mid - 1;
+    }
+    return runStarts[low] + (index - runOffsets[low]) * runIntervals[low];
+  }
+
+  /**
+   * @return position of the first value not less than given value, or {@link #size()} if all
+   *         values are less than it
+   */
+  public int lowerBound(long value) {
+    // the first run whose last value is not less than given value
+    int low = 0;
+    int high = runCount;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (getRunLast(mid) < value)
+        low = mid + 1;
+      else
+        high = mid;
+    }
+    if (low == runCount)
+      return size();
+    long start = runStarts[low];
+    if (value <= start)
+      return runOffsets[low];
+    // the run has more than one value with positive interval, since its last is greater than start
+    long distance = value - start;
+    long interval = runIntervals[low];
+    long steps = distance / interval + (distance % interval == 0 ? 0 : 1);
+    return runOffsets[low] + (int) steps;
+  }
+
+  /**
+   * @return position of the first value greater than given value, or {@link #size()} if no value
+   *         is greater than it
+   */
+  public int upperBound(long value) {
+    if (value == Long.MAX_VALUE)
+      return size();
+    return lowerBound(value + 1);
+  }
+
+  /**
+   * @return position of the first value equal to given value, or -1 if it is not found
+   */
+  public int indexOf(long value) {
+    int index = lowerBound(value);
+    if (index < size() && getValue(index) == value)
+      return index;
+    return -1;
+  }
+
+  private long getRunLast(int run) {
+    return runStarts[run] + (runOffsets[run + 1] - runOffsets[run] - 1) * runIntervals[run];
+  }
+
+  private void clear() {
+    runCount = 0;
+    runOffsets[0] = 0;
+    currentRun = 0;
+    currentIndex = 0;
+  }
+
+  private void readBlock(InputStream in) throws IOException {
+    int mode = in.read();
+    int num = ReadWriteStreamUtils.readUnsignedVarInt(in);
+    if (mode == RegularTimeEncoder.MODE_RUNS) {
+      int count = ReadWriteStreamUtils.readUnsignedVarInt(in);
+      long last = 0;
+      long interval = 0;
+      for (int i = 0; i < count; i++) {
+        long start = last + ReadWriteStreamUtils.zigzagDecode(ReadWriteStreamUtils.readUnsignedVarLong(in));
+        interval += ReadWriteStreamUtils.zigzagDecode(ReadWriteStreamUtils.readUnsignedVarLong(in));
+        int runLength = ReadWriteStreamUtils.readUnsignedVarInt(in) + 1;
+        addRun(start, interval, runLength);
+        last = start + (runLength - 1) * interval;
+      }
+    } else if (mode == RegularTimeEncoder.MODE_TS_2DIFF) {
+      long[] values = new long[num];
+      int count = new DeltaBinaryDecoder.LongDeltaDecoder().readLongs(in, values, 0, num);
+      if (count != num) {
+        throw new IOException(String.format("expect %d values, but read %d", num, count));
+      }
+      addValues(values, num);
+    } else {
+      throw new IOException("unknown mode of regular encoded block: " + mode);
+    }
+  }
+
+  /**
+   * split values into runs of constant interval the same way as {@code RegularTimeEncoder}
+   */
+  private void addValues(long[] values, int num) {
+    int i = 0;
+    while (i < num) {
+      int end = i + 1;
+      long interval = end < num ? values[end] - values[i] : 0;
+      while (end < num && values[end] - values[end - 1] == interval) {
+        end++;
+      }
+      addRun(values[i], interval, end - i);
+      i = end;
+    }
+  }
+
+  private void addRun(long start, long interval, int count) {
+    if (runCount == runStarts.length) {
+      int capacity = runCount * 2;
+      runStarts = Arrays.copyOf(runStarts, capacity);
+      runIntervals = Arrays.copyOf(runIntervals, capacity);
+      runOffsets = Arrays.copyOf(runOffsets, capacity + 1);
+    }
+    runStarts[runCount] = start;
+    runIntervals[runCount] = interval;
+    runOffsets[runCount + 1] = runOffsets[runCount] + count;
+    runCount++;
+  }
+}
@@ -1,13 +1,14 @@
 package cn.edu.thu.tsfile.encoding.decoder;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 
 import cn.edu.thu.tsfile.common.conf.TSFileConfig;
 import cn.edu.thu.tsfile.common.exception.TSFileDecodingException;
 import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.common.utils.ByteBufferInputStream;
 import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
 import cn.edu.thu.tsfile.encoding.common.EndianType;
 import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
@@ -62,7 +63,12 @@ public abstract class RleDecoder extends Decoder {
     /**
      * buffer to save data format like [<bitwidth> <encoded-data>] for decoder
      */
-    protected ByteArrayInputStream byteCache;
+    protected ByteBufferInputStream byteCache;
+
+    /**
+     * reused array backing byteCache, only grows when a longer pattern is read
+     */
+    private byte[] byteCacheBuffer;
 
     /**
      * number of bit-packing group in which is saved in header
@@ -75,7 +81,8 @@ public abstract class RleDecoder extends Decoder {
 	currentCount = 0;
 	isLengthAndBitWidthReaded = false;
 	bitPackingNum = 0;
-	byteCache = new ByteArrayInputStream(new byte[0]);
+	byteCacheBuffer = new byte[0];
+	byteCache = new ByteBufferInputStream(byteCacheBuffer);
 	// LOGGER.debug("tsfile-encoding RleDecoder: init rle decoder");
     }
 
@@ -133,9 +140,16 @@ public abstract class RleDecoder extends Decoder {
     protected void readLengthAndBitWidth(InputStream in) throws IOException {
 	// long st = System.currentTimeMillis();
 	length = ReadWriteStreamUtils.readUnsignedVarInt(in);
-	byte[] tmp = new byte[length];
-	in.read(tmp, 0, length);
-	byteCache = new ByteArrayInputStream(tmp);
+	if (in instanceof ByteBufferInputStream) {
+	    // read the package from buffer of page without copying
+	    byteCache = ((ByteBufferInputStream) in).slice(length);
+	} else {
+	    if (byteCacheBuffer.length < length) {
+		byteCacheBuffer = new byte[length];
+	    }
+	    in.read(byteCacheBuffer, 0, length);
+	    byteCache = new ByteBufferInputStream(ByteBuffer.wrap(byteCacheBuffer, 0, length));
+	}
 	isLengthAndBitWidthReaded = true;
 	bitWidth = byteCache.read();
 	initPacker();
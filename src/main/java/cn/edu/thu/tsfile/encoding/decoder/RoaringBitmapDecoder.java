@@ -0,0 +1,295 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cn.edu.thu.tsfile.common.exception.TSFileDecodingException;
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.encoding.encoder.RoaringBitmapEncoder;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * This class is a decoder for decoding the byte array that encoded by
+ * {@code RoaringBitmapEncoder}. A block is loaded into containers of each distinct value by
+ * {@link #readBitmaps(InputStream)}, after which the bitmap of a value is merged into a bitset of
+ * positions by {@link #orBitmap(int, long[])} without decoding any value, so that a value filter
+ * is evaluated once for each distinct value instead of each position.<br>
+ * When values are read one by one or in batch, the block is decoded into an array of values in
+ * time linear to the number of values.
+ *
+ * @see RoaringBitmapEncoder
+ * @author kangrong
+ */
+public class RoaringBitmapDecoder extends Decoder {
+  private static final Logger LOG = LoggerFactory.getLogger(RoaringBitmapDecoder.class);
+
+  private int number;
+  private int distinctCount;
+  private int[] distinctValues;
+  /**
+   * containers of each distinct value, in ascending order of key
+   */
+  private Container[][] bitmaps;
+  /**
+   * values of the block decoded from bitmaps, null if they are not decoded yet
+   */
+  private int[] values;
+  // position of the next value to read
+  private int currentIndex;
+
+  public RoaringBitmapDecoder() {
+    super(TSEncoding.ROARING_BITMAP);
+    distinctValues = new int[0];
+    bitmaps = new Container[0][];
+  }
+
+  @Override
+  public int readInt(InputStream in) {
+    try {
+      if (currentIndex == number) {
+        readBitmaps(in);
+      }
+      if (values == null) {
+        decodeValues();
+      }
+      return values[currentIndex++];
+    } catch (IOException e) {
+      LOG.error("tsfile-encoding RoaringBitmapDecoder: error occurs when reading value", e);
+      throw new TSFileDecodingException("meet IOException when reading roaring bitmap encoded value");
+    }
+  }
+
+  @Override
+  public int readInts(InputStream in, int[] dst, int off, int len) throws IOException {
+    int count = 0;
+    while (count < len) {
+      if (currentIndex == number) {
+        if (in.available() <= 0)
+          break;
+        readBitmaps(in);
+        continue;
+      }
+      if (values == null) {
+        decodeValues();
+      }
+      int n = Math.min(number - currentIndex, len - count);
+      System.arraycopy(values, currentIndex, dst, off + count, n);
+      currentIndex += n;
+      count += n;
+    }
+    return count;
+  }
+
+  @Override
+  public boolean hasNext(InputStream in) throws IOException {
+    return currentIndex < number || in.available() > 0;
+  }
+
+  /**
+   * read the next block in the stream into containers of each distinct value, after which
+   * values of the block are read from the first one.
+   *
+   * @param in - stream of roaring bitmap encoded values
+   * @return number of values in the block
+   * @throws IOException
+   */
+  public int readBitmaps(InputStream in) throws IOException {
+    int version = in.read();
+    if (version != RoaringBitmapEncoder.VERSION) {
+      throw new IOException("unknown version of roaring bitmap encoded block: " + version);
+    }
+    number = ReadWriteStreamUtils.readUnsignedVarInt(in);
+    distinctCount = ReadWriteStreamUtils.readUnsignedVarInt(in);
+    if (distinctValues.length < distinctCount) {
+      distinctValues = new int[distinctCount];
+      bitmaps = new Container[distinctCount][];
+    }
+    for (int i = 0; i < distinctCount; i++) {
+      distinctValues[i] = ReadWriteStreamUtils.readUnsignedVarInt(in);
+      Container[] containers = new Container[ReadWriteStreamUtils.readUnsignedVarInt(in)];
+      for (int j = 0; j < containers.length; j++) {
+        containers[j] = readContainer(in);
+      }
+      bitmaps[i] = containers;
+    }
+    values = null;
+    currentIndex = 0;
+    return number;
+  }
+
+  /**
+   * @return number of values in the block read by {@link #readBitmaps(InputStream)}
+   */
+  public int size() {
+    return number;
+  }
+
+  /**
+   * @return number of distinct values in the block
+   */
+  public int getDistinctCount() {
+    return distinctCount;
+  }
+
+  /**
+   * @return the distinct value of given index, distinct values are in ascending order
+   */
+  public int getDistinctValue(int index) {
+    return distinctValues[index];
+  }
+
+  /**
+   * set bits of positions where the distinct value of given index appears.
+   *
+   * @param index - index of the distinct value
+   * @param words - bitset of positions, bit i of word j is for position j * 64 + i, and its length
+   *        is not less than (size() + 63) / 64
+   */
+  public void orBitmap(int index, long[] words) {
+    for (Container container : bitmaps[index]) {
+      int base = container.key << 16;
+      switch (container.type) {
+        case RoaringBitmapEncoder.ARRAY_CONTAINER:
+          for (int i = 0; i < container.length; i++) {
+            int position = base | container.data[i];
+            words[position >>> 6] |= 1L << (position & 63);
+          }
+          break;
+        case RoaringBitmapEncoder.BITMAP_CONTAINER:
+          // blocks are aligned to words
+          int wordOffset = base >>> 6;
+          int wordCount = Math.min(RoaringBitmapEncoder.BITMAP_WORDS, words.length - wordOffset);
+          for (int i = 0; i < wordCount; i++) {
+            words[wordOffset + i] |= container.words[i];
+          }
+          break;
+        default:
+          for (int i = 0; i < container.length; i += 2) {
+            int start = base | container.data[i];
+            setRange(words, start, start + container.data[i + 1] + 1);
+          }
+      }
+    }
+  }
+
+  /**
+   * set bits of [from, to) in the bitset
+   */
+  private static void setRange(long[] words, int from, int to) {
+    int first = from >>> 6;
+    int last = (to - 1) >>> 6;
+    long firstMask = -1L << (from & 63);
+    long lastMask = -1L >>> (63 - ((to - 1) & 63));
+    if (first == last) {
+      words[first] |= firstMask & lastMask;
+      return;
+    }
+    words[first] |= firstMask;
+    for (int i = first + 1; i < last; i++) {
+      words[i] = -1L;
+    }
+    words[last] |= lastMask;
+  }
+
+  private void decodeValues() {
+    values = new int[number];
+    for (int i = 0; i < distinctCount; i++) {
+      int value = distinctValues[i];
+      for (Container container : bitmaps[i]) {
+        int base = container.key << 16;
+        switch (container.type) {
+          case RoaringBitmapEncoder.ARRAY_CONTAINER:
+            for (int j = 0; j < container.length; j++) {
+              values[base | container.data[j]] = value;
+            }
+            break;
+          case RoaringBitmapEncoder.BITMAP_CONTAINER:
+            for (int j = 0; j < RoaringBitmapEncoder.BITMAP_WORDS; j++) {
+              long word = container.words[j];
+              while (word != 0) {
+                values[base | (j << 6) | Long.numberOfTrailingZeros(word)] = value;
+                word &= word - 1;
+              }
+            }
+            break;
+          default:
+            for (int j = 0; j < container.length; j += 2) {
+              int start = base | container.data[j];
+              Arrays.fill(values, start, start + container.data[j + 1] + 1, value);
+            }
+        }
+      }
+    }
+  }
+
+  private Container readContainer(InputStream in) throws IOException {
+    Container container = new Container();
+    container.key = ReadWriteStreamUtils.readUnsignedVarInt(in);
+    container.type = in.read();
+    switch (container.type) {
+      case RoaringBitmapEncoder.ARRAY_CONTAINER:
+        container.length = ReadWriteStreamUtils.readUnsignedVarInt(in) + 1;
+        container.data = readShorts(in, container.length);
+        break;
+      case RoaringBitmapEncoder.RUN_CONTAINER:
+        // start and length of each run
+        container.length = (ReadWriteStreamUtils.readUnsignedVarInt(in) + 1) * 2;
+        container.data = readShorts(in, container.length);
+        break;
+      case RoaringBitmapEncoder.BITMAP_CONTAINER:
+        container.words = new long[RoaringBitmapEncoder.BITMAP_WORDS];
+        byte[] bytes = new byte[RoaringBitmapEncoder.BITMAP_WORDS * 8];
+        readFully(in, bytes);
+        for (int i = 0; i < container.words.length; i++) {
+          long word = 0;
+          for (int j = 0; j < 8; j++) {
+            word = (word << 8) | (bytes[i * 8 + j] & 0xFF);
+          }
+          container.words[i] = word;
+        }
+        break;
+      default:
+        throw new IOException("unknown type of roaring bitmap container: " + container.type);
+    }
+    return container;
+  }
+
+  private static char[] readShorts(InputStream in, int length) throws IOException {
+    byte[] bytes = new byte[length * 2];
+    readFully(in, bytes);
+    char[] shorts = new char[length];
+    for (int i = 0; i < length; i++) {
+      shorts[i] = (char) (((bytes[2 * i] & 0xFF) << 8) | (bytes[2 * i + 1] & 0xFF));
+    }
+    return shorts;
+  }
+
+  private static void readFully(InputStream in, byte[] bytes) throws IOException {
+    int offset = 0;
+    while (offset < bytes.length) {
+      int count = in.read(bytes, offset, bytes.length - offset);
+      if (count < 0) {
+        throw new IOException("unexpected end of stream when reading roaring bitmap container");
+      }
+      offset += count;
+    }
+  }
+
+  /**
+   * positions of a value in a block of 65536 positions, low 16 bits of which are stored as
+   * unsigned chars
+   */
+  private static class Container {
+    int key;
+    int type;
+    // number of chars in data
+    int length;
+    // low bits of positions for array, and start and length minus 1 of runs for run container
+    char[] data;
+    long[] words;
+  }
+}
@@ -0,0 +1,208 @@
+package cn.edu.thu.tsfile.encoding.encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import cn.edu.thu.tsfile.common.exception.TSFileEncodingException;
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * @Description Encodes float or double values losslessly as decimals scaled to integers, with the
+ *              number of decimal places detected from the values of each block, according to the
+ *              following grammar:
+ *
+ *              <pre>
+ * {@code
+ * alp-encoding: <block>*
+ * block := <num> <exponent> <exception-num> <exception>* <scaled-values>
+ * num := number of values in the block, at most 1024, stored as unsigned var int
+ * exponent := number of decimal places e in 1 byte, a value is decoded as scaled / 10^e
+ * exception-num := number of values which are not decoded exactly, stored as unsigned var int
+ * exception := <index-delta> <bits>
+ * index-delta := index of the value minus index of the previous exception, stored as unsigned
+ *                var int
+ * bits := bits of the value, 4 bytes for float and 8 bytes for double in big endian
+ * scaled-values := scaled values encoded by TS_2DIFF in long, where an exception takes the
+ *                  scaled value before it
+ * }
+ *              </pre>
+ *
+ * Unlike TS_2DIFF and RLE of {@link FloatEncoder}, the precision is not given by
+ * <b>max_point_number</b>. For each value, the encoder finds the fewest decimal places with which
+ * it is decoded exactly, and the exponent of a block is chosen to minimize the bits of decimal
+ * places plus the size of exceptions. Thus values with two decimals are stored as integers of
+ * hundredths, while NaN, infinities, -0.0 and values with too many digits are kept as exceptions.
+ *
+ * @author kangrong
+ */
+public class AlpEncoder extends Encoder {
+  protected static final int BLOCK_SIZE = 1024;
+  // scaled values are bounded so that deltas of TS_2DIFF don't overflow
+  private static final long MAX_SCALED = 1L << 60;
+  // bits taken by a decimal place
+  private static final double BITS_PER_DECIMAL = Math.log(10) / Math.log(2);
+
+  private static final double[] POW10 = new double[19];
+
+  static {
+    POW10[0] = 1;
+    for (int i = 1; i < POW10.length; i++) {
+      POW10[i] = POW10[i - 1] * 10;
+    }
+  }
+
+  private final TSDataType dataType;
+  // 10 for float and 18 for double
+  private final int maxExponent;
+  // 4 for float and 8 for double
+  private final int valueBytes;
+  private final double[] values;
+  // raw bits of values, so that exceptions keep payloads of NaN
+  private final long[] rawBits;
+  private int size;
+  /**
+   * number of values in current block whose fewest decimal places are the index, and the values
+   * not decoded exactly with any exponent are at {@code maxExponent + 1}
+   */
+  private final int[] exponentCounts;
+  private final int[] exceptionIndexes;
+  private final DeltaBinaryEncoder.LongDeltaEncoder scaledEncoder;
+
+  public AlpEncoder(TSDataType dataType) {
+    super(TSEncoding.ALP);
+    this.dataType = dataType;
+    if (dataType == TSDataType.FLOAT) {
+      maxExponent = 10;
+      valueBytes = 4;
+    } else if (dataType == TSDataType.DOUBLE) {
+      maxExponent = 18;
+      valueBytes = 8;
+    } else {
+      throw new TSFileEncodingException(
+          String.format("data type %s is not supported by AlpEncoder", dataType));
+    }
+    values = new double[BLOCK_SIZE];
+    rawBits = new long[BLOCK_SIZE];
+    exponentCounts = new int[maxExponent + 2];
+    exceptionIndexes = new int[BLOCK_SIZE];
+    scaledEncoder = new DeltaBinaryEncoder.LongDeltaEncoder();
+  }
+
+  @Override
+  public void encode(float value, ByteArrayOutputStream out) throws IOException {
+    addValue(value, Float.floatToRawIntBits(value), out);
+  }
+
+  @Override
+  public void encode(double value, ByteArrayOutputStream out) throws IOException {
+    addValue(value, Double.doubleToRawLongBits(value), out);
+  }
+
+  private void addValue(double value, long bits, ByteArrayOutputStream out) throws IOException {
+    int exponent = 0;
+    while (exponent <= maxExponent && !isExact(value, exponent))
+      exponent++;
+    exponentCounts[exponent]++;
+    values[size] = value;
+    rawBits[size++] = bits;
+    if (size == BLOCK_SIZE)
+      flush(out);
+  }
+
+  /**
+   * scale given value by 10^exponent, rounded to long
+   */
+  private static long scale(double value, int exponent) {
+    return Math.round(value * POW10[exponent]);
+  }
+
+  /**
+   * check whether given value is decoded to the same bits from its scaled value, in the same way
+   * as AlpDecoder
+   */
+  private boolean isExact(double value, int exponent) {
+    long scaled = scale(value, exponent);
+    if (scaled >= MAX_SCALED || scaled <= -MAX_SCALED)
+      return false;
+    if (dataType == TSDataType.FLOAT) {
+      float decoded = (float) (scaled / POW10[exponent]);
+      return Float.floatToIntBits(decoded) == Float.floatToIntBits((float) value);
+    }
+    double decoded = scaled / POW10[exponent];
+    return Double.doubleToLongBits(decoded) == Double.doubleToLongBits(value);
+  }
+
+  /**
+   * choose the exponent taking the fewest bits for decimal places and exceptions, the smaller
+   * one in a tie
+   */
+  private int chooseExponent() {
+    int bestExponent = 0;
+    double bestBits = Double.MAX_VALUE;
+    // values whose fewest decimal places are more than the exponent are exceptions
+    int exceptionCount = size;
+    for (int exponent = 0; exponent <= maxExponent; exponent++) {
+      exceptionCount -= exponentCounts[exponent];
+      double bits = size * exponent * BITS_PER_DECIMAL + exceptionCount * (valueBytes + 1) * 8.0;
+      if (bits < bestBits) {
+        bestBits = bits;
+        bestExponent = exponent;
+      }
+    }
+    return bestExponent;
+  }
+
+  @Override
+  public void flush(ByteArrayOutputStream out) throws IOException {
+    if (size == 0)
+      return;
+    int exponent = chooseExponent();
+    // a value with fewer decimal places may not be decoded exactly with more places
+    int exceptionCount = 0;
+    for (int i = 0; i < size; i++) {
+      if (!isExact(values[i], exponent))
+        exceptionIndexes[exceptionCount++] = i;
+    }
+    ReadWriteStreamUtils.writeUnsignedVarInt(size, out);
+    out.write(exponent);
+    ReadWriteStreamUtils.writeUnsignedVarInt(exceptionCount, out);
+    int previousIndex = 0;
+    for (int i = 0; i < exceptionCount; i++) {
+      int index = exceptionIndexes[i];
+      ReadWriteStreamUtils.writeUnsignedVarInt(index - previousIndex, out);
+      previousIndex = index;
+      for (int j = valueBytes - 1; j >= 0; j--)
+        out.write((int) (rawBits[index] >>> (j * 8)));
+    }
+    long previous = 0;
+    int nextException = 0;
+    for (int i = 0; i < size; i++) {
+      if (nextException < exceptionCount && exceptionIndexes[nextException] == i) {
+        nextException++;
+      } else {
+        previous = scale(values[i], exponent);
+      }
+      scaledEncoder.encode(previous, out);
+    }
+    scaledEncoder.flush(out);
+    size = 0;
+    for (int i = 0; i < exponentCounts.length; i++)
+      exponentCounts[i] = 0;
+  }
+
+  @Override
+  public int getOneItemMaxSize() {
+    // an exception and its scaled value
+    return 5 + valueBytes + 8;
+  }
+
+  @Override
+  public long getMaxByteSize() {
+    if (size == 0)
+      return 0;
+    // header, exceptions and scaled values of TS_2DIFF, whose header takes 24 bytes at most
+    return 11 + (long) size * getOneItemMaxSize() + (size / 128 + 1) * 24;
+  }
+}
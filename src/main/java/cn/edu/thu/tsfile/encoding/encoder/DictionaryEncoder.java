@@ -0,0 +1,133 @@
+package cn.edu.thu.tsfile.encoding.encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.common.utils.bytesinput.BytesInput.PublicBAOS;
+import cn.edu.thu.tsfile.common.utils.bytesinput.ListBytesInput;
+import cn.edu.thu.tsfile.encoding.common.EndianType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * @Description Encodes Binary values with a dictionary of distinct values in a series chunk,
+ *              according to the following grammar:
+ *
+ *              <pre>
+ * {@code
+ * dictionary-page: <entry>*
+ * entry := distinct value encoded in PLAIN, i.e. <length> <bytes>
+ * data-page: <indexes>
+ * indexes := index of each value in dictionary, encoded by int rle/bit-packing
+ * }
+ *              </pre>
+ *
+ * The dictionary grows with the chunk and is written in a dictionary page in front of data
+ * pages, so it's kept after flushing a page and only cleared by {@code resetDictionary()}. Series
+ * writer checks {@code isFull()} to fall back to PLAIN if the cardinality is too high.
+ *
+ * @author kangrong
+ */
+public class DictionaryEncoder extends Encoder {
+  /**
+   * cardinality is only checked after so many values are encoded in a chunk
+   */
+  private static final int MIN_VALUE_COUNT_FOR_CHECK = 1024;
+
+  private final Map<Binary, Integer> entryIndexes;
+  private final List<Binary> entries;
+  private final IntRleEncoder indexEncoder;
+  private final int maxDictionarySize;
+  /**
+   * size of dictionary page in byte
+   */
+  private long dictionarySize;
+  private long valueCount;
+
+  /**
+   * @param maxDictionarySize - max byte size of dictionary in a chunk
+   */
+  public DictionaryEncoder(int maxDictionarySize) {
+    super(TSEncoding.PLAIN_DICTIONARY);
+    this.maxDictionarySize = maxDictionarySize;
+    this.entryIndexes = new HashMap<>();
+    this.entries = new ArrayList<>();
+    this.indexEncoder = new IntRleEncoder(EndianType.LITTLE_ENDIAN);
+  }
+
+  @Override
+  public void encode(Binary value, ByteArrayOutputStream out) {
+    Integer index = entryIndexes.get(value);
+    if (index == null) {
+      index = entries.size();
+      entryIndexes.put(value, index);
+      entries.add(value);
+      // an entry is encoded as int length and bytes
+      dictionarySize += 4 + value.getLength();
+    }
+    indexEncoder.encode(index, out);
+    valueCount++;
+  }
+
+  @Override
+  public void flush(ByteArrayOutputStream out) throws IOException {
+    indexEncoder.flush(out);
+  }
+
+  /**
+   * return true if the dictionary exceeds max size, or more than half of values in the chunk are
+   * distinct, in which case the dictionary saves little but costs a lookup for each value.
+   */
+  public boolean isFull() {
+    return dictionarySize > maxDictionarySize
+        || (valueCount >= MIN_VALUE_COUNT_FOR_CHECK && entries.size() * 2 > valueCount);
+  }
+
+  public int getEntryCount() {
+    return entries.size();
+  }
+
+  public long getDictionarySize() {
+    return dictionarySize;
+  }
+
+  /**
+   * @return - content of dictionary page, i.e. entries encoded in PLAIN in order of index
+   */
+  public ListBytesInput getDictionaryBytes() throws IOException {
+    PublicBAOS out = new PublicBAOS();
+    PlainEncoder plainEncoder = new PlainEncoder(EndianType.LITTLE_ENDIAN, TSDataType.BYTE_ARRAY, 0);
+    for (Binary entry : entries)
+      plainEncoder.encode(entry, out);
+    return new ListBytesInput(out);
+  }
+
+  /**
+   * clear the dictionary for next chunk
+   */
+  public void resetDictionary() {
+    entryIndexes.clear();
+    entries.clear();
+    dictionarySize = 0;
+    valueCount = 0;
+  }
+
+  @Override
+  public int getOneItemMaxSize() {
+    return indexEncoder.getOneItemMaxSize();
+  }
+
+  /**
+   * the dictionary isn't counted, since it's shared by all pages of a chunk and doesn't decide
+   * when to seal a page. See {@code getDictionarySize()}.
+   */
+  @Override
+  public long getMaxByteSize() {
+    return indexEncoder.getMaxByteSize();
+  }
+}
@@ -113,6 +113,20 @@ public class FloatEncoder extends Encoder {
 		return result;
 	}
 
+	/**
+	 * check whether given value is decoded exactly, i.e. it has no more than maxPointNumber decimal
+	 * digits and doesn't overflow after scaling.
+	 */
+	public boolean isLossless(float value) {
+		float decoded = (float) (convertFloatToInt(value) / maxPointValue);
+		return Float.floatToIntBits(decoded) == Float.floatToIntBits(value);
+	}
+
+	public boolean isLossless(double value) {
+		double decoded = convertDoubleToLong(value) / maxPointValue;
+		return Double.doubleToLongBits(decoded) == Double.doubleToLongBits(value);
+	}
+
 	@Override
 	public void flush(ByteArrayOutputStream out) throws IOException {
 		encoder.flush(out);
@@ -0,0 +1,162 @@
+package cn.edu.thu.tsfile.encoding.encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import cn.edu.thu.tsfile.common.exception.TSFileEncodingException;
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.common.utils.bytesinput.BytesInput.PublicBAOS;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * @Description Encodes float or double values losslessly by XOR with the previous value, according
+ *              to the following grammar:
+ * 
+ *              <pre>
+ * {@code
+ * gorilla-encoding: <num> <encoded-data>
+ * num := number of values in <encoded-data> stored as unsigned var int
+ * encoded-data := <first-value> <xor-value>* <padding>
+ * first-value := bits of the first value, 32 bits for float and 64 bits for double
+ * xor-value := '0' if the value equals to the previous one
+ *            | '10' <meaningful-bits> if leading and trailing zeros of XOR with the previous value
+ *                   are not less than those of the last '11' value
+ *            | '11' <leading-zeros> <length> <meaningful-bits>
+ * leading-zeros := number of leading zeros of XOR in 5 bits, at most 31
+ * length := number of meaningful bits minus 1, in 5 bits for float and 6 bits for double
+ * meaningful-bits := bits of XOR between leading zeros and trailing zeros
+ * padding := 0 bits to fill the last byte
+ * }
+ *              </pre>
+ * 
+ * Slowly changing values share most bits with the previous one, so a value takes a few bits of
+ * control and the changed bits only.
+ * 
+ * @author kangrong
+ */
+public class GorillaEncoder extends Encoder {
+  private static final int LEADING_ZERO_BITS = 5;
+  private static final int MAX_LEADING_ZEROS = (1 << LEADING_ZERO_BITS) - 1;
+
+  /**
+   * 32 for float and 64 for double
+   */
+  private final int width;
+  private final int lengthBits;
+  private final PublicBAOS buffer;
+  private int currentByte;
+  private int bitsLeftInByte;
+  private int valueCount;
+  private long previous;
+  private int previousLeading;
+  private int previousTrailing;
+
+  public GorillaEncoder(TSDataType dataType) {
+    super(TSEncoding.GORILLA);
+    if (dataType == TSDataType.FLOAT) {
+      width = 32;
+      lengthBits = 5;
+    } else if (dataType == TSDataType.DOUBLE) {
+      width = 64;
+      lengthBits = 6;
+    } else {
+      throw new TSFileEncodingException(
+          String.format("data type %s is not supported by GorillaEncoder", dataType));
+    }
+    buffer = new PublicBAOS();
+    reset();
+  }
+
+  @Override
+  public void encode(float value, ByteArrayOutputStream out) throws IOException {
+    encodeBits(Float.floatToRawIntBits(value) & 0xFFFFFFFFL);
+  }
+
+  @Override
+  public void encode(double value, ByteArrayOutputStream out) throws IOException {
+    encodeBits(Double.doubleToRawLongBits(value));
+  }
+
+  private void encodeBits(long bits) {
+    if (valueCount++ == 0) {
+      writeBits(bits, width);
+      previous = bits;
+      return;
+    }
+    long xor = bits ^ previous;
+    previous = bits;
+    if (xor == 0) {
+      writeBits(0, 1);
+      return;
+    }
+    int leading = Long.numberOfLeadingZeros(xor) - (64 - width);
+    int trailing = Long.numberOfTrailingZeros(xor);
+    if (leading >= previousLeading && trailing >= previousTrailing) {
+      writeBits(0b10, 2);
+      writeBits(xor >>> previousTrailing, width - previousLeading - previousTrailing);
+      return;
+    }
+    if (leading > MAX_LEADING_ZEROS)
+      leading = MAX_LEADING_ZEROS;
+    int length = width - leading - trailing;
+    writeBits(0b11, 2);
+    writeBits(leading, LEADING_ZERO_BITS);
+    writeBits(length - 1, lengthBits);
+    writeBits(xor >>> trailing, length);
+    previousLeading = leading;
+    previousTrailing = trailing;
+  }
+
+  /**
+   * write the lowest {@code bits} bits of value, from high to low
+   */
+  private void writeBits(long value, int bits) {
+    while (bits > 0) {
+      int n = Math.min(bits, bitsLeftInByte);
+      bits -= n;
+      int chunk = (int) (value >>> bits) & ((1 << n) - 1);
+      bitsLeftInByte -= n;
+      currentByte |= chunk << bitsLeftInByte;
+      if (bitsLeftInByte == 0) {
+        buffer.write(currentByte);
+        currentByte = 0;
+        bitsLeftInByte = 8;
+      }
+    }
+  }
+
+  @Override
+  public void flush(ByteArrayOutputStream out) throws IOException {
+    if (valueCount == 0)
+      return;
+    if (bitsLeftInByte < 8)
+      buffer.write(currentByte);
+    ReadWriteStreamUtils.writeUnsignedVarInt(valueCount, out);
+    buffer.writeTo(out);
+    reset();
+  }
+
+  private void reset() {
+    buffer.reset();
+    currentByte = 0;
+    bitsLeftInByte = 8;
+    valueCount = 0;
+    previous = 0;
+    // no window of meaningful bits before the first '11' value
+    previousLeading = Integer.MAX_VALUE;
+    previousTrailing = Integer.MAX_VALUE;
+  }
+
+  @Override
+  public int getOneItemMaxSize() {
+    // 2 control bits, leading zeros, length and all bits of value
+    return (2 + LEADING_ZERO_BITS + lengthBits + width + 7) / 8;
+  }
+
+  @Override
+  public long getMaxByteSize() {
+    // var int of num, buffered bytes and the unfinished byte
+    return 5 + buffer.size() + 1;
+  }
+}
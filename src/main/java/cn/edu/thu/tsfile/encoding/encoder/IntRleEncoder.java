@@ -2,7 +2,7 @@ package cn.edu.thu.tsfile.encoding.encoder;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Arrays;
 
 import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
 import cn.edu.thu.tsfile.encoding.bitPacking.IntPacker;
@@ -11,7 +11,10 @@ import cn.edu.thu.tsfile.encoding.common.EndianType;
 
 
 /**
- * @Description Encoder for int value using rle or bit-packing
+ * @Description Encoder for int value using rle or bit-packing. Values are kept in primitive
+ *              arrays which are reused after flushing, so no value is boxed. Boolean values are
+ *              encoded as 1 and 0 in bit-width 1, so a value takes 1 bit in bit-packed runs and
+ *              a long stable stretch takes a single rle run.
  * @author XuYi xuyi556677@163.com
  * @date Mar 25, 2016
  */
@@ -21,17 +24,49 @@ public class IntRleEncoder extends RleEncoder<Integer>{
 	 * Packer for packing int value
 	 */
 	private IntPacker packer;
+
+	/**
+	 * we save all value in an array and calculate its bitwidth
+	 */
+	private int[] values;
+
+	private int size;
+
+	/**
+	 * OR of all values, whose bit length is the bit width used in flushing
+	 */
+	private int valueBits;
+
+	/**
+	 * previous value written, used to detect repeated values
+	 */
+	private int preValue;
+
+	/**
+	 * array to buffer values of a bit-packing group temporarily
+	 */
+	private int[] bufferedValues;
 	
 	public IntRleEncoder(EndianType endianType) {
 		super(endianType);
-		bufferedValues = new Integer[config.RLE_MIN_REPEATED_NUM];
+		bufferedValues = new int[minRepeatedNum];
 		preValue = 0;
-		values = new ArrayList<Integer>();
+		values = new int[16];
+		packer = new IntPacker(1);
 	}
 	
 	@Override
 	public void encode(int value, ByteArrayOutputStream out){
-		values.add(value);
+		if (size == values.length) {
+			values = Arrays.copyOf(values, size * 2);
+		}
+		values[size++] = value;
+		valueBits |= value;
+	}
+
+	@Override
+	public void encode(boolean value, ByteArrayOutputStream out) {
+		encode(value ? 1 : 0, out);
 	}
 	
 	/**
@@ -43,18 +78,75 @@ public class IntRleEncoder extends RleEncoder<Integer>{
 	@Override
 	public void flush(ByteArrayOutputStream out) throws IOException {
 	    // we get bit width after receiving all data
-		this.bitWidth = ReadWriteStreamUtils.getIntMaxBitWidth(values);
-		packer = new IntPacker(bitWidth);
-		for(Integer value : values){
-			encodeValue(value);
+		this.bitWidth = ReadWriteStreamUtils.getIntMaxBitWidth(values, size);
+		packer.setWidth(bitWidth);
+		if (size > 0) {
+			saveBitWidth();
+		}
+		int i = 0;
+		while (i < size) {
+			if (canPackGroupDirectly() && size - i >= minRepeatedNum && !isRepeatedGroup(i)) {
+				// pack the whole group from values directly
+				prepareBitPackedGroup();
+				packer.pack8Values(values, i, byteCache, byteCacheSize);
+				finishBitPackedGroup();
+				i += minRepeatedNum;
+				preValue = values[i - 1];
+			} else if (values[i] == preValue && repeatCount >= minRepeatedNum
+					&& repeatCount < maxRepeatedNum) {
+				// the value continues current rle run
+				repeatCount++;
+				i++;
+			} else {
+				encodeValue(values[i]);
+				i++;
+			}
 		}
 		super.flush(out);
 	}
 
+	/**
+	 * check whether all values of the group starting from given index are the same
+	 */
+	private boolean isRepeatedGroup(int start) {
+		for (int i = start + 1; i < start + minRepeatedNum; i++) {
+			if (values[i] != values[start]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Encode int value using rle or bit-packing.
+	 * It may not write to OutputStream immediately
+	 * 
+	 * @param value - value to encode
+	 */
+	private void encodeValue(int value) throws IOException {
+		if (value == preValue) {
+			if (countRepeatedValue()) {
+				return;
+			}
+		} else {
+			countNewValue();
+			preValue = value;
+		}
+		bufferedValues[numBufferedValues] = value;
+		numBufferedValues++;
+		// if none of value we encountered occurs more MAX_REPEATED_NUM times
+		// we'll use bit-packing
+		if (numBufferedValues == minRepeatedNum) {
+			writeOrAppendBitPackedRun();
+		}
+	}
+
 	@Override
 	protected void reset() {
 		super.reset();
 		preValue = 0;
+		size = 0;
+		valueBits = 0;
 	}
 
 	/**
@@ -63,9 +155,14 @@ public class IntRleEncoder extends RleEncoder<Integer>{
 	 */
 	@Override
 	protected void writeRleRun() throws IOException {
-		endPreviousBitPackedRun(config.RLE_MIN_REPEATED_NUM);
-		ReadWriteStreamUtils.writeUnsignedVarInt(repeatCount << 1, byteCache);
-		ReadWriteStreamUtils.writeIntLittleEndianPaddedOnBitWidth(preValue,byteCache, bitWidth);
+		endPreviousBitPackedRun(minRepeatedNum);
+		writeUnsignedVarInt(repeatCount << 1);
+		// same as ReadWriteStreamUtils.writeIntLittleEndianPaddedOnBitWidth
+		int paddedByteNum = (bitWidth + 7) / 8;
+		ensureCapacity(paddedByteNum);
+		for (int i = 0; i < paddedByteNum; i++) {
+			byteCache[byteCacheSize++] = (byte) (preValue >>> (i * 8));
+		}
 		repeatCount = 0;
 		numBufferedValues = 0;
 	}
@@ -73,23 +170,14 @@ public class IntRleEncoder extends RleEncoder<Integer>{
 	@Override
 	protected void clearBuffer() {
 
-		for (int i = numBufferedValues; i < config.RLE_MIN_REPEATED_NUM; i++) {
+		for (int i = numBufferedValues; i < minRepeatedNum; i++) {
 			bufferedValues[i] = 0;
 		}
 	}
 
 	@Override
 	protected void convertBuffer() {
-		byte[] bytes = new byte[bitWidth];
-
-		int[] tmpBuffer = new int[config.RLE_MIN_REPEATED_NUM];
-		for(int i = 0;i < config.RLE_MIN_REPEATED_NUM;i++){
-			tmpBuffer[i] = (int) bufferedValues[i];
-		}
-		packer.pack8Values(tmpBuffer, 0, bytes);
-		// we'll not write bit-packing group to OutputStream immediately
-		// we buffer them in list
-		bytesBuffer.add(bytes);	
+		packer.pack8Values(bufferedValues, 0, byteCache, byteCacheSize);
 	}
 
     @Override
@@ -102,11 +190,10 @@ public class IntRleEncoder extends RleEncoder<Integer>{
     
     @Override
     public long getMaxByteSize(){
-        if(values == null){
-            return 0;
-        }
         // try to caculate max value
-        int groupNum = (values.size() / 8 + 1) / 63 +1;
-        return 8 + groupNum * 5 + values.size() * 4; 
+        int groupNum = (size / 8 + 1) / 63 +1;
+        // 8 values take a bit-packed group of bitwidth bytes, or a rle run of a few bytes
+        int width = Math.max(1, 32 - Integer.numberOfLeadingZeros(valueBits));
+        return 8 + groupNum * 5 + (size / 8 + 1) * Math.max(width, 2 + (width + 7) / 8);
     } 
 }
\ No newline at end of file
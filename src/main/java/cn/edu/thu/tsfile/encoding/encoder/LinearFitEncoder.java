@@ -0,0 +1,125 @@
+package cn.edu.thu.tsfile.encoding.encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import cn.edu.thu.tsfile.common.utils.BytesUtils;
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * @Description Lossy encoding of float and double values as a polyline, whose knots are chosen
+ *              by subclasses so that every value differs from the polyline by no more than the
+ *              max error. Values are encoded according to the following grammar:
+ *
+ *              <pre>
+ * {@code
+ * linear-fit-encoding: <num> <knot-count> <knot>+
+ * num := number of values stored as unsigned var int
+ * knot-count := number of knots stored as unsigned var int
+ * knot := <distance> <knot-value>
+ * distance := position of the knot minus that of the previous knot, which is 0 for the first
+ *             knot, stored as unsigned var int
+ * knot-value := value of the polyline at the knot, in 8 bytes of double in big endian
+ * }
+ *              </pre>
+ *
+ * The first knot is at the first value and the last knot is at the last value, and a value
+ * between two knots is linearly interpolated by its position. Positions stand for timestamps, so
+ * that the error bound holds at every original timestamp, and segments are the same as in time
+ * for series sampled at a fixed frequency.
+ *
+ * @see SwingingDoorEncoder
+ * @see PiecewiseLinearEncoder
+ * @author kangrong
+ */
+public abstract class LinearFitEncoder extends Encoder {
+  private static final int INITIAL_KNOT_CAPACITY = 16;
+  // var int of distance and the value
+  private static final int MAX_KNOT_SIZE = 5 + 8;
+
+  protected final double maxError;
+  private int[] knotPositions;
+  private double[] knotValues;
+  private int knotCount;
+  /**
+   * number of values received, which is also the position of the next value
+   */
+  protected int valueCount;
+
+  public LinearFitEncoder(TSEncoding type, double maxError) {
+    super(type);
+    this.maxError = maxError;
+    knotPositions = new int[INITIAL_KNOT_CAPACITY];
+    knotValues = new double[INITIAL_KNOT_CAPACITY];
+  }
+
+  @Override
+  public void encode(float value, ByteArrayOutputStream out) throws IOException {
+    addValue(value);
+    valueCount++;
+  }
+
+  @Override
+  public void encode(double value, ByteArrayOutputStream out) throws IOException {
+    addValue(value);
+    valueCount++;
+  }
+
+  /**
+   * add the value at position {@code valueCount}, and add knots of closed segments
+   */
+  protected abstract void addValue(double value);
+
+  /**
+   * close the last segment and add its knots, before values are written
+   */
+  protected abstract void closeSegment();
+
+  protected void addKnot(int position, double value) {
+    if (knotCount == knotPositions.length) {
+      knotPositions = Arrays.copyOf(knotPositions, knotCount * 2);
+      knotValues = Arrays.copyOf(knotValues, knotCount * 2);
+    }
+    knotPositions[knotCount] = position;
+    knotValues[knotCount] = value;
+    knotCount++;
+  }
+
+  @Override
+  public void flush(ByteArrayOutputStream out) throws IOException {
+    if (valueCount == 0)
+      return;
+    closeSegment();
+    ReadWriteStreamUtils.writeUnsignedVarInt(valueCount, out);
+    ReadWriteStreamUtils.writeUnsignedVarInt(knotCount, out);
+    int previous = 0;
+    for (int i = 0; i < knotCount; i++) {
+      ReadWriteStreamUtils.writeUnsignedVarInt(knotPositions[i] - previous, out);
+      out.write(BytesUtils.doubleToBytes(knotValues[i]));
+      previous = knotPositions[i];
+    }
+    knotCount = 0;
+    valueCount = 0;
+  }
+
+  /**
+   * @return the max error between a value and its decoded one
+   */
+  public double getMaxError() {
+    return maxError;
+  }
+
+  @Override
+  public int getOneItemMaxSize() {
+    // a value may close a segment
+    return MAX_KNOT_SIZE;
+  }
+
+  @Override
+  public long getMaxByteSize() {
+    // var int of num and knot count, knots added and the last one of the open segment
+    return 5 + 5 + (long) (knotCount + 1) * MAX_KNOT_SIZE;
+  }
+}
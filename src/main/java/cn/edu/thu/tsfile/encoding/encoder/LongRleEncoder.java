@@ -2,14 +2,15 @@ package cn.edu.thu.tsfile.encoding.encoder;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Arrays;
 
 import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
 import cn.edu.thu.tsfile.encoding.bitPacking.LongPacker;
 import cn.edu.thu.tsfile.encoding.common.EndianType;
 
 /**
- * @Description Encoder for long value using rle or bit-packing
+ * @Description Encoder for long value using rle or bit-packing. Values are kept in primitive
+ *              arrays which are reused after flushing, so no value is boxed.
  * @author XuYi xuyi556677@163.com
  * @date Mar 25, 2016
  */
@@ -20,16 +21,37 @@ public class LongRleEncoder extends RleEncoder<Long> {
      */
     private LongPacker packer;
 
+    /**
+     * we save all value in an array and calculate its bitwidth
+     */
+    private long[] values;
+
+    private int size;
+
+    /**
+     * previous value written, used to detect repeated values
+     */
+    private long preValue;
+
+    /**
+     * array to buffer values of a bit-packing group temporarily
+     */
+    private long[] bufferedValues;
+
     public LongRleEncoder(EndianType endianType) {
 	super(endianType);
-	bufferedValues = new Long[config.RLE_MIN_REPEATED_NUM];
-	preValue = (long) 0;
-	values = new ArrayList<Long>();
+	bufferedValues = new long[minRepeatedNum];
+	preValue = 0;
+	values = new long[16];
+	packer = new LongPacker(1);
     }
 
     @Override
     public void encode(long value, ByteArrayOutputStream out) {
-	values.add(value);
+	if (size == values.length) {
+	    values = Arrays.copyOf(values, size * 2);
+	}
+	values[size++] = value;
     }
 
     /**
@@ -42,18 +64,74 @@ public class LongRleEncoder extends RleEncoder<Long> {
     @Override
     public void flush(ByteArrayOutputStream out) throws IOException {
 	// we get bit width after receiving all data
-	this.bitWidth = ReadWriteStreamUtils.getLongMaxBitWidth(values);
-	packer = new LongPacker(bitWidth);
-	for (Long value : values) {
-	    encodeValue(value);
+	this.bitWidth = ReadWriteStreamUtils.getLongMaxBitWidth(values, size);
+	packer.setWidth(bitWidth);
+	if (size > 0) {
+	    saveBitWidth();
+	}
+	int i = 0;
+	while (i < size) {
+	    if (canPackGroupDirectly() && size - i >= minRepeatedNum && !isRepeatedGroup(i)) {
+		// pack the whole group from values directly
+		prepareBitPackedGroup();
+		packer.pack8Values(values, i, byteCache, byteCacheSize);
+		finishBitPackedGroup();
+		i += minRepeatedNum;
+		preValue = values[i - 1];
+	    } else if (values[i] == preValue && repeatCount >= minRepeatedNum
+		    && repeatCount < maxRepeatedNum) {
+		// the value continues current rle run
+		repeatCount++;
+		i++;
+	    } else {
+		encodeValue(values[i]);
+		i++;
+	    }
 	}
 	super.flush(out);
     }
 
+    /**
+     * check whether all values of the group starting from given index are the same
+     */
+    private boolean isRepeatedGroup(int start) {
+	for (int i = start + 1; i < start + minRepeatedNum; i++) {
+	    if (values[i] != values[start]) {
+		return false;
+	    }
+	}
+	return true;
+    }
+
+    /**
+     * Encode long value using rle or bit-packing. It may not write to OutputStream immediately
+     * 
+     * @param value
+     *            - value to encode
+     */
+    private void encodeValue(long value) throws IOException {
+	if (value == preValue) {
+	    if (countRepeatedValue()) {
+		return;
+	    }
+	} else {
+	    countNewValue();
+	    preValue = value;
+	}
+	bufferedValues[numBufferedValues] = value;
+	numBufferedValues++;
+	// if none of value we encountered occurs more MAX_REPEATED_NUM times
+	// we'll use bit-packing
+	if (numBufferedValues == minRepeatedNum) {
+	    writeOrAppendBitPackedRun();
+	}
+    }
+
     @Override
     protected void reset() {
 	super.reset();
-	preValue = (long) 0;
+	preValue = 0;
+	size = 0;
     }
 
     /**
@@ -61,31 +139,28 @@ public class LongRleEncoder extends RleEncoder<Long> {
      */
     @Override
     protected void writeRleRun() throws IOException {
-	endPreviousBitPackedRun(config.RLE_MIN_REPEATED_NUM);
-	ReadWriteStreamUtils.writeUnsignedVarInt(repeatCount << 1, byteCache);
-	ReadWriteStreamUtils.writeLongLittleEndianPaddedOnBitWidth(preValue, byteCache, bitWidth);
+	endPreviousBitPackedRun(minRepeatedNum);
+	writeUnsignedVarInt(repeatCount << 1);
+	// same byte order as ReadWriteStreamUtils.writeLongLittleEndianPaddedOnBitWidth
+	int paddedByteNum = (bitWidth + 7) / 8;
+	ensureCapacity(paddedByteNum);
+	for (int i = paddedByteNum - 1; i >= 0; i--) {
+	    byteCache[byteCacheSize++] = (byte) (preValue >>> (i * 8));
+	}
 	repeatCount = 0;
 	numBufferedValues = 0;
     }
 
     @Override
     protected void clearBuffer() {
-	for (int i = numBufferedValues; i < config.RLE_MIN_REPEATED_NUM; i++) {
-	    bufferedValues[i] = (long) 0;
+	for (int i = numBufferedValues; i < minRepeatedNum; i++) {
+	    bufferedValues[i] = 0;
 	}
     }
 
     @Override
     protected void convertBuffer() {
-	byte[] bytes = new byte[bitWidth];
-	long[] tmpBuffer = new long[config.RLE_MIN_REPEATED_NUM];
-	for (int i = 0; i < config.RLE_MIN_REPEATED_NUM; i++) {
-	    tmpBuffer[i] = (long) bufferedValues[i];
-	}
-	packer.pack8Values(tmpBuffer, 0, bytes);
-	// we'll not write bit-packing group to OutputStream immediately
-	// we buffer them in list
-	bytesBuffer.add(bytes);
+	packer.pack8Values(bufferedValues, 0, byteCache, byteCacheSize);
     }
 
     @Override
@@ -97,11 +172,8 @@ public class LongRleEncoder extends RleEncoder<Long> {
 
     @Override
     public long getMaxByteSize() {
-	if (values == null) {
-	    return 0;
-	}
 	// try to caculate max value
-	int groupNum = (values.size() / 8 + 1) / 63 + 1;
-	return 8 + groupNum * 5 + values.size() * 8;
+	int groupNum = (size / 8 + 1) / 63 + 1;
+	return 8 + groupNum * 5 + size * 8;
     }
 }
\ No newline at end of file
@@ -0,0 +1,271 @@
+package cn.edu.thu.tsfile.encoding.encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.encoding.bitPacking.IntPacker;
+import cn.edu.thu.tsfile.encoding.bitPacking.LongPacker;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * @Description Encodes int or long values by patched frame of reference on zigzag deltas,
+ *              according to the following grammar:
+ *
+ *              <pre>
+ * {@code
+ * pfor-encoding: <block>*
+ * block := <num> <first-value> <reference> <width> <exception-num> <packed-deltas> <exception>*
+ * num := number of values in the block, at most 128, stored as unsigned var int
+ * first-value := zigzag of the first value stored as unsigned var long
+ * reference := min of zigzag deltas stored as unsigned var long
+ * width := bit-width of packed deltas in 1 byte
+ * exception-num := number of exceptions in 1 byte
+ * packed-deltas := low <width> bits of each delta, bit-packed in groups of 8 values, the last of
+ *                  which is padded by 0
+ * delta := zigzag of the difference between a value and the previous one, minus <reference>
+ * exception := <index> <high-bits>
+ * index := index of the delta in 1 byte
+ * high-bits := bits of the delta above <width> stored as unsigned var long
+ * }
+ *              </pre>
+ *
+ * Unlike TS_2DIFF, the width of a block is not driven by the largest delta. It is chosen to
+ * minimize the size of the block, and the few deltas wider than it are patched as exceptions.
+ * Thus values jittering around a baseline take a few bits each, even with occasional spikes. As
+ * deltas are stored minus their min, values of a steady slope take no bits.
+ *
+ * @author kangrong
+ */
+public abstract class PforEncoder extends Encoder {
+  protected static final int BLOCK_SIZE = 128;
+  // max size of num, exception-num and width
+  private static final int HEADER_MAX_SIZE = 4;
+  private static final int VAR_LONG_MAX_SIZE = 10;
+
+  /**
+   * 32 for int and 64 for long
+   */
+  private final int maxWidth;
+  /**
+   * number of values in current block
+   */
+  protected int size;
+  /**
+   * number of deltas of each bit-width in current block
+   */
+  protected final int[] widthCounts;
+  protected final byte[] packBuffer;
+
+  public PforEncoder(int maxWidth) {
+    super(TSEncoding.PFOR);
+    this.maxWidth = maxWidth;
+    widthCounts = new int[maxWidth + 1];
+    packBuffer = new byte[BLOCK_SIZE * maxWidth / 8];
+  }
+
+  /**
+   * @return zigzag of the first value in current block
+   */
+  protected abstract long getFirstValue();
+
+  /**
+   * @return zigzag delta of given index in current block, as an unsigned value
+   */
+  protected abstract long getDelta(int index);
+
+  /**
+   * pack low bits of deltas minus the reference in current block into {@code packBuffer}
+   *
+   * @param reference - min of zigzag deltas
+   * @param width - bit-width to pack
+   * @param groups - number of groups of 8 values
+   */
+  protected abstract void packDeltas(long reference, int width, int groups);
+
+  @Override
+  public void flush(ByteArrayOutputStream out) throws IOException {
+    if (size == 0)
+      return;
+    int deltaCount = size - 1;
+    // the unsigned min, or 0 without deltas
+    long reference = deltaCount == 0 ? 0 : -1L;
+    for (int i = 0; i < deltaCount; i++) {
+      long delta = getDelta(i);
+      if (Long.compareUnsigned(delta, reference) < 0)
+        reference = delta;
+    }
+    for (int i = 0; i < deltaCount; i++)
+      widthCounts[64 - Long.numberOfLeadingZeros(getDelta(i) - reference)]++;
+    int width = chooseWidth(deltaCount);
+    int exceptionCount = 0;
+    for (int w = width + 1; w <= maxWidth; w++)
+      exceptionCount += widthCounts[w];
+    ReadWriteStreamUtils.writeUnsignedVarInt(size, out);
+    ReadWriteStreamUtils.writeUnsignedVarLong(getFirstValue(), out);
+    ReadWriteStreamUtils.writeUnsignedVarLong(reference, out);
+    out.write(width);
+    out.write(exceptionCount);
+    int groups = (deltaCount + 7) / 8;
+    packDeltas(reference, width, groups);
+    out.write(packBuffer, 0, groups * width);
+    // an exception is narrower than maxWidth, so shifting by width is valid
+    for (int i = 0; exceptionCount > 0; i++) {
+      long delta = getDelta(i) - reference;
+      if ((delta >>> width) != 0) {
+        out.write(i);
+        ReadWriteStreamUtils.writeUnsignedVarLong(delta >>> width, out);
+        exceptionCount--;
+      }
+    }
+    size = 0;
+    Arrays.fill(widthCounts, 0);
+  }
+
+  /**
+   * choose the bit-width taking the fewest bytes for deltas and exceptions, the wider one in a
+   * tie for fewer exceptions to patch
+   */
+  private int chooseWidth(int deltaCount) {
+    int maxPresent = maxWidth;
+    while (maxPresent > 0 && widthCounts[maxPresent] == 0)
+      maxPresent--;
+    int groups = (deltaCount + 7) / 8;
+    int bestWidth = maxPresent;
+    int bestSize = groups * maxPresent;
+    for (int width = 0; width < maxPresent; width++) {
+      int size = groups * width;
+      for (int w = width + 1; w <= maxPresent && size < bestSize; w++) {
+        // index and var long of high bits
+        size += widthCounts[w] * (1 + (w - width + 6) / 7);
+      }
+      if (size < bestSize) {
+        bestSize = size;
+        bestWidth = width;
+      }
+    }
+    return bestWidth;
+  }
+
+  @Override
+  public long getMaxByteSize() {
+    if (size == 0)
+      return 0;
+    // deltas are packed in maxWidth without exceptions at most
+    return HEADER_MAX_SIZE + ReadWriteStreamUtils.getUnsignedVarLongSize(getFirstValue())
+        + VAR_LONG_MAX_SIZE + (size + 6) / 8 * maxWidth;
+  }
+
+  public static class IntPforEncoder extends PforEncoder {
+    private final int[] deltas;
+    // low bits of deltas padded by 0
+    private final int[] packValues;
+    private final IntPacker packer;
+    private int firstValue;
+    private int previous;
+
+    public IntPforEncoder() {
+      super(32);
+      deltas = new int[BLOCK_SIZE];
+      packValues = new int[BLOCK_SIZE];
+      packer = new IntPacker(0);
+    }
+
+    @Override
+    public void encode(int value, ByteArrayOutputStream out) throws IOException {
+      if (size == 0) {
+        firstValue = value;
+      } else {
+        int delta = value - previous;
+        deltas[size - 1] = (delta << 1) ^ (delta >> 31);
+      }
+      previous = value;
+      if (++size == BLOCK_SIZE)
+        flush(out);
+    }
+
+    @Override
+    protected long getFirstValue() {
+      return ReadWriteStreamUtils.zigzagEncode(firstValue);
+    }
+
+    @Override
+    protected long getDelta(int index) {
+      return deltas[index] & 0xFFFFFFFFL;
+    }
+
+    @Override
+    protected void packDeltas(long reference, int width, int groups) {
+      int mask = width == 32 ? -1 : (1 << width) - 1;
+      int intReference = (int) reference;
+      int deltaCount = size - 1;
+      for (int i = 0; i < deltaCount; i++)
+        packValues[i] = (deltas[i] - intReference) & mask;
+      Arrays.fill(packValues, deltaCount, groups * 8, 0);
+      packer.setWidth(width);
+      for (int i = 0; i < groups; i++)
+        packer.pack8Values(packValues, i * 8, packBuffer, i * width);
+    }
+
+    @Override
+    public int getOneItemMaxSize() {
+      return 4;
+    }
+  }
+
+  public static class LongPforEncoder extends PforEncoder {
+    private final long[] deltas;
+    // low bits of deltas padded by 0
+    private final long[] packValues;
+    private final LongPacker packer;
+    private long firstValue;
+    private long previous;
+
+    public LongPforEncoder() {
+      super(64);
+      deltas = new long[BLOCK_SIZE];
+      packValues = new long[BLOCK_SIZE];
+      packer = new LongPacker(0);
+    }
+
+    @Override
+    public void encode(long value, ByteArrayOutputStream out) throws IOException {
+      if (size == 0) {
+        firstValue = value;
+      } else {
+        deltas[size - 1] = ReadWriteStreamUtils.zigzagEncode(value - previous);
+      }
+      previous = value;
+      if (++size == BLOCK_SIZE)
+        flush(out);
+    }
+
+    @Override
+    protected long getFirstValue() {
+      return ReadWriteStreamUtils.zigzagEncode(firstValue);
+    }
+
+    @Override
+    protected long getDelta(int index) {
+      return deltas[index];
+    }
+
+    @Override
+    protected void packDeltas(long reference, int width, int groups) {
+      long mask = width == 64 ? -1L : (1L << width) - 1;
+      int deltaCount = size - 1;
+      for (int i = 0; i < deltaCount; i++)
+        packValues[i] = (deltas[i] - reference) & mask;
+      Arrays.fill(packValues, deltaCount, groups * 8, 0);
+      packer.setWidth(width);
+      for (int i = 0; i < groups; i++)
+        packer.pack8Values(packValues, i * 8, packBuffer, i * width);
+    }
+
+    @Override
+    public int getOneItemMaxSize() {
+      return 8;
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package cn.edu.thu.tsfile.encoding.encoder;
+
+import java.util.Arrays;
+
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * Encodes float and double values by piecewise linear approximation. Unlike
+ * {@link SwingingDoorEncoder}, segments are disconnected and neither end of a segment is
+ * restricted to original values. The lines keeping every value of the segment within the max
+ * error form a convex polygon of (start value, slope), which is clipped by two half-planes for
+ * each value. Once it is empty, the segment ends at the previous value with the centroid of the
+ * polygon, and the next segment starts from the value. A segment is stored as the knots of its
+ * two ends, which are adjacent to the knots of the neighbor segments.<br>
+ * The format is described in {@link LinearFitEncoder}.
+ *
+ * @author kangrong
+ */
+public class PiecewiseLinearEncoder extends LinearFitEncoder {
+  private static final int INITIAL_VERTEX_CAPACITY = 16;
+
+  private int segmentStart;
+  private double startValue;
+  /**
+   * vertices of the polygon of (start value, slope) in order, which is valid for segments of
+   * more than one value
+   */
+  private double[] starts;
+  private double[] slopes;
+  private int vertexCount;
+  // buffers of vertices clipped by the upper and the lower half-plane
+  private double[] upperStarts;
+  private double[] upperSlopes;
+  private double[] lowerStarts;
+  private double[] lowerSlopes;
+
+  public PiecewiseLinearEncoder(double maxError) {
+    super(TSEncoding.PLA, maxError);
+    starts = new double[INITIAL_VERTEX_CAPACITY];
+    slopes = new double[INITIAL_VERTEX_CAPACITY];
+    upperStarts = new double[INITIAL_VERTEX_CAPACITY];
+    upperSlopes = new double[INITIAL_VERTEX_CAPACITY];
+    lowerStarts = new double[INITIAL_VERTEX_CAPACITY];
+    lowerSlopes = new double[INITIAL_VERTEX_CAPACITY];
+  }
+
+  @Override
+  protected void addValue(double value) {
+    int position = valueCount;
+    if (position == 0) {
+      startSegment(position, value);
+      return;
+    }
+    int distance = position - segmentStart;
+    if (distance == 1) {
+      // lines through the ranges of the first two values
+      double low = startValue - maxError;
+      double high = startValue + maxError;
+      starts[0] = low;
+      slopes[0] = value - maxError - low;
+      starts[1] = low;
+      slopes[1] = value + maxError - low;
+      starts[2] = high;
+      slopes[2] = value + maxError - high;
+      starts[3] = high;
+      slopes[3] = value - maxError - high;
+      vertexCount = 4;
+      return;
+    }
+    // each clipping adds one vertex at most
+    if (upperStarts.length < vertexCount + 2) {
+      int capacity = (vertexCount + 2) * 2;
+      starts = Arrays.copyOf(starts, capacity);
+      slopes = Arrays.copyOf(slopes, capacity);
+      upperStarts = new double[capacity];
+      upperSlopes = new double[capacity];
+      lowerStarts = new double[capacity];
+      lowerSlopes = new double[capacity];
+    }
+    int upperCount = clip(starts, slopes, vertexCount, upperStarts, upperSlopes, distance, 1,
+        value + maxError);
+    int lowerCount = clip(upperStarts, upperSlopes, upperCount, lowerStarts, lowerSlopes, distance,
+        -1, -(value - maxError));
+    if (lowerCount > 0) {
+      double[] swap = starts;
+      starts = lowerStarts;
+      lowerStarts = swap;
+      swap = slopes;
+      slopes = lowerSlopes;
+      lowerSlopes = swap;
+      vertexCount = lowerCount;
+    } else {
+      closeSegment(position - 1);
+      startSegment(position, value);
+    }
+  }
+
+  /**
+   * clip a convex polygon by the half-plane {@code sign * (start + slope * distance) <= bound}
+   *
+   * @return number of vertices of the clipped polygon
+   */
+  private static int clip(double[] fromStarts, double[] fromSlopes, int fromCount,
+      double[] toStarts, double[] toSlopes, int distance, int sign, double bound) {
+    int count = 0;
+    for (int i = 0; i < fromCount; i++) {
+      int j = i + 1 == fromCount ? 0 : i + 1;
+      double fi = sign * (fromStarts[i] + fromSlopes[i] * distance) - bound;
+      double fj = sign * (fromStarts[j] + fromSlopes[j] * distance) - bound;
+      if (fi <= 0) {
+        toStarts[count] = fromStarts[i];
+        toSlopes[count] = fromSlopes[i];
+        count++;
+      }
+      if ((fi < 0 && fj > 0) || (fi > 0 && fj < 0)) {
+        // the edge crosses the boundary
+        double t = fi / (fi - fj);
+        toStarts[count] = fromStarts[i] + (fromStarts[j] - fromStarts[i]) * t;
+        toSlopes[count] = fromSlopes[i] + (fromSlopes[j] - fromSlopes[i]) * t;
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private void startSegment(int position, double value) {
+    segmentStart = position;
+    startValue = value;
+    vertexCount = 0;
+  }
+
+  /**
+   * add knots of both ends of the segment ending at given position
+   */
+  private void closeSegment(int end) {
+    if (end == segmentStart) {
+      addKnot(segmentStart, startValue);
+      return;
+    }
+    // the centroid of vertices is in the convex polygon
+    double start = 0;
+    double slope = 0;
+    for (int i = 0; i < vertexCount; i++) {
+      start += starts[i];
+      slope += slopes[i];
+    }
+    start /= vertexCount;
+    slope /= vertexCount;
+    addKnot(segmentStart, start);
+    addKnot(end, start + slope * (end - segmentStart));
+  }
+
+  @Override
+  protected void closeSegment() {
+    closeSegment(valueCount - 1);
+  }
+}
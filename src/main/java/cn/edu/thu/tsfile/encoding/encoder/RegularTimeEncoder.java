@@ -0,0 +1,174 @@
+package cn.edu.thu.tsfile.encoding.encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.common.utils.bytesinput.BytesInput.PublicBAOS;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * @Description Encodes timestamps as runs of constant interval, according to the following
+ *              grammar:
+ *
+ *              <pre>
+ * {@code
+ * regular-encoding: <mode> <num> <encoded-data>
+ * mode := 0 if <encoded-data> is <runs>, 1 if it is TS_2DIFF encoded values, in one byte
+ * num := number of values in <encoded-data> stored as unsigned var int
+ * runs := <run-count> <run>+
+ * run-count := number of runs stored as unsigned var int
+ * run := <start> <interval> <count>
+ * start := difference between the first value of the run and the last value of the previous run,
+ *          which is 0 for the first run, stored as zigzag var long
+ * interval := difference between the interval of the run and that of the previous run, which
+ *             is 0 for the first run, stored as zigzag var long
+ * count := number of values in the run minus 1 stored as unsigned var int
+ * }
+ *              </pre>
+ *
+ * A series sampled at a fixed frequency is a single run, and each missing or delayed point only
+ * splits it into a few runs, so that the position of a timestamp can be computed from the runs
+ * by {@code RegularTimeDecoder} without decoding all values. If most runs are short, i.e. the
+ * series is irregular, values are encoded by TS_2DIFF when it is smaller.
+ *
+ * @author kangrong
+ */
+public class RegularTimeEncoder extends Encoder {
+  public static final int MODE_RUNS = 0;
+  public static final int MODE_TS_2DIFF = 1;
+  private static final int INITIAL_RUN_CAPACITY = 16;
+  // var long of start and interval, and var int of count
+  private static final int MAX_RUN_SIZE = 10 + 10 + 5;
+
+  private long[] runStarts;
+  private long[] runIntervals;
+  private int[] runCounts;
+  private int runCount;
+  private int valueCount;
+  // encoded size of closed runs
+  private int runsSize;
+  // last value and interval of the last closed run
+  private long previousLast;
+  private long previousInterval;
+  // the open run which the next value may extend
+  private long currentStart;
+  private long currentInterval;
+  private int currentCount;
+  private long currentLast;
+
+  public RegularTimeEncoder() {
+    super(TSEncoding.REGULAR);
+    runStarts = new long[INITIAL_RUN_CAPACITY];
+    runIntervals = new long[INITIAL_RUN_CAPACITY];
+    runCounts = new int[INITIAL_RUN_CAPACITY];
+    reset();
+  }
+
+  @Override
+  public void encode(long value, ByteArrayOutputStream out) throws IOException {
+    valueCount++;
+    if (currentCount == 0) {
+      currentStart = value;
+      currentCount = 1;
+    } else if (currentCount == 1) {
+      currentInterval = value - currentStart;
+      currentCount = 2;
+    } else if (value - currentLast == currentInterval) {
+      currentCount++;
+    } else {
+      closeRun();
+      currentStart = value;
+      currentCount = 1;
+    }
+    currentLast = value;
+  }
+
+  private void closeRun() {
+    if (currentCount == 1) {
+      // interval of a single value is meaningless, keep it the same as the previous one
+      currentInterval = previousInterval;
+    }
+    if (runCount == runStarts.length) {
+      int capacity = runCount * 2;
+      runStarts = Arrays.copyOf(runStarts, capacity);
+      runIntervals = Arrays.copyOf(runIntervals, capacity);
+      runCounts = Arrays.copyOf(runCounts, capacity);
+    }
+    runStarts[runCount] = currentStart;
+    runIntervals[runCount] = currentInterval;
+    runCounts[runCount] = currentCount;
+    runCount++;
+    runsSize += ReadWriteStreamUtils.getUnsignedVarLongSize(
+        ReadWriteStreamUtils.zigzagEncode(currentStart - previousLast))
+        + ReadWriteStreamUtils.getUnsignedVarLongSize(
+            ReadWriteStreamUtils.zigzagEncode(currentInterval - previousInterval))
+        + ReadWriteStreamUtils.getUnsignedVarLongSize(currentCount - 1);
+    previousLast = currentLast;
+    previousInterval = currentInterval;
+    currentCount = 0;
+  }
+
+  @Override
+  public void flush(ByteArrayOutputStream out) throws IOException {
+    if (valueCount == 0)
+      return;
+    closeRun();
+    PublicBAOS deltaEncoded = null;
+    // runs of less than 4 values on average are likely larger than TS_2DIFF
+    if (runCount > valueCount / 4) {
+      deltaEncoded = new PublicBAOS();
+      Encoder deltaEncoder = new DeltaBinaryEncoder.LongDeltaEncoder();
+      for (int i = 0; i < runCount; i++) {
+        for (int j = 0; j < runCounts[i]; j++) {
+          deltaEncoder.encode(runStarts[i] + j * runIntervals[i], deltaEncoded);
+        }
+      }
+      deltaEncoder.flush(deltaEncoded);
+    }
+    int size = ReadWriteStreamUtils.getUnsignedVarLongSize(runCount) + runsSize;
+    if (deltaEncoded != null && deltaEncoded.size() < size) {
+      out.write(MODE_TS_2DIFF);
+      ReadWriteStreamUtils.writeUnsignedVarInt(valueCount, out);
+      deltaEncoded.writeTo(out);
+    } else {
+      out.write(MODE_RUNS);
+      ReadWriteStreamUtils.writeUnsignedVarInt(valueCount, out);
+      ReadWriteStreamUtils.writeUnsignedVarInt(runCount, out);
+      long last = 0;
+      long interval = 0;
+      for (int i = 0; i < runCount; i++) {
+        ReadWriteStreamUtils.writeUnsignedVarLong(
+            ReadWriteStreamUtils.zigzagEncode(runStarts[i] - last), out);
+        ReadWriteStreamUtils.writeUnsignedVarLong(
+            ReadWriteStreamUtils.zigzagEncode(runIntervals[i] - interval), out);
+        ReadWriteStreamUtils.writeUnsignedVarInt(runCounts[i] - 1, out);
+        last = runStarts[i] + (runCounts[i] - 1) * runIntervals[i];
+        interval = runIntervals[i];
+      }
+    }
+    reset();
+  }
+
+  private void reset() {
+    runCount = 0;
+    valueCount = 0;
+    runsSize = 0;
+    previousLast = 0;
+    previousInterval = 0;
+    currentCount = 0;
+  }
+
+  @Override
+  public int getOneItemMaxSize() {
+    // a value may start a new run
+    return MAX_RUN_SIZE;
+  }
+
+  @Override
+  public long getMaxByteSize() {
+    // mode, var int of num and run count, closed runs and the open run
+    return 1 + 5 + 5 + runsSize + MAX_RUN_SIZE;
+  }
+}
@@ -3,8 +3,7 @@ package cn.edu.thu.tsfile.encoding.encoder;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import cn.edu.thu.tsfile.encoding.common.EndianType;
 import org.slf4j.Logger;
@@ -41,17 +40,12 @@ import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
  * @author XuYi xuyi556677@163.com
  * @date Mar 31, 2016 5:35:09 PM
  * 
- * @param <T>
+ * @param <T> - type of encoded values, subclasses keep values in primitive arrays
  */
 public abstract class RleEncoder<T extends Comparable<T>> extends Encoder {
     private static final Logger LOGGER = LoggerFactory.getLogger(RleEncoder.class);
     public EndianType endianType;
 
-    /**
-     * we save all value in a list and calculate its bitwidth
-     */
-    protected List<T> values;
-
     /**
      * the bit width used for bit-packing and rle
      */
@@ -72,54 +66,53 @@ public abstract class RleEncoder<T extends Comparable<T>> extends Encoder {
      */
     protected int numBufferedValues;
 
-    /**
-     * we will write all bytes using bit-packing to OutputStream once. Before that, all bytes are
-     * saved in list
-     */
-    protected List<byte[]> bytesBuffer;
-
     /**
      * flag which indicate encoding mode false -- rle true -- bit-packing
      */
     protected boolean isBitPackRun;
 
+    protected boolean isBitWidthSaved;
+
     /**
-     * previous value written, used to detect repeated values
+     * reusable array to buffer <bitwidth> <encoded-data>, bit-packed groups are packed into it
+     * directly
      */
-    protected T preValue;
+    protected byte[] byteCache;
 
     /**
-     * array to buffer values temporarily
+     * number of bytes buffered in {@code byteCache}
      */
-    protected T[] bufferedValues;
-
-    protected boolean isBitWidthSaved;
+    protected int byteCacheSize;
 
     /**
-     * output stream to buffer <bitwidth> <encoded-data>
+     * position of <bit-packed-header> of current bit-packing run in {@code byteCache}, which is
+     * filled in when the run ends
      */
-    protected ByteArrayOutputStream byteCache;
+    private int bitPackHeaderPos;
     
     protected TSFileConfig config = new TSFileConfig();
 
+    protected final int minRepeatedNum = config.RLE_MIN_REPEATED_NUM;
+
+    protected final int maxRepeatedNum = config.RLE_MAX_REPEATED_NUM;
+
+    protected final int maxBitPackedNum = config.RLE_MAX_BIT_PACKED_NUM;
+
     public RleEncoder(EndianType endianType) {
         super(TSEncoding.RLE);
         this.endianType = endianType;
-        bytesBuffer = new ArrayList<byte[]>();
         isBitPackRun = false;
         isBitWidthSaved = false;
-        byteCache = new ByteArrayOutputStream();
+        byteCache = new byte[64];
     }
 
     protected void reset() {
         numBufferedValues = 0;
         repeatCount = 0;
         bitPackedGroupCount = 0;
-        bytesBuffer.clear();
         isBitPackRun = false;
         isBitWidthSaved = false;
-        byteCache.reset();
-        values.clear();
+        byteCacheSize = 0;
     }
 
     /**
@@ -131,7 +124,7 @@ public abstract class RleEncoder<T extends Comparable<T>> extends Encoder {
     @Override
     public void flush(ByteArrayOutputStream out) throws IOException {
         int lastBitPackedNum = numBufferedValues;
-        if (repeatCount >= config.RLE_MIN_REPEATED_NUM) {
+        if (repeatCount >= minRepeatedNum) {
             try {
                 writeRleRun();
             } catch (IOException e) {
@@ -146,14 +139,45 @@ public abstract class RleEncoder<T extends Comparable<T>> extends Encoder {
             writeOrAppendBitPackedRun();
             endPreviousBitPackedRun(lastBitPackedNum);
         } else {
-            endPreviousBitPackedRun(config.RLE_MIN_REPEATED_NUM);
+            endPreviousBitPackedRun(minRepeatedNum);
         }
         //write length
-        ReadWriteStreamUtils.writeUnsignedVarInt(byteCache.size(), out);
-        out.write(byteCache.toByteArray());
+        ReadWriteStreamUtils.writeUnsignedVarInt(byteCacheSize, out);
+        out.write(byteCache, 0, byteCacheSize);
         reset();
     }
 
+    /**
+     * save bit width in header before the first value, prepare for read
+     */
+    protected void saveBitWidth() {
+        ensureCapacity(1);
+        byteCache[byteCacheSize++] = (byte) bitWidth;
+        isBitWidthSaved = true;
+    }
+
+    /**
+     * make sure that {@code byteCache} has room for another {@code length} bytes
+     */
+    protected void ensureCapacity(int length) {
+        if (byteCacheSize + length > byteCache.length) {
+            byteCache = Arrays.copyOf(byteCache, Math.max(byteCache.length * 2, byteCacheSize + length));
+        }
+    }
+
+    /**
+     * write value to {@code byteCache} as unsigned var int, see
+     * {@link ReadWriteStreamUtils#writeUnsignedVarInt(int, java.io.OutputStream)}
+     */
+    protected void writeUnsignedVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & 0xFFFFFF80) != 0L) {
+            byteCache[byteCacheSize++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        byteCache[byteCacheSize++] = (byte) (value & 0x7F);
+    }
+
     /**
      * Write bytes to OutputStream using rle.
      * rle format: [header][value]
@@ -165,26 +189,54 @@ public abstract class RleEncoder<T extends Comparable<T>> extends Encoder {
      * Start a bit-packing run transform values to bytes and buffer them in cache
      */
     public void writeOrAppendBitPackedRun() {
-        if (bitPackedGroupCount >= config.RLE_MAX_BIT_PACKED_NUM) {
+        prepareBitPackedGroup();
+        convertBuffer();
+        finishBitPackedGroup();
+    }
+
+    /**
+     * make room for a bit-packing group at {@code byteCacheSize}, a new bit-packing run is
+     * started if there isn't one or current one is full
+     */
+    protected void prepareBitPackedGroup() {
+        if (bitPackedGroupCount >= maxBitPackedNum) {
             // we've packed as many values as we can for this run,
             // end it and start a new one
-            endPreviousBitPackedRun(config.RLE_MIN_REPEATED_NUM);
+            endPreviousBitPackedRun(minRepeatedNum);
         }
         if (!isBitPackRun) {
             isBitPackRun = true;
+            // leave room for <bit-packed-header> and <lastBitPackedNum>
+            ensureCapacity(2);
+            bitPackHeaderPos = byteCacheSize;
+            byteCacheSize += 2;
         }
+        ensureCapacity(bitWidth);
+    }
 
-        convertBuffer();
-
+    /**
+     * count the bit-packing group which has been packed at {@code byteCacheSize}
+     */
+    protected void finishBitPackedGroup() {
+        byteCacheSize += bitWidth;
         numBufferedValues = 0;
         repeatCount = 0;
         ++bitPackedGroupCount;
     }
 
+    /**
+     * check whether next group of values can be bit-packed without counting them one by one, i.e.
+     * no value is buffered, in which case no rle run starts in the group unless all values of it
+     * are the same. Subclasses pack such group from their values directly.
+     */
+    protected boolean canPackGroupDirectly() {
+        return numBufferedValues == 0 && repeatCount == 0;
+    }
+
     /**
      * End a bit-packing run write all bit-packing group to OutputStream bit-packing format:
      * [header][lastBitPackedNum][bit-packing group]+
-     * [bit-packing group]+ are saved in List<byte[]> bytesBuffer
+     * [bit-packing group]+ are already packed in byteCache after the header
      * 
      * @param lastBitPackedNum - in last bit-packing group, it may have useful values less than 8.
      *        This param indicates how many values are useful
@@ -194,75 +246,46 @@ public abstract class RleEncoder<T extends Comparable<T>> extends Encoder {
             return;
         }
         byte bitPackHeader = (byte) ((bitPackedGroupCount << 1) | 1);
-        byteCache.write(bitPackHeader);
-        byteCache.write(lastBitPackedNum);
-        for (byte[] bytes : bytesBuffer) {
-            byteCache.write(bytes, 0, bytes.length);
-        }
-        bytesBuffer.clear();
+        byteCache[bitPackHeaderPos] = bitPackHeader;
+        byteCache[bitPackHeaderPos + 1] = (byte) lastBitPackedNum;
         isBitPackRun = false;
         bitPackedGroupCount = 0;
     }
 
     /**
-     * Encode T value using rle or bit-packing.
-     * It may not write to OutputStream immediately
+     * count a value which equals to the previous one. If the value occurs more than
+     * RLE_MAX_REPEATED_NUM times, current rle run is written and counting starts again.
      * 
-     * @param value - value to encode
+     * @return - true if the value is in a rle run and needn't be buffered for bit-packing
      */
-    protected void encodeValue(T value) {
-        if (!isBitWidthSaved) {
-            // save bit width in header,
-            // perpare for read
-            byteCache.write(bitWidth);
-            isBitWidthSaved = true;
-        }
-        if (value.equals(preValue)) {
-            repeatCount++;
-            if (repeatCount >= config.RLE_MIN_REPEATED_NUM && repeatCount <= config.RLE_MAX_REPEATED_NUM) {
-                // value occurs more than RLE_MIN_REPEATED_NUM times but less than EncodingConfig.RLE_MAX_REPEATED_NUM
-                // we'll use rle, so just keep on counting repeats for now
-                // we'll write current value to OutputStream when we encounter a different value
-                return;
-            }else if(repeatCount == config.RLE_MAX_REPEATED_NUM+1){
-            	// value occurs more than EncodingConfig.RLE_MAX_REPEATED_NUM
-            	// we'll write current rle run to stream and keep on counting current value
-            	repeatCount = config.RLE_MAX_REPEATED_NUM;
-                try {
-                    writeRleRun();
-                    LOGGER.debug("tsfile-encoding RleEncoder : write full rle run to stream");
-                } catch (IOException e) {
-                    LOGGER.error(
-                            " error occurs when writing full rle run to OutputStram when repeatCount = {}."
-                            + "numBufferedValues {}, repeatCount {}, bitPackedGroupCount{}, isBitPackRun {}, isBitWidthSaved {}",
-                            config.RLE_MAX_REPEATED_NUM+1, numBufferedValues, repeatCount, bitPackedGroupCount,isBitPackRun, isBitWidthSaved, e);
-                }
-                repeatCount = 1;
-                preValue = value;
-            }
-            
-        } else {
-            // we encounter a differnt value
-            if (repeatCount >= config.RLE_MIN_REPEATED_NUM) {
-                try {
-                    writeRleRun();
-                } catch (IOException e) {
-                    LOGGER.error(
-                            "tsfile-encoding RleEncoder : error occurs when writing num to OutputStram when repeatCount > {}."
-                            + "numBufferedValues {}, repeatCount {}, bitPackedGroupCount{}, isBitPackRun {}, isBitWidthSaved {}",
-                            config.RLE_MIN_REPEATED_NUM, numBufferedValues, repeatCount, bitPackedGroupCount,isBitPackRun, isBitWidthSaved, e);
-                }
-            }
+    protected boolean countRepeatedValue() throws IOException {
+        repeatCount++;
+        if (repeatCount >= minRepeatedNum && repeatCount <= maxRepeatedNum) {
+            // value occurs more than RLE_MIN_REPEATED_NUM times but less than RLE_MAX_REPEATED_NUM
+            // we'll use rle, so just keep on counting repeats for now
+            // we'll write current value to OutputStream when we encounter a different value
+            return true;
+        } else if (repeatCount == maxRepeatedNum + 1) {
+            // value occurs more than RLE_MAX_REPEATED_NUM
+            // we'll write current rle run to stream and keep on counting current value
+            repeatCount = maxRepeatedNum;
+            writeRleRun();
+            LOGGER.debug("tsfile-encoding RleEncoder : write full rle run to stream");
             repeatCount = 1;
-            preValue = value;
         }
-        bufferedValues[numBufferedValues] = value;
-        numBufferedValues++;
-        // if none of value we encountered occurs more MAX_REPEATED_NUM times
-        // we'll use bit-packing
-        if (numBufferedValues == config.RLE_MIN_REPEATED_NUM) {
-            writeOrAppendBitPackedRun();
+        return false;
+    }
+
+    /**
+     * start counting a value which differs from the previous one. If the previous value occurs
+     * more than RLE_MIN_REPEATED_NUM times, its rle run is written, so it must be called before
+     * the previous value is replaced.
+     */
+    protected void countNewValue() throws IOException {
+        if (repeatCount >= minRepeatedNum) {
+            writeRleRun();
         }
+        repeatCount = 1;
     }
 
     /**
@@ -270,6 +293,10 @@ public abstract class RleEncoder<T extends Comparable<T>> extends Encoder {
     */
     protected abstract void clearBuffer();
 
+    /**
+     * pack buffered values of a group into {@code byteCache} at {@code byteCacheSize}, where there
+     * is room for {@code bitWidth} bytes
+     */
     protected abstract void convertBuffer();
 
     @Override
@@ -0,0 +1,216 @@
+package cn.edu.thu.tsfile.encoding.encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * @Description Encodes values as one compressed bitmap of positions for each distinct value,
+ *              according to the following grammar:
+ *
+ *              <pre>
+ * {@code
+ * roaring-bitmap-encoding: <version> <num> <value-count> <value-bitmap>+
+ * version := version of the format in one byte, which is 1
+ * num := number of values stored as unsigned var int
+ * value-count := number of distinct values stored as unsigned var int
+ * value-bitmap := <value> <container-count> <container>+
+ * value := distinct value stored as unsigned var int, in ascending order
+ * container-count := number of containers of the value stored as unsigned var int
+ * container := <key> <type> <container-data>
+ * key := index of the block of 65536 positions, i.e. position >>> 16, stored as unsigned var int
+ * type := 0 for array, 1 for bitmap and 2 for run container, in one byte
+ * container-data := <array> | <bitmap> | <runs>
+ * array := <cardinality> <low>+
+ * cardinality := number of positions in the container minus 1 stored as unsigned var int
+ * low := low 16 bits of a position in ascending order, in two bytes of big endian
+ * bitmap := 1024 words of 8 bytes in big endian, bit i of word j is set if position
+ *           j * 64 + i is in the container
+ * runs := <run-count> <run>+
+ * run-count := number of runs minus 1 stored as unsigned var int
+ * run := <start> <length>
+ * start := low 16 bits of the first position of the run, in two bytes of big endian
+ * length := number of positions in the run minus 1, in two bytes of big endian
+ * }
+ *              </pre>
+ *
+ * Positions of a value in each block of 65536 values are stored in the smallest of the three
+ * containers, so that a page takes no more than 2 bytes for each value plus a few bytes for each
+ * distinct value and block, however many distinct values there are. Values are kept in primitive
+ * arrays, and positions are grouped by value with a counting sort on flush, which takes time
+ * linear to the number of values.
+ *
+ * @see BitmapEncoder
+ * @author kangrong
+ */
+public class RoaringBitmapEncoder extends Encoder {
+  public static final int VERSION = 1;
+  public static final int ARRAY_CONTAINER = 0;
+  public static final int BITMAP_CONTAINER = 1;
+  public static final int RUN_CONTAINER = 2;
+  /**
+   * number of positions in a container, i.e. 2^16
+   */
+  public static final int BLOCK_SIZE = 1 << 16;
+  public static final int BITMAP_WORDS = BLOCK_SIZE / 64;
+  private static final int BITMAP_CONTAINER_SIZE = BLOCK_SIZE / 8;
+  private static final int INITIAL_CAPACITY = 64;
+  // var int of key and cardinality, and the type
+  private static final int MAX_CONTAINER_HEADER_SIZE = 5 + 5 + 1;
+  // var int of value and container count
+  private static final int MAX_VALUE_HEADER_SIZE = 5 + 5;
+
+  private int[] values;
+  private int size;
+  /**
+   * distinct values received in ascending order
+   */
+  private int[] distinctValues;
+  private int distinctCount;
+
+  public RoaringBitmapEncoder() {
+    super(TSEncoding.ROARING_BITMAP);
+    values = new int[INITIAL_CAPACITY];
+    distinctValues = new int[INITIAL_CAPACITY];
+  }
+
+  @Override
+  public void encode(int value, ByteArrayOutputStream out) throws IOException {
+    if (size == values.length) {
+      values = Arrays.copyOf(values, size * 2);
+    }
+    values[size++] = value;
+    int index = Arrays.binarySearch(distinctValues, 0, distinctCount, value);
+    if (index < 0) {
+      // a new value is rare for enums, so that the insertion costs little
+      index = -index - 1;
+      if (distinctCount == distinctValues.length) {
+        distinctValues = Arrays.copyOf(distinctValues, distinctCount * 2);
+      }
+      System.arraycopy(distinctValues, index, distinctValues, index + 1, distinctCount - index);
+      distinctValues[index] = value;
+      distinctCount++;
+    }
+  }
+
+  @Override
+  public void flush(ByteArrayOutputStream out) throws IOException {
+    if (size == 0)
+      return;
+    // group positions by value, positions of each value are in ascending order
+    int[] ids = new int[size];
+    int[] offsets = new int[distinctCount + 1];
+    for (int i = 0; i < size; i++) {
+      int id = Arrays.binarySearch(distinctValues, 0, distinctCount, values[i]);
+      ids[i] = id;
+      offsets[id + 1]++;
+    }
+    for (int id = 0; id < distinctCount; id++) {
+      offsets[id + 1] += offsets[id];
+    }
+    int[] positions = new int[size];
+    int[] cursors = Arrays.copyOf(offsets, distinctCount);
+    for (int i = 0; i < size; i++) {
+      positions[cursors[ids[i]]++] = i;
+    }
+
+    out.write(VERSION);
+    ReadWriteStreamUtils.writeUnsignedVarInt(size, out);
+    ReadWriteStreamUtils.writeUnsignedVarInt(distinctCount, out);
+    for (int id = 0; id < distinctCount; id++) {
+      int from = offsets[id];
+      int to = offsets[id + 1];
+      ReadWriteStreamUtils.writeUnsignedVarInt(distinctValues[id], out);
+      int containerCount = 1;
+      for (int i = from + 1; i < to; i++) {
+        if ((positions[i] >>> 16) != (positions[i - 1] >>> 16))
+          containerCount++;
+      }
+      ReadWriteStreamUtils.writeUnsignedVarInt(containerCount, out);
+      int start = from;
+      while (start < to) {
+        int key = positions[start] >>> 16;
+        int end = start + 1;
+        while (end < to && (positions[end] >>> 16) == key) {
+          end++;
+        }
+        writeContainer(positions, start, end, key, out);
+        start = end;
+      }
+    }
+    reset();
+  }
+
+  /**
+   * write positions[from, to), which are in the same block, in the smallest container
+   */
+  private void writeContainer(int[] positions, int from, int to, int key, ByteArrayOutputStream out)
+      throws IOException {
+    int cardinality = to - from;
+    int runCount = 1;
+    for (int i = from + 1; i < to; i++) {
+      if (positions[i] != positions[i - 1] + 1)
+        runCount++;
+    }
+    int arraySize = 2 * cardinality;
+    int runSize = 4 * runCount;
+    ReadWriteStreamUtils.writeUnsignedVarInt(key, out);
+    if (runSize < arraySize && runSize < BITMAP_CONTAINER_SIZE) {
+      out.write(RUN_CONTAINER);
+      ReadWriteStreamUtils.writeUnsignedVarInt(runCount - 1, out);
+      int start = from;
+      for (int i = from + 1; i <= to; i++) {
+        if (i == to || positions[i] != positions[i - 1] + 1) {
+          writeShort(positions[start], out);
+          writeShort(i - start - 1, out);
+          start = i;
+        }
+      }
+    } else if (arraySize <= BITMAP_CONTAINER_SIZE) {
+      out.write(ARRAY_CONTAINER);
+      ReadWriteStreamUtils.writeUnsignedVarInt(cardinality - 1, out);
+      for (int i = from; i < to; i++) {
+        writeShort(positions[i], out);
+      }
+    } else {
+      out.write(BITMAP_CONTAINER);
+      long[] words = new long[BITMAP_WORDS];
+      for (int i = from; i < to; i++) {
+        int low = positions[i] & 0xFFFF;
+        words[low >>> 6] |= 1L << (low & 63);
+      }
+      for (long word : words) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+          out.write((int) (word >>> shift));
+        }
+      }
+    }
+  }
+
+  private void writeShort(int value, ByteArrayOutputStream out) {
+    out.write((value >>> 8) & 0xFF);
+    out.write(value & 0xFF);
+  }
+
+  private void reset() {
+    size = 0;
+    distinctCount = 0;
+  }
+
+  @Override
+  public int getOneItemMaxSize() {
+    // a value may be a new distinct value in a new container
+    return 2 + MAX_VALUE_HEADER_SIZE + MAX_CONTAINER_HEADER_SIZE;
+  }
+
+  @Override
+  public long getMaxByteSize() {
+    // each container takes no more than 2 bytes for each position besides its header
+    long containerCount = Math.min(size, (long) distinctCount * ((size >>> 16) + 1));
+    return 1 + 5 + 5 + 2L * size + (long) distinctCount * MAX_VALUE_HEADER_SIZE
+        + containerCount * MAX_CONTAINER_HEADER_SIZE;
+  }
+}
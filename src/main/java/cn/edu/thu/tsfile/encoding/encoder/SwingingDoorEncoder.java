@@ -0,0 +1,59 @@
+package cn.edu.thu.tsfile.encoding.encoder;
+
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * Encodes float and double values by swinging door trending. Knots are archived values, i.e.
+ * the polyline passes through the original values at knots. From an archived value, the doors
+ * of slopes swing as values arrive, covering the lines to the archived value within the max
+ * error of every value after it. Once the line to a new value is out of the doors, the previous
+ * value is archived and the doors are opened again.<br>
+ * The format is described in {@link LinearFitEncoder}.
+ *
+ * @author kangrong
+ */
+public class SwingingDoorEncoder extends LinearFitEncoder {
+  // the last archived value
+  private int archivedPosition;
+  private double archivedValue;
+  // lower and upper door of slopes from the archived value
+  private double lowerSlope;
+  private double upperSlope;
+  private double previousValue;
+
+  public SwingingDoorEncoder(double maxError) {
+    super(TSEncoding.SDT, maxError);
+  }
+
+  @Override
+  protected void addValue(double value) {
+    int position = valueCount;
+    if (position == 0) {
+      archive(position, value);
+    } else {
+      double slope = (value - archivedValue) / (position - archivedPosition);
+      if (slope < lowerSlope || slope > upperSlope) {
+        archive(position - 1, previousValue);
+      }
+      // the value is between the archived value and the ones after it
+      int distance = position - archivedPosition;
+      lowerSlope = Math.max(lowerSlope, (value - maxError - archivedValue) / distance);
+      upperSlope = Math.min(upperSlope, (value + maxError - archivedValue) / distance);
+    }
+    previousValue = value;
+  }
+
+  private void archive(int position, double value) {
+    addKnot(position, value);
+    archivedPosition = position;
+    archivedValue = value;
+    lowerSlope = Double.NEGATIVE_INFINITY;
+    upperSlope = Double.POSITIVE_INFINITY;
+  }
+
+  @Override
+  protected void closeSegment() {
+    if (valueCount - 1 > archivedPosition)
+      addKnot(valueCount - 1, previousValue);
+  }
+}
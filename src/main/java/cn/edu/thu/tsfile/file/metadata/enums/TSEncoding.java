@@ -7,5 +7,32 @@ package cn.edu.thu.tsfile.file.metadata.enums;
  * @date Apr 29, 2016 9:45:04 PM
  */
 public enum TSEncoding {
-  PLAIN, PLAIN_DICTIONARY, RLE, DIFF, TS_2DIFF, BITMAP
+  PLAIN, PLAIN_DICTIONARY, RLE, DIFF, TS_2DIFF, BITMAP, GORILLA,
+  /**
+   * runs of constant interval, for timestamps of series sampled at a fixed frequency
+   */
+  REGULAR,
+  /**
+   * compressed bitmap of positions for each distinct value, for enums
+   */
+  ROARING_BITMAP,
+  /**
+   * lossy encodings of float and double within a max error, by swinging door trending and
+   * piecewise linear approximation
+   */
+  SDT, PLA,
+  /**
+   * patched frame of reference on zigzag deltas, for int and long values jittering around a
+   * baseline
+   */
+  PFOR,
+  /**
+   * lossless decimals scaled to integers, with the number of decimal places detected from the
+   * values, for float and double
+   */
+  ALP,
+  /**
+   * chosen among applicable encodings in each row group on writing, never written to file
+   */
+  AUTO
 }
@@ -1,7 +1,8 @@
 package cn.edu.thu.tsfile.file.metadata.enums;
 
 /**
- * @Description This class is not used in current version
+ * @Description SINGLE_FREQ marks a chunk whose time column is encoded by REGULAR, so that values
+ *              are located by their timestamps. Other types are not used in current version
  * @author XuYi xuyi556677@163.com
  * @date Apr 29, 2016 9:44:54 PM
  */
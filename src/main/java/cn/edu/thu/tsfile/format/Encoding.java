@@ -80,7 +80,27 @@ public enum Encoding implements org.apache.thrift.TEnum {
   /**
    * Discrete Fourier transform
    */
-  DFT(14);
+  DFT(14),
+  /**
+   * XOR with the previous value, usable for float and double without precision loss
+   */
+  GORILLA(15),
+  /**
+   * Runs of constant interval, usable for timestamps sampled at a fixed frequency
+   */
+  REGULAR(16),
+  /**
+   * Compressed bitmap of positions for each distinct value, usable for enums
+   */
+  ROARING_BITMAP(17),
+  /**
+   * Patched frame of reference on zigzag deltas, usable for int and long
+   */
+  PFOR(18),
+  /**
+   * Lossless decimals scaled to integers with detected decimal places, usable for float and double
+   */
+  ALP(19);
 
   private final int value;
 
@@ -127,6 +147,16 @@ public enum Encoding implements org.apache.thrift.TEnum {
         return SDT;
       case 14:
         return DFT;
+      case 15:
+        return GORILLA;
+      case 16:
+        return REGULAR;
+      case 17:
+        return ROARING_BITMAP;
+      case 18:
+        return PFOR;
+      case 19:
+        return ALP;
       default:
         return null;
     }
@@ -3,6 +3,7 @@ package cn.edu.thu.tsfile.timeseries.FileFormat;
 import cn.edu.thu.tsfile.common.conf.TSFileConfig;
 import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
 import cn.edu.thu.tsfile.common.constant.JsonFormatConstant;
+import cn.edu.thu.tsfile.common.utils.FileChannelOutputStream;
 import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileReader;
 import cn.edu.thu.tsfile.timeseries.filter.definition.FilterExpression;
 import cn.edu.thu.tsfile.timeseries.filter.definition.FilterFactory;
@@ -16,14 +17,19 @@ import cn.edu.thu.tsfile.timeseries.write.TSRecordWriter;
 import cn.edu.thu.tsfile.timeseries.write.WriteSupport;
 import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
 import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.TSTablet;
 import cn.edu.thu.tsfile.timeseries.write.schema.FileSchema;
 import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileWriter;
 import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.utils.BulkLineImporter;
 import cn.edu.thu.tsfile.timeseries.utils.RecordUtils;
+import cn.edu.thu.tsfile.timeseries.write.io.RowGroupMetaDataJournal;
 import cn.edu.thu.tsfile.timeseries.write.io.TSFileIOWriter;
 import org.json.JSONObject;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -52,10 +58,35 @@ public class TsFile {
      */
     public TsFile(TSRandomAccessFileWriter tsFileOutputStream, JSONObject schemaJson)
             throws IOException, WriteProcessException {
+        this(new FileSchema(schemaJson), schemaJson, tsFileOutputStream, null);
+    }
+
+    /**
+     * For Write. Metadata of row groups is recorded in a journal next to the file while writing,
+     * so that the file can be recovered by {@linkplain #recover(File) recover} if it's not closed
+     * normally. The journal is deleted after closing. An existing file is overwritten.
+     *
+     * @param file       file to write
+     * @param schemaJson the fileSchema of TsFile in type of JSON
+     */
+    public TsFile(File file, JSONObject schemaJson) throws IOException, WriteProcessException {
+        this(new FileSchema(schemaJson), schemaJson, openNewFile(file),
+                RowGroupMetaDataJournal.create(file, schemaJson));
+    }
+
+    private TsFile(FileSchema fileSchema, JSONObject schemaJson,
+            TSRandomAccessFileWriter tsFileOutputStream, RowGroupMetaDataJournal journal)
+            throws IOException, WriteProcessException {
+        this(fileSchema, schemaJson, new TSFileIOWriter(fileSchema, tsFileOutputStream), journal);
+    }
+
+    private TsFile(FileSchema fileSchema, JSONObject schemaJson, TSFileIOWriter tsfileWriter,
+            RowGroupMetaDataJournal journal) throws IOException, WriteProcessException {
         this.status = WRITE;
-        fileSchema = new FileSchema(schemaJson);
+        this.fileSchema = fileSchema;
         WriteSupport<TSRecord> writeSupport = new TSRecordWriteSupport();
-        TSFileIOWriter tsfileWriter = new TSFileIOWriter(fileSchema, tsFileOutputStream);
+        if (journal != null)
+            tsfileWriter.setJournal(journal);
         TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
         if (schemaJson.has(JsonFormatConstant.ROW_GROUP_SIZE))
             conf.rowGroupSize = schemaJson.getInt(JsonFormatConstant.ROW_GROUP_SIZE);
@@ -64,6 +95,37 @@ public class TsFile {
         innerWriter = new TSRecordWriter(conf, tsfileWriter, writeSupport, fileSchema);
     }
 
+    /**
+     * Recover a TsFile written by {@linkplain #TsFile(File, JSONObject)} which is not closed
+     * normally, and reopen it for appending. Row groups recorded in its journal are kept, and data
+     * after them, e.g. a row group torn by crash, is truncated. The schema is also read from the
+     * journal. Records written before crash but not flushed are lost.
+     *
+     * @param file file to recover
+     * @return a TsFile in status WRITE
+     * @throws IOException thrown if the journal doesn't exist or is broken
+     * @throws WriteProcessException thrown if the schema in journal is illegal
+     */
+    public static TsFile recover(File file) throws IOException, WriteProcessException {
+        RowGroupMetaDataJournal.Recovery recovery = RowGroupMetaDataJournal.recover(file);
+        FileSchema fileSchema = new FileSchema(recovery.schemaJson);
+        if (recovery.rowGroups.isEmpty()) {
+            // no row group has been written, start the file again
+            return new TsFile(fileSchema, recovery.schemaJson, openNewFile(file), recovery.journal);
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(recovery.dataEndPos);
+        }
+        TSFileIOWriter tsfileWriter = new TSFileIOWriter(fileSchema,
+                new FileChannelOutputStream(file, true), recovery.dataEndPos, recovery.rowGroups);
+        return new TsFile(fileSchema, recovery.schemaJson, tsfileWriter, recovery.journal);
+    }
+
+    private static TSRandomAccessFileWriter openNewFile(File file) throws IOException {
+        // an existing file is truncated
+        return new FileChannelOutputStream(file);
+    }
+
     /**
      * write a line into TsFile
      *
@@ -77,6 +139,26 @@ public class TsFile {
         innerWriter.write(record);
     }
 
+    /**
+     * write all lines of a text file into TsFile. Each line is in the same format as
+     * {@linkplain #writeLine(String) writeLine}. The file is parsed in chunks on multiple threads
+     * and written in column-oriented form, which is much faster than writing it line by line.
+     * Lines of a delta object are sorted by time within a chunk of the file. If they are out of
+     * order across chunks, importing fails unless <b>outOfOrderWindow</b> is set.
+     *
+     * @param file      text file to import
+     * @param threadNum number of parsing threads
+     * @return statistics and throughput of this importing
+     * @throws IOException           thrown if reading the file or writing TsFile fails
+     * @throws WriteProcessException thrown if given data is not matched to fileSchema, or points
+     *                               of a delta object are out of order across chunks
+     */
+    public BulkLineImporter.ImportResult writeLines(File file, int threadNum)
+            throws IOException, WriteProcessException {
+        checkStatus(WRITE);
+        return new BulkLineImporter(this, fileSchema, threadNum).importFile(file);
+    }
+
     /**
      * clear and set new properties
      *
@@ -108,6 +190,20 @@ public class TsFile {
         innerWriter.write(tsRecord);
     }
 
+    /**
+     * write a batch of rows of one deltaObject in column-oriented form into TsFile. It's much
+     * cheaper than writing them line by line since no {@linkplain TSRecord} or DataPoint is
+     * constructed for each value.
+     *
+     * @param tablet rows of one deltaObject in form of {@linkplain TSTablet}
+     * @throws IOException           thrown if write process meats IOException like the output stream is closed abnormally.
+     * @throws WriteProcessException thrown if given data is not matched to fileSchema
+     */
+    public void writeTablet(TSTablet tablet) throws IOException, WriteProcessException {
+        checkStatus(WRITE);
+        innerWriter.write(tablet);
+    }
+
     /**
      * end the write process normally
      *
@@ -3,6 +3,9 @@ package cn.edu.thu.tsfile.timeseries.read;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
 
 import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileReader;
 import cn.edu.thu.tsfile.timeseries.read.management.FileStreamManager;
@@ -13,11 +16,31 @@ import cn.edu.thu.tsfile.timeseries.read.management.FileStreamManager;
  *
  */
 public class LocalFileInput implements TSRandomAccessFileReader {
+    /**
+     * ranges smaller than this are copied instead of sliced from the mapping, since copying a
+     * small range costs less than faulting in its pages
+     */
+    private static final int MIN_MAP_SIZE = 1 << 16;
+    /**
+     * the file is mapped in windows of this size, since one mapping can't exceed 2GB
+     */
+    private static final long WINDOW_SIZE = 1L << 30;
 
     private RandomAccessFile raf;
+    private final long windowSize;
+    /**
+     * windows of the file, each one mapped on the first large read in it. They are released with
+     * this object, as a mapping can't be unmapped safely while slices of it may still be read.
+     */
+    private MappedByteBuffer[] windows;
 
     public LocalFileInput(String path) throws FileNotFoundException {
+        this(path, WINDOW_SIZE);
+    }
+
+    LocalFileInput(String path, long windowSize) throws FileNotFoundException {
          this.raf = new RandomAccessFile(path, "r");
+         this.windowSize = windowSize;
     }
 
     @Override
@@ -42,6 +65,37 @@ public class LocalFileInput implements TSRandomAccessFileReader {
         return raf.readInt();
     }
 
+    /**
+     * large ranges are sliced from the mapped window containing them, so that uncompressed pages
+     * are decoded from the page cache without being copied into heap. Each window is mapped only
+     * once, however many ranges are read, and a range crossing two windows is mapped alone.
+     */
+    @Override
+    public ByteBuffer readBuffer(long position, int length) throws IOException {
+        if (length >= MIN_MAP_SIZE && windows == null)
+            windows = new MappedByteBuffer[(int) ((raf.length() + windowSize - 1) / windowSize)];
+        if (length < MIN_MAP_SIZE || position < 0
+                || position + length > (long) windows.length * windowSize) {
+            return TSRandomAccessFileReader.super.readBuffer(position, length);
+        }
+        int index = (int) (position / windowSize);
+        if (index != (position + length - 1) / windowSize)
+            return raf.getChannel().map(MapMode.READ_ONLY, position, length);
+        long windowStart = index * windowSize;
+        if (windows[index] == null) {
+            windows[index] = raf.getChannel().map(MapMode.READ_ONLY, windowStart,
+                    Math.min(windowSize, raf.length() - windowStart));
+        }
+        MappedByteBuffer window = windows[index];
+        if (position + length > windowStart + window.capacity())
+            return TSRandomAccessFileReader.super.readBuffer(position, length);
+        // the window itself is never moved, so its duplicates can be sliced concurrently
+        ByteBuffer slice = window.duplicate();
+        slice.position((int) (position - windowStart));
+        slice.limit((int) (position - windowStart) + length);
+        return slice.slice();
+    }
+
     /**
      * use {@code FileStreamManager} to manage all LocalFileInput
      */
@@ -52,5 +106,6 @@ public class LocalFileInput implements TSRandomAccessFileReader {
 	@Override
 	public void close() throws IOException {
 		raf.close();
+		windows = null;
 	}
 }
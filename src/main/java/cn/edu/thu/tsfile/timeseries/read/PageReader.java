@@ -1,30 +1,32 @@
 package cn.edu.thu.tsfile.timeseries.read;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
+import cn.edu.thu.tsfile.common.utils.ByteBufferInputStream;
 import cn.edu.thu.tsfile.compress.UnCompressor;
 import cn.edu.thu.tsfile.file.metadata.enums.CompressionTypeName;
 import cn.edu.thu.tsfile.file.utils.ReadWriteThriftFormatUtils;
 import cn.edu.thu.tsfile.format.PageHeader;
 
 /**
- * @description PageReader is used to read a page in a column.
+ * @description PageReader is used to read a page in a column. If the column is
+ *              read in a {@code ByteBufferInputStream} and is not compressed,
+ *              pages are sliced from it without copying.
  * @author Jinrui Zhang
  *
  */
 public class PageReader {
-	private ByteArrayInputStream bis;
+	private InputStream bis;
 	private PageHeader pageHeader = null;
 	private UnCompressor unCompressor = null;
 
-	public PageReader(ByteArrayInputStream bis, CompressionTypeName compressionTypeName) {
+	public PageReader(InputStream bis, CompressionTypeName compressionTypeName) {
 		this.bis = bis;
 		unCompressor = UnCompressor.getUnCompressor(compressionTypeName);
 	}
 
-	public boolean hasNextPage() {
+	public boolean hasNextPage() throws IOException {
 		if (bis.available() > 0)
 			return true;
 		return false;
@@ -42,15 +44,19 @@ public class PageReader {
 		return null;
 	}
 
-	public ByteArrayInputStream getNextPage() throws IOException {
+	public InputStream getNextPage() throws IOException {
 		if (bis.available() > 0) {
 			pageHeader = getNextPageHeader();
 			int pageSize = pageHeader.getCompressed_page_size();
+			pageHeader = null;
+			if (bis instanceof ByteBufferInputStream
+					&& unCompressor.getCodecName() == CompressionTypeName.UNCOMPRESSED) {
+				return ((ByteBufferInputStream) bis).slice(pageSize);
+			}
 			byte[] pageContent = new byte[pageSize];
 			bis.read(pageContent, 0, pageSize);
 			pageContent = unCompressor.uncompress(pageContent);
-			pageHeader = null;
-			return new ByteArrayInputStream(pageContent);
+			return new ByteBufferInputStream(pageContent);
 		}
 		return null;
 	}
@@ -59,7 +65,7 @@ public class PageReader {
 		in.read(buf, 0, pageSize);
 	}
 
-	public void skipCurrentPage() {
+	public void skipCurrentPage() throws IOException {
 		long skipSize = this.pageHeader.getCompressed_page_size();
 		bis.skip(skipSize);
 		pageHeader = null;
@@ -77,7 +77,11 @@ public class RecordReader {
 	 */
 	private DynamicOneColumnData getValueInOneColumn(DynamicOneColumnData res, int fetchSize,
 			RowGroupReader rowGroupReader, String measurementId) throws IOException {
-		DynamicOneColumnData v = rowGroupReader.getValueReaders().get(measurementId).readOneColumn(res, fetchSize);
+		ValueReader valueReader = rowGroupReader.getValueReaders().get(measurementId);
+		if (valueReader == null) {
+			return skipRowGroup(res, rowGroupReader, measurementId);
+		}
+		DynamicOneColumnData v = valueReader.readOneColumn(res, fetchSize);
 		return v;
 	}
 
@@ -206,9 +210,30 @@ public class RecordReader {
 	private DynamicOneColumnData getValuesUseFilter(DynamicOneColumnData res, int fetchSize,
 			RowGroupReader rowGroupReader, String measurementId, SingleSeriesFilterExpression timeFilter,
 			SingleSeriesFilterExpression freqFilter, SingleSeriesFilterExpression valueFilter) throws IOException {
+		ValueReader valueReader = rowGroupReader.getValueReaders().get(measurementId);
+		if (valueReader == null) {
+			return skipRowGroup(res, rowGroupReader, measurementId);
+		}
+		res = valueReader.readOneColumnUseFilter(res, fetchSize, timeFilter, freqFilter, valueFilter);
+		return res;
+	}
 
-		res = rowGroupReader.getValueReaders().get(measurementId).readOneColumnUseFilter(res, fetchSize, timeFilter,
-				freqFilter, valueFilter);
+	/**
+	 * A series which has no value in a row group is not written into it. Treat
+	 * such a row group as one has been read all.
+	 * 
+	 * @param res
+	 * @param rowGroupReader
+	 *            RowGroupReader without given series
+	 * @param measurementId
+	 * @return
+	 */
+	private DynamicOneColumnData skipRowGroup(DynamicOneColumnData res, RowGroupReader rowGroupReader,
+			String measurementId) {
+		if (res == null) {
+			res = new DynamicOneColumnData(getSeriesType(rowGroupReader.getDeltaObjectUID(), measurementId), true);
+		}
+		res.plusRowGroupIndexAndInitPageOffset();
 		return res;
 	}
 
@@ -364,7 +389,11 @@ public class RecordReader {
 	 */
 	private DynamicOneColumnData getValuesUseTimeValue(RowGroupReader rowGroupReader, String measurementId, long[] timeRet)
 			throws IOException {
-		return rowGroupReader.getValueReaders().get(measurementId).getValuesForGivenValues(timeRet);
+		ValueReader valueReader = rowGroupReader.getValueReaders().get(measurementId);
+		if (valueReader == null) {
+			return new DynamicOneColumnData(getSeriesType(rowGroupReader.getDeltaObjectUID(), measurementId), true);
+		}
+		return valueReader.getValuesForGivenValues(timeRet);
 	}
 
 	public boolean isEnumsColumn(String deltaObjectUID, String sid) {
@@ -523,6 +552,13 @@ public class RecordReader {
 		throw new IOException("Series not exist in current file: " + deltaObject + "#" + measurement);
 	}
 
+	/**
+	 * get the data type of a series, {@code checkSeries} should have been called.
+	 */
+	private TSDataType getSeriesType(String deltaObject, String measurement) {
+		return seriesSchemaMap.get(deltaObject).get(measurement).dataType;
+	}
+
 	public List<RowGroupReader> getAllRowGroupReaders() {
 		return readerManager.getAllRowGroupReaders();
 	}
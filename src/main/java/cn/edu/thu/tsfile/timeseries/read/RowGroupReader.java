@@ -9,9 +9,12 @@ import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import cn.edu.thu.tsfile.encoding.decoder.RegularTimeDecoder;
 import cn.edu.thu.tsfile.file.metadata.RowGroupMetaData;
+import cn.edu.thu.tsfile.file.metadata.TInTimeSeriesChunkMetaData;
 import cn.edu.thu.tsfile.file.metadata.TimeSeriesChunkMetaData;
 import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSFreqType;
 import cn.edu.thu.tsfile.timeseries.filter.definition.SingleSeriesFilterExpression;
 import cn.edu.thu.tsfile.timeseries.read.query.DynamicOneColumnData;
 
@@ -55,6 +58,10 @@ public class RowGroupReader {
                         tscMetaData.getVInTimeSeriesChunkMetaData().getDigest(), this.raf,
                         tscMetaData.getVInTimeSeriesChunkMetaData().getEnumValues(),
                         tscMetaData.getProperties().getCompression(), tscMetaData.getNumRows());
+				TInTimeSeriesChunkMetaData tInMetaData = tscMetaData.getTInTimeSeriesChunkMetaData();
+				if (tInMetaData != null && tInMetaData.getFreqType() == TSFreqType.SINGLE_FREQ) {
+					si.setTimeDecoder(new RegularTimeDecoder());
+				}
 				valueReaders.put(tscMetaData.getProperties().getMeasurementUID(), si);
 			}
 		}
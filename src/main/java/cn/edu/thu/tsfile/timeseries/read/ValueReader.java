@@ -12,19 +12,28 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.common.utils.ByteBufferInputStream;
 import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileReader;
 import cn.edu.thu.tsfile.encoding.decoder.Decoder;
 import cn.edu.thu.tsfile.encoding.decoder.DeltaBinaryDecoder;
+import cn.edu.thu.tsfile.encoding.decoder.DictionaryDecoder;
+import cn.edu.thu.tsfile.encoding.decoder.RegularTimeDecoder;
+import cn.edu.thu.tsfile.encoding.decoder.RoaringBitmapDecoder;
 import cn.edu.thu.tsfile.file.metadata.TSDigest;
 import cn.edu.thu.tsfile.file.metadata.enums.CompressionTypeName;
 import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
 import cn.edu.thu.tsfile.timeseries.filter.definition.SingleSeriesFilterExpression;
 import cn.edu.thu.tsfile.timeseries.filter.utils.DigestForFilter;
+import cn.edu.thu.tsfile.timeseries.filter.utils.Interval;
+import cn.edu.thu.tsfile.timeseries.filter.utils.LongInterval;
+import cn.edu.thu.tsfile.timeseries.filter.verifier.FilterVerifier;
 import cn.edu.thu.tsfile.timeseries.filter.visitorImpl.DigestVisitor;
 import cn.edu.thu.tsfile.timeseries.filter.visitorImpl.SingleValueVisitor;
 import cn.edu.thu.tsfile.timeseries.filter.visitorImpl.SingleValueVisitorFactory;
 import cn.edu.thu.tsfile.format.Digest;
+import cn.edu.thu.tsfile.format.Encoding;
 import cn.edu.thu.tsfile.format.PageHeader;
+import cn.edu.thu.tsfile.format.PageType;
 import cn.edu.thu.tsfile.timeseries.read.query.DynamicOneColumnData;
 
 /**
@@ -53,6 +62,13 @@ public class ValueReader {
 	// save the mainFrequency of this page
 	protected List<float[]> mainFrequency = null;
 
+	// entries of the dictionary page if this column is dictionary encoded
+	protected Binary[] dictionary = null;
+	// result of value filter on each dictionary entry, 0 for not evaluated, 1 for satisfied and -1
+	// for not satisfied
+	private byte[] entrySatisfied = null;
+	private SingleSeriesFilterExpression entryFilter = null;
+
 	/**
 	 * 
 	 * @param offset
@@ -110,53 +126,205 @@ public class ValueReader {
 	 */
 	protected long[] initTimeValue(InputStream page, int size, boolean skip) throws IOException {
 		long[] res = null;
-		int idx = 0;
 
-		int length = ReadWriteStreamUtils.readUnsignedVarInt(page);
-		byte[] buf = new byte[length];
-		int readSize = 0;
-		readSize = page.read(buf, 0, length);
-		if (readSize != length) {
-			throw new IOException("Expect byte size : " + totalSize + ". Read size : " + readSize);
-		}
+		InputStream bis = readTimeBlock(page);
 		if (!skip) {
-			ByteArrayInputStream bis = new ByteArrayInputStream(buf);
 			res = new long[size];
-			while (timeDecoder.hasNext(bis)) {
-				res[idx++] = timeDecoder.readLong(bis);
-			}
+			timeDecoder.readLongs(bis, res, 0, size);
 		}
 
 		return res;
 	}
 
-	private ByteArrayInputStream initBAIS() throws IOException {
-		int length = (int) this.totalSize;
-		byte[] buf = new byte[length];
-		int readSize = 0;
+	/**
+	 * Cut out the time column at the beginning of the page.
+	 */
+	private InputStream readTimeBlock(InputStream page) throws IOException {
+		int length = ReadWriteStreamUtils.readUnsignedVarInt(page);
+		InputStream bis;
+		if (page instanceof ByteBufferInputStream) {
+			bis = ((ByteBufferInputStream) page).slice(length);
+		} else {
+			byte[] buf = new byte[length];
+			int readSize = 0;
+			readSize = page.read(buf, 0, length);
+			if (readSize != length) {
+				throw new IOException("Expect byte size : " + totalSize + ". Read size : " + readSize);
+			}
+			bis = new ByteArrayInputStream(buf);
+		}
+		return bis;
+	}
 
-		raf.seek(fileOffset);
-		readSize = raf.read(buf, 0, length);
-		if (readSize != length) {
-			throw new IOException("Expect byte size : " + length + ". Read size : " + readSize);
+	/**
+	 * Select positions of values whose time satisfies the time filter in a page of REGULAR
+	 * encoded time column. The range of positions of each interval of the filter is located by its
+	 * bounds, instead of evaluating the filter on every time.
+	 *
+	 * @return number of selected positions
+	 */
+	private int selectByTimeIntervals(RegularTimeDecoder times, SingleSeriesFilterExpression timeFilter,
+			SingleValueVisitor<?> timeVisitor, int[] selected) {
+		Interval interval = FilterVerifier.get(timeFilter).getInterval(timeFilter);
+		if (interval instanceof LongInterval) {
+			LongInterval longInterval = (LongInterval) interval;
+			int count = 0;
+			int last = 0;
+			boolean ascending = true;
+			for (int i = 0; i < longInterval.count && ascending; i += 2) {
+				long lower = longInterval.v[i];
+				long upper = longInterval.v[i + 1];
+				int from = longInterval.flag[i] ? times.lowerBound(lower) : times.upperBound(lower);
+				int to = longInterval.flag[i + 1] ? times.upperBound(upper) : times.lowerBound(upper);
+				if (from >= to) {
+					continue;
+				}
+				ascending = from >= last;
+				for (int position = from; position < to && ascending; position++) {
+					selected[count++] = position;
+				}
+				last = to;
+			}
+			if (ascending) {
+				return count;
+			}
 		}
+		// evaluate the filter on every time if intervals are not in ascending order
+		int count = 0;
+		for (int position = 0; position < times.size(); position++) {
+			if (timeVisitor.satisfyObject(times.getValue(position), timeFilter)) {
+				selected[count++] = position;
+			}
+		}
+		return count;
+	}
 
-		ByteArrayInputStream bais = new ByteArrayInputStream(buf);
-		return bais;
+	private ByteBufferInputStream initBAIS() throws IOException {
+		return initBAISForOnePage(fileOffset);
 	}
-	
-	private ByteArrayInputStream initBAISForOnePage(long pageOffset) throws IOException {
+
+	/**
+	 * Read the column from given page to the end. The bytes may be mapped from
+	 * file by {@code raf}, see {@link TSRandomAccessFileReader#readBuffer(long, int)}.
+	 */
+	private ByteBufferInputStream initBAISForOnePage(long pageOffset) throws IOException {
 		int length = (int) (this.totalSize - (pageOffset - fileOffset));
-		byte[] buf = new byte[length]; 
-		int readSize = 0;
-		raf.seek(pageOffset);
-		readSize = raf.read(buf, 0, length);
-		if (readSize != length) {
-			throw new IOException("Expect byte size : " + length + ". Read size : " + readSize);
+		return new ByteBufferInputStream(raf.readBuffer(pageOffset, length));
+	}
+
+	/**
+	 * Read entries of the dictionary page of this column.
+	 */
+	private void readDictionary(PageReader pageReader, PageHeader pageHeader) throws IOException {
+		InputStream page = pageReader.getNextPage();
+		dictionary = DictionaryDecoder.readDictionary(page, pageHeader.getDictionary_page_header().getNum_values());
+		entrySatisfied = null;
+	}
+
+	/**
+	 * Get the decoder of given data page. The dictionary page is read from the start of this
+	 * column if it hasn't been read, e.g. reading is resumed from a page in the middle.
+	 */
+	private Decoder getPageDecoder(PageHeader pageHeader) throws IOException {
+		Encoding encoding = pageHeader.getData_page_header().getEncoding();
+		if (encoding != Encoding.PLAIN_DICTIONARY) {
+			return Decoder.getDecoderByType(encoding, getDataType());
+		}
+		if (dictionary == null) {
+			PageReader pageReader = new PageReader(initBAISForOnePage(fileOffset), compressionTypeName);
+			PageHeader dictionaryHeader = pageReader.getNextPageHeader();
+			if (dictionaryHeader.getType() != PageType.DICTIONARY_PAGE) {
+				throw new IOException("Dictionary page is not found in column at " + fileOffset);
+			}
+			readDictionary(pageReader, dictionaryHeader);
 		}
+		return new DictionaryDecoder(dictionary);
+	}
 
-		ByteArrayInputStream bais = new ByteArrayInputStream(buf);
-		return bais;
+	/**
+	 * Read values of a dictionary encoded page at selected positions, or all values if selected
+	 * is null. Only indexes are decoded, the value filter is evaluated once for each entry, and
+	 * satisfied values share the instances of entries, so that no Binary is created for values.
+	 */
+	private void readDictionaryEncodedPage(DictionaryDecoder dictionaryDecoder, InputStream page, long[] timeValues,
+			int valueCount, int[] selected, int selectedCount, DynamicOneColumnData res,
+			SingleSeriesFilterExpression valueFilter, SingleValueVisitor<?> valueVisitor) throws IOException {
+		if (valueFilter != null && (entrySatisfied == null || entryFilter != valueFilter)) {
+			entrySatisfied = new byte[dictionary.length];
+			entryFilter = valueFilter;
+		}
+		int[] indexes = new int[valueCount];
+		dictionaryDecoder.readIndexes(page, indexes, 0, valueCount);
+		for (int k = 0; k < selectedCount; k++) {
+			int timeIdx = selected == null ? k : selected[k];
+			int index = indexes[timeIdx];
+			long time = timeValues[timeIdx];
+			if (valueFilter != null) {
+				if (entrySatisfied[index] == 0) {
+					entrySatisfied[index] = valueVisitor.satisfyObject(dictionary[index], valueFilter) ? (byte) 1 : -1;
+				}
+				if (entrySatisfied[index] < 0) {
+					continue;
+				}
+			}
+			res.putBinary(dictionary[index]);
+			res.putTime(time);
+		}
+	}
+
+	/**
+	 * Read values of a roaring bitmap encoded enums page satisfying the value filter, at selected
+	 * positions or all positions if selected is null. The value filter is evaluated once for each
+	 * distinct value, and bitmaps of satisfied values are merged without decoding, so that values
+	 * are decoded only if more than one distinct value is satisfied.
+	 */
+	private void readRoaringBitmapEncodedPage(RoaringBitmapDecoder bitmapDecoder, InputStream page, long[] timeValues,
+			int[] selected, int selectedCount, DynamicOneColumnData res, SingleSeriesFilterExpression valueFilter,
+			SingleValueVisitor<?> valueVisitor) throws IOException {
+		int size = bitmapDecoder.readBitmaps(page);
+		long[] satisfied = new long[(size + 63) / 64];
+		// satisfied values indexed by enum value, sharing one Binary for each of them
+		Binary[] satisfiedValues = new Binary[enumValues.size() + 1];
+		Binary onlyValue = null;
+		int satisfiedCount = 0;
+		for (int j = 0; j < bitmapDecoder.getDistinctCount(); j++) {
+			int enumValue = bitmapDecoder.getDistinctValue(j);
+			Binary v = Binary.valueOf(enumValues.get(enumValue - 1));
+			if (valueVisitor.satisfyObject(v, valueFilter)) {
+				onlyValue = v;
+				satisfiedValues[enumValue] = v;
+				satisfiedCount++;
+				bitmapDecoder.orBitmap(j, satisfied);
+			}
+		}
+		if (satisfiedCount == 0) {
+			return;
+		}
+		int[] enumIndexes = null;
+		if (satisfiedCount > 1) {
+			enumIndexes = new int[timeValues.length];
+			bitmapDecoder.readInts(page, enumIndexes, 0, timeValues.length);
+		}
+		if (selected == null) {
+			// visit set bits only
+			for (int w = 0; w < satisfied.length; w++) {
+				long word = satisfied[w];
+				while (word != 0) {
+					int i = (w << 6) | Long.numberOfTrailingZeros(word);
+					word &= word - 1;
+					res.putBinary(enumIndexes == null ? onlyValue : satisfiedValues[enumIndexes[i]]);
+					res.putTime(timeValues[i]);
+				}
+			}
+			return;
+		}
+		for (int k = 0; k < selectedCount; k++) {
+			int i = selected[k];
+			if ((satisfied[i >>> 6] & (1L << (i & 63))) != 0) {
+				res.putBinary(enumIndexes == null ? onlyValue : satisfiedValues[enumIndexes[i]]);
+				res.putTime(timeValues[i]);
+			}
+		}
 	}
 
 	/**
@@ -168,6 +336,10 @@ public class ValueReader {
 			return true;
 		}
 		TSDigest digest = getDigest();
+		// digest is empty if statistics are not supported by the data type, e.g. BYTE_ARRAY
+		if (digest.min == null || digest.min.remaining() == 0) {
+			return true;
+		}
 		DigestForFilter digestFF = null;
 
 		if (getDataType() == TSDataType.ENUMS) {
@@ -223,6 +395,9 @@ public class ValueReader {
 			return new SingleValueVisitor<Float>(filter);
 		case DOUBLE:
 			return new SingleValueVisitor<Double>(filter);
+		case ENUMS:
+			// enums are filtered by their string values
+			return SingleValueVisitorFactory.getSingleValueVisitor(TSDataType.BYTE_ARRAY);
 		default:
 			return SingleValueVisitorFactory.getSingleValueVisitor(type);
 		}
@@ -271,7 +446,7 @@ public class ValueReader {
 			log.debug("ValueFilter satisfied Or ValueFilter is null. [ValueFilter] is: " + valueFilter);
 
 			// Initialize the bis according to the offset in last read.
-			ByteArrayInputStream bis = initBAISForOnePage(res.pageOffset);
+			ByteBufferInputStream bis = initBAISForOnePage(res.pageOffset);
 			PageReader pageReader = new PageReader(bis, compressionTypeName);
 			int pageCount = 0;
 			while ((res.pageOffset - fileOffset) < totalSize && (res.length - currentLength) < fetchSize) {
@@ -281,10 +456,16 @@ public class ValueReader {
 				log.debug("read page " + pageCount);
 				PageHeader pageHeader = pageReader.getNextPageHeader();
 
+				if (pageHeader.getType() == PageType.DICTIONARY_PAGE) {
+					readDictionary(pageReader, pageHeader);
+					res.pageOffset += (lastAvailable - bis.available());
+					continue;
+				}
+
 				// construct valueFilter
 				Digest pageDigest = pageHeader.data_page_header.getDigest();
 				DigestForFilter valueDigestFF = null;
-				if(pageDigest != null){
+				if(pageDigest != null && pageDigest.min != null && pageDigest.min.remaining() > 0){
 					if (getDataType() == TSDataType.ENUMS) {
 						byte[] minValue = new byte[pageDigest.min.remaining()];
 						pageDigest.min.get(minValue);
@@ -309,131 +490,137 @@ public class ValueReader {
 
 					InputStream page = pageReader.getNextPage();
 
-					setDecoder(Decoder.getDecoderByType(pageHeader.getData_page_header().getEncoding(), getDataType()));
-
-					// get timevalues in this page
-					long[] timeValues = initTimeValue(page, pageHeader.data_page_header.num_rows, false);
+					setDecoder(getPageDecoder(pageHeader));
+
+					int size = pageHeader.data_page_header.num_rows;
+					long[] timeValues;
+					// positions of values whose time satisfies timeFilter, null for all values
+					int[] selected = null;
+					int selectedCount = 0;
+					if (timeFilter != null && timeDecoder instanceof RegularTimeDecoder) {
+						RegularTimeDecoder regularTimes = (RegularTimeDecoder) timeDecoder;
+						InputStream timeBlock = readTimeBlock(page);
+						regularTimes.readAll(timeBlock);
+						selected = new int[size];
+						selectedCount = selectByTimeIntervals(regularTimes, timeFilter, timeVisitor, selected);
+						// times after the last selected one are not needed
+						int timeCount = selectedCount == 0 ? 0 : selected[selectedCount - 1] + 1;
+						timeValues = new long[timeCount];
+						regularTimes.readLongs(timeBlock, timeValues, 0, timeCount);
+					} else {
+						// get timevalues in this page
+						timeValues = initTimeValue(page, size, false);
+						if (timeFilter != null) {
+							selected = new int[size];
+							for (int i = 0; i < size; i++) {
+								if (timeVisitor.satisfyObject(timeValues[i], timeFilter)) {
+									selected[selectedCount++] = i;
+								}
+							}
+						}
+					}
+					// values after the last selected one are not decoded
+					int valueCount = timeValues.length;
+					if (selected == null) {
+						selectedCount = valueCount;
+					} else {
+						valueCount = selectedCount == 0 ? 0 : selected[selectedCount - 1] + 1;
+					}
 
 					try {
-						int timeIdx = 0;
 						switch (dataType) {
 							case BOOLEAN:
-								while (decoder.hasNext(page)) {
-									boolean v = decoder.readBoolean(page);
-									if ((valueFilter == null && timeFilter == null)
-											|| (valueFilter != null && timeFilter == null
-											&& valueVisitor.satisfyObject(v, valueFilter))
-											|| (valueFilter == null && timeFilter != null
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))
-											|| (valueFilter != null && timeFilter != null
-											&& valueVisitor.satisfyObject(v, valueFilter)
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))) {
+								boolean[] booleanValues = new boolean[valueCount];
+								decoder.readBooleans(page, booleanValues, 0, valueCount);
+								for (int k = 0; k < selectedCount; k++) {
+									int i = selected == null ? k : selected[k];
+									boolean v = booleanValues[i];
+									if (valueFilter == null || valueVisitor.satisfyObject(v, valueFilter)) {
 										res.putBoolean(v);
-										res.putTime(timeValues[timeIdx]);
+										res.putTime(timeValues[i]);
 									}
-									timeIdx++;
 								}
 								break;
 							case INT32:
-								while (decoder.hasNext(page)) {
-									int v = decoder.readInt(page);
-									if ((valueFilter == null && timeFilter == null)
-											|| (valueFilter != null && timeFilter == null
-											&& valueVisitor.satisfyObject(v, valueFilter))
-											|| (valueFilter == null && timeFilter != null
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))
-											|| (valueFilter != null && timeFilter != null
-											&& valueVisitor.satisfyObject(v, valueFilter)
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))) {
+								int[] intValues = new int[valueCount];
+								decoder.readInts(page, intValues, 0, valueCount);
+								for (int k = 0; k < selectedCount; k++) {
+									int i = selected == null ? k : selected[k];
+									int v = intValues[i];
+									if (valueFilter == null || valueVisitor.satisfyObject(v, valueFilter)) {
 										res.putInt(v);
-										res.putTime(timeValues[timeIdx]);
+										res.putTime(timeValues[i]);
 									}
-									timeIdx++;
 								}
 								break;
 							case INT64:
-								while (decoder.hasNext(page)) {
-									long v = decoder.readLong(page);
-									if ((valueFilter == null && timeFilter == null)
-											|| (valueFilter != null && timeFilter == null
-											&& valueVisitor.satisfyObject(v, valueFilter))
-											|| (valueFilter == null && timeFilter != null
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))
-											|| (valueFilter != null && timeFilter != null
-											&& valueVisitor.satisfyObject(v, valueFilter)
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))) {
+								long[] longValues = new long[valueCount];
+								decoder.readLongs(page, longValues, 0, valueCount);
+								for (int k = 0; k < selectedCount; k++) {
+									int i = selected == null ? k : selected[k];
+									long v = longValues[i];
+									if (valueFilter == null || valueVisitor.satisfyObject(v, valueFilter)) {
 										res.putLong(v);
-										res.putTime(timeValues[timeIdx]);
+										res.putTime(timeValues[i]);
 									}
-									timeIdx++;
 								}
 								break;
 							case FLOAT:
-								while (decoder.hasNext(page)) {
-									float v = decoder.readFloat(page);
-									if ((valueFilter == null && timeFilter == null)
-											|| (valueFilter != null && timeFilter == null
-											&& valueVisitor.satisfyObject(v, valueFilter))
-											|| (valueFilter == null && timeFilter != null
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))
-											|| (valueFilter != null && timeFilter != null
-											&& valueVisitor.satisfyObject(v, valueFilter)
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))) {
+								float[] floatValues = new float[valueCount];
+								decoder.readFloats(page, floatValues, 0, valueCount);
+								for (int k = 0; k < selectedCount; k++) {
+									int i = selected == null ? k : selected[k];
+									float v = floatValues[i];
+									if (valueFilter == null || valueVisitor.satisfyObject(v, valueFilter)) {
 										res.putFloat(v);
-										res.putTime(timeValues[timeIdx]);
+										res.putTime(timeValues[i]);
 									}
-									timeIdx++;
 								}
 								break;
 							case DOUBLE:
-								while (decoder.hasNext(page)) {
-									double v = decoder.readDouble(page);
-									if ((valueFilter == null && timeFilter == null)
-											|| (valueFilter != null && timeFilter == null
-											&& valueVisitor.satisfyObject(v, valueFilter))
-											|| (valueFilter == null && timeFilter != null
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))
-											|| (valueFilter != null && timeFilter != null
-											&& valueVisitor.satisfyObject(v, valueFilter)
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))) {
+								double[] doubleValues = new double[valueCount];
+								decoder.readDoubles(page, doubleValues, 0, valueCount);
+								for (int k = 0; k < selectedCount; k++) {
+									int i = selected == null ? k : selected[k];
+									double v = doubleValues[i];
+									if (valueFilter == null || valueVisitor.satisfyObject(v, valueFilter)) {
 										res.putDouble(v);
-										res.putTime(timeValues[timeIdx]);
+										res.putTime(timeValues[i]);
 									}
-									timeIdx++;
 								}
 								break;
 							case BYTE_ARRAY:
-								while (decoder.hasNext(page)) {
-									Binary v = decoder.readBinary(page);
-									if ((valueFilter == null && timeFilter == null)
-											|| (valueFilter != null && timeFilter == null
-											&& valueVisitor.satisfyObject(v, valueFilter))
-											|| (valueFilter == null && timeFilter != null
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))
-											|| (valueFilter != null && timeFilter != null
-											&& valueVisitor.satisfyObject(v, valueFilter)
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))) {
+								if (decoder instanceof DictionaryDecoder) {
+									readDictionaryEncodedPage((DictionaryDecoder) decoder, page, timeValues, valueCount,
+											selected, selectedCount, res, valueFilter, valueVisitor);
+									break;
+								}
+								Binary[] binaryValues = new Binary[valueCount];
+								decoder.readBinaries(page, binaryValues, 0, valueCount);
+								for (int k = 0; k < selectedCount; k++) {
+									int i = selected == null ? k : selected[k];
+									Binary v = binaryValues[i];
+									if (valueFilter == null || valueVisitor.satisfyObject(v, valueFilter)) {
 										res.putBinary(v);
-										res.putTime(timeValues[timeIdx]);
+										res.putTime(timeValues[i]);
 									}
-									timeIdx++;
 								}
 								break;
 							case ENUMS:
-								while (decoder.hasNext(page)) {
-									int v = decoder.readInt(page) - 1;
-									if ((valueFilter == null && timeFilter == null)
-											|| (valueFilter != null && timeFilter == null
-											&& valueVisitor.satisfyObject(enumValues.get(v), valueFilter))
-											|| (valueFilter == null && timeFilter != null
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))
-											|| (valueFilter != null && timeFilter != null
-											&& valueVisitor.satisfyObject(enumValues.get(v), valueFilter)
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))) {
-										res.putBinary(Binary.valueOf(enumValues.get(v)));
-										res.putTime(timeValues[timeIdx]);
+								if (decoder instanceof RoaringBitmapDecoder && valueFilter != null) {
+									readRoaringBitmapEncodedPage((RoaringBitmapDecoder) decoder, page, timeValues,
+											selected, selectedCount, res, valueFilter, valueVisitor);
+									break;
+								}
+								int[] enumIndexes = new int[valueCount];
+								decoder.readInts(page, enumIndexes, 0, valueCount);
+								for (int k = 0; k < selectedCount; k++) {
+									int i = selected == null ? k : selected[k];
+									Binary v = Binary.valueOf(enumValues.get(enumIndexes[i] - 1));
+									if (valueFilter == null || valueVisitor.satisfyObject(v, valueFilter)) {
+										res.putBinary(v);
+										res.putTime(timeValues[i]);
 									}
-									timeIdx++;
 								}
 								break;
 						default:
@@ -477,7 +664,7 @@ public class ValueReader {
 
 		int timeIdx = 0;
 
-		ByteArrayInputStream bis = initBAIS();
+		ByteBufferInputStream bis = initBAIS();
 		PageReader pageReader = new PageReader(bis, compressionTypeName);
 		int pageCount = 0;
 
@@ -486,6 +673,11 @@ public class ValueReader {
 			log.debug("read page " + pageCount);
 			PageHeader pageHeader = pageReader.getNextPageHeader();
 
+			if (pageHeader.getType() == PageType.DICTIONARY_PAGE) {
+				readDictionary(pageReader, pageHeader);
+				continue;
+			}
+
 			long timeMaxv = pageHeader.data_page_header.getMax_timestamp();
 
 			// If there may be some values acceptable in this page
@@ -493,129 +685,100 @@ public class ValueReader {
 
 				InputStream page = pageReader.getNextPage();
 
-				setDecoder(Decoder.getDecoderByType(pageHeader.getData_page_header().getEncoding(), getDataType()));
+				setDecoder(getPageDecoder(pageHeader));
 
-				long[] timeValues = initTimeValue(page, pageHeader.data_page_header.num_rows, false);
+				// given times in the range of this page
+				int timeEnd = timeIdx;
+				while (timeEnd < timeRet.length && timeRet[timeEnd] <= timeMaxv) {
+					timeEnd++;
+				}
+				// positions and times of values found in this page
+				int[] positions = new int[timeEnd - timeIdx];
+				long[] times = new long[timeEnd - timeIdx];
+				int count = 0;
+				if (timeDecoder instanceof RegularTimeDecoder) {
+					// locate given times by runs of the time column without decoding it
+					RegularTimeDecoder regularTimes = (RegularTimeDecoder) timeDecoder;
+					regularTimes.readAll(readTimeBlock(page));
+					for (; timeIdx < timeEnd; timeIdx++) {
+						int i = regularTimes.indexOf(timeRet[timeIdx]);
+						if (i >= 0 && (count == 0 || i > positions[count - 1])) {
+							positions[count] = i;
+							times[count++] = timeRet[timeIdx];
+						}
+					}
+				} else {
+					long[] timeValues = initTimeValue(page, pageHeader.data_page_header.num_rows, false);
+					int i = 0;
+					for (; timeIdx < timeEnd; timeIdx++) {
+						while (i < timeValues.length && timeValues[i] < timeRet[timeIdx]) {
+							i++;
+						}
+						if (i < timeValues.length && timeValues[i] == timeRet[timeIdx]) {
+							positions[count] = i;
+							times[count++] = timeValues[i];
+							i++;
+						}
+					}
+				}
 
-				int i = 0;
+				// values after the last found one are not decoded
+				int valueCount = count == 0 ? 0 : positions[count - 1] + 1;
 				switch (dataType) {
 					case BOOLEAN:
-						while (i < timeValues.length && timeIdx < timeRet.length) {
-							while (i < timeValues.length && timeValues[i] < timeRet[timeIdx]) {
-								i++;
-								decoder.readBoolean(page);
-							}
-							if (i < timeValues.length && timeValues[i] == timeRet[timeIdx]) {
-								res.putBoolean(decoder.readBoolean(page));
-								res.putTime(timeValues[i]);
-								i++;
-								timeIdx++;
-							}
-							while (timeIdx < timeRet.length && i < timeValues.length && timeRet[timeIdx] < timeValues[i]) {
-								timeIdx++;
-							}
+						boolean[] booleanValues = new boolean[valueCount];
+						decoder.readBooleans(page, booleanValues, 0, valueCount);
+						for (int k = 0; k < count; k++) {
+							res.putBoolean(booleanValues[positions[k]]);
+							res.putTime(times[k]);
 						}
 						break;
 					case INT32:
-						while (i < timeValues.length && timeIdx < timeRet.length) {
-							while (i < timeValues.length && timeValues[i] < timeRet[timeIdx]) {
-								i++;
-								decoder.readInt(page);
-							}
-							if (i < timeValues.length && timeValues[i] == timeRet[timeIdx]) {
-								res.putInt(decoder.readInt(page));
-								res.putTime(timeValues[i]);
-								i++;
-								timeIdx++;
-							}
-							while (timeIdx < timeRet.length && i < timeValues.length && timeRet[timeIdx] < timeValues[i]) {
-								timeIdx++;
-							}
+						int[] intValues = new int[valueCount];
+						decoder.readInts(page, intValues, 0, valueCount);
+						for (int k = 0; k < count; k++) {
+							res.putInt(intValues[positions[k]]);
+							res.putTime(times[k]);
 						}
 						break;
 					case INT64:
-						while (i < timeValues.length && timeIdx < timeRet.length) {
-							while (i < timeValues.length && timeValues[i] < timeRet[timeIdx]) {
-								i++;
-								decoder.readLong(page);
-							}
-							if (i < timeValues.length && timeValues[i] == timeRet[timeIdx]) {
-								res.putLong(decoder.readLong(page));
-								res.putTime(timeValues[i]);
-								i++;
-								timeIdx++;
-							}
-							while (timeIdx < timeRet.length && i < timeValues.length && timeRet[timeIdx] < timeValues[i]) {
-								timeIdx++;
-							}
+						long[] longValues = new long[valueCount];
+						decoder.readLongs(page, longValues, 0, valueCount);
+						for (int k = 0; k < count; k++) {
+							res.putLong(longValues[positions[k]]);
+							res.putTime(times[k]);
 						}
 						break;
 					case FLOAT:
-						while (i < timeValues.length && timeIdx < timeRet.length) {
-							while (i < timeValues.length && timeValues[i] < timeRet[timeIdx]) {
-								i++;
-								decoder.readFloat(page);
-							}
-							if (i < timeValues.length && timeValues[i] == timeRet[timeIdx]) {
-								res.putFloat(decoder.readFloat(page));
-								res.putTime(timeValues[i]);
-								i++;
-								timeIdx++;
-							}
-							while (timeIdx < timeRet.length && i < timeValues.length && timeRet[timeIdx] < timeValues[i]) {
-								timeIdx++;
-							}
+						float[] floatValues = new float[valueCount];
+						decoder.readFloats(page, floatValues, 0, valueCount);
+						for (int k = 0; k < count; k++) {
+							res.putFloat(floatValues[positions[k]]);
+							res.putTime(times[k]);
 						}
 						break;
 					case DOUBLE:
-						while (i < timeValues.length && timeIdx < timeRet.length) {
-							while (i < timeValues.length && timeValues[i] < timeRet[timeIdx]) {
-								i++;
-								decoder.readDouble(page);
-							}
-							if (i < timeValues.length && timeValues[i] == timeRet[timeIdx]) {
-								res.putDouble(decoder.readDouble(page));
-								res.putTime(timeValues[i]);
-								i++;
-								timeIdx++;
-							}
-							while (timeIdx < timeRet.length && i < timeValues.length && timeRet[timeIdx] < timeValues[i]) {
-								timeIdx++;
-							}
+						double[] doubleValues = new double[valueCount];
+						decoder.readDoubles(page, doubleValues, 0, valueCount);
+						for (int k = 0; k < count; k++) {
+							res.putDouble(doubleValues[positions[k]]);
+							res.putTime(times[k]);
 						}
 						break;
 					case BYTE_ARRAY:
-						while (i < timeValues.length && timeIdx < timeRet.length) {
-							while (i < timeValues.length && timeValues[i] < timeRet[timeIdx]) {
-								i++;
-								decoder.readBinary(page);
-							}
-							if (i < timeValues.length && timeValues[i] == timeRet[timeIdx]) {
-								res.putBinary(decoder.readBinary(page));
-								res.putTime(timeValues[i]);
-								i++;
-								timeIdx++;
-							}
-							while (timeIdx < timeRet.length && i < timeValues.length && timeRet[timeIdx] < timeValues[i]) {
-								timeIdx++;
-							}
+						Binary[] binaryValues = new Binary[valueCount];
+						decoder.readBinaries(page, binaryValues, 0, valueCount);
+						for (int k = 0; k < count; k++) {
+							res.putBinary(binaryValues[positions[k]]);
+							res.putTime(times[k]);
 						}
 						break;
 					case ENUMS:
-						while (i < timeValues.length && timeIdx < timeRet.length) {
-							while (i < timeValues.length && timeValues[i] < timeRet[timeIdx]) {
-								i++;
-								decoder.readInt(page);
-							}
-							if (i < timeValues.length && timeValues[i] == timeRet[timeIdx]) {
-								res.putBinary(Binary.valueOf(enumValues.get(decoder.readInt(page) - 1)));
-								res.putTime(timeValues[i]);
-								i++;
-								timeIdx++;
-							}
-							while (timeIdx < timeRet.length && i < timeValues.length && timeRet[timeIdx] < timeValues[i]) {
-								timeIdx++;
-							}
+						int[] enumIndexes = new int[valueCount];
+						decoder.readInts(page, enumIndexes, 0, valueCount);
+						for (int k = 0; k < count; k++) {
+							res.putBinary(Binary.valueOf(enumValues.get(enumIndexes[positions[k]] - 1)));
+							res.putTime(times[k]);
 						}
 						break;
 				default:
@@ -633,6 +796,13 @@ public class ValueReader {
 		this.decoder = d;
 	}
 
+	/**
+	 * Set the decoder of time column, which is TS_2DIFF by default.
+	 */
+	public void setTimeDecoder(Decoder d) {
+		this.timeDecoder = d;
+	}
+
 	public void setFileOffset(long offset) {
 		this.fileOffset = offset;
 	}
@@ -0,0 +1,857 @@
+package cn.edu.thu.tsfile.timeseries.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.write.desc.MeasurementDescriptor;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSTablet;
+import cn.edu.thu.tsfile.timeseries.write.schema.FileSchema;
+
+/**
+ * BulkLineImporter writes a text file of lines in the format of
+ * {@linkplain RecordUtils#parseSimpleTupleRecord(String, FileSchema) parseSimpleTupleRecord}, i.e.
+ * {@code <deltaObjectId>,<timestamp>,[<measurementId>,<value>,]}, into a TsFile.<br>
+ * The file is split into chunks at line boundaries. Chunks are memory mapped and parsed on
+ * multiple threads directly from bytes, without splitting lines into Strings or boxing values.
+ * Each chunk is parsed into one column batch per delta object, which is sorted by time if needed
+ * and written through {@linkplain TsFile#writeTablet(TSTablet) writeTablet} in the order of chunks.
+ * So points of a delta object are in time order as long as the disorder in file doesn't cross
+ * chunks. Otherwise, unless <b>outOfOrderWindow</b> is set for the writer to sort points,
+ * importing fails by {@code WriteProcessException} instead of writing unsorted row groups.
+ *
+ * @author kangrong
+ *
+ */
+public class BulkLineImporter {
+    private static final Logger LOG = LoggerFactory.getLogger(BulkLineImporter.class);
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+    private static final int INITIAL_BATCH_CAPACITY = 256;
+    private static final int SPLIT_READ_SIZE = 8192;
+    private static final byte SEPARATOR = ',';
+    private static final byte LINE_END = '\n';
+    /**
+     * the largest long whose double value is exact
+     */
+    private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+    private static final long MAX_EXACT_FLOAT_MANTISSA = 1L << 24;
+    private static final double[] DOUBLE_POW10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8,
+            1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    private static final float[] FLOAT_POW10 = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f,
+            1e8f, 1e9f, 1e10f};
+
+    private final TsFile tsFile;
+    private final MeasurementDescriptor[] descriptors;
+    private final TSDataType[] types;
+    private final ByteKeyTable<Integer> measurementTable = new ByteKeyTable<>();
+    /**
+     * ordinals of enum values looked up by bytes, indexed by measurement
+     */
+    private final List<ByteKeyTable<Integer>> enumTables;
+    /**
+     * whether points of a delta object written in a chunk must be after all points of it in
+     * previous chunks, i.e. the writer doesn't sort points
+     */
+    private final boolean checkChunkOrder;
+    private final int threadNum;
+    private final int chunkSize;
+
+    public BulkLineImporter(TsFile tsFile, FileSchema schema, int threadNum) {
+        this(tsFile, schema, threadNum, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param tsFile - TsFile in status WRITE
+     * @param schema - schema of the TsFile
+     * @param threadNum - number of parsing threads
+     * @param chunkSize - size of chunks which the file is split into
+     */
+    public BulkLineImporter(TsFile tsFile, FileSchema schema, int threadNum, int chunkSize) {
+        this.tsFile = tsFile;
+        this.threadNum = Math.max(threadNum, 1);
+        this.chunkSize = Math.max(chunkSize, 1);
+        Collection<MeasurementDescriptor> all = schema.getDescriptor();
+        this.descriptors = all.toArray(new MeasurementDescriptor[all.size()]);
+        this.types = new TSDataType[descriptors.length];
+        this.enumTables = new ArrayList<>(descriptors.length);
+        for (int i = 0; i < descriptors.length; i++) {
+            types[i] = descriptors[i].getType();
+            measurementTable.put(
+                    descriptors[i].getMeasurementId().getBytes(StandardCharsets.UTF_8), i);
+            ByteKeyTable<Integer> enumTable = null;
+            if (types[i] == TSDataType.ENUMS) {
+                enumTable = new ByteKeyTable<>();
+                for (String value : descriptors[i].getEnumValues())
+                    enumTable.put(value.getBytes(StandardCharsets.UTF_8),
+                            descriptors[i].parseEnumValue(value));
+            }
+            enumTables.add(enumTable);
+        }
+        this.checkChunkOrder = TSFileDescriptor.getInstance().getConfig().outOfOrderWindow <= 0;
+    }
+
+    /**
+     * parse given file and write it into the TsFile
+     *
+     * @param file - text file to import
+     * @return - statistics of this importing
+     * @throws IOException
+     * @throws WriteProcessException - thrown if the writer fails, or points of a delta object are
+     *         earlier than its points in previous chunks
+     */
+    public ImportResult importFile(File file) throws IOException, WriteProcessException {
+        long startTime = System.currentTimeMillis();
+        ImportResult result = new ImportResult();
+        // max time of each delta object in chunks written
+        Map<String, Long> endTimes = new HashMap<>();
+        ExecutorService pool = Executors.newFixedThreadPool(threadNum, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "tsfile-line-parser");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long[] bounds = splitChunks(channel);
+            Deque<Future<ParsedChunk>> pending = new ArrayDeque<>();
+            int next = 0;
+            while (next < bounds.length - 1 || !pending.isEmpty()) {
+                // parse at most twice of thread number chunks ahead to bound memory usage
+                while (next < bounds.length - 1 && pending.size() < threadNum * 2) {
+                    pending.add(pool.submit(new ChunkParser(channel, bounds[next],
+                            bounds[next + 1])));
+                    next++;
+                }
+                waitFor(pending.poll()).writeTo(tsFile, result, endTimes);
+            }
+            result.byteCount = channel.size();
+        } finally {
+            pool.shutdownNow();
+        }
+        result.elapsedMillis = System.currentTimeMillis() - startTime;
+        LOG.info("import {} finished, {}", file, result);
+        return result;
+    }
+
+    private static ParsedChunk waitFor(Future<ParsedChunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while parsing chunks", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            throw new IOException("meet error in parsing chunk", e.getCause());
+        }
+    }
+
+    /**
+     * split the file into chunks about {@code chunkSize} bytes, each of which ends at a line end.
+     *
+     * @return - start positions of chunks followed by the file size
+     */
+    private long[] splitChunks(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer buffer = ByteBuffer.allocate(SPLIT_READ_SIZE);
+        long pos = chunkSize;
+        while (pos < size) {
+            long lineEnd = -1;
+            long readPos = pos;
+            while (lineEnd < 0 && readPos < size) {
+                buffer.clear();
+                int n = channel.read(buffer, readPos);
+                if (n <= 0)
+                    break;
+                for (int i = 0; i < n; i++) {
+                    if (buffer.get(i) == LINE_END) {
+                        lineEnd = readPos + i;
+                        break;
+                    }
+                }
+                readPos += n;
+            }
+            if (lineEnd < 0 || lineEnd + 1 >= size)
+                break;
+            bounds.add(lineEnd + 1);
+            pos = lineEnd + 1 + chunkSize;
+        }
+        bounds.add(size);
+        long[] ret = new long[bounds.size()];
+        for (int i = 0; i < ret.length; i++)
+            ret[i] = bounds.get(i);
+        return ret;
+    }
+
+    /**
+     * parses one chunk of file into column batches
+     */
+    private class ChunkParser implements Callable<ParsedChunk> {
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+        private ByteBuffer buf;
+        private final ByteKeyTable<ColumnBatch> batchTable = new ByteKeyTable<>();
+        private final ParsedChunk chunk = new ParsedChunk();
+        /**
+         * set by parsing methods if the value is illegal
+         */
+        private boolean parseFailed;
+        /**
+         * sign and number of fraction digits of the decimal parsed by {@code parseMantissa}
+         */
+        private boolean isNegative;
+        private int fractionDigits;
+
+        ChunkParser(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public ParsedChunk call() throws IOException {
+            buf = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            int limit = buf.limit();
+            int pos = 0;
+            while (pos < limit) {
+                int lineEnd = indexOf(LINE_END, pos, limit);
+                if (lineEnd < 0)
+                    lineEnd = limit;
+                parseLine(pos, lineEnd);
+                pos = lineEnd + 1;
+            }
+            if (chunk.invalidValueCount > 0 || chunk.unknownMeasurementCount > 0)
+                LOG.warn("chunk [{},{}) has {} invalid values and {} unknown measurements, omit them",
+                        start, end, chunk.invalidValueCount, chunk.unknownMeasurementCount);
+            return chunk;
+        }
+
+        private void parseLine(int lineStart, int lineEnd) {
+            if (lineEnd > lineStart && buf.get(lineEnd - 1) == '\r')
+                lineEnd--;
+            int fieldEnd = indexOf(SEPARATOR, lineStart, lineEnd);
+            if (fieldEnd < 0) {
+                if (trimStart(lineStart, lineEnd) < lineEnd) {
+                    chunk.lineCount++;
+                    chunk.skippedLineCount++;
+                }
+                return;
+            }
+            chunk.lineCount++;
+            ColumnBatch batch = getBatch(lineStart, fieldEnd);
+            int timeStart = fieldEnd + 1;
+            int timeEnd = indexOf(SEPARATOR, timeStart, lineEnd);
+            if (timeEnd < 0)
+                timeEnd = lineEnd;
+            long time = parseLong(trimStart(timeStart, timeEnd), trimEnd(timeStart, timeEnd));
+            if (parseFailed) {
+                chunk.skippedLineCount++;
+                return;
+            }
+            batch.addRow(time);
+            int pos = timeEnd + 1;
+            while (pos < lineEnd) {
+                int measurementEnd = indexOf(SEPARATOR, pos, lineEnd);
+                if (measurementEnd < 0)
+                    break;
+                int valueStart = measurementEnd + 1;
+                int valueEnd = indexOf(SEPARATOR, valueStart, lineEnd);
+                if (valueEnd < 0)
+                    valueEnd = lineEnd;
+                int mStart = trimStart(pos, measurementEnd);
+                Integer index = measurementTable.get(buf, mStart, trimEnd(mStart, measurementEnd));
+                if (index == null)
+                    chunk.unknownMeasurementCount++;
+                else
+                    parseValue(batch, index, valueStart, valueEnd);
+                pos = valueEnd + 1;
+            }
+        }
+
+        private void parseValue(ColumnBatch batch, int index, int valueStart, int valueEnd) {
+            int s = trimStart(valueStart, valueEnd);
+            int e = trimEnd(s, valueEnd);
+            if (s == e)
+                return;
+            parseFailed = false;
+            switch (types[index]) {
+                case INT32:
+                    long v = parseLong(s, e);
+                    if (v < Integer.MIN_VALUE || v > Integer.MAX_VALUE)
+                        parseFailed = true;
+                    if (!parseFailed)
+                        batch.intColumn(index)[batch.lastRow()] = (int) v;
+                    break;
+                case INT64:
+                    long l = parseLong(s, e);
+                    if (!parseFailed)
+                        batch.longColumn(index)[batch.lastRow()] = l;
+                    break;
+                case FLOAT:
+                    float f = parseFloat(s, e);
+                    if (!parseFailed)
+                        batch.floatColumn(index)[batch.lastRow()] = f;
+                    break;
+                case DOUBLE:
+                    double d = parseDouble(s, e);
+                    if (!parseFailed)
+                        batch.doubleColumn(index)[batch.lastRow()] = d;
+                    break;
+                case BOOLEAN:
+                    batch.booleanColumn(index)[batch.lastRow()] = isTrue(s, e);
+                    break;
+                case ENUMS:
+                    // unlike parseEnumValue returning -1, an unknown value is omitted
+                    Integer ordinal = enumTables.get(index).get(buf, s, e);
+                    if (ordinal == null)
+                        parseFailed = true;
+                    else
+                        batch.intColumn(index)[batch.lastRow()] = ordinal;
+                    break;
+                case BYTE_ARRAY:
+                    // same as parseSimpleTupleRecord, string value is not trimmed
+                    byte[] bytes = new byte[valueEnd - valueStart];
+                    for (int i = 0; i < bytes.length; i++)
+                        bytes[i] = buf.get(valueStart + i);
+                    batch.binaryColumn(index)[batch.lastRow()] = new Binary(bytes);
+                    break;
+                default:
+                    LOG.warn("unsupported data type:{}", types[index]);
+                    parseFailed = true;
+            }
+            if (parseFailed) {
+                chunk.invalidValueCount++;
+            } else {
+                batch.setValue(index);
+                chunk.pointCount++;
+            }
+        }
+
+        private ColumnBatch getBatch(int fieldStart, int fieldEnd) {
+            int s = trimStart(fieldStart, fieldEnd);
+            int e = trimEnd(s, fieldEnd);
+            ColumnBatch batch = batchTable.get(buf, s, e);
+            if (batch == null) {
+                byte[] key = new byte[e - s];
+                for (int i = 0; i < key.length; i++)
+                    key[i] = buf.get(s + i);
+                batch = new ColumnBatch(new String(key, StandardCharsets.UTF_8), types.length);
+                batchTable.put(key, batch);
+                chunk.batches.put(batch.deltaObjectId, batch);
+            }
+            return batch;
+        }
+
+        /**
+         * parse a decimal long as {@code Long.valueOf}, set {@code parseFailed} if it's illegal
+         */
+        private long parseLong(int s, int e) {
+            parseFailed = false;
+            int i = s;
+            boolean negative = false;
+            if (i < e && (buf.get(i) == '-' || buf.get(i) == '+')) {
+                negative = buf.get(i) == '-';
+                i++;
+            }
+            if (i == e) {
+                parseFailed = true;
+                return 0;
+            }
+            if (e - i > 18) {
+                // may overflow, leave it to JDK
+                try {
+                    return Long.parseLong(toString(s, e));
+                } catch (NumberFormatException ex) {
+                    parseFailed = true;
+                    return 0;
+                }
+            }
+            long value = 0;
+            for (; i < e; i++) {
+                int digit = buf.get(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    parseFailed = true;
+                    return 0;
+                }
+                value = value * 10 + digit;
+            }
+            return negative ? -value : value;
+        }
+
+        /**
+         * parse a plain decimal such as {@code -12.345} exactly by dividing its digits by a power
+         * of ten, which are both exact in double. Other forms are left to JDK.
+         */
+        private double parseDouble(int s, int e) {
+            parseFailed = false;
+            long mantissa = parseMantissa(s, e);
+            if (mantissa >= 0 && mantissa <= MAX_EXACT_DOUBLE_MANTISSA
+                    && fractionDigits < DOUBLE_POW10.length) {
+                double value = mantissa / DOUBLE_POW10[fractionDigits];
+                return isNegative ? -value : value;
+            }
+            try {
+                return Double.parseDouble(toString(s, e));
+            } catch (NumberFormatException ex) {
+                parseFailed = true;
+                return 0;
+            }
+        }
+
+        private float parseFloat(int s, int e) {
+            parseFailed = false;
+            long mantissa = parseMantissa(s, e);
+            if (mantissa >= 0 && mantissa <= MAX_EXACT_FLOAT_MANTISSA
+                    && fractionDigits < FLOAT_POW10.length) {
+                float value = mantissa / FLOAT_POW10[fractionDigits];
+                return isNegative ? -value : value;
+            }
+            try {
+                return Float.parseFloat(toString(s, e));
+            } catch (NumberFormatException ex) {
+                parseFailed = true;
+                return 0;
+            }
+        }
+
+        /**
+         * parse digits of a plain decimal, setting {@code isNegative} and {@code fractionDigits}.
+         *
+         * @return - the digits as a long, or -1 if it's not a plain decimal with at most 18 digits
+         */
+        private long parseMantissa(int s, int e) {
+            int i = s;
+            isNegative = false;
+            fractionDigits = 0;
+            if (i < e && (buf.get(i) == '-' || buf.get(i) == '+')) {
+                isNegative = buf.get(i) == '-';
+                i++;
+            }
+            long mantissa = 0;
+            int digitCount = 0;
+            boolean hasPoint = false;
+            for (; i < e; i++) {
+                byte b = buf.get(i);
+                if (b == '.' && !hasPoint) {
+                    hasPoint = true;
+                    continue;
+                }
+                int digit = b - '0';
+                if (digit < 0 || digit > 9 || ++digitCount > 18)
+                    return -1;
+                mantissa = mantissa * 10 + digit;
+                if (hasPoint)
+                    fractionDigits++;
+            }
+            return digitCount == 0 ? -1 : mantissa;
+        }
+
+        /**
+         * same as {@code Boolean.valueOf}, true if the value is "true" ignoring case
+         */
+        private boolean isTrue(int s, int e) {
+            if (e - s != 4)
+                return false;
+            return (buf.get(s) | 0x20) == 't' && (buf.get(s + 1) | 0x20) == 'r'
+                    && (buf.get(s + 2) | 0x20) == 'u' && (buf.get(s + 3) | 0x20) == 'e';
+        }
+
+        private int indexOf(byte b, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (buf.get(i) == b)
+                    return i;
+            }
+            return -1;
+        }
+
+        /**
+         * @return - the first position not less than {@code s} after skipping white spaces like
+         *         {@code String.trim}
+         */
+        private int trimStart(int s, int e) {
+            while (s < e && (buf.get(s) & 0xff) <= ' ')
+                s++;
+            return s;
+        }
+
+        private int trimEnd(int s, int e) {
+            while (e > s && (buf.get(e - 1) & 0xff) <= ' ')
+                e--;
+            return e;
+        }
+
+        private String toString(int s, int e) {
+            byte[] bytes = new byte[e - s];
+            for (int i = 0; i < bytes.length; i++)
+                bytes[i] = buf.get(s + i);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * result of parsing one chunk
+     */
+    private class ParsedChunk {
+        private final Map<String, ColumnBatch> batches = new LinkedHashMap<>();
+        private long lineCount;
+        private long skippedLineCount;
+        private long pointCount;
+        private long invalidValueCount;
+        private long unknownMeasurementCount;
+
+        private void writeTo(TsFile tsFile, ImportResult result, Map<String, Long> endTimes)
+                throws IOException, WriteProcessException {
+            for (ColumnBatch batch : batches.values()) {
+                TSTablet tablet = batch.toTablet(descriptors);
+                if (tablet == null)
+                    continue;
+                if (checkChunkOrder) {
+                    Long endTime = endTimes.get(batch.deltaObjectId);
+                    if (endTime != null && tablet.timestamps[0] < endTime)
+                        throw new WriteProcessException(String.format(
+                                "points of %s are out of order across chunks, time %d is "
+                                        + "earlier than %d written before",
+                                batch.deltaObjectId, tablet.timestamps[0], endTime));
+                    endTimes.put(batch.deltaObjectId, tablet.timestamps[tablet.rowCount - 1]);
+                }
+                tsFile.writeTablet(tablet);
+            }
+            result.lineCount += lineCount;
+            result.skippedLineCount += skippedLineCount;
+            result.pointCount += pointCount;
+            result.invalidValueCount += invalidValueCount + unknownMeasurementCount;
+        }
+    }
+
+    /**
+     * rows of one delta object in a chunk. Columns are indexed by measurement in schema and
+     * allocated when their first value appears.
+     */
+    private static class ColumnBatch {
+        private final String deltaObjectId;
+        private long[] times = new long[INITIAL_BATCH_CAPACITY];
+        private final Object[] columns;
+        /**
+         * rows having a value in each column
+         */
+        private final BitSet[] valueSets;
+        private int rowCount;
+        private boolean isSorted = true;
+
+        ColumnBatch(String deltaObjectId, int columnCount) {
+            this.deltaObjectId = deltaObjectId;
+            this.columns = new Object[columnCount];
+            this.valueSets = new BitSet[columnCount];
+        }
+
+        void addRow(long time) {
+            if (rowCount == times.length)
+                grow();
+            if (rowCount > 0 && time < times[rowCount - 1])
+                isSorted = false;
+            times[rowCount++] = time;
+        }
+
+        int lastRow() {
+            return rowCount - 1;
+        }
+
+        void setValue(int index) {
+            if (valueSets[index] == null)
+                valueSets[index] = new BitSet();
+            valueSets[index].set(rowCount - 1);
+        }
+
+        int[] intColumn(int index) {
+            if (columns[index] == null)
+                columns[index] = new int[times.length];
+            return (int[]) columns[index];
+        }
+
+        long[] longColumn(int index) {
+            if (columns[index] == null)
+                columns[index] = new long[times.length];
+            return (long[]) columns[index];
+        }
+
+        float[] floatColumn(int index) {
+            if (columns[index] == null)
+                columns[index] = new float[times.length];
+            return (float[]) columns[index];
+        }
+
+        double[] doubleColumn(int index) {
+            if (columns[index] == null)
+                columns[index] = new double[times.length];
+            return (double[]) columns[index];
+        }
+
+        boolean[] booleanColumn(int index) {
+            if (columns[index] == null)
+                columns[index] = new boolean[times.length];
+            return (boolean[]) columns[index];
+        }
+
+        Binary[] binaryColumn(int index) {
+            if (columns[index] == null)
+                columns[index] = new Binary[times.length];
+            return (Binary[]) columns[index];
+        }
+
+        private void grow() {
+            int capacity = times.length * 2;
+            times = Arrays.copyOf(times, capacity);
+            for (int i = 0; i < columns.length; i++) {
+                if (columns[i] != null)
+                    columns[i] = copyOf(columns[i], capacity);
+            }
+        }
+
+        private static Object copyOf(Object column, int capacity) {
+            Object ret = Array.newInstance(
+                    column.getClass().getComponentType(), capacity);
+            System.arraycopy(column, 0, ret, 0,
+                    Math.min(Array.getLength(column), capacity));
+            return ret;
+        }
+
+        /**
+         * @return - a tablet of columns having values and sorted by time, or null if there is
+         *         no value
+         */
+        TSTablet toTablet(MeasurementDescriptor[] descriptors) {
+            if (!isSorted)
+                sortByTime();
+            int columnCount = 0;
+            for (Object column : columns) {
+                if (column != null)
+                    columnCount++;
+            }
+            if (columnCount == 0)
+                return null;
+            String[] measurementIds = new String[columnCount];
+            Object[] values = new Object[columnCount];
+            BitSet[] nulls = new BitSet[columnCount];
+            int c = 0;
+            for (int i = 0; i < columns.length; i++) {
+                if (columns[i] == null)
+                    continue;
+                measurementIds[c] = descriptors[i].getMeasurementId();
+                values[c] = columns[i];
+                if (valueSets[i].cardinality() < rowCount) {
+                    nulls[c] = new BitSet(rowCount);
+                    nulls[c].set(0, rowCount);
+                    nulls[c].andNot(valueSets[i]);
+                }
+                c++;
+            }
+            TSTablet tablet = new TSTablet(deltaObjectId, measurementIds, times, values, rowCount);
+            tablet.bitMaps = nulls;
+            return tablet;
+        }
+
+        /**
+         * reorder rows by time stably
+         */
+        private void sortByTime() {
+            int[] order = new int[rowCount];
+            for (int i = 0; i < rowCount; i++)
+                order[i] = i;
+            mergeSort(order, new int[rowCount], 0, rowCount);
+            long[] sortedTimes = new long[times.length];
+            for (int i = 0; i < rowCount; i++)
+                sortedTimes[i] = times[order[i]];
+            times = sortedTimes;
+            for (int c = 0; c < columns.length; c++) {
+                if (columns[c] == null)
+                    continue;
+                Object sorted = Array.newInstance(
+                        columns[c].getClass().getComponentType(), times.length);
+                BitSet sortedValueSet = new BitSet(rowCount);
+                for (int i = 0; i < rowCount; i++) {
+                    System.arraycopy(columns[c], order[i], sorted, i, 1);
+                    if (valueSets[c].get(order[i]))
+                        sortedValueSet.set(i);
+                }
+                columns[c] = sorted;
+                valueSets[c] = sortedValueSet;
+            }
+            isSorted = true;
+        }
+
+        private void mergeSort(int[] order, int[] tmp, int from, int to) {
+            if (to - from < 2)
+                return;
+            int mid = (from + to) >>> 1;
+            mergeSort(order, tmp, from, mid);
+            mergeSort(order, tmp, mid, to);
+            if (times[order[mid - 1]] <= times[order[mid]])
+                return;
+            System.arraycopy(order, from, tmp, from, to - from);
+            int i = from, j = mid, k = from;
+            while (i < mid && j < to)
+                order[k++] = times[tmp[j]] < times[tmp[i]] ? tmp[j++] : tmp[i++];
+            while (i < mid)
+                order[k++] = tmp[i++];
+            while (j < to)
+                order[k++] = tmp[j++];
+        }
+    }
+
+    /**
+     * a hash table whose keys are byte arrays, looked up by a range of a {@code ByteBuffer}
+     * without copying it.
+     */
+    private static class ByteKeyTable<V> {
+        private byte[][] keys = new byte[16][];
+        private Object[] values = new Object[16];
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        V get(ByteBuffer buf, int s, int e) {
+            int mask = keys.length - 1;
+            for (int i = hash(buf, s, e) & mask; keys[i] != null; i = (i + 1) & mask) {
+                if (equals(keys[i], buf, s, e))
+                    return (V) values[i];
+            }
+            return null;
+        }
+
+        void put(byte[] key, V value) {
+            if ((size + 1) * 2 > keys.length)
+                resize();
+            int mask = keys.length - 1;
+            int i = hash(ByteBuffer.wrap(key), 0, key.length) & mask;
+            while (keys[i] != null)
+                i = (i + 1) & mask;
+            keys[i] = key;
+            values[i] = value;
+            size++;
+        }
+
+        private void resize() {
+            byte[][] oldKeys = keys;
+            Object[] oldValues = values;
+            keys = new byte[oldKeys.length * 2][];
+            values = new Object[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldKeys[j] == null)
+                    continue;
+                int i = hash(ByteBuffer.wrap(oldKeys[j]), 0, oldKeys[j].length) & mask;
+                while (keys[i] != null)
+                    i = (i + 1) & mask;
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+
+        private static int hash(ByteBuffer buf, int s, int e) {
+            int h = 1;
+            for (int i = s; i < e; i++)
+                h = 31 * h + buf.get(i);
+            return h ^ (h >>> 16);
+        }
+
+        private static boolean equals(byte[] key, ByteBuffer buf, int s, int e) {
+            if (key.length != e - s)
+                return false;
+            for (int i = 0; i < key.length; i++) {
+                if (key[i] != buf.get(s + i))
+                    return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * statistics of an importing
+     */
+    public static class ImportResult {
+        private long lineCount;
+        private long skippedLineCount;
+        private long pointCount;
+        private long invalidValueCount;
+        private long byteCount;
+        private long elapsedMillis;
+
+        public long getLineCount() {
+            return lineCount;
+        }
+
+        /**
+         * @return - number of lines skipped for lacking delta object id or legal timestamp
+         */
+        public long getSkippedLineCount() {
+            return skippedLineCount;
+        }
+
+        public long getPointCount() {
+            return pointCount;
+        }
+
+        /**
+         * @return - number of values omitted for illegal value or unknown measurement
+         */
+        public long getInvalidValueCount() {
+            return invalidValueCount;
+        }
+
+        public long getByteCount() {
+            return byteCount;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public double getLinesPerSecond() {
+            return lineCount * 1000.0 / Math.max(elapsedMillis, 1);
+        }
+
+        public double getMegaBytesPerSecond() {
+            return byteCount * 1000.0 / 1024 / 1024 / Math.max(elapsedMillis, 1);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "lines:%d, skipped lines:%d, points:%d, invalid values:%d, bytes:%d, "
+                            + "time:%dms, %.0f lines/s, %.2f MB/s",
+                    lineCount, skippedLineCount, pointCount, invalidValueCount, byteCount,
+                    elapsedMillis, getLinesPerSecond(), getMegaBytesPerSecond());
+        }
+    }
+}
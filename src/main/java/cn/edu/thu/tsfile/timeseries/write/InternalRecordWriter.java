@@ -1,6 +1,10 @@
 package cn.edu.thu.tsfile.timeseries.write;
 
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.timeseries.write.exception.NoMeasurementException;
 import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSTablet;
 import cn.edu.thu.tsfile.timeseries.write.series.RowGroupWriterImpl;
 import cn.edu.thu.tsfile.timeseries.write.series.IRowGroupWriter;
 import cn.edu.thu.tsfile.common.conf.TSFileConfig;
@@ -10,8 +14,20 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * {@code InternalRecordWriter<T>} is the entrance for writing processing. It
@@ -19,7 +35,16 @@ import java.util.Map;
  * write. It checks memory size for all writing processing along its strategy
  * and flush data stored in memory to OutputStream. At the end of writing, user
  * should call {@code close()} method to flush the last data outside and close
- * the normal outputStream and error outputStream.
+ * the normal outputStream and error outputStream.<br>
+ * If {@code asyncFlush} is set in {@code TSFileConfig}, a full row group is
+ * sealed and handed to a background thread for flushing, while the following
+ * records are written into a new set of row group writers. At most
+ * {@code maxFlushingRowGroupNum} sealed row groups are kept in memory, and
+ * writing blocks until one of them has been flushed.<br>
+ * If {@code parallelSealPage} is set, the last pages of all series are encoded
+ * and compressed on a fork-join pool before a row group is written. Series are
+ * still written in the same order, so the output is the same as sealing
+ * serially.
  *
  * @param <T>
  *            - record type
@@ -27,11 +52,22 @@ import java.util.Map;
  */
 public abstract class InternalRecordWriter<T> {
 	private static final Logger LOG = LoggerFactory.getLogger(InternalRecordWriter.class);
-	private static final int MINIMUM_RECORD_COUNT_FOR_CHECK = 1;
 
 	protected long recordCount = 0;
-	private long recordCountForNextMemCheck = MINIMUM_RECORD_COUNT_FOR_CHECK;
 	protected Map<String, IRowGroupWriter> groupWriters = new HashMap<String, IRowGroupWriter>();
+	/**
+	 * memory size occupied by all row group writers in this stage. Series
+	 * writers add their size changes to it, so that checking memory size
+	 * doesn't need to scan all of them.
+	 */
+	private AtomicLong memSizeCounter = new AtomicLong();
+	/**
+	 * end time of each series in written row groups, by delta object id and
+	 * measurement id. Series writers reject points not after it, so that a
+	 * point arriving later than {@code outOfOrderWindow} doesn't make row
+	 * groups overlap. null if {@code outOfOrderWindow} is 0.
+	 */
+	private final Map<String, Map<String, Long>> seriesEndTimes;
 
 	protected final TSFileIOWriter deltaFileWriter;
 	protected final WriteSupport<T> writeSupport;
@@ -41,6 +77,15 @@ public abstract class InternalRecordWriter<T> {
 	private long rowGroupSizeThreshold;
 	protected final long primaryRowGroupSize;
 	private int oneRowMaxSize;
+	private final RowGroupSizePlanner sizePlanner;
+
+	private final boolean isAsyncFlush;
+	private ExecutorService flushExecutor;
+	private Semaphore flushPermits;
+	private volatile IOException flushException;
+
+	private ForkJoinPool sealPool;
+	private boolean isSealPoolOwned;
 
 	public InternalRecordWriter(TSFileConfig conf, TSFileIOWriter tsfileWriter, WriteSupport<T> writeSupport,
 			FileSchema schema) {
@@ -50,7 +95,25 @@ public abstract class InternalRecordWriter<T> {
 		this.primaryRowGroupSize = conf.rowGroupSize;
 		this.oneRowMaxSize = schema.getCurrentRowMaxSize();
 		this.rowGroupSizeThreshold = primaryRowGroupSize - oneRowMaxSize;
+		this.sizePlanner = new RowGroupSizePlanner(rowGroupSizeThreshold, primaryRowGroupSize);
 		this.pageSize = conf.pageSize;
+		this.isAsyncFlush = conf.asyncFlush;
+		this.seriesEndTimes = conf.outOfOrderWindow > 0 ? new HashMap<String, Map<String, Long>>() : null;
+		if (isAsyncFlush) {
+			this.flushPermits = new Semaphore(Math.max(conf.maxFlushingRowGroupNum, 1));
+			this.flushExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "tsfile-row-group-flush");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		if (conf.parallelSealPage) {
+			this.isSealPoolOwned = conf.sealPageThreadNum > 0;
+			this.sealPool = isSealPoolOwned ? new ForkJoinPool(conf.sealPageThreadNum) : ForkJoinPool.commonPool();
+		}
 		writeSupport.init(groupWriters);
 	}
 
@@ -70,14 +133,97 @@ public abstract class InternalRecordWriter<T> {
 	 *
 	 * @param record
 	 *            - record responding a data line
+	 * @return - whether the record is accepted by {@code checkRowGroup()}
 	 */
-	public void write(T record) throws IOException, WriteProcessException {
-		if (checkRowGroup(record)) {
-			writeSupport.write(record);
-			++recordCount;
+	public boolean write(T record) throws IOException, WriteProcessException {
+		if (!checkRowGroup(record))
+			return false;
+		writeSupport.write(record);
+		++recordCount;
+		checkMemorySize();
+		return true;
+	}
+
+	/**
+	 * write a batch of rows in column-oriented form. Values are sent to series writers column by
+	 * column without constructing {@code T} for each row. A large tablet is split at the point
+	 * where the row group is estimated to be full, and memory size is checked after each split.
+	 *
+	 * @param tablet
+	 *            - rows of one delta object
+	 */
+	public void write(TSTablet tablet) throws IOException, WriteProcessException {
+		checkTablet(tablet);
+		String deltaObjectId = tablet.deltaObjectId;
+		int start = 0;
+		while (start < tablet.rowCount) {
+			// delta object appeared set is cleared after flushing a row group, add it again
+			if (!schema.hasDeltaObject(deltaObjectId)) {
+				schema.addDeltaObject(deltaObjectId);
+				addGroupToInternalRecordWriter(deltaObjectId);
+			}
+			long rowsToNextCheck = Math.max(sizePlanner.memSizeToFull(memSizeCounter.get()) / oneRowMaxSize, 1);
+			int end = (int) Math.min(tablet.rowCount, start + rowsToNextCheck);
+			groupWriters.get(deltaObjectId).write(tablet, start, end);
+			recordCount += end - start;
+			start = end;
 			checkMemorySize();
 		}
+	}
 
+	/**
+	 * check whether given tablet matches the file schema.
+	 *
+	 * @param tablet
+	 *            - tablet to be checked
+	 * @throws WriteProcessException
+	 */
+	private void checkTablet(TSTablet tablet) throws WriteProcessException {
+		if (tablet.timestamps.length < tablet.rowCount)
+			throw new WriteProcessException("tablet of " + tablet.deltaObjectId + " has "
+					+ tablet.timestamps.length + " timestamps, less than row count " + tablet.rowCount);
+		if (tablet.values.length != tablet.measurementIds.length)
+			throw new WriteProcessException("tablet of " + tablet.deltaObjectId + " has "
+					+ tablet.measurementIds.length + " measurements but " + tablet.values.length + " columns");
+		for (int i = 0; i < tablet.measurementIds.length; i++) {
+			String measurementId = tablet.measurementIds[i];
+			TSDataType type = schema.getSeriesType(measurementId);
+			if (type == null)
+				throw new NoMeasurementException("tablet of " + tablet.deltaObjectId + ", measurement id "
+						+ measurementId + " not found!");
+			Object column = tablet.values[i];
+			int length;
+			switch (type) {
+			case INT32:
+			case ENUMS:
+				length = column instanceof int[] ? ((int[]) column).length : -1;
+				break;
+			case INT64:
+				length = column instanceof long[] ? ((long[]) column).length : -1;
+				break;
+			case BOOLEAN:
+				length = column instanceof boolean[] ? ((boolean[]) column).length : -1;
+				break;
+			case FLOAT:
+				length = column instanceof float[] ? ((float[]) column).length : -1;
+				break;
+			case DOUBLE:
+				length = column instanceof double[] ? ((double[]) column).length : -1;
+				break;
+			case BYTE_ARRAY:
+				length = column instanceof Binary[] ? ((Binary[]) column).length : -1;
+				break;
+			default:
+				throw new WriteProcessException("measurement id " + measurementId + ", data type " + type
+						+ " is not supported by tablet");
+			}
+			if (length == -1)
+				throw new WriteProcessException("measurement id " + measurementId + " is " + type
+						+ ", but tablet column is " + (column == null ? "null" : column.getClass().getSimpleName()));
+			if (length < tablet.rowCount)
+				throw new WriteProcessException("measurement id " + measurementId + " has " + length
+						+ " values, less than row count " + tablet.rowCount);
+		}
 	}
 
 	/**
@@ -91,18 +237,29 @@ public abstract class InternalRecordWriter<T> {
 	 */
 	protected void addGroupToInternalRecordWriter(String deltaObjectId) {
 		if (!groupWriters.containsKey(deltaObjectId)) {
-			IRowGroupWriter groupWriter = new RowGroupWriterImpl(deltaObjectId, schema, pageSize);
+			Map<String, Long> endTimes = null;
+			if (seriesEndTimes != null) {
+				endTimes = seriesEndTimes.get(deltaObjectId);
+				if (endTimes == null) {
+					endTimes = new HashMap<String, Long>();
+					seriesEndTimes.put(deltaObjectId, endTimes);
+				}
+			}
+			IRowGroupWriter groupWriter = new RowGroupWriterImpl(deltaObjectId, schema, pageSize, memSizeCounter,
+					endTimes);
 			groupWriters.put(deltaObjectId, groupWriter);
 		}
 	}
 
 	/**
-	 * calculate total memory size occupied by all RowGroupWriter instances
+	 * calculate total memory size occupied by all RowGroupWriter instances by
+	 * scanning all of them. It's only for verifying, use
+	 * {@code getMemSize()} instead while writing.
 	 *
 	 * @return
 	 */
 	public long updateMemSizeForAllGroup() {
-		int memTotalSize = 0;
+		long memTotalSize = 0;
 		for (IRowGroupWriter group : groupWriters.values()) {
 			memTotalSize += group.updateMaxGroupMemSize();
 		}
@@ -110,81 +267,224 @@ public abstract class InternalRecordWriter<T> {
 	}
 
 	/**
-	 * check occupied memory size, if it exceeds the rowGroupSize threshold,
-	 * flush them to given OutputStream.
+	 * get total memory size occupied by all RowGroupWriter instances, which is
+	 * maintained incrementally by series writers.
+	 *
+	 * @return
+	 */
+	public long getMemSize() {
+		return memSizeCounter.get();
+	}
+
+	/**
+	 * check occupied memory size, if the row group size predicted from it
+	 * exceeds the rowGroupSize threshold, flush them to given OutputStream. It
+	 * costs constant time, so it's called after every record.
 	 *
 	 * @throws IOException
 	 */
 	protected void checkMemorySize() throws IOException {
-		if (recordCount >= recordCountForNextMemCheck) {
-			long memSize = updateMemSizeForAllGroup();
-			if (memSize > rowGroupSizeThreshold) {
-				LOG.info("start_write_row_group, memory space occupy:" + memSize);
-				flushRowGroup(true);
-				recordCountForNextMemCheck = rowGroupSizeThreshold / oneRowMaxSize;
-			} else {
-				recordCountForNextMemCheck = (rowGroupSizeThreshold - memSize) / oneRowMaxSize;
-			}
+		long memSize = memSizeCounter.get();
+		if (sizePlanner.isFull(memSize)) {
+			LOG.info("start_write_row_group, memory space occupy:" + memSize);
+			flushRowGroup(true);
 		}
 	}
 
 	/**
 	 * flush the data in all series writers and their page writers to
-	 * outputStream.
+	 * outputStream. In async flush mode, the data is sealed and flushed in
+	 * background.
 	 *
 	 * @throws IOException
 	 */
 	protected void flushRowGroup(boolean isFillRowGroup) throws IOException {
 		// at the present stage, just flush one block
-		String deltaType = schema.getDeltaType();
 		if (recordCount > 0) {
-			long totalMemStart = deltaFileWriter.getPos();
-			for (String deltaObjectId : schema.getDeltaObjectAppearedSet()) {
-				long memSize = deltaFileWriter.getPos();
-				deltaFileWriter.startRowGroup(recordCount, deltaObjectId, deltaType);
-				IRowGroupWriter groupWriter = groupWriters.get(deltaObjectId);
-				groupWriter.flushToFileWriter(deltaFileWriter);
-				deltaFileWriter.endRowGroup(deltaFileWriter.getPos() - memSize);
+			if (seriesEndTimes != null) {
+				for (String deltaObjectId : schema.getDeltaObjectAppearedSet())
+					groupWriters.get(deltaObjectId).recordSeriesEndTimes();
 			}
-			long actualTotalRowGroupSize = deltaFileWriter.getPos() - totalMemStart;
-			if (isFillRowGroup) {
-				fillInRowGroupSize(actualTotalRowGroupSize);
-				LOG.info("total row group size:{}, actual:{}, filled:{}", primaryRowGroupSize, actualTotalRowGroupSize,
-						primaryRowGroupSize - actualTotalRowGroupSize);
+			if (isAsyncFlush) {
+				sealRowGroup(isFillRowGroup);
+			} else {
+				writeRowGroup(groupWriters, schema.getDeltaObjectAppearedSet(), recordCount, memSizeCounter.get(),
+						isFillRowGroup);
+				recordCount = 0;
+				reset();
 			}
-			else
-				LOG.info("total row group size:{}, row group is not filled", actualTotalRowGroupSize);
-			LOG.info("write row group end");
-			recordCount = 0;
-			reset();
 		}
 	}
 
+	/**
+	 * write given row group writers to outputStream.
+	 *
+	 * @param writers
+	 *            - row group writers of all delta objects
+	 * @param deltaObjectIds
+	 *            - delta objects appeared in this row group
+	 * @param rowCount
+	 *            - record count of this row group
+	 * @param estimatedMemSize
+	 *            - estimated memory size of this row group
+	 * @param isFillRowGroup
+	 *            - whether to fill the row group up to primary row group size
+	 * @throws IOException
+	 */
+	private void writeRowGroup(Map<String, IRowGroupWriter> writers, Set<String> deltaObjectIds, long rowCount,
+			long estimatedMemSize, boolean isFillRowGroup) throws IOException {
+		String deltaType = schema.getDeltaType();
+		if (sealPool != null)
+			sealSeriesPages(writers, deltaObjectIds);
+		long totalMemStart = deltaFileWriter.getPos();
+		for (String deltaObjectId : deltaObjectIds) {
+			long memSize = deltaFileWriter.getPos();
+			deltaFileWriter.startRowGroup(rowCount, deltaObjectId, deltaType);
+			IRowGroupWriter groupWriter = writers.get(deltaObjectId);
+			groupWriter.flushToFileWriter(deltaFileWriter);
+			deltaFileWriter.endRowGroup(deltaFileWriter.getPos() - memSize);
+		}
+		long actualTotalRowGroupSize = deltaFileWriter.getPos() - totalMemStart;
+		if (isFillRowGroup) {
+			sizePlanner.update(estimatedMemSize, actualTotalRowGroupSize);
+			fillInRowGroupSize(actualTotalRowGroupSize);
+			LOG.info("total row group size:{}, actual:{}, filled:{}", primaryRowGroupSize, actualTotalRowGroupSize,
+					primaryRowGroupSize - actualTotalRowGroupSize);
+		}
+		else
+			LOG.info("total row group size:{}, row group is not filled", actualTotalRowGroupSize);
+		deltaFileWriter.journalRowGroups();
+		LOG.info("write row group end");
+	}
+
+	/**
+	 * seal the last pages of all series in given row group writers in
+	 * parallel and wait until all of them finish.
+	 *
+	 * @param writers
+	 *            - row group writers of all delta objects
+	 * @param deltaObjectIds
+	 *            - delta objects appeared in this row group
+	 */
+	private void sealSeriesPages(Map<String, IRowGroupWriter> writers, Set<String> deltaObjectIds) {
+		List<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>();
+		for (String deltaObjectId : deltaObjectIds)
+			tasks.addAll(writers.get(deltaObjectId).sealSeriesPages(sealPool));
+		for (ForkJoinTask<?> task : tasks)
+			task.join();
+	}
+
+	/**
+	 * hand the current row group writers over to the flush thread and start a
+	 * new stage with empty ones. Blocks if there have been
+	 * {@code maxFlushingRowGroupNum} sealed row groups not flushed yet.
+	 *
+	 * @throws IOException
+	 *             - if a previous flush failed or waiting is interrupted
+	 */
+	private void sealRowGroup(final boolean isFillRowGroup) throws IOException {
+		checkFlushException();
+		try {
+			flushPermits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted while waiting for flushing row group", e);
+		}
+		final Map<String, IRowGroupWriter> sealedWriters = new HashMap<String, IRowGroupWriter>(groupWriters);
+		final Set<String> sealedDeltaObjectIds = new HashSet<String>(schema.getDeltaObjectAppearedSet());
+		final long sealedRecordCount = recordCount;
+		final long sealedMemSize = memSizeCounter.get();
+		// groupWriters is shared with writeSupport, so clear it instead of creating a new one
+		groupWriters.clear();
+		schema.getDeltaObjectAppearedSet().clear();
+		recordCount = 0;
+		// sealed writers keep reporting to the old counter while being flushed
+		memSizeCounter = new AtomicLong();
+		flushExecutor.execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					if (flushException == null)
+						writeRowGroup(sealedWriters, sealedDeltaObjectIds, sealedRecordCount, sealedMemSize,
+								isFillRowGroup);
+				} catch (IOException e) {
+					LOG.error("fail to flush row group in background", e);
+					flushException = e;
+				} finally {
+					flushPermits.release();
+				}
+			}
+		});
+	}
+
+	private void checkFlushException() throws IOException {
+		if (flushException != null)
+			throw new IOException("flushing row group in background failed", flushException);
+	}
+
+	/**
+	 * wait until all sealed row groups have been flushed and stop the flush
+	 * thread.
+	 *
+	 * @throws IOException
+	 */
+	private void waitForFlushing() throws IOException {
+		flushExecutor.shutdown();
+		try {
+			while (!flushExecutor.awaitTermination(1, TimeUnit.SECONDS))
+				LOG.info("waiting for flushing row groups");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted while waiting for flushing row groups", e);
+		}
+		checkFlushException();
+	}
+
 	protected void fillInRowGroupSize(long actualRowGroupSize) throws IOException {
-		if (actualRowGroupSize > primaryRowGroupSize)
+		if (actualRowGroupSize > primaryRowGroupSize) {
 			LOG.warn("too large actual row group size!:actual:{},threshold:{}", actualRowGroupSize,
 					primaryRowGroupSize);
+			return;
+		}
 		deltaFileWriter.fillInRowGroup(primaryRowGroupSize - actualRowGroupSize);
 	}
 
 	/**
 	 * <b>Note that</b> we don't need to reset RowGroupWriter explicitly, since
 	 * after calling {@code flushToFileWriter()}, RowGroupWriter resets itself.
+	 * Memory size of removed RowGroupWriters is subtracted from the counter.
 	 */
 	private void reset() {
+		for (Map.Entry<String, IRowGroupWriter> entry : groupWriters.entrySet()) {
+			if (!schema.hasDeltaObject(entry.getKey()))
+				memSizeCounter.addAndGet(-entry.getValue().updateMaxGroupMemSize());
+		}
 		schema.resetUnusedDeltaObjectId(groupWriters);
 	}
 
 	/**
 	 * calling this method to write the last data remaining in memory and close
-	 * the normal and error OutputStream
+	 * the normal and error OutputStream. If flushing fails, the OutputStream
+	 * is closed without writing the file metadata.
 	 *
 	 * @throws IOException
 	 */
 	public void close() throws IOException {
 		LOG.info("start close file");
-		updateMemSizeForAllGroup();
-		flushRowGroup(false);
-		deltaFileWriter.endFile();
+		boolean isEnded = false;
+		try {
+			flushRowGroup(false);
+			if (isAsyncFlush)
+				waitForFlushing();
+			deltaFileWriter.endFile();
+			isEnded = true;
+		} finally {
+			if (isAsyncFlush)
+				flushExecutor.shutdown();
+			if (isSealPoolOwned)
+				sealPool.shutdown();
+			if (!isEnded)
+				deltaFileWriter.close();
+		}
 	}
 }
@@ -0,0 +1,425 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.constant.JsonFormatConstant;
+import cn.edu.thu.tsfile.common.utils.FileChannelOutputStream;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.io.TSFileIOWriter;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.TSTablet;
+import cn.edu.thu.tsfile.timeseries.write.schema.FileSchema;
+
+/**
+ * PartitionedTsFileWriter writes a logical dataset into several TsFiles in parallel. Delta objects
+ * are assigned to {@code partitionNum} partitions by a {@linkplain Partitioner Partitioner}, and
+ * each partition owns its {@code TSRecordWriter} and {@code TSFileIOWriter} driven by its own
+ * thread, which takes records from a bounded queue of {@code partitionQueueSize}. So all points of
+ * a delta object go to the same file and are written in the order they are given.<br>
+ * A partition rolls to a new file when the file reaches {@code partitionRollSize} bytes or has
+ * been open for {@code partitionRollInterval} milliseconds, even if no record arrives. Every
+ * produced file is recorded in a manifest named {@code <prefix>.manifest} with its partition, time
+ * range, record count and size. The manifest is rewritten whenever a file is finished.<br>
+ * Records and tablets are written asynchronously, so they must not be modified after given. An
+ * error met by a partition thread is thrown by the next calling of {@code write} or {@code close}.
+ * The file being written by the failed partition is closed and deleted, and isn't in manifest.
+ *
+ * @author kangrong
+ *
+ */
+public class PartitionedTsFileWriter {
+    private static final Logger LOG = LoggerFactory.getLogger(PartitionedTsFileWriter.class);
+    public static final String MANIFEST_SUFFIX = ".manifest";
+    private static final Object CLOSE = new Object();
+
+    /**
+     * decides which partition a delta object belongs to
+     */
+    public interface Partitioner {
+        /**
+         * @param deltaObjectId - delta object id
+         * @param partitionNum - number of partitions
+         * @return - partition index in [0, partitionNum)
+         */
+        int partition(String deltaObjectId, int partitionNum);
+    }
+
+    /**
+     * assigns delta objects to partitions by hash code
+     */
+    public static final Partitioner HASH_PARTITIONER = new Partitioner() {
+        @Override
+        public int partition(String deltaObjectId, int partitionNum) {
+            return (deltaObjectId.hashCode() & Integer.MAX_VALUE) % partitionNum;
+        }
+    };
+
+    private final File directory;
+    private final String prefix;
+    private final JSONObject schemaJson;
+    private final Partitioner partitioner;
+    private final TSFileConfig conf;
+    private final long rollSize;
+    private final long rollInterval;
+    private final PartitionWorker[] workers;
+    private final List<FileInfo> manifest = new ArrayList<>();
+    private boolean isClosed;
+
+    public PartitionedTsFileWriter(File directory, String prefix, JSONObject schemaJson,
+            int partitionNum) throws WriteProcessException {
+        this(directory, prefix, schemaJson, partitionNum, HASH_PARTITIONER);
+    }
+
+    /**
+     * @param directory - directory of produced files
+     * @param prefix - prefix of file names, files are named as
+     *        {@code <prefix>-<partition>-<sequence>.tsfile}
+     * @param schemaJson - schema of all files
+     * @param partitionNum - number of partitions and writing threads
+     * @param partitioner - assigns delta objects to partitions
+     * @throws WriteProcessException - if the schema is illegal
+     */
+    public PartitionedTsFileWriter(File directory, String prefix, JSONObject schemaJson,
+            int partitionNum, Partitioner partitioner) throws WriteProcessException {
+        if (partitionNum <= 0)
+            throw new IllegalArgumentException("partition number should be positive: "
+                    + partitionNum);
+        // check the schema before starting threads
+        new FileSchema(schemaJson);
+        this.directory = directory;
+        this.prefix = prefix;
+        this.schemaJson = schemaJson;
+        this.partitioner = partitioner;
+        this.conf = TSFileDescriptor.getInstance().getConfig();
+        if (schemaJson.has(JsonFormatConstant.ROW_GROUP_SIZE))
+            conf.rowGroupSize = schemaJson.getInt(JsonFormatConstant.ROW_GROUP_SIZE);
+        if (schemaJson.has(JsonFormatConstant.PAGE_SIZE))
+            conf.pageSize = schemaJson.getInt(JsonFormatConstant.PAGE_SIZE);
+        this.rollSize = conf.partitionRollSize;
+        this.rollInterval = conf.partitionRollInterval;
+        this.workers = new PartitionWorker[partitionNum];
+        for (int i = 0; i < partitionNum; i++) {
+            workers[i] = new PartitionWorker(i, Math.max(conf.partitionQueueSize, 1));
+            workers[i].thread.start();
+        }
+    }
+
+    /**
+     * write a record into the partition of its delta object. It blocks if the queue of the
+     * partition is full.
+     *
+     * @param record - record to write
+     * @throws IOException - if the partition failed, or waiting is interrupted
+     */
+    public void write(TSRecord record) throws IOException {
+        getWorker(record.deltaObjectId).put(record);
+    }
+
+    /**
+     * write a tablet into the partition of its delta object. It blocks if the queue of the
+     * partition is full.
+     *
+     * @param tablet - tablet to write
+     * @throws IOException - if the partition failed, or waiting is interrupted
+     */
+    public void write(TSTablet tablet) throws IOException {
+        getWorker(tablet.deltaObjectId).put(tablet);
+    }
+
+    private PartitionWorker getWorker(String deltaObjectId) throws IOException {
+        if (isClosed)
+            throw new IOException("partitioned writer is closed");
+        return workers[partitioner.partition(deltaObjectId, workers.length)];
+    }
+
+    /**
+     * finish all partitions, close their files and write the final manifest.
+     *
+     * @return - information of all produced files
+     * @throws IOException - if any partition failed
+     */
+    public List<FileInfo> close() throws IOException {
+        if (!isClosed) {
+            isClosed = true;
+            for (PartitionWorker worker : workers)
+                worker.putClose();
+            for (PartitionWorker worker : workers) {
+                try {
+                    worker.thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("interrupted while closing partitions", e);
+                }
+            }
+        }
+        for (PartitionWorker worker : workers)
+            worker.checkFailure();
+        return getManifest();
+    }
+
+    /**
+     * @return - information of files which have been finished
+     */
+    public List<FileInfo> getManifest() {
+        synchronized (manifest) {
+            return new ArrayList<>(manifest);
+        }
+    }
+
+    public File getManifestFile() {
+        return new File(directory, prefix + MANIFEST_SUFFIX);
+    }
+
+    private void addToManifest(FileInfo info) throws IOException {
+        synchronized (manifest) {
+            manifest.add(info);
+            JSONArray files = new JSONArray();
+            for (FileInfo f : manifest)
+                files.put(f.toJson());
+            JSONObject json = new JSONObject();
+            json.put("files", files);
+            // replace the manifest atomically so that readers never see a partial one
+            File manifestFile = getManifestFile();
+            File tmp = new File(directory, prefix + MANIFEST_SUFFIX + ".tmp");
+            try (Writer writer = new OutputStreamWriter(Files.newOutputStream(tmp.toPath()),
+                    StandardCharsets.UTF_8)) {
+                writer.write(json.toString(2));
+            }
+            Files.move(tmp.toPath(), manifestFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * writes records of one partition on its own thread
+     */
+    private class PartitionWorker implements Runnable {
+        private final int partition;
+        private final BlockingQueue<Object> queue;
+        private final Thread thread;
+        private volatile Throwable failure;
+
+        private FileChannelOutputStream output;
+        private TSFileIOWriter fileWriter;
+        private TSRecordWriter recordWriter;
+        private File currentFile;
+        private int sequence;
+        private long openTime;
+        private long startTime;
+        private long endTime;
+        private long recordCount;
+
+        PartitionWorker(int partition, int queueSize) {
+            this.partition = partition;
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+            this.thread = new Thread(this, "tsfile-partition-writer-" + partition);
+            this.thread.setDaemon(true);
+        }
+
+        void put(Object item) throws IOException {
+            checkFailure();
+            try {
+                queue.put(item);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted while writing into partition " + partition, e);
+            }
+        }
+
+        void putClose() throws IOException {
+            try {
+                queue.put(CLOSE);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted while closing partition " + partition, e);
+            }
+        }
+
+        void checkFailure() throws IOException {
+            if (failure != null)
+                throw new IOException("partition " + partition + " failed", failure);
+        }
+
+        @Override
+        public void run() {
+            try {
+                Object item;
+                while ((item = nextItem()) != CLOSE) {
+                    if (failure != null)
+                        continue;
+                    try {
+                        if (item == null)
+                            checkRoll();
+                        else
+                            write(item);
+                    } catch (Throwable e) {
+                        LOG.error("partition {} failed, following records are discarded",
+                                partition, e);
+                        failure = e;
+                        abortFile();
+                    }
+                }
+                if (failure == null)
+                    closeFile();
+            } catch (InterruptedException e) {
+                failure = e;
+                abortFile();
+            } catch (Throwable e) {
+                LOG.error("partition {} failed to close file", partition, e);
+                failure = e;
+                abortFile();
+            }
+        }
+
+        /**
+         * take the next item from queue. If a file is open and should roll by time, wait no
+         * longer than its remaining time.
+         *
+         * @return - the next item, or null if the file should be checked for rolling
+         */
+        private Object nextItem() throws InterruptedException {
+            if (recordWriter == null || rollInterval <= 0 || failure != null)
+                return queue.take();
+            long remaining = openTime + rollInterval - System.currentTimeMillis();
+            return remaining > 0 ? queue.poll(remaining, TimeUnit.MILLISECONDS) : null;
+        }
+
+        private void write(Object item) throws IOException, WriteProcessException {
+            if (recordWriter == null)
+                openFile();
+            if (item instanceof TSRecord) {
+                TSRecord record = (TSRecord) item;
+                // a record rejected by the writer is neither counted nor in the time range
+                if (recordWriter.write(record)) {
+                    updateTimeRange(record.time);
+                    recordCount++;
+                }
+            } else {
+                TSTablet tablet = (TSTablet) item;
+                recordWriter.write(tablet);
+                for (int i = 0; i < tablet.rowCount; i++)
+                    updateTimeRange(tablet.timestamps[i]);
+                recordCount += tablet.rowCount;
+            }
+            checkRoll();
+        }
+
+        private void checkRoll() throws IOException {
+            if (recordWriter == null)
+                return;
+            if ((rollSize > 0 && fileWriter.getPos() >= rollSize)
+                    || (rollInterval > 0 && System.currentTimeMillis() - openTime >= rollInterval))
+                closeFile();
+        }
+
+        private void updateTimeRange(long time) {
+            if (time < startTime)
+                startTime = time;
+            if (time > endTime)
+                endTime = time;
+        }
+
+        private void openFile() throws IOException, WriteProcessException {
+            currentFile = new File(directory,
+                    String.format("%s-%d-%d.tsfile", prefix, partition, sequence++));
+            FileSchema fileSchema = new FileSchema(schemaJson);
+            output = new FileChannelOutputStream(currentFile);
+            fileWriter = new TSFileIOWriter(fileSchema, output);
+            recordWriter = new TSRecordWriter(conf, fileWriter, new TSRecordWriteSupport(),
+                    fileSchema);
+            openTime = System.currentTimeMillis();
+            startTime = Long.MAX_VALUE;
+            endTime = Long.MIN_VALUE;
+            recordCount = 0;
+            LOG.info("partition {} starts writing {}", partition, currentFile);
+        }
+
+        private void closeFile() throws IOException {
+            if (recordWriter == null)
+                return;
+            recordWriter.close();
+            recordWriter = null;
+            fileWriter = null;
+            output = null;
+            addToManifest(new FileInfo(currentFile.getName(), partition, startTime, endTime,
+                    recordCount, currentFile.length()));
+            LOG.info("partition {} finished {}", partition, currentFile);
+        }
+
+        /**
+         * close the stream of current file after a failure and delete the partial file
+         */
+        private void abortFile() {
+            recordWriter = null;
+            fileWriter = null;
+            if (output == null)
+                return;
+            try {
+                output.close();
+            } catch (IOException e) {
+                LOG.warn("partition {} failed to close {}", partition, currentFile, e);
+            }
+            output = null;
+            if (currentFile.exists() && !currentFile.delete())
+                LOG.warn("partition {} failed to delete partial file {}", partition, currentFile);
+            else
+                LOG.info("partition {} deleted partial file {}", partition, currentFile);
+        }
+    }
+
+    /**
+     * information of a produced file in manifest
+     */
+    public static class FileInfo {
+        public final String fileName;
+        public final int partition;
+        public final long startTime;
+        public final long endTime;
+        public final long recordCount;
+        public final long size;
+
+        public FileInfo(String fileName, int partition, long startTime, long endTime,
+                long recordCount, long size) {
+            this.fileName = fileName;
+            this.partition = partition;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.recordCount = recordCount;
+            this.size = size;
+        }
+
+        public JSONObject toJson() {
+            JSONObject json = new JSONObject();
+            json.put("file", fileName);
+            json.put("partition", partition);
+            json.put("start_time", startTime);
+            json.put("end_time", endTime);
+            json.put("record_count", recordCount);
+            json.put("size", size);
+            return json;
+        }
+
+        @Override
+        public String toString() {
+            return toJson().toString();
+        }
+    }
+}
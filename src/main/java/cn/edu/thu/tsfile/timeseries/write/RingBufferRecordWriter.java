@@ -0,0 +1,572 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.write.desc.MeasurementDescriptor;
+import cn.edu.thu.tsfile.timeseries.write.record.DataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.TSTablet;
+import cn.edu.thu.tsfile.timeseries.write.schema.FileSchema;
+
+/**
+ * RingBufferRecordWriter lets many threads write into one TsFile concurrently. Rows are handed
+ * over through a pre-allocated ring buffer: a producer claims one or more slots, copies primitive
+ * values into them and publishes them. A single consumer thread takes all published slots in
+ * sequence order in batches, groups them by delta object into {@linkplain TSTablet TSTablet}s and
+ * writes them into the TsFile, so the cost of writing is paid per batch instead of per row.<br>
+ * Claiming is a compare-and-set on the claimed sequence, and publishing marks each slot with its
+ * round in the ring, so neither producers nor the consumer take a lock. Once {@code close()} has
+ * started, claiming fails instead of handing out slots which would never be consumed. How a thread waits for free slots or published
+ * rows is decided by {@linkplain WaitStrategy WaitStrategy}.<br>
+ * Rows of a delta object are written in the order of their sequences. If producers write the same
+ * delta object with interleaved time, set {@code outOfOrderWindow} to reorder them.<br>
+ * Usage:
+ *
+ * <pre>
+ * long seq = writer.claim(n);
+ * for (int i = 0; i &lt; n; i++) {
+ *     writer.setRow(seq + i, deltaObjectId, time[i]);
+ *     writer.setLong(seq + i, measurementIndex, value[i]);
+ * }
+ * writer.publish(seq, n);
+ * </pre>
+ *
+ * Every claimed slot must be published. {@code close()} should be called after all producers
+ * finish, and the TsFile is closed by its owner afterwards.
+ *
+ * @author kangrong
+ *
+ */
+public class RingBufferRecordWriter {
+    private static final Logger LOG = LoggerFactory.getLogger(RingBufferRecordWriter.class);
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 200;
+    private static final long SLEEP_NANOS = 100 * 1000;
+
+    /**
+     * how producers wait for free slots and the consumer waits for published rows
+     */
+    public enum WaitStrategy {
+        /**
+         * keep spinning, lowest latency but occupies a core per waiting thread
+         */
+        BUSY_SPIN,
+        /**
+         * spin for a while, then yield the core
+         */
+        YIELDING,
+        /**
+         * spin, yield, then sleep for 0.1ms
+         */
+        SLEEPING,
+        /**
+         * wait on a monitor until notified by publishing or consuming
+         */
+        BLOCKING
+    }
+
+    private final TsFile tsFile;
+    private final int capacity;
+    private final int mask;
+    private final int shift;
+    private final int maxBatchSize;
+    private final WaitStrategy waitStrategy;
+
+    private final String[] measurementIds;
+    private final TSDataType[] types;
+    private final Map<String, Integer> measurementIndexes = new HashMap<>();
+
+    /**
+     * slots, stored as one array per field
+     */
+    private final String[] deltaObjectIds;
+    private final long[] times;
+    private final Object[] columns;
+    /**
+     * whether slot i has a value of measurement m, at {@code i * measurementIds.length + m}
+     */
+    private final boolean[] present;
+    /**
+     * round of the sequence last published in each slot
+     */
+    private final AtomicIntegerArray available;
+
+    /**
+     * the next sequence to claim, or its bitwise complement after closing has started, so that no
+     * slot is claimed once the consumer may have stopped
+     */
+    private final AtomicLong claimed = new AtomicLong();
+    /**
+     * sequences less than it have been consumed, and their slots can be reused
+     */
+    private volatile long consumed;
+    private final Object signal = new Object();
+    private final AtomicInteger waiterNum = new AtomicInteger();
+
+    private final Thread consumer;
+    private volatile boolean isClosing;
+    private volatile Throwable failure;
+    /**
+     * buffers of delta objects in current batch, and the order they appear in it
+     */
+    private final Map<String, TabletBuffer> tabletBuffers = new HashMap<>();
+    private final List<TabletBuffer> batchBuffers = new ArrayList<>();
+    /**
+     * buffers released by previous batch for reuse, at most as many as it used
+     */
+    private final List<TabletBuffer> freeBuffers = new ArrayList<>();
+
+    /**
+     * @param tsFile - TsFile in status WRITE, which is only written by the consumer thread
+     * @param schema - schema of the TsFile
+     * @param bufferSize - number of slots, it's rounded up to a power of 2
+     * @param waitStrategy - how to wait
+     */
+    public RingBufferRecordWriter(TsFile tsFile, FileSchema schema, int bufferSize,
+            WaitStrategy waitStrategy) {
+        this.tsFile = tsFile;
+        this.waitStrategy = waitStrategy;
+        this.capacity = Integer.highestOneBit(Math.max(bufferSize - 1, 1)) << 1;
+        this.mask = capacity - 1;
+        this.shift = Integer.numberOfTrailingZeros(capacity);
+        this.maxBatchSize = capacity;
+        Collection<MeasurementDescriptor> descriptors = schema.getDescriptor();
+        this.measurementIds = new String[descriptors.size()];
+        this.types = new TSDataType[descriptors.size()];
+        this.columns = new Object[descriptors.size()];
+        int m = 0;
+        for (MeasurementDescriptor desc : descriptors) {
+            measurementIds[m] = desc.getMeasurementId();
+            types[m] = desc.getType();
+            columns[m] = newColumn(types[m], capacity);
+            measurementIndexes.put(measurementIds[m], m);
+            m++;
+        }
+        this.deltaObjectIds = new String[capacity];
+        this.times = new long[capacity];
+        this.present = new boolean[capacity * measurementIds.length];
+        this.available = new AtomicIntegerArray(capacity);
+        for (int i = 0; i < capacity; i++)
+            available.set(i, -1);
+        this.consumer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                consume();
+            }
+        }, "tsfile-ring-buffer-consumer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    private static Object newColumn(TSDataType type, int size) {
+        switch (type) {
+            case INT32:
+            case ENUMS:
+                return new int[size];
+            case INT64:
+                return new long[size];
+            case BOOLEAN:
+                return new boolean[size];
+            case FLOAT:
+                return new float[size];
+            case DOUBLE:
+                return new double[size];
+            case BYTE_ARRAY:
+                return new Binary[size];
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param measurementId - measurement id in schema
+     * @return - index of the measurement used by setters, or -1 if not found
+     */
+    public int getMeasurementIndex(String measurementId) {
+        Integer index = measurementIndexes.get(measurementId);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * claim {@code n} consecutive slots, waiting if the buffer is full.
+     *
+     * @param n - number of slots, not more than buffer size
+     * @return - sequence of the first slot
+     * @throws IOException - if the writer is closed or has failed
+     */
+    public long claim(int n) throws IOException {
+        if (n <= 0 || n > capacity)
+            throw new IllegalArgumentException("claim " + n + " slots from buffer of " + capacity);
+        long sequence;
+        do {
+            checkState();
+            sequence = claimed.get();
+            if (sequence < 0)
+                throw new IOException("ring buffer writer is closed");
+        } while (!claimed.compareAndSet(sequence, sequence + n));
+        long wrapPoint = sequence + n - capacity;
+        int counter = 0;
+        while (wrapPoint > consumed) {
+            if (!consumer.isAlive())
+                throw new IOException("ring buffer consumer has stopped");
+            counter = idle(counter);
+        }
+        return sequence;
+    }
+
+    /**
+     * publish slots claimed by {@code claim(n)}, after which they must not be modified.
+     *
+     * @param sequence - sequence returned by {@code claim}
+     * @param n - number of claimed slots
+     */
+    public void publish(long sequence, int n) {
+        for (long s = sequence; s < sequence + n; s++)
+            available.lazySet((int) s & mask, (int) (s >>> shift));
+        signalWaiters();
+    }
+
+    public void setRow(long sequence, String deltaObjectId, long time) {
+        int slot = (int) sequence & mask;
+        deltaObjectIds[slot] = deltaObjectId;
+        times[slot] = time;
+    }
+
+    public void setInt(long sequence, int measurementIndex, int value) {
+        int slot = (int) sequence & mask;
+        ((int[]) columns[measurementIndex])[slot] = value;
+        present[slot * measurementIds.length + measurementIndex] = true;
+    }
+
+    public void setLong(long sequence, int measurementIndex, long value) {
+        int slot = (int) sequence & mask;
+        ((long[]) columns[measurementIndex])[slot] = value;
+        present[slot * measurementIds.length + measurementIndex] = true;
+    }
+
+    public void setBoolean(long sequence, int measurementIndex, boolean value) {
+        int slot = (int) sequence & mask;
+        ((boolean[]) columns[measurementIndex])[slot] = value;
+        present[slot * measurementIds.length + measurementIndex] = true;
+    }
+
+    public void setFloat(long sequence, int measurementIndex, float value) {
+        int slot = (int) sequence & mask;
+        ((float[]) columns[measurementIndex])[slot] = value;
+        present[slot * measurementIds.length + measurementIndex] = true;
+    }
+
+    public void setDouble(long sequence, int measurementIndex, double value) {
+        int slot = (int) sequence & mask;
+        ((double[]) columns[measurementIndex])[slot] = value;
+        present[slot * measurementIds.length + measurementIndex] = true;
+    }
+
+    public void setBinary(long sequence, int measurementIndex, Binary value) {
+        int slot = (int) sequence & mask;
+        ((Binary[]) columns[measurementIndex])[slot] = value;
+        present[slot * measurementIds.length + measurementIndex] = true;
+    }
+
+    /**
+     * write a record by claiming one slot. It's convenient but boxes values, use claim and
+     * setters for primitive values instead in hot path.
+     *
+     * @param record - record to write
+     * @throws IOException - if the writer is closed or has failed
+     */
+    public void write(TSRecord record) throws IOException {
+        long sequence = claim(1);
+        try {
+            setRow(sequence, record.deltaObjectId, record.time);
+            for (DataPoint point : record.dataPointList) {
+                int index = getMeasurementIndex(point.getMeasurementId());
+                if (index < 0) {
+                    LOG.warn("measurementId:{},type not found, pass", point.getMeasurementId());
+                    continue;
+                }
+                Object value = point.getValue();
+                switch (types[index]) {
+                    case INT32:
+                    case ENUMS:
+                        setInt(sequence, index, (Integer) value);
+                        break;
+                    case INT64:
+                        setLong(sequence, index, (Long) value);
+                        break;
+                    case BOOLEAN:
+                        setBoolean(sequence, index, (Boolean) value);
+                        break;
+                    case FLOAT:
+                        setFloat(sequence, index, (Float) value);
+                        break;
+                    case DOUBLE:
+                        setDouble(sequence, index, (Double) value);
+                        break;
+                    case BYTE_ARRAY:
+                        setBinary(sequence, index, (Binary) value);
+                        break;
+                    default:
+                        LOG.warn("unsupported data type:{}", types[index]);
+                }
+            }
+        } finally {
+            publish(sequence, 1);
+        }
+    }
+
+    /**
+     * wait until all published rows are written and stop the consumer thread. Producers must
+     * have finished before calling it.
+     *
+     * @throws IOException - if writing failed or waiting is interrupted
+     */
+    public void close() throws IOException {
+        long sequence;
+        do {
+            sequence = claimed.get();
+        } while (sequence >= 0 && !claimed.compareAndSet(sequence, ~sequence));
+        isClosing = true;
+        signalWaiters();
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while closing ring buffer", e);
+        }
+        if (failure != null)
+            throw new IOException("meet error in writing rows", failure);
+    }
+
+    private void checkState() throws IOException {
+        if (isClosing)
+            throw new IOException("ring buffer writer is closed");
+        if (failure != null)
+            throw new IOException("meet error in writing rows", failure);
+    }
+
+    private void consume() {
+        long next = 0;
+        int counter = 0;
+        while (true) {
+            long end = next;
+            while (end < next + maxBatchSize
+                    && available.get((int) end & mask) == (int) (end >>> shift))
+                end++;
+            if (end == next) {
+                // claimed has been complemented before isClosing is set
+                if (isClosing && next == ~claimed.get())
+                    break;
+                counter = idle(counter);
+                continue;
+            }
+            counter = 0;
+            if (failure == null) {
+                try {
+                    writeBatch(next, end);
+                } catch (Throwable e) {
+                    // keep consuming so that producers are not blocked
+                    LOG.error("meet error in writing rows, following rows are discarded", e);
+                    failure = e;
+                }
+            }
+            clearSlots(next, end);
+            consumed = end;
+            next = end;
+            signalWaiters();
+        }
+    }
+
+    /**
+     * write rows in [from, to) as one tablet per delta object. Only buffers of delta objects in
+     * this batch are touched, and they are released after the batch, so the cost doesn't grow
+     * with the number of delta objects ever written.
+     */
+    private void writeBatch(long from, long to) throws Exception {
+        try {
+            for (long s = from; s < to; s++) {
+                int slot = (int) s & mask;
+                TabletBuffer buffer = tabletBuffers.get(deltaObjectIds[slot]);
+                if (buffer == null) {
+                    buffer = freeBuffers.isEmpty() ? new TabletBuffer()
+                            : freeBuffers.remove(freeBuffers.size() - 1);
+                    buffer.deltaObjectId = deltaObjectIds[slot];
+                    tabletBuffers.put(deltaObjectIds[slot], buffer);
+                    batchBuffers.add(buffer);
+                }
+                buffer.add(slot);
+            }
+            for (TabletBuffer buffer : batchBuffers)
+                buffer.flush();
+        } finally {
+            releaseBuffers();
+        }
+    }
+
+    /**
+     * clear buffers of current batch and keep at most as many free buffers as it used, so that
+     * buffers for a burst of delta objects are dropped once it's over
+     */
+    private void releaseBuffers() {
+        for (TabletBuffer buffer : batchBuffers)
+            buffer.clear();
+        freeBuffers.addAll(batchBuffers);
+        int keep = batchBuffers.size();
+        while (freeBuffers.size() > keep)
+            freeBuffers.remove(freeBuffers.size() - 1);
+        batchBuffers.clear();
+        tabletBuffers.clear();
+    }
+
+    private void clearSlots(long from, long to) {
+        int m = measurementIds.length;
+        for (long s = from; s < to; s++) {
+            int slot = (int) s & mask;
+            deltaObjectIds[slot] = null;
+            Arrays.fill(present, slot * m, slot * m + m, false);
+            for (int i = 0; i < m; i++) {
+                if (columns[i] instanceof Binary[])
+                    ((Binary[]) columns[i])[slot] = null;
+            }
+        }
+    }
+
+    private int idle(int counter) {
+        switch (waitStrategy) {
+            case BUSY_SPIN:
+                break;
+            case YIELDING:
+                if (counter >= SPIN_TRIES)
+                    Thread.yield();
+                break;
+            case SLEEPING:
+                if (counter >= YIELD_TRIES)
+                    LockSupport.parkNanos(SLEEP_NANOS);
+                else if (counter >= SPIN_TRIES)
+                    Thread.yield();
+                break;
+            case BLOCKING:
+                waiterNum.incrementAndGet();
+                try {
+                    synchronized (signal) {
+                        // wait with timeout in case the signal is sent before waiting
+                        signal.wait(1);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    waiterNum.decrementAndGet();
+                }
+                break;
+        }
+        return counter + 1;
+    }
+
+    private void signalWaiters() {
+        if (waitStrategy == WaitStrategy.BLOCKING && waiterNum.get() > 0) {
+            synchronized (signal) {
+                signal.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * rows of one delta object in a batch, whose arrays are reused by following batches for any
+     * delta object
+     */
+    private class TabletBuffer {
+        private String deltaObjectId;
+        private long[] rowTimes = new long[16];
+        private final Object[] rowColumns = new Object[measurementIds.length];
+        private final BitSet[] nulls = new BitSet[measurementIds.length];
+        private final boolean[] hasValue = new boolean[measurementIds.length];
+        private int rowCount;
+
+        TabletBuffer() {
+            for (int m = 0; m < measurementIds.length; m++) {
+                rowColumns[m] = newColumn(types[m], rowTimes.length);
+                nulls[m] = new BitSet();
+            }
+        }
+
+        void add(int slot) {
+            if (rowCount == rowTimes.length)
+                grow();
+            rowTimes[rowCount] = times[slot];
+            int base = slot * measurementIds.length;
+            for (int m = 0; m < measurementIds.length; m++) {
+                if (!present[base + m]) {
+                    nulls[m].set(rowCount);
+                    continue;
+                }
+                hasValue[m] = true;
+                System.arraycopy(columns[m], slot, rowColumns[m], rowCount, 1);
+            }
+            rowCount++;
+        }
+
+        void flush() throws Exception {
+            int columnCount = 0;
+            for (boolean has : hasValue) {
+                if (has)
+                    columnCount++;
+            }
+            if (columnCount > 0) {
+                String[] ids = new String[columnCount];
+                Object[] values = new Object[columnCount];
+                BitSet[] bitMaps = new BitSet[columnCount];
+                int c = 0;
+                for (int m = 0; m < measurementIds.length; m++) {
+                    if (!hasValue[m])
+                        continue;
+                    ids[c] = measurementIds[m];
+                    values[c] = rowColumns[m];
+                    bitMaps[c] = nulls[m].isEmpty() ? null : nulls[m];
+                    c++;
+                }
+                TSTablet tablet = new TSTablet(deltaObjectId, ids, rowTimes, values, rowCount);
+                tablet.bitMaps = bitMaps;
+                tsFile.writeTablet(tablet);
+            }
+        }
+
+        void clear() {
+            for (int m = 0; m < measurementIds.length; m++) {
+                hasValue[m] = false;
+                nulls[m].clear();
+                if (rowColumns[m] instanceof Binary[])
+                    Arrays.fill((Binary[]) rowColumns[m], 0, rowCount, null);
+            }
+            deltaObjectId = null;
+            rowCount = 0;
+        }
+
+        private void grow() {
+            int size = rowTimes.length * 2;
+            rowTimes = Arrays.copyOf(rowTimes, size);
+            for (int m = 0; m < measurementIds.length; m++) {
+                Object column = newColumn(types[m], size);
+                if (column != null)
+                    System.arraycopy(rowColumns[m], 0, column, 0, rowCount);
+                rowColumns[m] = column;
+            }
+        }
+    }
+}
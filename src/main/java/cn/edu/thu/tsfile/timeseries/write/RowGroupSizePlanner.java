@@ -0,0 +1,83 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+/**
+ * RowGroupSizePlanner predicts the size a row group will occupy in file from the memory size
+ * estimated by series writers. The estimation is an upper bound, so flushing when it reaches the
+ * row group size leaves a gap which has to be filled. The planner learns the ratio of actual size
+ * to estimated size from flushed row groups, and {@linkplain InternalRecordWriter
+ * InternalRecordWriter} flushes when the predicted size reaches the threshold, so that row groups
+ * land near their boundaries with little filling.<br>
+ * The ratio is only used to fill the gap in file. Memory size is never allowed beyond the
+ * configured row group size, however small the ratio is.
+ *
+ * @author kangrong
+ *
+ */
+public class RowGroupSizePlanner {
+    private final long sizeThreshold;
+    /**
+     * upper bound of estimated memory size of a row group
+     */
+    private final long memSizeLimit;
+    /**
+     * actual size / estimated memory size of last flushed row group. It's updated by the flushing
+     * thread in async flush mode.
+     */
+    private volatile double ratio = 1.0;
+
+    /**
+     * @param sizeThreshold - size of a row group in file to flush at
+     * @param memSizeLimit - max memory size of a row group, i.e. the configured row group size
+     */
+    public RowGroupSizePlanner(long sizeThreshold, long memSizeLimit) {
+        this.sizeThreshold = sizeThreshold;
+        this.memSizeLimit = Math.max(sizeThreshold, memSizeLimit);
+    }
+
+    /**
+     * @param memSize - estimated memory size of current row group
+     * @return - whether the predicted size of current row group exceeds the threshold, or its
+     *         memory size exceeds the limit
+     */
+    public boolean isFull(long memSize) {
+        return memSize > getMemSizeThreshold();
+    }
+
+    /**
+     * @return - the memory size at which predicted size reaches the threshold, capped by the
+     *         memory size limit
+     */
+    public long getMemSizeThreshold() {
+        return (long) Math.min(sizeThreshold / ratio, memSizeLimit);
+    }
+
+    public long predictSize(long memSize) {
+        return (long) (memSize * ratio);
+    }
+
+    /**
+     * @param memSize - estimated memory size of current row group
+     * @return - the memory size can be added before current row group is full
+     */
+    public long memSizeToFull(long memSize) {
+        return getMemSizeThreshold() - memSize;
+    }
+
+    /**
+     * learn from a flushed row group. A larger ratio is taken at once to avoid exceeding the row
+     * group size, while a smaller one is approached by half.
+     *
+     * @param memSize - estimated memory size when the row group was flushed
+     * @param actualSize - size of the row group written in file
+     */
+    public void update(long memSize, long actualSize) {
+        if (memSize <= 0 || actualSize <= 0)
+            return;
+        double observed = (double) actualSize / memSize;
+        ratio = observed > ratio ? observed : (ratio + observed) / 2;
+    }
+
+    public double getRatio() {
+        return ratio;
+    }
+}
@@ -1,5 +1,8 @@
 package cn.edu.thu.tsfile.timeseries.write.desc;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -117,11 +120,27 @@ public class MeasurementDescriptor implements Comparable<MeasurementDescriptor>
     public void setDataValues(VInTimeSeriesChunkMetaData v) {
         if (typeConverter != null)
             typeConverter.setDataValues(v);
+        if (encodingConverter != null)
+            encodingConverter.setDataValues(v);
+    }
+
+    public void setJsonMetaData(List<String> jsonMetaData) {
+        if (encodingConverter != null)
+            encodingConverter.setJsonMetaData(jsonMetaData);
+    }
+
+    /**
+     * return the encoding of time column, which is configured by <b>timeSeriesEncoder</b>
+     *
+     * @return - encoding of time column
+     */
+    public TSEncoding getTimeEncodingType() {
+        return TSEncoding.valueOf(TSFileDescriptor.getInstance().getConfig().timeSeriesEncoder);
     }
 
     public Encoder getTimeEncoder(){
         TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
-        TSEncoding timeSeriesEncoder = TSEncoding.valueOf(conf.timeSeriesEncoder);
+        TSEncoding timeSeriesEncoder = getTimeEncodingType();
         TSDataType timeType = TSDataType.valueOf(conf.defaultTimeType);
         Encoder timeEncoder =
                 TSEncodingConverter.getConverter(timeSeriesEncoder)
@@ -133,6 +152,32 @@ public class MeasurementDescriptor implements Comparable<MeasurementDescriptor>
         return encodingConverter.getEncoder(measurementId, type);
     }
 
+    /**
+     * return new encoders of all candidate encodings if the encoding is AUTO, otherwise only the
+     * value encoder.
+     *
+     * @return - candidate value encoders, the first of which is used before choosing
+     */
+    public List<Encoder> getCandidateValueEncoders() {
+        if (encodingConverter instanceof TSEncodingConverter.AUTO)
+            return ((TSEncodingConverter.AUTO) encodingConverter).getCandidateEncoders(
+                    measurementId, type);
+        return Collections.singletonList(getValueEncoder());
+    }
+
+    /**
+     * return a new PLAIN encoder for values which don't fit the chosen or specified encoding, i.e.
+     * the first candidate of AUTO, or the one used after the dictionary is full in PLAIN_DICTIONARY.
+     *
+     * @return - PLAIN value encoder
+     */
+    public Encoder getPlainValueEncoder() {
+        if (encodingConverter instanceof TSEncodingConverter.PLAIN_DICTIONARY)
+            return ((TSEncodingConverter.PLAIN_DICTIONARY) encodingConverter).getPlainEncoder(
+                    measurementId, type);
+        return getCandidateValueEncoders().get(0);
+    }
+
     public Compressor getCompressor() {
         return compressor;
     }
@@ -153,6 +198,17 @@ public class MeasurementDescriptor implements Comparable<MeasurementDescriptor>
         return ((TSDataTypeConverter.ENUMS) typeConverter).parseValue(string);
     }
 
+    /**
+     * return all values of enum datum in order of their ordinals
+     *
+     * @return - values of enum, or an empty list if it's not enum or not initialized
+     */
+    public List<String> getEnumValues() {
+        if (type != TSDataType.ENUMS || typeConverter == null)
+            return Collections.emptyList();
+        return ((TSDataTypeConverter.ENUMS) typeConverter).getEnumValues();
+    }
+
     @Override
     public int hashCode() {
         return measurementId.hashCode();
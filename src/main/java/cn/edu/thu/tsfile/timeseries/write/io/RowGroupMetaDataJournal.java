@@ -0,0 +1,223 @@
+package cn.edu.thu.tsfile.timeseries.write.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.FileChannelOutputStream.ForcePolicy;
+import cn.edu.thu.tsfile.file.metadata.RowGroupMetaData;
+import cn.edu.thu.tsfile.file.utils.ReadWriteThriftFormatUtils;
+
+/**
+ * RowGroupMetaDataJournal records metadata of flushed row groups in a file next to the TsFile, so
+ * that a TsFile whose writing is interrupted before {@code endFile()} can be recovered without
+ * scanning its data.<br>
+ * The journal starts with the file schema in JSON. Every time row groups are flushed, an entry
+ * containing the end position of data and metadata of these row groups is appended. Each record is
+ * framed by its length and CRC32, so a record torn by a crash is detected and truncated when
+ * recovering.<br>
+ * If {@code forcePolicy} is {@code ON_FLUSH}, every entry is forced to the storage device.
+ *
+ * @author kangrong
+ *
+ */
+public class RowGroupMetaDataJournal {
+    private static final Logger LOG = LoggerFactory.getLogger(RowGroupMetaDataJournal.class);
+    public static final String JOURNAL_SUFFIX = ".journal";
+    /**
+     * length and CRC32 of a record
+     */
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    private final File file;
+    private final FileChannel channel;
+    private final boolean isForce;
+
+    private RowGroupMetaDataJournal(File file, FileChannel channel) {
+        this.file = file;
+        this.channel = channel;
+        this.isForce = ForcePolicy.valueOf(
+                TSFileDescriptor.getInstance().getConfig().forcePolicy) == ForcePolicy.ON_FLUSH;
+    }
+
+    public static File getJournalFile(File tsFile) {
+        return new File(tsFile.getPath() + JOURNAL_SUFFIX);
+    }
+
+    /**
+     * create a new journal for given TsFile and write the schema into it. An existing journal is
+     * overwritten.
+     *
+     * @param tsFile - TsFile to write
+     * @param schemaJson - schema of the TsFile
+     * @return - the journal
+     * @throws IOException
+     */
+    public static RowGroupMetaDataJournal create(File tsFile, JSONObject schemaJson)
+            throws IOException {
+        File file = getJournalFile(tsFile);
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        RowGroupMetaDataJournal journal = new RowGroupMetaDataJournal(file, channel);
+        journal.writeRecord(schemaJson.toString().getBytes(StandardCharsets.UTF_8));
+        return journal;
+    }
+
+    /**
+     * append metadata of row groups which have been written
+     *
+     * @param dataEndPos - position of TsFile after these row groups
+     * @param rowGroups - metadata of these row groups
+     * @throws IOException
+     */
+    public void append(long dataEndPos, List<RowGroupMetaData> rowGroups) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        out.writeLong(dataEndPos);
+        out.writeInt(rowGroups.size());
+        for (RowGroupMetaData rowGroup : rowGroups)
+            ReadWriteThriftFormatUtils.writeRowGroupMetaData(rowGroup.convertToThrift(), out);
+        out.flush();
+        writeRecord(baos.toByteArray());
+    }
+
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * close and delete the journal. It's called after the TsFile is closed normally.
+     *
+     * @throws IOException
+     */
+    public void delete() throws IOException {
+        close();
+        if (!file.delete())
+            throw new IOException("failed to delete journal " + file);
+    }
+
+    private void writeRecord(byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length);
+        buffer.putInt(payload.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(payload);
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        if (isForce)
+            channel.force(false);
+    }
+
+    /**
+     * read the journal of given TsFile, truncate the torn record at its tail if exists, and open it
+     * for appending.
+     *
+     * @param tsFile - TsFile whose writing is interrupted
+     * @return - recovered schema, row groups and the journal for appending
+     * @throws IOException - if the journal doesn't exist or its schema is broken
+     */
+    public static Recovery recover(File tsFile) throws IOException {
+        File file = getJournalFile(tsFile);
+        if (!file.exists())
+            throw new IOException("journal of " + tsFile + " doesn't exist");
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            ByteBuffer content = ByteBuffer.allocate((int) channel.size());
+            while (content.hasRemaining() && channel.read(content) >= 0);
+            content.flip();
+            byte[] schema = readRecord(content);
+            if (schema == null)
+                throw new IOException("schema in journal " + file + " is broken");
+            JSONObject schemaJson = new JSONObject(new String(schema, StandardCharsets.UTF_8));
+            long validLength = content.position();
+            long dataEndPos = 0;
+            List<RowGroupMetaData> rowGroups = new ArrayList<>();
+            byte[] entry;
+            while ((entry = readRecord(content)) != null) {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(entry));
+                dataEndPos = in.readLong();
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    RowGroupMetaData rowGroup = new RowGroupMetaData();
+                    rowGroup.convertToTSF(ReadWriteThriftFormatUtils.readRowGroupMetaData(in));
+                    rowGroups.add(rowGroup);
+                }
+                validLength = content.position();
+            }
+            if (validLength < channel.size()) {
+                LOG.warn("truncate torn tail of journal {} from {} to {}", file, channel.size(),
+                        validLength);
+                channel.truncate(validLength);
+            }
+            channel.position(validLength);
+            return new Recovery(schemaJson, dataEndPos, rowGroups,
+                    new RowGroupMetaDataJournal(file, channel));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return - payload of next record, or null if the remaining bytes don't make a complete record
+     */
+    private static byte[] readRecord(ByteBuffer content) {
+        if (content.remaining() < RECORD_HEADER_SIZE)
+            return null;
+        int start = content.position();
+        int length = content.getInt();
+        int checksum = content.getInt();
+        if (length < 0 || length > content.remaining()) {
+            content.position(start);
+            return null;
+        }
+        byte[] payload = new byte[length];
+        content.get(payload);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        if ((int) crc.getValue() != checksum) {
+            content.position(start);
+            return null;
+        }
+        return payload;
+    }
+
+    /**
+     * result of recovering a journal
+     */
+    public static class Recovery {
+        public final JSONObject schemaJson;
+        /**
+         * position of TsFile after the last recorded row group, 0 if there is no row group
+         */
+        public final long dataEndPos;
+        public final List<RowGroupMetaData> rowGroups;
+        public final RowGroupMetaDataJournal journal;
+
+        private Recovery(JSONObject schemaJson, long dataEndPos, List<RowGroupMetaData> rowGroups,
+                RowGroupMetaDataJournal journal) {
+            this.schemaJson = schemaJson;
+            this.dataEndPos = dataEndPos;
+            this.rowGroups = rowGroups;
+            this.journal = journal;
+        }
+    }
+}
@@ -15,6 +15,8 @@ import cn.edu.thu.tsfile.file.metadata.converter.TSFileMetaDataConverter;
 import cn.edu.thu.tsfile.file.metadata.enums.CompressionTypeName;
 import cn.edu.thu.tsfile.file.metadata.enums.TSChunkType;
 import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+import cn.edu.thu.tsfile.file.metadata.enums.TSFreqType;
 import cn.edu.thu.tsfile.file.metadata.statistics.Statistics;
 import cn.edu.thu.tsfile.file.utils.ReadWriteThriftFormatUtils;
 import cn.edu.thu.tsfile.timeseries.write.desc.MeasurementDescriptor;
@@ -45,6 +47,14 @@ public class TSFileIOWriter {
     private RowGroupMetaData currentRowGroup;
     private TimeSeriesChunkMetaData currentSeries;
     protected List<RowGroupMetaData> rowGroups = new ArrayList<>();
+    /**
+     * journal recording metadata of written row groups, null if not journaled
+     */
+    private RowGroupMetaDataJournal journal;
+    /**
+     * number of row groups which have been recorded in journal
+     */
+    private int journaledRowGroupNum;
 
     static {
         magicStringBytes = BytesUtils.StringToBytes(MAGIC_STRING);
@@ -69,6 +79,31 @@ public class TSFileIOWriter {
     	this.out = output;
     	out.seek(offset);
     	this.rowGroups = rowGroups;
+    	this.journaledRowGroupNum = rowGroups.size();
+    }
+
+    /**
+     * record metadata of row groups in given journal from now on, so that this file can be
+     * recovered if it's not closed normally.
+     *
+     * @param journal - journal of this file
+     */
+    public void setJournal(RowGroupMetaDataJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * flush written data, and append metadata of row groups ended since last calling to the
+     * journal together with current position. Nothing is done if there is no journal.
+     *
+     * @throws IOException
+     */
+    public void journalRowGroups() throws IOException {
+        if (journal == null || journaledRowGroupNum == rowGroups.size())
+            return;
+        out.getOutputStream().flush();
+        journal.append(out.getPos(), rowGroups.subList(journaledRowGroupNum, rowGroups.size()));
+        journaledRowGroupNum = rowGroups.size();
     }
 
     /**
@@ -124,6 +159,9 @@ public class TSFileIOWriter {
                 new TimeSeriesChunkMetaData(descriptor.getMeasurementId(), TSChunkType.VALUE,
                         out.getPos(), compressionCodecName);
         TInTimeSeriesChunkMetaData t = new TInTimeSeriesChunkMetaData(tsDataType, minTime, maxTime);
+        // reader locates values by REGULAR encoded time column of a single frequency chunk
+        if (descriptor.getTimeEncodingType() == TSEncoding.REGULAR)
+            t.setFreqType(TSFreqType.SINGLE_FREQ);
         currentSeries.setTInTimeSeriesChunkMetaData(t);
         byte[] max = statistics.getMaxBytes();
         byte[] min = statistics.getMinBytes();
@@ -135,6 +173,7 @@ public class TSFileIOWriter {
         v.setDigest(tsDigest);
         descriptor.setDataValues(v);
         currentSeries.setVInTimeSeriesChunkMetaData(v);
+        descriptor.setJsonMetaData(currentSeries.getJsonMetaData());
     }
 
     public void endSeries(long size, long totalValueCount) throws IOException {
@@ -168,6 +207,19 @@ public class TSFileIOWriter {
         serializeTsFileMetadata(tsfileMetadata);
         out.close();
         LOG.info("output stream is closed");
+        if (journal != null)
+            journal.delete();
+    }
+
+    /**
+     * close the output stream without writing the file metadata, e.g. after a failed flush. The
+     * journal is kept for recovering the written row groups.
+     * 
+     * @throws IOException
+     */
+    public void close() throws IOException {
+        out.close();
+        LOG.info("output stream is closed without file metadata");
     }
 
     /**
@@ -191,12 +243,16 @@ public class TSFileIOWriter {
         out.write(magicStringBytes);
     }
 
-    // fill in output stream to complete row group threshold
+    /**
+     * fill in output stream to complete row group threshold. The gap is skipped by seeking forward
+     * instead of writing zeros, and the file is extended by the following writing.
+     * 
+     * @param diff - size of gap
+     * @throws IOException
+     */
     public void fillInRowGroup(long diff) throws IOException {
-        if(diff <= Integer.MAX_VALUE)
-            out.write(new byte[(int)diff]);
-        else
-            throw new IOException("write too much blank byte array!array size:"+diff);
+        if (diff > 0)
+            out.seek(out.getPos() + diff);
     }
     
     /**
@@ -3,6 +3,7 @@ package cn.edu.thu.tsfile.timeseries.write.page;
 import java.io.IOException;
 
 import cn.edu.thu.tsfile.common.utils.bytesinput.BytesInput;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
 import cn.edu.thu.tsfile.file.metadata.statistics.Statistics;
 import cn.edu.thu.tsfile.timeseries.write.exception.PageException;
 import cn.edu.thu.tsfile.timeseries.write.series.ISeriesWriter;
@@ -25,11 +26,21 @@ public interface IPageWriter {
      * @param statistics - the statistics for that page
      * @param maxTimestamp - timestamp maximum in given data
      * @param minTimestamp - timestamp minimum in given data
+     * @param encoding - the encoding of values in given data
      * @throws IOException
      * @throws PageException
      */
     void writePage(BytesInput bytesInput, int valueCount, Statistics<?> statistics,
-                   long maxTimestamp, long minTimestamp) throws PageException;
+                   long maxTimestamp, long minTimestamp, TSEncoding encoding) throws PageException;
+
+    /**
+     * store the dictionary page of current chunk, which is written in front of data pages.
+     *
+     * @param bytesInput - entries of dictionary encoded in PLAIN
+     * @param entryCount - the amount of entries in dictionary
+     * @throws PageException
+     */
+    void writeDictionaryPage(BytesInput bytesInput, int entryCount) throws PageException;
 
     /**
      * write the page to specified IOWriter
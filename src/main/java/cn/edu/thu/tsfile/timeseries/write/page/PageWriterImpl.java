@@ -9,6 +9,7 @@ import org.slf4j.LoggerFactory;
 
 import cn.edu.thu.tsfile.common.utils.bytesinput.BytesInput;
 import cn.edu.thu.tsfile.common.utils.bytesinput.BytesInput.PublicBAOS;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
 import cn.edu.thu.tsfile.file.metadata.statistics.Statistics;
 import cn.edu.thu.tsfile.file.utils.ReadWriteThriftFormatUtils;
 import cn.edu.thu.tsfile.timeseries.write.desc.MeasurementDescriptor;
@@ -26,6 +27,10 @@ public class PageWriterImpl implements IPageWriter {
     private static Logger LOG = LoggerFactory.getLogger(PageWriterImpl.class);
 
     private ListBytesInput buf;
+    /**
+     * dictionary page of current chunk, empty if the chunk isn't dictionary encoded
+     */
+    private ListBytesInput dictionaryBuf;
     private final Compressor compressor;
     private final MeasurementDescriptor desc;
 
@@ -37,15 +42,17 @@ public class PageWriterImpl implements IPageWriter {
         this.desc = desc;
         this.compressor = desc.getCompressor();
         this.buf = new ListBytesInput();
+        this.dictionaryBuf = new ListBytesInput();
     }
 
     @Override
     public void writePage(BytesInput bytesInput, int valueCount, Statistics<?> statistics,
-            long maxTimestamp, long minTimestamp) throws PageException {
+            long maxTimestamp, long minTimestamp, TSEncoding encoding) throws PageException {
         // compress the input data
-        if (this.minTimestamp == -1)
+        if (this.minTimestamp == -1 || minTimestamp < this.minTimestamp)
             this.minTimestamp = minTimestamp;
-        this.maxTimestamp = maxTimestamp;
+        if (totalValueCount == 0 || maxTimestamp > this.maxTimestamp)
+            this.maxTimestamp = maxTimestamp;
         long uncompressedSize = bytesInput.size();
         if (uncompressedSize > Integer.MAX_VALUE) {
             resetTimeStamp();
@@ -62,7 +69,7 @@ public class PageWriterImpl implements IPageWriter {
         try {
             ReadWriteThriftFormatUtils.writeDataPageHeader((int) uncompressedSize,
                     (int) compressedSize, valueCount, statistics, valueCount,
-                    desc.getEncodingType(), tempOutputStream, maxTimestamp, minTimestamp);
+                    encoding, tempOutputStream, maxTimestamp, minTimestamp);
         } catch (IOException e) {
             resetTimeStamp();
             throw new PageException(
@@ -89,6 +96,33 @@ public class PageWriterImpl implements IPageWriter {
                 valueCount, statistics, estimateMaxPageMemSize());
     }
 
+    @Override
+    public void writeDictionaryPage(BytesInput bytesInput, int entryCount) throws PageException {
+        long uncompressedSize = bytesInput.size();
+        BytesInput compressedBytes = compressor.compress(bytesInput);
+        long compressedSize = compressedBytes.size();
+        if (compressedSize > Integer.MAX_VALUE) {
+            throw new PageException("write too much bytes: " + compressedSize);
+        }
+        PublicBAOS tempOutputStream = new PublicBAOS();
+        try {
+            ReadWriteThriftFormatUtils.writeDictionaryPageHeader((int) uncompressedSize,
+                    (int) compressedSize, entryCount, TSEncoding.PLAIN, tempOutputStream);
+            dictionaryBuf.clear();
+            dictionaryBuf.appendPublicBAOS(tempOutputStream);
+            if (compressedBytes instanceof ListBytesInput)
+                dictionaryBuf.appendListBytesInput((ListBytesInput) compressedBytes);
+            else
+                dictionaryBuf.appendBytesInput(compressedBytes);
+        } catch (IOException e) {
+            dictionaryBuf.clear();
+            throw new PageException("meet IO Exception in writing dictionary page, error message:"
+                    + e.getMessage());
+        }
+        LOG.debug("page {}:write dictionary page, entryCount:{}, size:{}", desc, entryCount,
+                dictionaryBuf.size());
+    }
+
     private void resetTimeStamp() {
         if(totalValueCount == 0)
             minTimestamp = -1;
@@ -100,6 +134,7 @@ public class PageWriterImpl implements IPageWriter {
         writer.startSeries(desc, compressor.getCodecName(), desc.getType(), statistics,
                 maxTimestamp, minTimestamp);
         long totalByteSize = writer.getPos();
+        writer.writeBytesToStream(dictionaryBuf);
         writer.writeBytesToStream(buf);
         LOG.debug("write series to file finished:{}", desc);
         long size = writer.getPos() - totalByteSize;
@@ -114,6 +149,7 @@ public class PageWriterImpl implements IPageWriter {
     public void reset() {
         minTimestamp = -1;
         buf.clear();
+        dictionaryBuf.clear();
         totalValueCount = 0;
     }
 
@@ -121,7 +157,7 @@ public class PageWriterImpl implements IPageWriter {
     public long estimateMaxPageMemSize() {
         // return size of buffer + page max size;
         int digestSize = (totalValueCount==0) ? 0 : desc.getTypeLength() * 2;
-        return buf.size()
+        return buf.size() + dictionaryBuf.size()
                 + TSFileIOWriter.metadataConverter.caculatePageHeaderSize(digestSize);
     }
 }
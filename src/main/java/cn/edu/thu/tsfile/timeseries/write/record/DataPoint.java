@@ -5,6 +5,7 @@ import java.math.BigDecimal;
 
 import cn.edu.thu.tsfile.common.utils.Binary;
 import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
 import cn.edu.thu.tsfile.timeseries.write.series.ISeriesWriter;
 import cn.edu.thu.tsfile.timeseries.utils.StringContainer;
 import cn.edu.thu.tsfile.timeseries.write.record.datapoint.BigDecimalDataPoint;
@@ -83,7 +84,8 @@ public abstract class DataPoint {
 	 * @param writer
 	 * @return
 	 */
-	public abstract void write(long time, ISeriesWriter writer) throws IOException;
+	public abstract void write(long time, ISeriesWriter writer)
+			throws IOException, WriteProcessException;
 
 	public String getMeasurementId() {
 		return measurementId;
@@ -0,0 +1,76 @@
+package cn.edu.thu.tsfile.timeseries.write.record;
+
+import java.util.BitSet;
+
+import cn.edu.thu.tsfile.timeseries.utils.StringContainer;
+
+/**
+ * TSTablet is a column-oriented batch of rows belonging to one delta object. Compared with
+ * {@linkplain TSRecord TSRecord}, it holds one primitive array per measurement instead of one
+ * {@linkplain DataPoint DataPoint} per value, so that a batch can be written into series writers
+ * without allocating any object per point.<br>
+ * The i-th element of {@code values} responds to the i-th measurement in {@code measurementIds}
+ * and must be one of {@code int[]}(INT32, ENUMS), {@code long[]}(INT64), {@code boolean[]}
+ * (BOOLEAN), {@code float[]}(FLOAT), {@code double[]}(DOUBLE) or {@code Binary[]}(BYTE_ARRAY).
+ * A value marked in {@code bitMaps} is treated as null and skipped.
+ *
+ * @see TSRecord TSRecord
+ * @author kangrong
+ *
+ */
+public class TSTablet {
+    public String deltaObjectId;
+    public String[] measurementIds;
+    public long[] timestamps;
+    public Object[] values;
+    /**
+     * {@code bitMaps[i]} marks null rows of the i-th column, it may be null if the column has no
+     * null value.
+     */
+    public BitSet[] bitMaps;
+    /**
+     * the number of valid rows in this tablet, which may be less than {@code timestamps.length}
+     */
+    public int rowCount;
+
+    public TSTablet(String deltaObjectId, String[] measurementIds, long[] timestamps,
+            Object[] values, int rowCount) {
+        this.deltaObjectId = deltaObjectId;
+        this.measurementIds = measurementIds;
+        this.timestamps = timestamps;
+        this.values = values;
+        this.bitMaps = new BitSet[measurementIds.length];
+        this.rowCount = rowCount;
+    }
+
+    public TSTablet(String deltaObjectId, String[] measurementIds, long[] timestamps,
+            Object[] values) {
+        this(deltaObjectId, measurementIds, timestamps, values, timestamps.length);
+    }
+
+    /**
+     * mark the value in given column and row as null.
+     *
+     * @param column - index of column in {@code measurementIds}
+     * @param row - index of row
+     */
+    public void markNull(int column, int row) {
+        if (bitMaps[column] == null)
+            bitMaps[column] = new BitSet(rowCount);
+        bitMaps[column].set(row);
+    }
+
+    public boolean isNull(int column, int row) {
+        return bitMaps[column] != null && bitMaps[column].get(row);
+    }
+
+    public String toString() {
+        StringContainer sc = new StringContainer(" ");
+        sc.addTail("{delta object id:", deltaObjectId, "row count:", rowCount, ",measurements:[");
+        for (String measurementId : measurementIds) {
+            sc.addTail(measurementId);
+        }
+        sc.addTail("]}");
+        return sc.toString();
+    }
+}
@@ -3,6 +3,7 @@ package cn.edu.thu.tsfile.timeseries.write.record.datapoint;
 import java.io.IOException;
 
 import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
 import cn.edu.thu.tsfile.timeseries.write.series.ISeriesWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,7 +27,8 @@ public class DoubleDataPoint extends DataPoint {
     }
 
     @Override
-    public void write(long time, ISeriesWriter writer) throws IOException {
+    public void write(long time, ISeriesWriter writer)
+            throws IOException, WriteProcessException {
         if (writer == null) {
             LOG.warn("given ISeriesWriter is null, do nothing and return");
             return;
@@ -7,6 +7,7 @@ import cn.edu.thu.tsfile.timeseries.write.record.DataPoint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
 import cn.edu.thu.tsfile.timeseries.write.series.ISeriesWriter;
 
 /**
@@ -26,7 +27,8 @@ public class FloatDataPoint extends DataPoint {
     }
 
     @Override
-    public void write(long time, ISeriesWriter writer) throws IOException {
+    public void write(long time, ISeriesWriter writer)
+            throws IOException, WriteProcessException {
         if (writer == null) {
             LOG.warn("given ISeriesWriter is null, do nothing and return");
             return;
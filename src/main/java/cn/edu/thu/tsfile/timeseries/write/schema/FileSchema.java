@@ -164,15 +164,15 @@ public class FileSchema {
      */
     public void resetUnusedDeltaObjectId(Map<String, IRowGroupWriter> groupWriters) {
         int size = groupWriters.size();
-        if (size < tempKeyArray.length)
+        if (size > tempKeyArray.length)
             tempKeyArray = new String[size];
         int i = 0;
         for (String id : groupWriters.keySet()) {
             tempKeyArray[i++] = id;
         }
-        for (String existDeltaObjectId : tempKeyArray) {
-            if (!appearDeltaObjectIdSet.contains(existDeltaObjectId)) {
-                groupWriters.remove(existDeltaObjectId);
+        for (int j = 0; j < size; j++) {
+            if (!appearDeltaObjectIdSet.contains(tempKeyArray[j])) {
+                groupWriters.remove(tempKeyArray[j]);
             }
         }
         appearDeltaObjectIdSet.clear();
@@ -1,5 +1,6 @@
 package cn.edu.thu.tsfile.timeseries.write.schema.converter;
 
+import java.util.Collections;
 import java.util.List;
 
 import cn.edu.thu.tsfile.common.constant.JsonFormatConstant;
@@ -48,6 +49,15 @@ public abstract class TSDataTypeConverter {
             return tsfileEnum.enumOrdinal(v);
         }
 
+        /**
+         * @return - all enum string values, or an empty list if it's not initialized
+         */
+        public List<String> getEnumValues() {
+            if (tsfileEnum == null)
+                return Collections.emptyList();
+            return tsfileEnum.getEnumDataValues();
+        }
+
         @Override
         public void initFromJsonObject(JSONObject seriesObject) {
             if (!seriesObject.has(JsonFormatConstant.ENUM_VALUES)) {
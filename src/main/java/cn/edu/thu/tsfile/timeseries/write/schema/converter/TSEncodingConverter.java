@@ -1,5 +1,8 @@
 package cn.edu.thu.tsfile.timeseries.write.schema.converter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,13 +13,23 @@ import cn.edu.thu.tsfile.common.constant.JsonFormatConstant;
 import cn.edu.thu.tsfile.common.exception.UnSupportedDataTypeException;
 import cn.edu.thu.tsfile.common.exception.metadata.MetadataArgsErrorException;
 import cn.edu.thu.tsfile.encoding.common.EndianType;
+import cn.edu.thu.tsfile.encoding.encoder.AlpEncoder;
 import cn.edu.thu.tsfile.encoding.encoder.BitmapEncoder;
 import cn.edu.thu.tsfile.encoding.encoder.DeltaBinaryEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.DictionaryEncoder;
 import cn.edu.thu.tsfile.encoding.encoder.Encoder;
 import cn.edu.thu.tsfile.encoding.encoder.FloatEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.GorillaEncoder;
 import cn.edu.thu.tsfile.encoding.encoder.IntRleEncoder;
 import cn.edu.thu.tsfile.encoding.encoder.LongRleEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.PforEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.PiecewiseLinearEncoder;
 import cn.edu.thu.tsfile.encoding.encoder.PlainEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.RegularTimeEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.RoaringBitmapEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.SwingingDoorEncoder;
+import cn.edu.thu.tsfile.file.metadata.TimeSeriesChunkMetaData;
+import cn.edu.thu.tsfile.file.metadata.VInTimeSeriesChunkMetaData;
 import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
 import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
 
@@ -57,12 +70,37 @@ public abstract class TSEncodingConverter {
         }
     }
 
+    /**
+     * PLAIN_DICTIONARY encodes BYTE_ARRAY values with a dictionary of each chunk. It's initialized
+     * as PLAIN, since values are encoded in PLAIN once the dictionary is full.
+     */
+    public static class PLAIN_DICTIONARY extends PLAIN {
+        @Override
+        public Encoder getEncoder(String measurementId, TSDataType type) {
+            switch (type) {
+                case BYTE_ARRAY:
+                    return new DictionaryEncoder(conf.maxDictionarySize);
+                default:
+                    throw new UnSupportedDataTypeException(
+                            "PLAIN_DICTIONARY doesn't support data type: " + type);
+            }
+        }
+
+        /**
+         * return PLAIN encoder, which is used when the dictionary is full.
+         */
+        public Encoder getPlainEncoder(String measurementId, TSDataType type) {
+            return super.getEncoder(measurementId, type);
+        }
+    }
+
     public static class RLE extends TSEncodingConverter {
         private int maxPointNumber = 0;
 
         @Override
         public Encoder getEncoder(String measurementId, TSDataType type) {
             switch (type) {
+                case BOOLEAN:
                 case ENUMS:
                 case INT32:
                     return new IntRleEncoder(EndianType.LITTLE_ENDIAN);
@@ -196,6 +234,275 @@ public abstract class TSEncodingConverter {
         }
     }
 
+    public static class GORILLA extends TSEncodingConverter {
+        @Override
+        public Encoder getEncoder(String measurementId, TSDataType type) {
+            switch (type) {
+                case FLOAT:
+                case DOUBLE:
+                    return new GorillaEncoder(type);
+                default:
+                    throw new UnSupportedDataTypeException("GORILLA doesn't support data type: "+ type);
+            }
+        }
+    }
+
+    /**
+     * REGULAR is intended for the time column, see <b>timeSeriesEncoder</b> in the
+     * configuration, while it can encode INT64 values as well.
+     */
+    public static class REGULAR extends TSEncodingConverter {
+        @Override
+        public Encoder getEncoder(String measurementId, TSDataType type) {
+            if (type == TSDataType.INT64) {
+                return new RegularTimeEncoder();
+            }
+            throw new UnSupportedDataTypeException("REGULAR doesn't support data type: "+ type);
+        }
+    }
+
+    /**
+     * ROARING_BITMAP supports ENUMS only, and takes no more space than BITMAP for any number of
+     * distinct values.
+     */
+    public static class ROARING_BITMAP extends TSEncodingConverter {
+        @Override
+        public Encoder getEncoder(String measurementId, TSDataType type) {
+            if (type == TSDataType.ENUMS) {
+                return new RoaringBitmapEncoder();
+            }
+            throw new UnSupportedDataTypeException("ROARING_BITMAP doesn't support data type: "+ type);
+        }
+    }
+
+    /**
+     * PFOR supports INT32 and INT64. Unlike TS_2DIFF, a few large deltas don't widen all deltas
+     * of a block.
+     */
+    public static class PFOR extends TSEncodingConverter {
+        @Override
+        public Encoder getEncoder(String measurementId, TSDataType type) {
+            switch (type) {
+                case INT32:
+                    return new PforEncoder.IntPforEncoder();
+                case INT64:
+                    return new PforEncoder.LongPforEncoder();
+                default:
+                    throw new UnSupportedDataTypeException("PFOR doesn't support data type: "+ type);
+            }
+        }
+    }
+
+    /**
+     * ALP supports FLOAT and DOUBLE without loss. Unlike RLE and TS_2DIFF, it needs no
+     * <b>max_point_number</b>, as decimal places are detected from the values.
+     */
+    public static class ALP extends TSEncodingConverter {
+        @Override
+        public Encoder getEncoder(String measurementId, TSDataType type) {
+            switch (type) {
+                case FLOAT:
+                case DOUBLE:
+                    return new AlpEncoder(type);
+                default:
+                    throw new UnSupportedDataTypeException("ALP doesn't support data type: "+ type);
+            }
+        }
+    }
+
+    /**
+     * SDT and PLA are lossy encodings of float and double, which could specify <b>max_error</b>
+     * in given JSON Object, i.e. the max difference between a decoded value and the original one.
+     * The exact max error is recorded in JSON metadata of each chunk as {@code {"max_error":0.05}},
+     * while {@code max_error} of VInTimeSeriesChunkMetaData, which is an integer, takes it rounded
+     * up.
+     */
+    public abstract static class LinearFit extends TSEncodingConverter {
+        protected double maxError;
+
+        /**
+         * return the default max error if it's not set in JSON Object
+         */
+        protected abstract double getDefaultMaxError();
+
+        @Override
+        public void initFromJsonObject(String measurementId, JSONObject seriesObject) {
+            // set max error from initialized map or default value if not set
+            if (!seriesObject.has(JsonFormatConstant.MAX_ERROR)) {
+                maxError = getDefaultMaxError();
+            } else {
+                maxError = seriesObject.getDouble(JsonFormatConstant.MAX_ERROR);
+                if (maxError < 0) {
+                    maxError = getDefaultMaxError();
+                    LOG.warn(
+                            "cannot set max error to negative value, replaced with default value:{}",
+                            maxError);
+                }
+            }
+        }
+
+        @Override
+        public Object checkParameter(String pmKey, String value) throws MetadataArgsErrorException {
+            if (JsonFormatConstant.MAX_ERROR.equals(pmKey)) {
+                try {
+                    return Double.valueOf(value);
+                } catch (NumberFormatException e) {
+                    throw new MetadataArgsErrorException("paramter " + pmKey
+                            + " meets error double format :" + value);
+                }
+            } else
+                throw new MetadataArgsErrorException("don't need args:{}" + pmKey);
+        }
+
+        @Override
+        public void setDataValues(VInTimeSeriesChunkMetaData v) {
+            v.setMaxError((int) Math.ceil(maxError));
+        }
+
+        @Override
+        public void setJsonMetaData(List<String> jsonMetaData) {
+            jsonMetaData.add(new JSONObject().put(JsonFormatConstant.MAX_ERROR, maxError).toString());
+        }
+
+        /**
+         * read the max error of a chunk encoded by SDT or PLA
+         *
+         * @param chunk - metadata of the chunk
+         * @return - the exact max error in JSON metadata, or the rounded one if it's absent
+         */
+        public static double getMaxError(TimeSeriesChunkMetaData chunk) {
+            if (chunk.getJsonMetaData() != null) {
+                for (String json : chunk.getJsonMetaData()) {
+                    JSONObject object = new JSONObject(json);
+                    if (object.has(JsonFormatConstant.MAX_ERROR))
+                        return object.getDouble(JsonFormatConstant.MAX_ERROR);
+                }
+            }
+            return chunk.getVInTimeSeriesChunkMetaData().getMaxError();
+        }
+
+        @Override
+        public String toString() {
+            return "maxError:" + maxError;
+        }
+    }
+
+    public static class SDT extends LinearFit {
+        @Override
+        public Encoder getEncoder(String measurementId, TSDataType type) {
+            switch (type) {
+                case FLOAT:
+                case DOUBLE:
+                    return new SwingingDoorEncoder(maxError);
+                default:
+                    throw new UnSupportedDataTypeException("SDT doesn't support data type: "+ type);
+            }
+        }
+
+        @Override
+        protected double getDefaultMaxError() {
+            return conf.defaultSDTMaxError;
+        }
+    }
+
+    public static class PLA extends LinearFit {
+        @Override
+        public Encoder getEncoder(String measurementId, TSDataType type) {
+            switch (type) {
+                case FLOAT:
+                case DOUBLE:
+                    return new PiecewiseLinearEncoder(maxError);
+                default:
+                    throw new UnSupportedDataTypeException("PLA doesn't support data type: "+ type);
+            }
+        }
+
+        @Override
+        protected double getDefaultMaxError() {
+            return conf.defaultPLAMaxError;
+        }
+    }
+
+    /**
+     * AUTO doesn't encode by itself. Series writer trial-encodes the first points of each row
+     * group with every candidate encoding applicable to the data type, and uses the one producing
+     * the smallest size. Candidates are initialized with the same JSON object, e.g.
+     * <b>max_point_number</b> is shared by RLE and TS_2DIFF of float and double.
+     */
+    public static class AUTO extends TSEncodingConverter {
+        private final PLAIN plain = new PLAIN();
+        private final RLE rle = new RLE();
+        private final TS_2DIFF ts2Diff = new TS_2DIFF();
+        private final BITMAP bitmap = new BITMAP();
+        private final GORILLA gorilla = new GORILLA();
+        private final ROARING_BITMAP roaringBitmap = new ROARING_BITMAP();
+        private final PFOR pfor = new PFOR();
+        private final ALP alp = new ALP();
+
+        /**
+         * return PLAIN encoder, which is used before the encoding is chosen.
+         */
+        @Override
+        public Encoder getEncoder(String measurementId, TSDataType type) {
+            return plain.getEncoder(measurementId, type);
+        }
+
+        /**
+         * return new encoders of all candidate encodings for given data type. Encodings which
+         * are cheaper to decode are in front, so that they are preferred in a tie.
+         *
+         * @param measurementId - given measurement id
+         * @param type - given data type
+         * @return - candidate encoders, the first of which is PLAIN
+         */
+        public List<Encoder> getCandidateEncoders(String measurementId, TSDataType type) {
+            List<Encoder> encoders = new ArrayList<>();
+            encoders.add(plain.getEncoder(measurementId, type));
+            switch (type) {
+                case INT32:
+                case INT64:
+                    encoders.add(ts2Diff.getEncoder(measurementId, type));
+                    encoders.add(rle.getEncoder(measurementId, type));
+                    encoders.add(pfor.getEncoder(measurementId, type));
+                    break;
+                case FLOAT:
+                case DOUBLE:
+                    encoders.add(ts2Diff.getEncoder(measurementId, type));
+                    encoders.add(rle.getEncoder(measurementId, type));
+                    encoders.add(gorilla.getEncoder(measurementId, type));
+                    encoders.add(alp.getEncoder(measurementId, type));
+                    break;
+                case BOOLEAN:
+                    encoders.add(rle.getEncoder(measurementId, type));
+                    break;
+                case ENUMS:
+                    encoders.add(bitmap.getEncoder(measurementId, type));
+                    encoders.add(roaringBitmap.getEncoder(measurementId, type));
+                    break;
+                default:
+                    // only PLAIN can be decoded for other types
+            }
+            return encoders;
+        }
+
+        @Override
+        public void initFromJsonObject(String measurementId, JSONObject seriesObject) {
+            plain.initFromJsonObject(measurementId, seriesObject);
+            rle.initFromJsonObject(measurementId, seriesObject);
+            ts2Diff.initFromJsonObject(measurementId, seriesObject);
+        }
+
+        @Override
+        public Object checkParameter(String pmKey, String value) throws MetadataArgsErrorException {
+            return rle.checkParameter(pmKey, value);
+        }
+
+        @Override
+        public String toString() {
+            return rle.toString();
+        }
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(TSEncodingConverter.class);
     protected final TSFileConfig conf;
 
@@ -213,12 +520,30 @@ public abstract class TSEncodingConverter {
         switch (type) {
             case PLAIN:
                 return new PLAIN();
+            case PLAIN_DICTIONARY:
+                return new PLAIN_DICTIONARY();
             case RLE:
                 return new RLE();
             case TS_2DIFF:
                 return new TS_2DIFF();
             case BITMAP:
                 return new BITMAP();
+            case GORILLA:
+                return new GORILLA();
+            case REGULAR:
+                return new REGULAR();
+            case ROARING_BITMAP:
+                return new ROARING_BITMAP();
+            case PFOR:
+                return new PFOR();
+            case ALP:
+                return new ALP();
+            case SDT:
+                return new SDT();
+            case PLA:
+                return new PLA();
+            case AUTO:
+                return new AUTO();
             default:
                 throw new UnsupportedOperationException(type.toString());
         }
@@ -256,6 +581,22 @@ public abstract class TSEncodingConverter {
         throw new MetadataArgsErrorException("don't need args:{}" + pmKey);
     }
 
+    /**
+     * based on visit pattern to provide unified parameter type in interface. write parameters of
+     * the encoding to VInTimeSeriesChunkMetaData, e.g. max error of lossy encodings.
+     *
+     * @param v - VInTimeSeriesChunkMetaData to be set data
+     */
+    public void setDataValues(VInTimeSeriesChunkMetaData v) {}
+
+    /**
+     * write parameters of the encoding which don't fit in VInTimeSeriesChunkMetaData to JSON
+     * metadata of the chunk, each as a JSON object string
+     *
+     * @param jsonMetaData - JSON metadata of TimeSeriesChunkMetaData
+     */
+    public void setJsonMetaData(List<String> jsonMetaData) {}
+
     /**
      * check the validity of input parameter. If it's valid, return this parameter in its
      * appropriate type.
@@ -2,10 +2,13 @@ package cn.edu.thu.tsfile.timeseries.write.series;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
 import cn.edu.thu.tsfile.timeseries.write.io.TSFileIOWriter;
 import cn.edu.thu.tsfile.timeseries.write.record.DataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.TSTablet;
 
 /**
  * a row group in TSFile contains a list of value series. TimeSeriesGroupWriter should implement
@@ -26,6 +29,34 @@ public interface IRowGroupWriter {
      */
     void write(long time, List<DataPoint> data) throws WriteProcessException, IOException;
 
+    /**
+     * receive rows in range [start, end) of a tablet and write them column by column to their
+     * series writers.
+     * 
+     * @param tablet - a batch of rows in column-oriented form
+     * @param start - first row to write, inclusive
+     * @param end - last row to write, exclusive
+     * @throws WriteProcessException
+     * @throws IOException
+     */
+    void write(TSTablet tablet, int start, int end) throws WriteProcessException, IOException;
+
+    /**
+     * submit sealing the last page of each series to given pool. The caller should join all
+     * returned tasks before calling {@code flushToFileWriter}.
+     * 
+     * @param pool - pool to run sealing tasks
+     * @return - submitted tasks, one for each series
+     */
+    List<ForkJoinTask<?>> sealSeriesPages(ForkJoinPool pool);
+
+    /**
+     * record the max time of each series into the end times given in constructor, so that series
+     * writers of following row groups reject points not after them. It should be called on the
+     * writing thread before this row group is flushed.
+     */
+    void recordSeriesEndTimes();
+
     /**
      * flushing method for outputting to OS file system or HDFS.
      * 
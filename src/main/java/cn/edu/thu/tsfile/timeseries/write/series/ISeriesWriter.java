@@ -2,33 +2,86 @@ package cn.edu.thu.tsfile.timeseries.write.series;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.BitSet;
 
 import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
 import cn.edu.thu.tsfile.timeseries.write.io.TSFileIOWriter;
 
 /**
- * ISeriesWriter provides a list of writing methods for different value types.
+ * ISeriesWriter provides a list of writing methods for different value types.<br>
+ * If {@code outOfOrderWindow} is set, a point whose time is not after that of the points which have
+ * been encoded is rejected by {@code WriteProcessException}, since its page would overlap with
+ * written ones. Points written before the rejected one are kept.
  * 
  * @author kangrong
  *
  */
 
 public interface ISeriesWriter {
-    void write(long time, int value) throws IOException;
+    void write(long time, int value) throws IOException, WriteProcessException;
 
-    void write(long time, long value) throws IOException;
+    void write(long time, long value) throws IOException, WriteProcessException;
 
-    void write(long time, boolean value) throws IOException;
+    void write(long time, boolean value) throws IOException, WriteProcessException;
 
-    void write(long time, float value) throws IOException;
+    void write(long time, float value) throws IOException, WriteProcessException;
 
-    void write(long time, double value) throws IOException;
+    void write(long time, double value) throws IOException, WriteProcessException;
 
-    void write(long time, BigDecimal value) throws IOException;
+    void write(long time, BigDecimal value) throws IOException, WriteProcessException;
 
-    void write(long time, Binary value) throws IOException;
+    void write(long time, Binary value) throws IOException, WriteProcessException;
+
+    /**
+     * write rows in range [start, end) of a column. The value whose index is set in {@code nulls}
+     * is skipped.
+     *
+     * @param times - timestamps of the column
+     * @param values - values of the column
+     * @param nulls - null marks of the column, null means no value is null
+     * @param start - first row to write, inclusive
+     * @param end - last row to write, exclusive
+     * @throws IOException
+     * @throws WriteProcessException - if a point arrives later than {@code outOfOrderWindow}
+     */
+    void write(long[] times, int[] values, BitSet nulls, int start, int end)
+            throws IOException, WriteProcessException;
+
+    void write(long[] times, long[] values, BitSet nulls, int start, int end)
+            throws IOException, WriteProcessException;
+
+    void write(long[] times, boolean[] values, BitSet nulls, int start, int end)
+            throws IOException, WriteProcessException;
+
+    void write(long[] times, float[] values, BitSet nulls, int start, int end)
+            throws IOException, WriteProcessException;
+
+    void write(long[] times, double[] values, BitSet nulls, int start, int end)
+            throws IOException, WriteProcessException;
+
+    void write(long[] times, Binary[] values, BitSet nulls, int start, int end)
+            throws IOException, WriteProcessException;
+
+    /**
+     * encode and compress the values which haven't been packed into a page. The only shared
+     * resource it touches is the memory counter, which is updated atomically, so different series
+     * can be sealed in different threads before calling {@code writeToFileWriter}.
+     */
+    void sealCurrentPage();
 
     void writeToFileWriter(TSFileIOWriter tsfileWriter) throws IOException;
 
+    /**
+     * @return - max time of points written since last {@code writeToFileWriter}, including staged
+     *         ones, or Long.MIN_VALUE if none
+     */
+    long getMaxTime();
+
+    /**
+     * @return - true if no value has been written since last {@code writeToFileWriter}
+     */
+    boolean isEmpty();
+
     long estimateMaxSeriesMemSize();
 }
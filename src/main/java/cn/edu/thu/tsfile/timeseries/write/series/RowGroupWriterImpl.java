@@ -1,13 +1,19 @@
 package cn.edu.thu.tsfile.timeseries.write.series;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import cn.edu.thu.tsfile.common.utils.Binary;
 import cn.edu.thu.tsfile.timeseries.write.desc.MeasurementDescriptor;
 import cn.edu.thu.tsfile.timeseries.write.exception.NoMeasurementException;
 import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
@@ -15,10 +21,14 @@ import cn.edu.thu.tsfile.timeseries.write.io.TSFileIOWriter;
 import cn.edu.thu.tsfile.timeseries.write.page.IPageWriter;
 import cn.edu.thu.tsfile.timeseries.write.page.PageWriterImpl;
 import cn.edu.thu.tsfile.timeseries.write.record.DataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.TSTablet;
 import cn.edu.thu.tsfile.timeseries.write.schema.FileSchema;
 
 /**
- * a implementation of IRowGroupWriter
+ * a implementation of IRowGroupWriter. A series writer is created on the first value of its
+ * measurement rather than for every measurement in schema, and series without any value in this
+ * stage are not written, so that a delta object reporting few measurements of a wide schema costs
+ * little.
  * 
  * @see IRowGroupWriter IRowGroupWriter
  * @author kangrong
@@ -28,29 +38,123 @@ public class RowGroupWriterImpl implements IRowGroupWriter {
     private static Logger LOG = LoggerFactory.getLogger(RowGroupWriterImpl.class);
     private final String deltaObjectId;
     private Map<String, ISeriesWriter> dataSeriesWriters = new HashMap<String, ISeriesWriter>();
+    private final AtomicLong memSizeCounter;
+    private final FileSchema fileSchema;
+    private final int pageSizeThreshold;
+    /**
+     * end time of each series of this delta object in written row groups, null if it's not
+     * tracked
+     */
+    private final Map<String, Long> seriesEndTimes;
 
     public RowGroupWriterImpl(String deltaObjectId, FileSchema fileSchema, int pageSizeThreshold) {
+        this(deltaObjectId, fileSchema, pageSizeThreshold, new AtomicLong(), null);
+    }
+
+    /**
+     * @param memSizeCounter - counter which all series writers add their memory size changes to
+     * @param seriesEndTimes - end time of each series in written row groups by measurement id,
+     *        which is read when a series writer is created and updated by
+     *        {@code recordSeriesEndTimes}. null if it's not tracked.
+     */
+    public RowGroupWriterImpl(String deltaObjectId, FileSchema fileSchema, int pageSizeThreshold,
+            AtomicLong memSizeCounter, Map<String, Long> seriesEndTimes) {
         this.deltaObjectId = deltaObjectId;
-        for (MeasurementDescriptor desc : fileSchema.getDescriptor()) {
-            this.dataSeriesWriters.put(desc.getMeasurementId(),
-                    createSeriesWriter(desc, pageSizeThreshold));
+        this.memSizeCounter = memSizeCounter;
+        this.fileSchema = fileSchema;
+        this.pageSizeThreshold = pageSizeThreshold;
+        this.seriesEndTimes = seriesEndTimes;
+    }
+
+    /**
+     * get the series writer of given measurement, create it if it's the first time to write.
+     * 
+     * @param measurementId - measurement id
+     * @return - series writer, or null if the measurement is not registered in schema
+     */
+    private ISeriesWriter getSeriesWriter(String measurementId) {
+        ISeriesWriter seriesWriter = dataSeriesWriters.get(measurementId);
+        if (seriesWriter == null) {
+            MeasurementDescriptor desc = fileSchema.getDescriptor(measurementId);
+            if (desc == null)
+                return null;
+            seriesWriter = createSeriesWriter(desc, pageSizeThreshold);
+            dataSeriesWriters.put(measurementId, seriesWriter);
         }
+        return seriesWriter;
     }
 
     private ISeriesWriter createSeriesWriter(MeasurementDescriptor desc, int pageSizeThreshold) {
         IPageWriter pageWriter = new PageWriterImpl(desc);
-        return new SeriesWriterImpl(deltaObjectId, desc, pageWriter, pageSizeThreshold);
+        Long endTime = seriesEndTimes == null ? null : seriesEndTimes.get(desc.getMeasurementId());
+        return new SeriesWriterImpl(deltaObjectId, desc, pageWriter, pageSizeThreshold,
+                memSizeCounter, endTime == null ? Long.MIN_VALUE : endTime);
     }
 
     @Override
     public void write(long time, List<DataPoint> data) throws WriteProcessException, IOException {
         for (DataPoint point : data) {
             String measurementId = point.getMeasurementId();
-            if (!dataSeriesWriters.containsKey(measurementId))
+            ISeriesWriter seriesWriter = getSeriesWriter(measurementId);
+            if (seriesWriter == null)
                 throw new NoMeasurementException("time " + time + ", measurement id "
                         + measurementId + " not found!");
-            point.write(time, dataSeriesWriters.get(measurementId));
+            point.write(time, seriesWriter);
+        }
+    }
 
+    @Override
+    public void write(TSTablet tablet, int start, int end)
+            throws WriteProcessException, IOException {
+        long[] times = tablet.timestamps;
+        for (int i = 0; i < tablet.measurementIds.length; i++) {
+            String measurementId = tablet.measurementIds[i];
+            ISeriesWriter seriesWriter = getSeriesWriter(measurementId);
+            if (seriesWriter == null)
+                throw new NoMeasurementException("tablet of " + deltaObjectId
+                        + ", measurement id " + measurementId + " not found!");
+            Object column = tablet.values[i];
+            BitSet nulls = tablet.bitMaps[i];
+            if (column instanceof int[])
+                seriesWriter.write(times, (int[]) column, nulls, start, end);
+            else if (column instanceof long[])
+                seriesWriter.write(times, (long[]) column, nulls, start, end);
+            else if (column instanceof boolean[])
+                seriesWriter.write(times, (boolean[]) column, nulls, start, end);
+            else if (column instanceof float[])
+                seriesWriter.write(times, (float[]) column, nulls, start, end);
+            else if (column instanceof double[])
+                seriesWriter.write(times, (double[]) column, nulls, start, end);
+            else if (column instanceof Binary[])
+                seriesWriter.write(times, (Binary[]) column, nulls, start, end);
+            else
+                throw new WriteProcessException("measurement id " + measurementId
+                        + ", unsupported column type in tablet: " + column);
+        }
+    }
+
+    @Override
+    public List<ForkJoinTask<?>> sealSeriesPages(ForkJoinPool pool) {
+        List<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>(dataSeriesWriters.size());
+        for (final ISeriesWriter seriesWriter : dataSeriesWriters.values()) {
+            tasks.add(pool.submit(new Runnable() {
+                @Override
+                public void run() {
+                    seriesWriter.sealCurrentPage();
+                }
+            }));
+        }
+        return tasks;
+    }
+
+    @Override
+    public void recordSeriesEndTimes() {
+        if (seriesEndTimes == null)
+            return;
+        for (Map.Entry<String, ISeriesWriter> entry : dataSeriesWriters.entrySet()) {
+            long maxTime = entry.getValue().getMaxTime();
+            if (maxTime != Long.MIN_VALUE)
+                seriesEndTimes.put(entry.getKey(), maxTime);
         }
     }
 
@@ -58,7 +162,9 @@ public class RowGroupWriterImpl implements IRowGroupWriter {
     public void flushToFileWriter(TSFileIOWriter deltaFileWriter) throws IOException {
         LOG.debug("start flush delta object id:{}", deltaObjectId);
         for (ISeriesWriter seriesWriter : dataSeriesWriters.values()) {
-            seriesWriter.writeToFileWriter(deltaFileWriter);
+            // skip the series which has no value in this stage
+            if (!seriesWriter.isEmpty())
+                seriesWriter.writeToFileWriter(deltaFileWriter);
         }
     }
 
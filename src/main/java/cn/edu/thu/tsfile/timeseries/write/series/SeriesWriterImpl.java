@@ -2,6 +2,9 @@ package cn.edu.thu.tsfile.timeseries.write.series;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,10 +12,16 @@ import org.slf4j.LoggerFactory;
 import cn.edu.thu.tsfile.common.conf.TSFileConfig;
 import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
 import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.common.utils.bytesinput.BytesInput.PublicBAOS;
+import cn.edu.thu.tsfile.encoding.encoder.DictionaryEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.Encoder;
+import cn.edu.thu.tsfile.encoding.encoder.FloatEncoder;
 import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
 import cn.edu.thu.tsfile.file.metadata.statistics.Statistics;
 import cn.edu.thu.tsfile.timeseries.write.desc.MeasurementDescriptor;
 import cn.edu.thu.tsfile.timeseries.write.exception.PageException;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
 import cn.edu.thu.tsfile.timeseries.write.io.TSFileIOWriter;
 import cn.edu.thu.tsfile.timeseries.write.page.IPageWriter;
 
@@ -27,6 +36,11 @@ import cn.edu.thu.tsfile.timeseries.write.page.IPageWriter;
 public class SeriesWriterImpl implements ISeriesWriter {
     private static final Logger LOG = LoggerFactory.getLogger(SeriesWriterImpl.class);
     private static final int MINIMUM_RECORD_COUNT_FOR_CHECK = 1;
+    /**
+     * number of points written between two reports of memory size, besides the report after
+     * writing a page
+     */
+    private static final int MEM_REPORT_INTERVAL = 128;
 
     private final TSDataType dataType;
     private final IPageWriter pageWriter;
@@ -43,6 +57,10 @@ public class SeriesWriterImpl implements ISeriesWriter {
      */
     private int valueCount;
     private int valueCountForNextSizeCheck;
+    /**
+     * page count of a stage. It will be reset after calling {@code writeToFileWriter()}
+     */
+    private int pageCount;
     /**
      * statistic on a page. It will be reset after calling {@code writePage()}
      */
@@ -55,9 +73,65 @@ public class SeriesWriterImpl implements ISeriesWriter {
     private long minTimestamp = -1;
     private String deltaObjectId;
     private MeasurementDescriptor desc;
+    /**
+     * memory counter shared by all series writers in a writing stage. The change of
+     * {@code estimateMaxSeriesMemSize()} is added to it after writing a page and every
+     * {@code MEM_REPORT_INTERVAL} points, so that the total size can be got without scanning all
+     * series writers, and the shared counter isn't updated for every point.
+     */
+    private final AtomicLong memSizeCounter;
+    /**
+     * the memory size which has been added to {@code memSizeCounter}
+     */
+    private long reportedMemSize;
+    /**
+     * number of points written since last report of memory size
+     */
+    private int unreportedCount;
+    /**
+     * buffer staging points which may arrive out of order, null if {@code outOfOrderWindow} is 0
+     */
+    private TimeValueSortBuffer sortBuffer;
+    private final int outOfOrderWindow;
+    /**
+     * time of the last point drained from {@code sortBuffer}, or the end time of this series in
+     * written row groups. A point not after it is rejected.
+     */
+    private long lastDrainedTime;
+    /**
+     * max time of points written to this writer
+     */
+    private long maxTime = Long.MIN_VALUE;
+    /**
+     * buffer of points sampled at the start of a row group to choose value encoding, null if the
+     * encoding isn't AUTO
+     */
+    private TimeValueSortBuffer sampleBuffer;
+    private boolean isSampling;
+    /**
+     * the chosen encoder rounding float or double values to decimal digits, null if values are
+     * encoded exactly
+     */
+    private FloatEncoder roundingEncoder;
+    /**
+     * encoder holding the dictionary of current chunk, null if the encoding isn't
+     * PLAIN_DICTIONARY. It's kept after falling back to PLAIN for writing the dictionary page.
+     */
+    private DictionaryEncoder dictionaryEncoder;
 
     public SeriesWriterImpl(String deltaObjectId, MeasurementDescriptor desc,
             IPageWriter pageWriter, int pageSizeThreshold) {
+        this(deltaObjectId, desc, pageWriter, pageSizeThreshold, new AtomicLong(), Long.MIN_VALUE);
+    }
+
+    /**
+     * @param memSizeCounter - counter which memory size changes are added to
+     * @param lastEndTime - end time of this series in written row groups, points not after it are
+     *        rejected if {@code outOfOrderWindow} is set. Long.MIN_VALUE if there is none.
+     */
+    public SeriesWriterImpl(String deltaObjectId, MeasurementDescriptor desc,
+            IPageWriter pageWriter, int pageSizeThreshold, AtomicLong memSizeCounter,
+            long lastEndTime) {
         this.deltaObjectId = deltaObjectId;
         this.desc = desc;
         this.dataType = desc.getType();
@@ -72,6 +146,212 @@ public class SeriesWriterImpl implements ISeriesWriter {
 
         this.dataValueWriter.setTimeEncoder(desc.getTimeEncoder());
         this.dataValueWriter.setValueEncoder(desc.getValueEncoder());
+        if (dataValueWriter.getValueEncoder() instanceof DictionaryEncoder)
+            this.dictionaryEncoder = (DictionaryEncoder) dataValueWriter.getValueEncoder();
+        this.memSizeCounter = memSizeCounter;
+        TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+        this.outOfOrderWindow = conf.outOfOrderWindow;
+        if (outOfOrderWindow > 0) {
+            this.sortBuffer = new TimeValueSortBuffer(dataType, outOfOrderWindow * 2);
+            this.lastDrainedTime = lastEndTime;
+        } else {
+            this.lastDrainedTime = Long.MIN_VALUE;
+        }
+        if (desc.getEncodingType() == TSEncoding.AUTO && conf.autoEncodingSampleSize > 0) {
+            this.sampleBuffer = new TimeValueSortBuffer(dataType, conf.autoEncodingSampleSize);
+            this.isSampling = true;
+        }
+        reportMemSize();
+    }
+
+    /**
+     * add the change of memory size since last report to {@code memSizeCounter}
+     */
+    private void reportMemSize() {
+        unreportedCount = 0;
+        long memSize = estimateMaxSeriesMemSize();
+        if (memSize != reportedMemSize) {
+            memSizeCounter.addAndGet(memSize - reportedMemSize);
+            reportedMemSize = memSize;
+        }
+    }
+
+    /**
+     * report memory size if {@code MEM_REPORT_INTERVAL} points have been written since last report
+     */
+    private void checkMemSizeReport() {
+        if (++unreportedCount >= MEM_REPORT_INTERVAL)
+            reportMemSize();
+    }
+
+    /**
+     * reject the point which arrives later than {@code outOfOrderWindow}. Its time is not after
+     * that of encoded points, so it can't be put into a page without breaking the time order.
+     */
+    private void checkTime(long time) throws WriteProcessException {
+        if (time <= lastDrainedTime)
+            throw new WriteProcessException(String.format(
+                    "%s:%s point at %d arrives later than out of order window %d, "
+                            + "points until %d have been written",
+                    deltaObjectId, desc.getMeasurementId(), time, outOfOrderWindow,
+                    lastDrainedTime));
+        if (time > maxTime)
+            maxTime = time;
+    }
+
+    /**
+     * update the time range of current page
+     */
+    private void updateTimeRange(long time) {
+        if (minTimestamp == -1) {
+            minTimestamp = time;
+            this.time = time;
+        } else if (time < minTimestamp) {
+            minTimestamp = time;
+        } else if (time > this.time) {
+            this.time = time;
+        }
+    }
+
+    /**
+     * if {@code sortBuffer} is full, sort it and encode the oldest points, keeping the newest
+     * {@code outOfOrderWindow} ones for points which arrive late.
+     */
+    private void checkSortBuffer() throws IOException {
+        if (sortBuffer.isFull()) {
+            sortBuffer.sortAndDeduplicate();
+            drainSortBuffer(sortBuffer.size() - outOfOrderWindow);
+        }
+    }
+
+    /**
+     * encode the first {@code count} points of sorted {@code sortBuffer}
+     */
+    private void drainSortBuffer(int count) throws IOException {
+        if (count <= 0)
+            return;
+        for (int i = 0; i < count; i++)
+            writeValue(sortBuffer, i);
+        lastDrainedTime = sortBuffer.getTime(count - 1);
+        sortBuffer.removeFirst(count);
+    }
+
+    /**
+     * encode the point at {@code index} of given buffer
+     */
+    private void writeValue(TimeValueSortBuffer buffer, int index) throws IOException {
+        long t = buffer.getTime(index);
+        switch (dataType) {
+            case INT32:
+            case ENUMS:
+                writeValue(t, buffer.getInt(index));
+                break;
+            case INT64:
+                writeValue(t, buffer.getLong(index));
+                break;
+            case BOOLEAN:
+                writeValue(t, buffer.getBoolean(index));
+                break;
+            case FLOAT:
+                writeValue(t, buffer.getFloat(index));
+                break;
+            case DOUBLE:
+                writeValue(t, buffer.getDouble(index));
+                break;
+            case BIGDECIMAL:
+                writeValue(t, buffer.getBigDecimal(index));
+                break;
+            default:
+                writeValue(t, buffer.getBinary(index));
+        }
+    }
+
+    /**
+     * choose value encoding once enough points are sampled
+     */
+    private void checkSampleBuffer() throws IOException {
+        if (sampleBuffer.isFull())
+            chooseValueEncoder();
+    }
+
+    /**
+     * trial-encode sampled points with every candidate encoder, use the one with the smallest
+     * size in the rest of this row group and encode sampled points with it.
+     */
+    private void chooseValueEncoder() throws IOException {
+        isSampling = false;
+        List<Encoder> candidates = desc.getCandidateValueEncoders();
+        int best = 0;
+        long bestSize = Long.MAX_VALUE;
+        for (int i = 0; i < candidates.size(); i++) {
+            long size = trialEncode(candidates.get(i));
+            if (size >= 0 && size < bestSize) {
+                best = i;
+                bestSize = size;
+            }
+        }
+        // encoders used in trial have states, so create new ones
+        Encoder encoder = desc.getCandidateValueEncoders().get(best);
+        dataValueWriter.setValueEncoder(encoder);
+        roundingEncoder = encoder instanceof FloatEncoder ? (FloatEncoder) encoder : null;
+        LOG.debug("{}:{} choose encoding {}, sample size:{}, encoded size:{}", deltaObjectId,
+                desc.getMeasurementId(), encoder.type, sampleBuffer.size(), bestSize);
+        for (int i = 0; i < sampleBuffer.size(); i++)
+            writeValue(sampleBuffer, i);
+        sampleBuffer.removeFirst(sampleBuffer.size());
+    }
+
+    /**
+     * @return - encoded size of sampled points, or -1 if the encoder loses precision of them
+     */
+    private long trialEncode(Encoder encoder) throws IOException {
+        PublicBAOS out = new PublicBAOS();
+        for (int i = 0; i < sampleBuffer.size(); i++) {
+            switch (dataType) {
+                case INT32:
+                case ENUMS:
+                    encoder.encode(sampleBuffer.getInt(i), out);
+                    break;
+                case INT64:
+                    encoder.encode(sampleBuffer.getLong(i), out);
+                    break;
+                case BOOLEAN:
+                    encoder.encode(sampleBuffer.getBoolean(i), out);
+                    break;
+                case FLOAT:
+                    if (encoder instanceof FloatEncoder
+                            && !((FloatEncoder) encoder).isLossless(sampleBuffer.getFloat(i)))
+                        return -1;
+                    encoder.encode(sampleBuffer.getFloat(i), out);
+                    break;
+                case DOUBLE:
+                    if (encoder instanceof FloatEncoder
+                            && !((FloatEncoder) encoder).isLossless(sampleBuffer.getDouble(i)))
+                        return -1;
+                    encoder.encode(sampleBuffer.getDouble(i), out);
+                    break;
+                case BIGDECIMAL:
+                    encoder.encode(sampleBuffer.getBigDecimal(i), out);
+                    break;
+                default:
+                    encoder.encode(sampleBuffer.getBinary(i), out);
+            }
+        }
+        encoder.flush(out);
+        return out.size();
+    }
+
+    /**
+     * a value after sampling can't be encoded exactly by the chosen encoder, or the dictionary is
+     * full, so seal current page and encode the rest of this row group in PLAIN.
+     */
+    private void fallbackToPlainEncoder() {
+        LOG.debug("{}:{} value doesn't fit {}, use PLAIN in this row group", deltaObjectId,
+                desc.getMeasurementId(), dataValueWriter.getValueEncoder().type);
+        if (valueCount > 0)
+            writePage();
+        dataValueWriter.setValueEncoder(desc.getPlainValueEncoder());
+        roundingEncoder = null;
     }
 
     private void resetPageStatistics() {
@@ -79,82 +359,241 @@ public class SeriesWriterImpl implements ISeriesWriter {
     }
 
     @Override
-    public void write(long time, long value) throws IOException {
-        this.time = time;
+    public void write(long time, long value) throws IOException, WriteProcessException {
+        checkTime(time);
+        if (sortBuffer == null) {
+            writeValue(time, value);
+        } else {
+            sortBuffer.put(time, value);
+            checkSortBuffer();
+        }
+        checkMemSizeReport();
+    }
+
+    private void writeValue(long time, long value) throws IOException {
+        if (isSampling) {
+            sampleBuffer.put(time, value);
+            checkSampleBuffer();
+            return;
+        }
         ++valueCount;
+        updateTimeRange(time);
         dataValueWriter.write(time, value);
         pageStatistics.updateStats(value);
-        if (minTimestamp == -1)
-            minTimestamp = time;
         checkPageSize();
     }
 
     @Override
-    public void write(long time, int value) throws IOException {
-        this.time = time;
+    public void write(long time, int value) throws IOException, WriteProcessException {
+        checkTime(time);
+        if (sortBuffer == null) {
+            writeValue(time, value);
+        } else {
+            sortBuffer.put(time, value);
+            checkSortBuffer();
+        }
+        checkMemSizeReport();
+    }
+
+    private void writeValue(long time, int value) throws IOException {
+        if (isSampling) {
+            sampleBuffer.put(time, value);
+            checkSampleBuffer();
+            return;
+        }
         ++valueCount;
+        updateTimeRange(time);
         dataValueWriter.write(time, value);
         pageStatistics.updateStats(value);
-        if (minTimestamp == -1)
-            minTimestamp = time;
         checkPageSize();
     }
 
     @Override
-    public void write(long time, boolean value) throws IOException {
-        this.time = time;
+    public void write(long time, boolean value) throws IOException, WriteProcessException {
+        checkTime(time);
+        if (sortBuffer == null) {
+            writeValue(time, value);
+        } else {
+            sortBuffer.put(time, value);
+            checkSortBuffer();
+        }
+        checkMemSizeReport();
+    }
+
+    private void writeValue(long time, boolean value) throws IOException {
+        if (isSampling) {
+            sampleBuffer.put(time, value);
+            checkSampleBuffer();
+            return;
+        }
         ++valueCount;
+        updateTimeRange(time);
         dataValueWriter.write(time, value);
         pageStatistics.updateStats(value);
-        if (minTimestamp == -1)
-            minTimestamp = time;
         checkPageSize();
     }
 
     @Override
-    public void write(long time, float value) throws IOException {
-        this.time = time;
+    public void write(long time, float value) throws IOException, WriteProcessException {
+        checkTime(time);
+        if (sortBuffer == null) {
+            writeValue(time, value);
+        } else {
+            sortBuffer.put(time, value);
+            checkSortBuffer();
+        }
+        checkMemSizeReport();
+    }
+
+    private void writeValue(long time, float value) throws IOException {
+        if (isSampling) {
+            sampleBuffer.put(time, value);
+            checkSampleBuffer();
+            return;
+        }
+        if (roundingEncoder != null && !roundingEncoder.isLossless(value))
+            fallbackToPlainEncoder();
         ++valueCount;
+        updateTimeRange(time);
         dataValueWriter.write(time, value);
         pageStatistics.updateStats(value);
-        if (minTimestamp == -1)
-            minTimestamp = time;
         checkPageSize();
     }
 
     @Override
-    public void write(long time, double value) throws IOException {
-        this.time = time;
+    public void write(long time, double value) throws IOException, WriteProcessException {
+        checkTime(time);
+        if (sortBuffer == null) {
+            writeValue(time, value);
+        } else {
+            sortBuffer.put(time, value);
+            checkSortBuffer();
+        }
+        checkMemSizeReport();
+    }
+
+    private void writeValue(long time, double value) throws IOException {
+        if (isSampling) {
+            sampleBuffer.put(time, value);
+            checkSampleBuffer();
+            return;
+        }
+        if (roundingEncoder != null && !roundingEncoder.isLossless(value))
+            fallbackToPlainEncoder();
         ++valueCount;
+        updateTimeRange(time);
         dataValueWriter.write(time, value);
         pageStatistics.updateStats(value);
-        if (minTimestamp == -1)
-            minTimestamp = time;
         checkPageSize();
     }
 
     @Override
-    public void write(long time, BigDecimal value) throws IOException {
-        this.time = time;
+    public void write(long time, BigDecimal value) throws IOException, WriteProcessException {
+        checkTime(time);
+        if (sortBuffer == null) {
+            writeValue(time, value);
+        } else {
+            sortBuffer.put(time, value);
+            checkSortBuffer();
+        }
+        checkMemSizeReport();
+    }
+
+    private void writeValue(long time, BigDecimal value) throws IOException {
+        if (isSampling) {
+            sampleBuffer.put(time, value);
+            checkSampleBuffer();
+            return;
+        }
         ++valueCount;
+        updateTimeRange(time);
         dataValueWriter.write(time, value);
         pageStatistics.updateStats(value);
-        if (minTimestamp == -1)
-            minTimestamp = time;
         checkPageSize();
     }
 
     @Override
-    public void write(long time, Binary value) throws IOException {
-        this.time = time;
+    public void write(long time, Binary value) throws IOException, WriteProcessException {
+        checkTime(time);
+        if (sortBuffer == null) {
+            writeValue(time, value);
+        } else {
+            sortBuffer.put(time, value);
+            checkSortBuffer();
+        }
+        checkMemSizeReport();
+    }
+
+    private void writeValue(long time, Binary value) throws IOException {
+        if (isSampling) {
+            sampleBuffer.put(time, value);
+            checkSampleBuffer();
+            return;
+        }
+        if (dictionaryEncoder != null && dataValueWriter.getValueEncoder() == dictionaryEncoder
+                && dictionaryEncoder.isFull())
+            fallbackToPlainEncoder();
         ++valueCount;
+        updateTimeRange(time);
         dataValueWriter.write(time, value);
         pageStatistics.updateStats(value);
-        if (minTimestamp == -1)
-            minTimestamp = time;
         checkPageSize();
     }
 
+    @Override
+    public void write(long[] times, int[] values, BitSet nulls, int start, int end)
+            throws IOException, WriteProcessException {
+        for (int i = start; i < end; i++) {
+            if (nulls == null || !nulls.get(i))
+                write(times[i], values[i]);
+        }
+    }
+
+    @Override
+    public void write(long[] times, long[] values, BitSet nulls, int start, int end)
+            throws IOException, WriteProcessException {
+        for (int i = start; i < end; i++) {
+            if (nulls == null || !nulls.get(i))
+                write(times[i], values[i]);
+        }
+    }
+
+    @Override
+    public void write(long[] times, boolean[] values, BitSet nulls, int start, int end)
+            throws IOException, WriteProcessException {
+        for (int i = start; i < end; i++) {
+            if (nulls == null || !nulls.get(i))
+                write(times[i], values[i]);
+        }
+    }
+
+    @Override
+    public void write(long[] times, float[] values, BitSet nulls, int start, int end)
+            throws IOException, WriteProcessException {
+        for (int i = start; i < end; i++) {
+            if (nulls == null || !nulls.get(i))
+                write(times[i], values[i]);
+        }
+    }
+
+    @Override
+    public void write(long[] times, double[] values, BitSet nulls, int start, int end)
+            throws IOException, WriteProcessException {
+        for (int i = start; i < end; i++) {
+            if (nulls == null || !nulls.get(i))
+                write(times[i], values[i]);
+        }
+    }
+
+    @Override
+    public void write(long[] times, Binary[] values, BitSet nulls, int start, int end)
+            throws IOException, WriteProcessException {
+        for (int i = start; i < end; i++) {
+            if (nulls == null || !nulls.get(i))
+                write(times[i], values[i]);
+        }
+    }
+
     /**
      * check occupied memory size, if it exceeds the PageSize threshold, flush them to given
      * OutputStream.
@@ -186,8 +625,9 @@ public class SeriesWriterImpl implements ISeriesWriter {
     private void writePage() {
         try {
             pageWriter.writePage(dataValueWriter.getBytes(), valueCount, pageStatistics, time,
-                    minTimestamp);
+                    minTimestamp, dataValueWriter.getValueEncoder().type);
             this.seriesStatistics.mergeStatistics(this.pageStatistics);
+            pageCount++;
         } catch (IOException e) {
             LOG.error("meet error in dataValueWriter.getBytes(),ignore this page, {}",
                     e.getMessage());
@@ -200,22 +640,89 @@ public class SeriesWriterImpl implements ISeriesWriter {
             valueCount = 0;
             dataValueWriter.reset();
             resetPageStatistics();
+            reportMemSize();
         }
     }
 
     @Override
-    public void writeToFileWriter(TSFileIOWriter tsfileWriter) throws IOException {
-        if (valueCount > 0) {
-            writePage();
+    public void sealCurrentPage() {
+        if (sortBuffer != null && sortBuffer.size() > 0) {
+            sortBuffer.sortAndDeduplicate();
+            try {
+                drainSortBuffer(sortBuffer.size());
+            } catch (IOException e) {
+                LOG.error("meet error in encoding staged points, {}", e.getMessage());
+            }
+        }
+        if (isSampling && sampleBuffer.size() > 0) {
+            try {
+                chooseValueEncoder();
+            } catch (IOException e) {
+                LOG.error("meet error in encoding sampled points, {}", e.getMessage());
+            }
         }
+        if (valueCount > 0)
+            writePage();
+        else
+            reportMemSize();
+    }
+
+    @Override
+    public void writeToFileWriter(TSFileIOWriter tsfileWriter) throws IOException {
+        sealCurrentPage();
+        if (dictionaryEncoder != null)
+            writeDictionaryPage();
         pageWriter.writeToFileWriter(tsfileWriter, seriesStatistics);
         pageWriter.reset();
+        pageCount = 0;
         // reset series_statistics
         this.seriesStatistics = Statistics.getStatsByType(dataType);
+        // choose value encoding again in next row group
+        if (sampleBuffer != null) {
+            isSampling = true;
+            roundingEncoder = null;
+        }
+        reportMemSize();
+    }
+
+    /**
+     * pass the dictionary of current chunk to {@code IPageWriter}, clear it and use dictionary
+     * encoding again in next row group.
+     */
+    private void writeDictionaryPage() throws IOException {
+        try {
+            if (dictionaryEncoder.getEntryCount() > 0)
+                pageWriter.writeDictionaryPage(dictionaryEncoder.getDictionaryBytes(),
+                        dictionaryEncoder.getEntryCount());
+        } catch (PageException e) {
+            throw new IOException("meet error in writing dictionary page of " + desc, e);
+        } finally {
+            dictionaryEncoder.resetDictionary();
+            dataValueWriter.setValueEncoder(dictionaryEncoder);
+        }
+    }
+
+    @Override
+    public long getMaxTime() {
+        return maxTime;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return valueCount == 0 && pageCount == 0
+                && (sortBuffer == null || sortBuffer.size() == 0)
+                && (sampleBuffer == null || sampleBuffer.size() == 0);
     }
 
     @Override
     public long estimateMaxSeriesMemSize() {
-        return dataValueWriter.estimateMaxMemSize() + pageWriter.estimateMaxPageMemSize();
+        long memSize = dataValueWriter.estimateMaxMemSize() + pageWriter.estimateMaxPageMemSize();
+        if (sortBuffer != null)
+            memSize += sortBuffer.estimateMemSize();
+        if (sampleBuffer != null)
+            memSize += sampleBuffer.estimateMemSize();
+        if (dictionaryEncoder != null)
+            memSize += dictionaryEncoder.getDictionarySize();
+        return memSize;
     }
 }
@@ -0,0 +1,283 @@
+package cn.edu.thu.tsfile.timeseries.write.series;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+
+/**
+ * TimeValueSortBuffer stages points of one series in parallel primitive arrays, i.e. a
+ * {@code long[]} of time and an array of value in the type of series, so that points arriving out
+ * of order can be sorted before they are encoded.<br>
+ * {@code sortAndDeduplicate()} sorts staged points by time stably and removes points with
+ * duplicated time, keeping the last written one. Arrays are allocated once in constructor and no
+ * object is created for sorting.
+ *
+ * @author kangrong
+ *
+ */
+public class TimeValueSortBuffer {
+    private final TSDataType dataType;
+    private long[] times;
+    private int[] intValues;
+    private long[] longValues;
+    private boolean[] booleanValues;
+    private float[] floatValues;
+    private double[] doubleValues;
+    private Object[] objectValues;
+    /**
+     * arrays which sorted points are copied into, swapped with the staging arrays after sorting
+     */
+    private long[] sortedTimes;
+    private int[] sortedIntValues;
+    private long[] sortedLongValues;
+    private boolean[] sortedBooleanValues;
+    private float[] sortedFloatValues;
+    private double[] sortedDoubleValues;
+    private Object[] sortedObjectValues;
+    /**
+     * index of staged points ordered by time
+     */
+    private final int[] order;
+    private int size;
+    /**
+     * memory size of all arrays allocated in constructor
+     */
+    private final long memSize;
+
+    public TimeValueSortBuffer(TSDataType dataType, int capacity) {
+        this.dataType = dataType;
+        this.times = new long[capacity];
+        this.sortedTimes = new long[capacity];
+        this.order = new int[capacity];
+        // bytes of a value, or of the reference to an object
+        int valueSize;
+        switch (dataType) {
+            case INT32:
+            case ENUMS:
+                intValues = new int[capacity];
+                sortedIntValues = new int[capacity];
+                valueSize = 4;
+                break;
+            case INT64:
+                longValues = new long[capacity];
+                sortedLongValues = new long[capacity];
+                valueSize = 8;
+                break;
+            case BOOLEAN:
+                booleanValues = new boolean[capacity];
+                sortedBooleanValues = new boolean[capacity];
+                valueSize = 1;
+                break;
+            case FLOAT:
+                floatValues = new float[capacity];
+                sortedFloatValues = new float[capacity];
+                valueSize = 4;
+                break;
+            case DOUBLE:
+                doubleValues = new double[capacity];
+                sortedDoubleValues = new double[capacity];
+                valueSize = 8;
+                break;
+            default:
+                objectValues = new Object[capacity];
+                sortedObjectValues = new Object[capacity];
+                valueSize = 8;
+        }
+        // two arrays of time, the order and two arrays of value
+        this.memSize = (long) capacity * (8 * 2 + 4 + valueSize * 2);
+    }
+
+    public void put(long time, int value) {
+        times[size] = time;
+        intValues[size++] = value;
+    }
+
+    public void put(long time, long value) {
+        times[size] = time;
+        longValues[size++] = value;
+    }
+
+    public void put(long time, boolean value) {
+        times[size] = time;
+        booleanValues[size++] = value;
+    }
+
+    public void put(long time, float value) {
+        times[size] = time;
+        floatValues[size++] = value;
+    }
+
+    public void put(long time, double value) {
+        times[size] = time;
+        doubleValues[size++] = value;
+    }
+
+    public void put(long time, Binary value) {
+        times[size] = time;
+        objectValues[size++] = value;
+    }
+
+    public void put(long time, BigDecimal value) {
+        times[size] = time;
+        objectValues[size++] = value;
+    }
+
+    public long getTime(int index) {
+        return times[index];
+    }
+
+    public int getInt(int index) {
+        return intValues[index];
+    }
+
+    public long getLong(int index) {
+        return longValues[index];
+    }
+
+    public boolean getBoolean(int index) {
+        return booleanValues[index];
+    }
+
+    public float getFloat(int index) {
+        return floatValues[index];
+    }
+
+    public double getDouble(int index) {
+        return doubleValues[index];
+    }
+
+    public Binary getBinary(int index) {
+        return (Binary) objectValues[index];
+    }
+
+    public BigDecimal getBigDecimal(int index) {
+        return (BigDecimal) objectValues[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isFull() {
+        return size == times.length;
+    }
+
+    /**
+     * sort staged points by time. Points with the same time keep their written order, and only the
+     * last one of them is kept.
+     */
+    public void sortAndDeduplicate() {
+        // insertion sort on index is cheap for points which are almost in order
+        for (int i = 0; i < size; i++) {
+            int j = i;
+            long t = times[i];
+            while (j > 0 && times[order[j - 1]] > t) {
+                order[j] = order[j - 1];
+                j--;
+            }
+            order[j] = i;
+        }
+        int newSize = 0;
+        for (int i = 0; i < size; i++) {
+            int index = order[i];
+            if (i + 1 < size && times[order[i + 1]] == times[index])
+                continue;
+            copyToSorted(index, newSize++);
+        }
+        swap();
+        // release references left in the array swapped out
+        if (sortedObjectValues != null)
+            Arrays.fill(sortedObjectValues, 0, size, null);
+        size = newSize;
+    }
+
+    /**
+     * remove the first {@code count} points, remaining points are moved to the head
+     *
+     * @param count - number of points to remove
+     */
+    public void removeFirst(int count) {
+        int remaining = size - count;
+        System.arraycopy(times, count, times, 0, remaining);
+        switch (dataType) {
+            case INT32:
+            case ENUMS:
+                System.arraycopy(intValues, count, intValues, 0, remaining);
+                break;
+            case INT64:
+                System.arraycopy(longValues, count, longValues, 0, remaining);
+                break;
+            case BOOLEAN:
+                System.arraycopy(booleanValues, count, booleanValues, 0, remaining);
+                break;
+            case FLOAT:
+                System.arraycopy(floatValues, count, floatValues, 0, remaining);
+                break;
+            case DOUBLE:
+                System.arraycopy(doubleValues, count, doubleValues, 0, remaining);
+                break;
+            default:
+                System.arraycopy(objectValues, count, objectValues, 0, remaining);
+                Arrays.fill(objectValues, remaining, size, null);
+        }
+        size = remaining;
+    }
+
+    /**
+     * @return - memory size of arrays allocated for staging and sorting, which doesn't change with
+     *         the number of staged points
+     */
+    public long estimateMemSize() {
+        return memSize;
+    }
+
+    private void copyToSorted(int from, int to) {
+        sortedTimes[to] = times[from];
+        switch (dataType) {
+            case INT32:
+            case ENUMS:
+                sortedIntValues[to] = intValues[from];
+                break;
+            case INT64:
+                sortedLongValues[to] = longValues[from];
+                break;
+            case BOOLEAN:
+                sortedBooleanValues[to] = booleanValues[from];
+                break;
+            case FLOAT:
+                sortedFloatValues[to] = floatValues[from];
+                break;
+            case DOUBLE:
+                sortedDoubleValues[to] = doubleValues[from];
+                break;
+            default:
+                sortedObjectValues[to] = objectValues[from];
+        }
+    }
+
+    private void swap() {
+        long[] tmpTimes = times;
+        times = sortedTimes;
+        sortedTimes = tmpTimes;
+        int[] tmpInts = intValues;
+        intValues = sortedIntValues;
+        sortedIntValues = tmpInts;
+        long[] tmpLongs = longValues;
+        longValues = sortedLongValues;
+        sortedLongValues = tmpLongs;
+        boolean[] tmpBooleans = booleanValues;
+        booleanValues = sortedBooleanValues;
+        sortedBooleanValues = tmpBooleans;
+        float[] tmpFloats = floatValues;
+        floatValues = sortedFloatValues;
+        sortedFloatValues = tmpFloats;
+        double[] tmpDoubles = doubleValues;
+        doubleValues = sortedDoubleValues;
+        sortedDoubleValues = tmpDoubles;
+        Object[] tmpObjects = objectValues;
+        objectValues = sortedObjectValues;
+        sortedObjectValues = tmpObjects;
+    }
+}
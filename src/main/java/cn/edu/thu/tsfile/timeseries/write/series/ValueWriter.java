@@ -122,4 +122,8 @@ public class ValueWriter {
         this.valueEncoder = encoder;
     }
 
+    public Encoder getValueEncoder() {
+        return valueEncoder;
+    }
+
 }
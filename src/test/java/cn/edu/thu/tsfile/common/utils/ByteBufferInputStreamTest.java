@@ -0,0 +1,138 @@
+package cn.edu.thu.tsfile.common.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.encoding.common.EndianType;
+import cn.edu.thu.tsfile.encoding.decoder.Decoder;
+import cn.edu.thu.tsfile.encoding.decoder.DeltaBinaryDecoder;
+import cn.edu.thu.tsfile.encoding.decoder.IntRleDecoder;
+import cn.edu.thu.tsfile.encoding.decoder.PlainDecoder;
+import cn.edu.thu.tsfile.encoding.encoder.DeltaBinaryEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.Encoder;
+import cn.edu.thu.tsfile.encoding.encoder.IntRleEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.PlainEncoder;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+
+/**
+ * test that values are read from heap and direct buffers the same as from byte array.
+ *
+ * @author kangrong
+ *
+ */
+public class ByteBufferInputStreamTest {
+    private static final int VALUE_COUNT = 10000;
+    private final String path = "src/test/resources/byteBufferInputStreamTest.bin";
+
+    @After
+    public void after() {
+        new File(path).delete();
+    }
+
+    private ByteBuffer toDirectBuffer(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 3);
+        buffer.position(3);
+        buffer.put(bytes);
+        buffer.position(3);
+        return buffer;
+    }
+
+    @Test
+    public void testReadAndSlice() throws IOException {
+        byte[] bytes = new byte[100];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 3);
+        }
+        ByteBufferInputStream in = new ByteBufferInputStream(toDirectBuffer(bytes));
+        assertEquals(100, in.available());
+        assertEquals(0, in.read());
+        ByteBufferInputStream sliced = in.slice(10);
+        assertEquals(89, in.available());
+        assertEquals(10, sliced.available());
+        byte[] buf = new byte[20];
+        assertEquals(10, sliced.read(buf, 0, 20));
+        assertEquals(-1, sliced.read());
+        assertEquals(-1, sliced.read(buf, 0, 20));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(bytes[i + 1], buf[i]);
+        }
+        in.mark(0);
+        assertEquals(5, in.skip(5));
+        assertEquals(bytes[16] & 0xFF, in.read());
+        in.reset();
+        assertEquals(bytes[11] & 0xFF, in.read());
+    }
+
+    @Test
+    public void testBytesUtils() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(BytesUtils.intToBytes(-123456));
+        out.write(BytesUtils.longToBytes(1234567890123L));
+        out.write(BytesUtils.doubleToBytes(3.25));
+        out.write(BytesUtils.floatToBytes(-1.5f));
+        ByteBufferInputStream in = new ByteBufferInputStream(toDirectBuffer(out.toByteArray()));
+        assertEquals(-123456, BytesUtils.readInt(in));
+        assertEquals(1234567890123L, BytesUtils.readLong(in));
+        assertEquals(3.25, BytesUtils.readDouble(in), 0);
+        assertEquals(-1.5f, BytesUtils.readFloat(in), 0);
+        assertEquals(0, in.available());
+    }
+
+    @Test
+    public void testDecoders() throws IOException {
+        int[] values = new int[VALUE_COUNT];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            values[i] = (i / 20) % 2 == 0 ? i * 13 : -i / 20;
+        }
+        Encoder[] encoders = {new PlainEncoder(EndianType.LITTLE_ENDIAN, TSDataType.INT32, 0),
+                new IntRleEncoder(EndianType.LITTLE_ENDIAN), new DeltaBinaryEncoder.IntDeltaEncoder()};
+        Decoder[] decoders = {new PlainDecoder(EndianType.LITTLE_ENDIAN),
+                new IntRleDecoder(EndianType.LITTLE_ENDIAN), new DeltaBinaryDecoder.IntDeltaDecoder()};
+        for (int k = 0; k < encoders.length; k++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (int i = 0; i < VALUE_COUNT; i++) {
+                encoders[k].encode(values[i], out);
+            }
+            encoders[k].flush(out);
+            ByteBufferInputStream in = new ByteBufferInputStream(toDirectBuffer(out.toByteArray()));
+            int[] res = new int[VALUE_COUNT];
+            for (int i = 0; i < 10; i++) {
+                res[i] = decoders[k].readInt(in);
+            }
+            assertEquals(VALUE_COUNT - 10, decoders[k].readInts(in, res, 10, VALUE_COUNT));
+            assertArrayEquals(values, res);
+            assertEquals(0, in.available());
+        }
+    }
+
+    @Test
+    public void testReadBufferFromFile() throws IOException {
+        byte[] bytes = new byte[1 << 18];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 7);
+        }
+        FileOutputStream out = new FileOutputStream(path);
+        out.write(bytes);
+        out.close();
+        LocalFileInput input = new LocalFileInput(path);
+        // the large range is mapped and the small one is copied
+        for (int length : new int[] {1 << 17, 100}) {
+            ByteBuffer buffer = input.readBuffer(1000, length);
+            assertEquals(length, buffer.remaining());
+            for (int i = 0; i < length; i++) {
+                assertEquals(bytes[1000 + i], buffer.get(i));
+            }
+        }
+        input.close();
+    }
+}
@@ -0,0 +1,145 @@
+package cn.edu.thu.tsfile.common.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.utils.FileChannelOutputStream.ForcePolicy;
+import cn.edu.thu.tsfile.common.utils.bytesinput.BytesInput.PublicBAOS;
+import cn.edu.thu.tsfile.common.utils.bytesinput.ListBytesInput;
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.FloatDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.LongDataPoint;
+
+public class FileChannelOutputStreamTest {
+  private static final String fileName = "testFileChannelOutputStream";
+  private static final String compareFileName = "testFileChannelOutputStreamCompare";
+
+  @After
+  public void after() {
+    new File(fileName).delete();
+    new File(compareFileName).delete();
+  }
+
+  @Test
+  public void testWriteAndPosition() throws IOException {
+    File file = new File(fileName);
+    file.delete();
+    FileChannelOutputStream out = new FileChannelOutputStream(file, 1, ForcePolicy.ON_FLUSH);
+    byte[] expected = new byte[10000];
+    for (int i = 0; i < expected.length; i++)
+      expected[i] = (byte) (i * 7);
+    int pos = 0;
+    // single bytes, small arrays and arrays larger than the buffer
+    for (; pos < 100; pos++)
+      out.write(expected[pos]);
+    out.write(expected, pos, 3000);
+    pos += 3000;
+    assertEquals(pos, out.getPos());
+    out.write(expected, pos, 5000);
+    pos += 5000;
+    assertEquals(pos, out.getPos());
+    out.flush();
+    // gathering write of slabs
+    PublicBAOS slab1 = new PublicBAOS();
+    slab1.write(expected, pos, 400);
+    PublicBAOS slab2 = new PublicBAOS();
+    slab2.write(expected, pos + 400, expected.length - pos - 400);
+    new ListBytesInput(slab1, slab2).writeAllTo(out.getOutputStream());
+    assertEquals(expected.length, out.getPos());
+    // overwrite the head
+    out.seek(2);
+    out.write(new byte[] {1, 2, 3});
+    assertEquals(5, out.getPos());
+    expected[2] = 1;
+    expected[3] = 2;
+    expected[4] = 3;
+    out.close();
+
+    assertArrayEquals(expected, Files.readAllBytes(file.toPath()));
+  }
+
+  @Test
+  public void testTruncateAndAppend() throws IOException {
+    File file = new File(fileName);
+    FileChannelOutputStream out = new FileChannelOutputStream(file);
+    out.write(new byte[10000]);
+    out.close();
+    // stale bytes of a longer file don't remain
+    out = new FileChannelOutputStream(file);
+    assertEquals(0, out.getPos());
+    out.write(new byte[] {1, 2, 3});
+    out.close();
+    assertArrayEquals(new byte[] {1, 2, 3}, Files.readAllBytes(file.toPath()));
+    // appending keeps the content and writes from the end
+    out = new FileChannelOutputStream(file, true);
+    assertEquals(3, out.getPos());
+    out.write(new byte[] {4, 5});
+    out.close();
+    assertArrayEquals(new byte[] {1, 2, 3, 4, 5}, Files.readAllBytes(file.toPath()));
+  }
+
+  @Test
+  public void testPrimitives() throws IOException {
+    File file = new File(fileName);
+    file.delete();
+    FileChannelOutputStream out = new FileChannelOutputStream(file);
+    out.write(1);
+    out.write(BytesUtils.intToBytes(123123));
+    out.write(BytesUtils.longToBytes(134578845l));
+    out.write(BytesUtils.doubleToBytes(12123.158476d));
+    assertEquals(1 + 4 + 8 + 8, out.getPos());
+    out.close();
+    RandomAccessFile input = new RandomAccessFile(fileName, "r");
+    assertEquals(1, input.read());
+    assertEquals(123123, input.readInt());
+    assertEquals(134578845l, input.readLong());
+    assertEquals(12123.158476d, input.readDouble(), CommonTestConstant.double_min_delta);
+    input.close();
+  }
+
+  @Test
+  public void testSameTsFile() throws IOException, WriteProcessException {
+    TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    int preRowGroupSize = conf.rowGroupSize;
+    int prePageSize = conf.pageSize;
+    String schema = "{\"schema\":["
+        + "{\"measurement_id\":\"s0\",\"data_type\":\"INT64\",\"encoding\":\"TS_2DIFF\"},"
+        + "{\"measurement_id\":\"s1\",\"data_type\":\"FLOAT\",\"encoding\":\"RLE\"}],"
+        + "\"delta_type\":\"test_type\",\"row_group_size\":65536,\"page_size\":4096}";
+    try {
+      writeTsFile(new FileChannelOutputStream(new File(fileName), 8192, ForcePolicy.ON_CLOSE),
+          schema);
+      writeTsFile(new RandomAccessOutputStream(new File(compareFileName)), schema);
+    } finally {
+      conf.rowGroupSize = preRowGroupSize;
+      conf.pageSize = prePageSize;
+    }
+    assertArrayEquals(Files.readAllBytes(new File(compareFileName).toPath()),
+        Files.readAllBytes(new File(fileName).toPath()));
+  }
+
+  private void writeTsFile(TSRandomAccessFileWriter out, String schema)
+      throws IOException, WriteProcessException {
+    TsFile tsFile = new TsFile(out, new JSONObject(schema));
+    for (int i = 0; i < 30000; i++) {
+      TSRecord record = new TSRecord(i, "d" + i % 3);
+      record.addTuple(new LongDataPoint("s0", i * 13L));
+      record.addTuple(new FloatDataPoint("s1", i / 3.0f));
+      tsFile.writeLine(record);
+    }
+    tsFile.close();
+  }
+}
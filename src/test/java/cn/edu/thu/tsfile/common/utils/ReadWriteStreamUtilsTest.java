@@ -139,4 +139,20 @@ public class ReadWriteStreamUtilsTest {
     }
   }
 
+  @Test
+  public void testReadVarLong() throws IOException {
+    long[] values = {0, 1, -1, 63, -64, 64, 1L << 40, -(1L << 40), Long.MAX_VALUE, Long.MIN_VALUE};
+    for (long value : values) {
+      long zigzag = ReadWriteStreamUtils.zigzagEncode(value);
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      ReadWriteStreamUtils.writeUnsignedVarLong(zigzag, baos);
+      assertEquals(ReadWriteStreamUtils.getUnsignedVarLongSize(zigzag), baos.size());
+      ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+      assertEquals(value, ReadWriteStreamUtils.zigzagDecode(ReadWriteStreamUtils.readUnsignedVarLong(bais)));
+    }
+    // values of small magnitude take one byte whatever the sign is
+    assertEquals(1, ReadWriteStreamUtils.getUnsignedVarLongSize(ReadWriteStreamUtils.zigzagEncode(-64)));
+    assertEquals(10, ReadWriteStreamUtils.getUnsignedVarLongSize(-1L));
+  }
+
 }
@@ -1,5 +1,6 @@
 package cn.edu.thu.tsfile.encoding.bitPacking;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
@@ -44,4 +45,33 @@ public class IntPackerTest {
 			assertEquals(res[i], v);
 		}
 	}
+
+	@Test
+	public void testAllWidths() {
+		Random rand = new Random(1);
+		// 13 groups of 8 values, so that values are unpacked 32 by 32 then 8 by 8
+		int count = 13 * 8;
+		for (int width = 1; width <= 32; width++) {
+			IntPacker packer = new IntPacker(width);
+			int[] values = new int[count];
+			for (int i = 0; i < count; i++) {
+				values[i] = (int) (rand.nextInt() & ((1L << width) - 1));
+			}
+			// pack into the middle of a buffer to check offsets
+			byte[] buf = new byte[count / 8 * width + 6];
+			for (int i = 0; i < count; i += 8) {
+				packer.pack8Values(values, i, buf, 3 + i / 8 * width);
+			}
+			int[] res = new int[count];
+			packer.unpackAllValues(buf, 3, count / 8 * width, res);
+			assertArrayEquals(values, res);
+			int[] group = new int[8];
+			for (int i = 0; i < count; i += 8) {
+				packer.unpack8Values(buf, 3 + i / 8 * width, group);
+				for (int j = 0; j < 8; j++) {
+					assertEquals(values[i + j], group[j]);
+				}
+			}
+		}
+	}
 }
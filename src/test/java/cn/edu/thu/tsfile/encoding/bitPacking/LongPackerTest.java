@@ -95,4 +95,33 @@ public class LongPackerTest {
 			assertEquals(readArray[i], v);
 		}
 	}
+
+	@Test
+	public void testAllWidths() {
+		Random rand = new Random(1);
+		// 13 groups of 8 values, so that values are unpacked 32 by 32 then 8 by 8
+		int count = 13 * 8;
+		for (int width = 1; width <= 64; width++) {
+			LongPacker packer = new LongPacker(width);
+			long[] values = new long[count];
+			for (int i = 0; i < count; i++) {
+				values[i] = width == 64 ? rand.nextLong() : rand.nextLong() & ((1L << width) - 1);
+			}
+			// pack into the middle of a buffer to check offsets
+			byte[] buf = new byte[count / 8 * width + 6];
+			for (int i = 0; i < count; i += 8) {
+				packer.pack8Values(values, i, buf, 3 + i / 8 * width);
+			}
+			long[] res = new long[count];
+			packer.unpackAllValues(buf, 3, count / 8 * width, res);
+			assertArrayEquals(values, res);
+			long[] group = new long[8];
+			for (int i = 0; i < count; i += 8) {
+				packer.unpack8Values(buf, 3 + i / 8 * width, group);
+				for (int j = 0; j < 8; j++) {
+					assertEquals(values[i + j], group[j]);
+				}
+			}
+		}
+	}
 }
@@ -0,0 +1,192 @@
+package cn.edu.thu.tsfile.encoding.bitPacking;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates {@code UnrolledIntPacker} and {@code UnrolledLongPacker}, which have a method
+ * unrolled for each bit-width to pack 8 values and unpack 32 values, with all shifts and masks
+ * being constants. Run it from the root of project after changing the layout of packed bits:
+ *
+ * <pre>
+ * java -cp target/test-classes cn.edu.thu.tsfile.encoding.bitPacking.PackerGenerator
+ * </pre>
+ *
+ * @author kangrong
+ *
+ */
+public class PackerGenerator {
+    private static final String DIR = "src/main/java/cn/edu/thu/tsfile/encoding/bitPacking/";
+
+    public static void main(String[] args) throws IOException {
+        generate("Int", "int", 32);
+        generate("Long", "long", 64);
+    }
+
+    private static void generate(String name, String type, int maxWidth) throws IOException {
+        String className = "Unrolled" + name + "Packer";
+        PrintWriter out = new PrintWriter(new FileWriter(DIR + className + ".java"));
+        out.println("package cn.edu.thu.tsfile.encoding.bitPacking;");
+        out.println();
+        out.println("/**");
+        out.println(" * Packs and unpacks " + type + " values in the same layout as {@link " + name
+                + "Packer}, with a method");
+        out.println(" * unrolled for each bit-width, which is chosen by a switch on the width.");
+        out.println(" * <p>");
+        out.println(" * This file is generated by {@code PackerGenerator} in test, don't edit it by hand.");
+        out.println(" *");
+        out.println(" * @author kangrong");
+        out.println(" */");
+        out.println("final class " + className + " {");
+        out.println();
+        out.println("    private " + className + "() {");
+        out.println("    }");
+        out.println();
+        out.println("    /**");
+        out.println("     * pack 8 values into width bytes of buf starting from bufOffset");
+        out.println("     */");
+        out.println("    static void pack8Values(int width, " + type
+                + "[] values, int offset, byte[] buf, int bufOffset) {");
+        out.println("        switch (width) {");
+        out.println("            case 0:");
+        out.println("                return;");
+        for (int width = 1; width <= maxWidth; width++) {
+            out.println("            case " + width + ":");
+            out.println("                pack8Values" + width + "(values, offset, buf, bufOffset);");
+            out.println("                return;");
+        }
+        out.println("            default:");
+        out.println("                throw new IllegalArgumentException(\"bit-width \" + width + \" is not supported\");");
+        out.println("        }");
+        out.println("    }");
+        out.println();
+        out.println("    /**");
+        out.println("     * unpack 32 values from 4 * width bytes of buf starting from offset");
+        out.println("     */");
+        out.println("    static void unpack32Values(int width, byte[] buf, int offset, " + type
+                + "[] values, int valuesOffset) {");
+        out.println("        switch (width) {");
+        out.println("            case 0:");
+        out.println("                java.util.Arrays.fill(values, valuesOffset, valuesOffset + 32, 0);");
+        out.println("                return;");
+        for (int width = 1; width <= maxWidth; width++) {
+            out.println("            case " + width + ":");
+            out.println("                unpack32Values" + width + "(buf, offset, values, valuesOffset);");
+            out.println("                return;");
+        }
+        out.println("            default:");
+        out.println("                throw new IllegalArgumentException(\"bit-width \" + width + \" is not supported\");");
+        out.println("        }");
+        out.println("    }");
+        for (int width = 1; width <= maxWidth; width++) {
+            generatePack(out, type, maxWidth, width);
+        }
+        for (int width = 1; width <= maxWidth; width++) {
+            generateUnpack(out, type, maxWidth, width);
+        }
+        out.println("}");
+        out.close();
+    }
+
+    private static String mask(String type, int width) {
+        if (type.equals("int")) {
+            return String.format("0x%X", (1L << width) - 1);
+        }
+        return String.format("0x%XL", width == 64 ? -1L : (1L << width) - 1);
+    }
+
+    private static String index(String array, String offset, int i) {
+        return i == 0 ? array + "[" + offset + "]" : array + "[" + offset + " + " + i + "]";
+    }
+
+    private static String or(List<String> terms) {
+        if (terms.size() == 1) {
+            return terms.get(0);
+        }
+        StringBuilder expression = new StringBuilder();
+        for (String term : terms) {
+            if (expression.length() > 0) {
+                expression.append(" | ");
+            }
+            expression.append("(").append(term).append(")");
+        }
+        return expression.toString();
+    }
+
+    private static String shift(String operand, int left) {
+        if (left > 0) {
+            return operand + " << " + left;
+        } else if (left < 0) {
+            return operand + " >>> " + (-left);
+        }
+        return operand;
+    }
+
+    /**
+     * each byte is the OR of bits of values overlapping it, i.e. bits [8k, 8k + 8) of the 8
+     * values concatenated
+     */
+    private static void generatePack(PrintWriter out, String type, int maxWidth, int width) {
+        out.println();
+        out.println("    private static void pack8Values" + width + "(" + type
+                + "[] values, int offset, byte[] buf, int bufOffset) {");
+        for (int i = 0; i < 8; i++) {
+            if (width == maxWidth) {
+                out.println("        " + type + " v" + i + " = " + index("values", "offset", i) + ";");
+            } else {
+                out.println("        " + type + " v" + i + " = " + index("values", "offset", i) + " & " + mask(type, width)
+                        + ";");
+            }
+        }
+        for (int k = 0; k < width; k++) {
+            List<String> terms = new ArrayList<String>();
+            for (int i = 0; i < 8; i++) {
+                int start = Math.max(i * width, 8 * k);
+                int end = Math.min(i * width + width, 8 * k + 8);
+                if (start >= end) {
+                    continue;
+                }
+                // move the last overlapping bit of value to its position in byte
+                int left = (8 * k + 8 - end) - (i * width + width - end);
+                terms.add(shift("v" + i, left));
+            }
+            out.println("        " + index("buf", "bufOffset", k) + " = (byte) (" + or(terms) + ");");
+        }
+        out.println("    }");
+    }
+
+    /**
+     * 32 values take width words of 32 bits, each value is the OR of words overlapping it
+     */
+    private static void generateUnpack(PrintWriter out, String type, int maxWidth, int width) {
+        out.println();
+        out.println("    private static void unpack32Values" + width + "(byte[] buf, int offset, " + type
+                + "[] values, int valuesOffset) {");
+        String firstByteMask = type.equals("int") ? "0xFF" : "0xFFL";
+        for (int j = 0; j < width; j++) {
+            out.println("        " + type + " w" + j + " = (" + index("buf", "offset", 4 * j) + " & " + firstByteMask
+                    + ") << 24 | (" + index("buf", "offset", 4 * j + 1) + " & 0xFF) << 16 | ("
+                    + index("buf", "offset", 4 * j + 2) + " & 0xFF) << 8 | (" + index("buf", "offset", 4 * j + 3)
+                    + " & 0xFF);");
+        }
+        for (int i = 0; i < 32; i++) {
+            int start = i * width;
+            int end = start + width;
+            List<String> terms = new ArrayList<String>();
+            for (int j = start / 32; j * 32 < end; j++) {
+                // move the last bit of word to its position in value
+                terms.add(shift("w" + j, end - 32 * (j + 1)));
+            }
+            String value = or(terms);
+            // bits of former values are left in the first word unless the value starts at it
+            if (start % 32 != 0) {
+                value = "(" + value + ") & " + mask(type, width);
+            }
+            out.println("        " + index("values", "valuesOffset", i) + " = " + value + ";");
+        }
+        out.println("    }");
+    }
+}
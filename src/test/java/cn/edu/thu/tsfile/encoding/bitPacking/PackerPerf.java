@@ -0,0 +1,62 @@
+package cn.edu.thu.tsfile.encoding.bitPacking;
+
+import java.util.Random;
+
+/**
+ * Prints the throughput of packing and unpacking for each bit-width in million values per
+ * second, the best of several rounds after warming up.
+ *
+ * @author kangrong
+ *
+ */
+public class PackerPerf {
+    private static final int VALUE_COUNT = 1 << 16;
+    private static final int ROUND = 200;
+
+    public static void main(String[] args) {
+        Random rand = new Random(1);
+        System.out.println("width  packInt unpackInt  packLong unpackLong");
+        for (int width = 1; width <= 64; width++) {
+            long[] longValues = new long[VALUE_COUNT];
+            int[] intValues = new int[VALUE_COUNT];
+            for (int i = 0; i < VALUE_COUNT; i++) {
+                longValues[i] = width == 64 ? rand.nextLong() : rand.nextLong() & ((1L << width) - 1);
+                intValues[i] = (int) longValues[i];
+            }
+            byte[] buf = new byte[VALUE_COUNT / 8 * width];
+            long packInt = Long.MAX_VALUE;
+            long unpackInt = Long.MAX_VALUE;
+            long packLong = Long.MAX_VALUE;
+            long unpackLong = Long.MAX_VALUE;
+            IntPacker intPacker = new IntPacker(Math.min(width, 32));
+            LongPacker longPacker = new LongPacker(width);
+            for (int round = 0; round < ROUND; round++) {
+                if (width <= 32) {
+                    long start = System.nanoTime();
+                    for (int i = 0; i < VALUE_COUNT; i += 8) {
+                        intPacker.pack8Values(intValues, i, buf, i / 8 * width);
+                    }
+                    packInt = Math.min(packInt, System.nanoTime() - start);
+                    start = System.nanoTime();
+                    intPacker.unpackAllValues(buf, 0, buf.length, intValues);
+                    unpackInt = Math.min(unpackInt, System.nanoTime() - start);
+                }
+                long start = System.nanoTime();
+                for (int i = 0; i < VALUE_COUNT; i += 8) {
+                    longPacker.pack8Values(longValues, i, buf, i / 8 * width);
+                }
+                packLong = Math.min(packLong, System.nanoTime() - start);
+                start = System.nanoTime();
+                longPacker.unpackAllValues(buf, 0, buf.length, longValues);
+                unpackLong = Math.min(unpackLong, System.nanoTime() - start);
+            }
+            if (width <= 32) {
+                System.out.println(String.format("%5d %8.0f %9.0f %9.0f %10.0f", width, VALUE_COUNT * 1e3 / packInt,
+                        VALUE_COUNT * 1e3 / unpackInt, VALUE_COUNT * 1e3 / packLong, VALUE_COUNT * 1e3 / unpackLong));
+            } else {
+                System.out.println(String.format("%5d %8s %9s %9.0f %10.0f", width, "-", "-",
+                        VALUE_COUNT * 1e3 / packLong, VALUE_COUNT * 1e3 / unpackLong));
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.encoding.encoder.AlpEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.Encoder;
+import cn.edu.thu.tsfile.encoding.encoder.FloatEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.GorillaEncoder;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * test that values encoded by AlpEncoder are decoded without precision loss, and that decimals
+ * take about as many bytes as scaled integers with the right max point number.
+ *
+ * @author kangrong
+ *
+ */
+public class AlpDecoderTest {
+  private static final int ROW_COUNT = 10000;
+  private static final int[] BLOCKS = {1, 2, 1023, 1024, 1025, ROW_COUNT - 3075};
+
+  /**
+   * readings with two decimals, mixed with special values and values of many digits
+   */
+  private double[] getDoubleValues() {
+    Random random = new Random(1);
+    double[] values = new double[ROW_COUNT];
+    long hundredths = 2200000;
+    for (int i = 0; i < ROW_COUNT; i++) {
+      hundredths += random.nextInt(21) - 10;
+      values[i] = hundredths / 100.0;
+    }
+    values[100] = Double.NaN;
+    values[101] = Double.POSITIVE_INFINITY;
+    values[102] = -0.0;
+    values[103] = Double.MAX_VALUE;
+    values[104] = Double.MIN_VALUE;
+    values[105] = Math.PI;
+    values[106] = -1e-300;
+    values[107] = 0.1 + 0.2;
+    // a block of values without decimals
+    for (int i = 5000; i < 6100; i++)
+      values[i] = i * 3;
+    return values;
+  }
+
+  private byte[] encode(Encoder encoder, double[] values, boolean isFloat) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int index = 0;
+    for (int block : BLOCKS) {
+      for (int i = 0; i < block; i++) {
+        if (isFloat)
+          encoder.encode((float) values[index++], out);
+        else
+          encoder.encode(values[index++], out);
+      }
+      encoder.flush(out);
+    }
+    return out.toByteArray();
+  }
+
+  @Test
+  public void testDouble() throws IOException {
+    double[] values = getDoubleValues();
+    byte[] bytes = encode(new AlpEncoder(TSDataType.DOUBLE), values, false);
+
+    Decoder decoder = new AlpDecoder(TSDataType.DOUBLE);
+    ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+    for (int i = 0; i < ROW_COUNT; i++) {
+      assertTrue(decoder.hasNext(in));
+      assertEquals(Double.doubleToRawLongBits(values[i]),
+          Double.doubleToRawLongBits(decoder.readDouble(in)));
+    }
+    assertFalse(decoder.hasNext(in));
+
+    for (int batchSize : new int[] {1, 100, ROW_COUNT}) {
+      decoder = new AlpDecoder(TSDataType.DOUBLE);
+      in = new ByteArrayInputStream(bytes);
+      double[] decoded = new double[ROW_COUNT];
+      int size = 0;
+      int count;
+      while ((count = decoder.readDoubles(in, decoded, size, Math.min(batchSize, ROW_COUNT - size))) > 0)
+        size += count;
+      assertEquals(ROW_COUNT, size);
+      for (int i = 0; i < ROW_COUNT; i++)
+        assertEquals(Double.doubleToRawLongBits(values[i]), Double.doubleToRawLongBits(decoded[i]));
+    }
+  }
+
+  @Test
+  public void testFloat() throws IOException {
+    double[] values = getDoubleValues();
+    values[200] = Float.MAX_VALUE;
+    values[201] = Float.MIN_VALUE;
+    values[202] = 1.1f;
+    byte[] bytes = encode(new AlpEncoder(TSDataType.FLOAT), values, true);
+
+    Decoder decoder = new AlpDecoder(TSDataType.FLOAT);
+    ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+    for (int i = 0; i < ROW_COUNT; i++) {
+      assertEquals(Float.floatToRawIntBits((float) values[i]),
+          Float.floatToRawIntBits(decoder.readFloat(in)));
+    }
+    assertFalse(decoder.hasNext(in));
+
+    decoder = new AlpDecoder(TSDataType.FLOAT);
+    in = new ByteArrayInputStream(bytes);
+    float[] decoded = new float[ROW_COUNT];
+    assertEquals(ROW_COUNT, decoder.readFloats(in, decoded, 0, ROW_COUNT));
+    for (int i = 0; i < ROW_COUNT; i++)
+      assertEquals(Float.floatToRawIntBits((float) values[i]), Float.floatToRawIntBits(decoded[i]));
+  }
+
+  @Test
+  public void testSize() throws IOException {
+    Random random = new Random(2);
+    double[] values = new double[ROW_COUNT];
+    long hundredths = 2200000;
+    for (int i = 0; i < ROW_COUNT; i++) {
+      hundredths += random.nextInt(21) - 10;
+      values[i] = hundredths / 100.0;
+    }
+    int alpSize = encode(new AlpEncoder(TSDataType.DOUBLE), values, false).length;
+    int scaledSize =
+        encode(new FloatEncoder(TSEncoding.TS_2DIFF, TSDataType.DOUBLE, 2), values, false).length;
+    int gorillaSize = encode(new GorillaEncoder(TSDataType.DOUBLE), values, false).length;
+    // the exponent of 2 is detected, and only headers of blocks take more bytes
+    assertTrue(alpSize < scaledSize + 100);
+    assertTrue(alpSize * 4 < gorillaSize);
+
+    // the estimated size is not less than the encoded size
+    values = getDoubleValues();
+    Encoder encoder = new AlpEncoder(TSDataType.DOUBLE);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (int i = 0; i < 1000; i++)
+      encoder.encode(values[i], out);
+    long maxSize = encoder.getMaxByteSize();
+    encoder.flush(out);
+    assertTrue(out.size() <= maxSize);
+  }
+}
@@ -0,0 +1,263 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.encoding.common.EndianType;
+import cn.edu.thu.tsfile.encoding.encoder.DeltaBinaryEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.DictionaryEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.Encoder;
+import cn.edu.thu.tsfile.encoding.encoder.FloatEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.IntRleEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.LongRleEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.PlainEncoder;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * test that values read in batch by decoders are the same as values read one by one, with batch
+ * sizes crossing the boundaries of runs, packs and flushed blocks.
+ *
+ * @author kangrong
+ *
+ */
+public class DecoderBatchReadTest {
+    private static final int[] BATCH_SIZES = {1, 7, 100, 100000};
+    private static final int BLOCK_SIZE = 3000;
+    private static final int VALUE_COUNT = 10000;
+
+    /**
+     * runs of repeated values mixed with distinct values
+     */
+    private int[] getIntValues() {
+        int[] values = new int[VALUE_COUNT];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            values[i] = (i / 50) % 2 == 0 ? i * 7 - 1000 : i / 50;
+        }
+        return values;
+    }
+
+    private long[] getLongValues() {
+        int[] intValues = getIntValues();
+        long[] values = new long[VALUE_COUNT];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            values[i] = intValues[i] * 1000003L;
+        }
+        return values;
+    }
+
+    private ByteArrayInputStream encodeInts(Encoder encoder, int[] values) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < values.length; i++) {
+            encoder.encode(values[i], out);
+            if ((i + 1) % BLOCK_SIZE == 0) {
+                encoder.flush(out);
+            }
+        }
+        encoder.flush(out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    private ByteArrayInputStream encodeLongs(Encoder encoder, long[] values) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < values.length; i++) {
+            encoder.encode(values[i], out);
+            if ((i + 1) % BLOCK_SIZE == 0) {
+                encoder.flush(out);
+            }
+        }
+        encoder.flush(out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    private int[] readAllInts(Decoder decoder, ByteArrayInputStream in, int batchSize) throws IOException {
+        int[] values = new int[VALUE_COUNT + batchSize];
+        int size = 0;
+        int count;
+        while ((count = decoder.readInts(in, values, size, batchSize)) > 0) {
+            size += count;
+        }
+        assertEquals(0, decoder.readInts(in, values, size, batchSize));
+        return Arrays.copyOf(values, size);
+    }
+
+    private long[] readAllLongs(Decoder decoder, ByteArrayInputStream in, int batchSize) throws IOException {
+        long[] values = new long[VALUE_COUNT + batchSize];
+        int size = 0;
+        int count;
+        while ((count = decoder.readLongs(in, values, size, batchSize)) > 0) {
+            size += count;
+        }
+        assertEquals(0, decoder.readLongs(in, values, size, batchSize));
+        return Arrays.copyOf(values, size);
+    }
+
+    @Test
+    public void testRleReadInts() throws IOException {
+        int[] values = getIntValues();
+        for (int batchSize : BATCH_SIZES) {
+            ByteArrayInputStream in = encodeInts(new IntRleEncoder(EndianType.LITTLE_ENDIAN), values);
+            assertArrayEquals(values, readAllInts(new IntRleDecoder(EndianType.LITTLE_ENDIAN), in, batchSize));
+        }
+    }
+
+    @Test
+    public void testRleReadLongs() throws IOException {
+        long[] values = getLongValues();
+        for (int batchSize : BATCH_SIZES) {
+            ByteArrayInputStream in = encodeLongs(new LongRleEncoder(EndianType.LITTLE_ENDIAN), values);
+            assertArrayEquals(values, readAllLongs(new LongRleDecoder(EndianType.LITTLE_ENDIAN), in, batchSize));
+        }
+    }
+
+    @Test
+    public void testDeltaReadInts() throws IOException {
+        int[] values = getIntValues();
+        for (int batchSize : BATCH_SIZES) {
+            ByteArrayInputStream in = encodeInts(new DeltaBinaryEncoder.IntDeltaEncoder(), values);
+            assertArrayEquals(values, readAllInts(new DeltaBinaryDecoder.IntDeltaDecoder(), in, batchSize));
+        }
+    }
+
+    @Test
+    public void testDeltaReadLongs() throws IOException {
+        long[] values = getLongValues();
+        for (int batchSize : BATCH_SIZES) {
+            ByteArrayInputStream in = encodeLongs(new DeltaBinaryEncoder.LongDeltaEncoder(), values);
+            assertArrayEquals(values, readAllLongs(new DeltaBinaryDecoder.LongDeltaDecoder(), in, batchSize));
+        }
+    }
+
+    @Test
+    public void testPlainRead() throws IOException {
+        int[] intValues = getIntValues();
+        long[] longValues = getLongValues();
+        for (int batchSize : BATCH_SIZES) {
+            ByteArrayInputStream in = encodeInts(
+                    new PlainEncoder(EndianType.LITTLE_ENDIAN, TSDataType.INT32, 0), intValues);
+            assertArrayEquals(intValues, readAllInts(new PlainDecoder(EndianType.LITTLE_ENDIAN), in, batchSize));
+            in = encodeLongs(new PlainEncoder(EndianType.LITTLE_ENDIAN, TSDataType.INT64, 0), longValues);
+            assertArrayEquals(longValues, readAllLongs(new PlainDecoder(EndianType.LITTLE_ENDIAN), in, batchSize));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Encoder encoder = new PlainEncoder(EndianType.LITTLE_ENDIAN, TSDataType.DOUBLE, 0);
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            encoder.encode(longValues[i] / 3.0, out);
+        }
+        encoder.flush(out);
+        Decoder decoder = new PlainDecoder(EndianType.LITTLE_ENDIAN);
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        double[] doubles = new double[VALUE_COUNT];
+        assertEquals(7, decoder.readDoubles(in, doubles, 0, 7));
+        assertEquals(VALUE_COUNT - 7, decoder.readDoubles(in, doubles, 7, VALUE_COUNT));
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            assertEquals(longValues[i] / 3.0, doubles[i], 0);
+        }
+
+        out.reset();
+        encoder = new PlainEncoder(EndianType.LITTLE_ENDIAN, TSDataType.BOOLEAN, 0);
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            encoder.encode(intValues[i] % 3 == 0, out);
+        }
+        encoder.flush(out);
+        in = new ByteArrayInputStream(out.toByteArray());
+        boolean[] booleans = new boolean[VALUE_COUNT];
+        assertEquals(VALUE_COUNT, decoder.readBooleans(in, booleans, 0, VALUE_COUNT));
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            assertEquals(intValues[i] % 3 == 0, booleans[i]);
+        }
+    }
+
+    @Test
+    public void testFloatRead() throws IOException {
+        int[] intValues = getIntValues();
+        for (TSEncoding encoding : new TSEncoding[] {TSEncoding.RLE, TSEncoding.TS_2DIFF}) {
+            for (int batchSize : BATCH_SIZES) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                Encoder encoder = new FloatEncoder(encoding, TSDataType.FLOAT, 2);
+                Encoder doubleEncoder = new FloatEncoder(encoding, TSDataType.DOUBLE, 2);
+                for (int i = 0; i < VALUE_COUNT; i++) {
+                    encoder.encode(intValues[i] / 100.0f, out);
+                }
+                encoder.flush(out);
+                ByteArrayOutputStream doubleOut = new ByteArrayOutputStream();
+                for (int i = 0; i < VALUE_COUNT; i++) {
+                    doubleEncoder.encode(intValues[i] / 100.0, doubleOut);
+                }
+                doubleEncoder.flush(doubleOut);
+
+                Decoder decoder = new FloatDecoder(encoding, TSDataType.FLOAT);
+                ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+                float[] floats = new float[VALUE_COUNT + batchSize];
+                int size = 0;
+                int count;
+                while ((count = decoder.readFloats(in, floats, size, batchSize)) > 0) {
+                    size += count;
+                }
+                assertEquals(VALUE_COUNT, size);
+                decoder = new FloatDecoder(encoding, TSDataType.DOUBLE);
+                in = new ByteArrayInputStream(doubleOut.toByteArray());
+                double[] doubles = new double[VALUE_COUNT + batchSize];
+                size = 0;
+                while ((count = decoder.readDoubles(in, doubles, size, batchSize)) > 0) {
+                    size += count;
+                }
+                assertEquals(VALUE_COUNT, size);
+                for (int i = 0; i < VALUE_COUNT; i++) {
+                    assertEquals(intValues[i] / 100.0f, floats[i], 0);
+                    assertEquals(intValues[i] / 100.0, doubles[i], 0.0000001);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDictionaryReadBinaries() throws IOException {
+        int[] intValues = getIntValues();
+        DictionaryEncoder encoder = new DictionaryEncoder(1 << 20);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            encoder.encode(Binary.valueOf("v" + intValues[i] % 10), out);
+        }
+        encoder.flush(out);
+        ByteArrayOutputStream dictionaryOut = new ByteArrayOutputStream();
+        encoder.getDictionaryBytes().writeAllTo(dictionaryOut);
+        Binary[] dictionary = DictionaryDecoder.readDictionary(
+                new ByteArrayInputStream(dictionaryOut.toByteArray()), encoder.getEntryCount());
+        for (int batchSize : BATCH_SIZES) {
+            DictionaryDecoder decoder = new DictionaryDecoder(dictionary);
+            ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+            Binary[] binaries = new Binary[VALUE_COUNT + batchSize];
+            int size = 0;
+            int count;
+            while ((count = decoder.readBinaries(in, binaries, size, batchSize)) > 0) {
+                size += count;
+            }
+            assertEquals(VALUE_COUNT, size);
+            for (int i = 0; i < VALUE_COUNT; i++) {
+                assertEquals("v" + intValues[i] % 10, binaries[i].getStringValue());
+                // values refer to entries of dictionary without copying
+                assertSame(findEntry(dictionary, binaries[i]), binaries[i]);
+            }
+        }
+    }
+
+    private Binary findEntry(Binary[] dictionary, Binary value) {
+        for (Binary entry : dictionary) {
+            if (entry.equals(value)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+}
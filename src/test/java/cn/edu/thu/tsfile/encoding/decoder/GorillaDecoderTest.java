@@ -0,0 +1,108 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.encoding.encoder.Encoder;
+import cn.edu.thu.tsfile.encoding.encoder.GorillaEncoder;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+
+/**
+ * test that values encoded by GorillaEncoder are decoded without precision loss.
+ *
+ * @author kangrong
+ *
+ */
+public class GorillaDecoderTest {
+  private static final int ROW_COUNT = 10000;
+
+  @Test
+  public void testDouble() throws Exception {
+    Random random = new Random(1);
+    double[] values = new double[ROW_COUNT];
+    double v = 220.0;
+    for (int i = 0; i < ROW_COUNT; i++) {
+      // a slowly changing signal with repeats, special and wide-range values
+      if (i % 5 != 0)
+        v += random.nextGaussian() * 0.01;
+      values[i] = v;
+    }
+    values[100] = Double.NaN;
+    values[101] = Double.POSITIVE_INFINITY;
+    values[102] = -0.0;
+    values[103] = Double.MAX_VALUE;
+    values[104] = Double.MIN_VALUE;
+    values[105] = 1e300;
+    values[106] = -1e-300;
+
+    // values are flushed in blocks of different size
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Encoder encoder = new GorillaEncoder(TSDataType.DOUBLE);
+    int[] blocks = {1, 2, 997, ROW_COUNT - 1000};
+    int index = 0;
+    for (int block : blocks) {
+      for (int i = 0; i < block; i++)
+        encoder.encode(values[index++], out);
+      encoder.flush(out);
+    }
+    // flushing without values writes nothing
+    int size = out.size();
+    encoder.flush(out);
+    assertEquals(size, out.size());
+    assertTrue(size < ROW_COUNT * 8);
+
+    ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+    Decoder decoder = new GorillaDecoder(TSDataType.DOUBLE);
+    for (int i = 0; i < ROW_COUNT; i++) {
+      assertTrue(decoder.hasNext(in));
+      assertEquals(Double.doubleToRawLongBits(values[i]),
+          Double.doubleToRawLongBits(decoder.readDouble(in)));
+    }
+    assertFalse(decoder.hasNext(in));
+  }
+
+  @Test
+  public void testFloat() throws Exception {
+    Random random = new Random(2);
+    float[] values = new float[ROW_COUNT];
+    for (int i = 0; i < ROW_COUNT; i++)
+      values[i] = i % 100 < 50 ? 1.5f + i / 1000 : random.nextFloat() * (i - 5000);
+    values[7] = Float.NaN;
+    values[8] = Float.NEGATIVE_INFINITY;
+    values[9] = -0.0f;
+    values[10] = Float.MIN_VALUE;
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Encoder encoder = new GorillaEncoder(TSDataType.FLOAT);
+    for (float value : values)
+      encoder.encode(value, out);
+    encoder.flush(out);
+
+    ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+    Decoder decoder = new GorillaDecoder(TSDataType.FLOAT);
+    for (int i = 0; i < ROW_COUNT; i++) {
+      assertTrue(decoder.hasNext(in));
+      assertEquals(Float.floatToRawIntBits(values[i]),
+          Float.floatToRawIntBits(decoder.readFloat(in)));
+    }
+    assertFalse(decoder.hasNext(in));
+  }
+
+  @Test
+  public void testSlowlyChangingSize() throws Exception {
+    // a sine wave sampled by a 12-bit ADC
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Encoder encoder = new GorillaEncoder(TSDataType.DOUBLE);
+    for (int i = 0; i < ROW_COUNT; i++)
+      encoder.encode(Math.round(Math.sin(i / 500.0) * 2048) / 256.0 + 50, out);
+    encoder.flush(out);
+    assertTrue("bytes per value:" + (double) out.size() / ROW_COUNT, out.size() < ROW_COUNT * 3);
+  }
+}
@@ -0,0 +1,121 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import cn.edu.thu.tsfile.encoding.encoder.Encoder;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+import cn.edu.thu.tsfile.format.Encoding;
+import cn.edu.thu.tsfile.timeseries.write.schema.converter.TSEncodingConverter;
+
+/**
+ * Prints bytes per value, and the throughput of encoding and decoding in batch in million values
+ * per second, of each encoding of int and long, the best of several rounds after warming up.
+ * Series are the int broken line and the long line of {@code GenerateBigTSFile}, and int readings
+ * jittering around a baseline with occasional spikes.
+ *
+ * @author kangrong
+ *
+ */
+public class IntEncodingPerf {
+  private static final int VALUE_COUNT = 1 << 20;
+  // values flushed as a page
+  private static final int PAGE_SIZE = 1 << 16;
+  private static final int ROUND = 20;
+  private static final TSEncoding[] ENCODINGS =
+      {TSEncoding.PLAIN, TSEncoding.TS_2DIFF, TSEncoding.RLE, TSEncoding.PFOR};
+
+  /**
+   * s0 of GenerateBigTSFile, turning every 100 points
+   */
+  private static long[] getBrokenLine() {
+    long[] values = new long[VALUE_COUNT];
+    int value = 100;
+    int step = 1;
+    for (int i = 0; i < VALUE_COUNT; i++) {
+      if (i % 100 == 0)
+        step = -step;
+      value += step;
+      values[i] = value;
+    }
+    return values;
+  }
+
+  /**
+   * s1 of GenerateBigTSFile
+   */
+  private static long[] getLine() {
+    long[] values = new long[VALUE_COUNT];
+    for (int i = 0; i < VALUE_COUNT; i++)
+      values[i] = (1L << 32) + i + 1;
+    return values;
+  }
+
+  private static long[] getJitter() {
+    Random random = new Random(1);
+    long[] values = new long[VALUE_COUNT];
+    for (int i = 0; i < VALUE_COUNT; i++) {
+      values[i] = 2000 + random.nextInt(33) - 16;
+      if (random.nextInt(200) == 0)
+        values[i] += random.nextInt(100000);
+    }
+    return values;
+  }
+
+  private static void run(String name, TSDataType dataType, long[] values) throws IOException {
+    System.out.println(name + " " + dataType);
+    System.out.println("  encoding  bytes/value   encode   decode");
+    int[] intValues = new int[VALUE_COUNT];
+    for (int i = 0; i < VALUE_COUNT; i++)
+      intValues[i] = (int) values[i];
+    int[] intDst = new int[VALUE_COUNT];
+    long[] longDst = new long[VALUE_COUNT];
+    for (TSEncoding encoding : ENCODINGS) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      long encodeTime = Long.MAX_VALUE;
+      long decodeTime = Long.MAX_VALUE;
+      for (int round = 0; round < ROUND; round++) {
+        out.reset();
+        Encoder encoder = TSEncodingConverter.getConverter(encoding).getEncoder(name, dataType);
+        long start = System.nanoTime();
+        for (int i = 0; i < VALUE_COUNT; i++) {
+          if (dataType == TSDataType.INT32)
+            encoder.encode(intValues[i], out);
+          else
+            encoder.encode(values[i], out);
+          if ((i + 1) % PAGE_SIZE == 0)
+            encoder.flush(out);
+        }
+        encodeTime = Math.min(encodeTime, System.nanoTime() - start);
+
+        Decoder decoder = Decoder.getDecoderByType(Encoding.valueOf(encoding.toString()), dataType);
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        start = System.nanoTime();
+        int count = dataType == TSDataType.INT32
+            ? decoder.readInts(in, intDst, 0, VALUE_COUNT)
+            : decoder.readLongs(in, longDst, 0, VALUE_COUNT);
+        decodeTime = Math.min(decodeTime, System.nanoTime() - start);
+        if (count != VALUE_COUNT)
+          throw new IllegalStateException(encoding + " decoded " + count + " values");
+      }
+      for (int i = 0; i < VALUE_COUNT; i++) {
+        long decoded = dataType == TSDataType.INT32 ? intDst[i] : longDst[i];
+        if (decoded != (dataType == TSDataType.INT32 ? intValues[i] : values[i]))
+          throw new IllegalStateException(encoding + " decoded a wrong value at " + i);
+      }
+      System.out.println(String.format("%10s %12.3f %8.0f %8.0f", encoding,
+          (double) out.size() / VALUE_COUNT, VALUE_COUNT * 1e3 / encodeTime,
+          VALUE_COUNT * 1e3 / decodeTime));
+    }
+  }
+
+  public static void main(String[] args) throws IOException {
+    run("brokenLine", TSDataType.INT32, getBrokenLine());
+    run("line", TSDataType.INT64, getLine());
+    run("jitter", TSDataType.INT32, getJitter());
+    run("jitter", TSDataType.INT64, getJitter());
+  }
+}
@@ -7,6 +7,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
 import cn.edu.thu.tsfile.encoding.common.EndianType;
@@ -129,6 +130,87 @@ public class IntRleDecoderTest {
 		}
 	}
 	
+	@Test
+	public void testMixedBitWidthReadInt() throws IOException{
+		// encoder and decoder reuse their buffers for following packages of different width
+		List<List<Integer>> packages = new ArrayList<>();
+		packages.add(bpList);
+		packages.add(rleList);
+		List<Integer> narrowList = new ArrayList<>();
+		for(int i = 0; i < 1000; i++){
+			narrowList.add((int) (i % 3));
+		}
+		packages.add(narrowList);
+		packages.add(hybridList);
+		packages.add(narrowList);
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		RleEncoder<Integer> encoder = new IntRleEncoder(EndianType.LITTLE_ENDIAN);
+		for(List<Integer> list : packages){
+			for(int value : list){
+				encoder.encode(value, baos);
+			}
+			encoder.flush(baos);
+		}
+		ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+		RleDecoder decoder = new IntRleDecoder(EndianType.LITTLE_ENDIAN);
+		for(List<Integer> list : packages){
+			for(int value : list){
+				assertEquals(value, decoder.readInt(bais));
+			}
+		}
+		assertFalse(decoder.hasNext(bais));
+	}
+
+	@Test
+	public void testBooleanRead() throws IOException{
+		// state flags which flip rarely, followed by random ones
+		int stableCount = 1000000;
+		int count = stableCount + 1001;
+		boolean[] values = new boolean[count];
+		Random random = new Random(1);
+		for(int i = 0; i < count; i++){
+			values[i] = i < stableCount ? (i / 10000) % 2 == 1 : random.nextBoolean();
+		}
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		RleEncoder<Integer> encoder = new IntRleEncoder(EndianType.LITTLE_ENDIAN);
+		for(int i = 0; i < stableCount; i++){
+			encoder.encode(values[i], baos);
+		}
+		assertTrue(encoder.getMaxByteSize() < stableCount / 2);
+		encoder.flush(baos);
+		// a rle run for each stable stretch
+		assertTrue(baos.size() * 1000 < stableCount);
+		int stableSize = baos.size();
+		for(int i = stableCount; i < count; i++){
+			encoder.encode(values[i], baos);
+		}
+		long maxSize = encoder.getMaxByteSize();
+		encoder.flush(baos);
+		// 1 bit for each random value
+		assertTrue(baos.size() - stableSize <= maxSize);
+		assertTrue(baos.size() - stableSize < (count - stableCount) / 8 + 50);
+
+		IntRleDecoder decoder = new IntRleDecoder(EndianType.LITTLE_ENDIAN);
+		ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+		for(int i = 0; i < count; i++){
+			assertTrue(decoder.hasNext(bais));
+			assertEquals(values[i], decoder.readBoolean(bais));
+		}
+		assertFalse(decoder.hasNext(bais));
+		for(int batchSize : new int[]{1, 7, 100000, count}){
+			decoder = new IntRleDecoder(EndianType.LITTLE_ENDIAN);
+			bais = new ByteArrayInputStream(baos.toByteArray());
+			boolean[] decoded = new boolean[count];
+			int size = 0;
+			int n;
+			while((n = decoder.readBooleans(bais, decoded, size, Math.min(batchSize, count - size))) > 0){
+				size += n;
+			}
+			assertEquals(count, size);
+			assertArrayEquals(values, decoded);
+		}
+	}
+
 	@Test 
 	public void testBitPackingReadHeader() throws IOException{
 		for(int i = 1;i < 505;i++){
@@ -0,0 +1,153 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.encoding.encoder.Encoder;
+import cn.edu.thu.tsfile.encoding.encoder.LinearFitEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.PiecewiseLinearEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.SwingingDoorEncoder;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * test that values encoded by SDT and PLA are decoded within the max error, and that slowly
+ * changing values take few bytes.
+ *
+ * @author kangrong
+ *
+ */
+public class LinearFitDecoderTest {
+  private static final int ROW_COUNT = 10000;
+  private static final double MAX_ERROR = 0.5;
+  // error of interpolation in double
+  private static final double DELTA = 1e-9;
+
+  /**
+   * a slowly changing process value with noise smaller than the max error
+   */
+  private double[] getProcessValues() {
+    Random random = new Random(1);
+    double[] values = new double[ROW_COUNT];
+    for (int i = 0; i < ROW_COUNT; i++)
+      values[i] = 200 + 50 * Math.sin(i / 500.0) + random.nextDouble() * 0.3;
+    return values;
+  }
+
+  /**
+   * a random walk with steps larger than the max error
+   */
+  private double[] getRandomWalk() {
+    Random random = new Random(2);
+    double[] values = new double[ROW_COUNT];
+    double value = 0;
+    for (int i = 0; i < ROW_COUNT; i++) {
+      value += random.nextGaussian() * 2;
+      values[i] = value;
+    }
+    return values;
+  }
+
+  private LinearFitEncoder[] getEncoders() {
+    return new LinearFitEncoder[] {new SwingingDoorEncoder(MAX_ERROR),
+        new PiecewiseLinearEncoder(MAX_ERROR)};
+  }
+
+  private byte[] encode(Encoder encoder, double[] values, int... blocks) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int index = 0;
+    for (int block : blocks) {
+      for (int i = 0; i < block; i++)
+        encoder.encode(values[index++], out);
+      encoder.flush(out);
+    }
+    return out.toByteArray();
+  }
+
+  @Test
+  public void testReadDoubles() throws IOException {
+    for (double[] values : new double[][] {getProcessValues(), getRandomWalk()}) {
+      for (LinearFitEncoder encoder : getEncoders()) {
+        byte[] bytes = encode(encoder, values, 1, 2, 3000, ROW_COUNT - 3003);
+        // one by one
+        LinearFitDecoder decoder = new LinearFitDecoder(encoder.type);
+        ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+        for (int i = 0; i < ROW_COUNT; i++) {
+          assertTrue(decoder.hasNext(in));
+          assertEquals(values[i], decoder.readDouble(in), MAX_ERROR + DELTA);
+        }
+        assertFalse(decoder.hasNext(in));
+        // in batch
+        decoder = new LinearFitDecoder(encoder.type);
+        in = new ByteArrayInputStream(bytes);
+        double[] decoded = new double[ROW_COUNT];
+        int size = 0;
+        int count;
+        while ((count = decoder.readDoubles(in, decoded, size, Math.min(77, ROW_COUNT - size))) > 0) {
+          size += count;
+        }
+        assertEquals(ROW_COUNT, size);
+        for (int i = 0; i < ROW_COUNT; i++)
+          assertEquals(values[i], decoded[i], MAX_ERROR + DELTA);
+      }
+    }
+  }
+
+  @Test
+  public void testReadFloats() throws IOException {
+    double[] values = getProcessValues();
+    for (LinearFitEncoder encoder : getEncoders()) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      for (int i = 0; i < ROW_COUNT; i++)
+        encoder.encode((float) values[i], out);
+      encoder.flush(out);
+      LinearFitDecoder decoder = new LinearFitDecoder(encoder.type);
+      float[] decoded = new float[ROW_COUNT];
+      assertEquals(ROW_COUNT,
+          decoder.readFloats(new ByteArrayInputStream(out.toByteArray()), decoded, 0, ROW_COUNT));
+      for (int i = 0; i < ROW_COUNT; i++) {
+        float value = (float) values[i];
+        // rounded to float
+        assertEquals(value, decoded[i], MAX_ERROR + Math.ulp(value));
+      }
+    }
+  }
+
+  @Test
+  public void testSize() throws IOException {
+    // 8 bytes for each value in PLAIN
+    double[] values = getProcessValues();
+    int sdtSize = encode(new SwingingDoorEncoder(MAX_ERROR), values, ROW_COUNT).length;
+    int plaSize = encode(new PiecewiseLinearEncoder(MAX_ERROR), values, ROW_COUNT).length;
+    assertTrue(sdtSize * 10 < ROW_COUNT * 8);
+    assertTrue(plaSize * 10 < ROW_COUNT * 8);
+    // a linear series is a single segment
+    double[] linear = new double[ROW_COUNT];
+    for (int i = 0; i < ROW_COUNT; i++)
+      linear[i] = 3.0 * i;
+    byte[] bytes = encode(new SwingingDoorEncoder(0), linear, ROW_COUNT);
+    assertTrue(bytes.length < 30);
+    LinearFitDecoder decoder = new LinearFitDecoder(TSEncoding.SDT);
+    ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+    for (int i = 0; i < ROW_COUNT; i++)
+      assertEquals(linear[i], decoder.readDouble(in), DELTA * ROW_COUNT);
+    // the estimated size is not less than the encoded size
+    for (double[] series : new double[][] {values, getRandomWalk()}) {
+      for (Encoder encoder : getEncoders()) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < ROW_COUNT; i++)
+          encoder.encode(series[i], out);
+        long maxSize = encoder.getMaxByteSize();
+        encoder.flush(out);
+        assertTrue(out.size() <= maxSize);
+      }
+    }
+  }
+}
@@ -133,6 +133,37 @@ public class LongRleDecoderTest {
 		}
 	}
 	
+	@Test
+	public void testMixedBitWidthReadLong() throws IOException{
+		// encoder and decoder reuse their buffers for following packages of different width
+		List<List<Long>> packages = new ArrayList<>();
+		packages.add(bpList);
+		packages.add(rleList);
+		List<Long> narrowList = new ArrayList<>();
+		for(int i = 0; i < 1000; i++){
+			narrowList.add((long) (i % 3));
+		}
+		packages.add(narrowList);
+		packages.add(hybridList);
+		packages.add(narrowList);
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		RleEncoder<Long> encoder = new LongRleEncoder(EndianType.LITTLE_ENDIAN);
+		for(List<Long> list : packages){
+			for(long value : list){
+				encoder.encode(value, baos);
+			}
+			encoder.flush(baos);
+		}
+		ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+		RleDecoder decoder = new LongRleDecoder(EndianType.LITTLE_ENDIAN);
+		for(List<Long> list : packages){
+			for(long value : list){
+				assertEquals(value, decoder.readLong(bais));
+			}
+		}
+		assertFalse(decoder.hasNext(bais));
+	}
+
 	@Test 
 	public void testBitPackingReadHeader() throws IOException{
 		for(int i = 1;i < 505;i++){
@@ -0,0 +1,142 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.encoding.encoder.DeltaBinaryEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.Encoder;
+import cn.edu.thu.tsfile.encoding.encoder.PforEncoder;
+
+/**
+ * test that values encoded by PforEncoder are decoded one by one and in batch, including extreme
+ * values, and that jittering values with spikes take fewer bytes than TS_2DIFF.
+ *
+ * @author kangrong
+ *
+ */
+public class PforDecoderTest {
+  private static final int ROW_COUNT = 10000;
+  private static final int[] BLOCKS = {1, 2, 127, 128, 129, 3000, ROW_COUNT - 3387};
+
+  /**
+   * readings jittering around a baseline, with a spike every 100 values and extreme values
+   */
+  private long[] getJitterValues(long baseline) {
+    Random random = new Random(1);
+    long[] values = new long[ROW_COUNT];
+    for (int i = 0; i < ROW_COUNT; i++) {
+      values[i] = baseline + random.nextInt(21) - 10;
+      if (i % 100 == 50)
+        values[i] += 100000;
+    }
+    return values;
+  }
+
+  private byte[] encodeInts(Encoder encoder, int[] values) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int index = 0;
+    for (int block : BLOCKS) {
+      for (int i = 0; i < block; i++)
+        encoder.encode(values[index++], out);
+      encoder.flush(out);
+    }
+    return out.toByteArray();
+  }
+
+  private byte[] encodeLongs(Encoder encoder, long[] values) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int index = 0;
+    for (int block : BLOCKS) {
+      for (int i = 0; i < block; i++)
+        encoder.encode(values[index++], out);
+      encoder.flush(out);
+    }
+    return out.toByteArray();
+  }
+
+  @Test
+  public void testInt() throws IOException {
+    long[] longValues = getJitterValues(1000);
+    int[] values = new int[ROW_COUNT];
+    for (int i = 0; i < ROW_COUNT; i++)
+      values[i] = (int) longValues[i];
+    values[1000] = Integer.MAX_VALUE;
+    values[1001] = Integer.MIN_VALUE;
+    values[1002] = Integer.MAX_VALUE;
+    // the same values make a block of width 0
+    for (int i = 2000; i < 2300; i++)
+      values[i] = -7;
+    byte[] bytes = encodeInts(new PforEncoder.IntPforEncoder(), values);
+
+    Decoder decoder = new PforDecoder.IntPforDecoder();
+    ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+    for (int i = 0; i < ROW_COUNT; i++) {
+      assertTrue(decoder.hasNext(in));
+      assertEquals(values[i], decoder.readInt(in));
+    }
+    assertFalse(decoder.hasNext(in));
+
+    for (int batchSize : new int[] {1, 100, ROW_COUNT}) {
+      decoder = new PforDecoder.IntPforDecoder();
+      in = new ByteArrayInputStream(bytes);
+      int[] decoded = new int[ROW_COUNT];
+      int size = 0;
+      int count;
+      while ((count = decoder.readInts(in, decoded, size, Math.min(batchSize, ROW_COUNT - size))) > 0)
+        size += count;
+      assertArrayEquals(values, decoded);
+    }
+  }
+
+  @Test
+  public void testLong() throws IOException {
+    long[] values = getJitterValues(1L << 40);
+    values[1000] = Long.MAX_VALUE;
+    values[1001] = Long.MIN_VALUE;
+    values[1002] = 0;
+    byte[] bytes = encodeLongs(new PforEncoder.LongPforEncoder(), values);
+
+    Decoder decoder = new PforDecoder.LongPforDecoder();
+    ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+    for (int i = 0; i < ROW_COUNT; i++) {
+      assertTrue(decoder.hasNext(in));
+      assertEquals(values[i], decoder.readLong(in));
+    }
+    assertFalse(decoder.hasNext(in));
+
+    decoder = new PforDecoder.LongPforDecoder();
+    in = new ByteArrayInputStream(bytes);
+    long[] decoded = new long[ROW_COUNT];
+    assertEquals(ROW_COUNT, decoder.readLongs(in, decoded, 0, ROW_COUNT));
+    assertArrayEquals(values, decoded);
+  }
+
+  @Test
+  public void testSize() throws IOException {
+    long[] values = getJitterValues(1L << 40);
+    byte[] pfor = encodeLongs(new PforEncoder.LongPforEncoder(), values);
+    byte[] delta = encodeLongs(new DeltaBinaryEncoder.LongDeltaEncoder(), values);
+    // 5 bits for each jittering delta
+    assertTrue(pfor.length < ROW_COUNT);
+    assertTrue(pfor.length * 2 < delta.length);
+
+    // the estimated size is not less than the encoded size
+    Encoder encoder = new PforEncoder.LongPforEncoder();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (int i = 0; i < 100; i++) {
+      encoder.encode(values[i] * 1000003, out);
+    }
+    long maxSize = encoder.getMaxByteSize();
+    encoder.flush(out);
+    assertTrue(out.size() <= maxSize);
+  }
+}
@@ -0,0 +1,157 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.encoding.encoder.DeltaBinaryEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.Encoder;
+import cn.edu.thu.tsfile.encoding.encoder.RegularTimeEncoder;
+
+/**
+ * test that timestamps encoded by RegularTimeEncoder are decoded the same, and are located by
+ * position without decoding.
+ *
+ * @author kangrong
+ *
+ */
+public class RegularTimeDecoderTest {
+  private static final int ROW_COUNT = 10000;
+  private static final long START = 1500000000000L;
+
+  /**
+   * timestamps of 1 second interval with missing and delayed points
+   */
+  private long[] getRegularTimes() {
+    long[] times = new long[ROW_COUNT];
+    long time = START;
+    for (int i = 0; i < ROW_COUNT; i++) {
+      time += i % 997 == 0 ? 3000 : 1000;
+      times[i] = i % 1500 == 0 ? time + 7 : time;
+    }
+    return times;
+  }
+
+  private long[] getIrregularTimes() {
+    Random random = new Random(1);
+    long[] times = new long[ROW_COUNT];
+    long time = START;
+    for (int i = 0; i < ROW_COUNT; i++) {
+      time += 900 + random.nextInt(200);
+      times[i] = time;
+    }
+    return times;
+  }
+
+  private byte[] encode(Encoder encoder, long[] values, int... blocks) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int index = 0;
+    for (int block : blocks) {
+      for (int i = 0; i < block; i++)
+        encoder.encode(values[index++], out);
+      encoder.flush(out);
+    }
+    return out.toByteArray();
+  }
+
+  @Test
+  public void testReadLongs() throws IOException {
+    for (long[] times : new long[][] {getRegularTimes(), getIrregularTimes()}) {
+      byte[] bytes = encode(new RegularTimeEncoder(), times, 1, 2, 997, ROW_COUNT - 1000);
+      // one by one
+      RegularTimeDecoder decoder = new RegularTimeDecoder();
+      ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+      for (int i = 0; i < ROW_COUNT; i++) {
+        assertTrue(decoder.hasNext(in));
+        assertEquals(times[i], decoder.readLong(in));
+      }
+      assertFalse(decoder.hasNext(in));
+      // in batch
+      for (int batchSize : new int[] {1, 7, 100, ROW_COUNT}) {
+        decoder = new RegularTimeDecoder();
+        in = new ByteArrayInputStream(bytes);
+        long[] values = new long[ROW_COUNT + batchSize];
+        int size = 0;
+        int count;
+        while ((count = decoder.readLongs(in, values, size, batchSize)) > 0) {
+          size += count;
+        }
+        assertArrayEquals(times, Arrays.copyOf(values, size));
+      }
+    }
+  }
+
+  @Test
+  public void testSize() throws IOException {
+    long[] regular = getRegularTimes();
+    long[] irregular = getIrregularTimes();
+    // a few bytes for each gap in regular times
+    byte[] bytes = encode(new RegularTimeEncoder(), regular, ROW_COUNT);
+    assertTrue(bytes.length < 200);
+    // irregular times are not larger than TS_2DIFF
+    bytes = encode(new RegularTimeEncoder(), irregular, ROW_COUNT);
+    byte[] deltaBytes = encode(new DeltaBinaryEncoder.LongDeltaEncoder(), irregular, ROW_COUNT);
+    assertTrue(bytes.length <= deltaBytes.length + 2 + 2);
+    // the estimated size is not less than the encoded size
+    for (long[] times : new long[][] {regular, irregular}) {
+      Encoder encoder = new RegularTimeEncoder();
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      for (int i = 0; i < ROW_COUNT; i++)
+        encoder.encode(times[i], out);
+      long maxSize = encoder.getMaxByteSize();
+      encoder.flush(out);
+      assertTrue(out.size() <= maxSize);
+    }
+  }
+
+  @Test
+  public void testLocate() throws IOException {
+    for (long[] times : new long[][] {getRegularTimes(), getIrregularTimes()}) {
+      byte[] bytes = encode(new RegularTimeEncoder(), times, 3000, ROW_COUNT - 3000);
+      RegularTimeDecoder decoder = new RegularTimeDecoder();
+      assertEquals(ROW_COUNT, decoder.readAll(new ByteArrayInputStream(bytes)));
+      for (int i = 0; i < ROW_COUNT; i++) {
+        assertEquals(times[i], decoder.getValue(i));
+        assertEquals(i, decoder.indexOf(times[i]));
+        assertEquals(i, decoder.lowerBound(times[i]));
+        assertEquals(i + 1, decoder.upperBound(times[i]));
+        // a time between two values
+        if (i > 0 && times[i] - times[i - 1] > 1) {
+          assertEquals(-1, decoder.indexOf(times[i] - 1));
+          assertEquals(i, decoder.lowerBound(times[i] - 1));
+          assertEquals(i, decoder.upperBound(times[i] - 1));
+        }
+      }
+      assertEquals(0, decoder.lowerBound(Long.MIN_VALUE));
+      assertEquals(-1, decoder.indexOf(times[0] - 1));
+      assertEquals(ROW_COUNT, decoder.lowerBound(times[ROW_COUNT - 1] + 1));
+      assertEquals(ROW_COUNT, decoder.upperBound(Long.MAX_VALUE));
+      // values are read from the first one after locating
+      long[] values = new long[ROW_COUNT];
+      assertEquals(ROW_COUNT, decoder.readLongs(new ByteArrayInputStream(new byte[0]), values, 0, ROW_COUNT));
+      assertArrayEquals(times, values);
+    }
+  }
+
+  @Test
+  public void testDuplicateTimes() throws IOException {
+    long[] times = {5, 5, 5, 10, 15, 15, 20};
+    byte[] bytes = encode(new RegularTimeEncoder(), times, times.length);
+    RegularTimeDecoder decoder = new RegularTimeDecoder();
+    decoder.readAll(new ByteArrayInputStream(bytes));
+    assertEquals(0, decoder.indexOf(5));
+    assertEquals(3, decoder.upperBound(5));
+    assertEquals(4, decoder.indexOf(15));
+    assertEquals(6, decoder.upperBound(15));
+    assertEquals(-1, decoder.indexOf(12));
+  }
+}
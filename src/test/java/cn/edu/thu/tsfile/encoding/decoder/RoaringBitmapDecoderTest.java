@@ -0,0 +1,155 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.encoding.common.EndianType;
+import cn.edu.thu.tsfile.encoding.encoder.BitmapEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.Encoder;
+import cn.edu.thu.tsfile.encoding.encoder.RoaringBitmapEncoder;
+
+/**
+ * test that enums encoded by RoaringBitmapEncoder are decoded the same, and that bitmaps of
+ * each distinct value are read without decoding values.
+ *
+ * @author kangrong
+ *
+ */
+public class RoaringBitmapDecoderTest {
+  private static final int ROW_COUNT = 150000;
+
+  /**
+   * a few states cycling, which are stored in array containers
+   */
+  private int[] getCycleValues() {
+    int[] values = new int[ROW_COUNT];
+    for (int i = 0; i < ROW_COUNT; i++)
+      values[i] = i % 9 + 1;
+    return values;
+  }
+
+  /**
+   * states lasting for a while, which are stored in run containers
+   */
+  private int[] getRunValues() {
+    int[] values = new int[ROW_COUNT];
+    for (int i = 0; i < ROW_COUNT; i++)
+      values[i] = (i / 1000) % 5 + 1;
+    return values;
+  }
+
+  /**
+   * a dominant state with random others, which is stored in bitmap containers, and a long tail
+   * of 60 states
+   */
+  private int[] getRandomValues() {
+    Random random = new Random(1);
+    int[] values = new int[ROW_COUNT];
+    for (int i = 0; i < ROW_COUNT; i++)
+      values[i] = random.nextInt(3) == 0 ? random.nextInt(60) + 2 : 1;
+    return values;
+  }
+
+  private byte[] encode(Encoder encoder, int[] values, int... blocks) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int index = 0;
+    for (int block : blocks) {
+      for (int i = 0; i < block; i++)
+        encoder.encode(values[index++], out);
+      encoder.flush(out);
+    }
+    return out.toByteArray();
+  }
+
+  @Test
+  public void testReadInts() throws IOException {
+    for (int[] values : new int[][] {getCycleValues(), getRunValues(), getRandomValues()}) {
+      byte[] bytes = encode(new RoaringBitmapEncoder(), values, 1, 2, 70000, ROW_COUNT - 70003);
+      // one by one
+      RoaringBitmapDecoder decoder = new RoaringBitmapDecoder();
+      ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+      for (int i = 0; i < ROW_COUNT; i++) {
+        assertTrue(decoder.hasNext(in));
+        assertEquals(values[i], decoder.readInt(in));
+      }
+      assertFalse(decoder.hasNext(in));
+      // in batch
+      for (int batchSize : new int[] {1, 7, 100, ROW_COUNT}) {
+        decoder = new RoaringBitmapDecoder();
+        in = new ByteArrayInputStream(bytes);
+        int[] decoded = new int[ROW_COUNT + batchSize];
+        int size = 0;
+        int count;
+        while ((count = decoder.readInts(in, decoded, size, batchSize)) > 0) {
+          size += count;
+        }
+        assertArrayEquals(values, Arrays.copyOf(decoded, size));
+      }
+    }
+  }
+
+  @Test
+  public void testOrBitmap() throws IOException {
+    for (int[] values : new int[][] {getCycleValues(), getRunValues(), getRandomValues()}) {
+      byte[] bytes = encode(new RoaringBitmapEncoder(), values, ROW_COUNT);
+      RoaringBitmapDecoder decoder = new RoaringBitmapDecoder();
+      assertEquals(ROW_COUNT, decoder.readBitmaps(new ByteArrayInputStream(bytes)));
+      long[] all = new long[(ROW_COUNT + 63) / 64];
+      for (int j = 0; j < decoder.getDistinctCount(); j++) {
+        int value = decoder.getDistinctValue(j);
+        long[] words = new long[(ROW_COUNT + 63) / 64];
+        decoder.orBitmap(j, words);
+        for (int i = 0; i < ROW_COUNT; i++) {
+          boolean set = (words[i >>> 6] & (1L << (i & 63))) != 0;
+          assertEquals(values[i] == value, set);
+        }
+        decoder.orBitmap(j, all);
+      }
+      // bitmaps of all distinct values cover all positions exactly
+      assertEquals(ROW_COUNT, bitCount(all));
+      // values are read from the first one after reading bitmaps
+      int[] decoded = new int[ROW_COUNT];
+      assertEquals(ROW_COUNT, decoder.readInts(new ByteArrayInputStream(new byte[0]), decoded, 0, ROW_COUNT));
+      assertArrayEquals(values, decoded);
+    }
+  }
+
+  @Test
+  public void testSize() throws IOException {
+    // no more than 2 bytes for each value even for many states
+    byte[] bytes = encode(new RoaringBitmapEncoder(), getRandomValues(), ROW_COUNT);
+    assertTrue(bytes.length < ROW_COUNT * 2);
+    byte[] bitmapBytes = encode(new BitmapEncoder(EndianType.LITTLE_ENDIAN), getRandomValues(), ROW_COUNT);
+    assertTrue(bytes.length * 5 < bitmapBytes.length);
+    // a few bytes for each run
+    bytes = encode(new RoaringBitmapEncoder(), getRunValues(), ROW_COUNT);
+    assertTrue(bytes.length < ROW_COUNT / 1000 * 10);
+    // the estimated size is not less than the encoded size
+    for (int[] values : new int[][] {getCycleValues(), getRunValues(), getRandomValues()}) {
+      Encoder encoder = new RoaringBitmapEncoder();
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      for (int i = 0; i < ROW_COUNT; i++)
+        encoder.encode(values[i], out);
+      long maxSize = encoder.getMaxByteSize();
+      encoder.flush(out);
+      assertTrue(out.size() <= maxSize);
+    }
+  }
+
+  private int bitCount(long[] words) {
+    int count = 0;
+    for (long word : words)
+      count += Long.bitCount(word);
+    return count;
+  }
+}
@@ -0,0 +1,111 @@
+package cn.edu.thu.tsfile.timeseries.read;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * test that ranges read by LocalFileInput have the same bytes as the file, whether they are
+ * copied or sliced from the mapping of the file.
+ *
+ * @author kangrong
+ *
+ */
+public class LocalFileInputTest {
+    private static final int FILE_SIZE = 1 << 20;
+    private static final int READ_COUNT = 20000;
+    private final String inputFile = "src/test/resources/localFileInputTest.ksn";
+    private byte[] content;
+
+    @Before
+    public void prepare() throws IOException {
+        content = new byte[FILE_SIZE];
+        new Random(3).nextBytes(content);
+        try (FileOutputStream out = new FileOutputStream(inputFile)) {
+            out.write(content);
+        }
+    }
+
+    @After
+    public void after() {
+        new File(inputFile).delete();
+    }
+
+    @Test
+    public void testReadBuffer() throws IOException {
+        LocalFileInput input = new LocalFileInput(inputFile);
+        Random random = new Random(5);
+        for (int i = 0; i < READ_COUNT; i++) {
+            // small ranges are copied, large ones are sliced
+            int length = i % 2 == 0 ? random.nextInt(1 << 12) + 1
+                    : random.nextInt(1 << 18) + (1 << 16);
+            int position = random.nextInt(FILE_SIZE - length + 1);
+            ByteBuffer buffer = input.readBuffer(position, length);
+            assertEquals(0, buffer.position());
+            assertEquals(length, buffer.limit());
+            assertEquals(length >= 1 << 16, buffer.isDirect());
+            // check both ends and a byte in the middle, the whole range is checked occasionally
+            assertEquals(content[position], buffer.get(0));
+            assertEquals(content[position + length / 2], buffer.get(length / 2));
+            assertEquals(content[position + length - 1], buffer.get(length - 1));
+            if (i % 1000 == 1) {
+                for (int j = 0; j < length; j++)
+                    assertEquals(content[position + j], buffer.get(j));
+            }
+        }
+        // a slice is independent of the following reads
+        ByteBuffer first = input.readBuffer(0, 1 << 16);
+        ByteBuffer second = input.readBuffer(1 << 16, 1 << 16);
+        first.get();
+        assertEquals(1, first.position());
+        assertEquals(0, second.position());
+        assertEquals(content[1 << 16], second.get());
+        input.close();
+    }
+
+    @Test
+    public void testReadAcrossWindows() throws IOException {
+        // the last window is shorter than the others
+        int windowSize = 3 << 16;
+        LocalFileInput input = new LocalFileInput(inputFile, windowSize);
+        int[][] ranges = {{windowSize - 100, 1 << 16}, {windowSize + 100, 1 << 16},
+                {2 * windowSize - (1 << 17), 3 << 17}, {FILE_SIZE - (1 << 16), 1 << 16},
+                {5 * windowSize - 1, 1 << 16}, {0, FILE_SIZE}};
+        for (int[] range : ranges) {
+            ByteBuffer buffer = input.readBuffer(range[0], range[1]);
+            assertEquals(range[1], buffer.remaining());
+            assertTrue(buffer.isDirect());
+            for (int j = 0; j < range[1]; j++)
+                assertEquals(content[range[0] + j], buffer.get(j));
+        }
+        try {
+            input.readBuffer(FILE_SIZE - (1 << 16) + 1, 1 << 16);
+            fail("reading beyond the end of file should fail");
+        } catch (IOException e) {
+            // expected
+        }
+        input.close();
+    }
+
+    @Test
+    public void testReadOutOfFile() throws IOException {
+        LocalFileInput input = new LocalFileInput(inputFile);
+        try {
+            input.readBuffer(FILE_SIZE - (1 << 16) + 1, 1 << 16);
+            fail("reading beyond the end of file should fail");
+        } catch (IOException e) {
+            // expected
+        }
+        input.close();
+    }
+}
@@ -0,0 +1,192 @@
+package cn.edu.thu.tsfile.timeseries.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.qp.Path;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.readSupport.RowRecord;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.schema.FileSchema;
+
+/**
+ * test that importing a text file in bulk gets the same TsFile content as writing it line by line.
+ *
+ * @author kangrong
+ *
+ */
+public class BulkLineImporterTest {
+    private static final int ROW_COUNT = 20000;
+    private final String inputFile = "src/test/resources/bulkImportTestInput.csv";
+    private final String outputFile = "src/test/resources/bulkImportTestOutput.ksn";
+    private final String compareFile = "src/test/resources/bulkImportTestCompare.ksn";
+    private final TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private int preRowGroupSize;
+    private int prePageSize;
+
+    private final String schemaString = "{\"schema\":["
+            + "{\"measurement_id\":\"s0\",\"data_type\":\"INT32\",\"encoding\":\"RLE\"},"
+            + "{\"measurement_id\":\"s1\",\"data_type\":\"INT64\",\"encoding\":\"TS_2DIFF\"},"
+            + "{\"measurement_id\":\"s2\",\"data_type\":\"FLOAT\",\"encoding\":\"RLE\"},"
+            + "{\"measurement_id\":\"s3\",\"data_type\":\"DOUBLE\",\"encoding\":\"PLAIN\"},"
+            + "{\"measurement_id\":\"s4\",\"data_type\":\"BOOLEAN\",\"encoding\":\"PLAIN\"},"
+            + "{\"measurement_id\":\"s5\",\"data_type\":\"BYTE_ARRAY\",\"encoding\":\"PLAIN\"},"
+            + "{\"measurement_id\":\"s6\",\"data_type\":\"ENUMS\",\"encoding\":\"PLAIN\","
+            + "\"enum_values\":[\"ON\",\"OFF\",\"IDLE\"]}],"
+            + "\"delta_type\":\"test_type\",\"row_group_size\":65536,\"page_size\":4096}";
+    private final String[] measurements = {"s0", "s1", "s2", "s3", "s4", "s5", "s6"};
+
+    @Before
+    public void prepare() {
+        preRowGroupSize = conf.rowGroupSize;
+        prePageSize = conf.pageSize;
+        new File(outputFile).delete();
+        new File(compareFile).delete();
+    }
+
+    @After
+    public void after() {
+        conf.rowGroupSize = preRowGroupSize;
+        conf.pageSize = prePageSize;
+        new File(inputFile).delete();
+        new File(outputFile).delete();
+        new File(compareFile).delete();
+    }
+
+    @Test
+    public void testSameAsWriteLine() throws IOException, WriteProcessException {
+        Random random = new Random(3);
+        try (FileWriter writer = new FileWriter(inputFile)) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                String deltaObject = i % 3 == 0 ? "d2" : "d1";
+                StringBuilder line = new StringBuilder();
+                line.append(deltaObject).append(", ").append(i);
+                if (i % 5 != 0)
+                    line.append(",s0,").append(random.nextInt() % 100000);
+                line.append(",s1, ").append(random.nextLong()).append(' ');
+                if (i % 7 != 0)
+                    line.append(",s2,").append(random.nextInt(100000) / 100.0f - 300);
+                line.append(",s3,").append(random.nextDouble() * 1000);
+                line.append(",s4,").append(i % 4 == 0 ? "TRUE" : "false");
+                if (i % 2 == 0)
+                    line.append(",s5,str").append(i);
+                // unknown enum value is omitted as other illegal values
+                String[] enumValues = {"ON", " OFF", "IDLE ", "STOP"};
+                if (i % 3 != 1)
+                    line.append(",s6,").append(enumValues[i % 4]);
+                // unknown measurement, illegal value and empty value are omitted
+                if (i % 11 == 0)
+                    line.append(",s9,1,s0,abc,s1,");
+                line.append(i % 13 == 0 ? "\r\n" : "\n");
+                // lines with illegal timestamp or without timestamp are skipped
+                if (i % 1000 == 0)
+                    line.append("d1,x12,s0,1\n").append("d1\n").append("\n");
+                writer.write(line.toString());
+            }
+        }
+        JSONObject schemaJson = new JSONObject(schemaString);
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(outputFile)), schemaJson);
+        BulkLineImporter.ImportResult result =
+                new BulkLineImporter(tsFile, new FileSchema(schemaJson), 4, 8192)
+                        .importFile(new File(inputFile));
+        tsFile.close();
+        assertEquals(ROW_COUNT + ROW_COUNT / 1000 * 2, result.getLineCount());
+        assertEquals(ROW_COUNT / 1000 * 2, result.getSkippedLineCount());
+        assertTrue(result.getInvalidValueCount() > 0);
+        assertEquals(new File(inputFile).length(), result.getByteCount());
+
+        tsFile = new TsFile(new RandomAccessOutputStream(new File(compareFile)), schemaJson);
+        try (BufferedReader reader = new BufferedReader(new FileReader(inputFile))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.contains(",") && !line.contains("x12"))
+                    tsFile.writeLine(line.replace(",s6,STOP", ""));
+            }
+        }
+        tsFile.close();
+
+        int pointCount = 0;
+        for (String deltaObject : new String[] {"d1", "d2"}) {
+            for (String measurement : measurements) {
+                List<String> expected = readSeries(compareFile, deltaObject, measurement);
+                assertEquals(expected, readSeries(outputFile, deltaObject, measurement));
+                pointCount += expected.size();
+            }
+        }
+        assertEquals(pointCount, result.getPointCount());
+    }
+
+    @Test
+    public void testSortInChunk() throws IOException, WriteProcessException {
+        try (FileWriter writer = new FileWriter(inputFile)) {
+            for (int i = 0; i < 1000; i++) {
+                // reversed in every 100 lines
+                long time = i / 100 * 100 + 99 - i % 100;
+                writer.write("d1," + time + ",s1," + time * 2 + "\n");
+            }
+        }
+        JSONObject schemaJson = new JSONObject(schemaString);
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(outputFile)), schemaJson);
+        tsFile.writeLines(new File(inputFile), 2);
+        tsFile.close();
+        List<String> series = readSeries(outputFile, "d1", "s1");
+        assertEquals(1000, series.size());
+        for (int i = 0; i < 1000; i++)
+            assertEquals(i + ":" + i * 2, series.get(i));
+    }
+
+    @Test
+    public void testDisorderAcrossChunks() throws IOException, WriteProcessException {
+        try (FileWriter writer = new FileWriter(inputFile)) {
+            for (int i = 0; i < 1000; i++) {
+                // the last line is earlier than lines of previous chunks
+                long time = i == 999 ? 10 : i;
+                writer.write("d1," + time + ",s1," + time * 2 + "\n");
+            }
+        }
+        JSONObject schemaJson = new JSONObject(schemaString);
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(outputFile)), schemaJson);
+        try {
+            new BulkLineImporter(tsFile, new FileSchema(schemaJson), 2, 1024)
+                    .importFile(new File(inputFile));
+            fail("points out of order across chunks should be rejected");
+        } catch (WriteProcessException e) {
+            assertTrue(e.getMessage().contains("d1"));
+        }
+        tsFile.close();
+    }
+
+    private List<String> readSeries(String file, String deltaObject, String measurement)
+            throws IOException {
+        TsFile readTsFile = new TsFile(new LocalFileInput(file));
+        List<Path> paths = new ArrayList<>();
+        paths.add(new Path(deltaObject + "." + measurement));
+        QueryDataSet dataSet = readTsFile.query(paths, null, null);
+        List<String> ret = new ArrayList<>();
+        while (dataSet.hasNextRecord()) {
+            RowRecord r = dataSet.getNextRecord();
+            ret.add(r.timestamp + ":" + r.getFields().get(0).getStringValue());
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,170 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.qp.Path;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.readSupport.RowRecord;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.IntDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.LongDataPoint;
+
+/**
+ * test that row groups flushed in background hold the same data as those flushed synchronously.
+ *
+ * @author kangrong
+ *
+ */
+public class AsyncFlushWriteTest {
+    private static final int ROW_COUNT = 50000;
+    private final String asyncFile = "src/test/resources/asyncFlushTestOutput.ksn";
+    private final String syncFile = "src/test/resources/syncFlushTestOutput.ksn";
+    private final TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private int preRowGroupSize;
+    private int prePageSize;
+    private boolean preAsyncFlush;
+
+    private final String schemaString = "{\"schema\":["
+            + "{\"measurement_id\":\"s0\",\"data_type\":\"INT32\",\"encoding\":\"RLE\"},"
+            + "{\"measurement_id\":\"s1\",\"data_type\":\"INT64\",\"encoding\":\"TS_2DIFF\"}],"
+            + "\"delta_type\":\"test_type\",\"row_group_size\":65536,\"page_size\":4096}";
+
+    @Before
+    public void prepare() {
+        preRowGroupSize = conf.rowGroupSize;
+        prePageSize = conf.pageSize;
+        preAsyncFlush = conf.asyncFlush;
+        new File(asyncFile).delete();
+        new File(syncFile).delete();
+    }
+
+    @After
+    public void after() {
+        conf.rowGroupSize = preRowGroupSize;
+        conf.pageSize = prePageSize;
+        conf.asyncFlush = preAsyncFlush;
+        new File(asyncFile).delete();
+        new File(syncFile).delete();
+    }
+
+    @Test
+    public void testAsyncFlush() throws IOException, WriteProcessException {
+        conf.asyncFlush = true;
+        write(asyncFile);
+        conf.asyncFlush = false;
+        write(syncFile);
+
+        TsFile asyncTsFile = new TsFile(new LocalFileInput(asyncFile));
+        TsFile syncTsFile = new TsFile(new LocalFileInput(syncFile));
+        assertTrue(asyncTsFile.getRowGroupPosList().size() > 2);
+        assertEquals(syncTsFile.getDeltaObjectRowGroupCount(), asyncTsFile.getDeltaObjectRowGroupCount());
+        for (String path : new String[] {"d0.s0", "d0.s1", "d1.s0", "d1.s1"}) {
+            List<Path> paths = new ArrayList<>();
+            paths.add(new Path(path));
+            QueryDataSet asyncDataSet = asyncTsFile.query(paths, null, null);
+            QueryDataSet syncDataSet = syncTsFile.query(paths, null, null);
+            int count = 0;
+            while (syncDataSet.hasNextRecord()) {
+                assertTrue(asyncDataSet.hasNextRecord());
+                RowRecord expected = syncDataSet.getNextRecord();
+                RowRecord actual = asyncDataSet.getNextRecord();
+                assertEquals(expected.timestamp, actual.timestamp);
+                assertEquals(expected.getFields().get(0).getStringValue(),
+                        actual.getFields().get(0).getStringValue());
+                count++;
+            }
+            assertFalse(asyncDataSet.hasNextRecord());
+            assertEquals(ROW_COUNT / 2, count);
+        }
+    }
+
+    @Test
+    public void testCloseAfterFlushFailure() throws IOException, WriteProcessException {
+        conf.asyncFlush = true;
+        FailingOutputStream output = new FailingOutputStream(new File(asyncFile));
+        TsFile tsFile = new TsFile(output, new JSONObject(schemaString));
+        for (int i = 0; i < 100; i++) {
+            TSRecord record = new TSRecord(i, "d" + i % 2);
+            record.addTuple(new IntDataPoint("s0", i % 100));
+            record.addTuple(new LongDataPoint("s1", i * 7L));
+            tsFile.writeLine(record);
+        }
+        // the remaining row group is flushed in background while closing
+        output.isFailing = true;
+        try {
+            tsFile.close();
+            fail("flush failure should be thrown by close");
+        } catch (IOException e) {
+            assertTrue(output.isClosed);
+        }
+    }
+
+    private static class FailingOutputStream extends RandomAccessOutputStream {
+        private volatile boolean isFailing;
+        private volatile boolean isClosed;
+
+        FailingOutputStream(File file) throws IOException {
+            super(file);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            checkFailing();
+            super.write(b);
+        }
+
+        @Override
+        public void write(byte b[]) throws IOException {
+            checkFailing();
+            super.write(b);
+        }
+
+        @Override
+        public void write(byte b[], int off, int len) throws IOException {
+            checkFailing();
+            super.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            isClosed = true;
+            super.close();
+        }
+
+        private void checkFailing() throws IOException {
+            if (isFailing)
+                throw new IOException("disk is full");
+        }
+    }
+
+    private void write(String file) throws IOException, WriteProcessException {
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(file)),
+                new JSONObject(schemaString));
+        for (int i = 0; i < ROW_COUNT; i++) {
+            TSRecord record = new TSRecord(i, "d" + i % 2);
+            record.addTuple(new IntDataPoint("s0", i % 100));
+            record.addTuple(new LongDataPoint("s1", i * 7L));
+            tsFile.writeLine(record);
+        }
+        tsFile.close();
+    }
+}
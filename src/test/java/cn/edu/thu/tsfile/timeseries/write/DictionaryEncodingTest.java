@@ -0,0 +1,153 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.filter.definition.FilterExpression;
+import cn.edu.thu.tsfile.timeseries.filter.definition.FilterFactory;
+import cn.edu.thu.tsfile.timeseries.filter.definition.filterseries.FilterSeries;
+import cn.edu.thu.tsfile.timeseries.filter.definition.filterseries.FilterSeriesType;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.qp.Path;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.readSupport.RowRecord;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.StringDataPoint;
+
+/**
+ * test that BYTE_ARRAY series in PLAIN_DICTIONARY encoding are read the same as in PLAIN, falling
+ * back to PLAIN if the cardinality is high.
+ *
+ * @author kangrong
+ *
+ */
+public class DictionaryEncodingTest {
+    private static final int ROW_COUNT = 50000;
+    private static final String[] STATUS = {"RUNNING", "STOPPED", "MAINTAINING", "FAILED", "IDLE"};
+    private final String outputFile = "src/test/resources/dictionaryEncodingTestOutput.ksn";
+    private final String plainFile = "src/test/resources/dictionaryEncodingTestPlain.ksn";
+    private final TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private int preRowGroupSize;
+    private int prePageSize;
+
+    @Before
+    public void prepare() {
+        preRowGroupSize = conf.rowGroupSize;
+        prePageSize = conf.pageSize;
+        new File(outputFile).delete();
+        new File(plainFile).delete();
+    }
+
+    @After
+    public void after() {
+        conf.rowGroupSize = preRowGroupSize;
+        conf.pageSize = prePageSize;
+        new File(outputFile).delete();
+        new File(plainFile).delete();
+    }
+
+    private String getSchema(String encoding) {
+        return "{\"schema\":["
+                + "{\"measurement_id\":\"s0\",\"data_type\":\"BYTE_ARRAY\",\"encoding\":\"" + encoding + "\"},"
+                + "{\"measurement_id\":\"s1\",\"data_type\":\"BYTE_ARRAY\",\"encoding\":\"" + encoding + "\"}],"
+                + "\"delta_type\":\"test_type\",\"row_group_size\":1048576,\"page_size\":8192}";
+    }
+
+    private String getStatus(int i) {
+        return STATUS[(i / 7) % STATUS.length];
+    }
+
+    private void writeFile(String file, String encoding) throws IOException, WriteProcessException {
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(file)),
+                new JSONObject(getSchema(encoding)));
+        for (int i = 0; i < ROW_COUNT; i++) {
+            TSRecord record = new TSRecord(i, "d1");
+            // s0 has low cardinality and s1 is distinct in each row
+            record.addTuple(new StringDataPoint("s0", Binary.valueOf(getStatus(i))));
+            record.addTuple(new StringDataPoint("s1", Binary.valueOf("v" + i)));
+            tsFile.writeLine(record);
+        }
+        tsFile.close();
+    }
+
+    private List<RowRecord> query(String file, String measurement, FilterExpression timeFilter,
+            FilterExpression valueFilter) throws IOException {
+        TsFile readTsFile = new TsFile(new LocalFileInput(file));
+        List<Path> paths = new ArrayList<>();
+        paths.add(new Path("d1." + measurement));
+        QueryDataSet dataSet = readTsFile.query(paths, timeFilter, valueFilter);
+        List<RowRecord> ret = new ArrayList<>();
+        while (dataSet.hasNextRecord())
+            ret.add(dataSet.getNextRecord());
+        return ret;
+    }
+
+    @Test
+    public void testQuery() throws IOException, WriteProcessException {
+        writeFile(outputFile, "PLAIN_DICTIONARY");
+        writeFile(plainFile, "PLAIN");
+        List<RowRecord> records = query(outputFile, "s0", null, null);
+        assertEquals(ROW_COUNT, records.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            assertEquals(i, records.get(i).timestamp);
+            assertEquals(getStatus(i), records.get(i).getFields().get(0).getStringValue());
+        }
+        // s1 falls back to PLAIN
+        records = query(outputFile, "s1", null, null);
+        assertEquals(ROW_COUNT, records.size());
+        for (int i = 0; i < ROW_COUNT; i++)
+            assertEquals("v" + i, records.get(i).getFields().get(0).getStringValue());
+        // s0 takes about one byte per value in dictionary encoding instead of 11 in PLAIN
+        long plainSize = new File(plainFile).length();
+        long dictionarySize = new File(outputFile).length();
+        assertTrue(dictionarySize + (long) ROW_COUNT * 8 < plainSize);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    public void testQueryWithFilter() throws IOException, WriteProcessException {
+        writeFile(outputFile, "PLAIN_DICTIONARY");
+        writeFile(plainFile, "PLAIN");
+        FilterSeries s0 = FilterFactory.stringFilterSeries("d1", "s0", FilterSeriesType.VALUE_FILTER);
+        FilterExpression valueFilter = FilterFactory.eq(s0, Binary.valueOf("FAILED"));
+        FilterExpression timeFilter = FilterFactory.gtEq(FilterFactory.timeFilterSeries(),
+                (long) ROW_COUNT / 3, true);
+        assertSameRecords(query(plainFile, "s0", null, valueFilter),
+                query(outputFile, "s0", null, valueFilter));
+        assertSameRecords(query(plainFile, "s0", timeFilter, valueFilter),
+                query(outputFile, "s0", timeFilter, valueFilter));
+        List<RowRecord> records = query(outputFile, "s0", timeFilter, null);
+        assertEquals(ROW_COUNT - ROW_COUNT / 3, records.size());
+
+        valueFilter = FilterFactory.noteq(s0, Binary.valueOf("IDLE"));
+        records = query(outputFile, "s0", null, valueFilter);
+        assertSameRecords(query(plainFile, "s0", null, valueFilter), records);
+        assertEquals(ROW_COUNT - ROW_COUNT / 5, records.size(), 7);
+    }
+
+    private void assertSameRecords(List<RowRecord> expected, List<RowRecord> actual) {
+        assertTrue(expected.size() > 0);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).timestamp, actual.get(i).timestamp);
+            assertEquals(expected.get(i).getFields().get(0).getStringValue(),
+                    actual.get(i).getFields().get(0).getStringValue());
+        }
+    }
+}
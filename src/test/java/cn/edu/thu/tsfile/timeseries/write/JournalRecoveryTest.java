@@ -0,0 +1,156 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.qp.Path;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.readSupport.RowRecord;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.io.RowGroupMetaDataJournal;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.IntDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.LongDataPoint;
+
+/**
+ * test that a TsFile not closed normally is recovered from its journal and can be appended.
+ *
+ * @author kangrong
+ *
+ */
+public class JournalRecoveryTest {
+    private static final int ROW_COUNT = 30000;
+    private static final long APPEND_START = 1000000;
+    private final File file = new File("src/test/resources/journalRecoveryTestOutput.ksn");
+    private final File journalFile = RowGroupMetaDataJournal.getJournalFile(file);
+    private final TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private int preRowGroupSize;
+    private int prePageSize;
+
+    private final String schemaString = "{\"schema\":["
+            + "{\"measurement_id\":\"s0\",\"data_type\":\"INT32\",\"encoding\":\"RLE\"},"
+            + "{\"measurement_id\":\"s1\",\"data_type\":\"INT64\",\"encoding\":\"TS_2DIFF\"}],"
+            + "\"delta_type\":\"test_type\",\"row_group_size\":16384,\"page_size\":2048}";
+
+    @Before
+    public void prepare() {
+        preRowGroupSize = conf.rowGroupSize;
+        prePageSize = conf.pageSize;
+        file.delete();
+        journalFile.delete();
+    }
+
+    @After
+    public void after() {
+        conf.rowGroupSize = preRowGroupSize;
+        conf.pageSize = prePageSize;
+        file.delete();
+        journalFile.delete();
+    }
+
+    @Test
+    public void testCloseNormally() throws IOException, WriteProcessException {
+        TsFile tsFile = new TsFile(file, new JSONObject(schemaString));
+        write(tsFile, 0, ROW_COUNT);
+        assertTrue(journalFile.exists());
+        tsFile.close();
+        assertFalse(journalFile.exists());
+        check(ROW_COUNT, 0);
+    }
+
+    @Test
+    public void testRecover() throws IOException, WriteProcessException {
+        // the writer is abandoned without closing, as if the process crashed
+        TsFile tsFile = new TsFile(file, new JSONObject(schemaString));
+        write(tsFile, 0, ROW_COUNT);
+        long journalLength = journalFile.length();
+        // a torn row group in data file and a torn entry in journal
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.write(new byte[1000]);
+        }
+        try (FileOutputStream out = new FileOutputStream(journalFile, true)) {
+            out.write(new byte[] {0, 0, 1, 0, 5, 6, 7});
+        }
+
+        tsFile = TsFile.recover(file);
+        assertEquals(journalLength, journalFile.length());
+        write(tsFile, APPEND_START, 1000);
+        tsFile.close();
+        assertFalse(journalFile.exists());
+
+        int recovered = check(-1, 1000);
+        assertTrue(recovered > 0);
+        assertTrue(recovered < ROW_COUNT);
+    }
+
+    @Test
+    public void testRecoverWithoutRowGroup() throws IOException, WriteProcessException {
+        TsFile tsFile = new TsFile(file, new JSONObject(schemaString));
+        write(tsFile, 0, 10);
+        tsFile = TsFile.recover(file);
+        write(tsFile, APPEND_START, 1000);
+        tsFile.close();
+        check(0, 1000);
+    }
+
+    private void write(TsFile tsFile, long start, int count)
+            throws IOException, WriteProcessException {
+        for (long i = start; i < start + count; i++) {
+            TSRecord record = new TSRecord(i, "d1");
+            record.addTuple(new IntDataPoint("s0", (int) (i % 100)));
+            record.addTuple(new LongDataPoint("s1", i * 3));
+            tsFile.writeLine(record);
+        }
+    }
+
+    /**
+     * check that the file contains times [0, n) and [APPEND_START, APPEND_START + appended)
+     *
+     * @param expectedCount - expected n, or -1 if unknown
+     * @return - n
+     */
+    private int check(int expectedCount, int appended) throws IOException {
+        TsFile readTsFile = new TsFile(new LocalFileInput(file.getPath()));
+        List<Path> paths = new ArrayList<>();
+        paths.add(new Path("d1.s1"));
+        QueryDataSet dataSet = readTsFile.query(paths, null, null);
+        long expectedTime = 0;
+        int count = 0;
+        while (dataSet.hasNextRecord()) {
+            RowRecord r = dataSet.getNextRecord();
+            if (r.timestamp >= APPEND_START && expectedTime < APPEND_START) {
+                if (expectedCount >= 0)
+                    assertEquals(expectedCount, count);
+                expectedCount = count;
+                expectedTime = APPEND_START;
+            }
+            assertEquals(expectedTime, r.timestamp);
+            assertEquals(expectedTime * 3, r.getFields().get(0).getLongV());
+            expectedTime++;
+            count++;
+        }
+        if (appended == 0) {
+            assertEquals(expectedCount, count);
+        } else {
+            assertEquals(APPEND_START + appended, expectedTime);
+            assertEquals(expectedCount + appended, count);
+        }
+        return expectedCount;
+    }
+}
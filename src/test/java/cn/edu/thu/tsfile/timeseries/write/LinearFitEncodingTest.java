@@ -0,0 +1,132 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.file.metadata.RowGroupMetaData;
+import cn.edu.thu.tsfile.file.metadata.TimeSeriesChunkMetaData;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.FileReader;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.qp.Path;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.readSupport.RowRecord;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.DoubleDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.FloatDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.schema.converter.TSEncodingConverter;
+
+/**
+ * test that series encoded by SDT and PLA are read within the max error at original timestamps,
+ * and that the max error is recorded in metadata of chunks.
+ *
+ * @author kangrong
+ *
+ */
+public class LinearFitEncodingTest {
+  private static final int ROW_COUNT = 50000;
+  private final String outputFile = "src/test/resources/linearFitEncodingTestOutput.ksn";
+  private final String plainFile = "src/test/resources/linearFitEncodingTestPlain.ksn";
+
+  @Before
+  public void prepare() {
+    new File(outputFile).delete();
+    new File(plainFile).delete();
+  }
+
+  @After
+  public void after() {
+    new File(outputFile).delete();
+    new File(plainFile).delete();
+  }
+
+  private String getSchema(String encoding0, String encoding1) {
+    return "{\"schema\":["
+        + "{\"measurement_id\":\"s0\",\"data_type\":\"DOUBLE\",\"encoding\":\"" + encoding0 + "\",\"max_error\":0.05},"
+        + "{\"measurement_id\":\"s1\",\"data_type\":\"FLOAT\",\"encoding\":\"" + encoding1 + "\",\"max_error\":2}],"
+        + "\"delta_type\":\"test_type\",\"row_group_size\":1048576,\"page_size\":8192}";
+  }
+
+  /**
+   * a slowly changing process value
+   */
+  private double getValue(int i) {
+    return 300 + 40 * Math.sin(i / 2000.0) + (i % 17) * 0.01;
+  }
+
+  private void writeFile(String file, String encoding0, String encoding1)
+      throws IOException, WriteProcessException {
+    TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(file)),
+        new JSONObject(getSchema(encoding0, encoding1)));
+    for (int i = 0; i < ROW_COUNT; i++) {
+      TSRecord record = new TSRecord(i * 1000L, "d1");
+      record.addTuple(new DoubleDataPoint("s0", getValue(i)));
+      // s1 misses some points
+      if (i % 11 != 0)
+        record.addTuple(new FloatDataPoint("s1", (float) getValue(i) * 10));
+      tsFile.writeLine(record);
+    }
+    tsFile.close();
+  }
+
+  private List<RowRecord> query(String file, String measurement) throws IOException {
+    LocalFileInput input = new LocalFileInput(file);
+    TsFile readTsFile = new TsFile(input);
+    List<Path> paths = new ArrayList<>();
+    paths.add(new Path("d1." + measurement));
+    QueryDataSet dataSet = readTsFile.query(paths, null, null);
+    List<RowRecord> ret = new ArrayList<>();
+    while (dataSet.hasNextRecord()) {
+      ret.add(dataSet.getNextRecord());
+    }
+    input.close();
+    return ret;
+  }
+
+  @Test
+  public void testWriteAndRead() throws IOException, WriteProcessException {
+    writeFile(outputFile, "SDT", "PLA");
+    writeFile(plainFile, "PLAIN", "PLAIN");
+    assertTrue(new File(outputFile).length() * 3 < new File(plainFile).length());
+
+    List<RowRecord> records = query(outputFile, "s0");
+    assertEquals(ROW_COUNT, records.size());
+    for (int i = 0; i < ROW_COUNT; i++) {
+      RowRecord record = records.get(i);
+      assertEquals(i * 1000L, record.getTime());
+      assertEquals(getValue(i), record.getFields().get(0).getDoubleV(), 0.05 + 1e-9);
+    }
+    List<RowRecord> plainRecords = query(plainFile, "s1");
+    records = query(outputFile, "s1");
+    assertEquals(plainRecords.size(), records.size());
+    for (int i = 0; i < records.size(); i++) {
+      float expected = plainRecords.get(i).getFields().get(0).getFloatV();
+      assertEquals(plainRecords.get(i).getTime(), records.get(i).getTime());
+      assertEquals(expected, records.get(i).getFields().get(0).getFloatV(), 2 + Math.ulp(expected));
+    }
+
+    // the exact max error is in JSON metadata, and it's rounded up in max_error field
+    LocalFileInput input = new LocalFileInput(outputFile);
+    FileReader reader = new FileReader(input);
+    for (RowGroupMetaData rowGroup : reader.getFileMetadata().getRowGroups()) {
+      for (TimeSeriesChunkMetaData chunk : rowGroup.getTimeSeriesChunkMetaDataList()) {
+        String measurement = chunk.getProperties().getMeasurementUID();
+        assertEquals("s0".equals(measurement) ? 1 : 2, chunk.getVInTimeSeriesChunkMetaData().getMaxError());
+        assertEquals("s0".equals(measurement) ? 0.05 : 2.0, TSEncodingConverter.LinearFit.getMaxError(chunk), 0);
+      }
+    }
+    input.close();
+  }
+}
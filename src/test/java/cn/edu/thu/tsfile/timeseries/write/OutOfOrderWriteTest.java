@@ -0,0 +1,200 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.filter.definition.FilterExpression;
+import cn.edu.thu.tsfile.timeseries.filter.definition.FilterFactory;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.qp.Path;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.readSupport.RowRecord;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.LongDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.series.TimeValueSortBuffer;
+
+/**
+ * test that points arriving out of order within {@code outOfOrderWindow} are written in time order
+ * without duplicated time.
+ *
+ * @author kangrong
+ *
+ */
+public class OutOfOrderWriteTest {
+    private static final int ROW_COUNT = 51200;
+    private static final int WINDOW = 64;
+    private final String outputFile = "src/test/resources/outOfOrderTestOutput.ksn";
+    private final TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private int preRowGroupSize;
+    private int prePageSize;
+    private int preOutOfOrderWindow;
+
+    private final String schemaString = "{\"schema\":["
+            + "{\"measurement_id\":\"s0\",\"data_type\":\"INT64\",\"encoding\":\"TS_2DIFF\"}],"
+            + "\"delta_type\":\"test_type\",\"row_group_size\":65536,\"page_size\":2048}";
+
+    @Before
+    public void prepare() {
+        preRowGroupSize = conf.rowGroupSize;
+        prePageSize = conf.pageSize;
+        preOutOfOrderWindow = conf.outOfOrderWindow;
+        conf.outOfOrderWindow = WINDOW;
+        new File(outputFile).delete();
+    }
+
+    @After
+    public void after() {
+        conf.rowGroupSize = preRowGroupSize;
+        conf.pageSize = prePageSize;
+        conf.outOfOrderWindow = preOutOfOrderWindow;
+        new File(outputFile).delete();
+    }
+
+    @Test
+    public void testSortBuffer() {
+        TimeValueSortBuffer buffer = new TimeValueSortBuffer(TSDataType.BYTE_ARRAY, 8);
+        long[] times = {5, 3, 4, 3, 1, 5, 2, 0};
+        for (int i = 0; i < times.length; i++)
+            buffer.put(times[i], new Binary(String.valueOf(i)));
+        assertEquals(true, buffer.isFull());
+        buffer.sortAndDeduplicate();
+        assertEquals(6, buffer.size());
+        String[] expected = {"7", "4", "6", "3", "2", "5"};
+        for (int i = 0; i < buffer.size(); i++) {
+            assertEquals(i, buffer.getTime(i));
+            assertEquals(expected[i], buffer.getBinary(i).getStringValue());
+        }
+        buffer.removeFirst(4);
+        assertEquals(2, buffer.size());
+        assertEquals(4, buffer.getTime(0));
+        assertEquals("5", buffer.getBinary(1).getStringValue());
+    }
+
+    @Test
+    public void testWriteOutOfOrder() throws IOException, WriteProcessException {
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(outputFile)),
+                new JSONObject(schemaString));
+        Random random = new Random(7);
+        // time is shuffled in blocks smaller than window, and every tenth point is written twice
+        int block = WINDOW / 2;
+        for (int start = 0; start < ROW_COUNT; start += block) {
+            long[] times = new long[block];
+            for (int i = 0; i < block; i++)
+                times[i] = start + i;
+            for (int i = block - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                long tmp = times[i];
+                times[i] = times[j];
+                times[j] = tmp;
+            }
+            for (long t : times) {
+                if (t % 10 == 0)
+                    writeLine(tsFile, t, -1);
+                writeLine(tsFile, t, t * 3);
+            }
+        }
+        tsFile.close();
+
+        TsFile readTsFile = new TsFile(new LocalFileInput(outputFile));
+        List<Path> paths = new ArrayList<>();
+        paths.add(new Path("d1.s0"));
+        QueryDataSet dataSet = readTsFile.query(paths, null, null);
+        long expectedTime = 0;
+        while (dataSet.hasNextRecord()) {
+            RowRecord r = dataSet.getNextRecord();
+            assertEquals(expectedTime, r.timestamp);
+            assertEquals(expectedTime * 3, r.getFields().get(0).getLongV());
+            expectedTime++;
+        }
+        assertEquals(ROW_COUNT, expectedTime);
+
+        // time filter relies on correct time range in page headers
+        FilterExpression timeFilter = FilterFactory.and(
+                FilterFactory.gtEq(FilterFactory.timeFilterSeries(), 10000L, true),
+                FilterFactory.ltEq(FilterFactory.timeFilterSeries(), 20000L, false));
+        dataSet = readTsFile.query(paths, timeFilter, null);
+        expectedTime = 10000;
+        while (dataSet.hasNextRecord()) {
+            RowRecord r = dataSet.getNextRecord();
+            assertEquals(expectedTime, r.timestamp);
+            expectedTime++;
+        }
+        assertEquals(20000, expectedTime);
+    }
+
+    @Test
+    public void testRejectLatePoint() throws IOException, WriteProcessException {
+        String schema = schemaString.replace("65536", "16384");
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(outputFile)),
+                new JSONObject(schema));
+        for (long t = 0; t < ROW_COUNT; t++)
+            writeLine(tsFile, t, t * 3);
+        // older than the window, its page has been encoded
+        assertRejected(tsFile, "d1", ROW_COUNT - WINDOW * 3);
+        // within the window, it replaces the staged point
+        long replacedTime = ROW_COUNT - WINDOW / 2;
+        writeLine(tsFile, replacedTime, -1);
+        // d1 doesn't appear in following row groups, so its series writer is created again
+        for (long t = 0; t < ROW_COUNT; t++)
+            writeLine(tsFile, "d2", t, t);
+        assertRejected(tsFile, "d1", ROW_COUNT - 1);
+        writeLine(tsFile, ROW_COUNT, ROW_COUNT * 3);
+        tsFile.close();
+
+        TsFile readTsFile = new TsFile(new LocalFileInput(outputFile));
+        List<Path> paths = new ArrayList<>();
+        paths.add(new Path("d1.s0"));
+        long startTime = ROW_COUNT - WINDOW * 4;
+        FilterExpression timeFilter =
+                FilterFactory.gtEq(FilterFactory.timeFilterSeries(), startTime, true);
+        QueryDataSet dataSet = readTsFile.query(paths, timeFilter, null);
+        long expectedTime = startTime;
+        while (dataSet.hasNextRecord()) {
+            RowRecord r = dataSet.getNextRecord();
+            assertEquals(expectedTime, r.timestamp);
+            long expectedValue = expectedTime == replacedTime ? -1 : expectedTime * 3;
+            assertEquals(expectedValue, r.getFields().get(0).getLongV());
+            expectedTime++;
+        }
+        assertEquals(ROW_COUNT + 1, expectedTime);
+    }
+
+    private void assertRejected(TsFile tsFile, String deltaObjectId, long time) throws IOException {
+        try {
+            writeLine(tsFile, deltaObjectId, time, time * 3);
+            fail("point at " + time + " arriving later than window should be rejected");
+        } catch (WriteProcessException e) {
+            // expected
+        }
+    }
+
+    private void writeLine(TsFile tsFile, long time, long value)
+            throws IOException, WriteProcessException {
+        writeLine(tsFile, "d1", time, value);
+    }
+
+    private void writeLine(TsFile tsFile, String deltaObjectId, long time, long value)
+            throws IOException, WriteProcessException {
+        TSRecord record = new TSRecord(time, deltaObjectId);
+        record.addTuple(new LongDataPoint("s0", value));
+        tsFile.writeLine(record);
+    }
+}
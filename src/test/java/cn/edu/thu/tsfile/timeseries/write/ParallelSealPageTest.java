@@ -0,0 +1,119 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.DoubleDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.LongDataPoint;
+
+/**
+ * test that sealing pages in parallel produces the same file as sealing serially.
+ *
+ * @author kangrong
+ *
+ */
+public class ParallelSealPageTest {
+    private static final int ROW_COUNT = 20000;
+    private static final int DELTA_OBJECT_NUM = 5;
+    private static final int SERIES_NUM = 20;
+    private final String parallelFile = "src/test/resources/parallelSealTestOutput.ksn";
+    private final String serialFile = "src/test/resources/serialSealTestOutput.ksn";
+    private final TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private int preRowGroupSize;
+    private int prePageSize;
+    private boolean preParallelSealPage;
+    private int preSealPageThreadNum;
+
+    @Before
+    public void prepare() {
+        preRowGroupSize = conf.rowGroupSize;
+        prePageSize = conf.pageSize;
+        preParallelSealPage = conf.parallelSealPage;
+        preSealPageThreadNum = conf.sealPageThreadNum;
+        new File(parallelFile).delete();
+        new File(serialFile).delete();
+    }
+
+    @After
+    public void after() {
+        conf.rowGroupSize = preRowGroupSize;
+        conf.pageSize = prePageSize;
+        conf.parallelSealPage = preParallelSealPage;
+        conf.sealPageThreadNum = preSealPageThreadNum;
+        new File(parallelFile).delete();
+        new File(serialFile).delete();
+    }
+
+    @Test
+    public void testCommonPool() throws IOException, WriteProcessException {
+        conf.parallelSealPage = true;
+        conf.sealPageThreadNum = 0;
+        write(parallelFile);
+        conf.parallelSealPage = false;
+        write(serialFile);
+        assertArrayEquals(Files.readAllBytes(new File(serialFile).toPath()),
+                Files.readAllBytes(new File(parallelFile).toPath()));
+    }
+
+    @Test
+    public void testOwnedPool() throws IOException, WriteProcessException {
+        conf.parallelSealPage = true;
+        conf.sealPageThreadNum = 4;
+        write(parallelFile);
+        conf.parallelSealPage = false;
+        write(serialFile);
+        assertArrayEquals(Files.readAllBytes(new File(serialFile).toPath()),
+                Files.readAllBytes(new File(parallelFile).toPath()));
+    }
+
+    private void write(String file) throws IOException, WriteProcessException {
+        JSONArray schema = new JSONArray();
+        for (int i = 0; i < SERIES_NUM; i++) {
+            JSONObject series = new JSONObject();
+            series.put("measurement_id", "s" + i);
+            if (i % 2 == 0) {
+                series.put("data_type", "INT64");
+                series.put("encoding", "TS_2DIFF");
+            } else {
+                series.put("data_type", "DOUBLE");
+                series.put("encoding", "RLE");
+            }
+            if (i % 3 == 0)
+                series.put("compressor", "SNAPPY");
+            schema.put(series);
+        }
+        JSONObject jsonSchema = new JSONObject();
+        jsonSchema.put("schema", schema);
+        jsonSchema.put("delta_type", "test_type");
+        jsonSchema.put("row_group_size", 512 * 1024);
+        jsonSchema.put("page_size", 4096);
+
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(file)), jsonSchema);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            TSRecord record = new TSRecord(i, "d" + i % DELTA_OBJECT_NUM);
+            for (int j = 0; j < SERIES_NUM; j++) {
+                if (j % 2 == 0)
+                    record.addTuple(new LongDataPoint("s" + j, (long) i * j));
+                else
+                    record.addTuple(new DoubleDataPoint("s" + j, i / (j + 1.0)));
+            }
+            tsFile.writeLine(record);
+        }
+        tsFile.close();
+    }
+}
@@ -0,0 +1,225 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.qp.Path;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.readSupport.RowRecord;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.TSTablet;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.IntDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.LongDataPoint;
+
+/**
+ * test that PartitionedTsFileWriter shards delta objects into files of partitions, rolls files and
+ * records them in manifest.
+ *
+ * @author kangrong
+ *
+ */
+public class PartitionedTsFileWriterTest {
+    private static final int PARTITION_NUM = 3;
+    private static final int DELTA_OBJECT_NUM = 10;
+    private static final int ROW_COUNT = 20000;
+    private final File directory = new File("src/test/resources/partitionedWriterTest");
+    private final TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private int preRowGroupSize;
+    private int prePageSize;
+    private long preRollSize;
+    private long preRollInterval;
+
+    private final String schemaString = "{\"schema\":["
+            + "{\"measurement_id\":\"s0\",\"data_type\":\"INT32\",\"encoding\":\"RLE\"},"
+            + "{\"measurement_id\":\"s1\",\"data_type\":\"INT64\",\"encoding\":\"TS_2DIFF\"}],"
+            + "\"delta_type\":\"test_type\",\"row_group_size\":32768,\"page_size\":4096}";
+
+    @Before
+    public void prepare() {
+        preRowGroupSize = conf.rowGroupSize;
+        prePageSize = conf.pageSize;
+        preRollSize = conf.partitionRollSize;
+        preRollInterval = conf.partitionRollInterval;
+        deleteDirectory();
+        directory.mkdirs();
+    }
+
+    @After
+    public void after() {
+        conf.rowGroupSize = preRowGroupSize;
+        conf.pageSize = prePageSize;
+        conf.partitionRollSize = preRollSize;
+        conf.partitionRollInterval = preRollInterval;
+        deleteDirectory();
+    }
+
+    private void deleteDirectory() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files)
+                file.delete();
+        }
+        directory.delete();
+    }
+
+    @Test
+    public void testWriteAndRoll() throws IOException, WriteProcessException {
+        conf.partitionRollSize = 64 * 1024;
+        PartitionedTsFileWriter writer = new PartitionedTsFileWriter(directory, "test",
+                new JSONObject(schemaString), PARTITION_NUM);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            for (int d = 0; d < DELTA_OBJECT_NUM; d++) {
+                if (d == 0) {
+                    // d0 is written in tablets
+                    if (i % 100 == 0)
+                        writer.write(createTablet(i, 100));
+                    continue;
+                }
+                TSRecord record = new TSRecord(i, "d" + d);
+                record.addTuple(new IntDataPoint("s0", i + d));
+                record.addTuple(new LongDataPoint("s1", i * 3L));
+                writer.write(record);
+            }
+        }
+        List<PartitionedTsFileWriter.FileInfo> infos = writer.close();
+
+        // manifest file is the same as returned
+        JSONArray files = new JSONObject(new String(
+                Files.readAllBytes(writer.getManifestFile().toPath()), StandardCharsets.UTF_8))
+                        .getJSONArray("files");
+        assertEquals(infos.size(), files.length());
+        assertTrue(infos.size() > PARTITION_NUM);
+
+        long totalRecords = 0;
+        Map<String, Integer> deltaObjectPartition = new HashMap<>();
+        Map<String, Long> nextTime = new HashMap<>();
+        for (int i = 0; i < files.length(); i++) {
+            JSONObject file = files.getJSONObject(i);
+            assertEquals(infos.get(i).fileName, file.getString("file"));
+            totalRecords += file.getLong("record_count");
+        }
+        assertEquals((long) ROW_COUNT * DELTA_OBJECT_NUM, totalRecords);
+
+        // files of a partition are in sequence, and a delta object only appears in one partition
+        for (int p = 0; p < PARTITION_NUM; p++) {
+            for (int seq = 0;; seq++) {
+                File file = new File(directory, "test-" + p + "-" + seq + ".tsfile");
+                if (!file.exists())
+                    break;
+                PartitionedTsFileWriter.FileInfo info = findInfo(infos, file.getName());
+                assertEquals(p, info.partition);
+                TsFile readTsFile = new TsFile(new LocalFileInput(file.getPath()));
+                long minTime = Long.MAX_VALUE;
+                long maxTime = Long.MIN_VALUE;
+                for (String deltaObject : readTsFile.getAllDeltaObject()) {
+                    Integer pre = deltaObjectPartition.put(deltaObject, p);
+                    assertTrue(pre == null || pre == p);
+                    List<Path> paths = new ArrayList<>();
+                    paths.add(new Path(deltaObject + ".s1"));
+                    QueryDataSet dataSet = readTsFile.query(paths, null, null);
+                    long expected = nextTime.containsKey(deltaObject) ? nextTime.get(deltaObject) : 0;
+                    while (dataSet.hasNextRecord()) {
+                        RowRecord r = dataSet.getNextRecord();
+                        assertEquals(expected, r.timestamp);
+                        assertEquals(expected * 3, r.getFields().get(0).getLongV());
+                        minTime = Math.min(minTime, r.timestamp);
+                        maxTime = Math.max(maxTime, r.timestamp);
+                        expected++;
+                    }
+                    nextTime.put(deltaObject, expected);
+                }
+                assertEquals(info.startTime, minTime);
+                assertEquals(info.endTime, maxTime);
+            }
+        }
+        assertEquals(DELTA_OBJECT_NUM, nextTime.size());
+        for (long next : nextTime.values())
+            assertEquals(ROW_COUNT, next);
+    }
+
+    @Test
+    public void testFailure() throws IOException, WriteProcessException {
+        PartitionedTsFileWriter writer = new PartitionedTsFileWriter(directory, "test",
+                new JSONObject(schemaString), PARTITION_NUM);
+        TSRecord record = new TSRecord(1, "d1");
+        record.addTuple(new IntDataPoint("unknown", 1));
+        writer.write(record);
+        try {
+            writer.close();
+            fail("failure of partition should be thrown");
+        } catch (IOException e) {
+            assertTrue(e.getCause() instanceof WriteProcessException);
+        }
+        // the partial file of failed partition is deleted
+        File[] files = directory.listFiles();
+        for (File file : files)
+            assertFalse(file.getName(), file.getName().endsWith(".tsfile"));
+    }
+
+    @Test
+    public void testRollByInterval() throws IOException, WriteProcessException, InterruptedException {
+        conf.partitionRollInterval = 200;
+        PartitionedTsFileWriter writer = new PartitionedTsFileWriter(directory, "test",
+                new JSONObject(schemaString), 1);
+        writer.write(createTablet(0, 100));
+        // the idle partition rolls without waiting for next record
+        long deadline = System.currentTimeMillis() + 10000;
+        while (writer.getManifest().isEmpty() && System.currentTimeMillis() < deadline)
+            Thread.sleep(20);
+        List<PartitionedTsFileWriter.FileInfo> infos = writer.getManifest();
+        assertEquals(1, infos.size());
+        assertEquals(100, infos.get(0).recordCount);
+        assertTrue(new String(Files.readAllBytes(writer.getManifestFile().toPath()),
+                StandardCharsets.UTF_8).contains(infos.get(0).fileName));
+
+        writer.write(createTablet(100, 100));
+        infos = writer.close();
+        assertEquals(2, infos.size());
+        assertEquals("test-0-1.tsfile", infos.get(1).fileName);
+        assertEquals(100, infos.get(1).startTime);
+    }
+
+    private PartitionedTsFileWriter.FileInfo findInfo(List<PartitionedTsFileWriter.FileInfo> infos,
+            String fileName) {
+        for (PartitionedTsFileWriter.FileInfo info : infos) {
+            if (info.fileName.equals(fileName))
+                return info;
+        }
+        fail(fileName + " is not in manifest");
+        return null;
+    }
+
+    private TSTablet createTablet(int start, int rowCount) {
+        long[] times = new long[rowCount];
+        int[] s0 = new int[rowCount];
+        long[] s1 = new long[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            times[i] = start + i;
+            s0[i] = start + i;
+            s1[i] = (start + i) * 3L;
+        }
+        return new TSTablet("d0", new String[] {"s0", "s1"}, times, new Object[] {s0, s1});
+    }
+}
@@ -0,0 +1,146 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.filter.definition.FilterExpression;
+import cn.edu.thu.tsfile.timeseries.filter.definition.FilterFactory;
+import cn.edu.thu.tsfile.timeseries.filter.definition.SingleSeriesFilterExpression;
+import cn.edu.thu.tsfile.timeseries.filter.definition.filterseries.FilterSeriesType;
+import cn.edu.thu.tsfile.timeseries.filter.definition.filterseries.LongFilterSeries;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.qp.Path;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.readSupport.RowRecord;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.DoubleDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.IntDataPoint;
+
+/**
+ * test that series with REGULAR encoded time column are read the same as with TS_2DIFF, when
+ * values are located by time filters and by times of another series.
+ *
+ * @author kangrong
+ *
+ */
+public class RegularTimeEncodingTest {
+    private static final int ROW_COUNT = 50000;
+    private final String outputFile = "src/test/resources/regularTimeEncodingTestOutput.ksn";
+    private final String deltaFile = "src/test/resources/regularTimeEncodingTestDelta.ksn";
+    private final TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private String preTimeSeriesEncoder;
+
+    @Before
+    public void prepare() {
+        preTimeSeriesEncoder = conf.timeSeriesEncoder;
+        new File(outputFile).delete();
+        new File(deltaFile).delete();
+    }
+
+    @After
+    public void after() {
+        conf.timeSeriesEncoder = preTimeSeriesEncoder;
+        new File(outputFile).delete();
+        new File(deltaFile).delete();
+    }
+
+    private String getSchema() {
+        return "{\"schema\":["
+                + "{\"measurement_id\":\"s0\",\"data_type\":\"INT32\",\"encoding\":\"RLE\"},"
+                + "{\"measurement_id\":\"s1\",\"data_type\":\"DOUBLE\",\"encoding\":\"GORILLA\"}],"
+                + "\"delta_type\":\"test_type\",\"row_group_size\":1048576,\"page_size\":8192}";
+    }
+
+    /**
+     * times of 10 ms interval, with missing points and a delayed one
+     */
+    private long getTime(int i) {
+        return i * 10L + (i / 3001) * 50 + (i % 7919 == 0 ? 3 : 0);
+    }
+
+    private void writeFile(String file, String timeEncoding) throws IOException, WriteProcessException {
+        conf.timeSeriesEncoder = timeEncoding;
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(file)), new JSONObject(getSchema()));
+        for (int i = 0; i < ROW_COUNT; i++) {
+            TSRecord record = new TSRecord(getTime(i), "d1");
+            record.addTuple(new IntDataPoint("s0", i % 100));
+            // s1 misses some points, so that its times are not the same as s0
+            if (i % 13 != 0)
+                record.addTuple(new DoubleDataPoint("s1", i / 8.0));
+            tsFile.writeLine(record);
+        }
+        tsFile.close();
+    }
+
+    private List<String> query(String file, FilterExpression timeFilter, FilterExpression valueFilter,
+            String... measurements) throws IOException {
+        LocalFileInput input = new LocalFileInput(file);
+        TsFile readTsFile = new TsFile(input);
+        List<Path> paths = new ArrayList<>();
+        for (String measurement : measurements)
+            paths.add(new Path("d1." + measurement));
+        QueryDataSet dataSet = readTsFile.query(paths, timeFilter, valueFilter);
+        List<String> ret = new ArrayList<>();
+        while (dataSet.hasNextRecord()) {
+            RowRecord record = dataSet.getNextRecord();
+            ret.add(record.toString());
+        }
+        input.close();
+        return ret;
+    }
+
+    private void assertSameQuery(FilterExpression timeFilter, FilterExpression valueFilter, String... measurements)
+            throws IOException {
+        List<String> expected = query(deltaFile, timeFilter, valueFilter, measurements);
+        List<String> actual = query(outputFile, timeFilter, valueFilter, measurements);
+        assertTrue(expected.size() > 0);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testQuery() throws IOException, WriteProcessException {
+        writeFile(outputFile, "REGULAR");
+        writeFile(deltaFile, "TS_2DIFF");
+        assertTrue(new File(outputFile).length() < new File(deltaFile).length());
+
+        List<String> records = query(outputFile, null, null, "s0");
+        assertEquals(ROW_COUNT, records.size());
+        assertSameQuery(null, null, "s0", "s1");
+
+        LongFilterSeries time = FilterFactory.timeFilterSeries();
+        SingleSeriesFilterExpression range = (SingleSeriesFilterExpression) FilterFactory.and(
+                FilterFactory.gtEq(time, getTime(12345), true), FilterFactory.ltEq(time, getTime(23456), false));
+        assertEquals(23456 - 12345, query(outputFile, range, null, "s0").size());
+        assertSameQuery(range, null, "s0", "s1");
+        // bounds between values, an interval out of range and disjoint intervals
+        FilterExpression timeFilter = FilterFactory.or(
+                FilterFactory.and(FilterFactory.gtEq(time, 1005L, false), FilterFactory.ltEq(time, 30007L, true)),
+                FilterFactory.or(FilterFactory.ltEq(time, -100L, true), FilterFactory.gtEq(time, getTime(40000), true)));
+        assertSameQuery(timeFilter, null, "s0", "s1");
+        assertSameQuery(FilterFactory.noteq(time, getTime(7919)), null, "s0");
+        assertSameQuery(FilterFactory.or(FilterFactory.ltEq(time, getTime(12345), false),
+                FilterFactory.gtEq(time, getTime(23456), true)), null, "s1");
+        assertSameQuery(FilterFactory.eq(time, getTime(7919)), null, "s0");
+
+        // times of s0 satisfying value filter are located in s1
+        FilterExpression valueFilter = FilterFactory.eq(
+                FilterFactory.intFilterSeries("d1", "s0", FilterSeriesType.VALUE_FILTER), 37);
+        assertSameQuery(null, valueFilter, "s0", "s1");
+        assertSameQuery(range, valueFilter, "s0", "s1");
+    }
+}
@@ -0,0 +1,290 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.qp.Path;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.readSupport.RowRecord;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.IntDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.LongDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.StringDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.schema.FileSchema;
+
+/**
+ * test that rows written by many producers through RingBufferRecordWriter are all in TsFile.
+ *
+ * @author kangrong
+ *
+ */
+public class RingBufferRecordWriterTest {
+    private static final int PRODUCER_NUM = 4;
+    private static final int ROW_COUNT = 10000;
+    private final String outputFile = "src/test/resources/ringBufferWriterTest.ksn";
+    private final TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private int preRowGroupSize;
+    private int prePageSize;
+
+    private final String schemaString = "{\"schema\":["
+            + "{\"measurement_id\":\"s0\",\"data_type\":\"INT32\",\"encoding\":\"RLE\"},"
+            + "{\"measurement_id\":\"s1\",\"data_type\":\"INT64\",\"encoding\":\"TS_2DIFF\"},"
+            + "{\"measurement_id\":\"s2\",\"data_type\":\"DOUBLE\",\"encoding\":\"PLAIN\"},"
+            + "{\"measurement_id\":\"s3\",\"data_type\":\"BYTE_ARRAY\",\"encoding\":\"PLAIN\"}],"
+            + "\"delta_type\":\"test_type\",\"row_group_size\":65536,\"page_size\":4096}";
+
+    @Before
+    public void prepare() {
+        preRowGroupSize = conf.rowGroupSize;
+        prePageSize = conf.pageSize;
+        new File(outputFile).delete();
+    }
+
+    @After
+    public void after() {
+        conf.rowGroupSize = preRowGroupSize;
+        conf.pageSize = prePageSize;
+        new File(outputFile).delete();
+    }
+
+    @Test
+    public void testBusySpin() throws Exception {
+        // busy spinning producers are slow if there are fewer cores than threads
+        testWaitStrategy(RingBufferRecordWriter.WaitStrategy.BUSY_SPIN, 1000);
+    }
+
+    @Test
+    public void testYielding() throws Exception {
+        testWaitStrategy(RingBufferRecordWriter.WaitStrategy.YIELDING, ROW_COUNT);
+    }
+
+    @Test
+    public void testSleeping() throws Exception {
+        testWaitStrategy(RingBufferRecordWriter.WaitStrategy.SLEEPING, ROW_COUNT);
+    }
+
+    @Test
+    public void testBlocking() throws Exception {
+        testWaitStrategy(RingBufferRecordWriter.WaitStrategy.BLOCKING, ROW_COUNT);
+    }
+
+    private void testWaitStrategy(RingBufferRecordWriter.WaitStrategy waitStrategy,
+            final int rowCount) throws Exception {
+        JSONObject schemaJson = new JSONObject(schemaString);
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(outputFile)), schemaJson);
+        // a small buffer makes producers wait for the consumer
+        final RingBufferRecordWriter writer =
+                new RingBufferRecordWriter(tsFile, new FileSchema(schemaJson), 64, waitStrategy);
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCER_NUM; p++) {
+            final int producer = p;
+            producers.add(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        produce(writer, producer, rowCount);
+                    } catch (Throwable e) {
+                        error.set(e);
+                    }
+                }
+            }));
+        }
+        for (Thread thread : producers)
+            thread.start();
+        for (Thread thread : producers)
+            thread.join();
+        writer.close();
+        tsFile.close();
+        if (error.get() != null)
+            throw new AssertionError(error.get());
+
+        for (int p = 0; p < PRODUCER_NUM; p++) {
+            String deltaObject = "d" + p;
+            List<String> s0 = readSeries(deltaObject, "s0");
+            List<String> s1 = readSeries(deltaObject, "s1");
+            List<String> s3 = readSeries(deltaObject, "s3");
+            assertEquals(rowCount, s1.size());
+            int s0Index = 0;
+            int s3Index = 0;
+            for (int i = 0; i < rowCount; i++) {
+                assertEquals(i + ":" + (i * 7L + p), s1.get(i));
+                if (i % 3 != 0)
+                    assertEquals(i + ":" + (i + p), s0.get(s0Index++));
+                if (i % 10 == 0)
+                    assertEquals(i + ":v" + i, s3.get(s3Index++));
+            }
+            assertEquals(s0.size(), s0Index);
+            assertEquals(s3.size(), s3Index);
+        }
+    }
+
+    /**
+     * even producers claim slots in batches, odd producers write records.
+     */
+    private void produce(RingBufferRecordWriter writer, int producer, int rowCount)
+            throws IOException {
+        String deltaObject = "d" + producer;
+        if (producer % 2 == 1) {
+            for (int i = 0; i < rowCount; i++) {
+                TSRecord record = new TSRecord(i, deltaObject);
+                if (i % 3 != 0)
+                    record.addTuple(new IntDataPoint("s0", i + producer));
+                record.addTuple(new LongDataPoint("s1", i * 7L + producer));
+                if (i % 10 == 0)
+                    record.addTuple(new StringDataPoint("s3", new Binary("v" + i)));
+                writer.write(record);
+            }
+            return;
+        }
+        int s0 = writer.getMeasurementIndex("s0");
+        int s1 = writer.getMeasurementIndex("s1");
+        int s3 = writer.getMeasurementIndex("s3");
+        int batch = 16 + producer;
+        for (int i = 0; i < rowCount; i += batch) {
+            int n = Math.min(batch, rowCount - i);
+            long seq = writer.claim(n);
+            for (int j = 0; j < n; j++) {
+                int time = i + j;
+                writer.setRow(seq + j, deltaObject, time);
+                if (time % 3 != 0)
+                    writer.setInt(seq + j, s0, time + producer);
+                writer.setLong(seq + j, s1, time * 7L + producer);
+                if (time % 10 == 0)
+                    writer.setBinary(seq + j, s3, new Binary("v" + time));
+            }
+            writer.publish(seq, n);
+        }
+    }
+
+    @Test
+    public void testCloseWhileClaiming() throws Exception {
+        JSONObject schemaJson = new JSONObject(schemaString);
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(outputFile)), schemaJson);
+        final RingBufferRecordWriter writer = new RingBufferRecordWriter(tsFile,
+                new FileSchema(schemaJson), 64, RingBufferRecordWriter.WaitStrategy.YIELDING);
+        final int s1 = writer.getMeasurementIndex("s1");
+        final int[] published = new int[PRODUCER_NUM];
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCER_NUM; p++) {
+            final int producer = p;
+            producers.add(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    // claim until the writer is closed, every claimed row must be written
+                    for (int i = 0;; i++) {
+                        long seq;
+                        try {
+                            seq = writer.claim(1);
+                        } catch (IOException e) {
+                            return;
+                        }
+                        try {
+                            writer.setRow(seq, "d" + producer, i);
+                            writer.setLong(seq, s1, i * 7L + producer);
+                        } catch (Throwable e) {
+                            error.set(e);
+                        } finally {
+                            writer.publish(seq, 1);
+                        }
+                        published[producer] = i + 1;
+                    }
+                }
+            }));
+        }
+        for (Thread thread : producers)
+            thread.start();
+        Thread.sleep(50);
+        writer.close();
+        for (Thread thread : producers)
+            thread.join();
+        tsFile.close();
+        if (error.get() != null)
+            throw new AssertionError(error.get());
+        try {
+            writer.claim(1);
+            fail("claiming after close should fail");
+        } catch (IOException e) {
+            // expected
+        }
+
+        for (int p = 0; p < PRODUCER_NUM; p++) {
+            List<String> values = readSeries("d" + p, "s1");
+            assertEquals(published[p], values.size());
+            for (int i = 0; i < values.size(); i++)
+                assertEquals(i + ":" + (i * 7L + p), values.get(i));
+        }
+    }
+
+    @Test
+    public void testFailure() throws IOException, WriteProcessException {
+        JSONObject schemaJson = new JSONObject(schemaString);
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(outputFile)), schemaJson);
+        // s9 is not in the schema of TsFile
+        JSONObject writerSchemaJson = new JSONObject(schemaString);
+        writerSchemaJson.getJSONArray("schema").put(new JSONObject(
+                "{\"measurement_id\":\"s9\",\"data_type\":\"INT32\",\"encoding\":\"RLE\"}"));
+        RingBufferRecordWriter writer = new RingBufferRecordWriter(tsFile,
+                new FileSchema(writerSchemaJson), 16, RingBufferRecordWriter.WaitStrategy.YIELDING);
+        try {
+            writer.claim(17);
+            fail("claiming more slots than buffer size should fail");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        // claim fails once the consumer has failed
+        boolean claimFailed = false;
+        for (int i = 0; i < 10000 && !claimFailed; i++) {
+            try {
+                long seq = writer.claim(1);
+                writer.setRow(seq, "d1", i);
+                writer.setInt(seq, writer.getMeasurementIndex("s9"), i);
+                writer.publish(seq, 1);
+            } catch (IOException e) {
+                assertTrue(e.getCause() instanceof WriteProcessException);
+                claimFailed = true;
+            }
+        }
+        assertTrue(claimFailed);
+        try {
+            writer.close();
+            fail("failure of consumer should be thrown by close");
+        } catch (IOException e) {
+            // expected
+        }
+        tsFile.close();
+    }
+
+    private List<String> readSeries(String deltaObject, String measurement) throws IOException {
+        TsFile readTsFile = new TsFile(new LocalFileInput(outputFile));
+        List<Path> paths = new ArrayList<>();
+        paths.add(new Path(deltaObject + "." + measurement));
+        QueryDataSet dataSet = readTsFile.query(paths, null, null);
+        List<String> ret = new ArrayList<>();
+        while (dataSet.hasNextRecord()) {
+            RowRecord r = dataSet.getNextRecord();
+            ret.add(r.timestamp + ":" + r.getFields().get(0).getStringValue());
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,141 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.filter.definition.FilterExpression;
+import cn.edu.thu.tsfile.timeseries.filter.definition.FilterFactory;
+import cn.edu.thu.tsfile.timeseries.filter.definition.filterseries.FilterSeries;
+import cn.edu.thu.tsfile.timeseries.filter.definition.filterseries.FilterSeriesType;
+import cn.edu.thu.tsfile.timeseries.filter.definition.filterseries.LongFilterSeries;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.qp.Path;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.readSupport.RowRecord;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.EnumDataPoint;
+
+/**
+ * test that enums encoded by ROARING_BITMAP are read the same as by BITMAP, when values are
+ * selected by value filters on per-value bitmaps.
+ *
+ * @author kangrong
+ *
+ */
+public class RoaringBitmapEncodingTest {
+  private static final int ROW_COUNT = 30000;
+  private static final int STATE_COUNT = 60;
+  private final String outputFile = "src/test/resources/roaringBitmapEncodingTestOutput.ksn";
+  private final String bitmapFile = "src/test/resources/roaringBitmapEncodingTestBitmap.ksn";
+
+  @Before
+  public void prepare() {
+    new File(outputFile).delete();
+    new File(bitmapFile).delete();
+  }
+
+  @After
+  public void after() {
+    new File(outputFile).delete();
+    new File(bitmapFile).delete();
+  }
+
+  private String getState(int i) {
+    return String.format("state%02d", i);
+  }
+
+  private String getSchema(String encoding) {
+    StringBuilder enumValues = new StringBuilder();
+    for (int i = 0; i < STATE_COUNT; i++) {
+      enumValues.append(i == 0 ? "\"" : ",\"").append(getState(i)).append("\"");
+    }
+    return "{\"schema\":["
+        + "{\"measurement_id\":\"s0\",\"data_type\":\"ENUMS\",\"encoding\":\"" + encoding + "\","
+        + "\"enum_values\":[" + enumValues + "]}],"
+        + "\"delta_type\":\"test_type\",\"row_group_size\":1048576,\"page_size\":8192}";
+  }
+
+  /**
+   * index of enum value in [1, STATE_COUNT], which is mostly the first state
+   */
+  private int getValue(int i) {
+    return i % 7 == 0 ? (i / 7) % STATE_COUNT + 1 : 1;
+  }
+
+  private void writeFile(String file, String encoding) throws IOException, WriteProcessException {
+    TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(file)), new JSONObject(getSchema(encoding)));
+    for (int i = 0; i < ROW_COUNT; i++) {
+      TSRecord record = new TSRecord(i, "d1");
+      record.addTuple(new EnumDataPoint("s0", getValue(i)));
+      tsFile.writeLine(record);
+    }
+    tsFile.close();
+  }
+
+  private List<String> query(String file, FilterExpression timeFilter, FilterExpression valueFilter)
+      throws IOException {
+    LocalFileInput input = new LocalFileInput(file);
+    TsFile readTsFile = new TsFile(input);
+    List<Path> paths = new ArrayList<>();
+    paths.add(new Path("d1.s0"));
+    QueryDataSet dataSet = readTsFile.query(paths, timeFilter, valueFilter);
+    List<String> ret = new ArrayList<>();
+    while (dataSet.hasNextRecord()) {
+      RowRecord record = dataSet.getNextRecord();
+      ret.add(record.toString());
+    }
+    input.close();
+    return ret;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  @Test
+  public void testQuery() throws IOException, WriteProcessException {
+    writeFile(outputFile, "ROARING_BITMAP");
+    writeFile(bitmapFile, "BITMAP");
+    assertTrue(new File(outputFile).length() < new File(bitmapFile).length());
+
+    List<String> records = query(outputFile, null, null);
+    assertEquals(ROW_COUNT, records.size());
+    assertEquals(query(bitmapFile, null, null), records);
+
+    FilterSeries state = FilterFactory.stringFilterSeries("d1", "s0", FilterSeriesType.VALUE_FILTER);
+    LongFilterSeries time = FilterFactory.timeFilterSeries();
+    FilterExpression range = FilterFactory.and(FilterFactory.gtEq(time, 12345L, true),
+        FilterFactory.ltEq(time, 23456L, false));
+    List<FilterExpression> valueFilters = new ArrayList<>();
+    // a single satisfied state
+    valueFilters.add(FilterFactory.eq(state, Binary.valueOf(getState(5))));
+    // several satisfied states
+    valueFilters.add(FilterFactory.or(FilterFactory.eq(state, Binary.valueOf(getState(0))),
+        FilterFactory.gtEq(state, Binary.valueOf(getState(50)), true)));
+    valueFilters.add(FilterFactory.noteq(state, Binary.valueOf(getState(0))));
+    for (FilterExpression valueFilter : valueFilters) {
+      for (FilterExpression timeFilter : new FilterExpression[] {null, range}) {
+        List<String> expected = query(bitmapFile, timeFilter, valueFilter);
+        assertTrue(expected.size() > 0);
+        assertEquals(expected, query(outputFile, timeFilter, valueFilter));
+      }
+    }
+    int expectedCount = 0;
+    for (int i = 0; i < ROW_COUNT; i++) {
+      if (getValue(i) == 6)
+        expectedCount++;
+    }
+    assertEquals(expectedCount, query(outputFile, null, valueFilters.get(0)).size());
+  }
+}
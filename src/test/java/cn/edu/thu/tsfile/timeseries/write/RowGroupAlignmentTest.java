@@ -0,0 +1,151 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.FileChannelOutputStream;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileWriter;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.qp.Path;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.readSupport.RowRecord;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.IntDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.LongDataPoint;
+
+/**
+ * test that row groups are filled up to row group size without writing zeros, and that they are
+ * planned close to row group size.
+ *
+ * @author kangrong
+ *
+ */
+public class RowGroupAlignmentTest {
+    private static final int ROW_COUNT = 200000;
+    private static final int ROW_GROUP_SIZE = 64 * 1024;
+    private final String outputFile = "src/test/resources/rowGroupAlignmentTestOutput.ksn";
+    private final TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private int preRowGroupSize;
+    private int prePageSize;
+
+    private final String schemaString = "{\"schema\":["
+            + "{\"measurement_id\":\"s0\",\"data_type\":\"INT32\",\"encoding\":\"RLE\"},"
+            + "{\"measurement_id\":\"s1\",\"data_type\":\"INT64\",\"encoding\":\"TS_2DIFF\"}],"
+            + "\"delta_type\":\"test_type\",\"row_group_size\":" + ROW_GROUP_SIZE
+            + ",\"page_size\":4096}";
+
+    @Before
+    public void prepare() {
+        preRowGroupSize = conf.rowGroupSize;
+        prePageSize = conf.pageSize;
+        new File(outputFile).delete();
+    }
+
+    @After
+    public void after() {
+        conf.rowGroupSize = preRowGroupSize;
+        conf.pageSize = prePageSize;
+        new File(outputFile).delete();
+    }
+
+    @Test
+    public void testRandomAccessOutputStream() throws IOException, WriteProcessException {
+        write(new RandomAccessOutputStream(new File(outputFile)));
+        check();
+    }
+
+    @Test
+    public void testFileChannelOutputStream() throws IOException, WriteProcessException {
+        write(new FileChannelOutputStream(new File(outputFile)));
+        check();
+    }
+
+    @Test
+    public void testPlanner() {
+        RowGroupSizePlanner planner = new RowGroupSizePlanner(1000, 1200);
+        assertFalse(planner.isFull(1000));
+        assertTrue(planner.isFull(1001));
+        assertEquals(400, planner.memSizeToFull(600));
+        // a smaller ratio is approached by half
+        planner.update(1000, 900);
+        assertEquals(0.95, planner.getRatio(), 1e-9);
+        assertEquals(1052, planner.getMemSizeThreshold());
+        assertFalse(planner.isFull(1052));
+        assertTrue(planner.isFull(1053));
+        assertEquals(52, planner.memSizeToFull(1000));
+        // memory size doesn't exceed the limit however small the ratio is
+        planner.update(1000, 600);
+        assertEquals(0.775, planner.getRatio(), 1e-9);
+        assertEquals(1200, planner.getMemSizeThreshold());
+        assertFalse(planner.isFull(1200));
+        assertTrue(planner.isFull(1201));
+        assertEquals(200, planner.memSizeToFull(1000));
+        planner.update(1000, 1);
+        planner.update(1000, 1);
+        assertEquals(1200, planner.getMemSizeThreshold());
+        // a larger ratio is taken at once
+        planner.update(1000, 2000);
+        assertEquals(2.0, planner.getRatio(), 1e-9);
+        assertEquals(500, planner.getMemSizeThreshold());
+        assertTrue(planner.isFull(501));
+    }
+
+    private void write(TSRandomAccessFileWriter out) throws IOException, WriteProcessException {
+        TsFile tsFile = new TsFile(out, new JSONObject(schemaString));
+        for (int i = 0; i < ROW_COUNT; i++) {
+            TSRecord record = new TSRecord(i, "d1");
+            record.addTuple(new IntDataPoint("s0", i % 1000));
+            record.addTuple(new LongDataPoint("s1", i * 31L + i % 7));
+            tsFile.writeLine(record);
+        }
+        tsFile.close();
+    }
+
+    private void check() throws IOException {
+        TsFile readTsFile = new TsFile(new LocalFileInput(outputFile));
+        ArrayList<Long> posList = readTsFile.getRowGroupPosList();
+        int rowGroupNum = posList.size();
+        assertTrue(rowGroupNum > 4);
+        // all row groups except the last one are filled, so the file is longer than them
+        assertTrue(new File(outputFile).length() > (long) (rowGroupNum - 1) * ROW_GROUP_SIZE);
+        // the actual data of full row groups is close to row group size
+        long fullRowGroupSize = posList.get(rowGroupNum - 2);
+        assertTrue(fullRowGroupSize > (long) (rowGroupNum - 1) * ROW_GROUP_SIZE * 0.8);
+
+        List<Path> paths = new ArrayList<>();
+        paths.add(new Path("d1.s1"));
+        QueryDataSet dataSet = readTsFile.query(paths, null, null);
+        int count = 0;
+        while (dataSet.hasNextRecord()) {
+            RowRecord r = dataSet.getNextRecord();
+            assertEquals(count * 31L + count % 7, r.getFields().get(0).getLongV());
+            count++;
+        }
+        assertEquals(ROW_COUNT, count);
+
+        // split logic works with filled row groups
+        List<Integer> all = new ArrayList<>();
+        all.addAll(readTsFile.calSpecificRowGroupByPartition(0, posList.get(rowGroupNum / 2 - 1)));
+        all.addAll(readTsFile.calSpecificRowGroupByPartition(posList.get(rowGroupNum / 2 - 1),
+                Long.MAX_VALUE));
+        assertEquals(rowGroupNum, all.size());
+        for (int i = 0; i < rowGroupNum; i++)
+            assertEquals(i, (int) all.get(i));
+    }
+}
@@ -0,0 +1,135 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.filter.definition.FilterExpression;
+import cn.edu.thu.tsfile.timeseries.filter.definition.FilterFactory;
+import cn.edu.thu.tsfile.timeseries.filter.definition.filterseries.FilterSeriesType;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.metadata.SeriesSchema;
+import cn.edu.thu.tsfile.timeseries.read.qp.Path;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.readSupport.RowRecord;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.IntDataPoint;
+
+/**
+ * test that series without value are not written, and such row groups are skipped when querying.
+ *
+ * @author kangrong
+ *
+ */
+public class SparseSeriesWriteTest {
+    private static final int ROW_COUNT = 40000;
+    private final String outputFile = "src/test/resources/sparseSeriesTestOutput.ksn";
+    private final TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private int preRowGroupSize;
+    private int prePageSize;
+    private TsFile readTsFile;
+
+    private final String schemaString = "{\"schema\":["
+            + "{\"measurement_id\":\"s0\",\"data_type\":\"INT32\",\"encoding\":\"RLE\"},"
+            + "{\"measurement_id\":\"s1\",\"data_type\":\"INT32\",\"encoding\":\"TS_2DIFF\"},"
+            + "{\"measurement_id\":\"s2\",\"data_type\":\"INT64\",\"encoding\":\"TS_2DIFF\"},"
+            + "{\"measurement_id\":\"s3\",\"data_type\":\"FLOAT\",\"encoding\":\"RLE\"},"
+            + "{\"measurement_id\":\"s4\",\"data_type\":\"DOUBLE\",\"encoding\":\"RLE\"},"
+            + "{\"measurement_id\":\"s5\",\"data_type\":\"INT32\",\"encoding\":\"RLE\"}],"
+            + "\"delta_type\":\"test_type\",\"row_group_size\":32768,\"page_size\":2048}";
+
+    @Before
+    public void prepare() throws IOException, WriteProcessException {
+        preRowGroupSize = conf.rowGroupSize;
+        prePageSize = conf.pageSize;
+        new File(outputFile).delete();
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(outputFile)),
+                new JSONObject(schemaString));
+        for (int i = 0; i < ROW_COUNT; i++) {
+            // s1 of d1 only appears in the second quarter
+            TSRecord record = new TSRecord(i, "d1");
+            record.addTuple(new IntDataPoint("s0", i));
+            if (i >= ROW_COUNT / 4 && i < ROW_COUNT / 2)
+                record.addTuple(new IntDataPoint("s1", i * 2));
+            tsFile.writeLine(record);
+            record = new TSRecord(i, "d2");
+            record.addTuple(new IntDataPoint("s5", i * 3));
+            tsFile.writeLine(record);
+        }
+        tsFile.close();
+        readTsFile = new TsFile(new LocalFileInput(outputFile));
+    }
+
+    @After
+    public void after() {
+        conf.rowGroupSize = preRowGroupSize;
+        conf.pageSize = prePageSize;
+        new File(outputFile).delete();
+    }
+
+    @Test
+    public void testNoEmptySeries() throws IOException {
+        assertTrue(readTsFile.getDeltaObjectRowGroupCount().get("d1") > 4);
+        HashMap<String, ArrayList<SeriesSchema>> columns = readTsFile.getAllColumns();
+        assertEquals(2, columns.get("d1").size());
+        assertEquals(1, columns.get("d2").size());
+        assertEquals("s5", columns.get("d2").get(0).name);
+    }
+
+    @Test
+    public void testQuerySparseSeries() throws IOException {
+        List<Path> paths = new ArrayList<>();
+        paths.add(new Path("d1.s1"));
+        QueryDataSet dataSet = readTsFile.query(paths, null, null);
+        long expectedTime = ROW_COUNT / 4;
+        while (dataSet.hasNextRecord()) {
+            RowRecord r = dataSet.getNextRecord();
+            assertEquals(expectedTime, r.timestamp);
+            assertEquals(expectedTime * 2, r.getFields().get(0).getIntV());
+            expectedTime++;
+        }
+        assertEquals(ROW_COUNT / 2, expectedTime);
+    }
+
+    @Test
+    public void testQuerySparseSeriesWithFilter() throws IOException {
+        List<Path> paths = new ArrayList<>();
+        paths.add(new Path("d1.s1"));
+        FilterExpression timeFilter = FilterFactory.gtEq(FilterFactory.timeFilterSeries(),
+                (long) ROW_COUNT / 3, true);
+        QueryDataSet dataSet = readTsFile.query(paths, timeFilter, null);
+        int count = 0;
+        while (dataSet.hasNextRecord()) {
+            dataSet.getNextRecord();
+            count++;
+        }
+        assertEquals(ROW_COUNT / 2 - ROW_COUNT / 3, count);
+
+        FilterExpression valueFilter = FilterFactory.ltEq(
+                FilterFactory.intFilterSeries("d1", "s1", FilterSeriesType.VALUE_FILTER),
+                ROW_COUNT * 2 / 3, true);
+        dataSet = readTsFile.query(paths, null, valueFilter);
+        count = 0;
+        while (dataSet.hasNextRecord()) {
+            RowRecord r = dataSet.getNextRecord();
+            assertTrue(r.getFields().get(0).getIntV() <= ROW_COUNT * 2 / 3);
+            count++;
+        }
+        assertEquals(ROW_COUNT / 3 - ROW_COUNT / 4 + 1, count);
+    }
+}
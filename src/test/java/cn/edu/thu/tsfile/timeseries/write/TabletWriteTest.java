@@ -0,0 +1,228 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.qp.Path;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.readSupport.RowRecord;
+import cn.edu.thu.tsfile.timeseries.write.exception.NoMeasurementException;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.TSTablet;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.BooleanDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.DoubleDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.FloatDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.IntDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.LongDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.StringDataPoint;
+
+/**
+ * test that writing by {@code TSTablet} produces the same file as writing by {@code TSRecord}.
+ *
+ * @author kangrong
+ *
+ */
+public class TabletWriteTest {
+    private static final int ROW_COUNT = 10000;
+    private static final String[] MEASUREMENTS = {"s0", "s1", "s2", "s3", "s4", "s5"};
+    private final String tabletFile = "src/test/resources/tabletWriteTestOutput.ksn";
+    private final String recordFile = "src/test/resources/recordWriteTestOutput.ksn";
+    private final TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private int prePageSize;
+    private int preRowGroupSize;
+
+    private final String schemaString = "{\"schema\":["
+            + "{\"measurement_id\":\"s0\",\"data_type\":\"INT32\",\"encoding\":\"RLE\"},"
+            + "{\"measurement_id\":\"s1\",\"data_type\":\"INT64\",\"encoding\":\"TS_2DIFF\"},"
+            + "{\"measurement_id\":\"s2\",\"data_type\":\"FLOAT\",\"encoding\":\"RLE\",\"max_point_number\":2},"
+            + "{\"measurement_id\":\"s3\",\"data_type\":\"DOUBLE\",\"encoding\":\"TS_2DIFF\",\"max_point_number\":3},"
+            + "{\"measurement_id\":\"s4\",\"data_type\":\"BOOLEAN\",\"encoding\":\"PLAIN\"},"
+            + "{\"measurement_id\":\"s5\",\"data_type\":\"BYTE_ARRAY\",\"encoding\":\"PLAIN\"}],"
+            + "\"delta_type\":\"test_type\",\"page_size\":1024}";
+
+    @Before
+    public void prepare() {
+        prePageSize = conf.pageSize;
+        preRowGroupSize = conf.rowGroupSize;
+        new File(tabletFile).delete();
+        new File(recordFile).delete();
+    }
+
+    @After
+    public void after() {
+        conf.pageSize = prePageSize;
+        conf.rowGroupSize = preRowGroupSize;
+        new File(tabletFile).delete();
+        new File(recordFile).delete();
+    }
+
+    @Test
+    public void testTabletEqualsRecord() throws IOException, WriteProcessException {
+        TSTablet tablet = generateTablet("d1", 1000);
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(tabletFile)),
+                new JSONObject(schemaString));
+        tsFile.writeTablet(tablet);
+        tsFile.close();
+
+        tsFile = new TsFile(new RandomAccessOutputStream(new File(recordFile)),
+                new JSONObject(schemaString));
+        for (TSRecord record : toRecords(tablet)) {
+            tsFile.writeLine(record);
+        }
+        tsFile.close();
+
+        assertArrayEquals(Files.readAllBytes(new File(recordFile).toPath()),
+                Files.readAllBytes(new File(tabletFile).toPath()));
+    }
+
+    @Test
+    public void testSplitTabletEqualsRecord() throws IOException, WriteProcessException {
+        // a small row group size splits the tablet many times by memSizeToFull
+        JSONObject schemaJson = new JSONObject(schemaString);
+        schemaJson.put("row_group_size", 16384);
+        TSTablet tablet = generateTablet("d1", 1000);
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(tabletFile)), schemaJson);
+        tsFile.writeTablet(tablet);
+        tsFile.close();
+
+        tsFile = new TsFile(new RandomAccessOutputStream(new File(recordFile)), schemaJson);
+        for (TSRecord record : toRecords(tablet)) {
+            tsFile.writeLine(record);
+        }
+        tsFile.close();
+
+        TsFile readTsFile = new TsFile(new LocalFileInput(tabletFile));
+        assertTrue(readTsFile.getRowGroupPosList().size() > 5);
+        assertArrayEquals(Files.readAllBytes(new File(recordFile).toPath()),
+                Files.readAllBytes(new File(tabletFile).toPath()));
+    }
+
+    @Test
+    public void testReadTablet() throws IOException, WriteProcessException {
+        TSTablet tablet = generateTablet("d1", 1000);
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(tabletFile)),
+                new JSONObject(schemaString));
+        tsFile.writeTablet(tablet);
+        tsFile.close();
+
+        TsFile readTsFile = new TsFile(new LocalFileInput(tabletFile));
+        List<Path> paths = new ArrayList<>();
+        paths.add(new Path("d1.s0"));
+        QueryDataSet dataSet = readTsFile.query(paths, null, null);
+        int count = 0;
+        while (dataSet.hasNextRecord()) {
+            RowRecord r = dataSet.getNextRecord();
+            int row = (int) (r.timestamp - 1000);
+            assertTrue(row % 7 != 0);
+            assertEquals(row * 3, r.getFields().get(0).getIntV());
+            count++;
+        }
+        assertEquals(ROW_COUNT - (ROW_COUNT + 6) / 7, count);
+
+        paths.clear();
+        paths.add(new Path("d1.s5"));
+        dataSet = readTsFile.query(paths, null, null);
+        count = 0;
+        while (dataSet.hasNextRecord()) {
+            RowRecord r = dataSet.getNextRecord();
+            assertEquals("v" + (r.timestamp - 1000) % 10, r.getFields().get(0).getStringValue());
+            count++;
+        }
+        assertEquals(ROW_COUNT, count);
+    }
+
+    @Test
+    public void testIllegalTablet() throws IOException, WriteProcessException {
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(tabletFile)),
+                new JSONObject(schemaString));
+        long[] times = {1, 2};
+        try {
+            tsFile.writeTablet(new TSTablet("d1", new String[] {"s9"}, times,
+                    new Object[] {new int[] {1, 2}}));
+            fail();
+        } catch (NoMeasurementException e) {
+        }
+        try {
+            tsFile.writeTablet(new TSTablet("d1", new String[] {"s0"}, times,
+                    new Object[] {new long[] {1, 2}}));
+            fail();
+        } catch (WriteProcessException e) {
+        }
+        try {
+            tsFile.writeTablet(new TSTablet("d1", new String[] {"s0"}, times,
+                    new Object[] {new int[] {1}}));
+            fail();
+        } catch (WriteProcessException e) {
+        }
+        tsFile.close();
+    }
+
+    private TSTablet generateTablet(String deltaObjectId, long startTime) {
+        long[] times = new long[ROW_COUNT];
+        int[] s0 = new int[ROW_COUNT];
+        long[] s1 = new long[ROW_COUNT];
+        float[] s2 = new float[ROW_COUNT];
+        double[] s3 = new double[ROW_COUNT];
+        boolean[] s4 = new boolean[ROW_COUNT];
+        Binary[] s5 = new Binary[ROW_COUNT];
+        for (int i = 0; i < ROW_COUNT; i++) {
+            times[i] = startTime + i;
+            s0[i] = i * 3;
+            s1[i] = i * 100000L;
+            s2[i] = i / 4.0f;
+            s3[i] = i / 8.0;
+            s4[i] = (i & 1) == 0;
+            s5[i] = new Binary("v" + i % 10);
+        }
+        TSTablet tablet = new TSTablet(deltaObjectId, MEASUREMENTS, times,
+                new Object[] {s0, s1, s2, s3, s4, s5});
+        for (int i = 0; i < ROW_COUNT; i += 7) {
+            tablet.markNull(0, i);
+        }
+        for (int i = 0; i < ROW_COUNT; i += 3) {
+            tablet.markNull(3, i);
+        }
+        return tablet;
+    }
+
+    private List<TSRecord> toRecords(TSTablet tablet) {
+        List<TSRecord> records = new ArrayList<>();
+        for (int i = 0; i < tablet.rowCount; i++) {
+            TSRecord record = new TSRecord(tablet.timestamps[i], tablet.deltaObjectId);
+            if (!tablet.isNull(0, i))
+                record.addTuple(new IntDataPoint("s0", ((int[]) tablet.values[0])[i]));
+            if (!tablet.isNull(1, i))
+                record.addTuple(new LongDataPoint("s1", ((long[]) tablet.values[1])[i]));
+            if (!tablet.isNull(2, i))
+                record.addTuple(new FloatDataPoint("s2", ((float[]) tablet.values[2])[i]));
+            if (!tablet.isNull(3, i))
+                record.addTuple(new DoubleDataPoint("s3", ((double[]) tablet.values[3])[i]));
+            if (!tablet.isNull(4, i))
+                record.addTuple(new BooleanDataPoint("s4", ((boolean[]) tablet.values[4])[i]));
+            if (!tablet.isNull(5, i))
+                record.addTuple(new StringDataPoint("s5", ((Binary[]) tablet.values[5])[i]));
+            records.add(record);
+        }
+        return records;
+    }
+}
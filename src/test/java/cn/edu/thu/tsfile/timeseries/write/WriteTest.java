@@ -224,22 +224,34 @@ public class WriteTest {
     }
 
     /**
-     * TestInnnerWriter modify {@code checkMemorySize()} to flush RowGroup to outputStream forcely.
+     * TestInnnerWriter modify {@code checkMemorySize()} to flush RowGroup to outputStream forcely
+     * and verify the memory size counter.
      * 
      * @author kangrong
      *
      */
     private class TestInnnerWriter extends TSRecordWriter {
+        /**
+         * series writers report memory size every 128 points, so the incrementally maintained
+         * size lags behind at most 128 rows of each delta object
+         */
+        private final long maxLag;
 
         public TestInnnerWriter(TSFileConfig conf, TSFileIOWriter kshanaFileWriter,
                 WriteSupport<TSRecord> writeSupport, FileSchema schema) {
             super(conf, kshanaFileWriter, writeSupport, schema);
+            maxLag = 128L * stageDeltaObjectIds[0].length * schema.getCurrentRowMaxSize();
         }
 
         @Override
         protected void checkMemorySize() throws IOException {
-            if (recordCount == stageSize * stageDeltaObjectIds[stageState].length)
+            // incrementally maintained memory size should be close to the scanned one
+            long lag = updateMemSizeForAllGroup() - getMemSize();
+            Assert.assertTrue(lag >= 0 && lag <= maxLag);
+            if (recordCount == stageSize * stageDeltaObjectIds[stageState].length) {
                 flushRowGroup(true);
+                Assert.assertEquals(updateMemSizeForAllGroup(), getMemSize());
+            }
         }
     }
 }
@@ -0,0 +1,212 @@
+package cn.edu.thu.tsfile.timeseries.write.series;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.common.utils.bytesinput.BytesInput;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+import cn.edu.thu.tsfile.file.metadata.statistics.Statistics;
+import cn.edu.thu.tsfile.timeseries.FileFormat.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.qp.Path;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.readSupport.RowRecord;
+import cn.edu.thu.tsfile.timeseries.write.desc.MeasurementDescriptor;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.io.TSFileIOWriter;
+import cn.edu.thu.tsfile.timeseries.write.page.IPageWriter;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.DoubleDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.LongDataPoint;
+
+/**
+ * test that series in AUTO encoding choose the smallest exact encoding in each row group, and the
+ * chosen encodings are recorded in pages.
+ *
+ * @author kangrong
+ *
+ */
+public class AutoEncodingTest {
+    private static final int SAMPLE_SIZE = 256;
+    private final String outputFile = "src/test/resources/autoEncodingTestOutput.ksn";
+    private final TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private int preSampleSize;
+    private int preRowGroupSize;
+    private int prePageSize;
+
+    private final String schemaString = "{\"schema\":["
+            + "{\"measurement_id\":\"s0\",\"data_type\":\"INT64\",\"encoding\":\"AUTO\"},"
+            + "{\"measurement_id\":\"s1\",\"data_type\":\"DOUBLE\",\"encoding\":\"AUTO\"}],"
+            + "\"delta_type\":\"test_type\",\"row_group_size\":32768,\"page_size\":2048}";
+
+    @Before
+    public void prepare() {
+        preSampleSize = conf.autoEncodingSampleSize;
+        preRowGroupSize = conf.rowGroupSize;
+        prePageSize = conf.pageSize;
+        conf.autoEncodingSampleSize = SAMPLE_SIZE;
+        new File(outputFile).delete();
+    }
+
+    @After
+    public void after() {
+        conf.autoEncodingSampleSize = preSampleSize;
+        conf.rowGroupSize = preRowGroupSize;
+        conf.pageSize = prePageSize;
+        new File(outputFile).delete();
+    }
+
+    @Test
+    public void testChooseInRowGroup() throws IOException, WriteProcessException {
+        EncodingRecorder pages = new EncodingRecorder();
+        SeriesWriterImpl writer = createWriter(TSDataType.INT64, pages);
+        // increasing values are the smallest in TS_2DIFF
+        for (int i = 0; i < SAMPLE_SIZE * 4; i++)
+            writer.write(i, i * 1000L + i % 3);
+        writer.writeToFileWriter(null);
+        assertEquals(TSEncoding.TS_2DIFF, pages.encodings.get(0));
+
+        // repeated values in next row group are the smallest in RLE
+        pages.encodings.clear();
+        for (int i = 0; i < SAMPLE_SIZE * 4; i++)
+            writer.write(i, (long) (i / 100));
+        writer.writeToFileWriter(null);
+        assertEquals(TSEncoding.RLE, pages.encodings.get(0));
+
+        // random values are the smallest in PLAIN
+        pages.encodings.clear();
+        Random random = new Random(1);
+        for (int i = 0; i < SAMPLE_SIZE * 4; i++)
+            writer.write(i, random.nextLong());
+        writer.writeToFileWriter(null);
+        assertEquals(TSEncoding.PLAIN, pages.encodings.get(0));
+    }
+
+    @Test
+    public void testFewerPointsThanSample() throws IOException, WriteProcessException {
+        EncodingRecorder pages = new EncodingRecorder();
+        SeriesWriterImpl writer = createWriter(TSDataType.INT64, pages);
+        for (int i = 0; i < 10; i++)
+            writer.write(i, 7L);
+        writer.writeToFileWriter(null);
+        assertEquals(1, pages.encodings.size());
+        assertEquals(10, (int) pages.valueCounts.get(0));
+    }
+
+    @Test
+    public void testDoubleLossless() throws IOException, WriteProcessException {
+        EncodingRecorder pages = new EncodingRecorder();
+        SeriesWriterImpl writer = createWriter(TSDataType.DOUBLE, pages);
+        // values with 2 decimal digits can be encoded by RLE or TS_2DIFF exactly
+        for (int i = 0; i < SAMPLE_SIZE * 2; i++)
+            writer.write(i, 20.25 + i / 50);
+        // a noisy value makes the rest of row group encoded in PLAIN
+        writer.write(SAMPLE_SIZE * 2, Math.PI);
+        for (int i = SAMPLE_SIZE * 2 + 1; i < SAMPLE_SIZE * 4; i++)
+            writer.write(i, 20.25);
+        writer.writeToFileWriter(null);
+        assertNotEquals(TSEncoding.PLAIN, pages.encodings.get(0));
+        assertEquals(SAMPLE_SIZE * 2, (int) pages.valueCounts.get(0));
+        assertEquals(TSEncoding.PLAIN, pages.encodings.get(pages.encodings.size() - 1));
+
+        // noisy samples are never encoded in rounding encoders
+        pages.encodings.clear();
+        Random random = new Random(1);
+        for (int i = 0; i < SAMPLE_SIZE * 2; i++)
+            writer.write(i, random.nextDouble());
+        writer.writeToFileWriter(null);
+        for (TSEncoding encoding : pages.encodings)
+            assertTrue(encoding == TSEncoding.PLAIN || encoding == TSEncoding.GORILLA);
+    }
+
+    @Test
+    public void testReadWrite() throws IOException, WriteProcessException {
+        JSONObject schemaJson = new JSONObject(schemaString);
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(outputFile)), schemaJson);
+        Random random = new Random(2);
+        int rowCount = 20000;
+        long[] s0 = new long[rowCount];
+        double[] s1 = new double[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            // the nature of series changes every 3000 points
+            boolean isRegular = i / 3000 % 2 == 0;
+            s0[i] = isRegular ? i * 10L : random.nextLong();
+            s1[i] = isRegular ? i % 7 * 0.5 : random.nextGaussian();
+            if (i == 7777)
+                s1[i] = Double.NaN;
+            TSRecord record = new TSRecord(i, "d1");
+            record.addTuple(new LongDataPoint("s0", s0[i]));
+            record.addTuple(new DoubleDataPoint("s1", s1[i]));
+            tsFile.writeLine(record);
+        }
+        tsFile.close();
+
+        TsFile readTsFile = new TsFile(new LocalFileInput(outputFile));
+        List<Path> paths = new ArrayList<>();
+        paths.add(new Path("d1.s0"));
+        paths.add(new Path("d1.s1"));
+        QueryDataSet dataSet = readTsFile.query(paths, null, null);
+        int count = 0;
+        while (dataSet.hasNextRecord()) {
+            RowRecord r = dataSet.getNextRecord();
+            int i = (int) r.timestamp;
+            assertEquals(count, i);
+            assertEquals(s0[i], r.getFields().get(0).getLongV());
+            assertEquals(Double.doubleToLongBits(s1[i]),
+                    Double.doubleToLongBits(r.getFields().get(1).getDoubleV()));
+            count++;
+        }
+        assertEquals(rowCount, count);
+    }
+
+    private SeriesWriterImpl createWriter(TSDataType type, IPageWriter pageWriter) {
+        MeasurementDescriptor desc =
+                new MeasurementDescriptor(type, "s0", TSEncoding.AUTO, new JSONObject());
+        return new SeriesWriterImpl("d1", desc, pageWriter, 1024 * 1024);
+    }
+
+    /**
+     * page writer keeping only the encoding and value count of pages
+     */
+    private static class EncodingRecorder implements IPageWriter {
+        private final List<TSEncoding> encodings = new ArrayList<>();
+        private final List<Integer> valueCounts = new ArrayList<>();
+
+        @Override
+        public void writePage(BytesInput bytesInput, int valueCount, Statistics<?> statistics,
+                long maxTimestamp, long minTimestamp, TSEncoding encoding) {
+            encodings.add(encoding);
+            valueCounts.add(valueCount);
+        }
+
+        @Override
+        public void writeDictionaryPage(BytesInput bytesInput, int entryCount) {}
+
+        @Override
+        public void writeToFileWriter(TSFileIOWriter writer, Statistics<?> statistics) {}
+
+        @Override
+        public void reset() {}
+
+        @Override
+        public long estimateMaxPageMemSize() {
+            return 0;
+        }
+    }
+}